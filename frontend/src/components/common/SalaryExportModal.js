@@ -5,8 +5,10 @@ import {
   SALARY_MESSAGES,
   EXPORT_FORMAT,
   EXPORT_FORMAT_LABELS,
+  EXPORT_DELIVERY,
   SALARY_API_ENDPOINTS
 } from '../../constants/salaryConstants';
+import { getApiBaseUrl } from '../../constants/api';
 import StandardizedApi from '../../utils/standardizedApi';
 import { buildErpMgButtonClassName, ERP_MG_BUTTON_LOADING_TEXT } from '../erp/common/erpMgButtonProps';
 import MGButton from './MGButton';
@@ -59,7 +61,8 @@ const SalaryExportModal = ({
         period,
         emailAddress: null,
         notifyConsultantByEmail: sendEmail,
-        includeAttachmentInEmail: sendEmail && includeAttachment
+        includeAttachmentInEmail: sendEmail && includeAttachment,
+        delivery: EXPORT_DELIVERY.DOWNLOAD_TOKEN
       };
 
       const exportEndpoint =
@@ -74,7 +77,9 @@ const SalaryExportModal = ({
         const data = response.data ?? response;
         if (data && data.downloadUrl) {
           const link = document.createElement('a');
-          link.href = data.downloadUrl;
+          link.href = data.downloadUrl.startsWith('/')
+            ? `${getApiBaseUrl() || ''}${data.downloadUrl}`
+            : data.downloadUrl;
           link.download = data.filename || `급여계산서_${consultantName}_${period}.${selectedFormat.toLowerCase()}`;
           document.body.appendChild(link);
           link.click();
@@ -62,6 +62,12 @@ export const EXPORT_FORMAT = {
   CSV: 'CSV'
 };
 
+/** 급여 export 결과 전달 방식 — 토큰 방식은 base64 data URI 대신 임시 파일 다운로드 경로를 받는다 */
+export const EXPORT_DELIVERY = {
+  DATA_URI: 'DATA_URI',
+  DOWNLOAD_TOKEN: 'DOWNLOAD_TOKEN'
+};
+
 export const EXPORT_FORMAT_LABELS = {
   [EXPORT_FORMAT.PDF]: 'PDF',
   [EXPORT_FORMAT.EXCEL]: 'Excel',
@@ -114,6 +120,8 @@ export const SALARY_API_ENDPOINTS = {
   EXPORT_PDF: '/api/v1/admin/salary/export/pdf',
   EXPORT_EXCEL: '/api/v1/admin/salary/export/excel',
   EXPORT_CSV: '/api/v1/admin/salary/export/csv',
+  EXPORT_STREAM: '/api/v1/admin/salary/export/stream',
+  EXPORT_BATCH: '/api/v1/admin/salary/export/batch',
 
   SEND_EMAIL: '/api/v1/admin/salary/email/send',
   EMAIL_TEMPLATES: '/api/v1/admin/salary/email/templates'
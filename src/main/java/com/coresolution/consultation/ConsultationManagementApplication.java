@@ -14,6 +14,24 @@ import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 import com.coresolution.consultation.config.AdminTestNotificationProperties;
+import com.coresolution.consultation.config.AiResponseCacheProperties;
+import com.coresolution.consultation.config.AsyncBulkheadProperties;
+import com.coresolution.consultation.config.SalaryExportProperties;
+import com.coresolution.consultation.config.SttPipelineProperties;
+import com.coresolution.consultation.config.TelemetryWriteBehindProperties;
+import com.coresolution.consultation.config.StreamingAnomalyProperties;
+import com.coresolution.consultation.config.RequestTelemetryProperties;
+import com.coresolution.consultation.config.ControllerTraceProperties;
+import com.coresolution.consultation.config.HttpAuditProperties;
+import com.coresolution.consultation.config.ConsultationRecordSearchProperties;
+import com.coresolution.consultation.config.StreamingRiskProperties;
+import com.coresolution.consultation.config.FinancialAggregateProperties;
+import com.coresolution.consultation.config.FinancialCloseProperties;
+import com.coresolution.consultation.config.SalaryBatchProperties;
+import com.coresolution.consultation.config.SalaryPreviewProperties;
+import com.coresolution.consultation.config.PiiRotationProperties;
+import com.coresolution.consultation.config.ScheduleDueIndexProperties;
+import com.coresolution.consultation.config.FinancialStatementCacheProperties;
 import com.coresolution.consultation.config.BatchNotificationProperties;
 import com.coresolution.consultation.config.ExpoPushProperties;
 import com.coresolution.consultation.config.ImmediateReservationSmsProperties;
@@ -23,6 +41,7 @@ import com.coresolution.consultation.config.MindgardenSecurityProperties;
 import com.coresolution.consultation.config.NotificationRetentionProperties;
 import com.coresolution.consultation.config.PiiScrubberProperties;
 import com.coresolution.consultation.config.ScheduleChangeNotificationProperties;
+import com.coresolution.consultation.config.SqlStatementAccountingProperties;
 import com.coresolution.core.config.KiccEasypayProperties;
 
 /**
@@ -68,7 +87,26 @@ import com.coresolution.core.config.KiccEasypayProperties;
         LifecycleCutoffProperties.class,
         PiiScrubberProperties.class,
         ScheduleChangeNotificationProperties.class,
-        ImmediateReservationSmsProperties.class
+        ImmediateReservationSmsProperties.class,
+        AiResponseCacheProperties.class,
+        TelemetryWriteBehindProperties.class,
+        StreamingAnomalyProperties.class,
+        RequestTelemetryProperties.class,
+        ControllerTraceProperties.class,
+        HttpAuditProperties.class,
+        ConsultationRecordSearchProperties.class,
+        StreamingRiskProperties.class,
+        FinancialAggregateProperties.class,
+        FinancialStatementCacheProperties.class,
+        SqlStatementAccountingProperties.class,
+        AsyncBulkheadProperties.class,
+        SalaryExportProperties.class,
+        SttPipelineProperties.class,
+        FinancialCloseProperties.class,
+        SalaryBatchProperties.class,
+        SalaryPreviewProperties.class,
+        PiiRotationProperties.class,
+        ScheduleDueIndexProperties.class
 })
 public class ConsultationManagementApplication {
 
@@ -12,6 +12,7 @@ import com.coresolution.consultation.assessment.service.PsychAssessmentClientSum
 import com.coresolution.consultation.assessment.repository.PsychAssessmentDocumentRepository;
 import com.coresolution.consultation.assessment.entity.PsychAssessmentDocument;
 import com.coresolution.consultation.assessment.support.PsychAssessmentMarkdownSections;
+import com.coresolution.consultation.assessment.support.PsychReportMarkdownStreamParser;
 import com.coresolution.core.controller.BaseApiController;
 import com.coresolution.core.dto.ApiResponse;
 import com.coresolution.core.context.TenantContextHolder;
@@ -20,15 +21,23 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 @RestController
@@ -43,6 +52,11 @@ public class PsychAssessmentController extends BaseApiController {
     private final PsychAssessmentDocumentRepository documentRepository;
     private final PsychAssessmentReportRepository reportRepository;
     private final PsychAssessmentClientSummaryService clientSummaryService;
+    @Qualifier("aiStreamingExecutor")
+    private final Executor aiStreamingExecutor;
+
+    /** 스트리밍 리포트 SSE 연결 최대 유지 시간 (ms) */
+    private static final long REPORT_STREAM_TIMEOUT_MS = 5 * 60 * 1000L;
 
     @PostMapping(value = "/documents", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @PreAuthorize("isAuthenticated()")
@@ -86,6 +100,80 @@ public class PsychAssessmentController extends BaseApiController {
         return success(java.util.Map.of("reportId", reportId));
     }
 
+    /**
+     * 리포트 스트리밍 생성 (SSE).
+     *
+     * <p>이벤트: {@code markdown}(본문 조각), {@code section}(완성된 섹션 header/body),
+     * {@code done}(저장된 reportId·검증된 최종 본문), {@code error}. 요청 스레드는 즉시 반환되고 생성은
+     * {@code aiStreamingExecutor} 에서 진행된다. 클라이언트가 연결을 끊어도 생성·저장은 끝까지 진행한다.</p>
+     */
+    @PostMapping(value = "/documents/{documentId}/report/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "최신 리포트 스트리밍 생성", description = "리포트 본문을 생성되는 즉시 SSE로 전달하고, 완료 후 최종 리포트를 저장합니다.")
+    public SseEmitter generateReportStream(@PathVariable Long documentId) {
+        SseEmitter emitter = new SseEmitter(REPORT_STREAM_TIMEOUT_MS);
+        AtomicBoolean clientGone = new AtomicBoolean(false);
+        emitter.onCompletion(() -> clientGone.set(true));
+        emitter.onTimeout(() -> clientGone.set(true));
+        emitter.onError(e -> clientGone.set(true));
+        try {
+            aiStreamingExecutor.execute(() -> streamReport(documentId, emitter, clientGone));
+        } catch (RejectedExecutionException e) {
+            log.warn("Psych report stream rejected (executor saturated): documentId={}", documentId);
+            sendEvent(emitter, clientGone, "error", Map.of("message", "요청이 많아 잠시 후 다시 시도해 주세요."));
+            emitter.complete();
+        }
+        return emitter;
+    }
+
+    private void streamReport(Long documentId, SseEmitter emitter, AtomicBoolean clientGone) {
+        PsychReportMarkdownStreamParser parser = new PsychReportMarkdownStreamParser(
+                new PsychReportMarkdownStreamParser.Listener() {
+                    @Override
+                    public void onMarkdown(String delta) {
+                        sendEvent(emitter, clientGone, "markdown", delta);
+                    }
+
+                    @Override
+                    public void onSection(String header, String body) {
+                        Map<String, Object> section = new HashMap<>();
+                        section.put("header", header);
+                        section.put("body", body);
+                        sendEvent(emitter, clientGone, "section", section);
+                    }
+                });
+        try {
+            var streamed = reportService.generateLatestReportStreaming(documentId, parser::feed);
+            parser.finish();
+            Map<String, Object> done = new HashMap<>();
+            done.put("reportId", streamed.reportId());
+            done.put("reportMarkdown", streamed.reportMarkdown());
+            done.put("modelName", streamed.modelName());
+            // 검증 실패로 규칙 기반 본문이 저장된 경우 클라이언트가 스트리밍 본문을 교체하도록 표시
+            done.put("replaced", !parser.markdown().equals(streamed.reportMarkdown()));
+            sendEvent(emitter, clientGone, "done", done);
+            emitter.complete();
+        } catch (Exception e) {
+            log.error("Psych report stream failed: documentId={}, error={}", documentId, e.getMessage(), e);
+            String message = e instanceof IllegalArgumentException && e.getMessage() != null
+                    ? e.getMessage() : "리포트 생성 중 오류가 발생했습니다.";
+            sendEvent(emitter, clientGone, "error", Map.of("message", message));
+            emitter.complete();
+        }
+    }
+
+    private static void sendEvent(SseEmitter emitter, AtomicBoolean clientGone, String name, Object data) {
+        if (clientGone.get()) {
+            return;
+        }
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료 — 이후 이벤트는 버리고 생성·저장은 계속 진행
+            clientGone.set(true);
+        }
+    }
+
     @GetMapping("/documents/{documentId}/report")
     @PreAuthorize("isAuthenticated()")
     @Operation(summary = "최신 리포트 조회", description = "문서에 대한 최신 AI 분석 리포트를 조회합니다.")
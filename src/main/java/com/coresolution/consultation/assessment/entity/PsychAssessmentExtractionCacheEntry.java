@@ -0,0 +1,81 @@
+package com.coresolution.consultation.assessment.entity;
+
+import java.time.LocalDateTime;
+
+import com.coresolution.consultation.assessment.model.PsychAssessmentType;
+import com.coresolution.consultation.entity.BaseEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+/**
+ * 심리검사 추출 결과 캐시 (콘텐츠 주소 기반).
+ * <p>
+ * 키: (tenant_id, content_sha256, assessment_type, source_type). 평문은 파서 버전과 무관하게 재사용하고,
+ * extracted_json 은 {@code parser_version} 이 현재 파서와 같을 때만 재사용한다.
+ * 평문은 원본 파일과 동일하게 민감 정보이므로 암호화하여 저장한다.
+ * </p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Entity
+@Table(name = "psych_assessment_extraction_cache",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_psych_ext_cache_content",
+                        columnNames = {"tenant_id", "content_sha256", "assessment_type", "source_type"})
+        },
+        indexes = {
+                @Index(name = "idx_psych_ext_cache_parser", columnList = "assessment_type,parser_version")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PsychAssessmentExtractionCacheEntry extends BaseEntity {
+
+    @NotBlank
+    @Column(name = "content_sha256", nullable = false, length = 64)
+    private String contentSha256;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "assessment_type", nullable = false, length = 50)
+    private PsychAssessmentType assessmentType;
+
+    @NotBlank
+    @Column(name = "source_type", nullable = false, length = 50)
+    private String sourceType;
+
+    /** 암호화된 추출 평문 (PDFBox 또는 Tesseract OCR 결과) */
+    @Lob
+    @Column(name = "plain_text_encrypted", nullable = false, columnDefinition = "LONGTEXT")
+    private String plainTextEncrypted;
+
+    @Lob
+    @Column(name = "extracted_json", columnDefinition = "LONGTEXT")
+    private String extractedJson;
+
+    /** extracted_json 을 만든 파서 버전 (Mmpi2ExtractionParser / TciExtractionParser.PARSER_VERSION) */
+    @NotBlank
+    @Column(name = "parser_version", nullable = false, length = 30)
+    private String parserVersion;
+
+    @NotBlank
+    @Column(name = "ocr_engine", nullable = false, length = 50)
+    private String ocrEngine;
+
+    /** 최초 평문 추출(PDF 파싱/OCR)에 걸린 시간 — 캐시 적중 시 절감 시간 집계 기준 */
+    @NotNull
+    @Column(name = "extraction_millis", nullable = false)
+    private Long extractionMillis;
+
+    @Builder.Default
+    @Column(name = "hit_count", nullable = false)
+    private Long hitCount = 0L;
+
+    @Column(name = "last_hit_at")
+    private LocalDateTime lastHitAt;
+}
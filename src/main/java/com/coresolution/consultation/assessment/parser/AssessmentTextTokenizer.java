@@ -0,0 +1,384 @@
+package com.coresolution.consultation.assessment.parser;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 심리검사 보고서 평문(PDFBox·OCR) 공용 토크나이저.
+ *
+ * <p>OCR 잡음 정규화를 한 번만 하고, 본문을 한 번 훑어 라틴 단어·정수·기타 문자열·기호 토큰열과 줄 경계를 만든다.
+ * 파서는 정규식을 본문 전체에 반복 적용하는 대신 이 토큰열에서 척도 키워드·숫자 열을 찾는다.</p>
+ *
+ * <ul>
+ *   <li>줄은 {@code split("[\\r\\n]+")} + {@code trim()} 과 같은 경계다 (앞쪽 개행이면 빈 첫 줄 포함)</li>
+ *   <li>공백은 정규식 {@code \s} 와 같은 집합(스페이스·탭·VT·FF·CR)만 건너뛴다</li>
+ *   <li>{@link Kind#LATIN} 은 최대 길이 ASCII 영문 연속이라 {@code (?<![A-Za-z])KW(?![A-Za-z])} 일치와 같다</li>
+ *   <li>{@link Kind#NUMBER} 는 최대 길이 ASCII 숫자 연속({@code \d+})이다</li>
+ * </ul>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public final class AssessmentTextTokenizer {
+
+    private AssessmentTextTokenizer() {
+    }
+
+    /** 토큰 종류 */
+    public enum Kind {
+        /** ASCII 영문 연속 */
+        LATIN,
+        /** ASCII 숫자 연속 */
+        NUMBER,
+        /** 그 밖의 문자·숫자 연속 (한글 등) */
+        TEXT,
+        /** 문장부호·제어문자 등 한 글자 */
+        SYMBOL
+    }
+
+    /**
+     * 토큰 1개.
+     *
+     * @param kind  종류
+     * @param start 정규화 본문 기준 시작 위치
+     * @param end   끝 위치 (배타)
+     * @param line  줄 번호
+     */
+    public record Token(Kind kind, int start, int end, int line) {
+    }
+
+    /**
+     * PDFBox 등 추출 평문 공백·개행 정규화. CRLF·CR → LF, NBSP·전각 공백 → 공백, 전각 영문·숫자 → NFKC 호환 문자.
+     *
+     * @param plainText 추출 평문
+     * @return 정규화 본문 (null 이면 빈 문자열)
+     */
+    public static String normalize(String plainText) {
+        if (plainText == null) {
+            return "";
+        }
+        String cr = plainText.replace("\r\n", "\n").replace('\r', '\n')
+                .replace('\u00A0', ' ').replace('\u3000', ' ');
+        return Normalizer.normalize(cr, Normalizer.Form.NFKC);
+    }
+
+    /**
+     * 정규화 후 토큰화한다.
+     *
+     * @param plainText 추출 평문
+     * @return 토큰화 문서
+     */
+    public static Document tokenize(String plainText) {
+        return new Document(normalize(plainText));
+    }
+
+    /**
+     * 정규식 {@code \s} 와 같은 공백 판정.
+     */
+    static boolean isRegexSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * 토큰화 문서. 줄·토큰은 생성 시 한 번에 만들고, 소문자·공백 제거 보기는 처음 쓸 때 만든다.
+     */
+    public static final class Document {
+
+        private final String text;
+        private final List<Token> tokens = new ArrayList<>();
+        private final List<int[]> lines = new ArrayList<>();
+        private final Map<String, Integer> wordPositions = new HashMap<>();
+        private TextView view;
+        private TextView[] lineViews;
+
+        private Document(String text) {
+            this.text = text;
+            scan();
+        }
+
+        /**
+         * 한 번의 순회로 줄 경계(원래 범위, trim 범위, 첫 토큰·끝 토큰 인덱스)와 토큰을 만든다.
+         */
+        private void scan() {
+            int n = text.length();
+            int i = 0;
+            if (n > 0 && text.charAt(0) == '\n') {
+                lines.add(new int[]{0, 0, 0, 0, 0, 0});
+            }
+            while (i < n) {
+                while (i < n && text.charAt(i) == '\n') {
+                    i++;
+                }
+                if (i >= n) {
+                    break;
+                }
+                int lineIndex = lines.size();
+                int lineStart = i;
+                int firstToken = tokens.size();
+                while (i < n) {
+                    char c = text.charAt(i);
+                    if (c == '\n') {
+                        break;
+                    }
+                    if (isRegexSpace(c)) {
+                        i++;
+                        continue;
+                    }
+                    int start = i;
+                    Kind kind;
+                    if (isAsciiLetter(c)) {
+                        kind = Kind.LATIN;
+                        do {
+                            i++;
+                        } while (i < n && isAsciiLetter(text.charAt(i)));
+                    } else if (isAsciiDigit(c)) {
+                        kind = Kind.NUMBER;
+                        do {
+                            i++;
+                        } while (i < n && isAsciiDigit(text.charAt(i)));
+                    } else if (Character.isLetterOrDigit(c)) {
+                        kind = Kind.TEXT;
+                        do {
+                            i++;
+                        } while (i < n && !isAsciiLetter(text.charAt(i)) && !isAsciiDigit(text.charAt(i))
+                                && Character.isLetterOrDigit(text.charAt(i)));
+                    } else {
+                        kind = Kind.SYMBOL;
+                        i++;
+                    }
+                    tokens.add(new Token(kind, start, i, lineIndex));
+                }
+                int trimmedStart = lineStart;
+                int trimmedEnd = i;
+                while (trimmedStart < trimmedEnd && text.charAt(trimmedStart) <= ' ') {
+                    trimmedStart++;
+                }
+                while (trimmedEnd > trimmedStart && text.charAt(trimmedEnd - 1) <= ' ') {
+                    trimmedEnd--;
+                }
+                lines.add(new int[]{lineStart, i, trimmedStart, trimmedEnd, firstToken, tokens.size()});
+            }
+        }
+
+        /** @return 정규화 본문 */
+        public String text() {
+            return text;
+        }
+
+        /** @return 토큰열 (읽기 전용으로 쓴다) */
+        public List<Token> tokens() {
+            return tokens;
+        }
+
+        /** @return 줄 수 */
+        public int lineCount() {
+            return lines.size();
+        }
+
+        /** @return trim 된 줄 문자열 */
+        public String line(int line) {
+            int[] l = lines.get(line);
+            return text.substring(l[2], l[3]);
+        }
+
+        /** @return trim 전 줄 문자열 ({@code split} 조각 그대로) */
+        public String rawLine(int line) {
+            int[] l = lines.get(line);
+            return text.substring(l[0], l[1]);
+        }
+
+        /** @return trim 된 줄의 본문 기준 시작 위치 */
+        public int lineStart(int line) {
+            return lines.get(line)[2];
+        }
+
+        /** @return 토큰 문자열 */
+        public String text(Token token) {
+            return text.substring(token.start(), token.end());
+        }
+
+        /**
+         * 줄의 정수 토큰 값. {@code Integer} 범위를 넘는 숫자는 건너뛴다.
+         */
+        public List<Integer> numbersInLine(int line) {
+            int[] l = lines.get(line);
+            return numbersInTokens(l[4], l[5], l[2], l[3]);
+        }
+
+        /**
+         * 본문 구간 [from, to) 안에 완전히 들어 있는 정수 토큰 값. {@code Integer} 범위를 넘는 숫자는 건너뛴다.
+         */
+        public List<Integer> numbersBetween(int from, int to) {
+            return numbersInTokens(firstTokenAtOrAfter(from), tokens.size(), from, to);
+        }
+
+        private List<Integer> numbersInTokens(int fromToken, int toToken, int from, int to) {
+            List<Integer> numbers = new ArrayList<>();
+            for (int t = fromToken; t < toToken; t++) {
+                Token token = tokens.get(t);
+                if (token.start() >= to) {
+                    break;
+                }
+                if (token.kind() != Kind.NUMBER || token.start() < from || token.end() > to) {
+                    continue;
+                }
+                try {
+                    numbers.add(Integer.parseInt(text, token.start(), token.end(), 10));
+                } catch (NumberFormatException ignored) {
+                    // 정수 범위를 넘는 숫자 열은 건너뛴다.
+                }
+            }
+            return numbers;
+        }
+
+        private int firstTokenAtOrAfter(int offset) {
+            int lo = 0;
+            int hi = tokens.size();
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (tokens.get(mid).start() < offset) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        /**
+         * 대소문자 무시 ASCII 단어의 첫 출현 위치 — {@code (?i)(?<![A-Za-z])word(?![A-Za-z])} 의 첫 일치와 같다.
+         *
+         * @param asciiWord ASCII 영문 단어
+         * @return 시작 위치 또는 -1
+         */
+        public int indexOfWord(String asciiWord) {
+            return wordPositions.computeIfAbsent(asciiWord, w -> {
+                for (Token token : tokens) {
+                    if (isWord(token, w)) {
+                        return token.start();
+                    }
+                }
+                return -1;
+            });
+        }
+
+        /**
+         * 줄에 대소문자 무시 ASCII 단어가 있는지.
+         */
+        public boolean lineHasWord(int line, String asciiWord) {
+            int[] l = lines.get(line);
+            for (int t = l[4]; t < l[5]; t++) {
+                if (isWord(tokens.get(t), asciiWord)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean isWord(Token token, String asciiWord) {
+            return token.kind() == Kind.LATIN && token.end() - token.start() == asciiWord.length()
+                    && text.regionMatches(true, token.start(), asciiWord, 0, asciiWord.length());
+        }
+
+        /** @return 본문 전체 보기 */
+        public TextView view() {
+            if (view == null) {
+                view = new TextView(text);
+            }
+            return view;
+        }
+
+        /** @return trim 된 줄 보기 */
+        public TextView lineView(int line) {
+            if (lineViews == null) {
+                lineViews = new TextView[lines.size()];
+            }
+            TextView v = lineViews[line];
+            if (v == null) {
+                v = new TextView(line(line));
+                lineViews[line] = v;
+            }
+            return v;
+        }
+    }
+
+    /**
+     * 문자열 하나의 소문자·공백 제거 보기. 키워드 탐색마다 본문 전체를 다시 소문자화·압축하지 않도록 처음 쓸 때 한 번 만든다.
+     */
+    public static final class TextView {
+
+        private final String text;
+        private String lower;
+        private String compactLower;
+        private int[] nonWhitespacePositions;
+
+        private TextView(String text) {
+            this.text = text;
+        }
+
+        /**
+         * {@code text.toLowerCase(ROOT).indexOf(sub.toLowerCase(ROOT))}.
+         */
+        public int indexOfIgnoreCase(String sub) {
+            if (lower == null) {
+                lower = text.toLowerCase(Locale.ROOT);
+            }
+            return lower.indexOf(sub.toLowerCase(Locale.ROOT));
+        }
+
+        /**
+         * 공백({@code \s})을 모두 지운 본문에서 대소문자 무시로 찾고, 그 위치를 원문 위치로 되돌린다.
+         * 되돌릴 때는 {@link Character#isWhitespace(char)} 가 아닌 글자를 세므로 두 공백 정의가 다르면 -1 일 수 있다.
+         *
+         * @param compactKeyword 공백을 지운 키워드
+         * @return 원문 기준 근사 위치 또는 -1
+         */
+        public int indexOfCompactIgnoreCase(String compactKeyword) {
+            ensureCompact();
+            int compactIndex = compactLower.indexOf(compactKeyword.toLowerCase(Locale.ROOT));
+            if (compactIndex < 0 || compactIndex >= nonWhitespacePositions.length) {
+                return -1;
+            }
+            return nonWhitespacePositions[compactIndex];
+        }
+
+        /** @return 공백을 모두 지운 본문(소문자)에 부분 문자열이 있는지 */
+        public boolean compactContains(String sub) {
+            ensureCompact();
+            return compactLower.contains(sub);
+        }
+
+        private void ensureCompact() {
+            if (compactLower != null) {
+                return;
+            }
+            StringBuilder compact = new StringBuilder(text.length());
+            int[] positions = new int[text.length()];
+            int count = 0;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (!isRegexSpace(c) && c != '\n') {
+                    compact.append(c);
+                }
+                if (!Character.isWhitespace(c)) {
+                    positions[count++] = i;
+                }
+            }
+            compactLower = compact.toString().toLowerCase(Locale.ROOT);
+            nonWhitespacePositions = Arrays.copyOf(positions, count);
+        }
+    }
+}
@@ -10,12 +10,11 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * MMPI-2 PDF 텍스트에서 척도·원점수·T점수 파싱.
  * mmpi_이혁진.pdf 기준 테이블형 구조 인식.
+ * 본문은 {@link AssessmentTextTokenizer} 로 한 번 정규화·토큰화하고, 점수 열은 줄의 숫자 토큰에서 읽는다.
  *
  * @author CoreSolution
  * @since 2025-03-02
@@ -25,6 +24,17 @@ public class Mmpi2ExtractionParser {
     private static final Logger log = LoggerFactory.getLogger(Mmpi2ExtractionParser.class);
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
+    /**
+     * 파싱 규칙 버전. 척도 인식·점수 매칭 로직이 바뀌어 결과 JSON이 달라질 수 있으면 올린다.
+     * 추출 캐시는 이 값이 다른 항목의 파싱 결과만 무효화하고 평문(OCR)은 재사용한다.
+     *
+     * <ul>
+     *   <li>2 — 평문을 TCI 와 같은 {@link AssessmentTextTokenizer} 정규화(NFKC 포함)로 읽는다. 전각 숫자·영문이
+     *       있는 평문은 1 과 결과가 다르다 (1 에서는 건너뛰던 점수 행을 인식).</li>
+     * </ul>
+     */
+    public static final String PARSER_VERSION = "2";
+
     private Mmpi2ExtractionParser() {
     }
 
@@ -63,7 +73,7 @@ public class Mmpi2ExtractionParser {
             log.debug("Mmpi2ExtractionParser: pdfText 빈 문자열");
             return null;
         }
-        List<Map<String, Object>> metrics = parseMetrics(pdfText);
+        List<Map<String, Object>> metrics = parseMetrics(AssessmentTextTokenizer.tokenize(pdfText));
         if (metrics.isEmpty()) {
             log.debug("Mmpi2ExtractionParser: parseMetrics 빈 리스트 반환");
             return null;
@@ -100,32 +110,32 @@ public class Mmpi2ExtractionParser {
      * 원점수 / 전체규준 T 라인에서 숫자 시퀀스 추출 후 척도별 rawScore, tScore 매칭.
      * "원점수"와 "전체규준 T"가 한 줄에 함께 있을 수 있음 (PDFBox 테이블 추출).
      */
-    private static List<Map<String, Object>> parseMetrics(String pdfText) {
+    private static List<Map<String, Object>> parseMetrics(AssessmentTextTokenizer.Document doc) {
         List<Map<String, Object>> result = new ArrayList<>();
-        String[] lines = pdfText.split("[\r\n]+");
         List<Integer> rawScores = null;
         List<Integer> tScores = null;
 
-        for (int i = 0; i < lines.length; i++) {
-            String line = lines[i].trim();
+        for (int i = 0; i < doc.lineCount(); i++) {
+            String line = doc.line(i);
             // 한 줄에 "원점수"와 "전체규준"이 둘 다 있으면 분리 추출 (첫 번째 타당도/임상 척도 기준)
             if (isRawScoreLine(line) && isTScoreLine(line)) {
-                String[] parts = splitRawAndTScoreLine(line);
+                int[][] parts = splitRawAndTScoreLine(line);
+                int base = doc.lineStart(i);
                 if (parts[0] != null && rawScores == null) {
-                    rawScores = extractNumberSequence(parts[0]);
+                    rawScores = doc.numbersBetween(base + parts[0][0], base + parts[0][1]);
                 }
                 if (parts[1] != null && tScores == null) {
-                    tScores = extractNumberSequence(parts[1]);
+                    tScores = doc.numbersBetween(base + parts[1][0], base + parts[1][1]);
                 }
             } else if (isRawScoreLine(line) && rawScores == null) {
-                rawScores = extractNumberSequence(line);
-                if (rawScores.isEmpty() && i + 1 < lines.length) {
-                    rawScores = extractNumberSequence(lines[i + 1].trim());
+                rawScores = doc.numbersInLine(i);
+                if (rawScores.isEmpty() && i + 1 < doc.lineCount()) {
+                    rawScores = doc.numbersInLine(i + 1);
                 }
             } else if (isTScoreLine(line) && tScores == null) {
-                tScores = extractNumberSequence(line);
-                if (tScores.isEmpty() && i + 1 < lines.length) {
-                    tScores = extractNumberSequence(lines[i + 1].trim());
+                tScores = doc.numbersInLine(i);
+                if (tScores.isEmpty() && i + 1 < doc.lineCount()) {
+                    tScores = doc.numbersInLine(i + 1);
                 }
             }
         }
@@ -150,9 +160,11 @@ public class Mmpi2ExtractionParser {
     }
 
     /**
-     * "원점수 13 8 ... 전체규준 T 60 53 ..." 형태의 한 줄을 [원점수부분, 전체규준부분]으로 분리.
+     * "원점수 13 8 ... 전체규준 T 60 53 ..." 형태의 한 줄을 [원점수 구간, 전체규준 구간]으로 분리.
+     * 구간은 줄 기준 {@code {from, to}} 이고, 분리 기준을 못 찾으면 원점수 구간이 줄 전체다.
+     * 분리 위치는 항상 키워드 시작이라 숫자 토큰을 가르지 않는다.
      */
-    private static String[] splitRawAndTScoreLine(String line) {
+    private static int[][] splitRawAndTScoreLine(String line) {
         int rawIdx = -1;
         if (line.contains(MMPI2_RAW_LINE_KR)) rawIdx = line.indexOf(MMPI2_RAW_LINE_KR);
         else if (line.contains(MMPI2_RAW_LINE_RAW_SCORE)) rawIdx = line.indexOf(MMPI2_RAW_LINE_RAW_SCORE);
@@ -166,28 +178,11 @@ public class Mmpi2ExtractionParser {
         else if (line.contains(MMPI2_T_LINE_T_SCORE_KR)) tIdx = line.indexOf(MMPI2_T_LINE_T_SCORE_KR);
 
         if (rawIdx >= 0 && tIdx > rawIdx) {
-            return new String[]{line.substring(rawIdx, tIdx).trim(), line.substring(tIdx).trim()};
+            return new int[][]{{rawIdx, tIdx}, {tIdx, line.length()}};
         }
         if (rawIdx >= 0 && tIdx < rawIdx && tIdx >= 0) {
-            return new String[]{line.substring(rawIdx).trim(), line.substring(tIdx, rawIdx).trim()};
-        }
-        return new String[]{line, null};
-    }
-
-    /**
-     * 라인에서 연속된 정수 추출. "53F" 등 접미사 제거 후 숫자만 추출.
-     */
-    private static List<Integer> extractNumberSequence(String line) {
-        List<Integer> nums = new ArrayList<>();
-        Pattern p = Pattern.compile("\\d+");
-        Matcher m = p.matcher(line);
-        while (m.find()) {
-            try {
-                nums.add(Integer.parseInt(m.group()));
-            } catch (NumberFormatException ignored) {
-                // skip
-            }
+            return new int[][]{{rawIdx, line.length()}, {tIdx, rawIdx}};
         }
-        return nums;
+        return new int[][]{{0, line.length()}, null};
     }
 }
@@ -6,7 +6,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.StringUtils;
 
-import java.text.Normalizer;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
@@ -19,9 +18,13 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
- * TCI(기질·성격) 해석 보고서류 PDF 텍스트에서 척도·백분위 등을 정규식으로 추출.
+ * TCI(기질·성격) 해석 보고서류 PDF 텍스트에서 척도·백분위 등을 추출.
  * 상용 보고서 문장을 복제하지 않도록 구조·수치만 파싱한다.
  * <p>
+ * 본문은 {@link AssessmentTextTokenizer} 로 한 번만 정규화·토큰화하고, 척도 키워드·표 행 숫자·유형 코드는
+ * 토큰열에서 찾는다. 백분위·원점수·T점수 라벨 문법만 키워드 주변 창에 정규식으로 적용한다.
+ * </p>
+ * <p>
  * 로컬 통합: PDFBox 등으로 사용자 환경의 PDF에서 평문만 추출한 뒤 {@link #parse(String)}에 전달하면 된다.
  * 원본 PDF 파일은 저장소에 커밋하지 않는다.
  * </p>
@@ -34,6 +37,12 @@ public class TciExtractionParser {
     private static final Logger log = LoggerFactory.getLogger(TciExtractionParser.class);
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
+    /**
+     * 파싱 규칙 버전. 척도 키워드·레이아웃 인식이 바뀌어 결과 JSON이 달라질 수 있으면 올린다.
+     * 추출 캐시는 이 값이 다른 항목의 파싱 결과만 무효화하고 평문(OCR)은 재사용한다.
+     */
+    public static final String PARSER_VERSION = "1";
+
     /** 기대 척도 수(기질 4 + 성격 3) */
     private static final int EXPECTED_SCALE_COUNT = 7;
 
@@ -54,8 +63,6 @@ public class TciExtractionParser {
                     + "|T\\s*점\\s*수|T\\s*점수|T\\s*[- ]?score|T\\s*분포\\s*점수|T\\s*분포"
                     + "|변환\\s*점수|변환점수"
                     + "|(?<![A-Za-z])Std\\.?\\s*Score|(?<![A-Za-z])Raw(?![A-Za-z]))");
-    private static final Pattern INTEGER_PATTERN = Pattern.compile("\\d+");
-    private static final Pattern TYPE_CODE_LETTERS = Pattern.compile("(?<![A-Za-z가-힣])([LH]{3})(?![A-Za-z가-힣])");
     private static final Pattern TYPE_NEAR_LABEL = Pattern.compile(
             "(?:유형|형태|코드|타입)\\s*[:：\\s]*([LH]{3})", Pattern.CASE_INSENSITIVE);
 
@@ -89,8 +96,7 @@ public class TciExtractionParser {
             log.debug("TciExtractionParser: plainText 비어 있음");
             return null;
         }
-        String normalized = normalizeExtractedPlainText(plainText);
-        ParseResult result = parseInternal(normalized);
+        ParseResult result = parseInternal(new ParseContext(AssessmentTextTokenizer.tokenize(plainText)));
         if (result.metrics().isEmpty()) {
             log.debug("TciExtractionParser: metrics 없음, textLen={}", plainText.length());
             return null;
@@ -111,11 +117,39 @@ public class TciExtractionParser {
     private record ParseResult(List<Map<String, Object>> metrics, String personalityTypeCode) {
     }
 
-    private static ParseResult parseInternal(String text) {
-        boolean maumsarangNarrative = isMaumsarangAdultInterpretiveReport(text)
-                && !hasScoreTableHeaderSignals(text);
+    /**
+     * 파싱 1회분 상태. 본문 전체 표 헤더 신호와 줄별 인접 헤더 신호는 척도마다 다시 계산하지 않도록 여기 둔다.
+     */
+    private static final class ParseContext {
+
+        private final AssessmentTextTokenizer.Document doc;
+        private final String text;
+        private final boolean scoreTableSignals;
+        private final Boolean[] nearbyHeader;
+
+        private ParseContext(AssessmentTextTokenizer.Document doc) {
+            this.doc = doc;
+            this.text = doc.text();
+            this.scoreTableSignals = hasScoreTableHeaderSignals(text);
+            this.nearbyHeader = new Boolean[doc.lineCount()];
+        }
+
+        private boolean hasNearbyPercentileHeader(int line) {
+            Boolean cached = nearbyHeader[line];
+            if (cached == null) {
+                cached = TciExtractionParser.hasNearbyPercentileHeader(doc, line);
+                nearbyHeader[line] = cached;
+            }
+            return cached;
+        }
+    }
+
+    private static ParseResult parseInternal(ParseContext ctx) {
+        String text = ctx.text;
+        boolean maumsarangNarrative = isMaumsarangAdultInterpretiveReport(ctx.doc)
+                && !ctx.scoreTableSignals;
         Map<Integer, MetricHit> intervalHits =
-                maumsarangNarrative ? matchPercentilesByKeywordIntervals(text) : Map.of();
+                maumsarangNarrative ? matchPercentilesByKeywordIntervals(ctx.doc) : Map.of();
         int defaultWindow = maumsarangNarrative ? MAUMSARANG_KEYWORD_WINDOW : 420;
         List<Map<String, Object>> metrics = new ArrayList<>();
         Set<String> seenCodes = new LinkedHashSet<>();
@@ -123,7 +157,7 @@ public class TciExtractionParser {
             ScaleSpec spec = SCALE_SPECS.get(i);
             MetricHit hit = intervalHits.get(i);
             if (hit == null) {
-                hit = findMetricForScale(text, spec, defaultWindow);
+                hit = findMetricForScale(ctx, spec, defaultWindow);
             }
             if (hit != null && !seenCodes.contains(spec.scaleCode())) {
                 Map<String, Object> m = new LinkedHashMap<>();
@@ -145,7 +179,7 @@ public class TciExtractionParser {
                 seenCodes.add(spec.scaleCode());
             }
         }
-        String typeCode = extractPersonalityTypeCode(text);
+        String typeCode = extractPersonalityTypeCode(ctx.doc);
         return new ParseResult(metrics, typeCode);
     }
 
@@ -160,13 +194,14 @@ public class TciExtractionParser {
         if (!StringUtils.hasText(plainText)) {
             return false;
         }
-        return isMaumsarangAdultInterpretiveReport(normalizeExtractedPlainText(plainText));
+        return isMaumsarangAdultInterpretiveReport(AssessmentTextTokenizer.tokenize(plainText));
     }
 
     /**
      * 정규화된 평문 기준. {@link #parse(String)} 내부와 동일 조건.
      */
-    private static boolean isMaumsarangAdultInterpretiveReport(String normalizedText) {
+    private static boolean isMaumsarangAdultInterpretiveReport(AssessmentTextTokenizer.Document doc) {
+        String normalizedText = doc.text();
         if (!StringUtils.hasText(normalizedText)) {
             return false;
         }
@@ -174,13 +209,14 @@ public class TciExtractionParser {
                 && normalizedText.contains("성인용"))) {
             return false;
         }
-        if (indexOfIgnoreCase(normalizedText, "마음사랑") >= 0) {
+        AssessmentTextTokenizer.TextView view = doc.view();
+        if (view.indexOfIgnoreCase("마음사랑") >= 0) {
             return true;
         }
-        if (indexOfIgnoreCase(normalizedText, "maumsarang") >= 0) {
+        if (view.indexOfIgnoreCase("maumsarang") >= 0) {
             return true;
         }
-        return normalizedText.replaceAll("\\s+", "").contains("마음사랑");
+        return view.compactContains("마음사랑");
     }
 
     private record PercentileOccurrence(int start, double percentile, String cutoffTag) {
@@ -192,13 +228,14 @@ public class TciExtractionParser {
     /**
      * 서술형 보고서: 각 척도 키워드(최초 출현) 구간 안의 첫 "백분위 숫자 (수준)" 줄에 매핑.
      */
-    private static Map<Integer, MetricHit> matchPercentilesByKeywordIntervals(String text) {
+    private static Map<Integer, MetricHit> matchPercentilesByKeywordIntervals(AssessmentTextTokenizer.Document doc) {
+        String text = doc.text();
         List<ScaleAnchor> anchors = new ArrayList<>();
         for (int i = 0; i < SCALE_SPECS.size(); i++) {
             ScaleSpec spec = SCALE_SPECS.get(i);
             int best = Integer.MAX_VALUE;
             for (String kw : spec.keywordsKo()) {
-                int p = findKeywordPosition(text, kw);
+                int p = findKeywordPosition(doc, kw);
                 if (p >= 0) {
                     best = Math.min(best, p);
                 }
@@ -243,11 +280,12 @@ public class TciExtractionParser {
     private record MetricHit(Double rawScore, Double percentile, Double tScore, String cutoffTag) {
     }
 
-    private static MetricHit findMetricForScale(String text, ScaleSpec spec, int keywordWindowChars) {
+    private static MetricHit findMetricForScale(ParseContext ctx, ScaleSpec spec, int keywordWindowChars) {
+        String text = ctx.text;
         int bestPos = Integer.MAX_VALUE;
         String window = null;
         for (String kw : spec.keywordsKo()) {
-            int idx = findKeywordPosition(text, kw);
+            int idx = findKeywordPosition(ctx.doc, kw);
             if (idx >= 0 && idx < bestPos) {
                 bestPos = idx;
                 int end = Math.min(text.length(), idx + keywordWindowChars);
@@ -272,68 +310,46 @@ public class TciExtractionParser {
             Double t = findOptionalT(window);
             return new MetricHit(raw, p, t, null);
         }
-        MetricHit tableRowHit = findTableRowMetric(text, spec);
+        MetricHit tableRowHit = findTableRowMetric(ctx, spec);
         if (tableRowHit != null) {
             return tableRowHit;
         }
         return null;
     }
 
-    private static int findKeywordPosition(String text, String keyword) {
-        if (text == null || keyword == null) {
-            return -1;
-        }
-        if (keyword.chars().allMatch(ch -> ch >= 'A' && ch <= 'Z')) {
-            Matcher matcher = Pattern.compile("(?<![A-Za-z])" + Pattern.quote(keyword) + "(?![A-Za-z])",
-                    Pattern.CASE_INSENSITIVE).matcher(text);
-            return matcher.find() ? matcher.start() : -1;
+    /**
+     * 본문에서 척도 키워드 첫 위치. 영문 대문자 약어(NS, P 등)는 앞뒤가 영문이 아닌 단어 토큰으로만 인정하고,
+     * 한글 키워드는 대소문자 무시 부분 문자열 → 공백 제거 본문 순으로 찾는다.
+     */
+    private static int findKeywordPosition(AssessmentTextTokenizer.Document doc, String keyword) {
+        if (isAsciiUpperKeyword(keyword)) {
+            return doc.indexOfWord(keyword);
         }
-        int exact = indexOfIgnoreCase(text, keyword);
+        return findKeywordPosition(doc.view(), keyword);
+    }
+
+    private static int findKeywordPosition(AssessmentTextTokenizer.TextView view, String keyword) {
+        int exact = view.indexOfIgnoreCase(keyword);
         if (exact >= 0) {
             return exact;
         }
-        String compactText = text.replaceAll("\\s+", "");
-        String compactKeyword = keyword.replaceAll("\\s+", "");
-        int compactIndex = indexOfIgnoreCase(compactText, compactKeyword);
-        if (compactIndex < 0) {
-            return -1;
-        }
-        return approximateOriginalIndex(text, compactIndex);
+        return view.indexOfCompactIgnoreCase(keyword.replaceAll("\\s+", ""));
     }
 
-    private static int approximateOriginalIndex(String text, int compactIndex) {
-        int nonWhitespaceCount = 0;
-        for (int i = 0; i < text.length(); i++) {
-            if (!Character.isWhitespace(text.charAt(i))) {
-                if (nonWhitespaceCount == compactIndex) {
-                    return i;
-                }
-                nonWhitespaceCount++;
-            }
-        }
-        return -1;
+    private static boolean isAsciiUpperKeyword(String keyword) {
+        return keyword.chars().allMatch(ch -> ch >= 'A' && ch <= 'Z');
     }
 
-    private static int indexOfIgnoreCase(String text, String sub) {
-        if (text == null || sub == null) {
-            return -1;
-        }
-        String lower = text.toLowerCase(Locale.ROOT);
-        String s = sub.toLowerCase(Locale.ROOT);
-        return lower.indexOf(s);
-    }
-
-    private static MetricHit findTableRowMetric(String text, ScaleSpec spec) {
-        if (!hasTciScoreTableHeader(text)) {
+    private static MetricHit findTableRowMetric(ParseContext ctx, ScaleSpec spec) {
+        if (!ctx.scoreTableSignals) {
             return null;
         }
-        String[] lines = text.split("[\\r\\n]+");
-        for (int i = 0; i < lines.length; i++) {
-            String line = lines[i].trim();
-            if (!containsScaleKeyword(line, spec) || !hasNearbyPercentileHeader(lines, i)) {
+        AssessmentTextTokenizer.Document doc = ctx.doc;
+        for (int i = 0; i < doc.lineCount(); i++) {
+            if (!containsScaleKeyword(doc, i, spec) || !ctx.hasNearbyPercentileHeader(i)) {
                 continue;
             }
-            MetricHit hit = extractMetricFromTableRow(line);
+            MetricHit hit = extractMetricFromTableRow(doc.numbersInLine(i));
             if (hit != null) {
                 return hit;
             }
@@ -341,16 +357,12 @@ public class TciExtractionParser {
         return null;
     }
 
-    private static boolean hasTciScoreTableHeader(String text) {
-        return hasScoreTableSignals(text);
-    }
-
-    private static boolean hasNearbyPercentileHeader(String[] lines, int currentIndex) {
+    private static boolean hasNearbyPercentileHeader(AssessmentTextTokenizer.Document doc, int currentIndex) {
         int start = Math.max(0, currentIndex - 10);
-        int end = Math.min(lines.length - 1, currentIndex + 1);
+        int end = Math.min(doc.lineCount() - 1, currentIndex + 1);
         StringBuilder joined = new StringBuilder();
         for (int i = start; i <= end; i++) {
-            joined.append(' ').append(lines[i]);
+            joined.append(' ').append(doc.rawLine(i));
         }
         return hasScoreTableHeaderSignals(joined.toString());
     }
@@ -367,17 +379,19 @@ public class TciExtractionParser {
                 && RAW_OR_T_HEADER_SIGNAL.matcher(textChunk).find();
     }
 
-    private static boolean containsScaleKeyword(String line, ScaleSpec spec) {
+    private static boolean containsScaleKeyword(AssessmentTextTokenizer.Document doc, int line, ScaleSpec spec) {
         for (String keyword : spec.keywordsKo()) {
-            if (findKeywordPosition(line, keyword) >= 0) {
+            boolean found = isAsciiUpperKeyword(keyword)
+                    ? doc.lineHasWord(line, keyword)
+                    : findKeywordPosition(doc.lineView(line), keyword) >= 0;
+            if (found) {
                 return true;
             }
         }
         return false;
     }
 
-    private static MetricHit extractMetricFromTableRow(String line) {
-        List<Integer> numbers = extractNumberSequence(line);
+    private static MetricHit extractMetricFromTableRow(List<Integer> numbers) {
         if (numbers.size() < 2) {
             return null;
         }
@@ -397,19 +411,6 @@ public class TciExtractionParser {
         return new MetricHit(rawScore, percentile, tScore, null);
     }
 
-    private static List<Integer> extractNumberSequence(String line) {
-        List<Integer> numbers = new ArrayList<>();
-        Matcher matcher = INTEGER_PATTERN.matcher(line);
-        while (matcher.find()) {
-            try {
-                numbers.add(Integer.parseInt(matcher.group()));
-            } catch (NumberFormatException ignored) {
-                // 숫자 열 파싱 실패 값은 건너뛴다.
-            }
-        }
-        return numbers;
-    }
-
     private static Double toPercentile(Integer value) {
         if (value == null || value < 0 || value > 100) {
             return null;
@@ -461,25 +462,50 @@ public class TciExtractionParser {
         return null;
     }
 
-    private static String extractPersonalityTypeCode(String text) {
+    /**
+     * 라벨(유형·코드 등) 뒤 코드를 먼저 보고, 없으면 앞뒤가 영문·한글이 아닌 3글자 L/H 단어 토큰 중
+     * 주변에 성격 척도 단서가 있는 첫 코드를 쓴다.
+     */
+    private static String extractPersonalityTypeCode(AssessmentTextTokenizer.Document doc) {
+        String text = doc.text();
         Matcher m1 = TYPE_NEAR_LABEL.matcher(text);
         if (m1.find()) {
             return m1.group(1).toUpperCase(Locale.ROOT);
         }
-        Matcher m2 = TYPE_CODE_LETTERS.matcher(text);
-        while (m2.find()) {
-            String code = m2.group(1).toUpperCase(Locale.ROOT);
-            if (code.chars().allMatch(ch -> ch == 'L' || ch == 'H')) {
-                int pos = m2.start();
-                String ctx = text.substring(Math.max(0, pos - 80), Math.min(text.length(), pos + 40));
-                if (ctx.contains("자율") || ctx.contains("연대") || ctx.contains("초월") || ctx.contains("성격")) {
-                    return code;
-                }
+        for (AssessmentTextTokenizer.Token token : doc.tokens()) {
+            if (!isTypeCodeToken(text, token)) {
+                continue;
+            }
+            int pos = token.start();
+            String ctx = text.substring(Math.max(0, pos - 80), Math.min(text.length(), pos + 40));
+            if (ctx.contains("자율") || ctx.contains("연대") || ctx.contains("초월") || ctx.contains("성격")) {
+                return doc.text(token);
             }
         }
         return null;
     }
 
+    private static boolean isTypeCodeToken(String text, AssessmentTextTokenizer.Token token) {
+        if (token.kind() != AssessmentTextTokenizer.Kind.LATIN || token.end() - token.start() != 3) {
+            return false;
+        }
+        for (int i = token.start(); i < token.end(); i++) {
+            char c = text.charAt(i);
+            if (c != 'L' && c != 'H') {
+                return false;
+            }
+        }
+        return !isHangulSyllable(text, token.start() - 1) && !isHangulSyllable(text, token.end());
+    }
+
+    private static boolean isHangulSyllable(String text, int index) {
+        if (index < 0 || index >= text.length()) {
+            return false;
+        }
+        char c = text.charAt(index);
+        return c >= '가' && c <= '힣';
+    }
+
     /**
      * 파싱이 기대 척도보다 적으면 부분 성공로 본다.
      *
@@ -546,14 +572,9 @@ public class TciExtractionParser {
 
     /**
      * PDFBox 등 추출 평문 공백·개행 정규화.
+     * PDF 일부 양식: 전각 영문·숫자(Ｔ, Ｒａｗ 등) → 호환 문자로 합쳐 패턴 매칭
      */
     private static String normalizeExtractedPlainText(String plainText) {
-        if (plainText == null) {
-            return "";
-        }
-        String cr = plainText.replace("\r\n", "\n").replace('\r', '\n')
-                .replace('\u00A0', ' ').replace('\u3000', ' ');
-        // PDF 일부 양식: 전각 영문·숫자(Ｔ, Ｒａｗ 등) → 호환 문자로 합쳐 패턴 매칭
-        return Normalizer.normalize(cr, Normalizer.Form.NFKC);
+        return AssessmentTextTokenizer.normalize(plainText);
     }
 }
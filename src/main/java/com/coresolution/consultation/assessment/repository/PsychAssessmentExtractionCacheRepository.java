@@ -0,0 +1,30 @@
+package com.coresolution.consultation.assessment.repository;
+
+import com.coresolution.consultation.assessment.entity.PsychAssessmentExtractionCacheEntry;
+import com.coresolution.consultation.assessment.model.PsychAssessmentType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface PsychAssessmentExtractionCacheRepository
+        extends JpaRepository<PsychAssessmentExtractionCacheEntry, Long> {
+
+    Optional<PsychAssessmentExtractionCacheEntry> findByTenantIdAndContentSha256AndAssessmentTypeAndSourceTypeAndIsDeletedFalse(
+            String tenantId, String contentSha256, PsychAssessmentType assessmentType, String sourceType);
+
+    /**
+     * 파서 버전이 바뀐 유형의 파싱 결과만 비운다 (평문은 유지 → 재파싱만 수행).
+     *
+     * @return 무효화된 행 수
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE PsychAssessmentExtractionCacheEntry e SET e.extractedJson = null "
+            + "WHERE e.assessmentType = :type AND e.parserVersion <> :parserVersion AND e.extractedJson IS NOT NULL")
+    int clearParsedJsonForStaleParser(@Param("type") PsychAssessmentType type,
+            @Param("parserVersion") String parserVersion);
+}
@@ -3,10 +3,21 @@ package com.coresolution.consultation.assessment.service;
 import com.coresolution.consultation.assessment.model.PsychAssessmentType;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface PsychAiService {
     AiResult generateKoreanReport(PsychAssessmentType assessmentType, List<MetricInput> metrics, String baseMarkdown);
 
+    /**
+     * {@link #generateKoreanReport} 의 스트리밍 변형. LLM 원문 조각을 도착 즉시 {@code onRawDelta} 로 전달하고,
+     * 완료 후 동일한 검증(한국어·금지 문구·필수 섹션)을 거친 최종 결과를 반환한다.
+     * 검증에 실패하면 스트리밍된 본문과 달리 규칙 기반 마크다운이 반환될 수 있다.
+     *
+     * @param onRawDelta LLM 원문(JSON) 조각 콜백
+     */
+    AiResult generateKoreanReportStreaming(PsychAssessmentType assessmentType, List<MetricInput> metrics,
+            String baseMarkdown, Consumer<String> onRawDelta);
+
     record MetricInput(String scaleCode, String scaleLabel, Double rawScore, Double tScore, Double percentile, String cutoffTag) {}
 
     record AiResult(String reportMarkdown, String evidenceJson, String modelName, String promptVersion) {}
@@ -1,7 +1,26 @@
 package com.coresolution.consultation.assessment.service;
 
+import java.util.function.Consumer;
+
 public interface PsychAssessmentReportService {
     Long generateLatestReport(Long documentId);
+
+    /**
+     * 스트리밍 리포트 생성. LLM 생성 동안에는 DB 트랜잭션·커넥션을 잡지 않고,
+     * 생성 완료 후 최종 리포트 1건을 단일 트랜잭션으로 저장한다 (실패·중단 시 부분 리포트는 저장되지 않음).
+     *
+     * @param documentId 문서 ID
+     * @param onRawDelta LLM 원문 조각 콜백
+     * @return 저장된 리포트 ID와 최종 본문
+     */
+    StreamedReport generateLatestReportStreaming(Long documentId, Consumer<String> onRawDelta);
+
+    /**
+     * @param reportId       저장된 리포트 ID
+     * @param reportMarkdown 검증을 거친 최종 마크다운 (스트리밍 본문과 다를 수 있음)
+     * @param modelName      모델명
+     */
+    record StreamedReport(Long reportId, String reportMarkdown, String modelName) {}
 }
 
 
@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
 /**
@@ -90,6 +91,20 @@ public class PsychAiServiceImpl implements PsychAiService {
 
     @Override
     public AiResult generateKoreanReport(PsychAssessmentType assessmentType, List<MetricInput> metrics, String baseMarkdown) {
+        return generate(assessmentType, metrics, baseMarkdown, null);
+    }
+
+    @Override
+    public AiResult generateKoreanReportStreaming(PsychAssessmentType assessmentType, List<MetricInput> metrics,
+            String baseMarkdown, Consumer<String> onRawDelta) {
+        return generate(assessmentType, metrics, baseMarkdown, onRawDelta);
+    }
+
+    /**
+     * 리포트 생성 공통 경로. {@code onRawDelta} 가 있으면 SSOT 스트리밍 호출, 없으면 일괄 호출.
+     */
+    private AiResult generate(PsychAssessmentType assessmentType, List<MetricInput> metrics, String baseMarkdown,
+            Consumer<String> onRawDelta) {
         String tenantId = resolveTenantId();
 
         if (metrics == null || metrics.isEmpty()) {
@@ -106,8 +121,8 @@ public class PsychAiServiceImpl implements PsychAiService {
         String combinedPrompt = buildCombinedPromptForLog(systemPrompt, userPrompt);
 
         try {
-            log.info("Psych AI report generation start: tenantId={}, type={}, metricsCount={}",
-                    tenantId, assessmentType, metrics.size());
+            log.info("Psych AI report generation start: tenantId={}, type={}, metricsCount={}, streaming={}",
+                    tenantId, assessmentType, metrics.size(), onRawDelta != null);
 
             AiCompletionRequest request = AiCompletionRequest.builder()
                     .systemPrompt(systemPrompt)
@@ -120,7 +135,9 @@ public class PsychAiServiceImpl implements PsychAiService {
                     .traceId(UUID.randomUUID().toString())
                     .build();
 
-            AiChatCompletionResult result = aiChatCompletionService.completeChat(request);
+            AiChatCompletionResult result = onRawDelta != null
+                    ? aiChatCompletionService.streamChat(request, onRawDelta)
+                    : aiChatCompletionService.completeChat(request);
             long responseTime = System.currentTimeMillis() - startTime;
             String model = StringUtils.hasText(result.model()) ? result.model() : "unknown";
             String providerForLog = resolveProviderLabel(result);
@@ -0,0 +1,214 @@
+package com.coresolution.consultation.assessment.service.impl;
+
+import com.coresolution.consultation.assessment.entity.PsychAssessmentDocument;
+import com.coresolution.consultation.assessment.entity.PsychAssessmentExtractionCacheEntry;
+import com.coresolution.consultation.assessment.model.PsychAssessmentType;
+import com.coresolution.consultation.assessment.parser.Mmpi2ExtractionParser;
+import com.coresolution.consultation.assessment.parser.TciExtractionParser;
+import com.coresolution.consultation.assessment.repository.PsychAssessmentExtractionCacheRepository;
+import com.coresolution.consultation.util.PersonalDataEncryptionUtil;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 심리검사 추출 결과 캐시 (콘텐츠 해시 + 파서 버전, 테넌트 범위).
+ * <p>
+ * 동일 문서 재업로드·일시 실패 후 재추출 시 PDF 텍스트 추출/OCR을 반복하지 않도록 평문과 파싱 JSON을 재사용한다.
+ * 파서 버전이 바뀌면 파싱 결과만 무효화되고 평문은 그대로 재사용되어 재파싱 비용만 든다.
+ * 캐시 조회·저장 실패는 추출 자체를 막지 않는다(로그 후 원본 경로로 진행).
+ * </p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PsychAssessmentExtractionCache {
+
+    static final String METRIC_CACHE_REQUESTS = "psych.extraction.cache.requests";
+    static final String METRIC_CACHE_SAVED_MILLIS = "psych.extraction.cache.saved.millis";
+    private static final String TAG_RESULT = "result";
+    private static final String TAG_SOURCE_TYPE = "source_type";
+    /** 평문·파싱 JSON 모두 재사용 */
+    static final String RESULT_HIT = "hit";
+    /** 평문만 재사용 (파서 버전 변경 또는 이전 파싱 실패) */
+    static final String RESULT_TEXT_HIT = "text_hit";
+    static final String RESULT_MISS = "miss";
+
+    private final PsychAssessmentExtractionCacheRepository cacheRepository;
+    private final PersonalDataEncryptionUtil encryptionUtil;
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    /**
+     * 캐시 조회 결과.
+     *
+     * @param plainText      복호화된 평문
+     * @param extractedJson  현재 파서 버전으로 만든 파싱 결과 (버전 불일치·파싱 실패 시 null)
+     * @param ocrEngine      최초 추출 엔진 라벨
+     */
+    public record CachedExtraction(String plainText, String extractedJson, String ocrEngine) {
+    }
+
+    /**
+     * 문서 유형별 현재 파서 버전.
+     *
+     * @param type 검사 유형
+     * @return 파서 버전 또는 null (파서 없는 유형)
+     */
+    public static String currentParserVersion(PsychAssessmentType type) {
+        if (type == PsychAssessmentType.MMPI) {
+            return Mmpi2ExtractionParser.PARSER_VERSION;
+        }
+        if (type == PsychAssessmentType.TCI) {
+            return TciExtractionParser.PARSER_VERSION;
+        }
+        return null;
+    }
+
+    /**
+     * 문서 콘텐츠 해시로 캐시 조회. 적중 시 적중 횟수와 절감 시간을 기록한다.
+     *
+     * @param doc 문서
+     * @return 캐시 항목 (없거나 조회 실패 시 empty)
+     */
+    public Optional<CachedExtraction> lookup(PsychAssessmentDocument doc) {
+        String parserVersion = currentParserVersion(doc.getAssessmentType());
+        if (parserVersion == null || !StringUtils.hasText(doc.getSha256())) {
+            return Optional.empty();
+        }
+        try {
+            Optional<PsychAssessmentExtractionCacheEntry> found = cacheRepository
+                    .findByTenantIdAndContentSha256AndAssessmentTypeAndSourceTypeAndIsDeletedFalse(
+                            doc.getTenantId(), doc.getSha256(), doc.getAssessmentType(), doc.getSourceType());
+            if (found.isEmpty()) {
+                recordResult(RESULT_MISS, doc.getSourceType());
+                return Optional.empty();
+            }
+            PsychAssessmentExtractionCacheEntry entry = found.get();
+            String plainText = encryptionUtil.safeDecrypt(entry.getPlainTextEncrypted());
+            if (!StringUtils.hasText(plainText)) {
+                recordResult(RESULT_MISS, doc.getSourceType());
+                return Optional.empty();
+            }
+            boolean parsedReusable = parserVersion.equals(entry.getParserVersion())
+                    && StringUtils.hasText(entry.getExtractedJson());
+            entry.setHitCount(entry.getHitCount() != null ? entry.getHitCount() + 1 : 1L);
+            entry.setLastHitAt(LocalDateTime.now());
+            cacheRepository.save(entry);
+
+            recordResult(parsedReusable ? RESULT_HIT : RESULT_TEXT_HIT, doc.getSourceType());
+            recordSavedMillis(entry.getExtractionMillis(), doc.getSourceType());
+            log.info("Psych 추출 캐시 적중: tenantId={}, documentId={}, result={}, savedMs={}",
+                    doc.getTenantId(), doc.getId(), parsedReusable ? RESULT_HIT : RESULT_TEXT_HIT,
+                    entry.getExtractionMillis());
+            return Optional.of(new CachedExtraction(
+                    plainText, parsedReusable ? entry.getExtractedJson() : null, entry.getOcrEngine()));
+        } catch (Exception e) {
+            log.warn("Psych 추출 캐시 조회 실패(원본 추출로 진행): documentId={}, error={}",
+                    doc.getId(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 평문·파싱 결과 저장. 평문이 비어 있으면(추출 실패·OCR 미구성) 저장하지 않아 다음 시도에서 다시 추출한다.
+     *
+     * @param doc              문서
+     * @param plainText        추출 평문
+     * @param extractedJson    파싱 결과 (null 허용)
+     * @param ocrEngine        추출 엔진 라벨
+     * @param extractionMillis 평문 추출 소요(ms). 재파싱만 한 경우 null → 기존 값 유지
+     */
+    public void store(PsychAssessmentDocument doc, String plainText, String extractedJson, String ocrEngine,
+            Long extractionMillis) {
+        String parserVersion = currentParserVersion(doc.getAssessmentType());
+        if (parserVersion == null || !StringUtils.hasText(doc.getSha256()) || !StringUtils.hasText(plainText)) {
+            return;
+        }
+        try {
+            PsychAssessmentExtractionCacheEntry entry = cacheRepository
+                    .findByTenantIdAndContentSha256AndAssessmentTypeAndSourceTypeAndIsDeletedFalse(
+                            doc.getTenantId(), doc.getSha256(), doc.getAssessmentType(), doc.getSourceType())
+                    .orElse(null);
+            if (entry == null) {
+                entry = PsychAssessmentExtractionCacheEntry.builder()
+                        .contentSha256(doc.getSha256())
+                        .assessmentType(doc.getAssessmentType())
+                        .sourceType(doc.getSourceType())
+                        .plainTextEncrypted(encryptionUtil.safeEncrypt(plainText))
+                        .extractionMillis(extractionMillis != null ? extractionMillis : 0L)
+                        .build();
+                entry.setTenantId(doc.getTenantId());
+            } else if (extractionMillis != null) {
+                entry.setPlainTextEncrypted(encryptionUtil.safeEncrypt(plainText));
+                entry.setExtractionMillis(extractionMillis);
+            }
+            entry.setExtractedJson(extractedJson);
+            entry.setParserVersion(parserVersion);
+            entry.setOcrEngine(ocrEngine);
+            cacheRepository.save(entry);
+        } catch (DataIntegrityViolationException e) {
+            // 동일 콘텐츠 동시 추출: 먼저 저장된 항목을 유지
+            log.debug("Psych 추출 캐시 동시 저장 경합 무시: documentId={}", doc.getId());
+        } catch (Exception e) {
+            log.warn("Psych 추출 캐시 저장 실패(추출 결과에는 영향 없음): documentId={}, error={}",
+                    doc.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 기동 시 파서 버전이 바뀐 유형의 파싱 결과를 일괄 무효화한다. 평문은 유지된다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void invalidateStaleParsedResults() {
+        try {
+            int mmpi = cacheRepository.clearParsedJsonForStaleParser(
+                    PsychAssessmentType.MMPI, Mmpi2ExtractionParser.PARSER_VERSION);
+            int tci = cacheRepository.clearParsedJsonForStaleParser(
+                    PsychAssessmentType.TCI, TciExtractionParser.PARSER_VERSION);
+            if (mmpi > 0 || tci > 0) {
+                log.info("Psych 추출 캐시 파서 버전 변경 무효화: mmpi={}, tci={}", mmpi, tci);
+            }
+        } catch (Exception e) {
+            log.warn("Psych 추출 캐시 무효화 실패(조회 시 버전 비교로 대체): {}", e.getMessage());
+        }
+    }
+
+    private void recordResult(String result, String sourceType) {
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+        Counter.builder(METRIC_CACHE_REQUESTS)
+                .tag(TAG_RESULT, result)
+                .tag(TAG_SOURCE_TYPE, sourceType != null ? sourceType : "UNKNOWN")
+                .register(registry)
+                .increment();
+    }
+
+    private void recordSavedMillis(Long millis, String sourceType) {
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        if (registry == null || millis == null || millis <= 0) {
+            return;
+        }
+        Counter.builder(METRIC_CACHE_SAVED_MILLIS)
+                .tag(TAG_SOURCE_TYPE, sourceType != null ? sourceType : "UNKNOWN")
+                .register(registry)
+                .increment(millis);
+    }
+}
@@ -52,6 +52,7 @@ public class PsychAssessmentExtractionServiceImpl implements PsychAssessmentExtr
     private final com.coresolution.consultation.assessment.service.PsychAssessmentValidationService validationService;
     private final EncryptedFileStorageService encryptedFileStorageService;
     private final TesseractOcrService tesseractOcrService;
+    private final PsychAssessmentExtractionCache extractionCache;
     private final PsychAssessmentExtractionRunner runner;
 
     public PsychAssessmentExtractionServiceImpl(
@@ -60,12 +61,14 @@ public class PsychAssessmentExtractionServiceImpl implements PsychAssessmentExtr
             com.coresolution.consultation.assessment.service.PsychAssessmentValidationService validationService,
             EncryptedFileStorageService encryptedFileStorageService,
             TesseractOcrService tesseractOcrService,
+            PsychAssessmentExtractionCache extractionCache,
             @Lazy PsychAssessmentExtractionRunner runner) {
         this.documentRepository = documentRepository;
         this.extractionRepository = extractionRepository;
         this.validationService = validationService;
         this.encryptedFileStorageService = encryptedFileStorageService;
         this.tesseractOcrService = tesseractOcrService;
+        this.extractionCache = extractionCache;
         this.runner = runner;
     }
 
@@ -256,32 +259,52 @@ public class PsychAssessmentExtractionServiceImpl implements PsychAssessmentExtr
 
     /**
      * 문서 유형·소스에 따라 extracted_json 생성 (Runner·동기 추출 공용).
+     * <p>
+     * 콘텐츠 해시 캐시를 먼저 조회한다. 현재 파서 버전의 파싱 결과가 있으면 그대로, 평문만 있으면 재파싱만 수행하고
+     * 없을 때만 PDF 텍스트 추출/OCR을 실행한 뒤 결과를 캐시에 저장한다.
+     * </p>
      */
     static String extractAssessmentJson(PsychAssessmentDocument doc,
             EncryptedFileStorageService storage,
-            TesseractOcrService ocrService) {
+            TesseractOcrService ocrService,
+            PsychAssessmentExtractionCache extractionCache) {
         PsychAssessmentType type = doc.getAssessmentType();
+        if (type != PsychAssessmentType.MMPI && type != PsychAssessmentType.TCI) {
+            return null;
+        }
         boolean imageFlow = SOURCE_TYPE_SCANNED_IMAGE.equals(doc.getSourceType());
-        if (type == PsychAssessmentType.MMPI) {
-            String plain = imageFlow
+        var cached = extractionCache.lookup(doc);
+        if (cached.isPresent() && cached.get().extractedJson() != null) {
+            return cached.get().extractedJson();
+        }
+
+        String plain;
+        Long extractionMillis = null;
+        if (cached.isPresent()) {
+            plain = cached.get().plainText();
+        } else {
+            long startNanos = System.nanoTime();
+            plain = imageFlow
                     ? tryReadPlainTextFromImages(storage, ocrService, doc)
                     : tryReadPlainTextFromPdf(storage, doc);
+            extractionMillis = (System.nanoTime() - startNanos) / 1_000_000L;
+        }
+
+        String extractedJson;
+        if (type == PsychAssessmentType.MMPI) {
             if (!StringUtils.hasText(plain)) {
                 return null;
             }
-            return extractMmpiJsonFromPlainText(plain, doc);
-        }
-        if (type == PsychAssessmentType.TCI) {
-            String plain = imageFlow
-                    ? tryReadPlainTextFromImages(storage, ocrService, doc)
-                    : tryReadPlainTextFromPdf(storage, doc);
-            return extractTciJsonFromPlainText(
+            extractedJson = extractMmpiJsonFromPlainText(plain, doc);
+        } else {
+            extractedJson = extractTciJsonFromPlainText(
                     plain != null ? plain : "",
                     doc,
                     imageFlow,
                     ocrService.isTesseractDatapathConfigured());
         }
-        return null;
+        extractionCache.store(doc, plain, extractedJson, resolveOcrEngineLabel(doc), extractionMillis);
+        return extractedJson;
     }
 
     private static String resolveOcrEngineLabel(PsychAssessmentDocument doc) {
@@ -299,7 +322,8 @@ public class PsychAssessmentExtractionServiceImpl implements PsychAssessmentExtr
                 documentRepository.findByTenantIdAndId(tenantId, documentId)
                         .orElseThrow(() -> new IllegalArgumentException("문서를 찾을 수 없습니다."));
 
-        String extractedJson = extractAssessmentJson(doc, encryptedFileStorageService, tesseractOcrService);
+        String extractedJson = extractAssessmentJson(doc, encryptedFileStorageService, tesseractOcrService,
+                extractionCache);
 
         String templateId = null;
         String extractionMode = "GENERIC";
@@ -337,8 +361,9 @@ public class PsychAssessmentExtractionServiceImpl implements PsychAssessmentExtr
         private final com.coresolution.consultation.assessment.service.PsychAssessmentReportService reportService;
         private final EncryptedFileStorageService encryptedFileStorageService;
         private final TesseractOcrService tesseractOcrService;
+        private final PsychAssessmentExtractionCache extractionCache;
 
-        @Async
+        @Async("documentExtractionExecutor")
         public void processAsync(String tenantId, Long documentId) {
             try {
                 TenantContextHolder.setTenantId(tenantId);
@@ -347,7 +372,7 @@ public class PsychAssessmentExtractionServiceImpl implements PsychAssessmentExtr
                                 .orElseThrow(() -> new IllegalArgumentException("문서를 찾을 수 없습니다."));
 
                 String extractedJson = extractAssessmentJson(doc, encryptedFileStorageService,
-                        tesseractOcrService);
+                        tesseractOcrService, extractionCache);
 
                 String templateId = null;
                 String extractionMode = "GENERIC";
@@ -20,12 +20,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -42,11 +45,34 @@ public class PsychAssessmentReportServiceImpl implements PsychAssessmentReportSe
     private final PsychAiService psychAiService;
     @Lazy
     private final PsychAssessmentExtractionService extractionService;
+    private final PlatformTransactionManager transactionManager;
 
     @Override
     @Transactional
     public Long generateLatestReport(Long documentId) {
         String tenantId = TenantContextHolder.getRequiredTenantId();
+        PreparedReport prepared = prepareReport(tenantId, documentId);
+        var aiResult = psychAiService.generateKoreanReport(
+                prepared.assessmentType(), prepared.aiInputs(), prepared.baseMarkdown());
+        return saveReport(tenantId, documentId, prepared.extractionId(), aiResult);
+    }
+
+    @Override
+    public StreamedReport generateLatestReportStreaming(Long documentId, Consumer<String> onRawDelta) {
+        String tenantId = TenantContextHolder.getRequiredTenantId();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        PreparedReport prepared = tx.execute(status -> prepareReport(tenantId, documentId));
+        // LLM 스트리밍 구간은 트랜잭션 밖 — 수십 초 동안 DB 커넥션을 점유하지 않는다
+        var aiResult = psychAiService.generateKoreanReportStreaming(
+                prepared.assessmentType(), prepared.aiInputs(), prepared.baseMarkdown(), onRawDelta);
+        Long reportId = tx.execute(status -> saveReport(tenantId, documentId, prepared.extractionId(), aiResult));
+        return new StreamedReport(reportId, aiResult.reportMarkdown(), aiResult.modelName());
+    }
+
+    private record PreparedReport(Long extractionId, PsychAssessmentType assessmentType,
+            List<PsychAiService.MetricInput> aiInputs, String baseMarkdown) {}
+
+    private PreparedReport prepareReport(String tenantId, Long documentId) {
         var doc = documentRepository.findByTenantIdAndId(tenantId, documentId)
                 .orElseThrow(() -> new IllegalArgumentException("문서를 찾을 수 없습니다."));
         PsychAssessmentExtraction extraction = extractionRepository
@@ -79,12 +105,14 @@ public class PsychAssessmentReportServiceImpl implements PsychAssessmentReportSe
                         m.getCutoffTag()
                 ))
                 .toList();
-        var aiResult = psychAiService.generateKoreanReport(doc.getAssessmentType(), aiInputs, baseMarkdown);
+        return new PreparedReport(extraction.getId(), doc.getAssessmentType(), aiInputs, baseMarkdown);
+    }
 
+    private Long saveReport(String tenantId, Long documentId, Long extractionId, PsychAiService.AiResult aiResult) {
         PsychAssessmentReport report = PsychAssessmentReport.builder()
                 .tenantId(tenantId)
                 .documentId(documentId)
-                .extractionId(extraction.getId())
+                .extractionId(extractionId)
                 .reportVersion(1)
                 .promptVersion(aiResult.promptVersion())
                 .modelName(aiResult.modelName())
@@ -0,0 +1,206 @@
+package com.coresolution.consultation.assessment.support;
+
+/**
+ * 심리검사 리포트 스트리밍 응답의 증분 파서.
+ *
+ * <p>LLM 은 {@code {"reportMarkdown": "...", "evidence": {...}}} JSON 을 토큰 단위로 내보낸다.
+ * 본 파서는 원문 조각을 받아 {@code reportMarkdown} 문자열 값만 JSON 이스케이프를 풀며 즉시
+ * {@link Listener#onMarkdown(String)} 으로 전달하고, {@code ## } 헤더로 구분되는 섹션이 닫힐 때마다
+ * {@link PsychAssessmentMarkdownSections#extractSection(String, String)} 으로 본문을 잘라
+ * {@link Listener#onSection(String, String)} 으로 전달한다. 전체 응답을 다시 파싱하지 않으므로
+ * 조각마다 비용은 조각 길이에 비례한다.</p>
+ *
+ * <p>스레드 안전하지 않다 — 스트림 1개당 인스턴스 1개를 사용한다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public final class PsychReportMarkdownStreamParser {
+
+    /** 리포트 본문 JSON 필드명 */
+    public static final String REPORT_FIELD = "reportMarkdown";
+
+    private static final String FIELD_TOKEN = "\"" + REPORT_FIELD + "\"";
+    private static final String SECTION_PREFIX = "## ";
+
+    /**
+     * 파싱 이벤트 수신자.
+     */
+    public interface Listener {
+
+        /**
+         * @param delta 디코드된 리포트 마크다운 조각
+         */
+        void onMarkdown(String delta);
+
+        /**
+         * @param header 섹션 헤더 (예: "## 요약")
+         * @param body   섹션 본문 (trim, 비어 있으면 null)
+         */
+        void onSection(String header, String body);
+    }
+
+    private enum State { SEEK_FIELD, SEEK_VALUE, IN_VALUE, DONE }
+
+    private final Listener listener;
+    private final StringBuilder seekBuffer = new StringBuilder();
+    private final StringBuilder markdown = new StringBuilder();
+    private State state = State.SEEK_FIELD;
+    private boolean escaping;
+    private StringBuilder unicodeEscape;
+
+    /** 아직 섹션 판정하지 않은 줄의 시작 위치 */
+    private int lineStart;
+    /** 열린 섹션 헤더 줄의 시작 위치 (-1 = 없음) */
+    private int openSectionStart = -1;
+    private String openSectionHeader;
+
+    public PsychReportMarkdownStreamParser(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * LLM 원문 조각을 공급한다.
+     *
+     * @param raw 원문 조각 (JSON 일부)
+     */
+    public void feed(String raw) {
+        if (raw == null || raw.isEmpty() || state == State.DONE) {
+            return;
+        }
+        if (state == State.SEEK_FIELD) {
+            seekBuffer.append(raw);
+            int idx = seekBuffer.indexOf(FIELD_TOKEN);
+            if (idx < 0) {
+                // 필드명이 조각 경계에 걸릴 수 있으므로 꼬리만 보존
+                int keep = FIELD_TOKEN.length() - 1;
+                if (seekBuffer.length() > keep) {
+                    seekBuffer.delete(0, seekBuffer.length() - keep);
+                }
+                return;
+            }
+            String rest = seekBuffer.substring(idx + FIELD_TOKEN.length());
+            seekBuffer.setLength(0);
+            state = State.SEEK_VALUE;
+            raw = rest;
+        }
+        StringBuilder decoded = new StringBuilder(raw.length());
+        for (int i = 0; i < raw.length() && state != State.DONE; i++) {
+            char c = raw.charAt(i);
+            if (state == State.SEEK_VALUE) {
+                if (c == '"') {
+                    state = State.IN_VALUE;
+                }
+                continue;
+            }
+            if (unicodeEscape != null) {
+                unicodeEscape.append(c);
+                if (unicodeEscape.length() == 4) {
+                    decoded.append(decodeUnicode(unicodeEscape));
+                    unicodeEscape = null;
+                }
+                continue;
+            }
+            if (escaping) {
+                escaping = false;
+                switch (c) {
+                    case 'n' -> decoded.append('\n');
+                    case 't' -> decoded.append('\t');
+                    case 'r' -> decoded.append('\r');
+                    case 'b' -> decoded.append('\b');
+                    case 'f' -> decoded.append('\f');
+                    case 'u' -> unicodeEscape = new StringBuilder(4);
+                    default -> decoded.append(c);
+                }
+                continue;
+            }
+            if (c == '\\') {
+                escaping = true;
+            } else if (c == '"') {
+                state = State.DONE;
+            } else {
+                decoded.append(c);
+            }
+        }
+        appendMarkdown(decoded);
+        if (state == State.DONE) {
+            scanCompletedLines(true);
+            closeOpenSection(markdown.length());
+        }
+    }
+
+    /**
+     * 스트림 종료 — 열린 마지막 섹션을 닫는다. 응답이 잘려 문자열이 닫히지 않은 경우에도 호출한다.
+     */
+    public void finish() {
+        if (state != State.DONE) {
+            scanCompletedLines(true);
+            closeOpenSection(markdown.length());
+            state = State.DONE;
+        }
+    }
+
+    /**
+     * @return 지금까지 디코드된 리포트 마크다운 전체
+     */
+    public String markdown() {
+        return markdown.toString();
+    }
+
+    private void appendMarkdown(StringBuilder decoded) {
+        if (decoded.length() == 0) {
+            return;
+        }
+        markdown.append(decoded);
+        listener.onMarkdown(decoded.toString());
+        scanCompletedLines(false);
+    }
+
+    private void scanCompletedLines(boolean includeTail) {
+        while (lineStart < markdown.length()) {
+            int nl = markdown.indexOf("\n", lineStart);
+            if (nl < 0 && !includeTail) {
+                return;
+            }
+            int lineEnd = nl < 0 ? markdown.length() : nl;
+            if (startsWith(markdown, lineStart, SECTION_PREFIX)) {
+                closeOpenSection(lineStart);
+                openSectionStart = lineStart;
+                openSectionHeader = markdown.substring(lineStart, lineEnd).trim();
+            }
+            lineStart = nl < 0 ? markdown.length() : nl + 1;
+        }
+    }
+
+    private void closeOpenSection(int end) {
+        if (openSectionStart < 0) {
+            return;
+        }
+        String block = markdown.substring(openSectionStart, end);
+        String body = PsychAssessmentMarkdownSections.extractSection(
+                block.endsWith("\n") ? block : block + "\n", openSectionHeader);
+        listener.onSection(openSectionHeader, body);
+        openSectionStart = -1;
+        openSectionHeader = null;
+    }
+
+    private static boolean startsWith(StringBuilder sb, int from, String prefix) {
+        if (sb.length() - from < prefix.length()) {
+            return false;
+        }
+        for (int k = 0; k < prefix.length(); k++) {
+            if (sb.charAt(from + k) != prefix.charAt(k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char decodeUnicode(CharSequence hex) {
+        try {
+            return (char) Integer.parseInt(hex.toString(), 16);
+        } catch (NumberFormatException e) {
+            return '\uFFFD';
+        }
+    }
+}
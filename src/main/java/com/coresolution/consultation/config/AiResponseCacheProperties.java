@@ -0,0 +1,35 @@
+package com.coresolution.consultation.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * AI 채팅 완성 응답 캐시·동시 요청 병합 설정.
+ *
+ * <p>{@code mindgarden.ai.response-cache.*} 바인딩. {@link #getCallerTtl()} 에 등록된 callerId
+ * (use-case) 만 캐시·병합 대상이며, 등록되지 않은 caller(예: psych — 내담자 검사 데이터)는 정책상 제외된다.
+ * 등록된 caller 라도 프롬프트에서 PII 패턴이 감지되면 캐시하지 않는다.</p>
+ *
+ * @author MindGarden
+ * @since 2026-10-19
+ */
+@ConfigurationProperties(prefix = "mindgarden.ai.response-cache")
+@Getter
+@Setter
+public class AiResponseCacheProperties {
+
+    /** 캐시·병합 전체 활성 여부. false 이면 항상 upstream 호출. */
+    private boolean enabled = true;
+
+    /** 메모리 보관 최대 항목 수. 초과 시 만료 항목 → 만료 임박 항목 순으로 제거. */
+    private int maxEntries = 500;
+
+    /** callerId(use-case) 별 TTL. 키가 없으면 캐시 대상 아님. */
+    private Map<String, Duration> callerTtl = new LinkedHashMap<>(Map.of(
+            "healing", Duration.ofHours(6),
+            "wellness", Duration.ofHours(6)));
+}
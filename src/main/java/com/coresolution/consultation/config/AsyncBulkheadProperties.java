@@ -0,0 +1,69 @@
+package com.coresolution.consultation.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 비동기 실행기 bulkhead 설정.
+ *
+ * <p>{@code mindgarden.async.*} 바인딩. 실행기별 기본값은 {@code AsyncConfig} 에 있고,
+ * {@code bulkheads.<이름>.*} 에 적은 항목만 덮어쓴다. {@code target-queue-wait} 가 있는 bulkhead 는
+ * {@link #getAdaptiveInterval()} 마다 대기 시간을 보고 core 스레드 수를 설정 core ~ max 사이에서 조정한다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@ConfigurationProperties(prefix = "mindgarden.async")
+@Getter
+@Setter
+public class AsyncBulkheadProperties {
+
+    /** false 면 core 스레드 수를 고정한다 (기존 동작). */
+    private boolean adaptiveEnabled = true;
+
+    /** 적응형 조정 주기. */
+    private Duration adaptiveInterval = Duration.ofSeconds(10);
+
+    /** bulkhead 이름별 덮어쓰기. */
+    private Map<String, Bulkhead> bulkheads = new LinkedHashMap<>();
+
+    /**
+     * 포화 시 정책.
+     */
+    public enum RejectionPolicy {
+        /** 제출한 스레드가 직접 실행 — 작업을 잃지 않고 제출측에 역압을 건다 */
+        CALLER_RUNS,
+        /** {@code RejectedExecutionException} — 제출측이 건너뛰거나 오류로 응답한다 */
+        SHED
+    }
+
+    /**
+     * bulkhead 1개 덮어쓰기. null 항목은 코드 기본값을 쓴다.
+     */
+    @Getter
+    @Setter
+    public static class Bulkhead {
+
+        /** 기본(최소) core 스레드 수. 적응형 조정은 이 값 아래로 내리지 않는다. */
+        private Integer corePoolSize;
+
+        /** 최대 스레드 수. 적응형 조정의 상한이기도 하다. */
+        private Integer maxPoolSize;
+
+        /** 대기 큐 크기. */
+        private Integer queueCapacity;
+
+        /** 포화 시 정책. */
+        private RejectionPolicy rejection;
+
+        /** 종료 시 진행 중 작업 완료 대기 상한. */
+        private Duration awaitTermination;
+
+        /** 목표 큐 대기 시간. 평균 대기가 이를 넘으면 core 를 늘린다. 0 이면 적응형 조정 안 함. */
+        private Duration targetQueueWait;
+    }
+}
@@ -0,0 +1,35 @@
+package com.coresolution.consultation.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 상담일지 전문 검색 설정 ({@code consultation_record_search_docs} ngram FULLTEXT 색인).
+ *
+ * <p>{@code mindgarden.search.consultation-record.*} 바인딩. 색인을 쓸 수 없는 질의(모든 검색어가
+ * {@link #getMinTermLength()} 미만)나 색인 조회 실패 시에는 기존 LIKE 검색으로 대체한다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@ConfigurationProperties(prefix = "mindgarden.search.consultation-record")
+@Getter
+@Setter
+public class ConsultationRecordSearchProperties {
+
+    /** false 이면 색인 갱신·조회를 하지 않고 LIKE 검색만 사용. */
+    private boolean enabled = true;
+
+    /** 색인 대상 최소 검색어 길이 — MySQL {@code ngram_token_size} 와 맞춘다. */
+    private int minTermLength = 2;
+
+    /** 질의 1건에 사용하는 최대 검색어 수. */
+    private int maxTerms = 8;
+
+    /** 하이라이트 조각 최대 길이 (문자). */
+    private int snippetLength = 120;
+
+    /** 재색인 1회 처리 id 구간 크기. */
+    private int rebuildBatchSize = 1000;
+}
@@ -0,0 +1,42 @@
+package com.coresolution.consultation.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 컨트롤러 자동 추적 로깅 설정 ({@code LoggingAspect} 의 {@code @RestController} 적용분).
+ *
+ * <p>{@code mindgarden.logging.controller-trace.*} 바인딩. 값은 기동 시 초기값이며, 모드·샘플링 비율·
+ * 느린 호출 임계값은 운영 API 로 재시작 없이 바꿀 수 있다. 자동 적용 자체는 기존과 같이
+ * {@code security.safelog.controllers.auto=true} 일 때만 켜진다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@ConfigurationProperties(prefix = "mindgarden.logging.controller-trace")
+@Getter
+@Setter
+public class ControllerTraceProperties {
+
+    /** 추적 모드 — SAMPLED(샘플링·비동기), SYNC(기존 진입/종료 동기 로그), OFF. */
+    private String mode = "SAMPLED";
+
+    /** 기본 샘플링 비율 (0~1). 느린 호출·예외는 비율과 무관하게 항상 기록한다. */
+    private double sampleRate = 0.01;
+
+    /** 라우트별 샘플링 비율. 키는 {@code SimpleClassName#method} 또는 {@code SimpleClassName}. */
+    private Map<String, Double> routeSampleRates = new LinkedHashMap<>();
+
+    /** 이 시간 이상 걸린 호출은 항상 기록. */
+    private Duration slowThreshold = Duration.ofMillis(1000);
+
+    /** 비동기 기록 대기열 크기 — 가득 차면 버리고 카운트만 올린다. */
+    private int queueCapacity = 4096;
+
+    /** 최근 추적 보관 개수 (운영 API 덤프용 링 버퍼). */
+    private int ringBufferSize = 200;
+}
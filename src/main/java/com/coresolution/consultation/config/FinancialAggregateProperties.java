@@ -0,0 +1,26 @@
+package com.coresolution.consultation.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 회계 거래 일별 집계 설정 ({@code financial_daily_aggregates}).
+ *
+ * <p>{@code mindgarden.erp.financial-aggregate.*} 바인딩. 비활성이거나 집계 조회가 실패하면 대시보드는
+ * 기존 거래 원장 집계 쿼리로 대체한다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@ConfigurationProperties(prefix = "mindgarden.erp.financial-aggregate")
+@Getter
+@Setter
+public class FinancialAggregateProperties {
+
+    /** false 이면 집계 갱신·조회·대사를 하지 않고 거래 원장을 직접 집계. */
+    private boolean enabled = true;
+
+    /** 일일 대사 대상 기간 (오늘 포함 최근 N일). 전월 마감 보정까지 덮도록 두 달 남짓. */
+    private int reconcileLookbackDays = 62;
+}
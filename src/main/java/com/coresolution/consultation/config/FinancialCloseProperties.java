@@ -0,0 +1,42 @@
+package com.coresolution.consultation.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 정기 재무 마감 증분 실행 설정 ({@code IncrementalFinancialCloseEngine}).
+ *
+ * <p>{@code mindgarden.scheduler.financial-close.*} 바인딩. 같은 접두사의 {@code daily-cron}·{@code monthly-cron} 은
+ * 스케줄러가 직접 읽는다. {@code incremental=false} 이면 스케줄러가 기존처럼 전 테넌트를
+ * 순서대로 대상 기간 1건씩 마감한다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@ConfigurationProperties(prefix = "mindgarden.scheduler.financial-close")
+@Getter
+@Setter
+public class FinancialCloseProperties {
+
+    /** false 이면 체크포인트 없이 전 테넌트 순차 마감. */
+    private boolean incremental = true;
+
+    /**
+     * 기간 마감 dry-run. {@code FinancialPeriodServiceImpl} 과 같은 키·기본값이며, 켜져 있으면 체크포인트를 넘기지 않는다.
+     */
+    private boolean dryRun = true;
+
+    /** 동시에 마감하는 테넌트 수 상한 — 테넌트 1건이 DB 커넥션 1개를 쓰므로 커넥션 예산. */
+    private int maxConcurrentTenants = 4;
+
+    /** 체크포인트 이후 밀린 일 마감을 한 번에 따라잡는 최대 일수 (대상일 포함). */
+    private int maxCatchUpDays = 31;
+
+    /** 체크포인트 이후 밀린 월 마감을 한 번에 따라잡는 최대 개월 수 (대상월 포함). */
+    private int maxCatchUpMonths = 3;
+
+    /** 다른 실행이 잡은 테넌트를 건드리지 않는 시간. 마지막 기록 후 이 시간이 지난 RUNNING 은 중단된 실행으로 보고 이어받는다. */
+    private Duration runningLease = Duration.ofMinutes(30);
+}
@@ -0,0 +1,33 @@
+package com.coresolution.consultation.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 재무제표 월 블록 캐시 설정 ({@code financial_statement_snapshots} + 미마감 월 메모리 캐시).
+ *
+ * <p>{@code mindgarden.erp.statement-cache.*} 바인딩. 비활성이면 재무제표는 매 요청 원장에서 월 블록을
+ * 다시 계산한다 (결과는 같고 비용만 다르다).</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@ConfigurationProperties(prefix = "mindgarden.erp.statement-cache")
+@Getter
+@Setter
+public class FinancialStatementCacheProperties {
+
+    /** false 이면 마감 스냅샷 저장·조회와 미마감 월 캐시를 모두 끈다. */
+    private boolean enabled = true;
+
+    /** 미마감 월 블록 메모리 보관 최대 항목 수 (테넌트 × 월). 초과 시 가장 오래 안 쓴 항목부터 제거. */
+    private int openBlockMaxEntries = 2000;
+
+    /**
+     * 미마감 월 블록 최대 보관 시간. 원장 지문이 같아도 이 시간이 지나면 다시 계산한다 — 지문에 잡히지 않는
+     * 계정명·ERP_ACCOUNT_TYPE 공통코드 변경이 반영되는 상한.
+     */
+    private Duration openBlockTtl = Duration.ofMinutes(10);
+}
@@ -0,0 +1,45 @@
+package com.coresolution.consultation.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * HTTP 감사 파이프라인 설정 ({@code AuditLoggingFilter} → {@code http_audit_events}).
+ *
+ * <p>{@code mindgarden.audit.http.*} 바인딩. 텔레메트리 write-behind 와 달리 감사 이벤트는 버리지 않는다 —
+ * 대기열이 가득 차거나 DB 적재가 실패하면 적재 스레드가 {@link #getSpillDirectory()} 의 JSON Lines 파일로
+ * 내려쓰고 다음 flush 에서 다시 적재한다. 파일 크기가 {@link #getMaxSpillSize()} 를 넘거나 넘침 대기열까지 찰
+ * 때만 드롭한다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@ConfigurationProperties(prefix = "mindgarden.audit.http")
+@Getter
+@Setter
+public class HttpAuditProperties {
+
+    /** false 이면 대기열 없이 요청 스레드에서 즉시 적재. */
+    private boolean enabled = true;
+
+    /** 최대 대기 이벤트 수. 넘친 이벤트를 적재 스레드로 넘기는 넘침 대기열도 같은 크기다. */
+    private int capacity = 10000;
+
+    /** JDBC batch insert 1회 행 수. 대기 이벤트가 이 값에 도달하면 주기와 무관하게 flush. */
+    private int batchSize = 200;
+
+    /** 주기 flush 간격. */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    /** 종료 시 진행 중 flush 완료 대기 상한. */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+    /** 포화·적재 실패 이벤트를 내려쓸 디렉터리. */
+    private String spillDirectory = System.getProperty("java.io.tmpdir") + "/mindgarden-audit-spill";
+
+    /** 내려쓰기 파일 최대 크기. */
+    private DataSize maxSpillSize = DataSize.ofMegabytes(256);
+}
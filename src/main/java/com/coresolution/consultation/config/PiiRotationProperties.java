@@ -0,0 +1,32 @@
+package com.coresolution.consultation.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * PII 키 회전 실행 설정 ({@code PersonalDataKeyRotationService}).
+ *
+ * <p>{@code mindgarden.pii-rotation.*} 바인딩. chunk 1개의 재암호화를 {@code parallelism} 조각으로 나눠
+ * {@code piiRotationExecutor} 에서 계산하고, 쓰기는 JDBC 배치 1회로 한다. 실행기 폭은
+ * {@code mindgarden.async.bulkheads.pii-rotation.*} 로 조정한다. 평문 백필 허용 여부는 기존
+ * {@code pii-rotation.allow-plaintext-encryption} 을 그대로 쓴다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@ConfigurationProperties(prefix = "mindgarden.pii-rotation")
+@Getter
+@Setter
+public class PiiRotationProperties {
+
+    /** chunk 1개의 재암호화를 나눌 작업 조각 수. 1 이면 회전 스레드가 직접 계산한다. */
+    private int parallelism = 4;
+
+    /** 초당 처리(조회) 행 상한. 0 이면 제한하지 않는다. */
+    private int maxRowsPerSecond = 0;
+
+    /** chunk 쓰기 트랜잭션 지연 예산. 넘으면 걸린 시간만큼 쉬고 다음 chunk 를 읽는다. 0 이면 보지 않는다. */
+    private Duration writeLatencyBudget = Duration.ofMillis(500);
+}
@@ -299,7 +299,7 @@ public class RateLimitingConfig {
         }
 
         /**
-         * 429 차단 시 전용 카운터(알람용 태그 {@code reason}). {@link MetricsInterceptor} 의 {@code api.errors} 와 별도.
+         * 429 차단 시 전용 카운터(알람용 태그 {@code reason}). {@link com.coresolution.core.monitoring.RequestTelemetryRegistry} 의 {@code api.errors} 와 별도.
          */
         private void recordRateLimitBlocked(HttpServletRequest request) {
             MeterRegistry registry = meterRegistryProvider.getIfAvailable();
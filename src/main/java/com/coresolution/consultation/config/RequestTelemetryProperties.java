@@ -0,0 +1,36 @@
+package com.coresolution.consultation.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * API 요청 텔레메트리 설정.
+ *
+ * <p>{@code mindgarden.telemetry.request.*} 바인딩. 테넌트별 집계는 {@link #getMaxTrackedTenants()} 까지만
+ * 개별로 유지하고 초과분은 기타(__other__)로 합산해 메모리를 제한한다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@ConfigurationProperties(prefix = "mindgarden.telemetry.request")
+@Getter
+@Setter
+public class RequestTelemetryProperties {
+
+    /** Micrometer Timer 에 병합 가능한 백분위 히스토그램 버킷 발행 여부 (Prometheus histogram_quantile 용). */
+    private boolean publishPercentileHistogram = true;
+
+    /** 관리자 API 기본 상위 테넌트 수. */
+    private int topTenants = 10;
+
+    /** 개별 집계할 최대 테넌트 수. */
+    private int maxTrackedTenants = 500;
+
+    /** 이 시간 이상 걸린 요청은 WARN 로그. */
+    private Duration slowRequestThreshold = Duration.ofMillis(500);
+
+    /** 이 시간 이상 걸린 요청은 ERROR 로그. */
+    private Duration verySlowRequestThreshold = Duration.ofSeconds(2);
+}
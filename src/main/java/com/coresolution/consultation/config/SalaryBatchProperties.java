@@ -0,0 +1,27 @@
+package com.coresolution.consultation.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 월 급여 배치 계산 설정 ({@code SetBasedSalaryBatchEngine}).
+ *
+ * <p>{@code mindgarden.salary.batch.*} 바인딩. {@code set-based=false} 이면 배치가 기존처럼 상담사마다
+ * {@code ProcessIntegratedSalaryCalculation} 프로시저를 호출한다. 테넌트 병렬 실행 폭은
+ * {@code mindgarden.async.bulkheads.salary-batch.*} 로 조정한다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@ConfigurationProperties(prefix = "mindgarden.salary.batch")
+@Getter
+@Setter
+public class SalaryBatchProperties {
+
+    /** true 이면 테넌트·기간 단위로 입력을 한 번에 읽어 JVM 에서 계산하고 JDBC 배치로 저장한다. */
+    private boolean setBased = true;
+
+    /** JDBC 배치 INSERT 1회 행 수. */
+    private int insertBatchSize = 500;
+}
@@ -0,0 +1,30 @@
+package com.coresolution.consultation.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 급여 export 스트리밍·다운로드 토큰 설정.
+ *
+ * <p>{@code mindgarden.salary.export.*} 바인딩. 다운로드 토큰 방식은 결과를 {@link #getTempDirectory()} 의
+ * 임시 파일로 내려쓰고 토큰만 응답하므로, 여러 인스턴스가 같은 디렉터리를 공유하면 어느 인스턴스에서도 내려받을 수 있다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@ConfigurationProperties(prefix = "mindgarden.salary.export")
+@Getter
+@Setter
+public class SalaryExportProperties {
+
+    /** 다운로드 토큰 파일 디렉터리. */
+    private String tempDirectory = System.getProperty("java.io.tmpdir") + "/mindgarden-salary-export";
+
+    /** 다운로드 토큰 유효 시간. 지나면 파일을 지운다. */
+    private Duration downloadTokenTtl = Duration.ofMinutes(10);
+
+    /** ZIP 묶음 1회 최대 급여 계산 수. */
+    private int maxBatchSize = 500;
+}
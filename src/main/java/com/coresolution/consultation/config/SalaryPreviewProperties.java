@@ -0,0 +1,34 @@
+package com.coresolution.consultation.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 급여 미리보기 캐시 설정 ({@code SalaryPreviewCache}).
+ *
+ * <p>{@code mindgarden.salary.preview.*} 바인딩. 비활성이면 미리보기는 매 요청 {@code CalculateSalaryPreview}
+ * 프로시저를 호출한다. 활성이면 JPA·급여 서비스 경로 변경은 모든 인스턴스에 다음 조회부터 반영되고, 그 밖의 DB
+ * 직접 변경은 {@link #getTtl()} 까지 늦게 반영될 수 있다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@ConfigurationProperties(prefix = "mindgarden.salary.preview")
+@Getter
+@Setter
+public class SalaryPreviewProperties {
+
+    /** false 이면 캐시와 JVM 계산을 끄고 프로시저만 쓴다. */
+    private boolean enabled = true;
+
+    /** 메모리 보관 최대 항목 수 (테넌트 × 상담사 × 기간). 초과 시 가장 오래 안 쓴 항목부터 제거. */
+    private int maxEntries = 5000;
+
+    /**
+     * 최대 보관 시간. 세대를 올리지 않는 DB 직접 변경(프로시저·일괄 SQL, 상담사 등급 변경)이 미리보기에 반영되는
+     * 상한. 다른 인스턴스의 JPA 변경은 세대로 바로 반영된다.
+     */
+    private Duration ttl = Duration.ofMinutes(2);
+}
@@ -0,0 +1,42 @@
+package com.coresolution.consultation.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 일정 종료 시각 색인 설정 ({@code ScheduleDueIndex}).
+ *
+ * <p>{@code mindgarden.schedule.due-index.*} 바인딩. {@code enabled=false} 이면 색인 빈을 만들지 않고
+ * {@code ScheduleServiceImpl#autoCompleteExpiredSchedules} 가 호출마다 기존처럼 지난 일정을 스캔한다.
+ * 종료 시각 도달 일정 처리 주기는 {@code scheduler.schedule-due-completion.cron} 으로 조정한다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@ConfigurationProperties(prefix = "mindgarden.schedule.due-index")
+@Getter
+@Setter
+public class ScheduleDueIndexProperties {
+
+    /** true 이면 기동 시 미완료 일정의 종료 시각을 메모리에 올리고 도달한 일정만 골라 완료 처리한다. */
+    private boolean enabled = true;
+
+    /**
+     * 테넌트별 기존 스캔(대사) 주기. 색인 밖에서 바뀐 일정(프로시저·네이티브 SQL·다른 인스턴스)을 이 주기 안에 잡는다.
+     */
+    private Duration reconcileInterval = Duration.ofHours(6);
+
+    /** 종료됐지만 상담일지가 없어 완료하지 못한 일정을 다시 확인하기까지의 간격. */
+    private Duration recordRecheckInterval = Duration.ofMinutes(10);
+
+    /**
+     * 완료 처리 선점 유효 시간. 한 인스턴스가 선점한 일정은 이 시간 동안 다른 인스턴스가 완료·리마인더를 하지 않는다.
+     * {@code recordRecheckInterval} 보다 짧아야 선점한 인스턴스가 재확인 때 다시 선점할 수 있다.
+     */
+    private Duration claimLease = Duration.ofMinutes(5);
+
+    /** 한 번에 꺼내 완료 처리할 일정 수 상한 (IN 목록·배치 UPDATE 크기). */
+    private int batchSize = 200;
+}
@@ -0,0 +1,39 @@
+package com.coresolution.consultation.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * SQL 문 회계(요청·스케줄 작업별 실행 문 수·DB 시간·반복 형태) 설정.
+ *
+ * <p>{@code mindgarden.telemetry.sql.*} 바인딩. 같은 형태의 문이 한 범위 안에서
+ * {@link #getRepeatedShapeThreshold()} 번 이상 반복되면 N+1 의심으로 기록한다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@ConfigurationProperties(prefix = "mindgarden.telemetry.sql")
+@Getter
+@Setter
+public class SqlStatementAccountingProperties {
+
+    /** false 면 Hibernate StatementInspector·세션 리스너를 등록하지 않는다. */
+    private boolean enabled = true;
+
+    /** 한 범위에서 같은 형태의 문이 이 횟수 이상 반복되면 N+1 의심. */
+    private int repeatedShapeThreshold = 10;
+
+    /** 한 범위에서 개별로 셀 최대 문 형태 수 (초과분은 건수·시간만 누적). */
+    private int maxShapesPerScope = 256;
+
+    /** 관리자·actuator 조회용으로 보관할 최근 N+1 의심 건수. */
+    private int recentFindings = 100;
+
+    /** 이 개수 이상 문을 실행한 요청·작업은 WARN 로그. */
+    private int statementWarnThreshold = 100;
+
+    /** 이 시간 이상 DB 에 머문 요청·작업은 WARN 로그. */
+    private Duration dbTimeWarnThreshold = Duration.ofSeconds(1);
+}
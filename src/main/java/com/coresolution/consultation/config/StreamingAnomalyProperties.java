@@ -0,0 +1,55 @@
+package com.coresolution.consultation.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 시스템 메트릭 스트리밍 이상 탐지 설정.
+ *
+ * <p>{@code mindgarden.monitoring.streaming-anomaly.*} 바인딩. (테넌트, 메트릭 유형)별 온라인 통계
+ * (EWMA 평균·분산, 시간대별 계절 기준선, 상위 분위수 스케치)를 메트릭 수신 시점에 갱신하고,
+ * {@link #getConfirmSamples()} 회 연속 위반한 경우에만 이상으로 확정한다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@ConfigurationProperties(prefix = "mindgarden.monitoring.streaming-anomaly")
+@Getter
+@Setter
+public class StreamingAnomalyProperties {
+
+    /** false 이면 기존 5분 주기 DB 재조회 탐지로 동작. */
+    private boolean enabled = true;
+
+    /** 전체 EWMA 평균·잔차 분산 평활 계수 (0~1, 클수록 최근 값 가중). */
+    private double ewmaAlpha = 0.05;
+
+    /** 시간대(0~23시) 계절 기준선 EWMA 평활 계수. */
+    private double seasonalAlpha = 0.1;
+
+    /** 시간대 기준선을 기대값으로 쓰기 위한 해당 시간대 최소 표본 수. 미달 시 전체 EWMA 평균 사용. */
+    private int seasonalMinSamples = 10;
+
+    /** 판정 전 최소 표본 수 (워밍업). */
+    private int warmupSamples = 30;
+
+    /** 위반 판정 z-score 임계값 (잔차 / 표준편차). */
+    private double scoreThreshold = 4.0;
+
+    /** 위반 판정에 함께 요구하는 상위 분위수 (P² 스케치). 값이 이 분위수 추정치를 넘어야 위반. */
+    private double quantile = 0.99;
+
+    /** 표준편차 하한 — 거의 평탄한 시계열에서 미세 변동이 과대 z-score 가 되는 것을 막는다. */
+    private double minStdDev = 0.5;
+
+    /** 이상 확정에 필요한 연속 위반 표본 수. */
+    private int confirmSamples = 3;
+
+    /** 확정 시 AI 분석에 전달할 최근 표본 수. */
+    private int recentSamples = 20;
+
+    /** 통계 체크포인트 저장 주기 (재시작 시 복원). */
+    private Duration checkpointInterval = Duration.ofMinutes(5);
+}
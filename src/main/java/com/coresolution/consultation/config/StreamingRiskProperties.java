@@ -0,0 +1,36 @@
+package com.coresolution.consultation.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 전사 중 실시간 위험 감지 설정 ({@code StreamingRiskMonitor}).
+ *
+ * <p>{@code mindgarden.risk.streaming.*} 바인딩. STT 세그먼트가 도착할 때마다 키워드 오토마톤으로 점검하고,
+ * CRITICAL·HIGH 일치는 주변 세그먼트 창만 즉시 AI 분석에 보낸다. MEDIUM 일치 창은 모아 두었다가 전사 종료 시
+ * 한 번에 보낸다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@ConfigurationProperties(prefix = "mindgarden.risk.streaming")
+@Getter
+@Setter
+public class StreamingRiskProperties {
+
+    /** false 이면 전사 중 위험 감지를 하지 않는다 (수동 분석 API 는 유지). */
+    private boolean enabled = true;
+
+    /** 일치 세그먼트 앞에 함께 보낼 세그먼트 수. */
+    private int contextSegments = 2;
+
+    /** AI 분석 창 최대 길이 (문자). 넘치면 앞쪽 문맥부터 자른다. */
+    private int maxWindowChars = 1200;
+
+    /** 이미 분석한 CRITICAL·HIGH 키워드가 이 세그먼트 수 이후 다시 나오면 재분석. */
+    private int reescalateAfterSegments = 10;
+
+    /** 알림 생성 최소 위험 점수. */
+    private double alertThreshold = 0.3;
+}
@@ -0,0 +1,52 @@
+package com.coresolution.consultation.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 긴 상담 녹음 청크 병렬 전사 설정 ({@code ChunkedTranscriptionPipeline}).
+ *
+ * <p>{@code mindgarden.stt.pipeline.*} 바인딩. PCM WAV 녹음이 {@link #minDuration} 이상이면 무음 구간에서
+ * 겹치는 청크로 나눠 {@code stt-chunk} bulkhead 에서 동시에 전사하고, 끝난 청크는 체크포인트로 남겨 재시도 때
+ * 이어서 전사한다. 그 밖의 형식·짧은 녹음은 기존처럼 파일 전체를 한 번에 스트리밍 전사한다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@ConfigurationProperties(prefix = "mindgarden.stt.pipeline")
+@Getter
+@Setter
+public class SttPipelineProperties {
+
+    /** false 이면 항상 파일 전체를 한 번에 전사한다. */
+    private boolean enabled = true;
+
+    /** 이 길이보다 짧은 녹음은 나누지 않는다. */
+    private Duration minDuration = Duration.ofMinutes(2);
+
+    /** 청크 목표 길이. 이 근처의 가장 조용한 지점에서 자른다. */
+    private Duration targetChunk = Duration.ofSeconds(30);
+
+    /** 청크 최소 길이 (자를 지점 탐색 구간 시작). */
+    private Duration minChunk = Duration.ofSeconds(15);
+
+    /** 청크 최대 길이 (자를 지점 탐색 구간 끝, 겹침 제외). 무음이 없어도 이 길이에서는 자른다. */
+    private Duration maxChunk = Duration.ofSeconds(50);
+
+    /** 이웃 청크와 겹치는 길이 (앞뒤 각각). 경계에 걸친 단어를 양쪽에서 인식한 뒤 이어 붙일 때 중복을 지운다. */
+    private Duration overlap = Duration.ofMillis(1500);
+
+    /** 이 값(dBFS) 이하인 구간을 무음으로 본다. 무음이 없으면 탐색 구간에서 가장 조용한 지점에서 자른다. */
+    private double silenceThresholdDbfs = -40.0;
+
+    /** 청크 1개의 인식 시도 횟수 (첫 시도 포함). */
+    private int chunkAttempts = 2;
+
+    /**
+     * 전사 재시도 API 가 PENDING·PROCESSING 전사를 멈춘 것으로 보는 시간. 이보다 최근에 갱신된 전사는 진행 중인
+     * 작업과 겹치지 않도록 재시도하지 않는다 (FAILED 는 바로 재시도).
+     */
+    private Duration retryStaleAfter = Duration.ofHours(1);
+}
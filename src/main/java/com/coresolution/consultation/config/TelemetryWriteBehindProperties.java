@@ -0,0 +1,36 @@
+package com.coresolution.consultation.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 텔레메트리(AI 사용 로그·시스템 메트릭) write-behind 버퍼 설정.
+ *
+ * <p>{@code mindgarden.telemetry.write-behind.*} 바인딩. 버퍼가 {@link #getCapacity()} 에 도달하면
+ * 새 항목은 저장하지 않고 드롭 카운터만 올린다 — 텔레메트리 적재가 호출 경로를 막지 않도록 하기 위함.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@ConfigurationProperties(prefix = "mindgarden.telemetry.write-behind")
+@Getter
+@Setter
+public class TelemetryWriteBehindProperties {
+
+    /** false 이면 버퍼 없이 호출 스레드에서 즉시 저장 (기존 동작). */
+    private boolean enabled = true;
+
+    /** 유형(AI 사용 로그 / 시스템 메트릭)별 최대 대기 항목 수. */
+    private int capacity = 10000;
+
+    /** JDBC batch insert 1회 행 수. 대기 항목이 이 값에 도달하면 주기와 무관하게 flush. */
+    private int batchSize = 200;
+
+    /** 주기 flush 간격. */
+    private Duration flushInterval = Duration.ofSeconds(2);
+
+    /** 종료 시 진행 중 flush 완료 대기 상한. */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+}
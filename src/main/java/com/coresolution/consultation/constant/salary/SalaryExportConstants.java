@@ -26,6 +26,20 @@ public final class SalaryExportConstants {
 
     public static final String DATA_URI_PREFIX_CSV = "data:" + MIME_TYPE_CSV + ";charset=UTF-8;base64,";
 
+    public static final String MIME_TYPE_ZIP = "application/zip";
+
+    /** SXSSF 메모리 행 창 크기. 이 수를 넘는 행은 압축 임시 파일로 내려쓴다. */
+    public static final int XLSX_ROW_WINDOW = 100;
+
+    /** 다운로드 토큰 응답의 downloadUrl 접두사 (뒤에 토큰을 붙임) */
+    public static final String DOWNLOAD_TOKEN_PATH_PREFIX = "/api/v1/admin/salary/export/download/";
+
+    /** 요청 {@code delivery}: 결과를 임시 파일로 쓰고 downloadUrl 에 토큰 다운로드 경로를 준다 */
+    public static final String DELIVERY_DOWNLOAD_TOKEN = "DOWNLOAD_TOKEN";
+
+    /** 여러 상담사 급여 명세 ZIP 파일명 접두사 */
+    public static final String ARCHIVE_FILENAME_PREFIX = "salary_payslips_";
+
     /** 파일 시스템·로그 안전 ASCII 접두사 (본문 파일명에는 상담사명·기간을 이어 붙임) */
     public static final String FILENAME_PREFIX = "salary_calculation_";
 
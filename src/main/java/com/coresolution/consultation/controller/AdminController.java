@@ -25,6 +25,8 @@ import com.coresolution.consultation.dto.ConsultantTransferRequest;
 import com.coresolution.consultation.dto.NewClientsStatisticsResponse;
 import com.coresolution.consultation.dto.WeeklyReservationsResponse;
 import com.coresolution.consultation.dto.StaffRegistrationRequest;
+import com.coresolution.consultation.dto.admin.AdminScheduleCalendarQuery;
+import com.coresolution.consultation.dto.admin.AdminScheduleCalendarResponse;
 import com.coresolution.consultation.service.ClientPackagePaymentHistoryService;
 import com.coresolution.consultation.entity.Client;
 // 표준화 2025-12-05: 역할 체크를 공통코드 기반 동적 조회로 변경 (COMMON_CODE_SYSTEM_STANDARD.md 준수)
@@ -33,6 +35,7 @@ import com.coresolution.consultation.entity.ConsultationRecord;
 import com.coresolution.consultation.entity.User;
 import com.coresolution.consultation.repository.UserRepository;
 import com.coresolution.consultation.repository.UserSocialAccountRepository;
+import com.coresolution.consultation.service.AdminScheduleCalendarService;
 import com.coresolution.consultation.service.AdminService;
 import com.coresolution.consultation.service.BranchService;
 import com.coresolution.consultation.service.ClientStatsService;
@@ -46,6 +49,7 @@ import com.coresolution.consultation.service.erp.ErpService;
 import com.coresolution.consultation.service.erp.financial.FinancialTransactionService;
 import com.coresolution.consultation.service.MenuService;
 import com.coresolution.consultation.service.RealTimeStatisticsService;
+import com.coresolution.consultation.service.RefundHistoryQueryService;
 import com.coresolution.consultation.service.ScheduleService;
 import com.coresolution.consultation.service.StoredProcedureService;
 import com.coresolution.consultation.service.UserPersonalDataCacheService;
@@ -66,10 +70,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.StringUtils;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -132,6 +138,8 @@ public class AdminController extends BaseApiController {
     private final com.coresolution.consultation.service.ScheduleClientReminderSmsStatusService
             scheduleClientReminderSmsStatusService;
     private final com.coresolution.consultation.repository.ClientRepository clientRepository;
+    private final RefundHistoryQueryService refundHistoryQueryService;
+    private final AdminScheduleCalendarService adminScheduleCalendarService;
 
     /**
      * /** 상담사 통계 정보 조회 (캐시 사용) /** GET /api/admin/consultants/with-stats/{id}
@@ -2326,22 +2334,33 @@ public class AdminController extends BaseApiController {
         String currentBranchCode = currentUser != null ? currentUser.getBranchCode() : null;
         log.info("🔍 현재 사용자 지점코드: {}", currentBranchCode);
 
-        Map<String, Object> statistics =
-                adminService.getRefundStatistics(period, currentBranchCode);
+        if (currentBranchCode != null && !currentBranchCode.trim().isEmpty()) {
+            log.warn("⚠️ 브랜치 코드는 더 이상 사용하지 않습니다. 파라미터는 무시됩니다.");
+        }
+        adminService.initializeRefundCommonCodes();
+        Map<String, Object> statistics = refundHistoryQueryService.getRefundStatistics(period);
 
         return success(statistics);
     }
 
     /**
      * 환불 이력 조회
+     *
+     * <p>{@code cursor} 가 있으면 keyset 페이지로 조회한다 (첫 페이지는 {@code cursor=} 빈 값, 다음 페이지는
+     * 응답의 {@code nextCursor}). 없으면 기존 page/size 오프셋 응답을 그대로 돌려준다.</p>
      */
     @GetMapping("/refund-history")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getRefundHistory(
             @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "20") int size,
             @RequestParam(required = false) String period,
-            @RequestParam(required = false) String status, HttpSession session) {
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String cursor, HttpSession session) {
         log.info("📋 환불 이력 조회: page={}, size={}, period={}, status={}", page, size, period, status);
 
+        if (cursor != null) {
+            return success(refundHistoryQueryService.getRefundHistoryPage(cursor, size, period, status));
+        }
+
         User currentUser = SessionUtils.getCurrentUser(session);
         String currentBranchCode = currentUser != null ? currentUser.getBranchCode() : null;
         log.info("🔍 현재 사용자 지점코드: {}", currentBranchCode);
@@ -2912,6 +2931,30 @@ public class AdminController extends BaseApiController {
         return success(data);
     }
 
+    /**
+     * 관리자 스케줄 캘린더 조회 (조회 구간 필수, 최대 {@value AdminScheduleCalendarQuery#MAX_WINDOW_DAYS}일)
+     *
+     * <p>응답에 ETag 를 붙이고, 폴링 요청의 {@code If-None-Match} 가 현재 구간 지문과 같으면 본문 조회 없이
+     * 304 를 돌려준다.</p>
+     */
+    @GetMapping("/schedules/calendar")
+    public ResponseEntity<ApiResponse<AdminScheduleCalendarResponse>> getScheduleCalendar(
+            @RequestParam String startDate,
+            @RequestParam String endDate,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long consultantId,
+            WebRequest webRequest) {
+        AdminScheduleCalendarQuery query = AdminScheduleCalendarQuery.of(startDate, endDate, status, consultantId);
+        String eTag = adminScheduleCalendarService.currentETag(query);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.success(adminScheduleCalendarService.getCalendar(query)));
+    }
+
     /**
      * 스케줄 자동 완료 처리 (수동 실행)
      */
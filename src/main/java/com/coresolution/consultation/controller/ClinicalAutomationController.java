@@ -8,6 +8,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -115,18 +116,19 @@ public class ClinicalAutomationController {
 
             audioFileEntity = audioFileRepository.save(audioFileEntity);
 
-            // 비동기 전사 시작
-            speechToTextService.transcribeAudioAsync(audioFileEntity.getId());
+            // 비동기 전사 시작 — 전사 실행기가 포화면 FAILED 로 남기고 재시도 API 로 다시 시작하게 한다
+            boolean queued = submitTranscription(audioFileEntity.getId());
 
-            log.info("✅ 음성 파일 업로드 완료: audioFileId={}", audioFileEntity.getId());
+            log.info("✅ 음성 파일 업로드 완료: audioFileId={}, 전사 대기열 등록={}", audioFileEntity.getId(), queued);
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("message", "음성 파일이 업로드되었습니다. 전사가 시작됩니다.");
+            response.put("message", queued ? "음성 파일이 업로드되었습니다. 전사가 시작됩니다."
+                    : "음성 파일이 업로드되었습니다. 요청이 많아 전사를 시작하지 못했습니다. 잠시 후 전사를 다시 시도해 주세요.");
             response.put("audioFileId", audioFileEntity.getId());
             response.put("fileName", originalFilename);
             response.put("fileSize", audioFile.getSize());
-            response.put("transcriptionStatus", "PENDING");
+            response.put("transcriptionStatus", queued ? "PENDING" : "FAILED");
 
             return ResponseEntity.ok(response);
 
@@ -176,6 +178,46 @@ public class ClinicalAutomationController {
         }
     }
 
+    /**
+     * 2-1. 실패한 전사 재시도 POST /api/v1/clinical-automation/audio-files/{id}/retry-transcription
+     *
+     * <p>FAILED 이거나 오래 멈춘 전사만 선점해 다시 시작하므로 진행 중인 전사와 겹치지 않는다. 긴 녹음은 끝난 청크
+     * 체크포인트가 남아 있어 남은 청크만 다시 인식한다. 전사 실행기가 포화면 503 으로 응답한다.</p>
+     */
+    @PostMapping("/audio-files/{id}/retry-transcription")
+    public ResponseEntity<Map<String, Object>> retryTranscription(@PathVariable Long id) {
+        log.info("🔁 전사 재시도 요청: audioFileId={}", id);
+
+        try {
+            String tenantId = TenantContextHolder.getRequiredTenantId();
+            ConsultationAudioFile audioFile = audioFileRepository.findByTenantIdAndId(tenantId, id)
+                    .orElseThrow(() -> new IllegalArgumentException("음성 파일을 찾을 수 없습니다."));
+
+            if (!speechToTextService.claimTranscriptionRetry(audioFile.getId())) {
+                return createErrorResponse("재시도할 수 없는 전사 상태입니다: " + audioFile.getTranscriptionStatus(),
+                        HttpStatus.CONFLICT);
+            }
+
+            if (!submitTranscription(audioFile.getId())) {
+                return createErrorResponse("요청이 많아 전사를 시작하지 못했습니다. 잠시 후 다시 시도해 주세요.",
+                        HttpStatus.SERVICE_UNAVAILABLE);
+            }
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "전사를 다시 시작합니다.");
+            response.put("audioFileId", audioFile.getId());
+            response.put("transcriptionStatus", "PROCESSING");
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("❌ 전사 재시도 실패: audioFileId={}, error={}", id, e.getMessage(), e);
+            return createErrorResponse("전사 재시도 실패: " + e.getMessage(),
+                    HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     /**
      * 3. SOAP 노트 자동 생성 POST /api/v1/clinical-automation/consultation-records/{id}/generate-soap
      */
@@ -488,6 +530,21 @@ public class ClinicalAutomationController {
     /**
      * 에러 응답 생성
      */
+    /**
+     * 전사 실행기에 작업을 넣는다. 포화로 거부되면 전사를 FAILED 로 남긴다.
+     *
+     * @return 대기열에 들어갔으면 true
+     */
+    private boolean submitTranscription(Long audioFileId) {
+        try {
+            speechToTextService.transcribeAudioAsync(audioFileId);
+            return true;
+        } catch (RejectedExecutionException e) {
+            speechToTextService.markTranscriptionRejected(audioFileId);
+            return false;
+        }
+    }
+
     private ResponseEntity<Map<String, Object>> createErrorResponse(String message,
             HttpStatus status) {
         Map<String, Object> response = new HashMap<>();
@@ -27,6 +27,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
@@ -136,6 +137,58 @@ public class ConsultantRecordsController {
         }
     }
     
+    /**
+     * 상담사별 상담일지 전문 검색 (관련도 순, 필드별 하이라이트)
+     * - 관리자: 모든 상담사의 기록 검색 가능
+     * - 상담사: 본인 기록만 검색 가능
+     * GET /api/v1/admin/consultant-records/{consultantId}/consultation-records/search?keyword=
+     */
+    @GetMapping("/{consultantId}/consultation-records/search")
+    public ResponseEntity<Map<String, Object>> searchConsultationRecords(
+            @PathVariable Long consultantId,
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            HttpSession session) {
+        
+        log.info("상담일지 검색: consultantId={}, page={}, size={}", consultantId, page, size);
+        
+        User currentUser = SessionUtils.getCurrentUser(session);
+        if (currentUser == null) {
+            return ResponseEntity.status(401)
+                    .body(Map.of("success", false, "message", "로그인이 필요합니다."));
+        }
+        if (!SessionUtils.isAdmin(session) && !consultantId.equals(currentUser.getId())) {
+            return ResponseEntity.status(403)
+                    .body(Map.of("success", false, "message", "본인의 상담일지만 검색할 수 있습니다."));
+        }
+        if (keyword.isBlank()) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("success", false, "message", "검색어를 입력해 주세요."));
+        }
+        
+        try {
+            Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), 100));
+            var hits = consultationRecordService.searchConsultationRecordsWithHighlights(
+                    consultantId, UserRole.CONSULTANT.name(), keyword, pageable);
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", hits.getContent());
+            response.put("totalCount", hits.getTotalElements());
+            response.put("page", hits.getNumber());
+            response.put("size", hits.getSize());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("상담일지 검색 실패: consultantId={}, error={}", consultantId, e.getMessage(), e);
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", "상담일지 검색에 실패했습니다: " + e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+    
     /**
      * 상담기록 삭제 (소프트 삭제)
      * DELETE /api/consultant/{consultantId}/consultation-records/{recordId}
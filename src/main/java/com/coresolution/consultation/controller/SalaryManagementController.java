@@ -4,15 +4,18 @@ package com.coresolution.consultation.controller;
 // Phase 2 2026-03-16: BaseApiController 상속, success/created 응답, 예외 공통 핸들러 위임
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import com.coresolution.consultation.constant.salary.PlSqlSalaryProcedureUserFacingMessages;
 import com.coresolution.consultation.dto.CommonCodeDto;
 import com.coresolution.consultation.dto.ConsultantSalaryProfileRequest;
 import com.coresolution.consultation.dto.ConsultantSalaryProfileResponse;
+import com.coresolution.consultation.dto.SalaryExportBatchRequest;
 import com.coresolution.consultation.dto.SalaryExportRequest;
 import com.coresolution.consultation.dto.TaxCalculateRequest;
 import com.coresolution.consultation.entity.CommonCode;
@@ -23,6 +26,9 @@ import com.coresolution.consultation.entity.User;
 import com.coresolution.consultation.exception.ForbiddenException;
 import com.coresolution.consultation.exception.UnauthorizedException;
 import com.coresolution.consultation.exception.ValidationException;
+import com.coresolution.consultation.salaryexport.SalaryExportContent;
+import com.coresolution.consultation.salaryexport.SalaryExportDownloadStore;
+import com.coresolution.consultation.salaryexport.SalaryExportFormat;
 import com.coresolution.consultation.service.CommonCodeService;
 import com.coresolution.consultation.service.DynamicPermissionService;
 import com.coresolution.consultation.service.RoleCommonCodeAuthorizationService;
@@ -30,12 +36,18 @@ import com.coresolution.consultation.service.PlSqlSalaryManagementService;
 import com.coresolution.consultation.service.SalaryExportService;
 import com.coresolution.consultation.service.SalaryManagementService;
 import com.coresolution.consultation.service.SalaryScheduleService;
+import com.coresolution.consultation.service.salary.SalaryPreviewCache;
 import com.coresolution.consultation.util.PermissionCheckUtils;
 import com.coresolution.consultation.util.SalaryCalculationResponseMapper;
 import com.coresolution.consultation.utils.SessionUtils;
 import com.coresolution.core.context.TenantContextHolder;
 import com.coresolution.core.controller.BaseApiController;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -45,6 +57,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -71,6 +84,7 @@ public class SalaryManagementController extends BaseApiController {
     private final RoleCommonCodeAuthorizationService roleCommonCodeAuthorizationService;
 
     private final SalaryExportService salaryExportService;
+    private final SalaryPreviewCache salaryPreviewCache;
 
     /**
      * 급여 관리(SALARY_MANAGE) 권한이 없으면 예외를 던진다. 관리자(ADMIN)는 동적 권한 체크에서 자동 통과한다.
@@ -136,6 +150,62 @@ public class SalaryManagementController extends BaseApiController {
         return success("급여 CSV 파일을 생성했습니다.", payload);
     }
 
+    /**
+     * 급여 계산 단건 스트리밍 다운로드 (요청 {@code format}: PDF/EXCEL/CSV, 기본 PDF). data URI 없이 응답 본문에 바로 쓴다.
+     */
+    @PostMapping("/export/stream")
+    public ResponseEntity<StreamingResponseBody> streamSalaryExport(
+            @RequestBody @Valid SalaryExportRequest request,
+            HttpSession session) {
+        requireUserAndTenantForSalaryExport(session);
+        requireSalaryManagePermission(session);
+        SalaryExportFormat format = SalaryExportFormat.from(request.getFormat(), SalaryExportFormat.PDF);
+        return streamingAttachment(salaryExportService.openExport(request, format));
+    }
+
+    /**
+     * 여러 상담사 급여 명세 ZIP 스트리밍 다운로드. 엔트리는 한 건씩 렌더링해 곧바로 압축한다.
+     */
+    @PostMapping("/export/batch")
+    public ResponseEntity<StreamingResponseBody> exportSalaryPayslipArchive(
+            @RequestBody @Valid SalaryExportBatchRequest request,
+            HttpSession session) {
+        requireUserAndTenantForSalaryExport(session);
+        requireSalaryManagePermission(session);
+        return streamingAttachment(salaryExportService.openPayslipArchive(request));
+    }
+
+    /**
+     * 다운로드 토큰({@code delivery=DOWNLOAD_TOKEN} 응답의 downloadUrl) 파일 내려받기. 만료·타 테넌트 토큰은 404.
+     */
+    @GetMapping("/export/download/{token}")
+    public ResponseEntity<Resource> downloadSalaryExport(@PathVariable String token, HttpSession session) {
+        requireUserAndTenantForSalaryExport(session);
+        requireSalaryManagePermission(session);
+        Optional<SalaryExportDownloadStore.StoredDownload> download = salaryExportService.findDownload(token);
+        if (download.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        SalaryExportDownloadStore.StoredDownload stored = download.get();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(stored.contentType()))
+                .contentLength(stored.size())
+                .header(HttpHeaders.CONTENT_DISPOSITION, attachmentDisposition(stored.filename()))
+                .body(new FileSystemResource(stored.path()));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> streamingAttachment(SalaryExportContent content) {
+        StreamingResponseBody body = out -> content.writer().writeTo(out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(content.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, attachmentDisposition(content.filename()))
+                .body(body);
+    }
+
+    private static String attachmentDisposition(String filename) {
+        return ContentDisposition.attachment().filename(filename, StandardCharsets.UTF_8).build().toString();
+    }
+
     private void requireUserAndTenantForSalaryExport(HttpSession session) {
         User currentUser = SessionUtils.getCurrentUser(session);
         if (currentUser == null) {
@@ -381,6 +451,11 @@ public class SalaryManagementController extends BaseApiController {
     
     /**
      * 급여 계산 미리보기 (저장하지 않음)
+     *
+     * <p>{@link SalaryPreviewCache} 결과다. 일정·매칭·급여 프로필·급여 규칙 변경은 어느 인스턴스에서 했든 다음
+     * 요청부터 반영되지만, 프로시저·일괄 SQL·상담사 등급 변경처럼 DB 를 직접 바꾼 경우는
+     * {@code mindgarden.salary.preview.ttl} (기본 2분) 까지 이전 값이 나올 수 있다. 확정({@code /confirm})은 캐시를
+     * 쓰지 않는다.</p>
      */
     @PostMapping("/calculate")
     public ResponseEntity<?> calculateSalaryPreview(
@@ -396,9 +471,7 @@ public class SalaryManagementController extends BaseApiController {
             TenantContextHolder.setTenantId(currentUser.getTenantId());
         }
         requireSalaryManagePermission(session);
-        Map<String, Object> result = plSqlSalaryManagementService.calculateSalaryPreview(
-            consultantId, periodStart, periodEnd
-        );
+        Map<String, Object> result = salaryPreviewCache.preview(consultantId, periodStart, periodEnd);
         if (!Boolean.TRUE.equals(result.get("success"))) {
             throw new ValidationException(
                     userFacingMessageFromProcedureResult(result, "급여 계산 미리보기에 실패했습니다."));
@@ -434,6 +507,8 @@ public class SalaryManagementController extends BaseApiController {
                     userFacingMessageFromProcedureResult(result,
                             PlSqlSalaryProcedureUserFacingMessages.INTEGRATED_CALC_FAILURE_WHEN_DB_SILENT));
         }
+        // 확정은 프로시저가 특별지원금 지급 기록을 남겨 다음 미리보기의 특별지원금이 바뀐다.
+        salaryPreviewCache.invalidateConsultant(TenantContextHolder.getTenantId(), consultantId);
         return success("급여 계산이 확정되었습니다.", result);
     }
 
@@ -1399,37 +1399,47 @@ public class ScheduleController extends BaseApiController {
         
         log.info("✅ 관리자 권한 확인 완료, 스케줄 조회 진행");
         
+        boolean filterByStatus = status != null && !status.isEmpty() && !"ALL".equals(status);
+        if (filterByStatus && !isValidScheduleStatus(status)) {
+            log.warn("⚠️ 유효하지 않은 스케줄 상태: {}", status);
+            throw new IllegalArgumentException("유효하지 않은 스케줄 상태입니다: " + status);
+        }
+
         List<Schedule> schedules;
         
-        if (consultantId != null) {
-            schedules = scheduleService.findByConsultantId(consultantId);
+        if (startDate != null && !startDate.isEmpty() && endDate != null && !endDate.isEmpty()) {
+            // 구간이 주어지면 테넌트 전체를 읽지 않고 구간·상태·상담사 조건을 DB 에서 건다
+            ScheduleStatus statusValue = filterByStatus ? toScheduleStatusOrNull(status) : null;
+            schedules = filterByStatus && statusValue == null
+                ? new ArrayList<>()
+                : scheduleRepository.findAdminScheduleWindow(TenantContextHolder.getRequiredTenantId(),
+                        LocalDate.parse(startDate), LocalDate.parse(endDate), statusValue, consultantId);
         } else {
-            schedules = scheduleService.findAll();
-        }
-        
-        if (status != null && !status.isEmpty() && !"ALL".equals(status)) {
-            if (isValidScheduleStatus(status)) {
+            if (consultantId != null) {
+                schedules = scheduleService.findByConsultantId(consultantId);
+            } else {
+                schedules = scheduleService.findAll();
+            }
+            
+            if (filterByStatus) {
                 schedules = schedules.stream()
                     .filter(schedule -> status.equals(schedule.getStatus().name()))
                     .collect(Collectors.toList());
-            } else {
-                log.warn("⚠️ 유효하지 않은 스케줄 상태: {}", status);
-                throw new IllegalArgumentException("유효하지 않은 스케줄 상태입니다: " + status);
             }
-        }
-        
-        if (startDate != null && !startDate.isEmpty()) {
-            LocalDate start = LocalDate.parse(startDate);
-            schedules = schedules.stream()
-                .filter(schedule -> schedule.getDate().isAfter(start) || schedule.getDate().isEqual(start))
-                .collect(Collectors.toList());
-        }
-        
-        if (endDate != null && !endDate.isEmpty()) {
-            LocalDate end = LocalDate.parse(endDate);
-            schedules = schedules.stream()
-                .filter(schedule -> schedule.getDate().isBefore(end) || schedule.getDate().isEqual(end))
-                .collect(Collectors.toList());
+            
+            if (startDate != null && !startDate.isEmpty()) {
+                LocalDate start = LocalDate.parse(startDate);
+                schedules = schedules.stream()
+                    .filter(schedule -> schedule.getDate().isAfter(start) || schedule.getDate().isEqual(start))
+                    .collect(Collectors.toList());
+            }
+            
+            if (endDate != null && !endDate.isEmpty()) {
+                LocalDate end = LocalDate.parse(endDate);
+                schedules = schedules.stream()
+                    .filter(schedule -> schedule.getDate().isBefore(end) || schedule.getDate().isEqual(end))
+                    .collect(Collectors.toList());
+            }
         }
 
         String tenantId = TenantContextHolder.getTenantId();
@@ -1579,6 +1589,17 @@ public class ScheduleController extends BaseApiController {
         return updateData.containsKey("status");
     }
 
+    /**
+     * 공통코드 상태값을 스케줄 상태 enum 으로 변환 (enum 에 없는 코드면 null → 일치 스케줄 없음).
+     */
+    private static ScheduleStatus toScheduleStatusOrNull(String status) {
+        try {
+            return ScheduleStatus.valueOf(status);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     /**
      /**
      * 유효한 스케줄 상태인지 확인
@@ -1,10 +1,14 @@
 package com.coresolution.consultation.controller;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import com.coresolution.consultation.entity.AiUsageLog;
 import com.coresolution.consultation.entity.User;
@@ -19,6 +23,8 @@ import com.coresolution.consultation.utils.SessionUtils;
 import com.coresolution.core.context.TenantContextHolder;
 import com.coresolution.core.controller.BaseApiController;
 import com.coresolution.core.dto.ApiResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -28,6 +34,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.beans.factory.annotation.Autowired;
 import jakarta.servlet.http.HttpSession;
 import lombok.extern.slf4j.Slf4j;
@@ -52,17 +59,23 @@ public class WellnessAdminController extends BaseApiController {
     private final AiUsageLogRepository usageLogRepository;
     private final SystemConfigService systemConfigService;
     private final ExchangeRateService exchangeRateService;
+    private final Executor aiStreamingExecutor;
+    
+    /** 스트리밍 테스트 SSE 연결 최대 유지 시간 (ms) */
+    private static final long CONTENT_STREAM_TIMEOUT_MS = 2 * 60 * 1000L;
     
     // 생성자 주입 (스케줄러는 필드 주입으로 선택적 처리)
     public WellnessAdminController(
             WellnessTemplateService wellnessTemplateService,
             AiUsageLogRepository usageLogRepository,
             SystemConfigService systemConfigService,
-            ExchangeRateService exchangeRateService) {
+            ExchangeRateService exchangeRateService,
+            @Qualifier("aiStreamingExecutor") Executor aiStreamingExecutor) {
         this.wellnessTemplateService = wellnessTemplateService;
         this.usageLogRepository = usageLogRepository;
         this.systemConfigService = systemConfigService;
         this.exchangeRateService = exchangeRateService;
+        this.aiStreamingExecutor = aiStreamingExecutor;
     }
     
     /**
@@ -336,5 +349,53 @@ public class WellnessAdminController extends BaseApiController {
         
         return success("테스트 컨텐츠 생성 성공", content);
     }
+    
+    /**
+     * 웰니스 컨텐츠 테스트 스트리밍 생성 (SSE)
+     * - 이벤트: delta(LLM 원문 조각), done(파싱된 컨텐츠)
+     * - 요청 스레드는 즉시 반환, 생성은 aiStreamingExecutor 에서 진행
+     */
+    @PostMapping(value = "/test/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter testWellnessContentStream(@RequestBody Map<String, Object> request) {
+        Integer dayOfWeek = (Integer) request.getOrDefault("dayOfWeek", 1);
+        String season = (String) request.getOrDefault("season", "SPRING");
+        String category = (String) request.getOrDefault("category", "MENTAL");
+        
+        SseEmitter emitter = new SseEmitter(CONTENT_STREAM_TIMEOUT_MS);
+        AtomicBoolean clientGone = new AtomicBoolean(false);
+        emitter.onCompletion(() -> clientGone.set(true));
+        emitter.onTimeout(() -> clientGone.set(true));
+        emitter.onError(e -> clientGone.set(true));
+        try {
+            aiStreamingExecutor.execute(() -> {
+                try {
+                    WellnessAiService.WellnessContent content = wellnessTemplateService.generateWellnessContentStreaming(
+                            dayOfWeek, season, category, "ADMIN_TEST",
+                            delta -> sendEvent(emitter, clientGone, "delta", delta));
+                    sendEvent(emitter, clientGone, "done", content);
+                } catch (Exception e) {
+                    log.error("❌ 웰니스 스트리밍 생성 실패", e);
+                    sendEvent(emitter, clientGone, "error", Map.of("message", "컨텐츠 생성 중 오류가 발생했습니다."));
+                }
+                emitter.complete();
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("⚠️ 웰니스 스트리밍 요청 거부 (실행기 포화)");
+            sendEvent(emitter, clientGone, "error", Map.of("message", "요청이 많아 잠시 후 다시 시도해 주세요."));
+            emitter.complete();
+        }
+        return emitter;
+    }
+    
+    private static void sendEvent(SseEmitter emitter, AtomicBoolean clientGone, String name, Object data) {
+        if (clientGone.get()) {
+            return;
+        }
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        } catch (IOException | IllegalStateException e) {
+            clientGone.set(true);
+        }
+    }
 }
 
@@ -204,5 +204,32 @@ public class FinancialStatementController extends BaseApiController {
         }
         return success(statement);
     }
-}
 
+    /**
+     * 비교 손익계산서 (전년 대비)
+     * - GET .../income/comparative?startDate=2026-01-01&endDate=2026-09-30&years=3
+     *   (요청 기간 + 직전 2개 연도 같은 기간, periods·changes 응답)
+     */
+    @GetMapping("/income/comparative")
+    public ResponseEntity<?> getComparativeIncomeStatement(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "2") int years,
+            HttpSession session) {
+        ResponseEntity<?> accessCheck = checkErpAccess(session);
+        if (accessCheck != null) {
+            return accessCheck;
+        }
+        if (years < 1 || years > 10 || startDate.isAfter(endDate)) {
+            return ResponseEntity.badRequest().body(Map.of("success", false, "message",
+                    "startDate <= endDate, years 는 1~10 이어야 합니다."));
+        }
+
+        String tenantId = TenantContextHolder.getRequiredTenantId();
+        log.info("비교 손익계산서 조회: tenantId={}, startDate={}, endDate={}, years={}", tenantId, startDate, endDate,
+                years);
+
+        return success(financialStatementService.generateComparativeIncomeStatement(tenantId, startDate, endDate,
+                years));
+    }
+}
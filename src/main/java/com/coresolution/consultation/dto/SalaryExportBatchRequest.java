@@ -0,0 +1,45 @@
+package com.coresolution.consultation.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+/**
+ * 여러 상담사 급여 명세 ZIP 묶음 요청 본문. 엔트리마다 {@link SalaryExportRequest}와 같은 옵션을 적용한다.
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Data
+public class SalaryExportBatchRequest {
+
+    /** 묶을 급여 계산 ID (요청 순서대로 ZIP 엔트리 생성, 중복은 한 번만) */
+    @NotEmpty
+    private List<Long> calculationIds;
+
+    /** 엔트리 형식 PDF/EXCEL/CSV — 없으면 PDF */
+    private String format;
+
+    private Boolean includeTaxDetails;
+
+    private Boolean includeCalculationDetails;
+
+    private String period;
+
+    /**
+     * 엔트리 1건용 단건 요청. 상담사명은 급여 계산마다 다시 해석하도록 비워 둔다.
+     *
+     * @param calculationId 급여 계산 ID
+     * @return 단건 요청
+     */
+    public SalaryExportRequest toEntryRequest(Long calculationId) {
+        SalaryExportRequest entry = new SalaryExportRequest();
+        entry.setCalculationId(calculationId);
+        entry.setFormat(format);
+        entry.setIncludeTaxDetails(includeTaxDetails);
+        entry.setIncludeCalculationDetails(includeCalculationDetails);
+        entry.setPeriod(period);
+        return entry;
+    }
+}
@@ -40,6 +40,12 @@ public class SalaryExportRequest {
      */
     private Boolean includeAttachmentInEmail;
 
+    /**
+     * 결과 전달 방식. null·{@code DATA_URI}이면 기존처럼 downloadUrl 에 base64 data URI,
+     * {@code DOWNLOAD_TOKEN}이면 임시 파일로 쓰고 downloadUrl 에 토큰 다운로드 경로를 준다.
+     */
+    private String delivery;
+
     /**
      * {@code includeAttachmentInEmail}이 null이면 true(기존 호환).
      */
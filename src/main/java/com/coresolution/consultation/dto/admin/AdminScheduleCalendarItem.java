@@ -0,0 +1,49 @@
+package com.coresolution.consultation.dto.admin;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 관리자 스케줄 캘린더 항목 — 스케줄 표시 컬럼 + 상담사·내담자 표시명.
+ *
+ * @param id               스케줄 PK
+ * @param title            제목
+ * @param date             일자
+ * @param startTime        시작 시각
+ * @param endTime          종료 시각
+ * @param status           상태 코드
+ * @param scheduleType     일정 유형
+ * @param consultationType 상담 유형
+ * @param consultantId     상담사 사용자 PK
+ * @param consultantName   상담사 표시명
+ * @param clientId         내담자 사용자 PK (없으면 null)
+ * @param clientName       내담자 표시명
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public record AdminScheduleCalendarItem(
+        Long id,
+        String title,
+        LocalDate date,
+        LocalTime startTime,
+        LocalTime endTime,
+        String status,
+        String scheduleType,
+        String consultationType,
+        Long consultantId,
+        String consultantName,
+        Long clientId,
+        String clientName) {
+
+    /**
+     * @param row            조회 행
+     * @param consultantName 상담사 표시명
+     * @param clientName     내담자 표시명
+     * @return 캘린더 항목
+     */
+    public static AdminScheduleCalendarItem of(ScheduleCalendarRow row, String consultantName, String clientName) {
+        return new AdminScheduleCalendarItem(row.id(), row.title(), row.date(), row.startTime(), row.endTime(),
+                row.status() != null ? row.status().name() : null, row.scheduleType(), row.consultationType(),
+                row.consultantId(), consultantName, row.clientId(), clientName);
+    }
+}
@@ -0,0 +1,67 @@
+package com.coresolution.consultation.dto.admin;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import com.coresolution.consultation.constant.ScheduleStatus;
+
+/**
+ * 관리자 스케줄 캘린더 조회 조건 — 조회 구간은 필수이며 {@link #MAX_WINDOW_DAYS} 일을 넘을 수 없다.
+ *
+ * @param startDate    시작일 (포함)
+ * @param endDate      종료일 (포함)
+ * @param status       상태 필터 (null 이면 전체)
+ * @param consultantId 상담사 필터 (null 이면 전체)
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public record AdminScheduleCalendarQuery(
+        LocalDate startDate,
+        LocalDate endDate,
+        ScheduleStatus status,
+        Long consultantId) {
+
+    /** 한 번에 조회할 수 있는 최대 일수 (월 보기 앞뒤 여백 포함 두 달) */
+    public static final int MAX_WINDOW_DAYS = 62;
+
+    /**
+     * 요청 파라미터로 조회 조건을 만든다.
+     *
+     * @param startDate    시작일 (yyyy-MM-dd, 필수)
+     * @param endDate      종료일 (yyyy-MM-dd, 필수)
+     * @param status       상태 코드 (비었거나 ALL 이면 전체)
+     * @param consultantId 상담사 ID
+     * @return 조회 조건
+     * @throws IllegalArgumentException 구간 누락·형식 오류·역전·최대 일수 초과, 알 수 없는 상태
+     */
+    public static AdminScheduleCalendarQuery of(String startDate, String endDate, String status,
+            Long consultantId) {
+        if (startDate == null || startDate.isBlank() || endDate == null || endDate.isBlank()) {
+            throw new IllegalArgumentException("캘린더 조회 시작일과 종료일은 필수입니다.");
+        }
+        LocalDate start;
+        LocalDate end;
+        try {
+            start = LocalDate.parse(startDate.trim());
+            end = LocalDate.parse(endDate.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("캘린더 조회 일자 형식이 올바르지 않습니다 (yyyy-MM-dd).", e);
+        }
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("캘린더 조회 종료일이 시작일보다 빠릅니다.");
+        }
+        if (ChronoUnit.DAYS.between(start, end) + 1 > MAX_WINDOW_DAYS) {
+            throw new IllegalArgumentException(
+                    String.format("캘린더 조회 구간은 최대 %d일입니다.", MAX_WINDOW_DAYS));
+        }
+        ScheduleStatus scheduleStatus = null;
+        if (status != null && !status.isBlank() && !"ALL".equals(status)) {
+            try {
+                scheduleStatus = ScheduleStatus.valueOf(status.trim());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("유효하지 않은 스케줄 상태입니다: " + status, e);
+            }
+        }
+        return new AdminScheduleCalendarQuery(start, end, scheduleStatus, consultantId);
+    }
+}
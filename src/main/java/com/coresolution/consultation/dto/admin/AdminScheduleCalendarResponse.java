@@ -0,0 +1,25 @@
+package com.coresolution.consultation.dto.admin;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 관리자 스케줄 캘린더 응답.
+ *
+ * @param startDate    조회 시작일
+ * @param endDate      조회 종료일
+ * @param status       상태 필터 (전체면 null)
+ * @param consultantId 상담사 필터 (전체면 null)
+ * @param count        항목 수
+ * @param schedules    캘린더 항목 (일자·시작 시각 순)
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public record AdminScheduleCalendarResponse(
+        LocalDate startDate,
+        LocalDate endDate,
+        String status,
+        Long consultantId,
+        int count,
+        List<AdminScheduleCalendarItem> schedules) {
+}
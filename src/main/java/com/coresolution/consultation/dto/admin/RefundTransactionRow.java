@@ -0,0 +1,43 @@
+package com.coresolution.consultation.dto.admin;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 환불 이력 — 환불 거래(CONSULTATION_REFUND / CONSULTATION_PARTIAL_REFUND) 1건 조회 행.
+ *
+ * <p>거래와 연결 매칭·상담사·내담자 이름을 한 쿼리로 가져온다 (JPQL 생성자 식). 매칭이 없거나 다른
+ * 테넌트면 {@code joinedMappingId} 이하 매칭 컬럼이 모두 null 이다.</p>
+ *
+ * @param transactionId   거래 PK
+ * @param transactionDate 거래 일자
+ * @param createdAt       거래 생성 시각
+ * @param amount          환불 금액
+ * @param description     거래 설명 (환불 회기수·사유 포함)
+ * @param relatedEntityId 거래에 기록된 매칭 ID (null 가능)
+ * @param joinedMappingId 조인된 매칭 PK (매칭 없으면 null)
+ * @param packageName     패키지명
+ * @param packagePrice    패키지 가격
+ * @param totalSessions   총 회기 수
+ * @param usedSessions    사용 회기 수
+ * @param consultantName  상담사 이름 (복호화)
+ * @param clientName      내담자 이름 (복호화)
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public record RefundTransactionRow(
+        Long transactionId,
+        LocalDate transactionDate,
+        LocalDateTime createdAt,
+        BigDecimal amount,
+        String description,
+        Long relatedEntityId,
+        Long joinedMappingId,
+        String packageName,
+        Long packagePrice,
+        Integer totalSessions,
+        Integer usedSessions,
+        String consultantName,
+        String clientName) {
+}
@@ -0,0 +1,34 @@
+package com.coresolution.consultation.dto.admin;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import com.coresolution.consultation.constant.ScheduleStatus;
+
+/**
+ * 관리자 스케줄 캘린더 — 스케줄 1건 조회 행 (캘린더 표시 컬럼만, JPQL 생성자 식).
+ *
+ * @param id               스케줄 PK
+ * @param title            제목
+ * @param date             일자
+ * @param startTime        시작 시각
+ * @param endTime          종료 시각
+ * @param status           상태
+ * @param scheduleType     일정 유형
+ * @param consultationType 상담 유형
+ * @param consultantId     상담사 사용자 PK
+ * @param clientId         내담자 사용자 PK (없으면 null)
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public record ScheduleCalendarRow(
+        Long id,
+        String title,
+        LocalDate date,
+        LocalTime startTime,
+        LocalTime endTime,
+        ScheduleStatus status,
+        String scheduleType,
+        String consultationType,
+        Long consultantId,
+        Long clientId) {
+}
@@ -0,0 +1,22 @@
+package com.coresolution.consultation.dto.admin;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 스케줄 캘린더 — 조회 구간 스케줄의 변경 지문 (ETag 계산용).
+ *
+ * <p>건수·id 합은 추가·삭제를, version 합·최종 수정 시각은 수정을 잡아낸다.</p>
+ *
+ * @param count         스케줄 건수
+ * @param versionSum    낙관적 잠금 version 합
+ * @param idSum         PK 합
+ * @param lastUpdatedAt 최종 수정 시각 (없으면 null)
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public record ScheduleWindowFingerprint(
+        Long count,
+        Long versionSum,
+        Long idSum,
+        LocalDateTime lastUpdatedAt) {
+}
@@ -0,0 +1,30 @@
+package com.coresolution.consultation.dto.admin;
+
+import java.time.LocalDateTime;
+
+/**
+ * 환불 이력 — 강제 종료(전체 환불)된 매칭 1건 조회 행.
+ *
+ * @param mappingId      매칭 PK
+ * @param terminatedAt   종료 시각
+ * @param notes          매칭 메모 (강제 종료 사유 포함)
+ * @param packageName    패키지명
+ * @param packagePrice   패키지 가격
+ * @param totalSessions  총 회기 수
+ * @param usedSessions   사용 회기 수
+ * @param consultantName 상담사 이름 (복호화)
+ * @param clientName     내담자 이름 (복호화)
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public record TerminatedRefundRow(
+        Long mappingId,
+        LocalDateTime terminatedAt,
+        String notes,
+        String packageName,
+        Long packagePrice,
+        Integer totalSessions,
+        Integer usedSessions,
+        String consultantName,
+        String clientName) {
+}
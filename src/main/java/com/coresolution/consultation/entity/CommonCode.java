@@ -1,7 +1,9 @@
 package com.coresolution.consultation.entity;
 
+import com.coresolution.consultation.service.salary.SalaryPreviewRuleListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
@@ -31,6 +33,7 @@ import lombok.NoArgsConstructor;
         columnNames = {"tenantId", "codeGroup", "codeValue"}
     )
 })
+@EntityListeners(SalaryPreviewRuleListener.class)
 @Data
 @Builder
 @NoArgsConstructor
@@ -1,9 +1,11 @@
 package com.coresolution.consultation.entity;
 
 import java.time.LocalDateTime;
+import com.coresolution.consultation.service.salary.SalaryPreviewRuleListener;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -37,6 +39,7 @@ import lombok.NoArgsConstructor;
     @Index(name = "idx_mapping_payment_status", columnList = "payment_status"),
     @Index(name = "idx_mapping_remaining_sessions", columnList = "remaining_sessions")
 })
+@EntityListeners(SalaryPreviewRuleListener.class)
 @Data
 @Builder
 @NoArgsConstructor
@@ -2,8 +2,10 @@ package com.coresolution.consultation.entity;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import com.coresolution.consultation.service.salary.SalaryPreviewRuleListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -32,6 +34,7 @@ import lombok.NoArgsConstructor;
     @Index(name = "idx_consultant_salary_type", columnList = "salary_type"),
     @Index(name = "idx_consultant_salary_is_active", columnList = "is_active")
 })
+@EntityListeners(SalaryPreviewRuleListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
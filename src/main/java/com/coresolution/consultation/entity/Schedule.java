@@ -4,15 +4,21 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import com.coresolution.consultation.constant.ScheduleStatus;
+import com.coresolution.consultation.service.salary.SalaryPreviewScheduleListener;
+import com.coresolution.consultation.service.schedule.ScheduleDueIndexListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 /**
  * 상담 일정 엔티티
@@ -29,6 +35,7 @@ import lombok.Data;
     @Index(name = "idx_schedules_is_deleted", columnList = "is_deleted"),
     @Index(name = "idx_schedules_tenant_mapping", columnList = "tenant_id, mapping_id")
 })
+@EntityListeners({SalaryPreviewScheduleListener.class, ScheduleDueIndexListener.class})
 @Data
 public class Schedule extends BaseEntity {
     
@@ -153,6 +160,14 @@ public class Schedule extends BaseEntity {
     @Column(name = "branch_code", length = 20)
     private String branchCode;
 
+    /**
+     * 마지막 로드·저장 시점의 급여 미리보기 일정 통계 몫 ({@link SalaryPreviewScheduleListener} 전용, 비영속).
+     */
+    @Transient
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient ScheduleSalaryContribution salarySnapshot;
+
     public String getBranchCode() {
         return branchCode;
     }
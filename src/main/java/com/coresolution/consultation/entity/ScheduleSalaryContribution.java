@@ -0,0 +1,82 @@
+package com.coresolution.consultation.entity;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import com.coresolution.consultation.constant.ScheduleStatus;
+
+/**
+ * 일정 1건이 급여 미리보기 일정 통계(완료 건수·상담 시간)에 더하는 몫.
+ *
+ * <p>엔티티 리스너가 로드·저장 시점의 몫을 {@link Schedule} 에 기억해 두었다가 다음 저장 때 새 몫과의 차이만
+ * 캐시된 미리보기에 반영한다. 시간은 프로시저 {@code TIMESTAMPDIFF(MINUTE, start_time, end_time) / 60.0} 과
+ * 같이 분 단위로 자른 뒤 소수 넷째 자리에서 반올림한 값이다.</p>
+ *
+ * @param tenantId     테넌트 ID
+ * @param consultantId 상담사 ID
+ * @param date         일정 일자
+ * @param completed    완료 일정인지
+ * @param hours        상담 시간 (시작·종료 시간이 없으면 0)
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public record ScheduleSalaryContribution(
+        String tenantId,
+        Long consultantId,
+        LocalDate date,
+        boolean completed,
+        BigDecimal hours) {
+
+    private static final BigDecimal MINUTES_PER_HOUR = BigDecimal.valueOf(60);
+
+    /**
+     * 현재 일정 상태의 몫.
+     *
+     * @param schedule 일정
+     * @return 몫. 삭제됐거나 테넌트·상담사·일자가 비어 통계 대상이 아니면 {@code null}
+     */
+    public static ScheduleSalaryContribution of(Schedule schedule) {
+        if (Boolean.TRUE.equals(schedule.getIsDeleted())
+                || schedule.getTenantId() == null
+                || schedule.getConsultantId() == null
+                || schedule.getDate() == null) {
+            return null;
+        }
+        return new ScheduleSalaryContribution(
+                schedule.getTenantId(),
+                schedule.getConsultantId(),
+                schedule.getDate(),
+                schedule.getStatus() == ScheduleStatus.COMPLETED,
+                hours(schedule.getStartTime(), schedule.getEndTime()));
+    }
+
+    /**
+     * 프로시저 집계식의 일정 1건 항.
+     *
+     * @param startTime 시작 시간
+     * @param endTime   종료 시간
+     * @return 시간 (소수 넷째 자리). 한쪽이 비면 SQL {@code SUM} 이 건너뛰는 NULL 항이라 0
+     */
+    public static BigDecimal hours(LocalTime startTime, LocalTime endTime) {
+        if (startTime == null || endTime == null) {
+            return BigDecimal.ZERO.setScale(4);
+        }
+        return BigDecimal.valueOf(ChronoUnit.MINUTES.between(startTime, endTime))
+                .divide(MINUTES_PER_HOUR, 4, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * @param other 다른 몫
+     * @return 통계에 반영할 차이가 없는지
+     */
+    public boolean sameAs(ScheduleSalaryContribution other) {
+        return other != null
+                && tenantId.equals(other.tenantId)
+                && consultantId.equals(other.consultantId)
+                && date.equals(other.date)
+                && completed == other.completed
+                && hours.compareTo(other.hours) == 0;
+    }
+}
@@ -0,0 +1,85 @@
+package com.coresolution.consultation.entity.erp.financial;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 회계 거래 1건이 일별 집계({@code financial_daily_aggregates})에 더하는 몫.
+ *
+ * <p>엔티티 리스너가 로드·저장 시점의 몫을 {@link FinancialTransaction} 에 기억해 두었다가 다음 저장 때
+ * 새 몫과의 차이만 집계에 반영한다.</p>
+ *
+ * @param tenantId             테넌트 ID
+ * @param date                 거래일자
+ * @param transactionType      거래 유형
+ * @param status               거래 상태
+ * @param category             카테고리 (없으면 빈 문자열)
+ * @param amount               거래 금액
+ * @param taxAmount            부가세
+ * @param withholdingTaxAmount 원천징수액
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public record FinancialAggregateContribution(
+        String tenantId,
+        LocalDate date,
+        String transactionType,
+        String status,
+        String category,
+        BigDecimal amount,
+        BigDecimal taxAmount,
+        BigDecimal withholdingTaxAmount) {
+
+    /**
+     * 현재 거래 상태의 몫.
+     *
+     * @param transaction 거래
+     * @return 몫. 삭제됐거나 테넌트·일자·유형·상태가 비어 집계 대상이 아니면 {@code null}
+     */
+    public static FinancialAggregateContribution of(FinancialTransaction transaction) {
+        if (Boolean.TRUE.equals(transaction.getIsDeleted())
+                || transaction.getTenantId() == null
+                || transaction.getTransactionDate() == null
+                || transaction.getTransactionType() == null
+                || transaction.getStatus() == null) {
+            return null;
+        }
+        return new FinancialAggregateContribution(
+                transaction.getTenantId(),
+                transaction.getTransactionDate(),
+                transaction.getTransactionType().name(),
+                transaction.getStatus().name(),
+                transaction.getCategory() != null ? transaction.getCategory() : "",
+                orZero(transaction.getAmount()),
+                orZero(transaction.getTaxAmount()),
+                orZero(transaction.getWithholdingTaxAmount()));
+    }
+
+    /**
+     * @param other 다른 몫
+     * @return 같은 집계 행에 더해지는지
+     */
+    public boolean sameKey(FinancialAggregateContribution other) {
+        return other != null
+                && tenantId.equals(other.tenantId)
+                && date.equals(other.date)
+                && transactionType.equals(other.transactionType)
+                && status.equals(other.status)
+                && category.equals(other.category);
+    }
+
+    /**
+     * @param other 다른 몫
+     * @return 같은 행이고 금액도 같아 집계에 반영할 차이가 없는지
+     */
+    public boolean sameAs(FinancialAggregateContribution other) {
+        return sameKey(other)
+                && amount.compareTo(other.amount) == 0
+                && taxAmount.compareTo(other.taxAmount) == 0
+                && withholdingTaxAmount.compareTo(other.withholdingTaxAmount) == 0;
+    }
+
+    private static BigDecimal orZero(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+}
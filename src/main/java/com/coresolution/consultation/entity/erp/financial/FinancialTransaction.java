@@ -7,6 +7,7 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -19,6 +20,7 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -31,6 +33,7 @@ import lombok.ToString;
 import com.coresolution.consultation.entity.CommonCode;
 import com.coresolution.consultation.entity.User;
 import com.coresolution.consultation.entity.BaseEntity;
+import com.coresolution.consultation.service.erp.financial.FinancialDailyAggregateListener;
 
 /**
  * 회계 거래 엔티티.
@@ -46,6 +49,7 @@ import com.coresolution.consultation.entity.BaseEntity;
     @Index(name = "idx_financial_transaction_date", columnList = "transaction_date"),
     @Index(name = "idx_financial_transaction_type", columnList = "transaction_type"),
 })
+@EntityListeners(FinancialDailyAggregateListener.class)
 @Data
 @Builder
 @NoArgsConstructor
@@ -230,6 +234,14 @@ public class FinancialTransaction extends BaseEntity {
      */
     private String remarks;
 
+    /**
+     * 마지막 로드·저장 시점의 일별 집계 몫 ({@link FinancialDailyAggregateListener} 전용, 비영속).
+     */
+    @Transient
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient FinancialAggregateContribution aggregateSnapshot;
+    
     @PrePersist
     protected void onCreate() {
         if (status == null) {
@@ -2,6 +2,7 @@ package com.coresolution.consultation.repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import com.coresolution.consultation.dto.admin.TerminatedRefundRow;
 import com.coresolution.consultation.entity.ConsultantClientMapping;
 import com.coresolution.consultation.entity.User;
 import org.springframework.data.domain.Page;
@@ -250,4 +251,38 @@ public interface ConsultantClientMappingRepository extends BaseRepository<Consul
             @Param("tenantId") String tenantId,
             @Param("threshold") LocalDateTime threshold,
             Pageable pageable);
+
+    /**
+     * 환불 이력 keyset 페이지 — 강제 종료된 매칭을 상담사·내담자 이름과 함께 조회한다.
+     *
+     * <p>정렬은 (terminatedAt DESC, id DESC) 이며, 직전 페이지 마지막 행의 (boundAt, boundId) 보다 뒤의
+     * 행만 반환한다. 첫 페이지는 boundAt = to, boundId = {@link Long#MIN_VALUE}.</p>
+     *
+     * @param tenantId     테넌트 ID
+     * @param status       종료 상태
+     * @param from         종료 시각 하한 (미포함)
+     * @param to           종료 시각 상한 (미포함)
+     * @param notesPattern 메모 LIKE 패턴 (강제 종료 표기)
+     * @param boundAt      keyset 경계 종료 시각
+     * @param boundId      keyset 경계 매칭 id
+     * @param pageable     조회 상한 (정렬은 쿼리에 고정)
+     * @return 강제 종료 매칭 행 목록
+     */
+    @Query("SELECT new com.coresolution.consultation.dto.admin.TerminatedRefundRow("
+            + "m.id, m.terminatedAt, m.notes, m.packageName, m.packagePrice, m.totalSessions, m.usedSessions, "
+            + "c.name, cl.name) "
+            + "FROM ConsultantClientMapping m LEFT JOIN m.consultant c LEFT JOIN m.client cl "
+            + "WHERE m.tenantId = :tenantId AND m.status = :status "
+            + "AND m.terminatedAt > :from AND m.terminatedAt < :to AND m.notes LIKE :notesPattern "
+            + "AND (m.terminatedAt < :boundAt OR (m.terminatedAt = :boundAt AND m.id < :boundId)) "
+            + "ORDER BY m.terminatedAt DESC, m.id DESC")
+    List<TerminatedRefundRow> findTerminatedRefundRows(
+            @Param("tenantId") String tenantId,
+            @Param("status") ConsultantClientMapping.MappingStatus status,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("notesPattern") String notesPattern,
+            @Param("boundAt") LocalDateTime boundAt,
+            @Param("boundId") Long boundId,
+            Pageable pageable);
 }
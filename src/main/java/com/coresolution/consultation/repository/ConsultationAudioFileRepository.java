@@ -1,8 +1,12 @@
 package com.coresolution.consultation.repository;
 
 import com.coresolution.consultation.entity.ConsultationAudioFile;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,4 +44,19 @@ public interface ConsultationAudioFileRepository extends BaseRepository<Consulta
      * ID로 조회 (삭제되지 않은 것만)
      */
     Optional<ConsultationAudioFile> findByIdAndIsDeletedFalse(Long id);
+
+    /**
+     * 전사 재시도 선점 (테넌트 필터링) — 업로드가 끝났고 전사가 FAILED 이거나, PENDING·PROCESSING 인 채로
+     * {@code staleBefore} 이전부터 갱신이 없는 파일만 PROCESSING 으로 바꾼다.
+     *
+     * @return 선점한 행 수 (0 이면 재시도할 수 없는 상태이거나 다른 요청이 먼저 선점)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ConsultationAudioFile f SET f.transcriptionStatus = 'PROCESSING', f.updatedAt = :now, "
+            + "f.version = f.version + 1 WHERE f.id = :id AND f.tenantId = :tenantId AND f.isDeleted = false "
+            + "AND f.uploadStatus = 'UPLOADED' AND (f.transcriptionStatus = 'FAILED' "
+            + "OR (f.transcriptionStatus IN ('PENDING', 'PROCESSING') "
+            + "AND (f.updatedAt IS NULL OR f.updatedAt < :staleBefore)))")
+    int claimTranscriptionRetry(@Param("id") Long id, @Param("tenantId") String tenantId,
+            @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
 }
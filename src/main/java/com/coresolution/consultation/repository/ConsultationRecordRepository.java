@@ -1,6 +1,7 @@
 package com.coresolution.consultation.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import com.coresolution.consultation.entity.ConsultationRecord;
@@ -32,6 +33,11 @@ public interface ConsultationRecordRepository extends JpaRepository<Consultation
      * 상담 ID로 상담일지 조회 (tenantId 필터링)
      */
     List<ConsultationRecord> findByTenantIdAndConsultationIdAndIsDeletedFalse(String tenantId, Long consultationId);
+
+    /**
+     * ID 목록으로 상담일지 조회 (tenantId 필터링) — 검색 색인 결과 적재용
+     */
+    List<ConsultationRecord> findByTenantIdAndIdInAndIsDeletedFalse(String tenantId, Collection<Long> ids);
     
     /**
      * @Deprecated - 🚨 극도로 위험: tenantId 필터링 없이 상담 기록 노출!
@@ -358,6 +364,14 @@ public interface ConsultationRecordRepository extends JpaRepository<Consultation
      * 특정 상담의 상담일지 존재 여부 확인 (tenantId 필터링)
      */
     boolean existsByTenantIdAndConsultationIdAndIsDeletedFalse(String tenantId, Long consultationId);
+
+    /**
+     * 상담일지가 있는 상담(일정) ID 일괄 조회 — 자동 완료 대상 일정의 존재 확인을 한 번에 한다 (tenantId 필터링)
+     */
+    @Query("SELECT DISTINCT cr.consultationId FROM ConsultationRecord cr WHERE cr.tenantId = :tenantId " +
+           "AND cr.consultationId IN :consultationIds AND cr.isDeleted = false")
+    List<Long> findConsultationIdsWithRecord(@Param("tenantId") String tenantId,
+                                             @Param("consultationIds") Collection<Long> consultationIds);
     
     /**
      * @Deprecated - 🚨 극도로 위험: tenantId 필터링 없이 상담 기록 노출!
@@ -60,6 +60,16 @@ public interface SalaryCalculationRepository extends BaseRepository<SalaryCalcul
     @Query("SELECT sc FROM SalaryCalculation sc LEFT JOIN FETCH sc.consultant WHERE sc.id = :id")
     Optional<SalaryCalculation> findByIdWithConsultant(@Param("id") @NonNull Long id);
 
+    /**
+     * 주어진 ID 중 테넌트에 속한 급여 계산 ID만 조회 (ZIP 묶음 사전 검증용, 엔티티 미로딩)
+     *
+     * @param tenantId 테넌트 ID
+     * @param ids      급여 계산 ID
+     * @return 테넌트 소속 ID
+     */
+    @Query("SELECT sc.id FROM SalaryCalculation sc WHERE sc.tenantId = :tenantId AND sc.id IN :ids")
+    List<Long> findIdsByTenantIdAndIdIn(@Param("tenantId") String tenantId, @Param("ids") Collection<Long> ids);
+
     /**
      * 테넌트·상태·기간별 급여 계산 조회 (테넌트 격리 필수)
      *
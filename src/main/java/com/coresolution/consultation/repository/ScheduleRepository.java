@@ -5,6 +5,8 @@ import java.time.LocalTime;
 import java.util.Collection;
 import java.util.List;
 import com.coresolution.consultation.constant.ScheduleStatus;
+import com.coresolution.consultation.dto.admin.ScheduleCalendarRow;
+import com.coresolution.consultation.dto.admin.ScheduleWindowFingerprint;
 import com.coresolution.consultation.entity.Schedule;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -967,6 +969,15 @@ public interface ScheduleRepository extends BaseRepository<Schedule, Long> {
         @Param("date") LocalDate date,
         @Param("status") ScheduleStatus status
     );
+
+    /**
+     * 자동 완료 시각 색인이 꺼낸 일정 일괄 조회 (tenantId 필터링)
+     */
+    @Query("SELECT s FROM Schedule s WHERE s.tenantId = :tenantId AND s.id IN :ids")
+    List<Schedule> findByTenantIdAndIdIn(
+        @Param("tenantId") String tenantId,
+        @Param("ids") Collection<Long> ids
+    );
     
     /**
      * @Deprecated - 🚨 위험: tenantId 필터링 없이 스케줄 접근!
@@ -1403,4 +1414,80 @@ public interface ScheduleRepository extends BaseRepository<Schedule, Long> {
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate,
             @Param("statuses") Collection<ScheduleStatus> statuses);
+
+    /**
+     * 관리자 스케줄 캘린더 — 조회 구간의 스케줄 표시 컬럼만 조회 (상태·상담사 필터는 선택).
+     *
+     * @param tenantId     테넌트 ID
+     * @param startDate    시작일(포함)
+     * @param endDate      종료일(포함)
+     * @param status       상태 (null 이면 전체)
+     * @param consultantId 상담사 ID (null 이면 전체)
+     * @return 일자·시작 시각·id 순 조회 행
+     * @since 2026-10-19
+     */
+    @Query("SELECT new com.coresolution.consultation.dto.admin.ScheduleCalendarRow("
+            + "s.id, s.title, s.date, s.startTime, s.endTime, s.status, s.scheduleType, s.consultationType, "
+            + "s.consultantId, s.clientId) "
+            + "FROM Schedule s "
+            + "WHERE s.tenantId = :tenantId AND s.isDeleted = false "
+            + "AND s.date BETWEEN :startDate AND :endDate "
+            + "AND (:status IS NULL OR s.status = :status) "
+            + "AND (:consultantId IS NULL OR s.consultantId = :consultantId) "
+            + "ORDER BY s.date ASC, s.startTime ASC, s.id ASC")
+    List<ScheduleCalendarRow> findCalendarRows(
+            @Param("tenantId") String tenantId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("status") ScheduleStatus status,
+            @Param("consultantId") Long consultantId);
+
+    /**
+     * 관리자 스케줄 목록 — 조회 구간의 스케줄 엔티티 (상태·상담사 필터는 선택, {@link #findCalendarRows} 와 같은 조건).
+     *
+     * @param tenantId     테넌트 ID
+     * @param startDate    시작일(포함)
+     * @param endDate      종료일(포함)
+     * @param status       상태 (null 이면 전체)
+     * @param consultantId 상담사 ID (null 이면 전체)
+     * @return 일자·시작 시각·id 순 스케줄
+     * @since 2026-10-19
+     */
+    @Query("SELECT s FROM Schedule s "
+            + "WHERE s.tenantId = :tenantId AND s.isDeleted = false "
+            + "AND s.date BETWEEN :startDate AND :endDate "
+            + "AND (:status IS NULL OR s.status = :status) "
+            + "AND (:consultantId IS NULL OR s.consultantId = :consultantId) "
+            + "ORDER BY s.date ASC, s.startTime ASC, s.id ASC")
+    List<Schedule> findAdminScheduleWindow(
+            @Param("tenantId") String tenantId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("status") ScheduleStatus status,
+            @Param("consultantId") Long consultantId);
+
+    /**
+     * 관리자 스케줄 캘린더 — {@link #findCalendarRows} 와 같은 조건의 변경 지문 (집계 1행).
+     *
+     * @param tenantId     테넌트 ID
+     * @param startDate    시작일(포함)
+     * @param endDate      종료일(포함)
+     * @param status       상태 (null 이면 전체)
+     * @param consultantId 상담사 ID (null 이면 전체)
+     * @return 건수·version 합·id 합·최종 수정 시각
+     * @since 2026-10-19
+     */
+    @Query("SELECT new com.coresolution.consultation.dto.admin.ScheduleWindowFingerprint("
+            + "COUNT(s), COALESCE(SUM(s.version), 0L), COALESCE(SUM(s.id), 0L), MAX(s.updatedAt)) "
+            + "FROM Schedule s "
+            + "WHERE s.tenantId = :tenantId AND s.isDeleted = false "
+            + "AND s.date BETWEEN :startDate AND :endDate "
+            + "AND (:status IS NULL OR s.status = :status) "
+            + "AND (:consultantId IS NULL OR s.consultantId = :consultantId)")
+    ScheduleWindowFingerprint fingerprintCalendarWindow(
+            @Param("tenantId") String tenantId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("status") ScheduleStatus status,
+            @Param("consultantId") Long consultantId);
 }
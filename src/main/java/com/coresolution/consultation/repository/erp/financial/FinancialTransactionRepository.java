@@ -5,6 +5,7 @@ import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import com.coresolution.consultation.dto.admin.RefundTransactionRow;
 import com.coresolution.consultation.entity.erp.financial.FinancialTransaction;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -554,4 +555,54 @@ public interface FinancialTransactionRepository extends JpaRepository<FinancialT
             @Param("likeWithholdingKr") String likeWithholdingKr,
             @Param("likeBusinessIncomeKr") String likeBusinessIncomeKr,
             Pageable pageable);
+
+    /**
+     * 환불 이력 keyset 페이지 — 환불 거래를 매칭·상담사·내담자 이름과 함께 한 쿼리로 조회한다.
+     *
+     * <p>매칭 단위 중복 제거({@code AdminServiceImpl#dedupRefundTransactionsByMapping} 과 같은 규칙:
+     * 전체환불 우선 → 거래일 빠른 것 → id 작은 것)를 NOT EXISTS 로 DB 에서 처리하고, 매칭이 없는
+     * 거래는 그대로 남긴다. 정렬은 (transactionDate DESC, id DESC) 이며, 직전 페이지 마지막 행의
+     * (boundDate, boundId) 보다 뒤의 행만 반환한다. 첫 페이지는 boundDate = endDate + 1일,
+     * boundId = {@link Long#MIN_VALUE}.</p>
+     *
+     * @param tenantId         테넌트 ID
+     * @param transactionType  거래 유형 (EXPENSE)
+     * @param subcategories    환불 세부카테고리
+     * @param fullSubcategory  전체환불 세부카테고리 (중복 제거 우선순위)
+     * @param startDate        조회 시작일 (포함)
+     * @param endDate          조회 종료일 (포함)
+     * @param boundDate        keyset 경계 거래일
+     * @param boundId          keyset 경계 거래 id (같은 거래일에서 이 값보다 작은 id 만)
+     * @param pageable         조회 상한 (정렬은 쿼리에 고정)
+     * @return 환불 거래 행 목록
+     */
+    @Query("SELECT new com.coresolution.consultation.dto.admin.RefundTransactionRow("
+            + "t.id, t.transactionDate, t.createdAt, t.amount, t.description, t.relatedEntityId, "
+            + "m.id, m.packageName, m.packagePrice, m.totalSessions, m.usedSessions, c.name, cl.name) "
+            + "FROM FinancialTransaction t "
+            + "LEFT JOIN ConsultantClientMapping m ON m.id = t.relatedEntityId AND m.tenantId = t.tenantId "
+            + "LEFT JOIN m.consultant c LEFT JOIN m.client cl "
+            + "WHERE t.tenantId = :tenantId AND t.transactionType = :transactionType "
+            + "AND t.subcategory IN :subcategories AND t.isDeleted = false "
+            + "AND t.transactionDate BETWEEN :startDate AND :endDate "
+            + "AND (t.transactionDate < :boundDate OR (t.transactionDate = :boundDate AND t.id < :boundId)) "
+            + "AND NOT EXISTS (SELECT 1 FROM FinancialTransaction u "
+            + "  WHERE u.tenantId = t.tenantId AND u.relatedEntityId = t.relatedEntityId AND u.id <> t.id "
+            + "  AND u.transactionType = t.transactionType AND u.subcategory IN :subcategories "
+            + "  AND u.isDeleted = false AND u.transactionDate BETWEEN :startDate AND :endDate "
+            + "  AND ((u.subcategory = :fullSubcategory AND t.subcategory <> :fullSubcategory) "
+            + "    OR ((u.subcategory = :fullSubcategory OR t.subcategory <> :fullSubcategory) "
+            + "      AND (u.transactionDate < t.transactionDate "
+            + "        OR (u.transactionDate = t.transactionDate AND u.id < t.id))))) "
+            + "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<RefundTransactionRow> findRefundHistoryRows(
+            @Param("tenantId") String tenantId,
+            @Param("transactionType") FinancialTransaction.TransactionType transactionType,
+            @Param("subcategories") Collection<String> subcategories,
+            @Param("fullSubcategory") String fullSubcategory,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("boundDate") LocalDate boundDate,
+            @Param("boundId") Long boundId,
+            Pageable pageable);
 }
@@ -0,0 +1,29 @@
+package com.coresolution.consultation.salaryexport;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * {@link #close()} 를 flush 로 바꾸는 래퍼. PDF·ZIP·문자 writer 처럼 닫을 때 하위 스트림까지 닫는 출력기를
+ * 호출자 스트림(HTTP 응답, ZIP 엔트리) 위에 올릴 때 쓴다.
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public final class NonClosingOutputStream extends FilterOutputStream {
+
+    public NonClosingOutputStream(OutputStream out) {
+        super(out);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.flush();
+    }
+}
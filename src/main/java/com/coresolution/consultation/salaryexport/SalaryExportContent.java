@@ -0,0 +1,26 @@
+package com.coresolution.consultation.salaryexport;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 아직 쓰지 않은 export 결과. 데이터 조회는 끝난 상태이고 {@link #writer()} 가 호출될 때 문서를 만들어 바로 흘려 보낸다 —
+ * 전체 결과를 바이트 배열로 들고 있지 않는다.
+ *
+ * @param filename    다운로드 파일명
+ * @param contentType 응답 Content-Type
+ * @param writer      출력 스트림에 결과를 쓰는 함수 (스트림은 닫지 않는다)
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public record SalaryExportContent(String filename, String contentType, Writer writer) {
+
+    /**
+     * export 결과 쓰기.
+     */
+    @FunctionalInterface
+    public interface Writer {
+
+        void writeTo(OutputStream out) throws IOException;
+    }
+}
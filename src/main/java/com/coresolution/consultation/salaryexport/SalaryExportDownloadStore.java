@@ -0,0 +1,243 @@
+package com.coresolution.consultation.salaryexport;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.coresolution.consultation.config.SalaryExportProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 급여 export 다운로드 토큰 저장소.
+ *
+ * <p>결과를 {@code <token>.dat} 임시 파일로 바로 흘려 쓰고, 테넌트·파일명·만료 시각은 {@code <token>.properties}
+ * 옆 파일에 둔다. 두 파일 모두 {@code .part} 로 다 쓴 뒤 원자적으로 이름을 바꾸므로 보이는 파일은 항상 완성본이다.
+ * 메모리에는 토큰 목록조차 두지 않으므로 디렉터리를 공유하는 다른 인스턴스도 같은 토큰을 내려줄 수 있다.
+ * 토큰은 무작위 128비트 hex 라 경로 조작이 불가능하고, 다른 테넌트의 토큰은 없는 것으로 취급한다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Slf4j
+@Component
+public class SalaryExportDownloadStore {
+
+    private static final Pattern TOKEN_PATTERN = Pattern.compile("[0-9a-f]{32}");
+    private static final String DATA_SUFFIX = ".dat";
+    private static final String META_SUFFIX = ".properties";
+    private static final String PART_SUFFIX = ".part";
+    private static final String KEY_TENANT = "tenantId";
+    private static final String KEY_FILENAME = "filename";
+    private static final String KEY_CONTENT_TYPE = "contentType";
+    private static final String KEY_EXPIRES_AT = "expiresAt";
+
+    private final SalaryExportProperties properties;
+    private final Clock clock;
+
+    @Autowired
+    public SalaryExportDownloadStore(SalaryExportProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    SalaryExportDownloadStore(SalaryExportProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * 내려받을 파일 1건.
+     *
+     * @param token       다운로드 토큰
+     * @param filename    다운로드 파일명
+     * @param contentType Content-Type
+     * @param path        데이터 파일
+     * @param size        바이트 수
+     */
+    public record StoredDownload(String token, String filename, String contentType, Path path, long size) {
+    }
+
+    /**
+     * 결과를 임시 파일로 쓰고 토큰을 발급한다. 쓰기 도중 실패하면 부분 파일을 지운다.
+     *
+     * @param tenantId 발급 테넌트
+     * @param content  export 결과
+     * @return 저장된 다운로드
+     */
+    public StoredDownload issue(String tenantId, SalaryExportContent content) {
+        String token = UUID.randomUUID().toString().replace("-", "");
+        Path directory = directory();
+        Path part = directory.resolve(token + PART_SUFFIX);
+        Path data = directory.resolve(token + DATA_SUFFIX);
+        Path metaPart = directory.resolve(token + META_SUFFIX + PART_SUFFIX);
+        try {
+            Files.createDirectories(directory);
+            try (OutputStream out = Files.newOutputStream(part)) {
+                content.writer().writeTo(out);
+            }
+            Files.move(part, data, StandardCopyOption.ATOMIC_MOVE);
+            Properties meta = new Properties();
+            meta.setProperty(KEY_TENANT, tenantId);
+            meta.setProperty(KEY_FILENAME, content.filename());
+            meta.setProperty(KEY_CONTENT_TYPE, content.contentType());
+            meta.setProperty(KEY_EXPIRES_AT,
+                    Long.toString(clock.instant().plus(properties.getDownloadTokenTtl()).toEpochMilli()));
+            try (Writer writer = Files.newBufferedWriter(metaPart, StandardCharsets.UTF_8)) {
+                meta.store(writer, null);
+            }
+            // 다른 인스턴스의 조회·정리가 쓰다 만 메타를 만료로 읽고 지우지 않도록 다 쓴 뒤 한 번에 바꿔 넣는다
+            Files.move(metaPart, directory.resolve(token + META_SUFFIX), StandardCopyOption.ATOMIC_MOVE);
+            return new StoredDownload(token, content.filename(), content.contentType(), data, Files.size(data));
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(part);
+            deleteQuietly(metaPart);
+            deleteQuietly(data);
+            if (e instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("급여 export 임시 파일 생성에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 토큰으로 파일을 찾는다. 형식이 틀리거나, 만료되었거나, 다른 테넌트가 발급한 토큰이면 empty.
+     *
+     * @param token    다운로드 토큰
+     * @param tenantId 요청 테넌트
+     * @return 저장된 다운로드
+     */
+    public Optional<StoredDownload> find(String token, String tenantId) {
+        if (token == null || !TOKEN_PATTERN.matcher(token).matches()) {
+            return Optional.empty();
+        }
+        Path directory = directory();
+        Path metaPath = directory.resolve(token + META_SUFFIX);
+        Path data = directory.resolve(token + DATA_SUFFIX);
+        Optional<Properties> meta = readMeta(metaPath);
+        if (meta.isEmpty() || !Files.isRegularFile(data)) {
+            return Optional.empty();
+        }
+        Properties m = meta.get();
+        if (isExpired(m)) {
+            delete(token);
+            return Optional.empty();
+        }
+        if (tenantId == null || !tenantId.equals(m.getProperty(KEY_TENANT))) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new StoredDownload(token, m.getProperty(KEY_FILENAME),
+                    m.getProperty(KEY_CONTENT_TYPE), data, Files.size(data)));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 만료된 토큰 파일과 1시간 넘게 남은 부분 파일, 토큰 유효 시간이 지나도록 메타 파일이 없는 데이터 파일(메타를
+     * 쓰기 전에 프로세스가 죽은 경우)을 지운다. 데이터 파일은 메타보다 먼저 쓰므로 발급 중인 파일은 건드리지 않는다.
+     *
+     * @return 지운 토큰 수
+     */
+    @Scheduled(fixedRate = 60000) // 1분
+    public int purgeExpired() {
+        Path directory = directory();
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        int purged = 0;
+        Instant staleBefore = clock.instant().minusSeconds(3600);
+        Instant orphanBefore = clock.instant().minus(properties.getDownloadTokenTtl());
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(META_SUFFIX)) {
+                    Optional<Properties> meta = readMeta(file);
+                    if (meta.isEmpty() || isExpired(meta.get())) {
+                        delete(name.substring(0, name.length() - META_SUFFIX.length()));
+                        purged++;
+                    }
+                } else if (name.endsWith(DATA_SUFFIX)) {
+                    String token = name.substring(0, name.length() - DATA_SUFFIX.length());
+                    if (!Files.exists(directory.resolve(token + META_SUFFIX))
+                            && modifiedBefore(file, orphanBefore)) {
+                        deleteQuietly(file);
+                        purged++;
+                    }
+                } else if (name.endsWith(PART_SUFFIX) && modifiedBefore(file, staleBefore)) {
+                    deleteQuietly(file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("급여 export 임시 파일 정리 실패: {}", e.getMessage());
+        }
+        if (purged > 0) {
+            log.debug("급여 export 만료 토큰 {}건 정리", purged);
+        }
+        return purged;
+    }
+
+    private boolean isExpired(Properties meta) {
+        try {
+            return Long.parseLong(meta.getProperty(KEY_EXPIRES_AT, "0")) <= clock.millis();
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    /** 이번 정리 중 이미 지워진 파일(만료 토큰의 데이터 파일 등)은 false. */
+    private static boolean modifiedBefore(Path file, Instant before) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(before);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private Optional<Properties> readMeta(Path metaPath) {
+        if (!Files.isRegularFile(metaPath)) {
+            return Optional.empty();
+        }
+        try (Reader reader = Files.newBufferedReader(metaPath, StandardCharsets.UTF_8)) {
+            Properties meta = new Properties();
+            meta.load(reader);
+            return Optional.of(meta);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private void delete(String token) {
+        Path directory = directory();
+        deleteQuietly(directory.resolve(token + DATA_SUFFIX));
+        deleteQuietly(directory.resolve(token + META_SUFFIX));
+    }
+
+    private Path directory() {
+        return Path.of(properties.getTempDirectory());
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.debug("급여 export 임시 파일 삭제 실패: {}", path, e);
+        }
+    }
+}
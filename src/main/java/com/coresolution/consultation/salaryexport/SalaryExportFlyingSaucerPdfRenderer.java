@@ -3,6 +3,7 @@ package com.coresolution.consultation.salaryexport;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
@@ -39,6 +40,22 @@ public final class SalaryExportFlyingSaucerPdfRenderer {
      * @throws IllegalStateException 렌더 실패 시
      */
     public static byte[] renderToPdfBytes(String xhtml) {
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+            renderToPdf(xhtml, baos);
+            return baos.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException("HTML 기반 급여 PDF 생성에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * XHTML 문서를 PDF로 렌더링해 출력 스트림에 바로 쓴다. 바이트 배열을 거치지 않으며 스트림은 닫지 않는다.
+     *
+     * @param xhtml UTF-8 XHTML
+     * @param out   출력 스트림
+     * @throws IllegalStateException 렌더 실패 시
+     */
+    public static void renderToPdf(String xhtml, OutputStream out) {
         try {
             String fontPath = resolveFontPathOnDisk();
             String fontUri = Path.of(fontPath).toUri().toString();
@@ -54,14 +71,12 @@ public final class SalaryExportFlyingSaucerPdfRenderer {
                     + "\");font-weight:normal;font-style:normal;}\n"
                     + "]]></style>";
             String document = injectAfterHeadOpen(xhtml, fontFaceBlock);
-            try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-                ITextRenderer renderer = new ITextRenderer();
-                renderer.getFontResolver().addFont(fontPath, BaseFont.IDENTITY_H, true);
-                renderer.setDocumentFromString(document, baseUri);
-                renderer.layout();
-                renderer.createPDF(baos);
-                return baos.toByteArray();
-            }
+            ITextRenderer renderer = new ITextRenderer();
+            renderer.getFontResolver().addFont(fontPath, BaseFont.IDENTITY_H, true);
+            renderer.setDocumentFromString(document, baseUri);
+            renderer.layout();
+            // PdfWriter 는 문서를 닫을 때 출력 스트림도 닫는다 — ZIP 엔트리 등 호출자 스트림은 열어 둔다
+            renderer.createPDF(new NonClosingOutputStream(out));
         } catch (DocumentException | IOException e) {
             throw new IllegalStateException("HTML 기반 급여 PDF 생성에 실패했습니다.", e);
         }
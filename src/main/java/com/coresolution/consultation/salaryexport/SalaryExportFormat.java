@@ -0,0 +1,57 @@
+package com.coresolution.consultation.salaryexport;
+
+import com.coresolution.consultation.constant.salary.SalaryExportConstants;
+import com.coresolution.consultation.exception.ValidationException;
+
+/**
+ * 급여 export 형식. 요청 {@code format} 값(PDF/EXCEL/CSV)과 확장자·MIME 을 잇는다.
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public enum SalaryExportFormat {
+
+    PDF("pdf", SalaryExportConstants.MIME_TYPE_PDF),
+    EXCEL("xlsx", SalaryExportConstants.MIME_TYPE_XLSX),
+    CSV("csv", SalaryExportConstants.MIME_TYPE_CSV + ";charset=UTF-8");
+
+    private final String extension;
+    private final String contentType;
+
+    SalaryExportFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * 요청 문자열을 형식으로 바꾼다. 대소문자 무시, {@code XLSX} 는 {@link #EXCEL} 로 본다.
+     *
+     * @param value 요청 format (null·공백이면 기본값)
+     * @param defaultFormat 값이 없을 때 형식
+     * @return 형식
+     * @throws ValidationException 알 수 없는 형식
+     */
+    public static SalaryExportFormat from(String value, SalaryExportFormat defaultFormat) {
+        if (value == null || value.isBlank()) {
+            return defaultFormat;
+        }
+        String normalized = value.trim().toUpperCase();
+        if ("XLSX".equals(normalized)) {
+            return EXCEL;
+        }
+        for (SalaryExportFormat format : values()) {
+            if (format.name().equals(normalized)) {
+                return format;
+            }
+        }
+        throw new ValidationException("지원하지 않는 급여 export 형식입니다: " + value);
+    }
+}
@@ -5,10 +5,12 @@ import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 
+import com.coresolution.consultation.entity.erp.financial.PeriodType;
 import com.coresolution.consultation.service.PlSqlMappingSyncService;
 import com.coresolution.consultation.service.PlSqlFinancialService;
 import com.coresolution.consultation.service.erp.ErpFinancialCloseService;
 import com.coresolution.consultation.service.erp.ErpService;
+import com.coresolution.consultation.service.erp.IncrementalFinancialCloseEngine;
 import com.coresolution.consultation.service.erp.accounting.AccountingService;
 import com.coresolution.consultation.service.erp.accounting.FinancialStatementService;
 import com.coresolution.consultation.service.erp.settlement.SettlementService;
@@ -53,6 +55,7 @@ public class ErpAutomationScheduler {
     private final PlSqlFinancialService plSqlFinancialService;
     private final PlSqlMappingSyncService plSqlMappingSyncService;
     private final AccountingService accountingService;
+    private final IncrementalFinancialCloseEngine financialCloseEngine;
     /**
      * Discord 알람 컴포넌트 (선택 의존성).
      * {@code monitoring.discord.webhook-url} 미설정 시 빈 자체가 없으므로 graceful skip 한다.
@@ -93,6 +96,8 @@ public class ErpAutomationScheduler {
      * 정기 일 마감(재무) — 매일 02:00 KST.
      * 합의서 §2 Q2: 운영 트래픽 회피 위해 02:00~02:30 KST 이동.
      * 토글: {@code mindgarden.scheduler.financial-close.daily-cron}.
+     * {@code financial-close.incremental} 이면 테넌트별 체크포인트 이후 밀린 날짜만 병렬로 마감한다
+     * ({@link IncrementalFinancialCloseEngine}).
      *
      * <p>blue/green 양 슬롯 동시 실행 차단을 위해 ShedLock 분산 락 적용.</p>
      */
@@ -104,6 +109,10 @@ public class ErpAutomationScheduler {
     )
     public void scheduleDailyFinancialClose() {
         LocalDate targetDate = LocalDate.now().minusDays(1);
+        if (financialCloseEngine.isEnabled()) {
+            runIncrementalClose("DailyFinancialClose", PeriodType.DAY, targetDate);
+            return;
+        }
         runPerTenant("DailyFinancialClose", targetDate.toString(),
             () -> erpFinancialCloseService.performDailyClose(TenantContextHolder.getTenantId(), targetDate));
     }
@@ -112,6 +121,7 @@ public class ErpAutomationScheduler {
      * 정기 월 마감(재무) — 매월 1일 02:30 KST.
      * 합의서 §2 Q2: 일 마감(02:00) 이후 30분 시점.
      * 토글: {@code mindgarden.scheduler.financial-close.monthly-cron}.
+     * {@code financial-close.incremental} 이면 테넌트별 체크포인트 이후 밀린 달만 병렬로 마감한다.
      *
      * <p>blue/green 양 슬롯 동시 실행 차단을 위해 ShedLock 분산 락 적용.</p>
      */
@@ -123,10 +133,38 @@ public class ErpAutomationScheduler {
     )
     public void scheduleMonthlyFinancialClose() {
         YearMonth prevMonth = YearMonth.now().minusMonths(1);
+        if (financialCloseEngine.isEnabled()) {
+            runIncrementalClose("MonthlyFinancialClose", PeriodType.MONTH, prevMonth.atDay(1));
+            return;
+        }
         runPerTenant("MonthlyFinancialClose", prevMonth.toString(),
             () -> erpFinancialCloseService.performMonthlyClose(TenantContextHolder.getTenantId(), prevMonth));
     }
 
+    /**
+     * 정기 재무 마감 재개 — 매일 02:45~06:45 매시 (증분 마감 사용 시).
+     * 일/월 마감이 중간에 죽었거나 실패·차단으로 멈춘 테넌트를 체크포인트부터 이어서 마감한다.
+     * 이미 대상 기간까지 마친 테넌트는 체크포인트 조회만 하고 건너뛴다. dry-run 중에는 이어서 마감할 것이 없어
+     * 돌지 않는다.
+     * 토글: {@code mindgarden.scheduler.financial-close.resume-cron}.
+     *
+     * <p>blue/green 양 슬롯 동시 실행 차단을 위해 ShedLock 분산 락 적용.</p>
+     */
+    @Scheduled(cron = "${mindgarden.scheduler.financial-close.resume-cron:0 45 2-6 * * *}")
+    @SchedulerLock(
+            name = "ErpAutomationScheduler_resumeFinancialClose",
+            lockAtMostFor = "PT30M",
+            lockAtLeastFor = "PT1M"
+    )
+    public void resumeFinancialClose() {
+        if (!financialCloseEngine.isEnabled() || financialCloseEngine.isDryRun()) {
+            return;
+        }
+        runIncrementalClose("DailyFinancialCloseResume", PeriodType.DAY, LocalDate.now().minusDays(1));
+        runIncrementalClose("MonthlyFinancialCloseResume", PeriodType.MONTH,
+            YearMonth.now().minusMonths(1).atDay(1));
+    }
+
     /**
      * 재무제표 생성 — 매월 1일 00:25 (전월 기준 대차/손익/캐시플로우)
      *
@@ -368,6 +406,26 @@ public class ErpAutomationScheduler {
         log.info("[ErpAutomation] {} 완료: param={}", jobName, jobParam);
     }
 
+    private void runIncrementalClose(String jobName, PeriodType type, LocalDate targetStart) {
+        log.info("[ErpAutomation] {} 시작: target={}", jobName, targetStart);
+        try {
+            IncrementalFinancialCloseEngine.CloseSummary summary = financialCloseEngine.run(type, targetStart);
+            for (IncrementalFinancialCloseEngine.TenantFailure failure : summary.failures()) {
+                log.error("[ErpAutomation] {} 실패: tenantId={}, period={}, error={}", jobName, failure.tenantId(),
+                    failure.periodStart(), failure.error().getMessage(), failure.error());
+                notifyFailureSafely(jobName, failure.tenantId(), failure.error());
+            }
+            log.info("[ErpAutomation] {} 완료: target={}, tenants={}, upToDate={}, claimedElsewhere={}, "
+                    + "closedPeriods={}, dryRunPeriods={}, blocked={}, failed={}, slowest={}({}ms)",
+                jobName, targetStart, summary.tenants(), summary.upToDate(), summary.claimedElsewhere(),
+                summary.closedPeriods(), summary.dryRunPeriods(), summary.blocked(), summary.failures().size(),
+                summary.slowestTenant(), summary.slowestMillis());
+        } catch (Exception e) {
+            log.error("[ErpAutomation] {} 실패: target={}, error={}", jobName, targetStart, e.getMessage(), e);
+            notifyFailureSafely(jobName, null, e);
+        }
+    }
+
     /**
      * Discord 알람을 안전하게 발송한다. (실패해도 본 BE 흐름 차단 금지)
      *
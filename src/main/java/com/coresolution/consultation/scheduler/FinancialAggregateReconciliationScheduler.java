@@ -0,0 +1,75 @@
+package com.coresolution.consultation.scheduler;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import com.coresolution.consultation.config.FinancialAggregateProperties;
+import com.coresolution.consultation.service.erp.financial.FinancialDailyAggregateStore;
+import com.coresolution.consultation.service.erp.financial.FinancialDailyAggregateStore.ReconcileResult;
+import com.coresolution.core.service.TenantService;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회계 거래 일별 집계 대사 스케줄러.
+ *
+ * <p>매일 03:40 KST 에 활성 테넌트마다 최근 {@link FinancialAggregateProperties#getReconcileLookbackDays()}
+ * 일의 {@code financial_daily_aggregates} 를 거래 원장과 대조해 어긋난 행만 고친다. 엔티티 리스너를 거치지
+ * 않는 변경(저장 프로시저·수동 SQL)과 집계 쓰기 실패가 대상이다. 한 테넌트 실패는 다른 테넌트 대사를 막지
+ * 않는다.</p>
+ *
+ * <p>blue/green 양 슬롯 동시 실행 차단을 위해 ShedLock 분산 락 적용.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FinancialAggregateReconciliationScheduler {
+
+    private static final String SCHEDULER_NAME = "FinancialAggregateReconciliation";
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final FinancialDailyAggregateStore aggregateStore;
+    private final FinancialAggregateProperties properties;
+    private final TenantService tenantService;
+
+    /**
+     * 매일 03:40 KST 대사 (시스템 잡 — 테넌트 ID 를 쿼리 인자로 직접 넘긴다).
+     */
+    @Scheduled(
+        cron = "${mindgarden.erp.financial-aggregate.reconcile-cron:0 40 3 * * *}",
+        zone = "Asia/Seoul"
+    )
+    @SchedulerLock(
+        name = "FinancialAggregateReconciliationScheduler_reconcile",
+        lockAtMostFor = "PT30M",
+        lockAtLeastFor = "PT1M"
+    )
+    public void reconcileRecentAggregates() {
+        if (!aggregateStore.isEnabled()) {
+            return;
+        }
+        LocalDate endDate = LocalDate.now(KST);
+        LocalDate startDate = endDate.minusDays(Math.max(0, properties.getReconcileLookbackDays() - 1L));
+        List<String> tenantIds = tenantService.getAllActiveTenantIds();
+        int repairedRows = 0;
+        int failedTenants = 0;
+        for (String tenantId : tenantIds) {
+            try {
+                ReconcileResult result = aggregateStore.reconcile(tenantId, startDate, endDate);
+                repairedRows += result.repairedRows();
+            } catch (Exception e) {
+                failedTenants++;
+                log.error("[{}] tenant reconcile failed: tenantId={}, error={}", SCHEDULER_NAME, tenantId,
+                    e.getMessage(), e);
+            }
+        }
+        log.info("[{}] executed: tenants={}, period={}~{}, repairedRows={}, failedTenants={}", SCHEDULER_NAME,
+            tenantIds.size(), startDate, endDate, repairedRows, failedTenants);
+    }
+}
@@ -3,8 +3,12 @@ package com.coresolution.consultation.scheduler;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.coresolution.consultation.service.SalaryBatchService;
 import com.coresolution.consultation.service.SalaryScheduleService;
@@ -15,6 +19,7 @@ import com.coresolution.core.service.SchedulerExecutionLogService;
 import com.coresolution.core.service.TenantService;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -50,6 +55,10 @@ public class SalaryBatchScheduler {
      * {@code monitoring.discord.webhook-url} 미설정 시 graceful skip.
      */
     private final ObjectProvider<SchedulerFailureNotifier> failureNotifierProvider;
+
+    /** 테넌트 병렬 실행기 (bulkhead: salary-batch). */
+    @Qualifier("salaryBatchExecutor")
+    private final Executor salaryBatchExecutor;
     
     /**
      * 매월 기산일에 급여 배치 자동 실행 (표준화 적용)
@@ -89,84 +98,18 @@ public class SalaryBatchScheduler {
             List<String> activeTenantIds = tenantService.getAllActiveTenantIds();
             log.info("📋 [SalaryBatch] 대상 테넌트 수: {}", activeTenantIds.size());
             
-            // 3. 테넌트별 실행 (COMPLETED 여부는 테넌트 컨텍스트 설정 후 조회)
+            // 3. 테넌트별 실행 — salary-batch bulkhead 에서 병렬, 테넌트마다 컨텍스트를 따로 설정
+            AtomicInteger successes = new AtomicInteger();
+            AtomicInteger failures = new AtomicInteger();
+            List<CompletableFuture<Void>> running = new ArrayList<>();
             for (String tenantId : activeTenantIds) {
-                try {
-                    // 테넌트 컨텍스트 설정
-                    TenantContextHolder.setTenantId(tenantId);
-                    
-                    SalaryBatchService.BatchStatus status = salaryBatchService.getBatchStatus(
-                        previousMonth.getYear(),
-                        previousMonth.getMonthValue()
-                    );
-                    if ("COMPLETED".equals(status.getStatus())) {
-                        log.info("✅ [SalaryBatch] 테넌트 이전 달 급여 배치 이미 완료 — skip: tenantId={}, {}-{}",
-                            tenantId, previousMonth.getYear(), previousMonth.getMonthValue());
-                        continue;
-                    }
-                    
-                    log.debug("🔄 [SalaryBatch] 테넌트 실행 시작: tenantId={}", tenantId);
-                    
-                    // 급여 배치 실행
-                    SalaryBatchService.BatchResult result = salaryBatchService.executeMonthlySalaryBatch(
-                        previousMonth.getYear(), 
-                        previousMonth.getMonthValue(), 
-                        null // 전체 지점
-                    );
-                    
-                    if (result.isSuccess()) {
-                        log.info("✅ [SalaryBatch] 테넌트 실행 성공: tenantId={}, message={}", 
-                            tenantId, result.getMessage());
-                        
-                        // 성공 로그 저장
-                        logService.saveExecutionLog(
-                            executionId, 
-                            tenantId, 
-                            "SalaryBatchScheduler", 
-                            "SUCCESS", 
-                            result.getMessage()
-                        );
-                        
-                        successCount++;
-                    } else {
-                        log.error("❌ [SalaryBatch] 테넌트 실행 실패: tenantId={}, message={}", 
-                            tenantId, result.getMessage());
-                        
-                        // 실패 로그 저장
-                        logService.saveExecutionLog(
-                            executionId, 
-                            tenantId, 
-                            "SalaryBatchScheduler", 
-                            "FAILED", 
-                            null,
-                            result.getMessage()
-                        );
-                        
-                        failureCount++;
-                    }
-                    
-                } catch (Exception e) {
-                    log.error("❌ [SalaryBatch] 테넌트 실행 실패: tenantId={}, error={}", 
-                        tenantId, e.getMessage(), e);
-                    
-                    // 실패 로그 저장
-                    logService.saveExecutionLog(
-                        executionId, 
-                        tenantId, 
-                        "SalaryBatchScheduler", 
-                        "FAILED", 
-                        null,
-                        e.getMessage()
-                    );
-                    
-                    failureCount++;
-                    notifyFailureSafely("MonthlySalaryBatch", tenantId, e);
-
-                } finally {
-                    // 테넌트 컨텍스트 정리
-                    TenantContextHolder.clear();
-                }
+                running.add(CompletableFuture.runAsync(
+                    () -> executeTenantBatch(executionId, tenantId, previousMonth, successes, failures),
+                    salaryBatchExecutor));
             }
+            CompletableFuture.allOf(running.toArray(new CompletableFuture[0])).join();
+            successCount = successes.get();
+            failureCount = failures.get();
             
             // 4. 전체 실행 결과 로깅
             LocalDateTime endTime = LocalDateTime.now();
@@ -209,6 +152,88 @@ public class SalaryBatchScheduler {
         }
     }
     
+    /**
+     * 테넌트 1건의 이전 달 급여 배치를 실행한다. 예외를 밖으로 던지지 않는다.
+     */
+    private void executeTenantBatch(String executionId, String tenantId, LocalDate previousMonth,
+            AtomicInteger successes, AtomicInteger failures) {
+        try {
+            // 테넌트 컨텍스트 설정
+            TenantContextHolder.setTenantId(tenantId);
+            
+            SalaryBatchService.BatchStatus status = salaryBatchService.getBatchStatus(
+                previousMonth.getYear(),
+                previousMonth.getMonthValue()
+            );
+            if ("COMPLETED".equals(status.getStatus())) {
+                log.info("✅ [SalaryBatch] 테넌트 이전 달 급여 배치 이미 완료 — skip: tenantId={}, {}-{}",
+                    tenantId, previousMonth.getYear(), previousMonth.getMonthValue());
+                return;
+            }
+            
+            log.debug("🔄 [SalaryBatch] 테넌트 실행 시작: tenantId={}", tenantId);
+            
+            // 급여 배치 실행
+            SalaryBatchService.BatchResult result = salaryBatchService.executeMonthlySalaryBatch(
+                previousMonth.getYear(), 
+                previousMonth.getMonthValue(), 
+                null // 전체 지점
+            );
+            
+            if (result.isSuccess()) {
+                log.info("✅ [SalaryBatch] 테넌트 실행 성공: tenantId={}, message={}", 
+                    tenantId, result.getMessage());
+                
+                // 성공 로그 저장
+                logService.saveExecutionLog(
+                    executionId, 
+                    tenantId, 
+                    "SalaryBatchScheduler", 
+                    "SUCCESS", 
+                    result.getMessage()
+                );
+                
+                successes.incrementAndGet();
+            } else {
+                log.error("❌ [SalaryBatch] 테넌트 실행 실패: tenantId={}, message={}", 
+                    tenantId, result.getMessage());
+                
+                // 실패 로그 저장
+                logService.saveExecutionLog(
+                    executionId, 
+                    tenantId, 
+                    "SalaryBatchScheduler", 
+                    "FAILED", 
+                    null,
+                    result.getMessage()
+                );
+                
+                failures.incrementAndGet();
+            }
+            
+        } catch (Exception e) {
+            log.error("❌ [SalaryBatch] 테넌트 실행 실패: tenantId={}, error={}", 
+                tenantId, e.getMessage(), e);
+            
+            // 실패 로그 저장
+            logService.saveExecutionLog(
+                executionId, 
+                tenantId, 
+                "SalaryBatchScheduler", 
+                "FAILED", 
+                null,
+                e.getMessage()
+            );
+            
+            failures.incrementAndGet();
+            notifyFailureSafely("MonthlySalaryBatch", tenantId, e);
+
+        } finally {
+            // 테넌트 컨텍스트 정리
+            TenantContextHolder.clear();
+        }
+    }
+
     /**
      * 급여 배치 상태 모니터링 (표준화 적용)
      * Cron: 매시간 정각
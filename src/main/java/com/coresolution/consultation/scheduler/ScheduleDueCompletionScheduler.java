@@ -0,0 +1,63 @@
+package com.coresolution.consultation.scheduler;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import com.coresolution.consultation.service.ScheduleService;
+import com.coresolution.consultation.service.schedule.ScheduleDueIndex;
+import com.coresolution.core.context.TenantContextHolder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 종료 시각에 도달한 일정 자동 완료 스케줄러.
+ *
+ * <p>{@link ScheduleDueIndex} 가 완료 시각이 지난 일정이 있거나 대사 주기가 된 테넌트만 골라 주므로, 할 일이 없는
+ * 분에는 DB 를 읽지 않는다. 테넌트별 처리는 {@link ScheduleService#autoCompleteExpiredSchedules()} 에 맡긴다.
+ * 색인은 인스턴스마다 따로 두므로 여러 인스턴스가 같은 일정을 꺼낼 수 있다. 그래서 테넌트 단위 ShedLock 대신
+ * 일정 단위로 선점한다 — 완료 처리 전에 미완료 일정을 실행마다 새 토큰으로 {@code schedule_completion_claims} 에
+ * 선점하고, 선점하지 못한 일정은 완료·리마인더 없이 재확인으로 미룬다
+ * ({@code mindgarden.schedule.due-index.claim-lease}).</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+        name = "scheduler.schedule-due-completion.enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+public class ScheduleDueCompletionScheduler {
+
+    private final ObjectProvider<ScheduleDueIndex> indexProvider;
+    private final ScheduleService scheduleService;
+    private final ConfigurableApplicationContext applicationContext;
+
+    /**
+     * 완료 시각 도달 일정 처리 (기본 1분마다).
+     */
+    @Scheduled(cron = "${scheduler.schedule-due-completion.cron:30 * * * * *}")
+    public void completeDueSchedules() {
+        ScheduleDueIndex index = indexProvider.getIfAvailable();
+        if (index == null || !index.isLoaded() || !applicationContext.isActive()) {
+            return;
+        }
+        Set<String> tenantIds = index.tenantsNeedingWork(LocalDateTime.now());
+        for (String tenantId : tenantIds) {
+            try {
+                TenantContextHolder.setTenantId(tenantId);
+                scheduleService.autoCompleteExpiredSchedules();
+            } catch (Exception e) {
+                log.error("❌ 종료 시각 도달 스케줄 자동 완료 실패: tenantId={}, 오류={}", tenantId, e.getMessage(), e);
+            } finally {
+                TenantContextHolder.clear();
+            }
+        }
+    }
+}
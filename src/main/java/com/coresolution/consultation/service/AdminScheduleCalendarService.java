@@ -0,0 +1,32 @@
+package com.coresolution.consultation.service;
+
+import com.coresolution.consultation.dto.admin.AdminScheduleCalendarQuery;
+import com.coresolution.consultation.dto.admin.AdminScheduleCalendarResponse;
+
+/**
+ * 관리자 스케줄 캘린더 조회 — 필수 조회 구간·DB 필터·참여자 표시명 일괄 해석·ETag.
+ *
+ * <p>응답 크기와 지연이 테넌트 전체 스케줄 수가 아니라 화면에 보이는 구간에 비례하도록, 구간 밖 스케줄은
+ * 읽지 않고 상담사·내담자 표시명은 한 번의 사용자 조회로 해석한다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public interface AdminScheduleCalendarService {
+
+    /**
+     * 조회 조건의 현재 ETag. 집계 1행만 읽으므로 폴링 시 본문 조회 전에 호출한다.
+     *
+     * @param query 조회 조건
+     * @return 따옴표 포함 강한 ETag
+     */
+    String currentETag(AdminScheduleCalendarQuery query);
+
+    /**
+     * 캘린더 항목 조회.
+     *
+     * @param query 조회 조건
+     * @return 캘린더 응답
+     */
+    AdminScheduleCalendarResponse getCalendar(AdminScheduleCalendarQuery query);
+}
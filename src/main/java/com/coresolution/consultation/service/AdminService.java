@@ -218,6 +218,11 @@ public interface AdminService {
      * 환불 통계 조회
      */
     Map<String, Object> getRefundStatistics(String period);
+
+    /**
+     * 환불 관리 공통코드(REFUND_PERIOD·REFUND_REASON·REFUND_STATUS)가 없으면 기본값으로 생성한다.
+     */
+    void initializeRefundCommonCodes();
     
     /**
      * 환불 통계 조회 (지점별 필터링)
@@ -4,6 +4,7 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import com.coresolution.consultation.entity.ConsultationRecord;
+import com.coresolution.consultation.service.search.ConsultationRecordSearchHit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -94,6 +95,12 @@ public interface ConsultationRecordService {
      * 상담일지 검색
      */
     Page<ConsultationRecord> searchConsultationRecords(Long userId, String userType, String keyword, Pageable pageable);
+
+    /**
+     * 상담일지 검색 (관련도 순, 필드별 하이라이트 포함)
+     */
+    Page<ConsultationRecordSearchHit> searchConsultationRecordsWithHighlights(Long userId, String userType,
+            String keyword, Pageable pageable);
     
     /**
      * 위험도별 상담일지 조회
@@ -1,5 +1,7 @@
 package com.coresolution.consultation.service;
 
+import java.sql.Statement;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -9,15 +11,21 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import com.coresolution.consultation.config.PiiRotationProperties;
 import com.coresolution.consultation.dto.security.PiiRotationResult;
 import com.coresolution.consultation.entity.PiiReencryptionProgress;
 import com.coresolution.consultation.entity.PiiReencryptionProgress.Status;
@@ -50,7 +58,12 @@ import lombok.extern.slf4j.Slf4j;
  *       에 의해 활성 키로 이미 암호화된 row 는 no-op 처리된다.</li>
  *   <li>chunk 1개 = 트랜잭션 1개 — {@link TransactionTemplate} 사용. chunk 도중 실패 시
  *       해당 chunk 만 rollback 되고 진행률은 FAILED 로 marking, 다음 chunk 는 계속 진행.</li>
- *   <li>seek 기반 pagination — 마지막 DONE chunk 의 종료 ID 이후부터 재개.</li>
+ *   <li>재암호화는 트랜잭션 밖 {@code piiRotationExecutor} 에서 chunk 를 조각으로 나눠 병렬 계산하고,
+ *       트랜잭션은 JDBC 배치 UPDATE 만 감싼다. UPDATE 는 읽어 둔 ciphertext 가 그대로일 때만 적용되는
+ *       낙관적 가드를 두며, 그 사이 애플리케이션이 다시 쓴 row 는 충돌로 세고 건너뛴다.</li>
+ *   <li>seek 기반 pagination — 마지막 DONE chunk 의 종료 ID 이후부터 재개. chunk 는 순서대로 처리해
+ *       DONE 구간이 끊기지 않게 한다.</li>
+ *   <li>스로틀 — {@link PiiRotationProperties} 의 초당 행 상한 / 쓰기 지연 예산을 넘으면 다음 chunk 전에 쉰다.</li>
  *   <li>로그 인젝션 차단 — {@link LogSanitizer#forLog(String)} 으로 외부 입력 sanitize.
  *       평문 / 암호문 PII 는 절대 출력하지 않는다.</li>
  * </ul>
@@ -136,6 +149,9 @@ public class PersonalDataKeyRotationService {
     private final TransactionTemplate transactionTemplate;
     private final PersonalDataEncryptionUtil encryptionUtil;
     private final PiiReencryptionProgressRepository progressRepository;
+    private final Executor rotationExecutor;
+    private final PiiRotationProperties rotationProperties;
+    private final Sleeper sleeper;
 
     /**
      * 운영 / 테스트 환경에서 평문 → 암호화 백필 (accounts / branches) 을 허용할지 여부.
@@ -151,12 +167,11 @@ public class PersonalDataKeyRotationService {
             PlatformTransactionManager transactionManager,
             PersonalDataEncryptionUtil encryptionUtil,
             PiiReencryptionProgressRepository progressRepository,
-            @Value("${pii-rotation.allow-plaintext-encryption:false}") boolean allowPlaintextEncryption) {
-        this.jdbcTemplate = jdbcTemplate;
-        this.transactionTemplate = new TransactionTemplate(transactionManager);
-        this.encryptionUtil = encryptionUtil;
-        this.progressRepository = progressRepository;
-        this.allowPlaintextEncryption = allowPlaintextEncryption;
+            @Value("${pii-rotation.allow-plaintext-encryption:false}") boolean allowPlaintextEncryption,
+            @Qualifier("piiRotationExecutor") Executor rotationExecutor,
+            PiiRotationProperties rotationProperties) {
+        this(jdbcTemplate, new TransactionTemplate(transactionManager), encryptionUtil, progressRepository,
+            allowPlaintextEncryption, rotationExecutor, rotationProperties, Thread::sleep);
     }
 
     /**
@@ -172,11 +187,30 @@ public class PersonalDataKeyRotationService {
             PersonalDataEncryptionUtil encryptionUtil,
             PiiReencryptionProgressRepository progressRepository,
             boolean allowPlaintextEncryption) {
+        this(jdbcTemplate, transactionTemplate, encryptionUtil, progressRepository, allowPlaintextEncryption,
+            Runnable::run, new PiiRotationProperties(), Thread::sleep);
+    }
+
+    /**
+     * 단위 테스트 용 — 재암호화 실행기, 회전 설정, 스로틀 대기를 직접 주입한다.
+     */
+    PersonalDataKeyRotationService(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            PersonalDataEncryptionUtil encryptionUtil,
+            PiiReencryptionProgressRepository progressRepository,
+            boolean allowPlaintextEncryption,
+            Executor rotationExecutor,
+            PiiRotationProperties rotationProperties,
+            Sleeper sleeper) {
         this.jdbcTemplate = jdbcTemplate;
         this.transactionTemplate = transactionTemplate;
         this.encryptionUtil = encryptionUtil;
         this.progressRepository = progressRepository;
         this.allowPlaintextEncryption = allowPlaintextEncryption;
+        this.rotationExecutor = rotationExecutor;
+        this.rotationProperties = rotationProperties;
+        this.sleeper = sleeper;
     }
 
     // ----------------------------------------------------------------
@@ -251,7 +285,7 @@ public class PersonalDataKeyRotationService {
     }
 
     /**
-     * 실패 chunk 재시도 — FAILED 상태 chunk 만 다시 회전 시도한다.
+     * 실패 chunk 재시도 — FAILED 상태 chunk 만 다시 회전 시도한다. chunk 사이에는 정규 회전과 같은 스로틀을 건다.
      */
     public PiiRotationResult resumeFailedChunks(String tableName, List<String> piiColumns,
                                                 String targetKeyId) {
@@ -275,10 +309,18 @@ public class PersonalDataKeyRotationService {
         int totalRotated = 0;
         int chunksDone = 0;
         int chunksFailed = 0;
+        long startedNanos = System.nanoTime();
+        long lastWriteNanos = 0L;
         for (PiiReencryptionProgress chunk : failed) {
+            // 첫 chunk 를 빼고 정규 회전과 같은 스로틀을 chunk 사이에 건다
+            if (chunksDone + chunksFailed > 0
+                && !throttle(tableName, startedNanos, totalScanned, lastWriteNanos)) {
+                break;
+            }
             ChunkOutcome outcome = rerunChunk(tableName, piiColumns, chunk);
             totalScanned += outcome.rowsScanned;
             totalRotated += outcome.rowsRotated;
+            lastWriteNanos = outcome.writeNanos;
             if (outcome.success) {
                 chunksDone++;
             } else {
@@ -287,7 +329,7 @@ public class PersonalDataKeyRotationService {
         }
         return PiiRotationResult.builder()
             .tableName(tableName)
-            .chunksProcessed(failed.size())
+            .chunksProcessed(chunksDone + chunksFailed)
             .chunksDone(chunksDone)
             .chunksFailed(chunksFailed)
             .rowsScanned(totalScanned)
@@ -368,20 +410,19 @@ public class PersonalDataKeyRotationService {
         int chunksFailed = 0;
         int rowsScanned = 0;
         int rowsRotated = 0;
+        long startedNanos = System.nanoTime();
 
-        log.info("PII 회전 시작 — table={}, columns={}, chunkSize={}, targetKeyId={}, resumeFromId={}",
+        log.info("PII 회전 시작 — table={}, columns={}, chunkSize={}, targetKeyId={}, resumeFromId={}, "
+                + "parallelism={}",
             LogSanitizer.forLog(tableName),
             LogSanitizer.forLog(String.join(",", piiColumns)),
             normalizedChunkSize,
             LogSanitizer.forLog(targetKeyId),
-            cursor);
-
-        while (true) {
-            List<Map<String, Object>> chunk = fetchChunk(tableName, piiColumns, cursor, normalizedChunkSize);
-            if (chunk.isEmpty()) {
-                break;
-            }
+            cursor,
+            rotationProperties.getParallelism());
 
+        List<Map<String, Object>> chunk = fetchChunk(tableName, piiColumns, cursor, normalizedChunkSize);
+        while (!chunk.isEmpty()) {
             long chunkStartId = ((Number) chunk.get(0).get("id")).longValue();
             long chunkEndId = ((Number) chunk.get(chunk.size() - 1).get("id")).longValue();
 
@@ -401,6 +442,12 @@ public class PersonalDataKeyRotationService {
 
             cursor = chunkEndId;
             chunkNo++;
+
+            // 다음 chunk 가 있을 때만 쉰다 — 마지막 chunk 뒤에 대기하지 않는다
+            chunk = fetchChunk(tableName, piiColumns, cursor, normalizedChunkSize);
+            if (!chunk.isEmpty() && !throttle(tableName, startedNanos, rowsScanned, outcome.writeNanos)) {
+                break;
+            }
         }
 
         log.info("PII 회전 종료 — table={}, chunks={}, done={}, failed={}, rowsScanned={}, rowsRotated={}",
@@ -492,13 +539,20 @@ public class PersonalDataKeyRotationService {
         progressRepository.save(progress);
 
         try {
-            Integer rotated = transactionTemplate.execute(status -> reencryptRows(tableName, piiColumns, rows));
-            int rotatedCount = rotated == null ? 0 : rotated;
+            List<RowRotation> rotations = reencryptRows(piiColumns, rows);
+            long writeStarted = System.nanoTime();
+            WriteCounts written = transactionTemplate.execute(status -> writeRotations(tableName, rotations));
+            long writeNanos = System.nanoTime() - writeStarted;
+            int rotatedCount = written == null ? 0 : written.applied;
+            if (written != null && written.conflicts > 0) {
+                log.info("PII chunk 회전 충돌 — table={}, chunkNo={}, conflicts={} (읽은 뒤 다시 쓰인 row 는 건너뜀)",
+                    LogSanitizer.forLog(tableName), progress.getChunkNo(), written.conflicts);
+            }
             progress.setStatusEnum(Status.DONE);
             progress.setRowsDone(rotatedCount);
             progress.setFinishedAt(LocalDateTime.now());
             progressRepository.save(progress);
-            return new ChunkOutcome(true, rows.size(), rotatedCount);
+            return new ChunkOutcome(true, rows.size(), rotatedCount, writeNanos);
         } catch (RuntimeException e) {
             String sanitized = LogSanitizer.forLog(e.getClass().getSimpleName() + ": " + e.getMessage());
             log.error("PII chunk 회전 실패 — table={}, chunkNo={}, error={}",
@@ -508,7 +562,7 @@ public class PersonalDataKeyRotationService {
             progress.setFinishedAt(LocalDateTime.now());
             progress.setErrorMessage(sanitized);
             progressRepository.save(progress);
-            return new ChunkOutcome(false, rows.size(), 0);
+            return new ChunkOutcome(false, rows.size(), 0, 0L);
         }
     }
 
@@ -518,20 +572,51 @@ public class PersonalDataKeyRotationService {
         Long endId = chunk.getChunkEndId();
         if (startId == null || endId == null) {
             log.warn("PII chunk 재시도 SKIP — chunkStartId/chunkEndId 누락. id={}", chunk.getId());
-            return new ChunkOutcome(false, 0, 0);
+            return new ChunkOutcome(false, 0, 0, 0L);
         }
         List<Map<String, Object>> rows = fetchChunkByRange(tableName, piiColumns, startId, endId);
         return runChunk(chunk, tableName, piiColumns, rows);
     }
 
     /**
-     * 한 chunk 내 row 들을 활성 키로 재암호화한다. 트랜잭션 내부에서 실행되어야 한다.
+     * 한 chunk 내 row 들을 활성 키로 재암호화한 값을 계산한다. DB 에 쓰지 않으므로 트랜잭션 밖에서 호출한다.
+     *
+     * <p>row 를 {@code parallelism} 개 조각으로 나눠 {@code piiRotationExecutor} 에서 계산하고, 결과는 id 순서를
+     * 유지해 합친다. 조각 하나라도 실패하면 그 예외를 그대로 던져 chunk 를 FAILED 로 남긴다.</p>
+     *
+     * @return 값이 바뀌는 row 만의 재암호화 결과 (id 오름차순)
      */
-    int reencryptRows(String tableName, List<String> piiColumns, List<Map<String, Object>> rows) {
-        int rotated = 0;
+    List<RowRotation> reencryptRows(List<String> piiColumns, List<Map<String, Object>> rows) {
+        int slices = Math.max(1, Math.min(rotationProperties.getParallelism(), rows.size()));
+        if (slices == 1) {
+            return reencryptSlice(piiColumns, rows);
+        }
+        int sliceSize = (rows.size() + slices - 1) / slices;
+        List<CompletableFuture<List<RowRotation>>> futures = new ArrayList<>(slices);
+        for (int from = 0; from < rows.size(); from += sliceSize) {
+            List<Map<String, Object>> slice = rows.subList(from, Math.min(rows.size(), from + sliceSize));
+            futures.add(CompletableFuture.supplyAsync(() -> reencryptSlice(piiColumns, slice), rotationExecutor));
+        }
+        List<RowRotation> rotations = new ArrayList<>(rows.size());
+        try {
+            for (CompletableFuture<List<RowRotation>> future : futures) {
+                rotations.addAll(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return rotations;
+    }
+
+    private List<RowRotation> reencryptSlice(List<String> piiColumns, List<Map<String, Object>> rows) {
+        List<RowRotation> rotations = new ArrayList<>();
         for (Map<String, Object> row : rows) {
             Long id = ((Number) row.get("id")).longValue();
-            Map<String, String> updates = new LinkedHashMap<>();
+            Map<String, String> oldValues = new LinkedHashMap<>();
+            Map<String, String> newValues = new LinkedHashMap<>();
             for (String col : piiColumns) {
                 Object current = row.get(col);
                 if (current == null) {
@@ -540,15 +625,74 @@ public class PersonalDataKeyRotationService {
                 String oldCipher = String.valueOf(current);
                 String newCipher = encryptionUtil.ensureActiveKeyEncryption(oldCipher);
                 if (!Objects.equals(oldCipher, newCipher)) {
-                    updates.put(col, newCipher);
+                    oldValues.put(col, oldCipher);
+                    newValues.put(col, newCipher);
                 }
             }
-            if (!updates.isEmpty()) {
-                applyRowUpdate(tableName, id, updates);
-                rotated++;
+            if (!newValues.isEmpty()) {
+                rotations.add(new RowRotation(id, oldValues, newValues));
             }
         }
-        return rotated;
+        return rotations;
+    }
+
+    /**
+     * 재암호화 결과를 바뀐 컬럼 조합별 JDBC 배치 UPDATE 로 쓴다. 트랜잭션 내부에서 실행되어야 한다.
+     *
+     * <p>각 UPDATE 는 바꾸는 컬럼이 읽을 때의 ciphertext ({@code keyId::payload}) 와 같을 때만 적용된다.
+     * 영향 행이 0 이면 읽은 뒤 애플리케이션이 다시 쓴 row 이므로 충돌로 세고 회전 건수에서 뺀다.
+     * 드라이버가 건수를 알려주지 않는 {@link Statement#SUCCESS_NO_INFO} 는 적용으로 본다.</p>
+     */
+    private WriteCounts writeRotations(String tableName, List<RowRotation> rotations) {
+        Map<List<String>, List<Object[]>> batches = new LinkedHashMap<>();
+        for (RowRotation rotation : rotations) {
+            batches.computeIfAbsent(List.copyOf(rotation.newValues().keySet()), columns -> new ArrayList<>())
+                .add(rotation.batchArgs());
+        }
+        int applied = 0;
+        int conflicts = 0;
+        for (Map.Entry<List<String>, List<Object[]>> batch : batches.entrySet()) {
+            int[] counts = jdbcTemplate.batchUpdate(guardedUpdateSql(tableName, batch.getKey()), batch.getValue());
+            for (int count : counts) {
+                if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                    applied++;
+                } else {
+                    conflicts++;
+                }
+            }
+        }
+        return new WriteCounts(applied, conflicts);
+    }
+
+    /**
+     * 설정한 초당 행 상한과 쓰기 지연 예산에 맞춰 다음 chunk 전에 쉰다.
+     *
+     * @return 계속 진행할지 — 대기 중 인터럽트되면 false (진행률은 chunk 단위로 저장돼 있어 다음 실행이 이어받는다)
+     */
+    private boolean throttle(String tableName, long startedNanos, int rowsScanned, long writeNanos) {
+        long pauseMillis = 0L;
+        int maxRowsPerSecond = rotationProperties.getMaxRowsPerSecond();
+        if (maxRowsPerSecond > 0) {
+            long dueMillis = rowsScanned * 1000L / maxRowsPerSecond;
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
+            pauseMillis = Math.max(pauseMillis, dueMillis - elapsedMillis);
+        }
+        Duration budget = rotationProperties.getWriteLatencyBudget();
+        if (budget != null && !budget.isZero() && writeNanos > budget.toNanos()) {
+            pauseMillis = Math.max(pauseMillis, Math.max(1L, TimeUnit.NANOSECONDS.toMillis(writeNanos)));
+        }
+        if (pauseMillis <= 0L) {
+            return true;
+        }
+        try {
+            sleeper.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("PII 회전 중단 — table={} 스로틀 대기 중 인터럽트, 다음 실행이 마지막 DONE chunk 부터 재개합니다.",
+                LogSanitizer.forLog(tableName));
+            return false;
+        }
     }
 
     // ----------------------------------------------------------------
@@ -600,26 +744,16 @@ public class PersonalDataKeyRotationService {
             .build();
     }
 
-    private void applyRowUpdate(String tableName, long id, Map<String, String> updates) {
-        if (updates.isEmpty()) {
-            return;
-        }
+    private String guardedUpdateSql(String tableName, List<String> columns) {
         StringBuilder sql = new StringBuilder("UPDATE ")
             .append(quoteTable(tableName))
-            .append(" SET ");
-        List<Object> args = new ArrayList<>(updates.size() + 1);
-        boolean first = true;
-        for (Map.Entry<String, String> entry : updates.entrySet()) {
-            if (!first) {
-                sql.append(", ");
-            }
-            sql.append(quoteColumn(entry.getKey())).append(" = ?");
-            args.add(entry.getValue());
-            first = false;
+            .append(" SET ")
+            .append(columns.stream().map(col -> quoteColumn(col) + " = ?").collect(Collectors.joining(", ")))
+            .append(" WHERE id = ?");
+        for (String col : columns) {
+            sql.append(" AND ").append(quoteColumn(col)).append(" = ?");
         }
-        sql.append(" WHERE id = ?");
-        args.add(id);
-        jdbcTemplate.update(sql.toString(), args.toArray());
+        return sql.toString();
     }
 
     private String renderColumnsCsv(List<String> columns) {
@@ -740,14 +874,52 @@ public class PersonalDataKeyRotationService {
         private final boolean success;
         private final int rowsScanned;
         private final int rowsRotated;
+        private final long writeNanos;
 
-        private ChunkOutcome(boolean success, int rowsScanned, int rowsRotated) {
+        private ChunkOutcome(boolean success, int rowsScanned, int rowsRotated, long writeNanos) {
             this.success = success;
             this.rowsScanned = rowsScanned;
             this.rowsRotated = rowsRotated;
+            this.writeNanos = writeNanos;
+        }
+    }
+
+    /** chunk 배치 UPDATE 결과 — 적용 건수와 가드 불일치(충돌) 건수. */
+    private static final class WriteCounts {
+        private final int applied;
+        private final int conflicts;
+
+        private WriteCounts(int applied, int conflicts) {
+            this.applied = applied;
+            this.conflicts = conflicts;
         }
     }
 
+    /**
+     * row 1개의 재암호화 결과 — 바뀌는 컬럼만 담는다.
+     *
+     * @param id        row ID
+     * @param oldValues 읽을 때의 ciphertext (낙관적 가드 값)
+     * @param newValues 활성 키 ciphertext
+     */
+    record RowRotation(long id, Map<String, String> oldValues, Map<String, String> newValues) {
+
+        /** {@code SET 새 값..., WHERE id = ? AND 이전 값...} 순서의 배치 인자. */
+        private Object[] batchArgs() {
+            List<Object> args = new ArrayList<>(newValues.size() * 2 + 1);
+            args.addAll(newValues.values());
+            args.add(id);
+            args.addAll(oldValues.values());
+            return args.toArray();
+        }
+    }
+
+    /** 스로틀 대기 — 운영은 {@link Thread#sleep(long)}, 테스트는 대기 시간을 기록한다. */
+    @FunctionalInterface
+    interface Sleeper {
+        void sleep(long millis) throws InterruptedException;
+    }
+
     // ----------------------------------------------------------------
     // 공개 상수 헬퍼 — 테이블명 → 회전 컬럼 매핑 (Controller 단순화용)
     // ----------------------------------------------------------------
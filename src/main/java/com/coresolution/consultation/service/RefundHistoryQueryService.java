@@ -0,0 +1,34 @@
+package com.coresolution.consultation.service;
+
+import java.util.Map;
+
+/**
+ * 환불 관리 화면 조회 — keyset 페이지 환불 이력과 조회 행 기반 환불 통계.
+ *
+ * <p>매칭 전체를 읽어 메모리에서 거르고 거래마다 매칭을 다시 조회하던 {@code AdminService} 경로 대신,
+ * 강제 종료 매칭과 환불 거래를 각각 이름까지 조인한 조회 행으로 가져온다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public interface RefundHistoryQueryService {
+
+    /**
+     * 환불 이력 keyset 페이지 조회. 정렬은 환불 시각 내림차순 (거래는 거래일 00:00 기준).
+     *
+     * @param cursor 직전 페이지의 {@code nextCursor} (첫 페이지는 null 또는 빈 값)
+     * @param size   페이지 크기
+     * @param period REFUND_PERIOD 기간 코드 (null 이면 month)
+     * @param status 상태 필터 (응답 표기용)
+     * @return refundHistory, pageInfo(pageSize·hasNext·nextCursor), nextCursor, hasNext, period, status
+     */
+    Map<String, Object> getRefundHistoryPage(String cursor, int size, String period, String status);
+
+    /**
+     * 환불 통계 조회 — {@code AdminService#getRefundStatistics} 와 같은 응답 형태.
+     *
+     * @param period REFUND_PERIOD 기간 코드
+     * @return summary, consultantStats, monthlyTrend, refundReasonStats, recentRefunds, period, startDate, endDate
+     */
+    Map<String, Object> getRefundStatistics(String period);
+}
@@ -1,10 +1,15 @@
 package com.coresolution.consultation.service;
 
 import java.util.Map;
+import java.util.Optional;
+import com.coresolution.consultation.dto.SalaryExportBatchRequest;
 import com.coresolution.consultation.dto.SalaryExportRequest;
+import com.coresolution.consultation.salaryexport.SalaryExportContent;
+import com.coresolution.consultation.salaryexport.SalaryExportDownloadStore;
+import com.coresolution.consultation.salaryexport.SalaryExportFormat;
 
 /**
- * 급여 계산 건별 PDF/Excel/CSV 생성 및 data URL 응답용 payload.
+ * 급여 계산 건별 PDF/Excel/CSV 생성 및 data URL·다운로드 토큰 응답용 payload, 스트리밍 export.
  *
  * @author CoreSolution
  * @since 2026-05-11
@@ -12,7 +17,7 @@ import com.coresolution.consultation.dto.SalaryExportRequest;
 public interface SalaryExportService {
 
     /**
-     * PDF보내기. {@code downloadUrl}(data URI), {@code filename} 키를 가진 맵.
+     * PDF보내기. {@code downloadUrl}(data URI 또는 토큰 다운로드 경로), {@code filename} 키를 가진 맵.
      *
      * @param request 계산 ID·옵션
      * @return downloadUrl, filename
@@ -34,4 +39,31 @@ public interface SalaryExportService {
      * @return downloadUrl, filename, (이메일 발송 시) emailSent 등
      */
     Map<String, Object> exportCsv(SalaryExportRequest request);
+
+    /**
+     * 단건 export 를 HTTP 응답 스트리밍용으로 준비한다. 조회는 호출 시점에 끝나고, 문서는 쓰기 시점에 만들어 바로 흘려 보낸다.
+     * 이메일은 발송하지 않는다.
+     *
+     * @param request 계산 ID·옵션
+     * @param format  형식
+     * @return 파일명·Content-Type·쓰기 함수
+     */
+    SalaryExportContent openExport(SalaryExportRequest request, SalaryExportFormat format);
+
+    /**
+     * 여러 급여 계산 명세를 ZIP 으로 묶어 스트리밍한다. ID 소속 검증은 호출 시점에 하고, 엔트리는 쓰기 시점에
+     * 한 건씩 조회·렌더링해 곧바로 압축 스트림에 쓴다.
+     *
+     * @param request 계산 ID 목록·옵션
+     * @return ZIP 파일명·Content-Type·쓰기 함수
+     */
+    SalaryExportContent openPayslipArchive(SalaryExportBatchRequest request);
+
+    /**
+     * 현재 테넌트가 발급받은 다운로드 토큰 파일.
+     *
+     * @param token 다운로드 토큰
+     * @return 만료·타 테넌트·없는 토큰이면 empty
+     */
+    Optional<SalaryExportDownloadStore.StoredDownload> findDownload(String token);
 }
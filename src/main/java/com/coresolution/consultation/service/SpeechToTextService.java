@@ -2,6 +2,7 @@ package com.coresolution.consultation.service;
 
 import com.coresolution.consultation.entity.AudioTranscription;
 import com.coresolution.consultation.entity.ConsultationAudioFile;
+import com.coresolution.consultation.service.stt.TranscriptSegmentListener;
 
 import java.io.InputStream;
 
@@ -23,6 +24,15 @@ public interface SpeechToTextService {
      */
     AudioTranscription transcribeAudio(ConsultationAudioFile audioFile);
 
+    /**
+     * 음성 파일을 텍스트로 전사하며, 확정된 세그먼트를 도착 즉시 수신자에 전달
+     *
+     * @param audioFile 음성 파일 엔티티
+     * @param listener 세그먼트 수신자
+     * @return 전사 결과
+     */
+    AudioTranscription transcribeAudio(ConsultationAudioFile audioFile, TranscriptSegmentListener listener);
+
     /**
      * 실시간 스트리밍 전사
      *
@@ -38,6 +48,22 @@ public interface SpeechToTextService {
      */
     void transcribeAudioAsync(Long audioFileId);
 
+    /**
+     * 전사 재시도 선점 — FAILED 이거나 오래 멈춘(PENDING·PROCESSING) 전사만 PROCESSING 으로 바꾼다.
+     * 진행 중인 전사와 재시도가 겹치지 않도록 재시도 전에 호출한다.
+     *
+     * @param audioFileId 음성 파일 ID
+     * @return 선점했으면 true
+     */
+    boolean claimTranscriptionRetry(Long audioFileId);
+
+    /**
+     * 전사 실행기가 포화돼 작업을 받지 못한 파일을 FAILED 로 남겨 재시도할 수 있게 한다.
+     *
+     * @param audioFileId 음성 파일 ID
+     */
+    void markTranscriptionRejected(Long audioFileId);
+
     /**
      * 전사 상태 확인
      *
@@ -3,6 +3,7 @@ package com.coresolution.consultation.service;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 import com.coresolution.consultation.entity.AiUsageLog;
 import com.coresolution.consultation.repository.AiUsageLogRepository;
 import com.coresolution.consultation.service.ai.AiChatCompletionResult;
@@ -197,6 +198,27 @@ public class WellnessAiService {
      * @return 생성된 컨텐츠 또는 회전 fallback 컨텐츠
      */
     public WellnessContent generateWellnessContent(Integer dayOfWeek, String season, String category, String requestedBy) {
+        return generate(dayOfWeek, season, category, requestedBy, null);
+    }
+
+    /**
+     * 웰니스 컨텐츠 스트리밍 생성 — LLM 원문(JSON) 조각을 도착 즉시 {@code onRawDelta} 로 전달하고,
+     * 완료 후 {@link #generateWellnessContent(Integer, String, String, String)} 와 동일하게 파싱한 결과를 반환한다.
+     *
+     * @param dayOfWeek 요일 (1-7)
+     * @param season 계절
+     * @param category 카테고리
+     * @param requestedBy 요청 주체 식별 (사용 로그용)
+     * @param onRawDelta LLM 원문 조각 콜백
+     * @return 생성된 컨텐츠 또는 회전 fallback 컨텐츠
+     */
+    public WellnessContent generateWellnessContentStreaming(Integer dayOfWeek, String season, String category,
+            String requestedBy, Consumer<String> onRawDelta) {
+        return generate(dayOfWeek, season, category, requestedBy, onRawDelta);
+    }
+
+    private WellnessContent generate(Integer dayOfWeek, String season, String category, String requestedBy,
+            Consumer<String> onRawDelta) {
         long startTime = System.currentTimeMillis();
         String tenantId = resolveTenantId();
         String systemPrompt = "당신은 마음 건강 전문가이며, 내담자들을 위한 따뜻하고 실용적인 웰니스 팁을 작성합니다.";
@@ -213,7 +235,9 @@ public class WellnessAiService {
                     .callerId(CALLER_ID)
                     .traceId(UUID.randomUUID().toString())
                     .build();
-            AiChatCompletionResult result = aiChatCompletionService.completeChat(request);
+            AiChatCompletionResult result = onRawDelta != null
+                    ? aiChatCompletionService.streamChat(request, onRawDelta)
+                    : aiChatCompletionService.completeChat(request);
             long responseTime = System.currentTimeMillis() - startTime;
             String modelForLog = StringUtils.hasText(result.model()) ? result.model() : "unknown";
             String providerForLog = resolveProviderLabel(result);
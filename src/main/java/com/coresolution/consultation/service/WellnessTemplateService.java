@@ -3,6 +3,7 @@ package com.coresolution.consultation.service;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Random;
+import java.util.function.Consumer;
 import com.coresolution.consultation.entity.WellnessTemplate;
 import com.coresolution.consultation.repository.WellnessTemplateRepository;
 import com.coresolution.consultation.service.WellnessAiService.WellnessContent;
@@ -148,4 +149,12 @@ public class WellnessTemplateService {
     public WellnessContent generateWellnessContent(Integer dayOfWeek, String season, String category, String requestedBy) {
         return wellnessAiService.generateWellnessContent(dayOfWeek, season, category, requestedBy);
     }
+    
+    /**
+     * 웰니스 컨텐츠 스트리밍 생성 (테스트용)
+     */
+    public WellnessContent generateWellnessContentStreaming(Integer dayOfWeek, String season, String category,
+            String requestedBy, Consumer<String> onRawDelta) {
+        return wellnessAiService.generateWellnessContentStreaming(dayOfWeek, season, category, requestedBy, onRawDelta);
+    }
 }
\ No newline at end of file
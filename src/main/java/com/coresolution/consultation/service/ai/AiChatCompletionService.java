@@ -1,6 +1,7 @@
 package com.coresolution.consultation.service.ai;
 
 import com.coresolution.consultation.service.ai.dto.AiCompletionRequest;
+import java.util.function.Consumer;
 
 /**
  * 시스템 설정의 기본 AI 프로바이더에 따라 OpenAI Chat Completions 또는 Gemini {@code generateContent}로
@@ -36,4 +37,22 @@ public interface AiChatCompletionService {
      * @return 결과 (isFallback, parsedJson, requestedProvider, effectiveProvider 포함)
      */
     AiChatCompletionResult completeChat(AiCompletionRequest request);
+
+    /**
+     * SSOT DTO 기반 스트리밍 채팅 완성 — 생성 텍스트 조각을 도착 즉시 {@code onDelta} 로 전달하고,
+     * 완료 후 {@link #completeChat(AiCompletionRequest)} 와 동일한 형태의 누적 결과를 반환한다.
+     *
+     * <p>스트리밍 결과는 응답 캐시·병합 대상이 아니다. 기본 구현은 비스트리밍 결과를 한 번에 전달한다.</p>
+     *
+     * @param request AI 완성 요청 DTO (tenantId 필수)
+     * @param onDelta 텍스트 조각 콜백 (호출 스레드에서 순차 호출)
+     * @return 누적 결과 (isFallback, parsedJson 포함)
+     */
+    default AiChatCompletionResult streamChat(AiCompletionRequest request, Consumer<String> onDelta) {
+        AiChatCompletionResult result = completeChat(request);
+        if (result.hasUsableText()) {
+            onDelta.accept(result.text());
+        }
+        return result;
+    }
 }
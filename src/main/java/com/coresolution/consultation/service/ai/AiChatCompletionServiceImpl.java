@@ -5,12 +5,17 @@ import com.coresolution.consultation.service.ai.dto.AiCompletionRequest;
 import com.coresolution.consultation.service.ai.dto.AiResponseFormat;
 import com.coresolution.consultation.service.ai.parser.AiJsonResponseParser;
 import com.coresolution.core.context.TenantContextHolder;
+import com.coresolution.core.service.ai.AiSseStreamReader;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpEntity;
@@ -46,6 +51,7 @@ public class AiChatCompletionServiceImpl implements AiChatCompletionService {
     private final AiJsonResponseParser jsonResponseParser;
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final AiResponseCache responseCache;
 
     @Override
     public AiChatCompletionResult completeChat(
@@ -83,13 +89,77 @@ public class AiChatCompletionServiceImpl implements AiChatCompletionService {
         String previousTenantId = TenantContextHolder.getTenantId();
         try {
             TenantContextHolder.setTenantId(tenantId);
-            AiChatCompletionResult raw = completeChatInternal(
+            final String provider = requestedProvider;
+            Supplier<AiChatCompletionResult> upstream = () -> completeChatInternal(
                     request.getSystemPrompt(),
                     request.getUserPrompt(),
                     request.getMaxTokensOrDefault(),
                     request.getTemperatureOrDefault(),
                     jsonMime,
-                    requestedProvider);
+                    provider);
+            // 캐시 정책(caller TTL·PII 제외) 통과 시 동일 프롬프트 응답 재사용 + 진행 중 동일 요청 병합
+            Optional<Duration> cacheTtl = responseCache.resolveTtl(request);
+            AiChatCompletionResult raw;
+            if (cacheTtl.isPresent()) {
+                String key = responseCache.buildKey(
+                        request, provider, systemConfigService.getModelForProvider(provider));
+                raw = responseCache.getOrCompute(tenantId, request.getCallerId(), key, cacheTtl.get(), upstream);
+            } else {
+                raw = upstream.get();
+            }
+            return enrichResult(raw, request.getResponseFormatOrDefault());
+        } finally {
+            if (previousTenantId != null && !previousTenantId.isBlank()) {
+                TenantContextHolder.setTenantId(previousTenantId);
+            } else {
+                TenantContextHolder.clear();
+            }
+        }
+    }
+
+    /**
+     * 스트리밍 채팅 완성. 프로바이더 해석·테넌트 컨텍스트 처리는 {@link #completeChat(AiCompletionRequest)} 와 같다.
+     *
+     * <p>첫 조각을 받기 전 스트림 호출이 실패하면(모델 미지원·스트림 거부 등) 기존 비스트리밍 경로로
+     * 한 번 재시도해 결과를 한 번에 전달한다. 조각 전달이 시작된 뒤의 실패는 재시도하지 않고 실패 결과를 반환한다
+     * (클라이언트에 중복 본문이 전달되는 것을 막기 위함).</p>
+     */
+    @Override
+    public AiChatCompletionResult streamChat(AiCompletionRequest request, Consumer<String> onDelta) {
+        if (request == null || request.getTenantId() == null || request.getTenantId().isBlank()) {
+            throw new IllegalArgumentException("tenantId 는 필수입니다 (멀티테넌트 격리).");
+        }
+        String tenantId = request.getTenantId();
+        String requested = request.getRequestedProvider() != null && !request.getRequestedProvider().isBlank()
+                ? request.getRequestedProvider().trim().toLowerCase()
+                : providerResolver.resolveProvider(tenantId);
+        boolean jsonMime = request.getResponseFormatOrDefault() == AiResponseFormat.JSON;
+        String previousTenantId = TenantContextHolder.getTenantId();
+        AtomicBoolean emitted = new AtomicBoolean(false);
+        Consumer<String> trackingDelta = delta -> {
+            emitted.set(true);
+            onDelta.accept(delta);
+        };
+        try {
+            TenantContextHolder.setTenantId(tenantId);
+            AiChatCompletionResult raw;
+            try {
+                raw = streamChatInternal(request, requested, jsonMime, trackingDelta);
+            } catch (Exception e) {
+                if (emitted.get()) {
+                    log.error("AI chat stream interrupted: requestedProvider={}, error={}", requested, e.getMessage(), e);
+                    raw = new AiChatCompletionResult(false, "", requested, "", "unknown", 0, 0, 0,
+                            truncateReason(e));
+                } else {
+                    log.info("AI chat stream unavailable (requestedProvider={}, reason={}), falling back to blocking call",
+                            requested, e.getMessage());
+                    raw = completeChatInternal(request.getSystemPrompt(), request.getUserPrompt(),
+                            request.getMaxTokensOrDefault(), request.getTemperatureOrDefault(), jsonMime, requested);
+                    if (raw.hasUsableText()) {
+                        onDelta.accept(raw.text());
+                    }
+                }
+            }
             return enrichResult(raw, request.getResponseFormatOrDefault());
         } finally {
             if (previousTenantId != null && !previousTenantId.isBlank()) {
@@ -100,6 +170,129 @@ public class AiChatCompletionServiceImpl implements AiChatCompletionService {
         }
     }
 
+    private AiChatCompletionResult streamChatInternal(
+            AiCompletionRequest request,
+            String requested,
+            boolean jsonMime,
+            Consumer<String> onDelta) {
+        Optional<EffectiveTarget> target = resolveEffectiveTarget(requested);
+        if (target.isEmpty()) {
+            log.warn("AI chat stream: requestedProvider={}, no openai/gemini API key available", requested);
+            return new AiChatCompletionResult(false, "", requested, "", "unknown", 0, 0, 0,
+                    "no_openai_or_gemini_api_key");
+        }
+        EffectiveTarget t = target.get();
+        StringBuilder text = new StringBuilder();
+        int[] usage = new int[3];
+        String model;
+        if (PROVIDER_GEMINI.equalsIgnoreCase(t.effectiveProviderId())) {
+            String baseUrl = StringUtils.hasText(t.apiUrl()) ? t.apiUrl() : GEMINI_DEFAULT_URL;
+            model = normalizeGeminiModelId(t.model());
+            if (!StringUtils.hasText(model)) {
+                return new AiChatCompletionResult(false, "", requested, PROVIDER_GEMINI,
+                        t.model() != null ? t.model() : "", 0, 0, 0, "gemini_model_empty");
+            }
+            String url = (baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl)
+                    + "/models/" + model + ":streamGenerateContent?alt=sse";
+            Map<String, Object> generationConfig = new HashMap<>();
+            generationConfig.put("maxOutputTokens", request.getMaxTokensOrDefault());
+            generationConfig.put("temperature", request.getTemperatureOrDefault());
+            if (jsonMime) {
+                generationConfig.put("responseMimeType", "application/json");
+            }
+            Map<String, Object> requestBody = new HashMap<>();
+            requestBody.put("contents", List.of(Map.of("parts", List.of(Map.of("text",
+                    request.getSystemPrompt() + "\n\n" + request.getUserPrompt())))));
+            requestBody.put("generationConfig", generationConfig);
+            HttpHeaders headers = new HttpHeaders();
+            headers.set("x-goog-api-key", t.apiKey());
+            executeSse(url, headers, requestBody, chunk -> {
+                for (JsonNode part : chunk.path("candidates").path(0).path("content").path("parts")) {
+                    appendDelta(text, part.path("text").asText(null), onDelta);
+                }
+                JsonNode um = chunk.path("usageMetadata");
+                if (um.isObject()) {
+                    usage[0] = um.path("promptTokenCount").asInt(usage[0]);
+                    usage[1] = um.path("candidatesTokenCount").asInt(usage[1]);
+                    usage[2] = um.path("totalTokenCount").asInt(usage[2]);
+                }
+            });
+        } else {
+            String apiUrl = StringUtils.hasText(t.apiUrl()) ? t.apiUrl() : systemConfigService.getOpenAIApiUrl();
+            model = StringUtils.hasText(t.model()) ? t.model() : systemConfigService.getOpenAIModel();
+            Map<String, Object> requestBody = new HashMap<>();
+            requestBody.put("model", model);
+            requestBody.put("messages", List.of(
+                    Map.of("role", "system", "content", nullToEmpty(request.getSystemPrompt())),
+                    Map.of("role", "user", "content", nullToEmpty(request.getUserPrompt()))));
+            requestBody.put("max_tokens", request.getMaxTokensOrDefault());
+            requestBody.put("temperature", request.getTemperatureOrDefault());
+            requestBody.put("stream", true);
+            requestBody.put("stream_options", Map.of("include_usage", true));
+            HttpHeaders headers = new HttpHeaders();
+            headers.setBearerAuth(t.apiKey());
+            executeSse(apiUrl, headers, requestBody, chunk -> {
+                appendDelta(text, chunk.path("choices").path(0).path("delta").path("content").asText(null), onDelta);
+                JsonNode u = chunk.path("usage");
+                if (u.isObject()) {
+                    usage[0] = u.path("prompt_tokens").asInt(0);
+                    usage[1] = u.path("completion_tokens").asInt(0);
+                    usage[2] = u.path("total_tokens").asInt(0);
+                }
+            });
+        }
+        if (usage[2] == 0 && (usage[0] > 0 || usage[1] > 0)) {
+            usage[2] = usage[0] + usage[1];
+        }
+        if (!StringUtils.hasText(text)) {
+            return new AiChatCompletionResult(false, "", requested, t.effectiveProviderId(), model, 0, 0, 0,
+                    "empty_response");
+        }
+        log.info("AI chat stream success: effectiveProvider={}, model={}, responseLen={}",
+                t.effectiveProviderId(), model, text.length());
+        return new AiChatCompletionResult(true, text.toString(), requested, t.effectiveProviderId(), model,
+                usage[0], usage[1], usage[2], null);
+    }
+
+    private void executeSse(String url, HttpHeaders headers, Map<String, Object> requestBody,
+            Consumer<JsonNode> onChunk) {
+        restTemplate.execute(url, HttpMethod.POST, req -> {
+            req.getHeaders().putAll(headers);
+            req.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            req.getHeaders().setAccept(List.of(MediaType.TEXT_EVENT_STREAM));
+            objectMapper.writeValue(req.getBody(), requestBody);
+        }, res -> {
+            AiSseStreamReader.read(res.getBody(), payload -> {
+                if (AiSseStreamReader.OPENAI_DONE.equals(payload)) {
+                    return false;
+                }
+                try {
+                    onChunk.accept(objectMapper.readTree(payload));
+                } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
+                    log.debug("AI chat stream chunk parse skipped: {}", e.getMessage());
+                }
+                return true;
+            });
+            return null;
+        });
+    }
+
+    private static void appendDelta(StringBuilder text, String delta, Consumer<String> onDelta) {
+        if (delta != null && !delta.isEmpty()) {
+            text.append(delta);
+            onDelta.accept(delta);
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    private static String truncateReason(Exception e) {
+        String reason = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        return reason.length() > 400 ? reason.substring(0, 400) + "..." : reason;
+    }
+
     private AiChatCompletionResult enrichResult(AiChatCompletionResult raw, AiResponseFormat format) {
         boolean isFallback = raw.effectiveProviderId() != null
                 && raw.requestedProviderId() != null
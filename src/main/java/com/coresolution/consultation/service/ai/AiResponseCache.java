@@ -0,0 +1,284 @@
+package com.coresolution.consultation.service.ai;
+
+import com.coresolution.consultation.config.AiResponseCacheProperties;
+import com.coresolution.consultation.service.ai.dto.AiCompletionRequest;
+import com.coresolution.consultation.util.pii.PiiScrubberStrategy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * AI 채팅 완성 응답 캐시 + 동시 동일 요청 병합(coalescing).
+ *
+ * <p>키는 테넌트·프로바이더·모델·정규화된 프롬프트·maxTokens·temperature·응답 형식의 SHA-256.
+ * 동일 키의 요청이 진행 중이면 upstream 을 다시 호출하지 않고 진행 중인 결과를 공유한다.
+ * 성공 응답만 caller 별 TTL 동안 보관한다.</p>
+ *
+ * <p>캐시·병합으로 반환된 결과는 토큰 수를 0 으로 돌려준다 — 호출자의 사용 로그가 실제 upstream
+ * 소비만 기록하도록 하기 위함이며, 절감 토큰은 {@link #statsFor(String)} 로 별도 집계한다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiResponseCache {
+
+    static final String METRIC_REQUESTS = "ai.response.cache.requests";
+    static final String METRIC_SAVED_TOKENS = "ai.response.cache.saved.tokens";
+    private static final String TAG_RESULT = "result";
+    private static final String TAG_CALLER = "caller";
+    static final String RESULT_HIT = "hit";
+    static final String RESULT_COALESCED = "coalesced";
+    static final String RESULT_MISS = "miss";
+
+    private static final Pattern WHITESPACE_RUN = Pattern.compile("\\s+");
+
+    private final AiResponseCacheProperties properties;
+    private final PiiScrubberStrategy piiScrubber;
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private final Map<String, CachedResponse> entries = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<AiChatCompletionResult>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, TenantCounters> tenantCounters = new ConcurrentHashMap<>();
+
+    private record CachedResponse(AiChatCompletionResult result, long expiresAtMillis) {
+    }
+
+    private static final class TenantCounters {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder coalesced = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder savedTokens = new LongAdder();
+    }
+
+    /**
+     * 테넌트 캐시 통계 스냅샷 (프로세스 기동 이후 누적).
+     *
+     * @param hits        캐시 적중 수
+     * @param coalesced   진행 중 요청에 병합된 수
+     * @param misses      upstream 호출 수 (캐시 대상 요청 중)
+     * @param savedTokens 적중·병합으로 절감한 토큰 합계
+     */
+    public record CacheStats(long hits, long coalesced, long misses, long savedTokens) {
+
+        /**
+         * @return 캐시 대상 요청 중 upstream 을 호출하지 않은 비율 (0~100)
+         */
+        public double hitRate() {
+            long total = hits + coalesced + misses;
+            return total > 0 ? ((hits + coalesced) * 100.0) / total : 0.0;
+        }
+    }
+
+    /**
+     * 캐시 정책 판단. caller 가 TTL 맵에 없거나 프롬프트에 PII 가 감지되면 empty.
+     *
+     * @param request 완성 요청
+     * @return 적용 TTL 또는 empty(캐시·병합 제외)
+     */
+    public Optional<Duration> resolveTtl(AiCompletionRequest request) {
+        if (!properties.isEnabled() || request == null || !StringUtils.hasText(request.getCallerId())) {
+            return Optional.empty();
+        }
+        Duration ttl = properties.getCallerTtl().get(request.getCallerId());
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            return Optional.empty();
+        }
+        if (containsPii(request.getSystemPrompt()) || containsPii(request.getUserPrompt())) {
+            log.debug("AI response cache: PII 감지로 캐시 제외 — caller={}", request.getCallerId());
+            return Optional.empty();
+        }
+        return Optional.of(ttl);
+    }
+
+    /**
+     * 캐시 키 생성.
+     *
+     * @param request    완성 요청
+     * @param providerId 해석된 요청 프로바이더
+     * @param model      프로바이더 설정 모델
+     * @return SHA-256 hex 키
+     */
+    public String buildKey(AiCompletionRequest request, String providerId, String model) {
+        StringBuilder material = new StringBuilder(256)
+                .append(request.getTenantId()).append('\u0001')
+                .append(providerId).append('\u0001')
+                .append(model).append('\u0001')
+                .append(request.getMaxTokensOrDefault()).append('\u0001')
+                .append(request.getTemperatureOrDefault()).append('\u0001')
+                .append(request.getResponseFormatOrDefault()).append('\u0001')
+                .append(normalizePrompt(request.getSystemPrompt())).append('\u0001')
+                .append(normalizePrompt(request.getUserPrompt()));
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(material.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            return material.toString();
+        }
+    }
+
+    /**
+     * 캐시 조회 → 진행 중 요청 병합 → upstream 호출 순으로 결과를 반환한다.
+     *
+     * @param tenantId 테넌트 ID (통계 귀속)
+     * @param callerId caller(use-case) 라벨
+     * @param key      {@link #buildKey} 결과
+     * @param ttl      {@link #resolveTtl} 결과
+     * @param upstream 실제 AI 호출
+     * @return 결과 (캐시·병합 결과는 토큰 0)
+     */
+    public AiChatCompletionResult getOrCompute(String tenantId, String callerId, String key, Duration ttl,
+            Supplier<AiChatCompletionResult> upstream) {
+        TenantCounters counters = tenantCounters.computeIfAbsent(tenantId, t -> new TenantCounters());
+        long now = System.currentTimeMillis();
+        CachedResponse cached = entries.get(key);
+        if (cached != null) {
+            if (cached.expiresAtMillis() > now) {
+                counters.hits.increment();
+                recordReuse(counters, RESULT_HIT, callerId, cached.result());
+                return asReused(cached.result());
+            }
+            entries.remove(key, cached);
+        }
+
+        CompletableFuture<AiChatCompletionResult> mine = new CompletableFuture<>();
+        CompletableFuture<AiChatCompletionResult> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            AiChatCompletionResult shared = awaitShared(existing);
+            counters.coalesced.increment();
+            recordReuse(counters, RESULT_COALESCED, callerId, shared);
+            return asReused(shared);
+        }
+        try {
+            AiChatCompletionResult result = upstream.get();
+            counters.misses.increment();
+            recordResult(RESULT_MISS, callerId);
+            if (result != null && result.hasUsableText()) {
+                entries.put(key, new CachedResponse(result, System.currentTimeMillis() + ttl.toMillis()));
+                evictIfOverCapacity();
+            }
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 테넌트 캐시 통계.
+     *
+     * @param tenantId 테넌트 ID
+     * @return 누적 통계 (기록 없으면 0)
+     */
+    public CacheStats statsFor(String tenantId) {
+        TenantCounters c = tenantId != null ? tenantCounters.get(tenantId) : null;
+        if (c == null) {
+            return new CacheStats(0, 0, 0, 0);
+        }
+        return new CacheStats(c.hits.sum(), c.coalesced.sum(), c.misses.sum(), c.savedTokens.sum());
+    }
+
+    private boolean containsPii(String text) {
+        if (!StringUtils.hasText(text)) {
+            return false;
+        }
+        String scrubbed = piiScrubber.scrub(text);
+        return scrubbed != null && !scrubbed.equals(text);
+    }
+
+    private static String normalizePrompt(String prompt) {
+        if (prompt == null) {
+            return "";
+        }
+        return WHITESPACE_RUN.matcher(prompt.trim()).replaceAll(" ");
+    }
+
+    private static AiChatCompletionResult awaitShared(CompletableFuture<AiChatCompletionResult> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw cause instanceof RuntimeException re ? re : new RuntimeException(cause);
+        }
+    }
+
+    private static AiChatCompletionResult asReused(AiChatCompletionResult result) {
+        if (result == null) {
+            return null;
+        }
+        return new AiChatCompletionResult(
+                result.success(),
+                result.text(),
+                result.requestedProviderId(),
+                result.effectiveProviderId(),
+                result.model(),
+                0,
+                0,
+                0,
+                result.errorMessage());
+    }
+
+    private void evictIfOverCapacity() {
+        int max = Math.max(1, properties.getMaxEntries());
+        if (entries.size() <= max) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        entries.entrySet().removeIf(e -> e.getValue().expiresAtMillis() <= now);
+        while (entries.size() > max) {
+            entries.entrySet().stream()
+                    .min((a, b) -> Long.compare(a.getValue().expiresAtMillis(), b.getValue().expiresAtMillis()))
+                    .ifPresentOrElse(e -> entries.remove(e.getKey(), e.getValue()), entries::clear);
+        }
+    }
+
+    private void recordReuse(TenantCounters counters, String result, String callerId,
+            AiChatCompletionResult reused) {
+        recordResult(result, callerId);
+        if (reused == null || !reused.success() || reused.totalTokens() <= 0) {
+            return;
+        }
+        counters.savedTokens.add(reused.totalTokens());
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        if (registry != null) {
+            Counter.builder(METRIC_SAVED_TOKENS)
+                    .tag(TAG_CALLER, callerId)
+                    .register(registry)
+                    .increment(reused.totalTokens());
+        }
+    }
+
+    private void recordResult(String result, String callerId) {
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+        Counter.builder(METRIC_REQUESTS)
+                .tag(TAG_RESULT, result)
+                .tag(TAG_CALLER, callerId)
+                .register(registry)
+                .increment();
+    }
+}
@@ -58,6 +58,7 @@ public class AiUsageStatsService {
     );
 
     private final AiUsageLogRepository usageLogRepository;
+    private final AiResponseCache responseCache;
 
     /** period 미지정 시 기본 echo 라벨. */
     private static final String DEFAULT_PERIOD_LABEL = "month";
@@ -147,6 +148,7 @@ public class AiUsageStatsService {
         long totalTokens = tokensInPeriod != null ? tokensInPeriod : 0L;
 
         List<AiUsageStatsResponse.DailyCount> dailyCalls30d = buildDailyCalls(tenantId, today);
+        AiResponseCache.CacheStats cacheStats = responseCache.statsFor(tenantId);
 
         return AiUsageStatsResponse.builder()
                 .tenantId(tenantId)
@@ -165,6 +167,10 @@ public class AiUsageStatsService {
                 .averageDurationMs(averageDurationMs)
                 .totalTokens(totalTokens)
                 .dailyCalls30d(dailyCalls30d)
+                .responseCacheHitRate(round2(cacheStats.hitRate()))
+                .responseCacheHits(cacheStats.hits())
+                .responseCacheCoalesced(cacheStats.coalesced())
+                .responseCacheSavedTokens(cacheStats.savedTokens())
                 .build();
     }
 
@@ -86,6 +86,21 @@ public class AiUsageStatsResponse {
     /** 최근 30일 일별 호출 수 (차트용). */
     private List<DailyCount> dailyCalls30d;
 
+    /**
+     * AI 응답 캐시 적중률 (0~100) — 캐시 대상 요청 중 upstream 호출 없이 응답한 비율(적중 + 동시 요청 병합).
+     * 인스턴스 기동 이후 누적값이며 period 와 무관하다.
+     */
+    private double responseCacheHitRate;
+
+    /** AI 응답 캐시 적중 수 (기동 이후 누적). */
+    private long responseCacheHits;
+
+    /** 진행 중 동일 요청에 병합된 수 (기동 이후 누적). */
+    private long responseCacheCoalesced;
+
+    /** 캐시 적중·병합으로 절감한 토큰 합계 (기동 이후 누적). */
+    private long responseCacheSavedTokens;
+
     /**
      * 일자별 호출 수 항목.
      */
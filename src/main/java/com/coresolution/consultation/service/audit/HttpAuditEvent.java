@@ -0,0 +1,77 @@
+package com.coresolution.consultation.service.audit;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * HTTP 감사 이벤트 (불변) — {@code http_audit_events} 1행.
+ *
+ * <p>요청 스레드에서 생성되며 문자열 길이는 컬럼 크기에 맞춰 미리 자른다. 직렬화·적재·알림은
+ * {@link HttpAuditPipeline} 이 맡는다.</p>
+ *
+ * @param occurredAt     요청 완료 시각
+ * @param tenantId       테넌트 (없으면 null)
+ * @param userId         세션 userId (비로그인 null)
+ * @param eventType      SUCCESS / ERROR
+ * @param securityLevel  HIGH / MEDIUM / LOW
+ * @param method         HTTP 메서드
+ * @param path           요청 경로
+ * @param queryString    쿼리 문자열
+ * @param responseStatus 응답 상태
+ * @param durationMs     처리 시간 (ms)
+ * @param clientIp       클라이언트 IP
+ * @param userAgent      User-Agent
+ * @param errorMessage   예외 메시지 (정상 시 null)
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public record HttpAuditEvent(LocalDateTime occurredAt, String tenantId, String userId, String eventType,
+        String securityLevel, String method, String path, String queryString, int responseStatus,
+        long durationMs, String clientIp, String userAgent, String errorMessage) {
+
+    public static final String LEVEL_HIGH = "HIGH";
+    public static final String LEVEL_MEDIUM = "MEDIUM";
+    public static final String LEVEL_LOW = "LOW";
+
+    public HttpAuditEvent {
+        tenantId = truncate(tenantId, 50);
+        userId = truncate(userId, 50);
+        method = truncate(method, 10);
+        path = truncate(path, 500);
+        queryString = truncate(queryString, 1000);
+        clientIp = truncate(clientIp, 45);
+        userAgent = truncate(userAgent, 500);
+        errorMessage = truncate(errorMessage, 1000);
+    }
+
+    /**
+     * 보안 알림·로그용 상세 맵 (기존 감사 로그 키 정합).
+     *
+     * @return 상세 맵
+     */
+    public Map<String, Object> toDetails() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("timestamp", occurredAt);
+        details.put("eventType", eventType);
+        details.put("method", method);
+        details.put("path", path);
+        details.put("queryString", queryString);
+        details.put("clientIp", clientIp);
+        details.put("userAgent", userAgent);
+        details.put("responseStatus", responseStatus);
+        details.put("duration", durationMs + "ms");
+        if (userId != null) {
+            details.put("userId", userId);
+        }
+        if (errorMessage != null) {
+            details.put("error", errorMessage);
+        }
+        details.put("securityLevel", securityLevel);
+        return details;
+    }
+
+    private static String truncate(String value, int max) {
+        return value != null && value.length() > max ? value.substring(0, max) : value;
+    }
+}
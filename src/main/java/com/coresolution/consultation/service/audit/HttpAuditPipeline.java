@@ -0,0 +1,479 @@
+package com.coresolution.consultation.service.audit;
+
+import com.coresolution.consultation.config.HttpAuditProperties;
+import com.coresolution.consultation.service.SecurityAlertService;
+import com.coresolution.core.context.TenantContextHolder;
+import com.coresolution.core.util.LogSanitizer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * HTTP 감사 이벤트 파이프라인 — {@code AuditLoggingFilter} 의 비동기 배치 적재기.
+ *
+ * <p>요청 스레드는 불변 {@link HttpAuditEvent} 를 lock-free 큐({@link ConcurrentLinkedQueue} + 원자 카운터)에
+ * 넣고 즉시 반환한다. 전용 스레드가 주기 또는 {@code batch-size} 도달 시 {@code http_audit_events} 에
+ * JDBC batch insert 하고, 기존과 같은 {@code SECURITY_AUDIT_*} 로그를 남긴다.</p>
+ *
+ * <p>감사 이벤트는 버리지 않는다. 큐가 차면 요청 스레드는 넘친 이벤트를 같은 크기의 넘침 대기열에 넘기기만 하고,
+ * 적재 스레드가 flush 마다 그 이벤트와 적재 실패분을 {@code spill-directory} 의 JSON Lines 파일로 내려쓴다 —
+ * 디스크 동기화 쓰기는 적재 스레드에서만 한다. 다음 flush 에서 파일을 재적재 파일로 옮겨 배치 단위로 다시
+ * 넣고, 적재한 이벤트는 그때 {@code SECURITY_AUDIT_*} 로그를 남긴다. 재적재 중 실패하면 남은 줄만 파일에 남겨
+ * 중복 적재를 막는다. 넘침 대기열까지 차면 그 이벤트는 로그만 남기고 드롭한다. 종료 시 큐를 모두 비우며,
+ * DB 가 불가하면 파일로 남는다.</p>
+ *
+ * <p>보안 알림(HIGH 등급, 403)은 {@code securityAlertExecutor} 로 넘겨 적재 스레드가 메일 발송을 기다리지 않는다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HttpAuditPipeline {
+
+    static final String METRIC_EVENTS = "audit.http.events";
+    private static final String TAG_OUTCOME = "outcome";
+    static final String OUTCOME_PERSISTED = "persisted";
+    static final String OUTCOME_SPILLED = "spilled";
+    static final String OUTCOME_REPLAYED = "replayed";
+    static final String OUTCOME_DROPPED = "dropped";
+
+    static final String SPILL_FILE = "http-audit-spill.jsonl";
+    static final String REPLAY_FILE = "http-audit-spill.replay.jsonl";
+
+    private static final String INSERT_EVENT = "INSERT INTO http_audit_events "
+            + "(occurred_at, tenant_id, user_id, event_type, security_level, http_method, path, query_string, "
+            + "response_status, duration_ms, client_ip, user_agent, error_message) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final HttpAuditProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final SecurityAlertService securityAlertService;
+    @Qualifier("securityAlertExecutor")
+    private final Executor securityAlertExecutor;
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private final Queue<HttpAuditEvent> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final Queue<HttpAuditEvent> overflow = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger overflowSize = new AtomicInteger();
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ReentrantLock spillLock = new ReentrantLock();
+    private volatile ScheduledExecutorService flushExecutor;
+    private volatile boolean shuttingDown;
+
+    @PostConstruct
+    void start() {
+        if (!properties.isEnabled()) {
+            log.info("HTTP 감사 파이프라인 비활성 — 요청 스레드에서 즉시 적재");
+            return;
+        }
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "http-audit-writer");
+            t.setDaemon(true);
+            return t;
+        });
+        long intervalMs = Math.max(100L, properties.getFlushInterval().toMillis());
+        executor.scheduleWithFixedDelay(this::flushQuietly, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        flushExecutor = executor;
+        log.info("✅ HTTP 감사 파이프라인 시작: capacity={}, batchSize={}, flushInterval={}ms, spill={}",
+                properties.getCapacity(), properties.getBatchSize(), intervalMs, properties.getSpillDirectory());
+    }
+
+    /**
+     * 감사 이벤트 제출. 보안 알림 대상이면 알림 실행기로 넘긴다.
+     *
+     * @param event 감사 이벤트
+     */
+    public void submit(HttpAuditEvent event) {
+        if (event == null) {
+            return;
+        }
+        dispatchAlerts(event);
+        if (flushExecutor == null || shuttingDown) {
+            // 비활성 또는 종료 이후 늦게 도착한 이벤트: 호출 스레드에서 즉시 적재
+            writeBatch(List.of(event));
+            return;
+        }
+        int capacity = Math.max(1, properties.getCapacity());
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            handOff(event, capacity);
+            return;
+        }
+        queue.offer(event);
+        if (size.get() >= properties.getBatchSize() && flushRequested.compareAndSet(false, true)) {
+            try {
+                flushExecutor.execute(this::flushQuietly);
+            } catch (RejectedExecutionException e) {
+                flushRequested.set(false);
+            }
+        }
+    }
+
+    /**
+     * 넘친 이벤트를 내려쓰고 대기 이벤트를 모두 적재한 뒤 내려쓰기 파일을 재적재한다 (flush 스레드·종료 훅 공용).
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushRequested.set(false);
+            int batchSize = Math.max(1, properties.getBatchSize());
+            List<HttpAuditEvent> batch;
+            do {
+                spillOverflow(batchSize);
+                batch = drain(batchSize);
+                if (!batch.isEmpty()) {
+                    writeBatch(batch);
+                }
+            } while (!batch.isEmpty());
+            spillOverflow(batchSize);
+            replaySpill();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * @return 큐 대기 이벤트 수
+     */
+    public int pending() {
+        return size.get();
+    }
+
+    /**
+     * 종료 시 진행 중 flush 를 기다린 뒤 남은 이벤트를 모두 적재(또는 내려쓰기)한다.
+     */
+    @PreDestroy
+    void shutdown() {
+        shuttingDown = true;
+        ScheduledExecutorService executor = flushExecutor;
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(properties.getShutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+        int pending = size.get();
+        flush();
+        log.info("HTTP 감사 파이프라인 종료: drained={}", pending);
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("HTTP 감사 flush 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 큐가 찬 요청 스레드의 넘친 이벤트를 적재 스레드로 넘긴다. 넘침 대기열도 차면 로그만 남기고 드롭한다.
+     */
+    private void handOff(HttpAuditEvent event, int capacity) {
+        if (overflowSize.incrementAndGet() > capacity) {
+            overflowSize.decrementAndGet();
+            record(OUTCOME_DROPPED, 1);
+            log.error("❌ HTTP 감사 넘침 대기열 포화 — 1건 드롭: path={}", LogSanitizer.forLog(event.path()));
+            logEvent(event);
+            return;
+        }
+        overflow.offer(event);
+    }
+
+    private void spillOverflow(int batchSize) {
+        List<HttpAuditEvent> batch;
+        while (!(batch = drainOverflow(batchSize)).isEmpty()) {
+            spill(batch);
+        }
+    }
+
+    private List<HttpAuditEvent> drainOverflow(int max) {
+        List<HttpAuditEvent> batch = new ArrayList<>();
+        HttpAuditEvent event;
+        while (batch.size() < max && (event = overflow.poll()) != null) {
+            batch.add(event);
+        }
+        overflowSize.addAndGet(-batch.size());
+        return batch;
+    }
+
+    private List<HttpAuditEvent> drain(int max) {
+        List<HttpAuditEvent> batch = new ArrayList<>(Math.min(max, Math.max(size.get(), 1)));
+        HttpAuditEvent event;
+        while (batch.size() < max && (event = queue.poll()) != null) {
+            batch.add(event);
+        }
+        size.addAndGet(-batch.size());
+        return batch;
+    }
+
+    private void writeBatch(List<HttpAuditEvent> batch) {
+        if (insert(batch)) {
+            record(OUTCOME_PERSISTED, batch.size());
+            batch.forEach(this::logEvent);
+        } else {
+            spill(batch);
+        }
+    }
+
+    private boolean insert(List<HttpAuditEvent> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_EVENT, batch, batch.size(), this::bind);
+            return true;
+        } catch (Exception e) {
+            log.warn("HTTP 감사 batch insert 실패 — {}건 내려쓰기: {}", batch.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void bind(PreparedStatement ps, HttpAuditEvent event) throws SQLException {
+        ps.setTimestamp(1, Timestamp.valueOf(event.occurredAt() != null ? event.occurredAt() : LocalDateTime.now()));
+        ps.setString(2, event.tenantId());
+        ps.setString(3, event.userId());
+        ps.setString(4, event.eventType());
+        ps.setString(5, event.securityLevel());
+        ps.setString(6, event.method());
+        ps.setString(7, event.path());
+        ps.setString(8, event.queryString());
+        ps.setInt(9, event.responseStatus());
+        ps.setLong(10, event.durationMs());
+        ps.setString(11, event.clientIp());
+        ps.setString(12, event.userAgent());
+        ps.setString(13, event.errorMessage());
+    }
+
+    // ==================== 내려쓰기 / 재적재 ====================
+
+    private void spill(List<HttpAuditEvent> events) {
+        spillLock.lock();
+        try {
+            Path dir = Paths.get(properties.getSpillDirectory());
+            Files.createDirectories(dir);
+            Path file = dir.resolve(SPILL_FILE);
+            StringBuilder lines = new StringBuilder();
+            for (HttpAuditEvent event : events) {
+                lines.append(objectMapper.writeValueAsString(event)).append('\n');
+            }
+            byte[] bytes = lines.toString().getBytes(StandardCharsets.UTF_8);
+            long current = Files.exists(file) ? Files.size(file) : 0L;
+            if (current + bytes.length > properties.getMaxSpillSize().toBytes()) {
+                record(OUTCOME_DROPPED, events.size());
+                log.error("❌ HTTP 감사 내려쓰기 한도 초과 — {}건 드롭 (file={}bytes)", events.size(), current);
+                return;
+            }
+            Files.write(file, bytes, StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+            record(OUTCOME_SPILLED, events.size());
+        } catch (IOException e) {
+            record(OUTCOME_DROPPED, events.size());
+            log.error("❌ HTTP 감사 내려쓰기 실패 — {}건 드롭: {}", events.size(), e.getMessage());
+        } finally {
+            spillLock.unlock();
+        }
+    }
+
+    private void replaySpill() {
+        Path dir = Paths.get(properties.getSpillDirectory());
+        Path replay = dir.resolve(REPLAY_FILE);
+        spillLock.lock();
+        try {
+            Path spill = dir.resolve(SPILL_FILE);
+            if (!Files.exists(replay) && Files.exists(spill)) {
+                Files.move(spill, replay, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException e) {
+            log.warn("HTTP 감사 내려쓰기 파일 전환 실패: {}", e.getMessage());
+            return;
+        } finally {
+            spillLock.unlock();
+        }
+        if (!Files.exists(replay)) {
+            return;
+        }
+
+        int batchSize = Math.max(1, properties.getBatchSize());
+        int replayed = 0;
+        try (BufferedReader reader = Files.newBufferedReader(replay, StandardCharsets.UTF_8)) {
+            List<String> lines = new ArrayList<>(batchSize);
+            List<HttpAuditEvent> batch = new ArrayList<>(batchSize);
+            String line;
+            while (true) {
+                lines.clear();
+                batch.clear();
+                while (batch.size() < batchSize && (line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    HttpAuditEvent parsed = parse(line);
+                    if (parsed != null) {
+                        lines.add(line);
+                        batch.add(parsed);
+                    }
+                }
+                if (batch.isEmpty()) {
+                    break;
+                }
+                if (!insert(batch)) {
+                    rewriteRemaining(replay, lines, reader);
+                    log.warn("HTTP 감사 재적재 중단 — {}건 적재 후 나머지 보존", replayed);
+                    return;
+                }
+                batch.forEach(this::logEvent);
+                replayed += batch.size();
+            }
+        } catch (IOException e) {
+            log.warn("HTTP 감사 재적재 파일 읽기 실패: {}", e.getMessage());
+            return;
+        }
+        try {
+            Files.deleteIfExists(replay);
+        } catch (IOException e) {
+            log.warn("HTTP 감사 재적재 파일 삭제 실패: {}", e.getMessage());
+        }
+        if (replayed > 0) {
+            record(OUTCOME_REPLAYED, replayed);
+            log.info("HTTP 감사 내려쓰기 {}건 재적재 완료", replayed);
+        }
+    }
+
+    private HttpAuditEvent parse(String line) {
+        try {
+            return objectMapper.readValue(line, HttpAuditEvent.class);
+        } catch (IOException e) {
+            record(OUTCOME_DROPPED, 1);
+            log.warn("HTTP 감사 내려쓰기 줄 해석 실패 — 건너뜀: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /** 실패한 배치 줄 + 읽지 않은 나머지를 새 파일에 쓰고 재적재 파일을 교체한다. */
+    private void rewriteRemaining(Path replay, List<String> failedLines, BufferedReader rest) throws IOException {
+        Path tmp = replay.resolveSibling(REPLAY_FILE + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+            for (String failed : failedLines) {
+                writer.write(failed);
+                writer.newLine();
+            }
+            String line;
+            while ((line = rest.readLine()) != null) {
+                writer.write(line);
+                writer.newLine();
+            }
+        }
+        Files.move(tmp, replay, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // ==================== 로그 / 보안 알림 ====================
+
+    private void logEvent(HttpAuditEvent event) {
+        String level = event.securityLevel();
+        if (HttpAuditEvent.LEVEL_LOW.equals(level) && !log.isDebugEnabled()) {
+            return;
+        }
+        String auditJson;
+        try {
+            auditJson = objectMapper.writeValueAsString(event.toDetails());
+        } catch (Exception e) {
+            auditJson = event.method() + " " + event.path() + " " + event.responseStatus();
+        }
+        switch (level) {
+            case HttpAuditEvent.LEVEL_HIGH -> log.warn("🔒 SECURITY_AUDIT_HIGH: {}", auditJson);
+            case HttpAuditEvent.LEVEL_MEDIUM -> log.info("🔍 SECURITY_AUDIT_MEDIUM: {}", auditJson);
+            case HttpAuditEvent.LEVEL_LOW -> log.debug("📝 SECURITY_AUDIT_LOW: {}", auditJson);
+            default -> log.info("📋 SECURITY_AUDIT: {}", auditJson);
+        }
+    }
+
+    private void dispatchAlerts(HttpAuditEvent event) {
+        boolean high = HttpAuditEvent.LEVEL_HIGH.equals(event.securityLevel());
+        Long forbiddenUserId = event.responseStatus() == 403 ? parseUserId(event.userId()) : null;
+        if (securityAlertService == null || (!high && forbiddenUserId == null)) {
+            return;
+        }
+        try {
+            securityAlertExecutor.execute(() -> {
+                String previousTenantId = TenantContextHolder.peekTenantId();
+                TenantContextHolder.setTenantIdOrClear(event.tenantId());
+                try {
+                    if (high) {
+                        securityAlertService.sendSecurityAlert("SECURITY_AUDIT_HIGH", HttpAuditEvent.LEVEL_HIGH,
+                                event.toDetails());
+                    }
+                    if (forbiddenUserId != null) {
+                        securityAlertService.sendUnauthorizedAccessAlert(forbiddenUserId, event.path(),
+                                event.clientIp());
+                    }
+                } catch (Exception e) {
+                    log.warn("HTTP 감사 보안 알림 실패: {}", e.getMessage());
+                } finally {
+                    TenantContextHolder.setTenantIdOrClear(previousTenantId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("HTTP 감사 보안 알림 대기열 포화 — 건너뜀: path={}", LogSanitizer.forLog(event.path()));
+        }
+    }
+
+    private static Long parseUserId(String userId) {
+        if (userId == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(userId);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private void record(String outcome, int count) {
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        if (registry != null) {
+            Counter.builder(METRIC_EVENTS)
+                    .tag(TAG_OUTCOME, outcome)
+                    .register(registry)
+                    .increment(count);
+        }
+    }
+}
@@ -17,8 +17,9 @@ public interface ErpFinancialCloseService {
      *
      * @param tenantId 테넌트 ID
      * @param targetDate 마감 대상일(전일)
+     * @return 마감(dry-run 이면 합산)을 마쳤으면 true, 부가세 가드로 차단되면 false
      */
-    void performDailyClose(String tenantId, LocalDate targetDate);
+    boolean performDailyClose(String tenantId, LocalDate targetDate);
 
     /**
      * 정기 주 마감(재무) — 전주 종료일 기준 주간 집계
@@ -33,6 +34,7 @@ public interface ErpFinancialCloseService {
      *
      * @param tenantId 테넌트 ID
      * @param yearMonth 전월
+     * @return 마감(dry-run 이면 합산)을 마쳤으면 true, 부가세 가드로 차단되면 false
      */
-    void performMonthlyClose(String tenantId, YearMonth yearMonth);
+    boolean performMonthlyClose(String tenantId, YearMonth yearMonth);
 }
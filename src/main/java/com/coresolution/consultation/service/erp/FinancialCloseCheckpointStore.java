@@ -0,0 +1,152 @@
+package com.coresolution.consultation.service.erp;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import com.coresolution.consultation.entity.erp.financial.PeriodType;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 정기 재무 마감 테넌트별 체크포인트 ({@code financial_close_checkpoints}).
+ *
+ * <p>행마다 자동 커밋으로 바로 반영하므로 실행이 중간에 죽어도 마친 기간은 남는다. 테넌트를 잡을 때는
+ * {@link #claim(String, PeriodType, LocalDate, Duration)} 의 조건부 UPDATE 한 건으로 다른 실행(재개 잡·다른
+ * 슬롯)과 겹치지 않게 한다. 쓰기 실패는 경고만 남긴다 — 체크포인트가 없으면 해당 기간을 다시 마감할 뿐이고
+ * 마감 자체는 UPSERT 라 결과가 같다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FinancialCloseCheckpointStore {
+
+    static final String STATUS_RUNNING = "RUNNING";
+    static final String STATUS_CLOSED = "CLOSED";
+    static final String STATUS_DRY_RUN = "DRY_RUN";
+    static final String STATUS_BLOCKED = "BLOCKED";
+    static final String STATUS_FAILED = "FAILED";
+
+    private static final int ERROR_MAX_LENGTH = 500;
+
+    private static final String SELECT_BY_TYPE = "SELECT tenant_id, last_closed_start "
+            + "FROM financial_close_checkpoints WHERE period_type = ?";
+
+    private static final String INSERT_IDLE = "INSERT IGNORE INTO financial_close_checkpoints "
+            + "(tenant_id, period_type, status, updated_at) VALUES (?, ?, 'IDLE', NOW(3))";
+
+    private static final String CLAIM = "UPDATE financial_close_checkpoints "
+            + "SET status = 'RUNNING', current_start = ?, started_at = NOW(3), finished_at = NULL, "
+            + "last_error = NULL, updated_at = NOW(3) "
+            + "WHERE tenant_id = ? AND period_type = ? "
+            + "AND (last_closed_start IS NULL OR last_closed_start < ?) "
+            + "AND (status <> 'RUNNING' OR updated_at < NOW(3) - INTERVAL ? SECOND)";
+
+    private static final String MARK_CLOSED = "UPDATE financial_close_checkpoints "
+            + "SET last_closed_start = ?, current_start = ?, status = ?, "
+            + "finished_at = CASE WHEN ? = 'CLOSED' THEN NOW(3) ELSE NULL END, last_duration_ms = ?, "
+            + "updated_at = NOW(3) WHERE tenant_id = ? AND period_type = ?";
+
+    private static final String MARK_STOPPED = "UPDATE financial_close_checkpoints "
+            + "SET status = ?, finished_at = NOW(3), last_duration_ms = ?, last_error = ?, updated_at = NOW(3) "
+            + "WHERE tenant_id = ? AND period_type = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 마감 유형의 전 테넌트 체크포인트를 한 번에 읽는다.
+     *
+     * @param type 마감 유형
+     * @return 테넌트 ID → 마지막으로 마감을 마친 기간 시작일 (마친 기간이 없으면 값 없음). 조회 실패 시 빈 맵
+     */
+    public Map<String, LocalDate> lastClosedStarts(PeriodType type) {
+        Map<String, LocalDate> lastClosed = new HashMap<>();
+        try {
+            jdbcTemplate.query(SELECT_BY_TYPE, (RowCallbackHandler) rs -> lastClosed.put(rs.getString("tenant_id"),
+                    toLocalDate(rs.getDate("last_closed_start"))), type.name());
+        } catch (DataAccessException e) {
+            log.warn("[ErpFinancialClose] 체크포인트 조회 실패 — 대상 기간만 마감: type={}, error={}", type,
+                    e.getMessage());
+            return Map.of();
+        }
+        return lastClosed;
+    }
+
+    /**
+     * 테넌트를 잡는다. 이미 {@code periodStart} 이후까지 마쳤거나 다른 실행이 임대 시간 안에 잡고 있으면 실패한다.
+     * 임대는 잡은 시각이 아니라 마지막 기록({@code updated_at}) 기준이라, 기간을 마칠 때마다
+     * {@link #markClosed} 가 임대를 연장한다 — 밀린 기간이 많아 오래 걸리는 실행을 재개 잡이 가로채지 않는다.
+     *
+     * @param tenantId    테넌트 ID
+     * @param type        마감 유형
+     * @param periodStart 이번에 마감할 첫 기간 시작일
+     * @param lease       다른 실행의 RUNNING 을 마지막 기록 이후 존중하는 시간
+     * @return 잡았으면 true (체크포인트를 쓸 수 없을 때도 마감은 진행하도록 true)
+     */
+    public boolean claim(String tenantId, PeriodType type, LocalDate periodStart, Duration lease) {
+        try {
+            jdbcTemplate.update(INSERT_IDLE, tenantId, type.name());
+            return jdbcTemplate.update(CLAIM, Date.valueOf(periodStart), tenantId, type.name(),
+                    Date.valueOf(periodStart), lease.toSeconds()) == 1;
+        } catch (DataAccessException e) {
+            log.warn("[ErpFinancialClose] 체크포인트 잡기 실패 — 체크포인트 없이 진행: tenantId={}, type={}, error={}",
+                    tenantId, type, e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 기간 1건 마감을 기록한다.
+     *
+     * @param tenantId    테넌트 ID
+     * @param type        마감 유형
+     * @param closedStart 마감을 마친 기간 시작일
+     * @param nextStart   이어서 마감할 기간 시작일 (마지막이면 {@code null} — 상태 CLOSED)
+     * @param durationMs  테넌트 마감 누적 소요 (ms)
+     */
+    public void markClosed(String tenantId, PeriodType type, LocalDate closedStart, LocalDate nextStart,
+            long durationMs) {
+        String status = nextStart == null ? STATUS_CLOSED : STATUS_RUNNING;
+        try {
+            jdbcTemplate.update(MARK_CLOSED, Date.valueOf(closedStart),
+                    nextStart == null ? null : Date.valueOf(nextStart), status, status, durationMs, tenantId,
+                    type.name());
+        } catch (DataAccessException e) {
+            log.warn("[ErpFinancialClose] 체크포인트 기록 실패: tenantId={}, type={}, closedStart={}, error={}",
+                    tenantId, type, closedStart, e.getMessage());
+        }
+    }
+
+    /**
+     * 차단(부가세 가드)·실패로 멈추거나 dry-run 으로 끝난 테넌트를 기록한다. 마지막 마감 기간은 그대로라 다음
+     * 실행이 멈춘 기간부터 다시 한다.
+     *
+     * @param tenantId   테넌트 ID
+     * @param type       마감 유형
+     * @param status     {@code BLOCKED}, {@code FAILED} 또는 {@code DRY_RUN}
+     * @param durationMs 테넌트 마감 누적 소요 (ms)
+     * @param error      원인 (없으면 {@code null})
+     */
+    public void markStopped(String tenantId, PeriodType type, String status, long durationMs, String error) {
+        String message = error != null && error.length() > ERROR_MAX_LENGTH ? error.substring(0, ERROR_MAX_LENGTH)
+                : error;
+        try {
+            jdbcTemplate.update(MARK_STOPPED, status, durationMs, message, tenantId, type.name());
+        } catch (DataAccessException e) {
+            log.warn("[ErpFinancialClose] 체크포인트 기록 실패: tenantId={}, type={}, status={}, error={}", tenantId,
+                    type, status, e.getMessage());
+        }
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date != null ? date.toLocalDate() : null;
+    }
+}
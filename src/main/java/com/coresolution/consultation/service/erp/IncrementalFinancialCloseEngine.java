@@ -0,0 +1,312 @@
+package com.coresolution.consultation.service.erp;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import com.coresolution.consultation.config.FinancialCloseProperties;
+import com.coresolution.consultation.entity.erp.financial.PeriodType;
+import com.coresolution.core.context.TenantContextHolder;
+import com.coresolution.core.service.TenantService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 정기 일/월 재무 마감 증분 실행기.
+ *
+ * <ol>
+ *   <li>전 테넌트 체크포인트를 한 번에 읽어 테넌트마다 마지막으로 마친 기간 다음부터 대상 기간까지만 마감한다
+ *       (밀린 기간은 {@code max-catch-up-*} 까지 따라잡음). 체크포인트가 없는 테넌트는 대상 기간만 마감한다.
+ *       대상 기간까지 마친 테넌트는 조회 1행으로 끝나므로, 중간에 죽은 실행을 다시 돌리면 남은 테넌트만 처리한다</li>
+ *   <li>테넌트는 {@code financial-close} bulkhead 에서 {@code max-concurrent-tenants} 개까지 동시에 마감한다.
+ *       마감 1건은 테넌트·기간 범위 합산이라 거래 이력이 쌓여도 테넌트당 비용은 밀린 기간 수에만 비례한다</li>
+ *   <li>기간을 마칠 때마다 체크포인트를 남기고, 부가세 가드 차단·실패 시 그 테넌트는 멈춘다 — 다음 실행이 멈춘
+ *       기간부터 다시 한다. 한 테넌트 실패는 다른 테넌트를 막지 않는다</li>
+ *   <li>dry-run 에서는 기간이 OPEN 으로 남으므로 체크포인트를 넘기지 않고 상태만 DRY_RUN 으로 남긴다 — dry-run 을
+ *       끄면 그동안 밀린 기간을 처음부터 실제로 마감한다</li>
+ *   <li>{@value #METRIC_TENANT_CLOSE} 타이머는 테넌트를 잡은 뒤 마지막 기간까지 걸린 시간을 마감 유형과 결과
+ *       (closed·dry_run·blocked·failed)별로 잰다. 가장 느린 테넌트는 실행 요약에도 남는다</li>
+ * </ol>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IncrementalFinancialCloseEngine {
+
+    static final String METRIC_TENANT_CLOSE = "erp.financial_close.tenant";
+
+    static final String OUTCOME_CLOSED = "closed";
+    static final String OUTCOME_DRY_RUN = "dry_run";
+    static final String OUTCOME_BLOCKED = "blocked";
+    static final String OUTCOME_FAILED = "failed";
+
+    private final FinancialCloseProperties properties;
+    private final TenantService tenantService;
+    private final ErpFinancialCloseService erpFinancialCloseService;
+    private final FinancialCloseCheckpointStore checkpointStore;
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    @Qualifier("financialCloseExecutor")
+    private final Executor financialCloseExecutor;
+
+    /**
+     * 테넌트 마감 실패 1건.
+     *
+     * @param tenantId    테넌트 ID
+     * @param periodStart 멈춘 기간 시작일
+     * @param error       원인
+     */
+    public record TenantFailure(String tenantId, LocalDate periodStart, Exception error) {
+    }
+
+    /**
+     * 마감 실행 요약.
+     *
+     * @param tenants          활성 테넌트 수
+     * @param upToDate         이미 대상 기간까지 마쳐 건너뛴 테넌트 수
+     * @param claimedElsewhere 다른 실행이 잡고 있어 건너뛴 테넌트 수
+     * @param closedPeriods    이번에 마감한 기간 수 (전 테넌트 합)
+     * @param dryRunPeriods    dry-run 으로 합산만 한 기간 수 (전 테넌트 합, 체크포인트 미반영)
+     * @param blocked          부가세 가드로 멈춘 테넌트 수
+     * @param failures         실패로 멈춘 테넌트
+     * @param slowestTenant    가장 오래 걸린 테넌트 (없으면 {@code null})
+     * @param slowestMillis    가장 오래 걸린 테넌트 소요 (ms)
+     */
+    public record CloseSummary(int tenants, int upToDate, int claimedElsewhere, int closedPeriods, int dryRunPeriods,
+            int blocked, List<TenantFailure> failures, String slowestTenant, long slowestMillis) {
+    }
+
+    /**
+     * @return 증분 실행 사용 여부 ({@code incremental=false} 면 스케줄러가 기존 순차 마감을 쓴다)
+     */
+    public boolean isEnabled() {
+        return properties.isIncremental();
+    }
+
+    /**
+     * @return 기간 마감 dry-run 여부 (체크포인트를 넘기지 않음)
+     */
+    public boolean isDryRun() {
+        return properties.isDryRun();
+    }
+
+    /**
+     * 전 활성 테넌트를 대상 기간까지 마감한다. 모든 테넌트 작업이 끝날 때까지 기다린다.
+     *
+     * @param type        {@link PeriodType#DAY} 또는 {@link PeriodType#MONTH}
+     * @param targetStart 대상 기간 시작일 (일 마감은 전일, 월 마감은 전월 1일)
+     * @return 실행 요약
+     */
+    public CloseSummary run(PeriodType type, LocalDate targetStart) {
+        if (type != PeriodType.DAY && type != PeriodType.MONTH) {
+            throw new IllegalArgumentException("증분 마감은 DAY/MONTH 만 지원합니다: " + type);
+        }
+        List<String> tenantIds = tenantService.getAllActiveTenantIds();
+        Map<String, LocalDate> lastClosed = checkpointStore.lastClosedStarts(type);
+        Tally tally = new Tally();
+        Semaphore budget = new Semaphore(Math.max(1, properties.getMaxConcurrentTenants()));
+        List<CompletableFuture<Void>> running = new ArrayList<>();
+
+        for (String tenantId : tenantIds) {
+            List<LocalDate> pending = pendingPeriods(type, tenantId, lastClosed.get(tenantId), targetStart);
+            if (pending.isEmpty()) {
+                tally.upToDate();
+                continue;
+            }
+            budget.acquireUninterruptibly();
+            try {
+                running.add(CompletableFuture.runAsync(() -> closeTenant(type, tenantId, pending, tally),
+                                financialCloseExecutor)
+                        .exceptionally(error -> {
+                            tally.failed(new TenantFailure(tenantId, pending.get(0), unwrap(error)));
+                            return null;
+                        })
+                        .whenComplete((ignored, error) -> budget.release()));
+            } catch (RejectedExecutionException e) {
+                budget.release();
+                tally.failed(new TenantFailure(tenantId, pending.get(0), e));
+            }
+        }
+        for (CompletableFuture<Void> future : running) {
+            future.join();
+        }
+        return tally.summary(tenantIds.size());
+    }
+
+    /**
+     * 테넌트 1건의 밀린 기간을 순서대로 마감한다. 잡기·마감 실패는 {@link TenantFailure} 로 남긴다 — 그래도
+     * 빠져나간 예외는 {@link #run} 이 테넌트 future 마다 실패로 받아 나머지 테넌트를 계속 기다린다.
+     */
+    private void closeTenant(PeriodType type, String tenantId, List<LocalDate> pending, Tally tally) {
+        boolean claimed;
+        try {
+            claimed = checkpointStore.claim(tenantId, type, pending.get(0), properties.getRunningLease());
+        } catch (RuntimeException e) {
+            log.warn("[ErpFinancialClose] 테넌트 잡기 실패 — 건너뜀: tenantId={}, type={}, error={}", tenantId, type,
+                    e.getMessage());
+            tally.failed(new TenantFailure(tenantId, pending.get(0), e));
+            return;
+        }
+        if (!claimed) {
+            log.info("[ErpFinancialClose] 다른 실행이 마감 중이거나 이미 마감됨 — 건너뜀: tenantId={}, type={}", tenantId,
+                    type);
+            tally.claimedElsewhere();
+            return;
+        }
+        long started = System.nanoTime();
+        boolean dryRun = properties.isDryRun();
+        String outcome = dryRun ? OUTCOME_DRY_RUN : OUTCOME_CLOSED;
+        try {
+            TenantContextHolder.setTenantId(tenantId);
+            for (int i = 0; i < pending.size(); i++) {
+                LocalDate periodStart = pending.get(i);
+                boolean closed;
+                try {
+                    closed = closeOne(type, tenantId, periodStart);
+                } catch (Exception e) {
+                    outcome = OUTCOME_FAILED;
+                    checkpointStore.markStopped(tenantId, type, FinancialCloseCheckpointStore.STATUS_FAILED,
+                            elapsedMillis(started), e.getMessage());
+                    tally.failed(new TenantFailure(tenantId, periodStart, e));
+                    return;
+                }
+                if (!closed) {
+                    outcome = OUTCOME_BLOCKED;
+                    checkpointStore.markStopped(tenantId, type, FinancialCloseCheckpointStore.STATUS_BLOCKED,
+                            elapsedMillis(started), "부가세 가드 차단: " + periodStart);
+                    tally.blocked();
+                    return;
+                }
+                if (dryRun) {
+                    tally.dryRunPeriod();
+                    continue;
+                }
+                LocalDate next = i + 1 < pending.size() ? pending.get(i + 1) : null;
+                checkpointStore.markClosed(tenantId, type, periodStart, next, elapsedMillis(started));
+                tally.closedPeriod();
+            }
+            if (dryRun) {
+                checkpointStore.markStopped(tenantId, type, FinancialCloseCheckpointStore.STATUS_DRY_RUN,
+                        elapsedMillis(started), null);
+            }
+        } finally {
+            TenantContextHolder.clear();
+            long elapsed = System.nanoTime() - started;
+            tally.latency(tenantId, TimeUnit.NANOSECONDS.toMillis(elapsed));
+            MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+            if (registry != null) {
+                Timer.builder(METRIC_TENANT_CLOSE).tag("type", type.name()).tag("outcome", outcome)
+                        .register(registry).record(elapsed, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private boolean closeOne(PeriodType type, String tenantId, LocalDate periodStart) {
+        return type == PeriodType.DAY
+                ? erpFinancialCloseService.performDailyClose(tenantId, periodStart)
+                : erpFinancialCloseService.performMonthlyClose(tenantId, YearMonth.from(periodStart));
+    }
+
+    /**
+     * 체크포인트 다음 기간부터 대상 기간까지. 따라잡기 상한을 넘는 오래된 기간은 건너뛰고 경고한다.
+     */
+    List<LocalDate> pendingPeriods(PeriodType type, String tenantId, LocalDate lastClosedStart,
+            LocalDate targetStart) {
+        boolean monthly = type == PeriodType.MONTH;
+        LocalDate target = monthly ? targetStart.withDayOfMonth(1) : targetStart;
+        LocalDate earliest = monthly
+                ? target.minusMonths(Math.max(1, properties.getMaxCatchUpMonths()) - 1L)
+                : target.minusDays(Math.max(1, properties.getMaxCatchUpDays()) - 1L);
+        LocalDate from = target;
+        if (lastClosedStart != null) {
+            LocalDate next = monthly ? lastClosedStart.withDayOfMonth(1).plusMonths(1) : lastClosedStart.plusDays(1);
+            if (next.isBefore(earliest)) {
+                log.warn("[ErpFinancialClose] 따라잡기 상한 초과 — {} 이전 기간은 건너뜀: tenantId={}, type={}, "
+                        + "lastClosed={}", earliest, tenantId, type, lastClosedStart);
+                next = earliest;
+            }
+            from = next;
+        }
+        List<LocalDate> periods = new ArrayList<>();
+        for (LocalDate start = from; !start.isAfter(target);
+                start = monthly ? start.plusMonths(1) : start.plusDays(1)) {
+            periods.add(start);
+        }
+        return periods;
+    }
+
+    private static Exception unwrap(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof Exception exception ? exception : new CompletionException(cause);
+    }
+
+    private static long elapsedMillis(long startedNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
+    }
+
+    /**
+     * 테넌트 작업 스레드들이 함께 쓰는 실행 집계.
+     */
+    private static final class Tally {
+
+        private final List<TenantFailure> failures = new ArrayList<>();
+        private int upToDate;
+        private int claimedElsewhere;
+        private int closedPeriods;
+        private int dryRunPeriods;
+        private int blocked;
+        private String slowestTenant;
+        private long slowestMillis = -1;
+
+        private synchronized void upToDate() {
+            upToDate++;
+        }
+
+        private synchronized void claimedElsewhere() {
+            claimedElsewhere++;
+        }
+
+        private synchronized void closedPeriod() {
+            closedPeriods++;
+        }
+
+        private synchronized void dryRunPeriod() {
+            dryRunPeriods++;
+        }
+
+        private synchronized void blocked() {
+            blocked++;
+        }
+
+        private synchronized void failed(TenantFailure failure) {
+            failures.add(failure);
+        }
+
+        private synchronized void latency(String tenantId, long millis) {
+            if (millis > slowestMillis) {
+                slowestMillis = millis;
+                slowestTenant = tenantId;
+            }
+        }
+
+        private synchronized CloseSummary summary(int tenants) {
+            return new CloseSummary(tenants, upToDate, claimedElsewhere, closedPeriods, dryRunPeriods,
+                    blocked, List.copyOf(failures), slowestTenant, Math.max(0, slowestMillis));
+        }
+    }
+}
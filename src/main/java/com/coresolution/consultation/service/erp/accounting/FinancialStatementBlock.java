@@ -0,0 +1,80 @@
+package com.coresolution.consultation.service.erp.accounting;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 재무제표 월 블록 — 한 달 원장을 계정별로 분류·요약한 결과.
+ *
+ * <p>손익계산서·재무상태표·현금흐름표는 모두 요청 기간에 걸친 월 블록을 이어 붙여 계산한다. 마감된 월의
+ * 블록은 {@code financial_statement_snapshots} 에 한 번 저장되어 재오픈 전까지 그대로 재사용되고,
+ * 미마감 월의 블록은 원장 지문이 바뀐 달만 다시 계산된다 ({@link FinancialStatementBlockStore}).</p>
+ *
+ * @param month 블록 월
+ * @param lines 원장 1건당 1라인 (계정 ID·기간 순)
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public record FinancialStatementBlock(YearMonth month, List<Line> lines) {
+
+    /**
+     * @param month 블록 월
+     * @return 원장이 없는 달의 빈 블록
+     */
+    public static FinancialStatementBlock empty(YearMonth month) {
+        return new FinancialStatementBlock(month, List.of());
+    }
+
+    /**
+     * 재무제표 계정 분류. 한 계정이 여러 분류에 동시에 속할 수 있다 (예: 고정자산 → 자산 + 투자).
+     * 영업(수익·비용)과 재무(부채·자본) 활동은 조합으로 판단한다.
+     */
+    public enum AccountClass {
+        REVENUE, EXPENSE, ASSET, LIABILITY, EQUITY, INVESTING
+    }
+
+    /**
+     * 원장 1건 요약.
+     *
+     * @param ledgerId       원장 ID (여러 달 블록에 걸친 원장의 중복 제거 키)
+     * @param accountId      계정 ID
+     * @param accountName    계정명 (예금주 표기)
+     * @param classes        계정 분류
+     * @param totalDebit     총 차변
+     * @param totalCredit    총 대변
+     * @param closingBalance 기말 잔액
+     */
+    public record Line(
+            Long ledgerId,
+            Long accountId,
+            String accountName,
+            Set<AccountClass> classes,
+            BigDecimal totalDebit,
+            BigDecimal totalCredit,
+            BigDecimal closingBalance) {
+
+        /**
+         * @param accountClass 분류
+         * @return 해당 분류 소속 여부
+         */
+        public boolean in(AccountClass accountClass) {
+            return classes != null && classes.contains(accountClass);
+        }
+
+        /**
+         * @return 대변 − 차변 (수익·영업·재무 활동 금액)
+         */
+        public BigDecimal creditNet() {
+            return totalCredit.subtract(totalDebit);
+        }
+
+        /**
+         * @return 차변 − 대변 (비용·투자 활동 금액)
+         */
+        public BigDecimal debitNet() {
+            return totalDebit.subtract(totalCredit);
+        }
+    }
+}
@@ -0,0 +1,356 @@
+package com.coresolution.consultation.service.erp.accounting;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import com.coresolution.consultation.config.FinancialStatementCacheProperties;
+import com.coresolution.consultation.entity.erp.financial.FinancialPeriod;
+import com.coresolution.consultation.entity.erp.financial.PeriodStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재무제표 월 블록 저장소.
+ *
+ * <p><b>마감 월</b>: CLOSED 상태 월 {@link FinancialPeriod} 의 블록을 {@code financial_statement_snapshots}
+ * 에 한 번 저장하고 이후에는 원장을 읽지 않는다. 행은 기간 버전({@code @Version})과 함께 저장되어 재마감
+ * 등으로 버전이 바뀌면 무시되고, 재오픈 시 {@link #evictClosed(String, Long)} 로 지운다.</p>
+ *
+ * <p><b>미마감 월</b>: 블록을 메모리에 두고, 요청마다 테넌트·기간 원장 지문(건수·차변·대변·기말잔액 합·최종
+ * 수정시각)을 한 번의 그룹 쿼리로 받아 지문이 같은 달만 재사용한다. 분개가 들어온 달만 다시 계산되므로 다년
+ * 비교의 비용은 바뀐 달 수에 비례한다.</p>
+ *
+ * <p>비활성이거나 조회·저장이 실패하면 {@link Optional#empty()} 를 돌려 호출 측이 원장에서 블록을 다시
+ * 계산한다. 저장 실패는 경고만 남긴다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Slf4j
+@Component
+public class FinancialStatementBlockStore {
+
+    static final String METRIC_BLOCKS = "erp.financial_statement.blocks";
+
+    private static final String SELECT_SNAPSHOT = "SELECT period_version, payload FROM financial_statement_snapshots "
+            + "WHERE tenant_id = ? AND period_id = ?";
+
+    private static final String UPSERT_SNAPSHOT = "INSERT INTO financial_statement_snapshots "
+            + "(tenant_id, period_id, period_version, period_start, period_end, payload, computed_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, NOW(3)) "
+            + "ON DUPLICATE KEY UPDATE period_version = VALUES(period_version), payload = VALUES(payload), "
+            + "period_start = VALUES(period_start), period_end = VALUES(period_end), computed_at = VALUES(computed_at)";
+
+    private static final String DELETE_SNAPSHOT =
+            "DELETE FROM financial_statement_snapshots WHERE tenant_id = ? AND period_id = ?";
+
+    private static final String LEDGER_FINGERPRINTS = "SELECT period_start, COUNT(*), "
+            + "COALESCE(SUM(total_debit), 0), COALESCE(SUM(total_credit), 0), COALESCE(SUM(closing_balance), 0), "
+            + "MAX(updated_at) FROM erp_ledgers "
+            + "WHERE tenant_id = ? AND period_start <= ? AND period_end >= ? GROUP BY period_start";
+
+    private static final TypeReference<List<FinancialStatementBlock.Line>> LINES_TYPE = new TypeReference<>() {
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate writeTransaction;
+    private final ObjectMapper objectMapper;
+    private final FinancialStatementCacheProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final Map<OpenKey, OpenEntry> openBlocks;
+
+    @Autowired
+    public FinancialStatementBlockStore(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper, FinancialStatementCacheProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.openBlocks = newOpenBlockMap(properties);
+    }
+
+    /**
+     * 단위 테스트 용 — {@link TransactionTemplate} 을 직접 주입한다.
+     */
+    FinancialStatementBlockStore(JdbcTemplate jdbcTemplate, TransactionTemplate writeTransaction,
+            ObjectMapper objectMapper, FinancialStatementCacheProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.writeTransaction = writeTransaction;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.openBlocks = newOpenBlockMap(properties);
+    }
+
+    private static Map<OpenKey, OpenEntry> newOpenBlockMap(FinancialStatementCacheProperties properties) {
+        return new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<OpenKey, OpenEntry> eldest) {
+                return size() > Math.max(1, properties.getOpenBlockMaxEntries());
+            }
+        };
+    }
+
+    /**
+     * @return 캐시 사용 여부
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 마감 월 스냅샷 조회.
+     *
+     * @param period CLOSED 상태 월 기간
+     * @return 저장된 블록. 없거나 기간 버전이 다르거나 조회에 실패하면 empty
+     */
+    public Optional<FinancialStatementBlock> findClosed(FinancialPeriod period) {
+        if (!isEnabled() || !isSnapshotTarget(period)) {
+            return Optional.empty();
+        }
+        try {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(SELECT_SNAPSHOT, period.getTenantId(),
+                    period.getId());
+            if (rows.isEmpty()) {
+                return Optional.empty();
+            }
+            Map<String, Object> row = rows.get(0);
+            Object storedVersion = row.get("period_version");
+            Long version = storedVersion instanceof Number number ? number.longValue() : null;
+            if (!Objects.equals(version, period.getVersion())) {
+                return Optional.empty();
+            }
+            List<FinancialStatementBlock.Line> lines = objectMapper.readValue((String) row.get("payload"),
+                    LINES_TYPE);
+            count("closed_snapshot");
+            return Optional.of(new FinancialStatementBlock(YearMonth.from(period.getPeriodStart()), lines));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("재무제표 마감 스냅샷 조회 실패 — 원장 재계산: tenantId={}, periodId={}, error={}",
+                    period.getTenantId(), period.getId(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 마감 월 스냅샷 저장. 호출 측이 읽기 전용 트랜잭션이어도 쓸 수 있도록 별도 트랜잭션에서 실행한다.
+     *
+     * @param period CLOSED 상태 월 기간
+     * @param block  해당 월 블록
+     */
+    public void saveClosed(FinancialPeriod period, FinancialStatementBlock block) {
+        if (!isEnabled() || !isSnapshotTarget(period)) {
+            return;
+        }
+        try {
+            String payload = objectMapper.writeValueAsString(block.lines());
+            writeTransaction.executeWithoutResult(status -> jdbcTemplate.update(UPSERT_SNAPSHOT,
+                    period.getTenantId(), period.getId(), period.getVersion(), Date.valueOf(period.getPeriodStart()),
+                    Date.valueOf(period.getPeriodEnd()), payload));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("재무제표 마감 스냅샷 저장 실패: tenantId={}, periodId={}, error={}", period.getTenantId(),
+                    period.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 재오픈된 기간의 스냅샷 삭제. 재오픈 트랜잭션에 참여해 재오픈이 롤백되면 삭제도 롤백된다.
+     *
+     * @param tenantId 테넌트 ID
+     * @param periodId 기간 ID
+     */
+    public void evictClosed(String tenantId, Long periodId) {
+        if (!isEnabled() || periodId == null) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(DELETE_SNAPSHOT, tenantId, periodId);
+        } catch (DataAccessException e) {
+            // 버전 검증이 남아 있어 재마감 전까지 오래된 스냅샷이 쓰이지 않는다 (재오픈 상태는 스냅샷 대상 아님).
+            log.warn("재무제표 마감 스냅샷 삭제 실패: tenantId={}, periodId={}, error={}", tenantId, periodId,
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * 기간 내 월별 원장 지문 (그룹 쿼리 1회).
+     *
+     * @param tenantId 테넌트 ID
+     * @param from     시작 월
+     * @param to       종료 월
+     * @return 월 → 지문. 원장이 없는 달은 키가 없다. 비활성·조회 실패 시 empty
+     */
+    public Optional<Map<YearMonth, LedgerFingerprint>> fingerprints(String tenantId, YearMonth from, YearMonth to) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        try {
+            Map<YearMonth, LedgerFingerprint> result = new HashMap<>();
+            jdbcTemplate.query(LEDGER_FINGERPRINTS, rs -> {
+                YearMonth month = YearMonth.from(rs.getDate(1).toLocalDate());
+                Timestamp updatedAt = rs.getTimestamp(6);
+                LedgerFingerprint fingerprint = new LedgerFingerprint(rs.getLong(2), rs.getBigDecimal(3),
+                        rs.getBigDecimal(4), rs.getBigDecimal(5),
+                        updatedAt != null ? updatedAt.toLocalDateTime() : null);
+                result.merge(month, fingerprint, LedgerFingerprint::plus);
+            }, tenantId, Date.valueOf(to.atEndOfMonth()), Date.valueOf(from.atDay(1)));
+            return Optional.of(result);
+        } catch (DataAccessException e) {
+            log.warn("원장 지문 조회 실패 — 미마감 월 전체 재계산: tenantId={}, error={}", tenantId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 미마감 월 블록 조회.
+     *
+     * @param tenantId    테넌트 ID
+     * @param month       월
+     * @param fingerprint 현재 원장 지문
+     * @return 지문이 같고 보관 시간 안의 블록. 없으면 empty
+     */
+    public Optional<FinancialStatementBlock> findOpen(String tenantId, YearMonth month,
+            LedgerFingerprint fingerprint) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        OpenEntry entry;
+        synchronized (openBlocks) {
+            entry = openBlocks.get(new OpenKey(tenantId, month));
+        }
+        if (entry == null || !entry.fingerprint().equals(fingerprint)
+                || entry.cachedAt().plus(ttl()).isBefore(Instant.now())) {
+            return Optional.empty();
+        }
+        count("open_cache");
+        return Optional.of(entry.block());
+    }
+
+    /**
+     * 미마감 월 블록 보관.
+     *
+     * @param tenantId    테넌트 ID
+     * @param fingerprint 블록 계산 직전 원장 지문
+     * @param block       블록
+     */
+    public void putOpen(String tenantId, LedgerFingerprint fingerprint, FinancialStatementBlock block) {
+        if (!isEnabled()) {
+            return;
+        }
+        synchronized (openBlocks) {
+            openBlocks.put(new OpenKey(tenantId, block.month()), new OpenEntry(fingerprint, block, Instant.now()));
+        }
+    }
+
+    /**
+     * 원장에서 새로 계산한 블록 수 집계 (캐시 적중률 관측용).
+     */
+    public void recordComputed() {
+        count("computed");
+    }
+
+    private Duration ttl() {
+        Duration ttl = properties.getOpenBlockTtl();
+        return ttl != null ? ttl : Duration.ZERO;
+    }
+
+    private static boolean isSnapshotTarget(FinancialPeriod period) {
+        return period != null && period.getId() != null && period.getStatus() == PeriodStatus.CLOSED
+                && period.getPeriodStart() != null && period.getPeriodEnd() != null;
+    }
+
+    private void count(String source) {
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        if (registry != null) {
+            registry.counter(METRIC_BLOCKS, "source", source).increment();
+        }
+    }
+
+    /**
+     * 한 달 원장 지문. 분개 반영·원장 재계산은 금액 합이나 최종 수정시각 중 하나를 바꾼다.
+     *
+     * @param ledgerCount    원장 수
+     * @param totalDebit     총 차변 합
+     * @param totalCredit    총 대변 합
+     * @param closingBalance 기말 잔액 합
+     * @param lastUpdatedAt  최종 수정시각
+     */
+    public record LedgerFingerprint(
+            long ledgerCount,
+            BigDecimal totalDebit,
+            BigDecimal totalCredit,
+            BigDecimal closingBalance,
+            LocalDateTime lastUpdatedAt) {
+
+        /** 원장이 없는 달. */
+        public static final LedgerFingerprint EMPTY =
+                new LedgerFingerprint(0, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, null);
+
+        /**
+         * @return 원장이 없는 달인지
+         */
+        public boolean isEmpty() {
+            return ledgerCount == 0;
+        }
+
+        LedgerFingerprint plus(LedgerFingerprint other) {
+            LocalDateTime latest = lastUpdatedAt == null ? other.lastUpdatedAt
+                    : other.lastUpdatedAt == null || lastUpdatedAt.isAfter(other.lastUpdatedAt) ? lastUpdatedAt
+                    : other.lastUpdatedAt;
+            return new LedgerFingerprint(ledgerCount + other.ledgerCount, totalDebit.add(other.totalDebit),
+                    totalCredit.add(other.totalCredit), closingBalance.add(other.closingBalance), latest);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof LedgerFingerprint other)) {
+                return false;
+            }
+            // DECIMAL 스케일 차이(100 vs 100.00)는 같은 지문으로 본다.
+            return ledgerCount == other.ledgerCount
+                    && totalDebit.compareTo(other.totalDebit) == 0
+                    && totalCredit.compareTo(other.totalCredit) == 0
+                    && closingBalance.compareTo(other.closingBalance) == 0
+                    && Objects.equals(lastUpdatedAt, other.lastUpdatedAt);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(ledgerCount, totalDebit.stripTrailingZeros(), totalCredit.stripTrailingZeros(),
+                    closingBalance.stripTrailingZeros(), lastUpdatedAt);
+        }
+    }
+
+    private record OpenKey(String tenantId, YearMonth month) {
+    }
+
+    private record OpenEntry(LedgerFingerprint fingerprint, FinancialStatementBlock block, Instant cachedAt) {
+    }
+}
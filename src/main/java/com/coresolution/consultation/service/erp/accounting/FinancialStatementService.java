@@ -26,5 +26,15 @@ public interface FinancialStatementService {
      * 표준 문서: docs/standards/ERP_ADVANCEMENT_STANDARD.md
      */
     Map<String, Object> generateCashFlowStatement(String tenantId, LocalDate startDate, LocalDate endDate);
+    
+    /**
+     * 비교 손익계산서 생성 — 같은 기간을 최근 연도부터 {@code years} 해 거슬러 올라가며 요약하고 전년 대비
+     * 증감을 붙인다. 마감 월은 스냅샷, 미마감 월은 캐시 블록으로 채워진다.
+     * 표준 문서: docs/standards/ERP_ADVANCEMENT_STANDARD.md
+     *
+     * @param years 비교 연수 (1~10, 요청 기간 포함)
+     */
+    Map<String, Object> generateComparativeIncomeStatement(String tenantId, LocalDate startDate, LocalDate endDate,
+            int years);
 }
 
@@ -0,0 +1,69 @@
+package com.coresolution.consultation.service.erp.financial;
+
+import com.coresolution.consultation.entity.erp.financial.FinancialAggregateContribution;
+import com.coresolution.consultation.entity.erp.financial.FinancialTransaction;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회계 거래 → 일별 집계 증감 반영 엔티티 리스너.
+ *
+ * <p>거래를 만드는 서비스가 여럿(회계 거래·급여·결제·할인 회계 등)이라 서비스 메서드마다 집계 코드를 두는
+ * 대신 엔티티 수준에서 한 번에 잡는다. 로드·저장 시점의 몫을 거래에 기억해 두고, flush 때 새 몫과의
+ * 차이만 {@link FinancialDailyAggregateStore} 에 넘긴다. JPA 를 거치지 않는 변경(저장 프로시저 등)은
+ * 일일 대사가 바로잡는다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Component
+@RequiredArgsConstructor
+public class FinancialDailyAggregateListener {
+
+    private final ObjectProvider<FinancialDailyAggregateStore> storeProvider;
+
+    /**
+     * 로드 시점의 몫을 기억한다.
+     *
+     * @param transaction 로드된 거래
+     */
+    @PostLoad
+    public void postLoad(FinancialTransaction transaction) {
+        transaction.setAggregateSnapshot(FinancialAggregateContribution.of(transaction));
+    }
+
+    /**
+     * 생성·수정된 거래의 몫 변화를 반영한다.
+     *
+     * @param transaction 저장된 거래
+     */
+    @PostPersist
+    @PostUpdate
+    public void postWrite(FinancialTransaction transaction) {
+        FinancialAggregateContribution after = FinancialAggregateContribution.of(transaction);
+        FinancialDailyAggregateStore store = storeProvider.getIfAvailable();
+        if (store != null) {
+            store.apply(transaction.getAggregateSnapshot(), after);
+        }
+        transaction.setAggregateSnapshot(after);
+    }
+
+    /**
+     * 물리 삭제된 거래의 몫을 뺀다.
+     *
+     * @param transaction 삭제된 거래
+     */
+    @PostRemove
+    public void postRemove(FinancialTransaction transaction) {
+        FinancialDailyAggregateStore store = storeProvider.getIfAvailable();
+        if (store != null) {
+            store.apply(transaction.getAggregateSnapshot(), null);
+        }
+        transaction.setAggregateSnapshot(null);
+    }
+}
@@ -0,0 +1,421 @@
+package com.coresolution.consultation.service.erp.financial;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import com.coresolution.consultation.config.FinancialAggregateProperties;
+import com.coresolution.consultation.entity.erp.financial.FinancialAggregateContribution;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회계 거래 일별 집계 ({@code financial_daily_aggregates}).
+ *
+ * <p><b>갱신</b>: {@link FinancialDailyAggregateListener} 가 거래 저장·수정·삭제마다
+ * {@link #apply(FinancialAggregateContribution, FinancialAggregateContribution)} 로 이전 몫과 새 몫의 차이만
+ * 반영한다. 호출 측 트랜잭션에 참여하므로 거래가 롤백되면 집계도 함께 롤백된다. 집계 쓰기 실패는 경고만
+ * 남기고 거래 저장을 막지 않으며, {@link #reconcile(String, LocalDate, LocalDate)} 가 원장과 대조해
+ * 바로잡는다.</p>
+ *
+ * <p><b>조회</b>: 테넌트·기간 조건으로 일별 행을 굴려 합산한다. 하루에 쌓이는 행은 (유형 × 상태 × 카테고리)
+ * 조합 수로 제한되므로 비용은 조회 기간 일수에 비례하고 거래 건수와는 무관하다. 집계를 쓸 수 없으면
+ * (비활성·조회 실패) {@link Optional#empty()} 를 돌려 호출 측이 원장 집계로 대체한다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Slf4j
+@Component
+public class FinancialDailyAggregateStore {
+
+    static final String METRIC_REPAIRED_ROWS = "erp.financial_aggregate.repaired_rows";
+
+    private static final String UPSERT_DELTA = "INSERT INTO financial_daily_aggregates "
+            + "(tenant_id, aggregate_date, transaction_type, status, category, total_amount, tax_amount, "
+            + "withholding_tax_amount, txn_count, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, NOW(3)) "
+            + "ON DUPLICATE KEY UPDATE total_amount = total_amount + VALUES(total_amount), "
+            + "tax_amount = tax_amount + VALUES(tax_amount), "
+            + "withholding_tax_amount = withholding_tax_amount + VALUES(withholding_tax_amount), "
+            + "txn_count = txn_count + VALUES(txn_count), updated_at = VALUES(updated_at)";
+
+    private static final String UPSERT_ABSOLUTE = "INSERT INTO financial_daily_aggregates "
+            + "(tenant_id, aggregate_date, transaction_type, status, category, total_amount, tax_amount, "
+            + "withholding_tax_amount, txn_count, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, NOW(3)) "
+            + "ON DUPLICATE KEY UPDATE total_amount = VALUES(total_amount), tax_amount = VALUES(tax_amount), "
+            + "withholding_tax_amount = VALUES(withholding_tax_amount), txn_count = VALUES(txn_count), "
+            + "updated_at = VALUES(updated_at)";
+
+    private static final String KEY_CLAUSE = "tenant_id = ? AND aggregate_date = ? AND transaction_type = ? "
+            + "AND status = ? AND category = ?";
+
+    private static final String LOCK_ROW =
+            "SELECT txn_count FROM financial_daily_aggregates WHERE " + KEY_CLAUSE + " FOR UPDATE";
+
+    private static final String DELETE_ROW = "DELETE FROM financial_daily_aggregates WHERE " + KEY_CLAUSE;
+
+    private static final String SUM_AMOUNT = "SELECT COALESCE(SUM(total_amount), 0) "
+            + "FROM financial_daily_aggregates "
+            + "WHERE tenant_id = ? AND aggregate_date BETWEEN ? AND ? AND transaction_type = ? AND status = ?";
+
+    private static final String CATEGORY_TOTALS = "SELECT category, SUM(total_amount) AS amount, "
+            + "SUM(txn_count) AS cnt FROM financial_daily_aggregates "
+            + "WHERE tenant_id = ? AND aggregate_date BETWEEN ? AND ? AND transaction_type = ? AND status = ? "
+            + "AND txn_count > 0 GROUP BY category ORDER BY amount DESC";
+
+    private static final String MONTHLY_TOTALS = "SELECT YEAR(aggregate_date) AS y, MONTH(aggregate_date) AS m, "
+            + "transaction_type, SUM(total_amount), SUM(txn_count) FROM financial_daily_aggregates "
+            + "WHERE tenant_id = ? AND aggregate_date BETWEEN ? AND ? AND status = ? AND txn_count > 0 "
+            + "GROUP BY YEAR(aggregate_date), MONTH(aggregate_date), transaction_type ORDER BY y, m";
+
+    private static final String TAX_TOTALS = "SELECT "
+            + "COALESCE(SUM(CASE WHEN category = ? THEN total_amount END), 0), "
+            + "COALESCE(SUM(CASE WHEN category = ? THEN tax_amount END), 0) "
+            + "FROM financial_daily_aggregates "
+            + "WHERE tenant_id = ? AND category IN (?, ?) AND aggregate_date BETWEEN ? AND ?";
+
+    private static final String RAW_GROUPS = "SELECT ft.transaction_date, ft.transaction_type, ft.status, "
+            + "COALESCE(ft.category, '') AS category, COALESCE(SUM(ft.amount), 0), COALESCE(SUM(ft.tax_amount), 0), "
+            + "COALESCE(SUM(ft.withholding_tax_amount), 0), COUNT(*) FROM financial_transactions ft "
+            + "WHERE ft.tenant_id = ? AND ft.is_deleted = FALSE AND ft.transaction_date BETWEEN ? AND ? "
+            + "GROUP BY ft.transaction_date, ft.transaction_type, ft.status, COALESCE(ft.category, '')";
+
+    private static final String RAW_KEY = "SELECT ft.transaction_date, ft.transaction_type, ft.status, "
+            + "COALESCE(ft.category, ''), COALESCE(SUM(ft.amount), 0), COALESCE(SUM(ft.tax_amount), 0), "
+            + "COALESCE(SUM(ft.withholding_tax_amount), 0), COUNT(*) FROM financial_transactions ft "
+            + "WHERE ft.tenant_id = ? AND ft.is_deleted = FALSE AND ft.transaction_date = ? "
+            + "AND ft.transaction_type = ? AND ft.status = ? AND COALESCE(ft.category, '') = ? "
+            + "GROUP BY ft.transaction_date, ft.transaction_type, ft.status, COALESCE(ft.category, '')";
+
+    private static final String AGGREGATE_ROWS = "SELECT aggregate_date, transaction_type, status, category, "
+            + "total_amount, tax_amount, withholding_tax_amount, txn_count FROM financial_daily_aggregates "
+            + "WHERE tenant_id = ? AND aggregate_date BETWEEN ? AND ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate repairTransaction;
+    private final FinancialAggregateProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    @Autowired
+    public FinancialDailyAggregateStore(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            FinancialAggregateProperties properties, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.repairTransaction = new TransactionTemplate(transactionManager);
+        this.repairTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.properties = properties;
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
+    /**
+     * 단위 테스트 용 — {@link TransactionTemplate} 을 직접 주입한다.
+     */
+    FinancialDailyAggregateStore(JdbcTemplate jdbcTemplate, TransactionTemplate repairTransaction,
+            FinancialAggregateProperties properties, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.repairTransaction = repairTransaction;
+        this.repairTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.properties = properties;
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
+    /**
+     * 카테고리별 합계.
+     *
+     * @param category         카테고리 ({@code null}: 카테고리 없는 거래)
+     * @param amount           금액 합계
+     * @param transactionCount 거래 건수
+     */
+    public record CategoryTotal(String category, BigDecimal amount, long transactionCount) {
+    }
+
+    /**
+     * 월·유형별 합계.
+     *
+     * @param year             연도
+     * @param month            월
+     * @param transactionType  거래 유형
+     * @param amount           금액 합계
+     * @param transactionCount 거래 건수
+     */
+    public record MonthlyTotal(int year, int month, String transactionType, BigDecimal amount,
+            long transactionCount) {
+    }
+
+    /**
+     * 세금 합계.
+     *
+     * @param directTax 세금 카테고리 거래 금액 합계
+     * @param vat       결제 카테고리 거래 부가세 합계
+     */
+    public record TaxTotals(BigDecimal directTax, BigDecimal vat) {
+    }
+
+    /**
+     * 대사 결과.
+     *
+     * @param ledgerGroups  원장 집계 행 수
+     * @param aggregateRows 집계 테이블 행 수
+     * @param repairedRows  원장 값으로 고친 행 수
+     */
+    public record ReconcileResult(int ledgerGroups, int aggregateRows, int repairedRows) {
+    }
+
+    private record RowKey(LocalDate date, String transactionType, String status, String category) {
+    }
+
+    private record Totals(BigDecimal amount, BigDecimal taxAmount, BigDecimal withholdingTaxAmount, long count) {
+
+        private static final Totals EMPTY = new Totals(BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, 0L);
+
+        boolean matches(Totals other) {
+            return count == other.count
+                    && amount.compareTo(other.amount) == 0
+                    && taxAmount.compareTo(other.taxAmount) == 0
+                    && withholdingTaxAmount.compareTo(other.withholdingTaxAmount) == 0;
+        }
+    }
+
+    /**
+     * @return 집계 사용 여부
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 거래 1건의 몫 변화를 반영한다 (호출 측 트랜잭션 참여).
+     *
+     * @param before 이전 몫 ({@code null}: 새 거래이거나 이전에 집계 대상이 아니었음)
+     * @param after  새 몫 ({@code null}: 삭제됐거나 더 이상 집계 대상이 아님)
+     */
+    public void apply(FinancialAggregateContribution before, FinancialAggregateContribution after) {
+        if (!properties.isEnabled() || (before == null && after == null)
+                || (before != null && before.sameAs(after))) {
+            return;
+        }
+        List<Object[]> deltas = new ArrayList<>(2);
+        if (before != null && before.sameKey(after)) {
+            deltas.add(deltaRow(after, after.amount().subtract(before.amount()),
+                    after.taxAmount().subtract(before.taxAmount()),
+                    after.withholdingTaxAmount().subtract(before.withholdingTaxAmount()), 0L));
+        } else {
+            if (before != null) {
+                deltas.add(deltaRow(before, before.amount().negate(), before.taxAmount().negate(),
+                        before.withholdingTaxAmount().negate(), -1L));
+            }
+            if (after != null) {
+                deltas.add(deltaRow(after, after.amount(), after.taxAmount(), after.withholdingTaxAmount(), 1L));
+            }
+        }
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_DELTA, deltas);
+        } catch (DataAccessException e) {
+            FinancialAggregateContribution key = after != null ? after : before;
+            log.warn("회계 일별 집계 반영 실패 — 대사 작업에서 복구: tenantId={}, date={}, error={}",
+                    key.tenantId(), key.date(), e.getMessage());
+        }
+    }
+
+    /**
+     * 기간·유형·상태별 금액 합계.
+     *
+     * @param tenantId        테넌트 ID
+     * @param startDate       시작일 (포함)
+     * @param endDate         종료일 (포함)
+     * @param transactionType 거래 유형
+     * @param status          거래 상태
+     * @return 합계. 집계를 쓸 수 없으면 비어 있음
+     */
+    public Optional<BigDecimal> sumAmount(String tenantId, LocalDate startDate, LocalDate endDate,
+            String transactionType, String status) {
+        if (!readable(tenantId, startDate, endDate)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(jdbcTemplate.queryForObject(SUM_AMOUNT, BigDecimal.class, tenantId,
+                    Date.valueOf(startDate), Date.valueOf(endDate), transactionType, status));
+        } catch (DataAccessException e) {
+            return fallback("sumAmount", tenantId, e);
+        }
+    }
+
+    /**
+     * 기간·유형·상태의 카테고리별 합계 (금액 내림차순).
+     *
+     * @param tenantId        테넌트 ID
+     * @param startDate       시작일 (포함)
+     * @param endDate         종료일 (포함)
+     * @param transactionType 거래 유형
+     * @param status          거래 상태
+     * @return 카테고리별 합계. 집계를 쓸 수 없으면 비어 있음
+     */
+    public Optional<List<CategoryTotal>> categoryTotals(String tenantId, LocalDate startDate, LocalDate endDate,
+            String transactionType, String status) {
+        if (!readable(tenantId, startDate, endDate)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(jdbcTemplate.query(CATEGORY_TOTALS, (rs, rowNum) -> {
+                String category = rs.getString(1);
+                return new CategoryTotal(category == null || category.isEmpty() ? null : category,
+                        rs.getBigDecimal(2), rs.getLong(3));
+            }, tenantId, Date.valueOf(startDate), Date.valueOf(endDate), transactionType, status));
+        } catch (DataAccessException e) {
+            return fallback("categoryTotals", tenantId, e);
+        }
+    }
+
+    /**
+     * 기간·상태의 월·유형별 합계 (월 오름차순).
+     *
+     * @param tenantId  테넌트 ID
+     * @param startDate 시작일 (포함)
+     * @param endDate   종료일 (포함)
+     * @param status    거래 상태
+     * @return 월·유형별 합계. 집계를 쓸 수 없으면 비어 있음
+     */
+    public Optional<List<MonthlyTotal>> monthlyTotals(String tenantId, LocalDate startDate, LocalDate endDate,
+            String status) {
+        if (!readable(tenantId, startDate, endDate)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(jdbcTemplate.query(MONTHLY_TOTALS,
+                    (rs, rowNum) -> new MonthlyTotal(rs.getInt(1), rs.getInt(2), rs.getString(3),
+                            rs.getBigDecimal(4), rs.getLong(5)),
+                    tenantId, Date.valueOf(startDate), Date.valueOf(endDate), status));
+        } catch (DataAccessException e) {
+            return fallback("monthlyTotals", tenantId, e);
+        }
+    }
+
+    /**
+     * 기간 세금 합계 — 세금 카테고리 거래 금액 + 결제 카테고리 거래 부가세 (상태 무관).
+     *
+     * @param tenantId        테넌트 ID
+     * @param startDate       시작일 (포함)
+     * @param endDate         종료일 (포함)
+     * @param taxCategory     세금 카테고리명
+     * @param paymentCategory 결제 카테고리명
+     * @return 세금 합계. 집계를 쓸 수 없으면 비어 있음
+     */
+    public Optional<TaxTotals> taxTotals(String tenantId, LocalDate startDate, LocalDate endDate,
+            String taxCategory, String paymentCategory) {
+        if (!readable(tenantId, startDate, endDate)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(jdbcTemplate.queryForObject(TAX_TOTALS,
+                    (rs, rowNum) -> new TaxTotals(rs.getBigDecimal(1), rs.getBigDecimal(2)),
+                    taxCategory, paymentCategory, tenantId, taxCategory, paymentCategory,
+                    Date.valueOf(startDate), Date.valueOf(endDate)));
+        } catch (DataAccessException e) {
+            return fallback("taxTotals", tenantId, e);
+        }
+    }
+
+    /**
+     * 기간 집계를 원장과 대조해 어긋난 행만 원장 값으로 고친다.
+     *
+     * <p>행마다 별도 트랜잭션에서 집계 행을 잠근 뒤 원장을 다시 합산해 덮어쓰므로, 대사 중 들어온 거래의
+     * 증감이 덮여 사라지지 않는다.</p>
+     *
+     * @param tenantId  테넌트 ID
+     * @param startDate 시작일 (포함)
+     * @param endDate   종료일 (포함)
+     * @return 대사 결과
+     */
+    public ReconcileResult reconcile(String tenantId, LocalDate startDate, LocalDate endDate) {
+        Date start = Date.valueOf(startDate);
+        Date end = Date.valueOf(endDate);
+        Map<RowKey, Totals> ledger = new HashMap<>();
+        jdbcTemplate.query(RAW_GROUPS, rs -> {
+            ledger.put(rowKey(rs), totals(rs));
+        }, tenantId, start, end);
+        Map<RowKey, Totals> aggregates = new HashMap<>();
+        jdbcTemplate.query(AGGREGATE_ROWS, rs -> {
+            aggregates.put(rowKey(rs), totals(rs));
+        }, tenantId, start, end);
+
+        Set<RowKey> keys = new HashSet<>(ledger.keySet());
+        keys.addAll(aggregates.keySet());
+        int repaired = 0;
+        for (RowKey key : keys) {
+            Totals expected = ledger.getOrDefault(key, Totals.EMPTY);
+            Totals actual = aggregates.get(key);
+            if (actual != null && expected.matches(actual)) {
+                continue;
+            }
+            if (actual == null && expected.count() == 0) {
+                continue;
+            }
+            repairTransaction.executeWithoutResult(status -> repair(tenantId, key));
+            repaired++;
+        }
+        if (repaired > 0) {
+            log.warn("회계 일별 집계 불일치 복구: tenantId={}, period={}~{}, repairedRows={}", tenantId, startDate,
+                    endDate, repaired);
+            MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable();
+            if (meterRegistry != null) {
+                meterRegistry.counter(METRIC_REPAIRED_ROWS).increment(repaired);
+            }
+        }
+        return new ReconcileResult(ledger.size(), aggregates.size(), repaired);
+    }
+
+    private void repair(String tenantId, RowKey key) {
+        Object[] keyArgs = {tenantId, Date.valueOf(key.date()), key.transactionType(), key.status(), key.category()};
+        jdbcTemplate.query(LOCK_ROW, rs -> { }, keyArgs);
+        List<Totals> current = jdbcTemplate.query(RAW_KEY, (rs, rowNum) -> totals(rs), keyArgs);
+        if (current.isEmpty()) {
+            jdbcTemplate.update(DELETE_ROW, keyArgs);
+            return;
+        }
+        Totals totals = current.get(0);
+        jdbcTemplate.update(UPSERT_ABSOLUTE, tenantId, Date.valueOf(key.date()), key.transactionType(),
+                key.status(), key.category(), totals.amount(), totals.taxAmount(), totals.withholdingTaxAmount(),
+                totals.count());
+    }
+
+    private boolean readable(String tenantId, LocalDate startDate, LocalDate endDate) {
+        return properties.isEnabled() && tenantId != null && startDate != null && endDate != null;
+    }
+
+    private <T> Optional<T> fallback(String query, String tenantId, DataAccessException e) {
+        log.warn("회계 일별 집계 조회 실패 — 원장 집계로 대체: query={}, tenantId={}, error={}", query, tenantId,
+                e.getMessage());
+        return Optional.empty();
+    }
+
+    private static Object[] deltaRow(FinancialAggregateContribution key, BigDecimal amount, BigDecimal taxAmount,
+            BigDecimal withholdingTaxAmount, long count) {
+        return new Object[] {key.tenantId(), Date.valueOf(key.date()), key.transactionType(), key.status(),
+            key.category(), amount, taxAmount, withholdingTaxAmount, count};
+    }
+
+    private static RowKey rowKey(ResultSet rs) throws SQLException {
+        return new RowKey(rs.getDate(1).toLocalDate(), rs.getString(2), rs.getString(3), rs.getString(4));
+    }
+
+    private static Totals totals(ResultSet rs) throws SQLException {
+        return new Totals(rs.getBigDecimal(5), rs.getBigDecimal(6), rs.getBigDecimal(7), rs.getLong(8));
+    }
+}
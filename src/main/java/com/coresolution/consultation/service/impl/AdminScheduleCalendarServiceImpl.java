@@ -0,0 +1,141 @@
+package com.coresolution.consultation.service.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import com.coresolution.consultation.constant.admin.AdminServiceUserFacingMessages;
+import com.coresolution.consultation.dto.admin.AdminScheduleCalendarItem;
+import com.coresolution.consultation.dto.admin.AdminScheduleCalendarQuery;
+import com.coresolution.consultation.dto.admin.AdminScheduleCalendarResponse;
+import com.coresolution.consultation.dto.admin.ScheduleCalendarRow;
+import com.coresolution.consultation.dto.admin.ScheduleWindowFingerprint;
+import com.coresolution.consultation.entity.User;
+import com.coresolution.consultation.repository.ScheduleRepository;
+import com.coresolution.consultation.repository.UserRepository;
+import com.coresolution.consultation.service.AdminScheduleCalendarService;
+import com.coresolution.consultation.service.ScheduleListUserFieldsResolver;
+import com.coresolution.core.service.impl.BaseTenantAwareService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관리자 스케줄 캘린더 조회 구현.
+ *
+ * <p>조회 구간·상태·상담사 조건을 DB 에서 걸고 표시 컬럼만 읽는다. 상담사·내담자 표시명은 구간에 등장한
+ * 사용자 ID 를 모아 {@code findByTenantIdAndIdInAndIsDeletedFalse} 한 번으로 읽고, 복호화 PII 캐시를 쓰는
+ * {@link ScheduleListUserFieldsResolver} 로 사용자당 한 번만 해석한다.</p>
+ *
+ * <p>ETag 는 같은 조건의 (건수, version 합, id 합, 최종 수정 시각) 집계로 만든다. 스케줄이 추가·삭제·수정되면
+ * 바뀌고, 사용자 이름만 바뀐 경우는 반영하지 않는다 (다음 구간 이동·새로고침 때 갱신).</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AdminScheduleCalendarServiceImpl extends BaseTenantAwareService implements AdminScheduleCalendarService {
+
+    /** 응답 형태가 바뀌면 올려 이전 ETag 를 무효화한다 */
+    private static final String REPRESENTATION_VERSION = "v1";
+    private static final int ETAG_HEX_LENGTH = 32;
+
+    private final ScheduleRepository scheduleRepository;
+    private final UserRepository userRepository;
+    private final ScheduleListUserFieldsResolver scheduleListUserFieldsResolver;
+
+    @Override
+    @Transactional(readOnly = true)
+    public String currentETag(AdminScheduleCalendarQuery query) {
+        String tenantId = getTenantId();
+        ScheduleWindowFingerprint fingerprint = scheduleRepository.fingerprintCalendarWindow(tenantId,
+                query.startDate(), query.endDate(), query.status(), query.consultantId());
+        String source = String.join("|", REPRESENTATION_VERSION, tenantId,
+                String.valueOf(query.startDate()), String.valueOf(query.endDate()),
+                String.valueOf(query.status()), String.valueOf(query.consultantId()),
+                fingerprint != null ? String.valueOf(fingerprint.count()) : "0",
+                fingerprint != null ? String.valueOf(fingerprint.versionSum()) : "0",
+                fingerprint != null ? String.valueOf(fingerprint.idSum()) : "0",
+                fingerprint != null ? String.valueOf(fingerprint.lastUpdatedAt()) : "null");
+        return "\"" + sha256Hex(source).substring(0, ETAG_HEX_LENGTH) + "\"";
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AdminScheduleCalendarResponse getCalendar(AdminScheduleCalendarQuery query) {
+        String tenantId = getTenantId();
+        List<ScheduleCalendarRow> rows = scheduleRepository.findCalendarRows(tenantId, query.startDate(),
+                query.endDate(), query.status(), query.consultantId());
+
+        Set<Long> userIds = new LinkedHashSet<>();
+        for (ScheduleCalendarRow row : rows) {
+            if (row.consultantId() != null) {
+                userIds.add(row.consultantId());
+            }
+            if (row.clientId() != null) {
+                userIds.add(row.clientId());
+            }
+        }
+        Map<Long, User> usersById = new HashMap<>();
+        if (!userIds.isEmpty()) {
+            for (User user : userRepository.findByTenantIdAndIdInAndIsDeletedFalse(tenantId, userIds)) {
+                usersById.put(user.getId(), user);
+            }
+        }
+
+        Map<Long, String> consultantNames = new HashMap<>();
+        Map<Long, String> clientNames = new HashMap<>();
+        List<AdminScheduleCalendarItem> items = new ArrayList<>(rows.size());
+        for (ScheduleCalendarRow row : rows) {
+            String consultantName = row.consultantId() != null
+                    ? consultantNames.computeIfAbsent(row.consultantId(), id -> consultantName(usersById.get(id)))
+                    : AdminServiceUserFacingMessages.PAYMENT_METHOD_UNSPECIFIED;
+            String clientName = row.clientId() != null
+                    ? clientNames.computeIfAbsent(row.clientId(), id -> displayName(usersById.get(id)))
+                    : AdminServiceUserFacingMessages.PAYMENT_METHOD_UNSPECIFIED;
+            items.add(AdminScheduleCalendarItem.of(row, consultantName, clientName));
+        }
+
+        log.info("📅 관리자 스케줄 캘린더 조회: {} ~ {}, 건수={}, 사용자={}", query.startDate(), query.endDate(),
+                items.size(), usersById.size());
+        return new AdminScheduleCalendarResponse(query.startDate(), query.endDate(),
+                query.status() != null ? query.status().name() : null, query.consultantId(), items.size(), items);
+    }
+
+    /**
+     * 상담사 표시명 — 비활성 상담사는 삭제 표기를 붙인다 (기존 관리자 스케줄 목록과 동일).
+     */
+    private String consultantName(User consultant) {
+        if (consultant == null) {
+            return AdminServiceUserFacingMessages.PAYMENT_METHOD_UNSPECIFIED;
+        }
+        String name = scheduleListUserFieldsResolver.resolveDisplayNameForScheduleList(consultant);
+        return Boolean.FALSE.equals(consultant.getIsActive())
+                ? name + AdminServiceUserFacingMessages.SCHEDULE_CONSULTANT_NAME_DELETED_SUFFIX
+                : name;
+    }
+
+    private String displayName(User user) {
+        return user != null
+                ? scheduleListUserFieldsResolver.resolveDisplayNameForScheduleList(user)
+                : AdminServiceUserFacingMessages.PAYMENT_METHOD_UNSPECIFIED;
+    }
+
+    private static String sha256Hex(String source) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -18,8 +18,6 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.coresolution.core.util.StatusCodeHelper;
 import com.coresolution.consultation.constant.ClientRegistrationConstants;
 import com.coresolution.consultation.constant.admin.AdminServiceUserFacingMessages;
@@ -5096,42 +5094,14 @@ public class AdminServiceImpl extends BaseTenantAwareService implements AdminSer
      * 환불 설명에서 환불 회기수 추출
      */
     private int extractRefundSessionsFromDescription(String description) {
-        if (description == null) return 0;
-        
-        try {
-            if (description.contains("회기 부분 환불")) {
-                String[] parts = description.split("회기 부분 환불");
-                if (parts.length > 0) {
-                    String numberPart = parts[0].substring(parts[0].lastIndexOf("(") + 1);
-                    return Integer.parseInt(numberPart.trim());
-                }
-            }
-        } catch (Exception e) {
-            log.warn("환불 회기수 추출 실패: {}", description);
-        }
-        return 0;
+        return RefundRecordParser.sessionsFromDescription(description);
     }
     
      /**
      * 환불 설명에서 환불 사유 추출
      */
     private String extractRefundReasonFromDescription(String description) {
-        if (description == null) {
-            return AdminServiceUserFacingMessages.REFUND_REASON_FALLBACK_ETC;
-        }
-        
-        try {
-            if (description.contains(AdminServiceUserFacingMessages.REFUND_DESCRIPTION_REASON_LABEL_PREFIX)) {
-                String[] parts = description.split(AdminServiceUserFacingMessages.REFUND_DESCRIPTION_REASON_LABEL_PREFIX);
-                if (parts.length > 1) {
-                    String reason = parts[1].split(" \\[")[0]; // " [" 이전까지만 추출
-                    return reason.trim();
-                }
-            }
-        } catch (Exception e) {
-            log.warn("환불 사유 추출 실패: {}", description);
-        }
-        return AdminServiceUserFacingMessages.REFUND_REASON_FALLBACK_ETC;
+        return RefundRecordParser.reasonFromDescription(description);
     }
     
 
@@ -5218,29 +5188,7 @@ public class AdminServiceImpl extends BaseTenantAwareService implements AdminSer
             List<CommonCode> periodCodes = currentTenantId != null 
                 ? commonCodeRepository.findByTenantIdAndCodeGroupOrderBySortOrderAsc(currentTenantId, "REFUND_PERIOD")
                 : commonCodeRepository.findCoreCodesByGroup("REFUND_PERIOD"); // 코어 코드 조회
-            
-            for (CommonCode code : periodCodes) {
-                if (code.getCodeValue().equalsIgnoreCase(period)) {
-                    String extraData = code.getExtraData();
-                    if (extraData != null && !extraData.isEmpty()) {
-                        try {
-                            if (extraData.contains("\"days\"")) {
-                                int days = Integer.parseInt(extraData.replaceAll(".*\"days\":(\\d+).*", "$1"));
-                                return LocalDate.now().minusDays(days - 1).atStartOfDay();
-                            } else if (extraData.contains("\"months\"")) {
-                                int months = Integer.parseInt(extraData.replaceAll(".*\"months\":(\\d+).*", "$1"));
-                                return LocalDate.now().minusMonths(months).atStartOfDay();
-                            } else if (extraData.contains("\"years\"")) {
-                                int years = Integer.parseInt(extraData.replaceAll(".*\"years\":(\\d+).*", "$1"));
-                                return LocalDate.now().minusYears(years).atStartOfDay();
-                            }
-                        } catch (Exception e) {
-                            log.warn("환불 기간 설정 파싱 실패: period={}, extraData={}", period, extraData);
-                        }
-                    }
-                    break;
-                }
-            }
+            return RefundRecordParser.periodStart(period, periodCodes, LocalDate.now());
         } catch (Exception e) {
             log.error("환불 기간 공통 코드 조회 실패: period={}", period, e);
         }
@@ -5256,6 +5204,7 @@ public class AdminServiceImpl extends BaseTenantAwareService implements AdminSer
             return AdminServiceUserFacingMessages.REFUND_REASON_FALLBACK_ETC;
         }
         
+        List<CommonCode> reasonCodes = List.of();
         try {
             String tenantId = getTenantIdOrNull();
             // 표준화 2025-12-06: deprecated 메서드 대체
@@ -5263,50 +5212,14 @@ public class AdminServiceImpl extends BaseTenantAwareService implements AdminSer
             if (currentTenantId == null) {
                 currentTenantId = tenantId; // 파라미터에서 가져온 tenantId 사용
             }
-            List<CommonCode> reasonCodes = currentTenantId != null 
+            reasonCodes = currentTenantId != null 
                 ? commonCodeRepository.findByTenantIdAndCodeGroupAndIsActiveTrueOrderBySortOrderAsc(currentTenantId, "REFUND_REASON")
                 : commonCodeRepository.findCoreCodesByGroup("REFUND_REASON"); // 코어 코드 조회
-            
-            String reason = rawReason.toLowerCase().trim();
-            
-            for (CommonCode code : reasonCodes) {
-                String codeLabel = code.getCodeLabel();
-                String codeValue = code.getCodeValue();
-                
-                if (reason.contains(codeLabel.toLowerCase()) || reason.contains(codeValue.toLowerCase())) {
-                    return codeLabel;
-                }
-                
-                String extraData = code.getExtraData();
-                if (extraData != null && extraData.contains("\"keywords\"")) {
-                    try {
-                        ObjectMapper mapper = new ObjectMapper();
-                        JsonNode extraDataNode = mapper.readTree(extraData);
-                        JsonNode keywords = extraDataNode.get("keywords");
-                        
-                        if (keywords != null) {
-                            String[] keywordArray = keywords.asText().split(",");
-                            for (String keyword : keywordArray) {
-                                if (reason.contains(keyword.trim().toLowerCase())) {
-                                    return codeLabel;
-                                }
-                            }
-                        }
-                    } catch (Exception e) {
-                        log.debug("환불 사유 키워드 파싱 실패: codeValue={}, error={}", codeValue, e.getMessage());
-                    }
-                }
-            }
         } catch (Exception e) {
             log.error("환불 사유 공통 코드 조회 실패: rawReason={}", rawReason, e);
         }
         
-        if (rawReason.toLowerCase().contains(
-                AdminServiceUserFacingMessages.REFUND_REASON_TEST_LABEL.toLowerCase())) {
-            return AdminServiceUserFacingMessages.REFUND_REASON_TEST_LABEL;
-        }
-        
-        return AdminServiceUserFacingMessages.REFUND_REASON_FALLBACK_ETC;
+        return RefundRecordParser.standardizeReason(rawReason, reasonCodes);
     }
 
      /**
@@ -5439,7 +5352,8 @@ public class AdminServiceImpl extends BaseTenantAwareService implements AdminSer
         return statusName;
     }
 
-    private void initializeRefundCommonCodes() {
+    @Override
+    public void initializeRefundCommonCodes() {
         try {
             String tenantId = getTenantIdOrNull();
             // 표준화 2025-12-06: deprecated 메서드 대체
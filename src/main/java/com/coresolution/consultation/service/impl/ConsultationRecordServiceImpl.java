@@ -4,6 +4,7 @@ import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import com.coresolution.consultation.constant.UserRole;
@@ -15,9 +16,14 @@ import com.coresolution.consultation.constant.ScheduleStatus;
 import com.coresolution.consultation.entity.Schedule;
 import com.coresolution.consultation.service.ConsultationRecordService;
 import com.coresolution.consultation.service.PlSqlConsultationRecordAlertService;
+import com.coresolution.consultation.config.ConsultationRecordSearchProperties;
+import com.coresolution.consultation.service.search.ConsultationRecordSearchHit;
+import com.coresolution.consultation.service.search.ConsultationRecordSearchIndex;
+import com.coresolution.consultation.service.search.ConsultationRecordSearchQuery;
 import com.coresolution.core.context.TenantContextHolder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -47,6 +53,12 @@ public class ConsultationRecordServiceImpl implements ConsultationRecordService
     @Autowired
     private ScheduleRepository scheduleRepository;
 
+    @Autowired
+    private ConsultationRecordSearchIndex consultationRecordSearchIndex;
+
+    @Autowired
+    private ConsultationRecordSearchProperties consultationRecordSearchProperties;
+
     @Override
     public Page<ConsultationRecord> getConsultationRecords(Long consultantId, Long clientId, Pageable pageable) {
         return getConsultationRecords(consultantId, clientId, null, null, pageable);
@@ -233,6 +245,7 @@ public class ConsultationRecordServiceImpl implements ConsultationRecordService
             }
             
             ConsultationRecord savedRecord = consultationRecordRepository.save(record);
+            consultationRecordSearchIndex.index(savedRecord);
             
             // 상담일지 작성 완료시 미작성 알림 자동 해제
             try {
@@ -339,7 +352,9 @@ public class ConsultationRecordServiceImpl implements ConsultationRecordService
                 }
             }
             
-            return consultationRecordRepository.save(record);
+            ConsultationRecord savedRecord = consultationRecordRepository.save(record);
+            consultationRecordSearchIndex.index(savedRecord);
+            return savedRecord;
             
         } catch (Exception e) {
             log.error("상담일지 수정 오류:", e);
@@ -358,6 +373,7 @@ public class ConsultationRecordServiceImpl implements ConsultationRecordService
             
             record.get().setIsDeleted(true);
             consultationRecordRepository.save(record.get());
+            consultationRecordSearchIndex.remove(tenantId, recordId);
         } else {
             throw new RuntimeException("상담일지를 찾을 수 없습니다: " + recordId);
         }
@@ -417,8 +433,51 @@ public class ConsultationRecordServiceImpl implements ConsultationRecordService
     public Page<ConsultationRecord> searchConsultationRecords(Long userId, String userType, String keyword, Pageable pageable) {
         log.info("📝 상담일지 검색 - 사용자 ID: {}, 유형: {}, 키워드: {}", userId, userType, keyword);
         String tenantId = TenantContextHolder.getRequiredTenantId();
+        ConsultationRecordSearchQuery query = parseSearchQuery(keyword);
+        Optional<Page<ConsultationRecordSearchHit>> indexed = consultationRecordSearchIndex.search(
+                tenantId, searchOwner(userType), userId, query, pageable);
+        if (indexed.isEmpty()) {
+            return searchByLike(tenantId, userId, userType, keyword, pageable);
+        }
+        // 색인 순위를 유지한 채 엔티티 적재 (색인 반영 전 삭제된 기록은 제외)
+        Page<ConsultationRecordSearchHit> hits = indexed.get();
+        List<Long> ids = hits.getContent().stream().map(ConsultationRecordSearchHit::recordId).toList();
+        Map<Long, ConsultationRecord> byId = consultationRecordRepository
+                .findByTenantIdAndIdInAndIsDeletedFalse(tenantId, ids).stream()
+                .collect(Collectors.toMap(ConsultationRecord::getId, r -> r));
+        List<ConsultationRecord> ordered = ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+        return new PageImpl<>(ordered, pageable, hits.getTotalElements());
+    }
+
+    @Override
+    public Page<ConsultationRecordSearchHit> searchConsultationRecordsWithHighlights(Long userId, String userType,
+            String keyword, Pageable pageable) {
+        log.info("📝 상담일지 하이라이트 검색 - 사용자 ID: {}, 유형: {}, 키워드: {}", userId, userType, keyword);
+        String tenantId = TenantContextHolder.getRequiredTenantId();
+        ConsultationRecordSearchQuery query = parseSearchQuery(keyword);
+        return consultationRecordSearchIndex.search(tenantId, searchOwner(userType), userId, query, pageable)
+                .orElseGet(() -> searchByLike(tenantId, userId, userType, keyword, pageable)
+                        .map(record -> consultationRecordSearchIndex.toHit(record, query)));
+    }
+
+    private ConsultationRecordSearchQuery parseSearchQuery(String keyword) {
+        return ConsultationRecordSearchQuery.parse(keyword, consultationRecordSearchProperties.getMinTermLength(),
+                consultationRecordSearchProperties.getMaxTerms());
+    }
+
+    private ConsultationRecordSearchIndex.Owner searchOwner(String userType) {
         // 표준화 2025-12-05: enum 활용
-        if (UserRole.CONSULTANT.name().equals(userType)) {
+        return UserRole.CONSULTANT.name().equals(userType)
+                ? ConsultationRecordSearchIndex.Owner.CONSULTANT
+                : ConsultationRecordSearchIndex.Owner.CLIENT;
+    }
+
+    /**
+     * 색인을 쓸 수 없을 때의 LIKE 검색 (세션 일자 내림차순).
+     */
+    private Page<ConsultationRecord> searchByLike(String tenantId, Long userId, String userType, String keyword,
+            Pageable pageable) {
+        if (searchOwner(userType) == ConsultationRecordSearchIndex.Owner.CONSULTANT) {
             return consultationRecordRepository.searchByKeywordAndConsultantId(tenantId, keyword, userId, pageable);
         } else {
             return consultationRecordRepository.searchByKeywordAndClientId(tenantId, keyword, userId, pageable);
@@ -59,7 +59,7 @@ public class EmotionAnalysisServiceImpl implements EmotionAnalysisService {
     private final ObjectMapper objectMapper;
 
     @Override
-    @Async
+    @Async("mediaAnalysisExecutor")
     public VoiceBiomarker analyzeVoiceBiomarkers(Long audioFileId) {
         long startTime = System.currentTimeMillis();
 
@@ -109,7 +109,7 @@ public class EmotionAnalysisServiceImpl implements EmotionAnalysisService {
     }
 
     @Override
-    @Async
+    @Async("mediaAnalysisExecutor")
     public VideoEmotionAnalysis analyzeVideoEmotion(Long consultationRecordId, String videoFilePath) {
         long startTime = System.currentTimeMillis();
 
@@ -161,7 +161,7 @@ public class EmotionAnalysisServiceImpl implements EmotionAnalysisService {
     }
 
     @Override
-    @Async
+    @Async("mediaAnalysisExecutor")
     public TextEmotionAnalysis analyzeTextEmotion(Long consultationRecordId, String text, String sourceType) {
         long startTime = System.currentTimeMillis();
 
@@ -32,10 +32,11 @@ public class ErpFinancialCloseServiceImpl implements ErpFinancialCloseService {
     private final FinancialPeriodService financialPeriodService;
 
     @Override
-    public void performDailyClose(String tenantId, LocalDate targetDate) {
+    public boolean performDailyClose(String tenantId, LocalDate targetDate) {
         log.info("[ErpFinancialClose] 일 마감 진입: tenantId={}, targetDate={}", tenantId, targetDate);
         try {
             financialPeriodService.closePeriod(tenantId, targetDate, PeriodType.DAY);
+            return true;
         } catch (TaxIntegrityException e) {
             // Q8 부가세 가드 — 데이터 보정 필요(운영 runbook §P1-B). 테넌트 격리: throw 하지 않고 WARN.
             log.warn(
@@ -43,6 +44,7 @@ public class ErpFinancialCloseServiceImpl implements ErpFinancialCloseService {
                 + " expected={} actual={} diff={}",
                 tenantId, targetDate, e.getExpected(), e.getActual(),
                 e.getExpected().subtract(e.getActual()).abs());
+            return false;
         } catch (Exception e) {
             // Q9: retry 3회 소진 후에도 실패 시 status=OPEN 유지 (FinancialPeriodServiceImpl 내부)
             log.error("[ErpFinancialClose] 일 마감 실패(retry 소진): tenantId={} targetDate={} error={}",
@@ -62,17 +64,19 @@ public class ErpFinancialCloseServiceImpl implements ErpFinancialCloseService {
     }
 
     @Override
-    public void performMonthlyClose(String tenantId, YearMonth yearMonth) {
+    public boolean performMonthlyClose(String tenantId, YearMonth yearMonth) {
         LocalDate periodStart = yearMonth.atDay(1);
         log.info("[ErpFinancialClose] 월 마감 진입: tenantId={}, yearMonth={}", tenantId, yearMonth);
         try {
             financialPeriodService.closePeriod(tenantId, periodStart, PeriodType.MONTH);
+            return true;
         } catch (TaxIntegrityException e) {
             log.warn(
                 "[ErpFinancialClose][Q8] 부가세 가드 위반으로 월 마감 차단(데이터 보정 필요): tenantId={} yearMonth={}"
                 + " expected={} actual={} diff={}",
                 tenantId, yearMonth, e.getExpected(), e.getActual(),
                 e.getExpected().subtract(e.getActual()).abs());
+            return false;
         } catch (Exception e) {
             log.error("[ErpFinancialClose] 월 마감 실패(retry 소진): tenantId={} yearMonth={} error={}",
                     tenantId, yearMonth, e.getMessage(), e);
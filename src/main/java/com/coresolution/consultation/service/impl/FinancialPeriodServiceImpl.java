@@ -18,6 +18,7 @@ import com.coresolution.consultation.exception.TaxIntegrityException;
 import com.coresolution.consultation.repository.erp.financial.FinancialPeriodRepository;
 import com.coresolution.consultation.repository.erp.financial.FinancialTransactionRepository;
 import com.coresolution.consultation.service.AuditLogService;
+import com.coresolution.consultation.service.erp.accounting.FinancialStatementBlockStore;
 import com.coresolution.consultation.service.erp.FinancialPeriodService;
 
 import lombok.RequiredArgsConstructor;
@@ -65,6 +66,7 @@ public class FinancialPeriodServiceImpl implements FinancialPeriodService {
     private final FinancialPeriodRepository financialPeriodRepository;
     private final FinancialTransactionRepository financialTransactionRepository;
     private final AuditLogService auditLogService;
+    private final FinancialStatementBlockStore statementBlockStore;
 
     @Value("${mindgarden.scheduler.financial-close.dry-run:true}")
     private boolean dryRun;
@@ -219,6 +221,8 @@ public class FinancialPeriodServiceImpl implements FinancialPeriodService {
         period.setReopenReason(reason.trim());
 
         FinancialPeriod saved = financialPeriodRepository.save(period);
+        // 마감 재무제표 스냅샷 무효화 — 재오픈 기간은 다시 원장에서 계산된다.
+        statementBlockStore.evictClosed(tenantId, periodId);
 
         // audit 기록 (Q6 필수)
         Long actorUserId = parseLongOrNull(reopenedBy);
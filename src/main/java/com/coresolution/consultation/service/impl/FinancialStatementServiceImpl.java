@@ -1,11 +1,18 @@
 package com.coresolution.consultation.service.impl;
 
+import com.coresolution.consultation.entity.Account;
 import com.coresolution.consultation.entity.CommonCode;
 import com.coresolution.consultation.entity.erp.accounting.Ledger;
 import com.coresolution.consultation.entity.erp.financial.FinancialPeriod;
+import com.coresolution.consultation.entity.erp.financial.PeriodStatus;
 import com.coresolution.consultation.entity.erp.financial.PeriodType;
 import com.coresolution.consultation.repository.erp.financial.FinancialPeriodRepository;
 import com.coresolution.consultation.service.CommonCodeService;
+import com.coresolution.consultation.service.erp.accounting.FinancialStatementBlock;
+import com.coresolution.consultation.service.erp.accounting.FinancialStatementBlock.AccountClass;
+import com.coresolution.consultation.service.erp.accounting.FinancialStatementBlock.Line;
+import com.coresolution.consultation.service.erp.accounting.FinancialStatementBlockStore;
+import com.coresolution.consultation.service.erp.accounting.FinancialStatementBlockStore.LedgerFingerprint;
 import com.coresolution.consultation.service.erp.accounting.FinancialStatementService;
 import com.coresolution.consultation.service.erp.accounting.LedgerService;
 import com.coresolution.core.context.TenantIsolationValidator;
@@ -15,16 +22,30 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
  * 재무제표 Service 구현체
  * 표준 문서: docs/standards/ERP_ADVANCEMENT_STANDARD.md
+ *
+ * <p>세 재무제표 모두 요청 기간에 걸친 월 블록({@link FinancialStatementBlock})을 이어 붙여 계산한다.
+ * CLOSED 월 블록은 {@code financial_statement_snapshots} 에 한 번 저장된 뒤 재오픈 전까지 재사용되고,
+ * 미마감 월 블록은 원장 지문이 바뀐 달만 원장에서 다시 계산한다. 그래서 전년 대비 비교처럼 여러 해를
+ * 훑는 요청도 바뀐 달만큼만 원장을 읽는다.</p>
  */
 @Slf4j
 @Service
@@ -33,9 +54,23 @@ public class FinancialStatementServiceImpl implements FinancialStatementService
 
     private static final String ERP_ACCOUNT_TYPE_GROUP = "ERP_ACCOUNT_TYPE";
 
+    /** 비교 손익계산서 최대 연수. */
+    static final int MAX_COMPARATIVE_YEARS = 10;
+
+    private static final Predicate<Line> REVENUE = l -> l.in(AccountClass.REVENUE);
+    private static final Predicate<Line> EXPENSE = l -> l.in(AccountClass.EXPENSE);
+    private static final Predicate<Line> ASSET = l -> l.in(AccountClass.ASSET);
+    private static final Predicate<Line> LIABILITY = l -> l.in(AccountClass.LIABILITY);
+    private static final Predicate<Line> EQUITY = l -> l.in(AccountClass.EQUITY);
+    private static final Predicate<Line> INVESTING = l -> l.in(AccountClass.INVESTING);
+    private static final Predicate<Line> OPERATING = REVENUE.or(EXPENSE);
+    private static final Predicate<Line> FINANCING = LIABILITY.or(EQUITY);
+    private static final Function<Line, BigDecimal> CLOSING_BALANCE = l -> nullToZero(l.closingBalance());
+
     private final LedgerService ledgerService;
     private final CommonCodeService commonCodeService;
     private final FinancialPeriodRepository financialPeriodRepository;
+    private final FinancialStatementBlockStore statementBlockStore;
 
     @Override
     @Transactional(readOnly = true)
@@ -75,21 +110,11 @@ public class FinancialStatementServiceImpl implements FinancialStatementService
                 liveStart, liveEnd);
         }
 
-        BigDecimal liveRevenue = BigDecimal.ZERO;
-        BigDecimal liveExpenses = BigDecimal.ZERO;
-        List<Ledger> ledgers = (liveStart != null && !liveStart.isAfter(liveEnd))
-                ? ledgerService.getLedgersByPeriod(tenantId, liveStart, liveEnd)
-                : java.util.Collections.emptyList();
-        if (!ledgers.isEmpty()) {
-            liveRevenue = ledgers.stream()
-                .filter(this::isRevenueAccount)
-                .map(l -> l.getTotalCredit().subtract(l.getTotalDebit()))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-            liveExpenses = ledgers.stream()
-                .filter(this::isExpenseAccount)
-                .map(l -> l.getTotalDebit().subtract(l.getTotalCredit()))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        }
+        List<Line> lines = (liveStart != null && !liveStart.isAfter(liveEnd))
+                ? loadLines(tenantId, liveStart, liveEnd, closedMonthlySnapshots)
+                : List.of();
+        BigDecimal liveRevenue = sum(lines, REVENUE, Line::creditNet);
+        BigDecimal liveExpenses = sum(lines, EXPENSE, Line::debitNet);
 
         BigDecimal totalRevenue = snapshotRevenue.add(liveRevenue);
         BigDecimal totalExpenses = snapshotExpenses.add(liveExpenses);
@@ -101,11 +126,11 @@ public class FinancialStatementServiceImpl implements FinancialStatementService
         result.put("endDate", endDate);
         result.put("revenue", Map.of(
             "total", totalRevenue,
-            "items", getRevenueItems(ledgers)
+            "items", items(lines, REVENUE, "amount", Line::creditNet)
         ));
         result.put("expenses", Map.of(
             "total", totalExpenses,
-            "items", getExpenseItems(ledgers)
+            "items", items(lines, EXPENSE, "amount", Line::debitNet)
         ));
         result.put("netIncome", netIncome);
         result.put("snapshotRevenue", snapshotRevenue);
@@ -132,30 +157,21 @@ public class FinancialStatementServiceImpl implements FinancialStatementService
         TenantIsolationValidator.requireTenantIdMatch(tenantId);
         log.info("재무상태표 생성: tenantId={}, asOfDate={}", tenantId, asOfDate);
         
-        // 1. 모든 계정의 잔액 조회 (asOfDate 기준)
-        // 원장이 없는 경우를 대비해 기간별로 조회
+        // 1. 모든 계정의 잔액 조회 (asOfDate 기준) — asOfDate 가 속한 월 블록 (마감 월이면 스냅샷)
         LocalDate periodStart = asOfDate.withDayOfMonth(1);
         LocalDate periodEnd = asOfDate.withDayOfMonth(asOfDate.lengthOfMonth());
         
-        List<Ledger> ledgers = ledgerService.getLedgersByPeriod(tenantId, periodStart, periodEnd);
+        List<Line> lines = loadLines(tenantId, periodStart, periodEnd, financialPeriodRepository
+            .findClosedByTenantIdAndDateRange(tenantId, periodStart, periodEnd, PeriodType.MONTH));
         
         // 2. 자산 계정 합계
-        BigDecimal totalAssets = ledgers.stream()
-            .filter(l -> isAssetAccount(l))
-            .map(Ledger::getClosingBalance)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalAssets = sum(lines, ASSET, CLOSING_BALANCE);
         
         // 3. 부채 계정 합계
-        BigDecimal totalLiabilities = ledgers.stream()
-            .filter(l -> isLiabilityAccount(l))
-            .map(Ledger::getClosingBalance)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalLiabilities = sum(lines, LIABILITY, CLOSING_BALANCE);
         
         // 4. 자본 계정 합계
-        BigDecimal totalEquity = ledgers.stream()
-            .filter(l -> isEquityAccount(l))
-            .map(Ledger::getClosingBalance)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalEquity = sum(lines, EQUITY, CLOSING_BALANCE);
         
         // 5. 검증: 자산 = 부채 + 자본
         BigDecimal liabilitiesPlusEquity = totalLiabilities.add(totalEquity);
@@ -167,15 +183,15 @@ public class FinancialStatementServiceImpl implements FinancialStatementService
         result.put("asOfDate", asOfDate);
         result.put("assets", Map.of(
             "total", totalAssets,
-            "items", getAssetItems(ledgers)
+            "items", items(lines, ASSET, "balance", Line::closingBalance)
         ));
         result.put("liabilities", Map.of(
             "total", totalLiabilities,
-            "items", getLiabilityItems(ledgers)
+            "items", items(lines, LIABILITY, "balance", Line::closingBalance)
         ));
         result.put("equity", Map.of(
             "total", totalEquity,
-            "items", getEquityItems(ledgers)
+            "items", items(lines, EQUITY, "balance", Line::closingBalance)
         ));
         result.put("isBalanced", isBalanced);
         result.put("balanceCheck", Map.of(
@@ -196,26 +212,18 @@ public class FinancialStatementServiceImpl implements FinancialStatementService
         TenantIsolationValidator.requireTenantIdMatch(tenantId);
         log.info("현금흐름표 생성: tenantId={}, startDate={}, endDate={}", tenantId, startDate, endDate);
         
-        // 1. 기간별 원장 조회
-        List<Ledger> ledgers = ledgerService.getLedgersByPeriod(tenantId, startDate, endDate);
+        // 1. 기간별 원장 조회 (월 블록 조립)
+        List<Line> lines = loadLines(tenantId, startDate, endDate, financialPeriodRepository
+            .findClosedByTenantIdAndDateRange(tenantId, startDate, endDate, PeriodType.MONTH));
         
         // 2. 영업 활동 현금흐름 (수익 - 비용)
-        BigDecimal operatingCashFlow = ledgers.stream()
-            .filter(l -> isOperatingAccount(l))
-            .map(l -> l.getTotalCredit().subtract(l.getTotalDebit()))
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal operatingCashFlow = sum(lines, OPERATING, Line::creditNet);
         
         // 3. 투자 활동 현금흐름 (고정자산 관련)
-        BigDecimal investingCashFlow = ledgers.stream()
-            .filter(l -> isInvestingAccount(l))
-            .map(l -> l.getTotalDebit().subtract(l.getTotalCredit()))
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal investingCashFlow = sum(lines, INVESTING, Line::debitNet);
         
         // 4. 재무 활동 현금흐름 (부채/자본 관련)
-        BigDecimal financingCashFlow = ledgers.stream()
-            .filter(l -> isFinancingAccount(l))
-            .map(l -> l.getTotalCredit().subtract(l.getTotalDebit()))
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal financingCashFlow = sum(lines, FINANCING, Line::creditNet);
         
         // 5. 순현금 증가액
         BigDecimal netCashIncrease = operatingCashFlow.add(investingCashFlow).add(financingCashFlow);
@@ -227,15 +235,15 @@ public class FinancialStatementServiceImpl implements FinancialStatementService
         result.put("endDate", endDate);
         result.put("operatingActivities", Map.of(
             "cashFlow", operatingCashFlow,
-            "items", getOperatingItems(ledgers)
+            "items", items(lines, OPERATING, "cashFlow", Line::creditNet)
         ));
         result.put("investingActivities", Map.of(
             "cashFlow", investingCashFlow,
-            "items", getInvestingItems(ledgers)
+            "items", items(lines, INVESTING, "cashFlow", Line::debitNet)
         ));
         result.put("financingActivities", Map.of(
             "cashFlow", financingCashFlow,
-            "items", getFinancingItems(ledgers)
+            "items", items(lines, FINANCING, "cashFlow", Line::creditNet)
         ));
         result.put("netCashIncrease", netCashIncrease);
         
@@ -245,9 +253,197 @@ public class FinancialStatementServiceImpl implements FinancialStatementService
         return result;
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> generateComparativeIncomeStatement(String tenantId, LocalDate startDate,
+            LocalDate endDate, int years) {
+        TenantIsolationValidator.requireTenantIdMatch(tenantId);
+        if (years < 1 || years > MAX_COMPARATIVE_YEARS) {
+            throw new IllegalArgumentException("비교 연수는 1~" + MAX_COMPARATIVE_YEARS + " 이어야 합니다: " + years);
+        }
+        log.info("비교 손익계산서 생성: tenantId={}, startDate={}, endDate={}, years={}", tenantId, startDate, endDate,
+            years);
+
+        // 최근 연도부터. 과거 연도는 대부분 마감 스냅샷·캐시 블록으로 채워진다.
+        List<Map<String, Object>> periods = new ArrayList<>();
+        for (int offset = 0; offset < years; offset++) {
+            Map<String, Object> statement = generateIncomeStatement(tenantId, startDate.minusYears(offset),
+                endDate.minusYears(offset));
+            Map<String, Object> period = new LinkedHashMap<>();
+            period.put("startDate", statement.get("startDate"));
+            period.put("endDate", statement.get("endDate"));
+            period.put("revenue", totalOf(statement, "revenue"));
+            period.put("expenses", totalOf(statement, "expenses"));
+            period.put("netIncome", statement.get("netIncome"));
+            period.put("closedSnapshotCount", statement.get("closedSnapshotCount"));
+            periods.add(period);
+        }
+
+        List<Map<String, Object>> changes = new ArrayList<>();
+        for (int i = 0; i + 1 < periods.size(); i++) {
+            Map<String, Object> current = periods.get(i);
+            Map<String, Object> previous = periods.get(i + 1);
+            Map<String, Object> change = new LinkedHashMap<>();
+            change.put("startDate", current.get("startDate"));
+            change.put("previousStartDate", previous.get("startDate"));
+            for (String key : List.of("revenue", "expenses", "netIncome")) {
+                BigDecimal now = (BigDecimal) current.get(key);
+                BigDecimal before = (BigDecimal) previous.get(key);
+                change.put(key + "Change", now.subtract(before));
+                change.put(key + "ChangeRate", changeRate(now, before));
+            }
+            changes.add(change);
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("tenantId", tenantId);
+        result.put("startDate", startDate);
+        result.put("endDate", endDate);
+        result.put("years", years);
+        result.put("periods", periods);
+        result.put("changes", changes);
+        return result;
+    }
+
+    private static BigDecimal totalOf(Map<String, Object> statement, String section) {
+        Object value = statement.get(section);
+        return value instanceof Map<?, ?> map && map.get("total") instanceof BigDecimal total ? total : BigDecimal.ZERO;
+    }
+
+    /** 증감률(%) — 전기 0 이면 null. */
+    private static BigDecimal changeRate(BigDecimal now, BigDecimal before) {
+        if (before.signum() == 0) {
+            return null;
+        }
+        return now.subtract(before).multiply(BigDecimal.valueOf(100)).divide(before.abs(), 2, RoundingMode.HALF_UP);
+    }
+
+    // ========== 월 블록 조립 ==========
+
+    /**
+     * 기간에 걸친 월 블록을 모아 원장 라인으로 편다. CLOSED 월은 마감 스냅샷, 미마감 월은 지문이 같은 캐시
+     * 블록을 쓰고, 둘 다 없으면 해당 월 원장을 읽어 블록을 만든 뒤 저장한다. 여러 달에 걸친 원장은 한 번만
+     * 포함하고, 라인은 계정 ID·기간 순(원장 조회 순서)으로 정렬한다.
+     *
+     * @param periods 기간과 겹치는 월 FinancialPeriod (CLOSED/REOPENED). CLOSED 만 스냅샷 대상
+     */
+    private List<Line> loadLines(String tenantId, LocalDate startDate, LocalDate endDate,
+            List<FinancialPeriod> periods) {
+        YearMonth first = YearMonth.from(startDate);
+        YearMonth last = YearMonth.from(endDate);
+        Map<YearMonth, FinancialPeriod> closedByMonth = new HashMap<>();
+        for (FinancialPeriod period : periods) {
+            if (period.getStatus() == PeriodStatus.CLOSED && coversWholeMonth(period)) {
+                closedByMonth.put(YearMonth.from(period.getPeriodStart()), period);
+            }
+        }
+
+        Optional<Map<YearMonth, LedgerFingerprint>> fingerprints = null;
+        Map<String, Optional<Long>> accountTypeIds = new HashMap<>();
+        Map<Long, Line> linesByLedger = new LinkedHashMap<>();
+        List<Line> unidentified = new ArrayList<>();
+        for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            FinancialStatementBlock block;
+            FinancialPeriod closed = closedByMonth.get(month);
+            if (closed != null) {
+                Optional<FinancialStatementBlock> snapshot = statementBlockStore.findClosed(closed);
+                if (snapshot.isPresent()) {
+                    block = snapshot.get();
+                } else {
+                    block = computeBlock(tenantId, month, accountTypeIds);
+                    statementBlockStore.saveClosed(closed, block);
+                }
+            } else {
+                if (fingerprints == null) {
+                    // 미마감 월이 있을 때만, 기간 전체를 한 번에 조회
+                    fingerprints = statementBlockStore.fingerprints(tenantId, first, last);
+                }
+                block = openBlock(tenantId, month, fingerprints, accountTypeIds);
+            }
+            for (Line line : block.lines()) {
+                if (line.ledgerId() == null) {
+                    unidentified.add(line);
+                } else {
+                    linesByLedger.putIfAbsent(line.ledgerId(), line);
+                }
+            }
+        }
+
+        List<Line> lines = new ArrayList<>(linesByLedger.values());
+        lines.addAll(unidentified);
+        lines.sort(Comparator.comparing(Line::accountId, Comparator.nullsLast(Comparator.naturalOrder())));
+        return lines;
+    }
+
+    private FinancialStatementBlock openBlock(String tenantId, YearMonth month,
+            Optional<Map<YearMonth, LedgerFingerprint>> fingerprints, Map<String, Optional<Long>> accountTypeIds) {
+        if (fingerprints.isEmpty()) {
+            return computeBlock(tenantId, month, accountTypeIds);
+        }
+        LedgerFingerprint fingerprint = fingerprints.get().getOrDefault(month, LedgerFingerprint.EMPTY);
+        if (fingerprint.isEmpty()) {
+            return FinancialStatementBlock.empty(month);
+        }
+        Optional<FinancialStatementBlock> cached = statementBlockStore.findOpen(tenantId, month, fingerprint);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        FinancialStatementBlock block = computeBlock(tenantId, month, accountTypeIds);
+        statementBlockStore.putOpen(tenantId, fingerprint, block);
+        return block;
+    }
+
+    private FinancialStatementBlock computeBlock(String tenantId, YearMonth month,
+            Map<String, Optional<Long>> accountTypeIds) {
+        List<Ledger> ledgers = ledgerService.getLedgersByPeriod(tenantId, month.atDay(1), month.atEndOfMonth());
+        List<Line> lines = new ArrayList<>(ledgers.size());
+        for (Ledger ledger : ledgers) {
+            Account account = ledger.getAccount();
+            lines.add(new Line(
+                ledger.getId(),
+                account != null ? account.getId() : null,
+                account != null ? account.getAccountHolder() : null,
+                classify(account, accountTypeIds),
+                nullToZero(ledger.getTotalDebit()),
+                nullToZero(ledger.getTotalCredit()),
+                ledger.getClosingBalance()));
+        }
+        statementBlockStore.recordComputed();
+        return new FinancialStatementBlock(month, lines);
+    }
+
+    private static boolean coversWholeMonth(FinancialPeriod period) {
+        LocalDate start = period.getPeriodStart();
+        LocalDate end = period.getPeriodEnd();
+        return start != null && end != null && start.getDayOfMonth() == 1
+            && end.equals(YearMonth.from(start).atEndOfMonth());
+    }
+
+    private static BigDecimal sum(List<Line> lines, Predicate<Line> filter, Function<Line, BigDecimal> amount) {
+        return lines.stream()
+            .filter(filter)
+            .map(amount)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private static List<Map<String, Object>> items(List<Line> lines, Predicate<Line> filter, String amountKey,
+            Function<Line, BigDecimal> amount) {
+        return lines.stream()
+            .filter(filter)
+            .map(l -> {
+                Map<String, Object> item = new HashMap<>();
+                item.put("accountId", l.accountId());
+                item.put("accountName", l.accountName());
+                item.put(amountKey, amount.apply(l));
+                return item;
+            })
+            .collect(Collectors.toList());
+    }
+
     // ========== 계정 타입 판별 메서드 (회계 계정 기준) ==========
     // 분류 우선순위: (1) ERP_ACCOUNT_TYPE 공통코드에 연결된 계정 ID (2) Account description/accountNumber 키워드
     // 표준: docs/standards/ERP_ADVANCEMENT_STANDARD.md, docs/planning/ERP_STATEMENTS_VS_OTHER_REPORTS_LINKAGE_PLAN.md
+    // 블록 1회 계산 안에서 공통코드 조회는 테넌트 × 유형당 1번으로 메모한다 (이전에는 원장·판별마다 조회).
 
     private static boolean matchesKeyword(String text, String... keywords) {
         if (text == null || text.isEmpty()) {
@@ -293,188 +489,54 @@ public class FinancialStatementServiceImpl implements FinancialStatementService
         }
     }
 
-    private boolean isRevenueAccount(Ledger ledger) {
-        String tenantId = ledger.getAccount() != null ? ledger.getAccount().getTenantId() : null;
-        if (tenantId != null) {
-            Long revenueAccountId = getErpAccountIdByType(tenantId, "REVENUE");
-            if (revenueAccountId != null && ledger.getAccount().getId().equals(revenueAccountId)) {
-                return true;
-            }
+    /**
+     * 계정 분류. 영업 활동 = 수익 ∪ 비용, 재무 활동 = 부채 ∪ 자본 은 조립 시 조합으로 판단한다.
+     */
+    private Set<AccountClass> classify(Account account, Map<String, Optional<Long>> accountTypeIds) {
+        Set<AccountClass> classes = EnumSet.noneOf(AccountClass.class);
+        if (account == null) {
+            return classes;
         }
-        String desc = ledger.getAccount().getDescription();
-        String num = ledger.getAccount().getAccountNumber();
-        return matchesKeyword(desc, "수익", "revenue", "income")
-            || matchesKeyword(num, "revenue", "수익");
-    }
-
-    private boolean isExpenseAccount(Ledger ledger) {
-        String tenantId = ledger.getAccount() != null ? ledger.getAccount().getTenantId() : null;
-        if (tenantId != null) {
-            Long expenseAccountId = getErpAccountIdByType(tenantId, "EXPENSE");
-            if (expenseAccountId != null && ledger.getAccount().getId().equals(expenseAccountId)) {
-                return true;
-            }
+        String desc = account.getDescription();
+        String num = account.getAccountNumber();
+        if (isTypedAccount(account, "REVENUE", accountTypeIds)
+            || matchesKeyword(desc, "수익", "revenue", "income")
+            || matchesKeyword(num, "revenue", "수익")) {
+            classes.add(AccountClass.REVENUE);
         }
-        String desc = ledger.getAccount().getDescription();
-        String num = ledger.getAccount().getAccountNumber();
-        return matchesKeyword(desc, "비용", "expense", "cost")
-            || matchesKeyword(num, "expense", "비용");
-    }
-
-    private boolean isAssetAccount(Ledger ledger) {
-        String tenantId = ledger.getAccount() != null ? ledger.getAccount().getTenantId() : null;
-        if (tenantId != null) {
-            Long cashAccountId = getErpAccountIdByType(tenantId, "CASH");
-            if (cashAccountId != null && ledger.getAccount().getId().equals(cashAccountId)) {
-                return true;
-            }
+        if (isTypedAccount(account, "EXPENSE", accountTypeIds)
+            || matchesKeyword(desc, "비용", "expense", "cost")
+            || matchesKeyword(num, "expense", "비용")) {
+            classes.add(AccountClass.EXPENSE);
         }
-        String desc = ledger.getAccount().getDescription();
-        String num = ledger.getAccount().getAccountNumber();
-        return matchesKeyword(desc, "자산", "asset", "유동", "고정", "current", "fixed", "현금", "cash")
-            || matchesKeyword(num, "asset", "자산", "cash", "현금");
-    }
-    
-    private boolean isLiabilityAccount(Ledger ledger) {
-        String tenantId = ledger.getAccount() != null ? ledger.getAccount().getTenantId() : null;
-        if (tenantId != null) {
-            Long liabilityAccountId = getErpAccountIdByType(tenantId, "LIABILITY");
-            if (liabilityAccountId != null && ledger.getAccount().getId().equals(liabilityAccountId)) {
-                return true;
-            }
+        if (isTypedAccount(account, "CASH", accountTypeIds)
+            || matchesKeyword(desc, "자산", "asset", "유동", "고정", "current", "fixed", "현금", "cash")
+            || matchesKeyword(num, "asset", "자산", "cash", "현금")) {
+            classes.add(AccountClass.ASSET);
         }
-        String desc = ledger.getAccount().getDescription();
-        String num = ledger.getAccount().getAccountNumber();
-        return matchesKeyword(desc, "부채", "liability", "유동부채", "비유동부채", "환불부채")
-            || matchesKeyword(num, "liability", "부채");
-    }
-    
-    private boolean isEquityAccount(Ledger ledger) {
-        String desc = ledger.getAccount().getDescription();
-        String num = ledger.getAccount().getAccountNumber();
-        return matchesKeyword(desc, "자본", "equity", "자본금", "이익잉여금")
-            || matchesKeyword(num, "equity", "자본");
-    }
-    
-    private boolean isOperatingAccount(Ledger ledger) {
-        return isRevenueAccount(ledger) || isExpenseAccount(ledger);
-    }
-    
-    private boolean isInvestingAccount(Ledger ledger) {
-        String desc = ledger.getAccount().getDescription();
-        String num = ledger.getAccount().getAccountNumber();
-        return matchesKeyword(desc, "고정자산", "fixed", "투자")
-            || matchesKeyword(num, "fixed", "고정");
-    }
-    
-    private boolean isFinancingAccount(Ledger ledger) {
-        return isLiabilityAccount(ledger) || isEquityAccount(ledger);
-    }
-    
-    // ========== 상세 항목 추출 메서드 ==========
-    
-    private List<Map<String, Object>> getRevenueItems(List<Ledger> ledgers) {
-        return ledgers.stream()
-            .filter(this::isRevenueAccount)
-            .map(l -> {
-                Map<String, Object> item = new HashMap<>();
-                item.put("accountId", l.getAccount().getId());
-                item.put("accountName", l.getAccount().getAccountHolder());
-                item.put("amount", l.getTotalCredit().subtract(l.getTotalDebit()));
-                return item;
-            })
-            .collect(Collectors.toList());
-    }
-    
-    private List<Map<String, Object>> getExpenseItems(List<Ledger> ledgers) {
-        return ledgers.stream()
-            .filter(this::isExpenseAccount)
-            .map(l -> {
-                Map<String, Object> item = new HashMap<>();
-                item.put("accountId", l.getAccount().getId());
-                item.put("accountName", l.getAccount().getAccountHolder());
-                item.put("amount", l.getTotalDebit().subtract(l.getTotalCredit()));
-                return item;
-            })
-            .collect(Collectors.toList());
-    }
-    
-    private List<Map<String, Object>> getAssetItems(List<Ledger> ledgers) {
-        return ledgers.stream()
-            .filter(this::isAssetAccount)
-            .map(l -> {
-                Map<String, Object> item = new HashMap<>();
-                item.put("accountId", l.getAccount().getId());
-                item.put("accountName", l.getAccount().getAccountHolder());
-                item.put("balance", l.getClosingBalance());
-                return item;
-            })
-            .collect(Collectors.toList());
-    }
-    
-    private List<Map<String, Object>> getLiabilityItems(List<Ledger> ledgers) {
-        return ledgers.stream()
-            .filter(this::isLiabilityAccount)
-            .map(l -> {
-                Map<String, Object> item = new HashMap<>();
-                item.put("accountId", l.getAccount().getId());
-                item.put("accountName", l.getAccount().getAccountHolder());
-                item.put("balance", l.getClosingBalance());
-                return item;
-            })
-            .collect(Collectors.toList());
-    }
-    
-    private List<Map<String, Object>> getEquityItems(List<Ledger> ledgers) {
-        return ledgers.stream()
-            .filter(this::isEquityAccount)
-            .map(l -> {
-                Map<String, Object> item = new HashMap<>();
-                item.put("accountId", l.getAccount().getId());
-                item.put("accountName", l.getAccount().getAccountHolder());
-                item.put("balance", l.getClosingBalance());
-                return item;
-            })
-            .collect(Collectors.toList());
-    }
-    
-    private List<Map<String, Object>> getOperatingItems(List<Ledger> ledgers) {
-        return ledgers.stream()
-            .filter(this::isOperatingAccount)
-            .map(l -> {
-                Map<String, Object> item = new HashMap<>();
-                item.put("accountId", l.getAccount().getId());
-                item.put("accountName", l.getAccount().getAccountHolder());
-                item.put("cashFlow", l.getTotalCredit().subtract(l.getTotalDebit()));
-                return item;
-            })
-            .collect(Collectors.toList());
-    }
-    
-    private List<Map<String, Object>> getInvestingItems(List<Ledger> ledgers) {
-        return ledgers.stream()
-            .filter(this::isInvestingAccount)
-            .map(l -> {
-                Map<String, Object> item = new HashMap<>();
-                item.put("accountId", l.getAccount().getId());
-                item.put("accountName", l.getAccount().getAccountHolder());
-                item.put("cashFlow", l.getTotalDebit().subtract(l.getTotalCredit()));
-                return item;
-            })
-            .collect(Collectors.toList());
+        if (isTypedAccount(account, "LIABILITY", accountTypeIds)
+            || matchesKeyword(desc, "부채", "liability", "유동부채", "비유동부채", "환불부채")
+            || matchesKeyword(num, "liability", "부채")) {
+            classes.add(AccountClass.LIABILITY);
+        }
+        if (matchesKeyword(desc, "자본", "equity", "자본금", "이익잉여금")
+            || matchesKeyword(num, "equity", "자본")) {
+            classes.add(AccountClass.EQUITY);
+        }
+        if (matchesKeyword(desc, "고정자산", "fixed", "투자")
+            || matchesKeyword(num, "fixed", "고정")) {
+            classes.add(AccountClass.INVESTING);
+        }
+        return classes;
     }
-    
-    private List<Map<String, Object>> getFinancingItems(List<Ledger> ledgers) {
-        return ledgers.stream()
-            .filter(this::isFinancingAccount)
-            .map(l -> {
-                Map<String, Object> item = new HashMap<>();
-                item.put("accountId", l.getAccount().getId());
-                item.put("accountName", l.getAccount().getAccountHolder());
-                item.put("cashFlow", l.getTotalCredit().subtract(l.getTotalDebit()));
-                return item;
-            })
-            .collect(Collectors.toList());
+
+    private boolean isTypedAccount(Account account, String accountType, Map<String, Optional<Long>> accountTypeIds) {
+        String tenantId = account.getTenantId();
+        if (tenantId == null) {
+            return false;
+        }
+        Optional<Long> typedId = accountTypeIds.computeIfAbsent(tenantId + ":" + accountType,
+            key -> Optional.ofNullable(getErpAccountIdByType(tenantId, accountType)));
+        return typedId.isPresent() && typedId.get().equals(account.getId());
     }
 }
-
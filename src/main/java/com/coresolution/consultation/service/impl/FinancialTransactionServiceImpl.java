@@ -5,6 +5,7 @@ import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -34,6 +35,7 @@ import com.coresolution.consultation.repository.PurchaseRequestRepository;
 import com.coresolution.consultation.repository.SalaryCalculationRepository;
 import com.coresolution.consultation.repository.UserRepository;
 import com.coresolution.consultation.service.CommonCodeService;
+import com.coresolution.consultation.service.erp.financial.FinancialDailyAggregateStore;
 import com.coresolution.consultation.service.erp.financial.FinancialTransactionService;
 import com.coresolution.consultation.service.RealTimeStatisticsService;
 import com.coresolution.consultation.service.UserPersonalDataCacheService;
@@ -79,6 +81,7 @@ public class FinancialTransactionServiceImpl extends BaseTenantAwareService impl
     private final com.coresolution.consultation.service.UserPersonalDataCacheService userPersonalDataCacheService;
     private final PersonalDataEncryptionUtil encryptionUtil;
     private final FinancialPeriodRepository financialPeriodRepository;
+    private final FinancialDailyAggregateStore financialDailyAggregateStore;
 
     @Override
     public FinancialTransactionResponse createTransaction(FinancialTransactionRequest request, User currentUser) {
@@ -545,7 +548,10 @@ public class FinancialTransactionServiceImpl extends BaseTenantAwareService impl
             log.error("❌ tenantId가 설정되지 않았습니다");
             return BigDecimal.ZERO;
         }
-        return financialTransactionRepository.sumIncomeByDateRange(tenantId, startDate, endDate);
+        return financialDailyAggregateStore
+                .sumAmount(tenantId, startDate, endDate, FinancialTransaction.TransactionType.INCOME.name(),
+                        FinancialTransaction.TransactionStatus.COMPLETED.name())
+                .orElseGet(() -> financialTransactionRepository.sumIncomeByDateRange(tenantId, startDate, endDate));
     }
     
     @Override
@@ -556,7 +562,10 @@ public class FinancialTransactionServiceImpl extends BaseTenantAwareService impl
             log.error("❌ tenantId가 설정되지 않았습니다");
             return BigDecimal.ZERO;
         }
-        return financialTransactionRepository.sumExpenseByDateRange(tenantId, startDate, endDate);
+        return financialDailyAggregateStore
+                .sumAmount(tenantId, startDate, endDate, FinancialTransaction.TransactionType.EXPENSE.name(),
+                        FinancialTransaction.TransactionStatus.COMPLETED.name())
+                .orElseGet(() -> financialTransactionRepository.sumExpenseByDateRange(tenantId, startDate, endDate));
     }
     
     @Override
@@ -588,6 +597,16 @@ public class FinancialTransactionServiceImpl extends BaseTenantAwareService impl
             }
             
             String taxCategory = getSafeCodeName("FINANCIAL_CATEGORY", "TAX", "세금");
+            String paymentCategory = getSafeCodeName("FINANCIAL_CATEGORY", "PAYMENT", "결제");
+            Optional<FinancialDailyAggregateStore.TaxTotals> aggregated = financialDailyAggregateStore
+                    .taxTotals(tenantId, startDate, endDate, taxCategory, paymentCategory);
+            if (aggregated.isPresent()) {
+                BigDecimal grandTotalTax = aggregated.get().directTax().add(aggregated.get().vat());
+                log.info("✅ 총 세금 계산 완료(일별 집계) - 직접 세금: {}, 부가세: {}, 총 세금: {}",
+                        aggregated.get().directTax(), aggregated.get().vat(), grandTotalTax);
+                return grandTotalTax;
+            }
+            
             List<FinancialTransaction> taxTransactions = financialTransactionRepository
                     .findByTenantIdAndCategoryAndIsDeletedFalse(tenantId, taxCategory);
             
@@ -599,7 +618,6 @@ public class FinancialTransactionServiceImpl extends BaseTenantAwareService impl
                     .map(FinancialTransaction::getAmount)
                     .reduce(BigDecimal.ZERO, BigDecimal::add);
             
-            String paymentCategory = getSafeCodeName("FINANCIAL_CATEGORY", "PAYMENT", "결제");
             List<FinancialTransaction> paymentTransactions = financialTransactionRepository
                     .findByTenantIdAndCategoryAndIsDeletedFalse(tenantId, paymentCategory);
             
@@ -630,7 +648,11 @@ public class FinancialTransactionServiceImpl extends BaseTenantAwareService impl
             log.error("❌ tenantId가 설정되지 않았습니다");
             return new ArrayList<>();
         }
-        List<Object[]> results = financialTransactionRepository.getIncomeByCategory(tenantId, startDate, endDate);
+        List<Object[]> results = financialDailyAggregateStore
+                .categoryTotals(tenantId, startDate, endDate, FinancialTransaction.TransactionType.INCOME.name(),
+                        FinancialTransaction.TransactionStatus.COMPLETED.name())
+                .map(FinancialTransactionServiceImpl::toCategoryRows)
+                .orElseGet(() -> financialTransactionRepository.getIncomeByCategory(tenantId, startDate, endDate));
         return convertToCategoryFinancialData(results);
     }
     
@@ -642,7 +664,11 @@ public class FinancialTransactionServiceImpl extends BaseTenantAwareService impl
             log.error("❌ tenantId가 설정되지 않았습니다");
             return new ArrayList<>();
         }
-        List<Object[]> results = financialTransactionRepository.getExpenseByCategory(tenantId, startDate, endDate);
+        List<Object[]> results = financialDailyAggregateStore
+                .categoryTotals(tenantId, startDate, endDate, FinancialTransaction.TransactionType.EXPENSE.name(),
+                        FinancialTransaction.TransactionStatus.COMPLETED.name())
+                .map(FinancialTransactionServiceImpl::toCategoryRows)
+                .orElseGet(() -> financialTransactionRepository.getExpenseByCategory(tenantId, startDate, endDate));
         return convertToCategoryFinancialData(results);
     }
     
@@ -654,14 +680,20 @@ public class FinancialTransactionServiceImpl extends BaseTenantAwareService impl
             log.error("❌ tenantId가 설정되지 않았습니다");
             return new ArrayList<>();
         }
-        List<Object[]> results = financialTransactionRepository.getMonthlyFinancialData(tenantId, startDate, endDate);
-        Map<String, FinancialDashboardResponse.MonthlyFinancialData> monthlyMap = new HashMap<>();
-        
-        for (Object[] row : results) {
-            Integer year = (Integer) row[0];
-            Integer month = (Integer) row[1];
-            String type = (String) row[2];
-            BigDecimal amount = (BigDecimal) row[3];
+        List<FinancialDailyAggregateStore.MonthlyTotal> results = financialDailyAggregateStore
+                .monthlyTotals(tenantId, startDate, endDate, FinancialTransaction.TransactionStatus.COMPLETED.name())
+                .orElseGet(() -> financialTransactionRepository.getMonthlyFinancialData(tenantId, startDate, endDate)
+                        .stream()
+                        .map(row -> new FinancialDailyAggregateStore.MonthlyTotal(((Number) row[0]).intValue(),
+                                ((Number) row[1]).intValue(), String.valueOf(row[2]), (BigDecimal) row[3], 0L))
+                        .collect(Collectors.toList()));
+        Map<String, FinancialDashboardResponse.MonthlyFinancialData> monthlyMap = new LinkedHashMap<>();
+        
+        for (FinancialDailyAggregateStore.MonthlyTotal row : results) {
+            Integer year = row.year();
+            Integer month = row.month();
+            String type = row.transactionType();
+            BigDecimal amount = row.amount();
             
             String monthKey = year + "-" + String.format("%02d", month);
             
@@ -685,6 +717,7 @@ public class FinancialTransactionServiceImpl extends BaseTenantAwareService impl
             }
             
             data.setNetProfit(data.getIncome().subtract(data.getExpense()));
+            data.setTransactionCount(data.getTransactionCount() + (int) row.transactionCount());
         }
         
         return new ArrayList<>(monthlyMap.values());
@@ -984,6 +1017,12 @@ public class FinancialTransactionServiceImpl extends BaseTenantAwareService impl
         };
     }
     
+    private static List<Object[]> toCategoryRows(List<FinancialDailyAggregateStore.CategoryTotal> totals) {
+        return totals.stream()
+                .map(total -> new Object[] {total.category(), total.amount(), total.transactionCount()})
+                .collect(Collectors.toList());
+    }
+    
     private List<FinancialDashboardResponse.CategoryFinancialData> convertToCategoryFinancialData(List<Object[]> results) {
         BigDecimal totalAmount = results.stream()
                 .map(row -> (BigDecimal) row[1])
@@ -0,0 +1,429 @@
+package com.coresolution.consultation.service.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import com.coresolution.consultation.constant.admin.AdminServiceUserFacingMessages;
+import com.coresolution.consultation.dto.admin.RefundTransactionRow;
+import com.coresolution.consultation.dto.admin.TerminatedRefundRow;
+import com.coresolution.consultation.entity.CommonCode;
+import com.coresolution.consultation.entity.ConsultantClientMapping;
+import com.coresolution.consultation.entity.erp.financial.FinancialTransaction;
+import com.coresolution.consultation.repository.CommonCodeRepository;
+import com.coresolution.consultation.repository.ConsultantClientMappingRepository;
+import com.coresolution.consultation.repository.erp.financial.FinancialTransactionRepository;
+import com.coresolution.consultation.service.RefundHistoryQueryService;
+import com.coresolution.core.service.impl.BaseTenantAwareService;
+import com.coresolution.core.util.StatusCodeHelper;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 환불 관리 화면 조회 구현.
+ *
+ * <p>강제 종료 매칭과 환불 거래를 각각 (시각 DESC, id DESC) keyset 쿼리로 {@code size + 1} 건씩만 읽고,
+ * 두 목록을 (시각, 종류, id) 순으로 병합한다. 거래의 매칭·상담사·내담자 이름은 같은 쿼리에서 조인되므로
+ * 거래당 매칭 조회가 없고, 매칭 단위 중복 제거도 DB 에서 끝난다. REFUND_PERIOD·REFUND_REASON 공통코드는
+ * 요청당 한 번만 읽고 사유 표준화 결과는 요청 안에서 재사용한다.</p>
+ *
+ * <p>커서는 마지막 행의 (시각, 종류, id) 를 URL-safe Base64 로 인코딩한 값이다. 같은 시각이면 강제 종료
+ * 매칭이 거래보다 앞선다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefundHistoryQueryServiceImpl extends BaseTenantAwareService implements RefundHistoryQueryService {
+
+    /** 페이지 크기 상한 */
+    static final int MAX_PAGE_SIZE = 100;
+
+    private static final String DEFAULT_PERIOD = "month";
+    private static final String REFUND_SUBCATEGORY_FULL = "CONSULTATION_REFUND";
+    private static final List<String> REFUND_SUBCATEGORIES =
+            List.of(REFUND_SUBCATEGORY_FULL, "CONSULTATION_PARTIAL_REFUND");
+    private static final String TERMINATED_NOTES_PATTERN = "%" + RefundRecordParser.TERMINATED_NOTES_MARKER + "%";
+    private static final int RECENT_REFUND_LIMIT = 10;
+    private static final int MONTHLY_TREND_MONTHS = 6;
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final DateTimeFormatter MONTH = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    private static final Comparator<RefundEntry> NEWEST_FIRST = Comparator.comparing(RefundEntry::at)
+            .thenComparing(RefundEntry::terminated)
+            .thenComparingLong(RefundEntry::id)
+            .reversed();
+
+    private final FinancialTransactionRepository financialTransactionRepository;
+    private final ConsultantClientMappingRepository mappingRepository;
+    private final CommonCodeRepository commonCodeRepository;
+    private final StatusCodeHelper statusCodeHelper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> getRefundHistoryPage(String cursor, int size, String period, String status) {
+        String tenantId = getTenantId();
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        String resolvedPeriod = period != null ? period : DEFAULT_PERIOD;
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime startDate = RefundRecordParser.periodStart(resolvedPeriod, periodCodes(tenantId),
+                now.toLocalDate());
+        RefundCursor after = RefundCursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<TerminatedRefundRow> terminated = mappingRepository.findTerminatedRefundRows(tenantId,
+                terminatedStatus(), startDate, now, TERMINATED_NOTES_PATTERN,
+                after != null ? after.at() : now,
+                after != null && after.terminated() ? after.id() : Long.MIN_VALUE,
+                limit);
+        LocalDate transactionBoundDate;
+        long transactionBoundId;
+        if (after == null) {
+            transactionBoundDate = now.toLocalDate().plusDays(1);
+            transactionBoundId = Long.MIN_VALUE;
+        } else if (!after.terminated()) {
+            transactionBoundDate = after.at().toLocalDate();
+            transactionBoundId = after.id();
+        } else if (after.at().toLocalTime().equals(LocalTime.MIDNIGHT)) {
+            // 같은 00:00 이면 매칭이 거래보다 앞서므로 그날 거래는 모두 남아 있다
+            transactionBoundDate = after.at().toLocalDate();
+            transactionBoundId = Long.MAX_VALUE;
+        } else {
+            transactionBoundDate = after.at().toLocalDate().plusDays(1);
+            transactionBoundId = Long.MIN_VALUE;
+        }
+        List<RefundTransactionRow> transactions = financialTransactionRepository.findRefundHistoryRows(tenantId,
+                FinancialTransaction.TransactionType.EXPENSE, REFUND_SUBCATEGORIES, REFUND_SUBCATEGORY_FULL,
+                startDate.toLocalDate(), now.toLocalDate(), transactionBoundDate, transactionBoundId, limit);
+
+        List<RefundEntry> merged = merge(terminated, transactions);
+        boolean hasNext = merged.size() > pageSize;
+        List<RefundEntry> page = hasNext ? merged.subList(0, pageSize) : merged;
+        String nextCursor = hasNext ? page.get(page.size() - 1).cursor().encode() : null;
+
+        ReasonStandardizer standardizer = new ReasonStandardizer(reasonCodes(tenantId));
+        List<Map<String, Object>> refundHistory = new ArrayList<>(page.size());
+        for (RefundEntry entry : page) {
+            refundHistory.add(entry.terminated()
+                    ? terminatedHistoryItem(entry.terminatedRow(), standardizer)
+                    : transactionHistoryItem(entry.transactionRow(), standardizer));
+        }
+
+        Map<String, Object> pageInfo = new HashMap<>();
+        pageInfo.put("pageSize", pageSize);
+        pageInfo.put("hasNext", hasNext);
+        pageInfo.put("nextCursor", nextCursor);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("refundHistory", refundHistory);
+        result.put("pageInfo", pageInfo);
+        result.put("nextCursor", nextCursor);
+        result.put("hasNext", hasNext);
+        result.put("period", resolvedPeriod);
+        result.put("status", status != null ? status : "all");
+
+        log.info("📋 환불 이력 keyset 조회 완료: 건수={}, 다음={}", refundHistory.size(), hasNext);
+        return result;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> getRefundStatistics(String period) {
+        String tenantId = getTenantId();
+        LocalDateTime endDate = LocalDateTime.now();
+        LocalDateTime startDate = RefundRecordParser.periodStart(period, periodCodes(tenantId), endDate.toLocalDate());
+
+        List<TerminatedRefundRow> terminated = mappingRepository.findTerminatedRefundRows(tenantId,
+                terminatedStatus(), startDate, endDate, TERMINATED_NOTES_PATTERN, endDate, Long.MIN_VALUE,
+                Pageable.unpaged());
+        List<RefundTransactionRow> transactions = financialTransactionRepository.findRefundHistoryRows(tenantId,
+                FinancialTransaction.TransactionType.EXPENSE, REFUND_SUBCATEGORIES, REFUND_SUBCATEGORY_FULL,
+                startDate.toLocalDate(), endDate.toLocalDate(), endDate.toLocalDate().plusDays(1), Long.MIN_VALUE,
+                Pageable.unpaged());
+
+        ReasonStandardizer standardizer = new ReasonStandardizer(reasonCodes(tenantId));
+        RefundTally total = new RefundTally();
+        Map<String, RefundTally> byConsultant = new HashMap<>();
+        Map<YearMonth, RefundTally> byMonth = new LinkedHashMap<>();
+        YearMonth currentMonth = YearMonth.from(endDate);
+        for (int i = MONTHLY_TREND_MONTHS - 1; i >= 0; i--) {
+            byMonth.put(currentMonth.minusMonths(i), new RefundTally());
+        }
+        Map<String, Integer> refundReasonStats = new HashMap<>();
+        List<Map<String, Object>> recentRefunds = new ArrayList<>();
+
+        for (TerminatedRefundRow row : terminated) {
+            int sessions = RefundRecordParser.remainingSessions(row.totalSessions(), row.usedSessions());
+            long amount = RefundRecordParser.terminatedRefundAmount(row.packagePrice(), row.totalSessions(),
+                    row.usedSessions());
+            String reason = RefundRecordParser.reasonFromTerminatedNotes(row.notes(), false);
+            total.add(sessions, amount);
+            byConsultant.computeIfAbsent(nameOrUnknown(row.consultantName()), k -> new RefundTally())
+                    .add(sessions, amount);
+            RefundTally month = byMonth.get(YearMonth.from(row.terminatedAt()));
+            if (month != null) {
+                month.add(sessions, amount);
+            }
+            refundReasonStats.merge(standardizer.standardize(reason), 1, Integer::sum);
+
+            Map<String, Object> recent = new HashMap<>();
+            recent.put("mappingId", row.mappingId());
+            recent.put("clientName", nameOrUnknown(row.clientName()));
+            recent.put("consultantName", nameOrUnknown(row.consultantName()));
+            recent.put("packageName", row.packageName());
+            recent.put("refundedSessions", sessions);
+            recent.put("refundAmount", amount);
+            recent.put("terminatedAt", row.terminatedAt().format(DATE_TIME));
+            recent.put("reason", reason);
+            recentRefunds.add(recent);
+        }
+
+        for (RefundTransactionRow row : transactions) {
+            boolean mapped = row.joinedMappingId() != null;
+            int sessions = RefundRecordParser.sessionsFromDescription(row.description());
+            long amount = row.amount() != null ? row.amount().longValue() : 0L;
+            String reason = RefundRecordParser.reasonFromDescription(row.description());
+            total.add(sessions, amount);
+            byConsultant.computeIfAbsent(mapped ? nameOrUnknown(row.consultantName())
+                    : AdminServiceUserFacingMessages.DISPLAY_NAME_UNKNOWN, k -> new RefundTally())
+                    .add(sessions, amount);
+            RefundTally month = byMonth.get(YearMonth.from(row.transactionDate()));
+            if (month != null) {
+                month.add(sessions, amount);
+            }
+            refundReasonStats.merge(standardizer.standardize(reason), 1, Integer::sum);
+
+            LocalDateTime createdAt = row.createdAt() != null ? row.createdAt() : row.transactionDate().atStartOfDay();
+            Map<String, Object> recent = new HashMap<>();
+            recent.put("mappingId", mapped ? row.joinedMappingId() : row.relatedEntityId());
+            recent.put("clientName", mapped ? nameOrUnknown(row.clientName())
+                    : AdminServiceUserFacingMessages.DISPLAY_NAME_UNKNOWN);
+            recent.put("consultantName", mapped ? nameOrUnknown(row.consultantName())
+                    : AdminServiceUserFacingMessages.DISPLAY_NAME_UNKNOWN);
+            recent.put("packageName", mapped ? row.packageName() : AdminServiceUserFacingMessages.DISPLAY_NAME_UNKNOWN);
+            recent.put("refundedSessions", mapped ? sessions : 0);
+            recent.put("refundAmount", amount);
+            recent.put("terminatedAt", createdAt.format(DATE_TIME));
+            recent.put("reason", mapped ? reason : AdminServiceUserFacingMessages.MSG_REFUND_MATCHING_INFO_MISSING);
+            recentRefunds.add(recent);
+        }
+
+        recentRefunds.sort((a, b) -> ((String) b.get("terminatedAt")).compareTo((String) a.get("terminatedAt")));
+        if (recentRefunds.size() > RECENT_REFUND_LIMIT) {
+            recentRefunds = new ArrayList<>(recentRefunds.subList(0, RECENT_REFUND_LIMIT));
+        }
+
+        Map<String, Map<String, Object>> consultantStats = new HashMap<>();
+        byConsultant.forEach((name, tally) -> consultantStats.put(name, tally.toMap()));
+        List<Map<String, Object>> monthlyTrend = new ArrayList<>(byMonth.size());
+        byMonth.forEach((month, tally) -> {
+            Map<String, Object> monthData = tally.toMap();
+            monthData.put("month", month.format(MONTH));
+            monthlyTrend.add(monthData);
+        });
+
+        Map<String, Object> summary = new HashMap<>();
+        summary.put("totalRefundCount", total.count);
+        summary.put("totalRefundedSessions", total.sessions);
+        summary.put("totalRefundAmount", total.amount);
+        summary.put("averageRefundPerCase", total.count > 0 ? total.amount / total.count : 0L);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("period", period);
+        result.put("startDate", startDate.format(DATE));
+        result.put("endDate", endDate.format(DATE));
+        result.put("summary", summary);
+        result.put("consultantStats", consultantStats);
+        result.put("monthlyTrend", monthlyTrend);
+        result.put("refundReasonStats", refundReasonStats);
+        result.put("recentRefunds", recentRefunds);
+
+        log.info("📊 환불 통계 조회 완료: 전체={}, 부분환불={}, 전체환불={}, 총금액={}원",
+                total.count, transactions.size(), terminated.size(), total.amount);
+        return result;
+    }
+
+    private static List<RefundEntry> merge(List<TerminatedRefundRow> terminated,
+            List<RefundTransactionRow> transactions) {
+        List<RefundEntry> merged = new ArrayList<>(terminated.size() + transactions.size());
+        for (TerminatedRefundRow row : terminated) {
+            merged.add(new RefundEntry(row.terminatedAt(), true, row.mappingId(), row, null));
+        }
+        for (RefundTransactionRow row : transactions) {
+            merged.add(new RefundEntry(row.transactionDate().atStartOfDay(), false, row.transactionId(), null, row));
+        }
+        merged.sort(NEWEST_FIRST);
+        return merged;
+    }
+
+    private static Map<String, Object> terminatedHistoryItem(TerminatedRefundRow row, ReasonStandardizer standardizer) {
+        String reason = RefundRecordParser.reasonFromTerminatedNotes(row.notes(), true);
+        Map<String, Object> refund = new HashMap<>();
+        refund.put("mappingId", row.mappingId());
+        refund.put("consultantName", nameOrUnknown(row.consultantName()));
+        refund.put("clientName", nameOrUnknown(row.clientName()));
+        refund.put("packageName", nameOrUnknown(row.packageName()));
+        refund.put("refundedSessions", RefundRecordParser.remainingSessions(row.totalSessions(), row.usedSessions()));
+        refund.put("refundAmount", RefundRecordParser.terminatedRefundAmount(row.packagePrice(), row.totalSessions(),
+                row.usedSessions()));
+        refund.put("terminatedAt", row.terminatedAt().format(DATE_TIME));
+        refund.put("refundReason", reason);
+        refund.put("standardizedReason", standardizer.standardize(reason));
+        return refund;
+    }
+
+    private static Map<String, Object> transactionHistoryItem(RefundTransactionRow row,
+            ReasonStandardizer standardizer) {
+        boolean mapped = row.joinedMappingId() != null;
+        String reason = RefundRecordParser.reasonFromDescription(row.description());
+        Map<String, Object> refund = new HashMap<>();
+        refund.put("mappingId", mapped ? row.joinedMappingId() : row.relatedEntityId());
+        refund.put("consultantName", mapped ? nameOrUnknown(row.consultantName())
+                : AdminServiceUserFacingMessages.DISPLAY_NAME_UNKNOWN);
+        refund.put("clientName", mapped ? nameOrUnknown(row.clientName())
+                : AdminServiceUserFacingMessages.DISPLAY_NAME_UNKNOWN);
+        refund.put("packageName", mapped ? nameOrUnknown(row.packageName())
+                : AdminServiceUserFacingMessages.DISPLAY_NAME_UNKNOWN);
+        refund.put("refundedSessions", RefundRecordParser.sessionsFromDescription(row.description()));
+        refund.put("refundAmount", row.amount() != null ? row.amount().longValue() : 0L);
+        refund.put("terminatedAt", row.transactionDate().format(DATE));
+        refund.put("refundReason", reason);
+        refund.put("standardizedReason", standardizer.standardize(reason));
+        return refund;
+    }
+
+    private static String nameOrUnknown(String name) {
+        return name != null ? name : AdminServiceUserFacingMessages.DISPLAY_NAME_UNKNOWN;
+    }
+
+    private ConsultantClientMapping.MappingStatus terminatedStatus() {
+        String codeValue = statusCodeHelper.getStatusCodeValue("MAPPING_STATUS", "TERMINATED");
+        if (codeValue != null) {
+            try {
+                return ConsultantClientMapping.MappingStatus.valueOf(codeValue);
+            } catch (IllegalArgumentException e) {
+                log.warn("매칭 종료 상태 코드가 enum 과 다릅니다: {}", codeValue);
+            }
+        }
+        return ConsultantClientMapping.MappingStatus.TERMINATED;
+    }
+
+    private List<CommonCode> periodCodes(String tenantId) {
+        return commonCodeRepository.findByTenantIdAndCodeGroupOrderBySortOrderAsc(tenantId, "REFUND_PERIOD");
+    }
+
+    private List<CommonCode> reasonCodes(String tenantId) {
+        return commonCodeRepository.findByTenantIdAndCodeGroupAndIsActiveTrueOrderBySortOrderAsc(tenantId,
+                "REFUND_REASON");
+    }
+
+    /**
+     * 병합 대상 1건 — 강제 종료 매칭 또는 환불 거래.
+     */
+    private record RefundEntry(LocalDateTime at, boolean terminated, long id, TerminatedRefundRow terminatedRow,
+            RefundTransactionRow transactionRow) {
+
+        RefundCursor cursor() {
+            return new RefundCursor(at, terminated, id);
+        }
+    }
+
+    /**
+     * keyset 커서 — 직전 페이지 마지막 행의 (시각, 종류, id).
+     *
+     * @param at         환불 시각 (거래는 거래일 00:00)
+     * @param terminated 강제 종료 매칭 여부 (false 면 환불 거래)
+     * @param id         매칭 또는 거래 PK
+     */
+    record RefundCursor(LocalDateTime at, boolean terminated, long id) {
+
+        private static final String SEPARATOR = "|";
+
+        String encode() {
+            String raw = at + SEPARATOR + (terminated ? "M" : "T") + SEPARATOR + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * @param value 인코딩된 커서 (null·빈 값이면 첫 페이지)
+         * @return 커서, 첫 페이지면 null
+         * @throws IllegalArgumentException 형식이 잘못된 경우
+         */
+        static RefundCursor decode(String value) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(value.trim()), StandardCharsets.UTF_8);
+                String[] parts = raw.split("\\" + SEPARATOR);
+                if (parts.length != 3 || !("M".equals(parts[1]) || "T".equals(parts[1]))) {
+                    throw new IllegalArgumentException("잘못된 환불 이력 커서입니다.");
+                }
+                return new RefundCursor(LocalDateTime.parse(parts[0]), "M".equals(parts[1]),
+                        Long.parseLong(parts[2]));
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 환불 이력 커서입니다.", e);
+            }
+        }
+    }
+
+    /**
+     * 요청 범위 환불 사유 표준화 — 공통코드는 한 번만 읽고 같은 원문 사유는 다시 매칭하지 않는다.
+     */
+    private static final class ReasonStandardizer {
+
+        private final List<CommonCode> reasonCodes;
+        private final Map<String, String> standardized = new HashMap<>();
+
+        ReasonStandardizer(List<CommonCode> reasonCodes) {
+            this.reasonCodes = reasonCodes;
+        }
+
+        String standardize(String rawReason) {
+            return standardized.computeIfAbsent(rawReason != null ? rawReason : "",
+                    reason -> RefundRecordParser.standardizeReason(reason, reasonCodes));
+        }
+    }
+
+    /**
+     * 건수·환불 회기·환불 금액 누적.
+     */
+    private static final class RefundTally {
+
+        private int count;
+        private int sessions;
+        private long amount;
+
+        void add(int refundedSessions, long refundAmount) {
+            count++;
+            sessions += refundedSessions;
+            amount += refundAmount;
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> stats = new HashMap<>();
+            stats.put("refundCount", count);
+            stats.put("refundedSessions", sessions);
+            stats.put("refundAmount", amount);
+            return stats;
+        }
+    }
+}
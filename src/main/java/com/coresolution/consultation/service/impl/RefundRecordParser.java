@@ -0,0 +1,204 @@
+package com.coresolution.consultation.service.impl;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import com.coresolution.consultation.constant.admin.AdminServiceUserFacingMessages;
+import com.coresolution.consultation.entity.CommonCode;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 환불 거래 설명·매칭 메모 파싱과 환불 기간·사유 공통코드 해석.
+ *
+ * <p>{@link AdminServiceImpl} 의 환불 통계·이력과 {@link RefundHistoryQueryServiceImpl} 가 같은 규칙을
+ * 쓰도록 한 곳에 모은다. 공통코드 조회는 호출 측이 요청당 한 번 수행해 목록을 넘긴다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Slf4j
+final class RefundRecordParser {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /** 전체 환불(강제 종료) 매칭 메모 표기 */
+    static final String TERMINATED_NOTES_MARKER = "강제 종료";
+
+    private RefundRecordParser() {
+    }
+
+    /**
+     * 환불 설명에서 환불 회기수 추출 ("...(3회기 부분 환불..." → 3).
+     *
+     * @param description 거래 설명
+     * @return 환불 회기수 (표기 없으면 0)
+     */
+    static int sessionsFromDescription(String description) {
+        if (description == null) {
+            return 0;
+        }
+        try {
+            if (description.contains("회기 부분 환불")) {
+                String[] parts = description.split("회기 부분 환불");
+                if (parts.length > 0) {
+                    String numberPart = parts[0].substring(parts[0].lastIndexOf("(") + 1);
+                    return Integer.parseInt(numberPart.trim());
+                }
+            }
+        } catch (Exception e) {
+            log.warn("환불 회기수 추출 실패: {}", description);
+        }
+        return 0;
+    }
+
+    /**
+     * 환불 설명에서 환불 사유 추출 ("사유: " 이후 " [" 이전).
+     *
+     * @param description 거래 설명
+     * @return 환불 사유 (표기 없으면 기타)
+     */
+    static String reasonFromDescription(String description) {
+        if (description == null) {
+            return AdminServiceUserFacingMessages.REFUND_REASON_FALLBACK_ETC;
+        }
+        try {
+            if (description.contains(AdminServiceUserFacingMessages.REFUND_DESCRIPTION_REASON_LABEL_PREFIX)) {
+                String[] parts = description.split(AdminServiceUserFacingMessages.REFUND_DESCRIPTION_REASON_LABEL_PREFIX);
+                if (parts.length > 1) {
+                    return parts[1].split(" \\[")[0].trim();
+                }
+            }
+        } catch (Exception e) {
+            log.warn("환불 사유 추출 실패: {}", description);
+        }
+        return AdminServiceUserFacingMessages.REFUND_REASON_FALLBACK_ETC;
+    }
+
+    /**
+     * 강제 종료 매칭 메모에서 종료 사유 추출 ("강제 종료] " 이후 첫 줄).
+     *
+     * @param notes              매칭 메모
+     * @param stripRefundSuffix  " (환불: ...)" 꼬리 제거 여부 (이력 화면은 제거, 통계는 원문 유지)
+     * @return 종료 사유 (표기 없으면 기타)
+     */
+    static String reasonFromTerminatedNotes(String notes, boolean stripRefundSuffix) {
+        if (notes == null || !notes.contains(TERMINATED_NOTES_MARKER + "]")) {
+            return AdminServiceUserFacingMessages.REFUND_REASON_FALLBACK_ETC;
+        }
+        String[] parts = notes.split(TERMINATED_NOTES_MARKER + "] ");
+        if (parts.length <= 1) {
+            return AdminServiceUserFacingMessages.REFUND_REASON_FALLBACK_ETC;
+        }
+        String fullReason = parts[1].split("\n")[0];
+        if (stripRefundSuffix && fullReason.contains(" (환불:")) {
+            return fullReason.split(" \\(환불:")[0];
+        }
+        return fullReason;
+    }
+
+    /**
+     * 강제 종료 시 남은 회기 비율만큼의 환불 금액 (패키지 가격 × 남은 회기 / 총 회기).
+     *
+     * @param packagePrice  패키지 가격
+     * @param totalSessions 총 회기 수
+     * @param usedSessions  사용 회기 수
+     * @return 환불 금액 (가격·회기 정보 없으면 0)
+     */
+    static long terminatedRefundAmount(Long packagePrice, Integer totalSessions, Integer usedSessions) {
+        if (packagePrice == null || totalSessions == null || totalSessions <= 0) {
+            return 0L;
+        }
+        return (packagePrice * remainingSessions(totalSessions, usedSessions)) / totalSessions;
+    }
+
+    /**
+     * @param totalSessions 총 회기 수
+     * @param usedSessions  사용 회기 수
+     * @return 남은(환불) 회기 수
+     */
+    static int remainingSessions(Integer totalSessions, Integer usedSessions) {
+        int total = totalSessions != null ? totalSessions : 0;
+        int used = usedSessions != null ? usedSessions : 0;
+        return total - used;
+    }
+
+    /**
+     * REFUND_PERIOD 공통코드 extraData({@code days}/{@code months}/{@code years})로 기간 시작 시각 계산.
+     *
+     * @param period      기간 코드값 (대소문자 무시)
+     * @param periodCodes REFUND_PERIOD 공통코드
+     * @param today       기준일
+     * @return 기간 시작 시각 (해당 코드 없으면 1개월 전)
+     */
+    static LocalDateTime periodStart(String period, List<CommonCode> periodCodes, LocalDate today) {
+        for (CommonCode code : periodCodes) {
+            if (code.getCodeValue() == null || !code.getCodeValue().equalsIgnoreCase(period)) {
+                continue;
+            }
+            String extraData = code.getExtraData();
+            if (extraData != null && !extraData.isEmpty()) {
+                try {
+                    if (extraData.contains("\"days\"")) {
+                        int days = Integer.parseInt(extraData.replaceAll(".*\"days\":(\\d+).*", "$1"));
+                        return today.minusDays(days - 1).atStartOfDay();
+                    } else if (extraData.contains("\"months\"")) {
+                        int months = Integer.parseInt(extraData.replaceAll(".*\"months\":(\\d+).*", "$1"));
+                        return today.minusMonths(months).atStartOfDay();
+                    } else if (extraData.contains("\"years\"")) {
+                        int years = Integer.parseInt(extraData.replaceAll(".*\"years\":(\\d+).*", "$1"));
+                        return today.minusYears(years).atStartOfDay();
+                    }
+                } catch (Exception e) {
+                    log.warn("환불 기간 설정 파싱 실패: period={}, extraData={}", period, extraData);
+                }
+            }
+            break;
+        }
+        return today.minusMonths(1).atStartOfDay();
+    }
+
+    /**
+     * REFUND_REASON 공통코드(라벨·값·extraData keywords)로 환불 사유 표준화.
+     *
+     * @param rawReason   원문 사유
+     * @param reasonCodes 활성 REFUND_REASON 공통코드
+     * @return 표준 사유 라벨 (매칭 없으면 테스트 라벨 또는 기타)
+     */
+    static String standardizeReason(String rawReason, List<CommonCode> reasonCodes) {
+        if (rawReason == null || rawReason.trim().isEmpty()) {
+            return AdminServiceUserFacingMessages.REFUND_REASON_FALLBACK_ETC;
+        }
+        String reason = rawReason.toLowerCase().trim();
+        for (CommonCode code : reasonCodes) {
+            String codeLabel = code.getCodeLabel();
+            String codeValue = code.getCodeValue();
+            if (codeLabel == null || codeValue == null) {
+                continue;
+            }
+            if (reason.contains(codeLabel.toLowerCase()) || reason.contains(codeValue.toLowerCase())) {
+                return codeLabel;
+            }
+            String extraData = code.getExtraData();
+            if (extraData != null && extraData.contains("\"keywords\"")) {
+                try {
+                    JsonNode keywords = OBJECT_MAPPER.readTree(extraData).get("keywords");
+                    if (keywords != null) {
+                        for (String keyword : keywords.asText().split(",")) {
+                            if (reason.contains(keyword.trim().toLowerCase())) {
+                                return codeLabel;
+                            }
+                        }
+                    }
+                } catch (Exception e) {
+                    log.debug("환불 사유 키워드 파싱 실패: codeValue={}, error={}", codeValue, e.getMessage());
+                }
+            }
+        }
+        if (rawReason.toLowerCase().contains(AdminServiceUserFacingMessages.REFUND_REASON_TEST_LABEL.toLowerCase())) {
+            return AdminServiceUserFacingMessages.REFUND_REASON_TEST_LABEL;
+        }
+        return AdminServiceUserFacingMessages.REFUND_REASON_FALLBACK_ETC;
+    }
+}
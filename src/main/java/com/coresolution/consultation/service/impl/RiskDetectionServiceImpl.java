@@ -3,7 +3,7 @@ package com.coresolution.consultation.service.impl;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,6 +14,7 @@ import com.coresolution.consultation.entity.ConsultationRecordAlert.AlertType;
 import com.coresolution.consultation.repository.ConsultationAudioFileRepository;
 import com.coresolution.consultation.repository.ConsultationRecordAlertRepository;
 import com.coresolution.consultation.service.RiskDetectionService;
+import com.coresolution.consultation.service.risk.RiskKeywordAutomaton;
 import com.coresolution.core.context.TenantContextHolder;
 import com.coresolution.core.service.ai.AIModelProvider;
 import com.coresolution.core.service.ai.AIModelProvider.AIResponse;
@@ -39,15 +40,14 @@ public class RiskDetectionServiceImpl implements RiskDetectionService {
     private final ConsultationAudioFileRepository audioFileRepository;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    // 위험 키워드 정의
-    private static final List<String> CRITICAL_KEYWORDS =
-            Arrays.asList("자살", "죽고 싶다", "자해", "목숨", "끝내고 싶다", "죽음", "사라지고 싶다");
+    /** 위험 키워드 오토마톤 (CRITICAL/HIGH/MEDIUM 정의는 {@link RiskKeywordAutomaton} 참조). */
+    private final RiskKeywordAutomaton riskKeywordAutomaton = RiskKeywordAutomaton.defaults();
 
-    private static final List<String> HIGH_KEYWORDS =
-            Arrays.asList("우울", "불안", "공황", "폭력", "때리다", "해치다", "상처", "절망");
+    /** AI 분석 시 키워드 일치 위치 앞뒤로 포함할 문자 수. */
+    private static final int EXCERPT_RADIUS = 150;
 
-    private static final List<String> MEDIUM_KEYWORDS =
-            Arrays.asList("힘들다", "괴롭다", "외롭다", "무기력", "의욕 없다", "슬프다");
+    /** AI 분석 발췌 최대 길이 (기존 전문 전송 상한과 동일). */
+    private static final int MAX_EXCERPT_CHARS = 2000;
 
     @Override
     @Transactional
@@ -72,8 +72,8 @@ public class RiskDetectionServiceImpl implements RiskDetectionService {
 
             log.warn("⚠️ 위험 키워드 발견: {}", detectedKeywords);
 
-            // 2. AI를 통한 문맥 기반 분석
-            RiskAnalysisResult aiAnalysis = analyzeRiskWithAI(text, detectedKeywords);
+            // 2. AI를 통한 문맥 기반 분석 (키워드 주변 발췌만 전송)
+            RiskAnalysisResult aiAnalysis = analyzeRiskWithAI(excerptAroundKeywords(text), detectedKeywords);
 
             // 3. 위험도가 있으면 알림 생성
             if (aiAnalysis.hasRisk() && aiAnalysis.getRiskScore() >= 0.3) {
@@ -114,29 +114,21 @@ public class RiskDetectionServiceImpl implements RiskDetectionService {
             return new ArrayList<>();
         }
 
-        List<String> detected = new ArrayList<>();
-        String lowerText = text.toLowerCase();
-
-        // CRITICAL 키워드 검사
-        for (String keyword : CRITICAL_KEYWORDS) {
-            if (lowerText.contains(keyword.toLowerCase())) {
-                detected.add(keyword + " (CRITICAL)");
-            }
-        }
+        // 단일 순회로 CRITICAL → HIGH → MEDIUM 키워드 일치를 모두 찾는다
+        BitSet matched = new BitSet();
+        riskKeywordAutomaton.scan(text, RiskKeywordAutomaton.INITIAL_STATE,
+                (keywordIndex, end) -> matched.set(keywordIndex));
 
-        // HIGH 키워드 검사
-        for (String keyword : HIGH_KEYWORDS) {
-            if (lowerText.contains(keyword.toLowerCase())) {
-                detected.add(keyword + " (HIGH)");
-            }
-        }
-
-        // MEDIUM 키워드 검사 (중복 방지)
-        for (String keyword : MEDIUM_KEYWORDS) {
-            if (lowerText.contains(keyword.toLowerCase())
-                    && detected.stream().noneMatch(d -> d.startsWith(keyword))) {
-                detected.add(keyword + " (MEDIUM)");
+        List<String> detected = new ArrayList<>();
+        List<RiskKeywordAutomaton.Keyword> keywords = riskKeywordAutomaton.keywords();
+        for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+            RiskKeywordAutomaton.Keyword keyword = keywords.get(i);
+            // MEDIUM 키워드 중복 방지
+            if (keyword.level() == RiskKeywordAutomaton.Level.MEDIUM
+                    && detected.stream().anyMatch(d -> d.startsWith(keyword.text()))) {
+                continue;
             }
+            detected.add(keyword.label());
         }
 
         return detected;
@@ -259,6 +251,35 @@ public class RiskDetectionServiceImpl implements RiskDetectionService {
                 text.length() > 2000 ? text.substring(0, 2000) + "..." : text);
     }
 
+    /**
+     * 키워드 일치 위치 앞뒤 {@value #EXCERPT_RADIUS}자 구간을 합쳐 발췌한다. 구간 사이는 "…" 로 잇는다.
+     */
+    private String excerptAroundKeywords(String text) {
+        List<int[]> ranges = new ArrayList<>();
+        List<RiskKeywordAutomaton.Keyword> keywords = riskKeywordAutomaton.keywords();
+        riskKeywordAutomaton.scan(text, RiskKeywordAutomaton.INITIAL_STATE, (keywordIndex, end) -> {
+            int start = Math.max(0, end - keywords.get(keywordIndex).text().length() - EXCERPT_RADIUS);
+            int stop = Math.min(text.length(), end + EXCERPT_RADIUS);
+            int[] last = ranges.isEmpty() ? null : ranges.get(ranges.size() - 1);
+            if (last != null && start <= last[1]) {
+                last[1] = Math.max(last[1], stop);
+            } else {
+                ranges.add(new int[] {start, stop});
+            }
+        });
+        StringBuilder excerpt = new StringBuilder();
+        for (int[] range : ranges) {
+            if (excerpt.length() > 0 || range[0] > 0) {
+                excerpt.append(excerpt.length() > 0 ? "\n…\n" : "…");
+            }
+            excerpt.append(text, range[0], range[1]);
+            if (excerpt.length() >= MAX_EXCERPT_CHARS) {
+                break;
+            }
+        }
+        return excerpt.length() > MAX_EXCERPT_CHARS ? excerpt.substring(0, MAX_EXCERPT_CHARS) : excerpt.toString();
+    }
+
     /**
      * AI 위험 분석 응답 파싱
      */
@@ -4,10 +4,14 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import com.coresolution.consultation.config.SalaryBatchProperties;
 import com.coresolution.consultation.constant.UserRole;
 import com.coresolution.consultation.entity.Branch;
 import com.coresolution.consultation.entity.SalaryCalculation;
@@ -19,6 +23,8 @@ import com.coresolution.consultation.service.CommonCodeService;
 import com.coresolution.consultation.service.PlSqlSalaryManagementService;
 import com.coresolution.consultation.service.SalaryBatchService;
 import com.coresolution.consultation.service.SalaryScheduleService;
+import com.coresolution.consultation.service.salary.SalaryPreviewCache;
+import com.coresolution.consultation.service.salary.SetBasedSalaryBatchEngine;
 import com.coresolution.core.context.TenantContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -47,12 +53,18 @@ public class SalaryBatchServiceImpl implements SalaryBatchService {
             SalaryCalculation.SalaryStatus.PAID
     );
 
+    /** 배치 계산의 {@code calculated_by}. */
+    private static final String BATCH_TRIGGERED_BY = "BATCH_SYSTEM";
+
     private final UserRepository userRepository;
     private final SalaryCalculationRepository salaryCalculationRepository;
     private final PlSqlSalaryManagementService plSqlSalaryManagementService;
     private final SalaryScheduleService salaryScheduleService;
     private final CommonCodeService commonCodeService;
     private final BranchService branchService;
+    private final SetBasedSalaryBatchEngine setBasedSalaryBatchEngine;
+    private final SalaryBatchProperties salaryBatchProperties;
+    private final SalaryPreviewCache salaryPreviewCache;
     
     @Override
     @Transactional
@@ -81,43 +93,45 @@ public class SalaryBatchServiceImpl implements SalaryBatchService {
             
             log.info("📅 계산 기간: {} ~ {}", periodStart, periodEnd);
             
-            // 4. 배치 실행
+            // 4. 배치 실행 — set-based 계산 후, 계산기가 넘긴 상담사만 프로시저로 계산
             int successCount = 0;
             int errorCount = 0;
             List<String> errorMessages = new ArrayList<>();
+            List<User> procedureTargets = consultants;
             
-            for (User consultant : consultants) {
-                try {
-                    log.info("💰 상담사 급여 계산: ID={}, 이름={}", consultant.getId(), consultant.getName());
-                    
-                    // PL/SQL 통합 급여 계산 (실제 저장)
-                    var result = plSqlSalaryManagementService.processIntegratedSalaryCalculation(
-                        consultant.getId(), 
-                        periodStart, 
-                        periodEnd, 
-                        "BATCH_SYSTEM"
-                    );
-                    
-                    if ((Boolean) result.get("success")) {
+            if (salaryBatchProperties.isSetBased()) {
+                Map<Long, User> consultantsById = consultants.stream()
+                    .collect(Collectors.toMap(User::getId, Function.identity(), (a, b) -> a, LinkedHashMap::new));
+                SetBasedSalaryBatchEngine.BatchRun run = setBasedSalaryBatchEngine.run(tenantId,
+                    new ArrayList<>(consultantsById.keySet()), periodStart, periodEnd, BATCH_TRIGGERED_BY);
+                for (SetBasedSalaryBatchEngine.Outcome outcome : run.outcomes()) {
+                    if (outcome.success()) {
                         successCount++;
-                        log.info("✅ 상담사 급여 계산 완료: ID={}, 이름={}", consultant.getId(), consultant.getName());
                     } else {
                         errorCount++;
-                        String errorMsg = String.format("상담사 %s(%d) 급여 계산 실패: %s", 
-                            consultant.getName(), consultant.getId(), result.get("message"));
+                        User consultant = consultantsById.get(outcome.consultantId());
+                        String errorMsg = String.format("상담사 %s(%d) 급여 계산 실패: %s",
+                            consultant.getName(), consultant.getId(), outcome.message());
                         errorMessages.add(errorMsg);
                         log.error("❌ {}", errorMsg);
                     }
-                    
-                } catch (Exception e) {
+                }
+                procedureTargets = run.fallbackConsultantIds().stream()
+                    .map(consultantsById::get)
+                    .collect(Collectors.toList());
+            }
+            
+            for (User consultant : procedureTargets) {
+                if (calculateWithProcedure(consultant, periodStart, periodEnd, errorMessages)) {
+                    successCount++;
+                } else {
                     errorCount++;
-                    String errorMsg = String.format("상담사 %s(%d) 급여 계산 중 예외 발생: %s", 
-                        consultant.getName(), consultant.getId(), e.getMessage());
-                    errorMessages.add(errorMsg);
-                    log.error("❌ {}", errorMsg, e);
                 }
             }
             
+            // 확정·특별지원금 지급 기록이 JDBC 로 쓰여 테넌트 미리보기를 커밋 뒤 비운다.
+            salaryPreviewCache.invalidateTenant(tenantId);
+            
             // 5. 결과 생성
             boolean overallSuccess = errorCount == 0;
             String message = String.format("급여 배치 완료: 총 %d명 처리, 성공 %d명, 실패 %d명", 
@@ -222,6 +236,43 @@ public class SalaryBatchServiceImpl implements SalaryBatchService {
         return batchStatus;
     }
     
+    /**
+     * 상담사 1명을 {@code ProcessIntegratedSalaryCalculation} 프로시저로 계산한다.
+     *
+     * @return 성공 여부 (실패 메시지는 {@code errorMessages} 에 추가)
+     */
+    private boolean calculateWithProcedure(User consultant, LocalDate periodStart, LocalDate periodEnd,
+            List<String> errorMessages) {
+        try {
+            log.info("💰 상담사 급여 계산: ID={}, 이름={}", consultant.getId(), consultant.getName());
+            
+            // PL/SQL 통합 급여 계산 (실제 저장)
+            var result = plSqlSalaryManagementService.processIntegratedSalaryCalculation(
+                consultant.getId(), 
+                periodStart, 
+                periodEnd, 
+                BATCH_TRIGGERED_BY
+            );
+            
+            if ((Boolean) result.get("success")) {
+                log.info("✅ 상담사 급여 계산 완료: ID={}, 이름={}", consultant.getId(), consultant.getName());
+                return true;
+            }
+            String errorMsg = String.format("상담사 %s(%d) 급여 계산 실패: %s", 
+                consultant.getName(), consultant.getId(), result.get("message"));
+            errorMessages.add(errorMsg);
+            log.error("❌ {}", errorMsg);
+            return false;
+            
+        } catch (Exception e) {
+            String errorMsg = String.format("상담사 %s(%d) 급여 계산 중 예외 발생: %s", 
+                consultant.getName(), consultant.getId(), e.getMessage());
+            errorMessages.add(errorMsg);
+            log.error("❌ {}", errorMsg, e);
+            return false;
+        }
+    }
+    
     /**
      * 대상 상담사 조회
      */
@@ -1,19 +1,27 @@
 package com.coresolution.consultation.service.impl;
 
+import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import jakarta.mail.internet.AddressException;
 import jakarta.mail.internet.InternetAddress;
@@ -21,21 +29,29 @@ import jakarta.mail.internet.InternetAddress;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import com.coresolution.consultation.constant.salary.SalaryExportConstants;
 import com.coresolution.consultation.constant.salary.SalaryTaxTypeDisplayLabels;
+import com.coresolution.consultation.config.SalaryExportProperties;
 import com.coresolution.consultation.dto.EmailResponse;
+import com.coresolution.consultation.dto.SalaryExportBatchRequest;
 import com.coresolution.consultation.dto.SalaryExportRequest;
 import com.coresolution.consultation.entity.SalaryCalculation;
 import com.coresolution.consultation.entity.User;
 import com.coresolution.consultation.exception.EntityNotFoundException;
+import com.coresolution.consultation.exception.ValidationException;
 import com.coresolution.consultation.repository.SalaryCalculationRepository;
+import com.coresolution.consultation.salaryexport.NonClosingOutputStream;
 import com.coresolution.consultation.salaryexport.SalaryCalculationStatementRows;
+import com.coresolution.consultation.salaryexport.SalaryExportContent;
+import com.coresolution.consultation.salaryexport.SalaryExportDownloadStore;
 import com.coresolution.consultation.salaryexport.SalaryExportFlyingSaucerPdfRenderer;
+import com.coresolution.consultation.salaryexport.SalaryExportFormat;
 import com.coresolution.consultation.salaryexport.SalaryExportHtmlRenderer;
 import com.coresolution.consultation.service.EmailService;
 import com.coresolution.consultation.service.SalaryExportService;
@@ -50,6 +66,9 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * 급여 계산 단건 export. PDF는 UTF-8 XHTML + Flying Saucer(OpenPDF) + classpath 한글 폰트.
  *
+ * <p>형식별 생성기는 출력 스트림에 바로 쓴다(Excel은 SXSSF 행 창, CSV는 행 단위). data URI 응답만 바이트로 모으고,
+ * 다운로드 토큰·스트리밍 응답·ZIP 묶음은 결과 전체를 힙에 두지 않는다.</p>
+ *
  * @author CoreSolution
  * @since 2026-05-11
  */
@@ -68,71 +87,197 @@ public class SalaryExportServiceImpl implements SalaryExportService {
 
     private final PersonalDataEncryptionUtil personalDataEncryptionUtil;
 
+    private final SalaryExportDownloadStore downloadStore;
+
+    private final SalaryExportProperties exportProperties;
+
     @Override
     @Transactional(readOnly = true)
     public Map<String, Object> exportPdf(SalaryExportRequest request) {
-        SalaryCalculation calc = loadCalculationForCurrentTenant(request.getCalculationId());
-        Map<String, Object> taxDetails = resolveTaxDetails(request, calc.getId());
-        String consultantDisplayName = resolveConsultantDisplayName(calc, request);
-        String xhtml = SalaryExportHtmlRenderer.buildSalaryExportXhtml(calc, taxDetails, request, consultantDisplayName);
-        byte[] bytes = SalaryExportFlyingSaucerPdfRenderer.renderToPdfBytes(xhtml);
-        String filename = buildFilename(calc, "pdf", consultantDisplayName);
-
-        Map<String, Object> payload = new LinkedHashMap<>();
-        payload.put(
-                SalaryExportConstants.RESPONSE_KEY_DOWNLOAD_URL,
-                SalaryExportConstants.DATA_URI_PREFIX_PDF + Base64.getEncoder().encodeToString(bytes));
-        payload.put(SalaryExportConstants.RESPONSE_KEY_FILENAME, filename);
+        return export(request, SalaryExportFormat.PDF);
+    }
 
-        if (Boolean.TRUE.equals(request.getNotifyConsultantByEmail())) {
-            appendEmailPayload(calc, request, consultantDisplayName, bytes, filename, payload);
-        }
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> exportExcel(SalaryExportRequest request) {
+        return export(request, SalaryExportFormat.EXCEL);
+    }
 
-        return payload;
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> exportCsv(SalaryExportRequest request) {
+        return export(request, SalaryExportFormat.CSV);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Map<String, Object> exportExcel(SalaryExportRequest request) {
+    public SalaryExportContent openExport(SalaryExportRequest request, SalaryExportFormat format) {
         SalaryCalculation calc = loadCalculationForCurrentTenant(request.getCalculationId());
         Map<String, Object> taxDetails = resolveTaxDetails(request, calc.getId());
         String consultantDisplayName = resolveConsultantDisplayName(calc, request);
-        byte[] bytes = buildXlsx(calc, taxDetails, request, consultantDisplayName);
-        String filename = buildFilename(calc, "xlsx", consultantDisplayName);
-
-        Map<String, Object> payload = new LinkedHashMap<>();
-        payload.put(SalaryExportConstants.RESPONSE_KEY_DOWNLOAD_URL,
-                SalaryExportConstants.DATA_URI_PREFIX_XLSX + Base64.getEncoder().encodeToString(bytes));
-        payload.put(SalaryExportConstants.RESPONSE_KEY_FILENAME, filename);
+        return buildContent(calc, taxDetails, request, consultantDisplayName, format);
+    }
 
-        if (Boolean.TRUE.equals(request.getNotifyConsultantByEmail())) {
-            appendEmailPayload(calc, request, consultantDisplayName, bytes, filename, payload);
+    @Override
+    @Transactional(readOnly = true)
+    public SalaryExportContent openPayslipArchive(SalaryExportBatchRequest request) {
+        String tenantId = TenantContextHolder.getRequiredTenantId();
+        SalaryExportFormat format = SalaryExportFormat.from(request.getFormat(), SalaryExportFormat.PDF);
+        List<Long> ids = request.getCalculationIds() == null ? List.of()
+                : request.getCalculationIds().stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) {
+            throw new ValidationException("묶을 급여 계산을 선택해 주세요.");
+        }
+        if (ids.size() > exportProperties.getMaxBatchSize()) {
+            throw new ValidationException("한 번에 묶을 수 있는 급여 계산은 최대 " + exportProperties.getMaxBatchSize()
+                    + "건입니다.");
+        }
+        Set<Long> owned = new HashSet<>(salaryCalculationRepository.findIdsByTenantIdAndIdIn(tenantId, ids));
+        for (Long id : ids) {
+            if (!owned.contains(id)) {
+                throw new EntityNotFoundException("급여 계산 정보를 찾을 수 없습니다: " + id);
+            }
         }
-
-        return payload;
+        String filename = SalaryExportConstants.ARCHIVE_FILENAME_PREFIX + LocalDate.now() + "_" + ids.size() + ".zip";
+        return new SalaryExportContent(filename, SalaryExportConstants.MIME_TYPE_ZIP,
+                out -> writePayslipArchive(tenantId, ids, request, format, out));
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public Map<String, Object> exportCsv(SalaryExportRequest request) {
+    public Optional<SalaryExportDownloadStore.StoredDownload> findDownload(String token) {
+        return downloadStore.find(token, TenantContextHolder.getRequiredTenantId());
+    }
+
+    /**
+     * 단건 export 공통. 전달 방식에 따라 data URI 로 인코딩하거나 임시 파일로 쓰고 토큰 경로를 준다.
+     * 이메일 첨부가 필요할 때만 바이트를 읽는다.
+     */
+    private Map<String, Object> export(SalaryExportRequest request, SalaryExportFormat format) {
         SalaryCalculation calc = loadCalculationForCurrentTenant(request.getCalculationId());
         Map<String, Object> taxDetails = resolveTaxDetails(request, calc.getId());
         String consultantDisplayName = resolveConsultantDisplayName(calc, request);
-        byte[] bytes = buildCsv(calc, taxDetails, request, consultantDisplayName);
-        String filename = buildFilename(calc, "csv", consultantDisplayName);
+        SalaryExportContent content = buildContent(calc, taxDetails, request, consultantDisplayName, format);
+        boolean notify = Boolean.TRUE.equals(request.getNotifyConsultantByEmail());
 
         Map<String, Object> payload = new LinkedHashMap<>();
-        payload.put(SalaryExportConstants.RESPONSE_KEY_DOWNLOAD_URL,
-                SalaryExportConstants.DATA_URI_PREFIX_CSV + Base64.getEncoder().encodeToString(bytes));
-        payload.put(SalaryExportConstants.RESPONSE_KEY_FILENAME, filename);
+        byte[] bytes = null;
+        if (SalaryExportConstants.DELIVERY_DOWNLOAD_TOKEN.equalsIgnoreCase(Objects.toString(request.getDelivery(), ""))) {
+            SalaryExportDownloadStore.StoredDownload stored = downloadStore.issue(calc.getTenantId(), content);
+            payload.put(SalaryExportConstants.RESPONSE_KEY_DOWNLOAD_URL,
+                    SalaryExportConstants.DOWNLOAD_TOKEN_PATH_PREFIX + stored.token());
+            if (notify && request.isIncludeAttachment()) {
+                bytes = readStoredBytes(stored, calc);
+            }
+        } else {
+            bytes = renderToBytes(content, calc, format);
+            payload.put(SalaryExportConstants.RESPONSE_KEY_DOWNLOAD_URL,
+                    dataUriPrefix(format) + Base64.getEncoder().encodeToString(bytes));
+        }
+        payload.put(SalaryExportConstants.RESPONSE_KEY_FILENAME, content.filename());
 
-        if (Boolean.TRUE.equals(request.getNotifyConsultantByEmail())) {
-            appendEmailPayload(calc, request, consultantDisplayName, bytes, filename, payload);
+        if (notify) {
+            appendEmailPayload(calc, request, consultantDisplayName, bytes, content.filename(), payload);
         }
 
         return payload;
     }
 
+    /**
+     * 형식별 쓰기 함수. PDF 는 XHTML 을 여기서 만들어 두고 렌더링만 쓰기 시점에 한다.
+     */
+    private SalaryExportContent buildContent(
+            SalaryCalculation calc,
+            Map<String, Object> taxDetails,
+            SalaryExportRequest request,
+            String consultantDisplayName,
+            SalaryExportFormat format) {
+        String filename = buildFilename(calc, format.getExtension(), consultantDisplayName);
+        return switch (format) {
+            case PDF -> {
+                String xhtml = SalaryExportHtmlRenderer.buildSalaryExportXhtml(
+                        calc, taxDetails, request, consultantDisplayName);
+                yield new SalaryExportContent(filename, format.getContentType(),
+                        out -> SalaryExportFlyingSaucerPdfRenderer.renderToPdf(xhtml, out));
+            }
+            case EXCEL -> new SalaryExportContent(filename, format.getContentType(),
+                    out -> writeXlsx(calc, taxDetails, request, consultantDisplayName, out));
+            case CSV -> new SalaryExportContent(filename, format.getContentType(),
+                    out -> writeCsv(calc, taxDetails, request, consultantDisplayName, out));
+        };
+    }
+
+    /**
+     * ZIP 엔트리를 한 건씩 조회·렌더링해 압축 스트림에 바로 쓴다. 스트리밍 응답은 요청 스레드 밖에서 쓰일 수 있으므로
+     * 테넌트를 다시 설정하고, 끝나면 원래 값으로 되돌린다.
+     */
+    private void writePayslipArchive(
+            String tenantId,
+            List<Long> ids,
+            SalaryExportBatchRequest request,
+            SalaryExportFormat format,
+            OutputStream out) throws IOException {
+        String previousTenantId = TenantContextHolder.peekTenantId();
+        TenantContextHolder.setTenantId(tenantId);
+        Set<String> entryNames = new HashSet<>();
+        try (ZipOutputStream zip = new ZipOutputStream(new NonClosingOutputStream(out), StandardCharsets.UTF_8)) {
+            for (Long id : ids) {
+                SalaryExportRequest entryRequest = request.toEntryRequest(id);
+                SalaryCalculation calc = loadCalculationForCurrentTenant(id);
+                Map<String, Object> taxDetails = resolveTaxDetails(entryRequest, id);
+                String consultantDisplayName = resolveConsultantDisplayName(calc, entryRequest);
+                SalaryExportContent entry = buildContent(calc, taxDetails, entryRequest, consultantDisplayName, format);
+                zip.putNextEntry(new ZipEntry(uniqueEntryName(entry.filename(), entryNames)));
+                entry.writer().writeTo(zip);
+                zip.closeEntry();
+            }
+        } finally {
+            TenantContextHolder.setTenantIdOrClear(previousTenantId);
+        }
+        log.info("급여 명세 ZIP 생성 완료: tenantId={}, entries={}, format={}", tenantId, ids.size(), format);
+    }
+
+    private static String uniqueEntryName(String filename, Set<String> used) {
+        if (used.add(filename)) {
+            return filename;
+        }
+        int dot = filename.lastIndexOf('.');
+        String base = dot > 0 ? filename.substring(0, dot) : filename;
+        String ext = dot > 0 ? filename.substring(dot) : "";
+        for (int i = 2; ; i++) {
+            String candidate = base + "_" + i + ext;
+            if (used.add(candidate)) {
+                return candidate;
+            }
+        }
+    }
+
+    private static String dataUriPrefix(SalaryExportFormat format) {
+        return switch (format) {
+            case PDF -> SalaryExportConstants.DATA_URI_PREFIX_PDF;
+            case EXCEL -> SalaryExportConstants.DATA_URI_PREFIX_XLSX;
+            case CSV -> SalaryExportConstants.DATA_URI_PREFIX_CSV;
+        };
+    }
+
+    private static byte[] renderToBytes(SalaryExportContent content, SalaryCalculation calc, SalaryExportFormat format) {
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+            content.writer().writeTo(baos);
+            return baos.toByteArray();
+        } catch (IOException e) {
+            log.error("급여 {} 생성 실패 calculationId={}", format, calc.getId(), e);
+            throw new IllegalStateException("급여 " + format + " 생성에 실패했습니다.", e);
+        }
+    }
+
+    private static byte[] readStoredBytes(SalaryExportDownloadStore.StoredDownload stored, SalaryCalculation calc) {
+        try {
+            return Files.readAllBytes(stored.path());
+        } catch (IOException e) {
+            log.error("급여 export 임시 파일 읽기 실패 calculationId={}", calc.getId(), e);
+            throw new IllegalStateException("급여 파일 첨부 준비에 실패했습니다.", e);
+        }
+    }
+
     private Map<String, Object> buildSalaryDataMapForEmail(SalaryCalculation calc) {
         Map<String, Object> m = new HashMap<>();
         BigDecimal hourly = calc.getHourlyEarnings() != null ? calc.getHourlyEarnings() : BigDecimal.ZERO;
@@ -349,13 +494,20 @@ public class SalaryExportServiceImpl implements SalaryExportService {
         return SalaryExportConstants.FILENAME_PREFIX + calc.getId() + "_" + periodPart + "_" + consultant + "." + ext;
     }
 
-    private byte[] buildXlsx(
+    /**
+     * SXSSF 로 행 창({@link SalaryExportConstants#XLSX_ROW_WINDOW})만 메모리에 두고 나머지는 압축 임시 파일로 내려쓴다.
+     */
+    private void writeXlsx(
             SalaryCalculation calc,
             Map<String, Object> taxDetails,
             SalaryExportRequest request,
-            String consultantDisplayName) {
-        try (XSSFWorkbook workbook = new XSSFWorkbook(); ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            Sheet sheet = workbook.createSheet("salary");
+            String consultantDisplayName,
+            OutputStream out) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(SalaryExportConstants.XLSX_ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try {
+            SXSSFSheet sheet = workbook.createSheet("salary");
+            sheet.trackAllColumnsForAutoSizing();
             int r = 0;
             r = appendCalculationRows(sheet, r, calc, request, consultantDisplayName);
             r++;
@@ -378,11 +530,10 @@ public class SalaryExportServiceImpl implements SalaryExportService {
             for (int i = 0; i < 6; i++) {
                 sheet.autoSizeColumn(i);
             }
-            workbook.write(baos);
-            return baos.toByteArray();
-        } catch (IOException e) {
-            log.error("급여 Excel 생성 실패 calculationId={}", calc.getId(), e);
-            throw new IllegalStateException("급여 Excel 생성에 실패했습니다.", e);
+            workbook.write(new NonClosingOutputStream(out));
+        } finally {
+            workbook.dispose();
+            workbook.close();
         }
     }
 
@@ -455,79 +606,78 @@ public class SalaryExportServiceImpl implements SalaryExportService {
         }
     }
 
-    private byte[] buildCsv(
+    /**
+     * UTF-8 BOM 뒤에 행 단위로 바로 쓴다. 호출자 스트림은 닫지 않는다.
+     */
+    private void writeCsv(
             SalaryCalculation calc,
             Map<String, Object> taxDetails,
             SalaryExportRequest request,
-            String consultantDisplayName) {
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            baos.write(0xEF);
-            baos.write(0xBB);
-            baos.write(0xBF);
-            try (Writer w = new OutputStreamWriter(baos, StandardCharsets.UTF_8)) {
-                w.append("항목,값\n");
-                w.append("계산 ID,").append(csvEscape(String.valueOf(calc.getId()))).append('\n');
-                w.append("상담사,").append(csvEscape(consultantDisplayName != null ? consultantDisplayName : "")).append('\n');
-                if (calc.getCalculationPeriodStart() != null) {
-                    w.append("기간 시작,").append(csvEscape(calc.getCalculationPeriodStart().toString())).append('\n');
+            String consultantDisplayName,
+            OutputStream out) throws IOException {
+        out.write(0xEF);
+        out.write(0xBB);
+        out.write(0xBF);
+        try (Writer w = new BufferedWriter(
+                new OutputStreamWriter(new NonClosingOutputStream(out), StandardCharsets.UTF_8))) {
+            w.append("항목,값\n");
+            w.append("계산 ID,").append(csvEscape(String.valueOf(calc.getId()))).append('\n');
+            w.append("상담사,").append(csvEscape(consultantDisplayName != null ? consultantDisplayName : "")).append('\n');
+            if (calc.getCalculationPeriodStart() != null) {
+                w.append("기간 시작,").append(csvEscape(calc.getCalculationPeriodStart().toString())).append('\n');
+            }
+            if (calc.getCalculationPeriodEnd() != null) {
+                w.append("기간 종료,").append(csvEscape(calc.getCalculationPeriodEnd().toString())).append('\n');
+            }
+            w.append("상태,").append(csvEscape(calc.getStatus() != null ? calc.getStatus().name() : "")).append('\n');
+            if (Boolean.FALSE.equals(request.getIncludeCalculationDetails())) {
+                w.append("급여 구성 상세,").append(csvEscape("요청에 따라 생략 (PDF/Excel과 동일)")).append('\n');
+            } else {
+                for (SalaryCalculationStatementRows.LabelAmount row
+                        : SalaryCalculationStatementRows.buildPretaxComponentRows(calc)) {
+                    w.append(csvEscape(row.label())).append(',')
+                            .append(csvEscape(formatAmount(row.amount()))).append('\n');
                 }
-                if (calc.getCalculationPeriodEnd() != null) {
-                    w.append("기간 종료,").append(csvEscape(calc.getCalculationPeriodEnd().toString())).append('\n');
+                BigDecimal bonus = calc.getBonusEarnings() != null ? calc.getBonusEarnings() : BigDecimal.ZERO;
+                if (bonus.compareTo(BigDecimal.ZERO) > 0) {
+                    w.append(csvEscape(SalaryCalculationStatementRows.LABEL_SPECIAL_SUPPORT)).append(',')
+                            .append(csvEscape("+" + formatAmount(bonus))).append('\n');
                 }
-                w.append("상태,").append(csvEscape(calc.getStatus() != null ? calc.getStatus().name() : "")).append('\n');
-                if (Boolean.FALSE.equals(request.getIncludeCalculationDetails())) {
-                    w.append("급여 구성 상세,").append(csvEscape("요청에 따라 생략 (PDF/Excel과 동일)")).append('\n');
-                } else {
-                    for (SalaryCalculationStatementRows.LabelAmount row
-                            : SalaryCalculationStatementRows.buildPretaxComponentRows(calc)) {
-                        w.append(csvEscape(row.label())).append(',')
-                                .append(csvEscape(formatAmount(row.amount()))).append('\n');
-                    }
-                    BigDecimal bonus = calc.getBonusEarnings() != null ? calc.getBonusEarnings() : BigDecimal.ZERO;
-                    if (bonus.compareTo(BigDecimal.ZERO) > 0) {
-                        w.append(csvEscape(SalaryCalculationStatementRows.LABEL_SPECIAL_SUPPORT)).append(',')
-                                .append(csvEscape("+" + formatAmount(bonus))).append('\n');
-                    }
-                    w.append(csvEscape(SalaryCalculationStatementRows.LABEL_GROSS_PRETAX)).append(',')
-                            .append(csvEscape(formatAmount(SalaryCalculationStatementRows.resolveGrossPreTaxDisplay(calc))))
-                            .append('\n');
-                    BigDecimal ded = calc.getDeductions() != null ? calc.getDeductions() : BigDecimal.ZERO;
-                    if (ded.compareTo(BigDecimal.ZERO) > 0) {
-                        w.append(csvEscape(SalaryCalculationStatementRows.LABEL_TAX_DEDUCTIONS)).append(',')
-                                .append(csvEscape("-" + formatAmount(ded))).append('\n');
-                    }
-                    BigDecimal netD = calc.getNetSalary() != null ? calc.getNetSalary()
-                            : nzBig(calc.getTotalSalary()).subtract(ded);
-                    w.append(csvEscape(SalaryCalculationStatementRows.LABEL_NET)).append(',')
-                            .append(csvEscape(formatAmount(netD))).append('\n');
-                    int done = calc.getCompletedConsultations() != null ? calc.getCompletedConsultations() : 0;
-                    w.append(csvEscape(SalaryCalculationStatementRows.LABEL_CONSULTATION_COUNT)).append(',')
-                            .append(csvEscape(done + "건")).append('\n');
+                w.append(csvEscape(SalaryCalculationStatementRows.LABEL_GROSS_PRETAX)).append(',')
+                        .append(csvEscape(formatAmount(SalaryCalculationStatementRows.resolveGrossPreTaxDisplay(calc))))
+                        .append('\n');
+                BigDecimal ded = calc.getDeductions() != null ? calc.getDeductions() : BigDecimal.ZERO;
+                if (ded.compareTo(BigDecimal.ZERO) > 0) {
+                    w.append(csvEscape(SalaryCalculationStatementRows.LABEL_TAX_DEDUCTIONS)).append(',')
+                            .append(csvEscape("-" + formatAmount(ded))).append('\n');
                 }
-                if (taxDetails != null && !taxDetails.isEmpty()) {
-                    w.append("세금_총지급,").append(csvEscape(formatAmount(asBigDecimal(taxDetails.get("grossSalary")))))
-                            .append('\n');
-                    w.append("세금_실수령,").append(csvEscape(formatAmount(asBigDecimal(taxDetails.get("netSalary")))))
-                            .append('\n');
-                    @SuppressWarnings("unchecked")
-                    List<Map<String, Object>> details =
-                            (List<Map<String, Object>>) taxDetails.get(SalaryExportConstants.TAX_PAYLOAD_KEY_TAX_DETAILS);
-                    if (details != null) {
-                        for (Map<String, Object> row : details) {
-                            String taxCode = Objects.toString(row.get(SalaryExportConstants.TAX_ROW_KEY_TAX_TYPE), "");
-                            w.append("세금,")
-                                    .append(csvEscape(SalaryTaxTypeDisplayLabels.labelForTaxType(taxCode)))
-                                    .append(',')
-                                    .append(csvEscape(formatAmount(asBigDecimal(row.get(SalaryExportConstants.TAX_ROW_KEY_TAX_AMOUNT)))))
-                                    .append('\n');
-                        }
+                BigDecimal netD = calc.getNetSalary() != null ? calc.getNetSalary()
+                        : nzBig(calc.getTotalSalary()).subtract(ded);
+                w.append(csvEscape(SalaryCalculationStatementRows.LABEL_NET)).append(',')
+                        .append(csvEscape(formatAmount(netD))).append('\n');
+                int done = calc.getCompletedConsultations() != null ? calc.getCompletedConsultations() : 0;
+                w.append(csvEscape(SalaryCalculationStatementRows.LABEL_CONSULTATION_COUNT)).append(',')
+                        .append(csvEscape(done + "건")).append('\n');
+            }
+            if (taxDetails != null && !taxDetails.isEmpty()) {
+                w.append("세금_총지급,").append(csvEscape(formatAmount(asBigDecimal(taxDetails.get("grossSalary")))))
+                        .append('\n');
+                w.append("세금_실수령,").append(csvEscape(formatAmount(asBigDecimal(taxDetails.get("netSalary")))))
+                        .append('\n');
+                @SuppressWarnings("unchecked")
+                List<Map<String, Object>> details =
+                        (List<Map<String, Object>>) taxDetails.get(SalaryExportConstants.TAX_PAYLOAD_KEY_TAX_DETAILS);
+                if (details != null) {
+                    for (Map<String, Object> row : details) {
+                        String taxCode = Objects.toString(row.get(SalaryExportConstants.TAX_ROW_KEY_TAX_TYPE), "");
+                        w.append("세금,")
+                                .append(csvEscape(SalaryTaxTypeDisplayLabels.labelForTaxType(taxCode)))
+                                .append(',')
+                                .append(csvEscape(formatAmount(asBigDecimal(row.get(SalaryExportConstants.TAX_ROW_KEY_TAX_AMOUNT)))))
+                                .append('\n');
                     }
                 }
             }
-            return baos.toByteArray();
-        } catch (IOException e) {
-            log.error("급여 CSV 생성 실패 calculationId={}", calc.getId(), e);
-            throw new IllegalStateException("급여 CSV 생성에 실패했습니다.", e);
         }
     }
 
@@ -69,10 +69,13 @@ import com.coresolution.consultation.service.SessionSyncService;
 import com.coresolution.consultation.util.ConsultationMessageTypeCodes;
 import com.coresolution.consultation.utils.SessionUtils;
 import com.coresolution.consultation.service.StatisticsService;
+import com.coresolution.consultation.service.schedule.ScheduleCompletionClaimStore;
+import com.coresolution.consultation.service.schedule.ScheduleDueIndex;
 import com.coresolution.core.context.TenantContextHolder;
 import com.coresolution.core.security.TenantAccessControlService;
 import com.coresolution.core.service.impl.BaseTenantEntityServiceImpl;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -128,6 +131,10 @@ public class ScheduleServiceImpl extends BaseTenantEntityServiceImpl<Schedule, L
     private final ScheduleChangeNotificationDebounceService scheduleChangeNotificationDebounceService;
     private final ImmediateReservationSmsDeferralService immediateReservationSmsDeferralService;
     private final NotificationBatchSendLogRepository notificationBatchSendLogRepository;
+    /** 자동 완료 시각 색인 — 비활성({@code mindgarden.schedule.due-index.enabled=false})이면 null, 호출마다 기존 스캔. */
+    private final ScheduleDueIndex scheduleDueIndex;
+    /** 자동 완료 인스턴스 간 선점 — 색인 경로에서만 쓴다. */
+    private final ScheduleCompletionClaimStore scheduleCompletionClaimStore;
     private final ObjectMapper sessionHistoryObjectMapper = new ObjectMapper();
 
     /**
@@ -182,7 +189,9 @@ public class ScheduleServiceImpl extends BaseTenantEntityServiceImpl<Schedule, L
             ConsultantClientMappingHistoryService consultantClientMappingHistoryService,
             ScheduleChangeNotificationDebounceService scheduleChangeNotificationDebounceService,
             ImmediateReservationSmsDeferralService immediateReservationSmsDeferralService,
-            NotificationBatchSendLogRepository notificationBatchSendLogRepository) {
+            NotificationBatchSendLogRepository notificationBatchSendLogRepository,
+            @Autowired(required = false) ScheduleDueIndex scheduleDueIndex,
+            ScheduleCompletionClaimStore scheduleCompletionClaimStore) {
         super(scheduleRepository, accessControlService);
         this.scheduleRepository = scheduleRepository;
         this.mappingRepository = mappingRepository;
@@ -209,6 +218,8 @@ public class ScheduleServiceImpl extends BaseTenantEntityServiceImpl<Schedule, L
         this.scheduleChangeNotificationDebounceService = scheduleChangeNotificationDebounceService;
         this.immediateReservationSmsDeferralService = immediateReservationSmsDeferralService;
         this.notificationBatchSendLogRepository = notificationBatchSendLogRepository;
+        this.scheduleDueIndex = scheduleDueIndex;
+        this.scheduleCompletionClaimStore = scheduleCompletionClaimStore;
     }
     
     
@@ -3140,18 +3151,113 @@ public class ScheduleServiceImpl extends BaseTenantEntityServiceImpl<Schedule, L
 
      /**
      * 시간이 지난 확정된 스케줄을 자동으로 완료 처리
+     *
+     * <p>자동 완료 시각 색인({@link ScheduleDueIndex})이 적재돼 있으면 완료 시각이 지난 일정만 꺼내 일괄 처리하고,
+     * 지난 일정 전체 스캔은 테넌트별 대사 주기에만 돌린다. 색인이 없거나 적재 전이면 호출마다 스캔한다.</p>
      */
     @Override
     @Transactional
     public void autoCompleteExpiredSchedules() {
-        log.info("🔄 시간이 지난 스케줄 자동 완료 처리 시작");
-        
         String tenantId = TenantContextHolder.getTenantId();
         if (tenantId == null) {
             log.error("❌ tenantId가 설정되지 않았습니다");
             return;
         }
         LocalDateTime now = LocalDateTime.now();
+        if (scheduleDueIndex == null || !scheduleDueIndex.isLoaded()) {
+            reconcileExpiredSchedules(tenantId, now);
+            return;
+        }
+        if (scheduleDueIndex.reconciliationDue(tenantId, now)) {
+            reconcileExpiredSchedules(tenantId, now);
+            scheduleDueIndex.reconciled(tenantId, now);
+            scheduleCompletionClaimStore.purgeClosed(tenantId);
+            return;
+        }
+        List<Long> dueIds = scheduleDueIndex.pollDue(tenantId, now);
+        if (!dueIds.isEmpty()) {
+            completeDueSchedules(tenantId, dueIds, now);
+        }
+    }
+
+    /**
+     * 색인이 꺼낸 완료 시각 도달 일정을 한 번에 처리한다.
+     *
+     * <p>일정과 상담일지 존재 여부를 각각 IN 조회 1회로 읽는다. 색인은 인스턴스마다 따로 두므로 같은 일정을 여러
+     * 인스턴스가 꺼낼 수 있다 — 완료 시각이 지난 미완료 일정을 {@link ScheduleCompletionClaimStore} 에 실행 토큰으로
+     * 선점하고, 선점한 일정만 처리한다. 다른 실행이 선점한 일정은 완료·리마인더 없이 재확인으로 미룬다. 선점한 일정 중 상담일지가 있는 일정만 회기 차감 후 COMPLETED 로
+     * 바꿔 {@code saveAll} 한다 — flush 때 Hibernate JDBC 배치 UPDATE 로 나가며 엔티티 리스너·버전 검사는 그대로다.
+     * 상담일지가 없으면 기존처럼 리마인더를 만들고 재확인 간격 뒤로 미룬다.</p>
+     */
+    private void completeDueSchedules(String tenantId, List<Long> dueIds, LocalDateTime now) {
+        List<Schedule> candidates = scheduleRepository.findByTenantIdAndIdIn(tenantId, dueIds);
+        List<Schedule> reached = new ArrayList<>();
+        for (Schedule schedule : candidates) {
+            LocalDateTime dueAt = ScheduleDueIndex.dueAt(schedule);
+            if (dueAt == null) {
+                continue;
+            }
+            if (dueAt.isAfter(now)) {
+                scheduleDueIndex.track(tenantId, schedule.getId(), dueAt);
+                continue;
+            }
+            reached.add(schedule);
+        }
+        if (reached.isEmpty()) {
+            return;
+        }
+        ScheduleCompletionClaimStore.Claim claim = scheduleCompletionClaimStore.claim(tenantId,
+            reached.stream().map(Schedule::getId).toList());
+        Set<Long> claimed = claim.scheduleIds();
+        Set<Long> withRecord = claimed.isEmpty() ? Set.of() : new HashSet<>(
+            consultationRecordRepository.findConsultationIdsWithRecord(tenantId, claimed));
+        List<Schedule> completed = new ArrayList<>();
+        List<Long> awaiting = new ArrayList<>();
+        int claimedElsewhere = 0;
+        for (Schedule schedule : reached) {
+            if (!claimed.contains(schedule.getId())) {
+                claimedElsewhere++;
+                awaiting.add(schedule.getId());
+                continue;
+            }
+            if (!withRecord.contains(schedule.getId())) {
+                try {
+                    plSqlScheduleValidationService.createConsultationRecordReminder(
+                        schedule.getId(), schedule.getConsultantId(), schedule.getClientId(),
+                        schedule.getDate(), "상담일지 누락 안내");
+                } catch (Exception e) {
+                    log.warn("상담일지 리마인더 생성 실패: {}", e.getMessage());
+                }
+                awaiting.add(schedule.getId());
+                continue;
+            }
+            try {
+                // 패치 7.3: COMPLETED 전환 직전 멱등 회기 차감 (미결제 매핑이면 silent skip → 배치 잡 처리)
+                deductSessionAtCompletionIfNeeded(schedule);
+            } catch (Exception e) {
+                log.error("❌ 종료 시각 도달 스케줄 자동 완료 실패: ID={}, 오류={}", schedule.getId(), e.getMessage());
+                awaiting.add(schedule.getId());
+                continue;
+            }
+            schedule.setStatus(ScheduleStatus.COMPLETED);
+            schedule.setUpdatedAt(now);
+            completed.add(schedule);
+        }
+        if (!completed.isEmpty()) {
+            scheduleRepository.saveAll(completed);
+            scheduleCompletionClaimStore.release(claim, completed.stream().map(Schedule::getId).toList());
+        }
+        scheduleDueIndex.recheckLater(tenantId, awaiting, now);
+        log.info("🔄 종료 시각 도달 스케줄 자동 완료: tenantId={}, 대상 {}개, 완료 {}개, 상담일지 대기 {}개, 다른 곳 선점 {}개",
+            tenantId, dueIds.size(), completed.size(), awaiting.size() - claimedElsewhere, claimedElsewhere);
+    }
+
+    /**
+     * 지난 일정 전체 스캔 — 색인이 없을 때의 기본 경로이자 색인 사용 시의 저빈도 대사.
+     */
+    private void reconcileExpiredSchedules(String tenantId, LocalDateTime now) {
+        log.info("🔄 시간이 지난 스케줄 자동 완료 처리 시작");
+        
         LocalDate today = now.toLocalDate();
         LocalTime currentTime = now.toLocalTime();
         
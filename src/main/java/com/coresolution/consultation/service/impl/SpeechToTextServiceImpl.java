@@ -1,11 +1,19 @@
 package com.coresolution.consultation.service.impl;
 
+import com.coresolution.consultation.config.SttPipelineProperties;
 import com.coresolution.consultation.entity.AudioTranscription;
 import com.coresolution.consultation.entity.ConsultationAudioFile;
 import com.coresolution.consultation.repository.AudioTranscriptionRepository;
 import com.coresolution.consultation.repository.ConsultationAudioFileRepository;
 import com.coresolution.consultation.service.SpeechToTextService;
+import com.coresolution.consultation.service.risk.StreamingRiskMonitor;
+import com.coresolution.consultation.service.stt.ChunkedTranscriptionPipeline;
+import com.coresolution.consultation.service.stt.TranscriptSegment;
+import com.coresolution.consultation.service.stt.TranscriptSegmentListener;
 import com.coresolution.core.context.TenantContextHolder;
+import com.google.api.gax.rpc.ClientStream;
+import com.google.api.gax.rpc.ResponseObserver;
+import com.google.api.gax.rpc.StreamController;
 import com.google.cloud.speech.v1.*;
 import com.google.protobuf.ByteString;
 import lombok.RequiredArgsConstructor;
@@ -17,9 +25,15 @@ import org.springframework.transaction.annotation.Transactional;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Google Cloud Speech-to-Text 서비스 구현체
@@ -35,20 +49,39 @@ public class SpeechToTextServiceImpl implements SpeechToTextService {
 
     private final ConsultationAudioFileRepository audioFileRepository;
     private final AudioTranscriptionRepository transcriptionRepository;
+    private final StreamingRiskMonitor streamingRiskMonitor;
+    private final ChunkedTranscriptionPipeline chunkedTranscriptionPipeline;
+    private final SttPipelineProperties sttPipelineProperties;
+
+    /** 스트리밍 요청 1건의 오디오 크기 (API 권장 상한 25KB 이하). */
+    private static final int STREAM_CHUNK_BYTES = 16 * 1024;
+
+    /** 스트리밍 전사 응답 대기 상한. */
+    private static final long STREAM_TIMEOUT_MINUTES = 15;
 
     @Override
     @Transactional
     public AudioTranscription transcribeAudio(ConsultationAudioFile audioFile) {
+        return transcribeAudio(audioFile, TranscriptSegmentListener.NONE);
+    }
+
+    @Override
+    @Transactional
+    public AudioTranscription transcribeAudio(ConsultationAudioFile audioFile, TranscriptSegmentListener listener) {
         long startTime = System.currentTimeMillis();
 
         try {
             log.info("🎤 음성 전사 시작: audioFileId={}, fileName={}",
                 audioFile.getId(), audioFile.getFileName());
 
-            // 파일 읽기
+            // 긴 PCM WAV 녹음은 무음 구간 청크로 나눠 병렬 전사 (끝난 청크는 체크포인트로 남아 재시도 시 이어서 진행)
+            Optional<ChunkedTranscriptionPipeline.Result> chunked =
+                chunkedTranscriptionPipeline.transcribe(audioFile, listener);
+            if (chunked.isPresent()) {
+                return saveChunkedTranscription(audioFile, chunked.get(), startTime);
+            }
+
             Path filePath = Paths.get(audioFile.getFilePath());
-            byte[] audioBytes = Files.readAllBytes(filePath);
-            ByteString audioContent = ByteString.copyFrom(audioBytes);
 
             // Google Cloud Speech API 설정
             try (SpeechClient speechClient = SpeechClient.create()) {
@@ -61,37 +94,37 @@ public class SpeechToTextServiceImpl implements SpeechToTextService {
                     .setModel("latest_long") // 의료 전문 모델
                     .build();
 
-                RecognitionAudio audio = RecognitionAudio.newBuilder()
-                    .setContent(audioContent)
-                    .build();
-
-                // 전사 실행
-                RecognizeResponse response = speechClient.recognize(config, audio);
-
-                // 결과 처리
-                StringBuilder transcriptBuilder = new StringBuilder();
-                BigDecimal totalConfidence = BigDecimal.ZERO;
-                int resultCount = 0;
-
-                for (SpeechRecognitionResult result : response.getResultsList()) {
-                    SpeechRecognitionAlternative alternative = result.getAlternativesList().get(0);
-                    transcriptBuilder.append(alternative.getTranscript()).append(" ");
-                    totalConfidence = totalConfidence.add(
-                        BigDecimal.valueOf(alternative.getConfidence() * 100));
-                    resultCount++;
+                // 스트리밍 전사: 파일을 조각으로 보내고, 확정 결과는 도착 즉시 세그먼트로 전달
+                StreamingTranscript transcript = new StreamingTranscript(audioFile.getId(), listener);
+                ClientStream<StreamingRecognizeRequest> requestStream =
+                    speechClient.streamingRecognizeCallable().splitCall(transcript);
+                requestStream.send(StreamingRecognizeRequest.newBuilder()
+                    .setStreamingConfig(StreamingRecognitionConfig.newBuilder().setConfig(config).build())
+                    .build());
+                try (InputStream audioStream = Files.newInputStream(filePath)) {
+                    byte[] buffer = new byte[STREAM_CHUNK_BYTES];
+                    int read;
+                    while ((read = audioStream.read(buffer)) > 0) {
+                        requestStream.send(StreamingRecognizeRequest.newBuilder()
+                            .setAudioContent(ByteString.copyFrom(buffer, 0, read))
+                            .build());
+                    }
+                } catch (IOException e) {
+                    requestStream.closeSendWithError(e);
+                    throw e;
                 }
+                requestStream.closeSend();
+                transcript.await();
 
                 long processingTime = System.currentTimeMillis() - startTime;
 
                 // 평균 신뢰도 계산
-                BigDecimal avgConfidence = resultCount > 0
-                    ? totalConfidence.divide(BigDecimal.valueOf(resultCount), 2, java.math.RoundingMode.HALF_UP)
-                    : BigDecimal.ZERO;
+                BigDecimal avgConfidence = transcript.averageConfidence();
 
                 // 전사 결과 저장
                 AudioTranscription transcription = AudioTranscription.builder()
                     .audioFileId(audioFile.getId())
-                    .transcriptionText(transcriptBuilder.toString().trim())
+                    .transcriptionText(transcript.text())
                     .confidenceScore(avgConfidence)
                     .languageCode("ko-KR")
                     .processingTimeMs((int) processingTime)
@@ -132,6 +165,38 @@ public class SpeechToTextServiceImpl implements SpeechToTextService {
         }
     }
 
+    /**
+     * 청크 전사 결과를 저장하고 체크포인트를 지운다.
+     */
+    private AudioTranscription saveChunkedTranscription(ConsultationAudioFile audioFile,
+            ChunkedTranscriptionPipeline.Result result, long startTime) {
+        long processingTime = System.currentTimeMillis() - startTime;
+        BigDecimal avgConfidence = BigDecimal.valueOf(result.averageConfidence() * 100)
+            .setScale(2, RoundingMode.HALF_UP);
+
+        AudioTranscription transcription = AudioTranscription.builder()
+            .audioFileId(audioFile.getId())
+            .transcriptionText(result.text())
+            .confidenceScore(avgConfidence)
+            .languageCode("ko-KR")
+            .processingTimeMs((int) processingTime)
+            .aiProvider(result.provider())
+            .aiModelUsed(result.model())
+            .build();
+
+        transcription = transcriptionRepository.save(transcription);
+
+        audioFile.completeTranscription();
+        audioFileRepository.save(audioFile);
+        chunkedTranscriptionPipeline.clearCheckpoints(audioFile);
+
+        log.info("✅ 청크 음성 전사 완료: audioFileId={}, chunks={}, resumed={}, textLength={}, confidence={}%, time={}ms",
+            audioFile.getId(), result.chunkCount(), result.resumedChunks(), transcription.getTextLength(),
+            avgConfidence.intValue(), processingTime);
+
+        return transcription;
+    }
+
     @Override
     public String streamTranscribe(InputStream audioStream) {
         // TODO: 실시간 스트리밍 전사 구현 (향후 개발)
@@ -140,7 +205,7 @@ public class SpeechToTextServiceImpl implements SpeechToTextService {
     }
 
     @Override
-    @Async
+    @Async("transcriptionExecutor")
     @Transactional
     public void transcribeAudioAsync(Long audioFileId) {
         log.info("🔄 비동기 음성 전사 시작: audioFileId={}", audioFileId);
@@ -154,7 +219,13 @@ public class SpeechToTextServiceImpl implements SpeechToTextService {
             audioFile.startTranscription();
             audioFileRepository.save(audioFile);
 
-            transcribeAudio(audioFile);
+            // 전사 중 위험 감지 — 세그먼트 확정 즉시 점검, 보류분은 종료 시 일괄 분석
+            TranscriptSegmentListener riskListener = streamingRiskMonitor.open(audioFile);
+            try {
+                transcribeAudio(audioFile, riskListener);
+            } finally {
+                riskListener.onComplete();
+            }
 
         } catch (Exception e) {
             log.error("❌ 비동기 음성 전사 실패: audioFileId={}, error={}",
@@ -162,6 +233,26 @@ public class SpeechToTextServiceImpl implements SpeechToTextService {
         }
     }
 
+    @Override
+    @Transactional
+    public boolean claimTranscriptionRetry(Long audioFileId) {
+        String tenantId = TenantContextHolder.getRequiredTenantId();
+        LocalDateTime now = LocalDateTime.now();
+        return audioFileRepository.claimTranscriptionRetry(audioFileId, tenantId, now,
+            now.minus(sttPipelineProperties.getRetryStaleAfter())) > 0;
+    }
+
+    @Override
+    @Transactional
+    public void markTranscriptionRejected(Long audioFileId) {
+        String tenantId = TenantContextHolder.getRequiredTenantId();
+        audioFileRepository.findByTenantIdAndId(tenantId, audioFileId).ifPresent(audioFile -> {
+            audioFile.failTranscription();
+            audioFileRepository.save(audioFile);
+        });
+        log.warn("⚠️ 전사 실행기 포화로 전사를 시작하지 못했습니다 — 재시도 대기: audioFileId={}", audioFileId);
+    }
+
     @Override
     public String getTranscriptionStatus(Long audioFileId) {
         String tenantId = TenantContextHolder.getRequiredTenantId();
@@ -170,6 +261,84 @@ public class SpeechToTextServiceImpl implements SpeechToTextService {
             .orElse("NOT_FOUND");
     }
 
+    /**
+     * 스트리밍 전사 응답 수집기 — 확정 결과를 전사문에 이어 붙이고 세그먼트로 전달한다.
+     *
+     * <p>응답 콜백은 gRPC 스레드에서 순차 호출되며, 결과 조회는 {@link #await()} 이후에만 한다.</p>
+     */
+    private static final class StreamingTranscript implements ResponseObserver<StreamingRecognizeResponse> {
+
+        private final Long audioFileId;
+        private final TranscriptSegmentListener listener;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private final StringBuilder text = new StringBuilder();
+        private BigDecimal totalConfidence = BigDecimal.ZERO;
+        private int resultCount;
+        private long lastEndMs;
+
+        private StreamingTranscript(Long audioFileId, TranscriptSegmentListener listener) {
+            this.audioFileId = audioFileId;
+            this.listener = listener;
+        }
+
+        @Override
+        public void onStart(StreamController controller) {
+        }
+
+        @Override
+        public void onResponse(StreamingRecognizeResponse response) {
+            for (StreamingRecognitionResult result : response.getResultsList()) {
+                if (!result.getIsFinal() || result.getAlternativesCount() == 0) {
+                    continue;
+                }
+                SpeechRecognitionAlternative alternative = result.getAlternatives(0);
+                text.append(alternative.getTranscript()).append(" ");
+                totalConfidence = totalConfidence.add(
+                    BigDecimal.valueOf(alternative.getConfidence() * 100));
+                long endMs = result.getResultEndTime().getSeconds() * 1000
+                    + result.getResultEndTime().getNanos() / 1_000_000;
+                TranscriptSegment segment = new TranscriptSegment(resultCount, alternative.getTranscript(),
+                    lastEndMs, endMs, alternative.getConfidence());
+                resultCount++;
+                lastEndMs = endMs;
+                try {
+                    listener.onSegment(segment);
+                } catch (RuntimeException e) {
+                    log.warn("전사 세그먼트 처리 실패 (전사는 계속): audioFileId={}, segment={}, error={}",
+                        audioFileId, segment.sequence(), e.getMessage());
+                }
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            done.completeExceptionally(t);
+        }
+
+        @Override
+        public void onComplete() {
+            done.complete(null);
+        }
+
+        private void await() throws Exception {
+            try {
+                done.get(STREAM_TIMEOUT_MINUTES, TimeUnit.MINUTES);
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof Exception cause ? cause : e;
+            }
+        }
+
+        private String text() {
+            return text.toString().trim();
+        }
+
+        private BigDecimal averageConfidence() {
+            return resultCount > 0
+                ? totalConfidence.divide(BigDecimal.valueOf(resultCount), 2, java.math.RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+        }
+    }
+
     /**
      * MIME 타입에서 인코딩 타입 추출
      */
@@ -2,6 +2,8 @@ package com.coresolution.consultation.service.impl;
 
 import com.coresolution.consultation.service.SystemMonitoringService;
 import com.coresolution.core.context.TenantContextHolder;
+import com.coresolution.core.monitoring.RequestTelemetryRegistry;
+import com.coresolution.core.util.LatencyHistogram;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
@@ -33,6 +35,7 @@ public class SystemMonitoringServiceImpl implements SystemMonitoringService {
     private final MeterRegistry meterRegistry;
     private final JdbcTemplate jdbcTemplate;
     private final DataSource dataSource;
+    private final RequestTelemetryRegistry requestTelemetryRegistry;
     
     @Override
     public Map<String, Object> getSystemStatus() {
@@ -213,9 +216,11 @@ public class SystemMonitoringServiceImpl implements SystemMonitoringService {
                 stats.put("totalTime", apiTimer.totalTime(java.util.concurrent.TimeUnit.MILLISECONDS));
                 stats.put("mean", apiTimer.mean(java.util.concurrent.TimeUnit.MILLISECONDS));
                 stats.put("max", apiTimer.max(java.util.concurrent.TimeUnit.MILLISECONDS));
-                // Percentile은 DistributionSummary를 사용하거나 별도 설정 필요
-                // 여기서는 기본 통계만 제공
-                stats.put("note", "Percentile 통계는 Prometheus 또는 별도 설정 필요");
+                // 백분위는 엔드포인트별 지연 히스토그램을 병합해 계산 (평균의 평균이 아님)
+                LatencyHistogram.Summary latency = requestTelemetryRegistry.snapshot().latency();
+                stats.put("p50", latency.p50Ms());
+                stats.put("p95", latency.p95Ms());
+                stats.put("p99", latency.p99Ms());
             } else {
                 stats.put("note", "아직 수집된 메트릭이 없습니다");
             }
@@ -0,0 +1,225 @@
+package com.coresolution.consultation.service.risk;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 위험 키워드 다중 패턴 매처 (Aho–Corasick, 불변·스레드 안전).
+ *
+ * <p>키워드 전체를 실패 링크를 미리 푼 결정적 오토마톤으로 컴파일해 본문을 한 번만 훑는다 — 문자당
+ * 배열 조회 1회. 대소문자는 문자 단위 {@link Character#toLowerCase(char)} 로 무시한다. {@link #scan(CharSequence, int, MatchSink)} 는 이전 호출이
+ * 돌려준 상태에서 이어 훑을 수 있어, 전사 세그먼트를 도착 순서대로 넣으면 세그먼트 경계를 가로지르는
+ * 키워드도 전체 본문을 한 번에 훑을 때와 같이 찾는다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public final class RiskKeywordAutomaton {
+
+    /** 위험 수준 — 선언 순서가 심각도 내림차순. */
+    public enum Level {
+        CRITICAL, HIGH, MEDIUM
+    }
+
+    /**
+     * 키워드 1개.
+     *
+     * @param text  키워드
+     * @param level 위험 수준
+     */
+    public record Keyword(String text, Level level) {
+
+        /**
+         * @return 기존 감지 결과 표기 ({@code "자살 (CRITICAL)"})
+         */
+        public String label() {
+            return text + " (" + level.name() + ")";
+        }
+    }
+
+    /**
+     * 일치 통지.
+     */
+    @FunctionalInterface
+    public interface MatchSink {
+
+        /**
+         * @param keywordIndex {@link #keywords()} 색인
+         * @param end          일치 끝 위치 (이번 호출 본문 기준, exclusive). 경계를 가로지른 일치는
+         *                     {@code end - 키워드 길이} 가 음수일 수 있다
+         */
+        void onMatch(int keywordIndex, int end);
+    }
+
+    /** 시작 상태. */
+    public static final int INITIAL_STATE = 0;
+
+    private static final int[] NO_OUTPUT = new int[0];
+
+    private static final RiskKeywordAutomaton DEFAULT = new RiskKeywordAutomaton(defaultKeywords());
+
+    private final List<Keyword> keywords;
+    /** 문자 → 알파벳 색인 (+1). 0 이면 어떤 키워드에도 없는 문자 — 곧바로 시작 상태. 대소문자 변형 포함. */
+    private final short[] charClass;
+    private final int alphabetSize;
+    /** 실패 링크를 미리 풀어 둔 결정적 전이표: {@code delta[state * alphabetSize + class]}. */
+    private final int[] delta;
+    /** 상태에서 끝나는 키워드 색인 (실패 링크 경유 포함). */
+    private final int[][] outputs;
+
+    /**
+     * @param keywords 키워드 (색인 순서 유지, 빈 문자열 불가)
+     */
+    public RiskKeywordAutomaton(List<Keyword> keywords) {
+        this.keywords = List.copyOf(keywords);
+
+        // 1. 알파벳: 키워드에 쓰인 문자(소문자)마다 색인
+        Map<Character, Integer> alphabet = new HashMap<>();
+        for (Keyword keyword : this.keywords) {
+            String text = keyword.text();
+            if (text == null || text.isEmpty()) {
+                throw new IllegalArgumentException("빈 위험 키워드는 허용되지 않습니다.");
+            }
+            for (int i = 0; i < text.length(); i++) {
+                alphabet.putIfAbsent(Character.toLowerCase(text.charAt(i)), alphabet.size());
+            }
+        }
+        alphabetSize = Math.max(1, alphabet.size());
+        charClass = new short[Character.MAX_VALUE + 1];
+        for (int c = 0; c <= Character.MAX_VALUE; c++) {
+            Integer symbol = alphabet.get(Character.toLowerCase((char) c));
+            if (symbol != null) {
+                charClass[c] = (short) (symbol + 1);
+            }
+        }
+
+        // 2. 트라이
+        List<int[]> trie = new ArrayList<>();
+        List<List<Integer>> outputsBuild = new ArrayList<>();
+        trie.add(newRow());
+        outputsBuild.add(new ArrayList<>());
+        for (int k = 0; k < this.keywords.size(); k++) {
+            String text = this.keywords.get(k).text();
+            int state = INITIAL_STATE;
+            for (int i = 0; i < text.length(); i++) {
+                int symbol = alphabet.get(Character.toLowerCase(text.charAt(i)));
+                if (trie.get(state)[symbol] < 0) {
+                    trie.get(state)[symbol] = trie.size();
+                    trie.add(newRow());
+                    outputsBuild.add(new ArrayList<>());
+                }
+                state = trie.get(state)[symbol];
+            }
+            outputsBuild.get(state).add(k);
+        }
+
+        // 3. 너비 우선으로 실패 링크를 풀어 결정적 전이표와 출력 집합을 만든다.
+        int size = trie.size();
+        delta = new int[size * alphabetSize];
+        outputs = new int[size][];
+        int[] failure = new int[size];
+        outputs[INITIAL_STATE] = toArray(outputsBuild.get(INITIAL_STATE));
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int symbol = 0; symbol < alphabetSize; symbol++) {
+            int target = trie.get(INITIAL_STATE)[symbol];
+            if (target < 0) {
+                delta[symbol] = INITIAL_STATE;
+            } else {
+                delta[symbol] = target;
+                failure[target] = INITIAL_STATE;
+                queue.add(target);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            List<Integer> merged = new ArrayList<>(outputsBuild.get(state));
+            for (int inherited : outputs[failure[state]]) {
+                merged.add(inherited);
+            }
+            outputs[state] = toArray(merged);
+            for (int symbol = 0; symbol < alphabetSize; symbol++) {
+                int target = trie.get(state)[symbol];
+                int fallback = delta[failure[state] * alphabetSize + symbol];
+                if (target < 0) {
+                    delta[state * alphabetSize + symbol] = fallback;
+                } else {
+                    delta[state * alphabetSize + symbol] = target;
+                    failure[target] = fallback;
+                    queue.add(target);
+                }
+            }
+        }
+    }
+
+    /**
+     * 기본 위험 키워드 오토마톤 (CRITICAL → HIGH → MEDIUM, 목록 순서).
+     *
+     * @return 공유 인스턴스
+     */
+    public static RiskKeywordAutomaton defaults() {
+        return DEFAULT;
+    }
+
+    /**
+     * @return 키워드 (색인 순서)
+     */
+    public List<Keyword> keywords() {
+        return keywords;
+    }
+
+    /**
+     * 본문을 이어 훑는다.
+     *
+     * @param text  본문 조각
+     * @param state 이전 호출이 돌려준 상태 (처음이면 {@link #INITIAL_STATE})
+     * @param sink  일치 통지
+     * @return 다음 호출에 넘길 상태
+     */
+    public int scan(CharSequence text, int state, MatchSink sink) {
+        int current = state;
+        for (int i = 0; i < text.length(); i++) {
+            int symbol = charClass[text.charAt(i)];
+            current = symbol == 0 ? INITIAL_STATE : delta[current * alphabetSize + symbol - 1];
+            int[] matched = outputs[current];
+            for (int keywordIndex : matched) {
+                sink.onMatch(keywordIndex, i + 1);
+            }
+        }
+        return current;
+    }
+
+    private int[] newRow() {
+        int[] row = new int[alphabetSize];
+        Arrays.fill(row, -1);
+        return row;
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        if (values.isEmpty()) {
+            return NO_OUTPUT;
+        }
+        int[] array = new int[values.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = values.get(i);
+        }
+        return array;
+    }
+
+    private static List<Keyword> defaultKeywords() {
+        List<Keyword> keywords = new ArrayList<>();
+        for (String text : List.of("자살", "죽고 싶다", "자해", "목숨", "끝내고 싶다", "죽음", "사라지고 싶다")) {
+            keywords.add(new Keyword(text, Level.CRITICAL));
+        }
+        for (String text : List.of("우울", "불안", "공황", "폭력", "때리다", "해치다", "상처", "절망")) {
+            keywords.add(new Keyword(text, Level.HIGH));
+        }
+        for (String text : List.of("힘들다", "괴롭다", "외롭다", "무기력", "의욕 없다", "슬프다")) {
+            keywords.add(new Keyword(text, Level.MEDIUM));
+        }
+        return keywords;
+    }
+}
@@ -0,0 +1,226 @@
+package com.coresolution.consultation.service.risk;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import com.coresolution.consultation.config.StreamingRiskProperties;
+import com.coresolution.consultation.entity.ConsultationRecordAlert;
+import com.coresolution.consultation.service.RiskDetectionService;
+import com.coresolution.consultation.service.RiskDetectionService.RiskAnalysisResult;
+import com.coresolution.consultation.service.stt.TranscriptSegment;
+import com.coresolution.consultation.service.stt.TranscriptSegmentListener;
+import com.coresolution.core.context.TenantContextHolder;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 음성 파일 1건의 전사 중 위험 감지 상태.
+ *
+ * <p>세그먼트는 STT 응답 스레드에서 순서대로 들어온다. 키워드 점검은 그 자리에서 하고, AI 분석·알림 생성은
+ * 실행기로 넘긴다. 세그먼트 사이에는 공백 1개를 넣어 훑으므로 감지 결과는 전체 전사문(세그먼트를 공백으로
+ * 이은 문자열)을 한 번에 훑은 것과 같다.</p>
+ *
+ * <ul>
+ *   <li>CRITICAL·HIGH: 새 키워드이거나 마지막 분석 후 {@code reescalateAfterSegments} 가 지났으면 직전
+ *       {@code contextSegments} 개 + 현재 세그먼트 창을 즉시 분석</li>
+ *   <li>MEDIUM: 새 키워드 창만 모아 두었다가 {@link #onComplete()} 에서 한 번에 분석</li>
+ *   <li>알림: 위험 점수가 기준 이상이고 이 세션에서 이미 낸 알림보다 심각도가 높을 때만 생성</li>
+ * </ul>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Slf4j
+class RiskStreamSession implements TranscriptSegmentListener {
+
+    private static final String WINDOW_SEPARATOR = "\n…\n";
+
+    private final RiskKeywordAutomaton automaton;
+    private final StreamingRiskProperties properties;
+    private final RiskDetectionService riskDetectionService;
+    private final Executor executor;
+    private final MeterRegistry meterRegistry;
+    private final String tenantId;
+    private final Long audioFileId;
+    private final Long consultationRecordId;
+
+    private final ArrayDeque<TranscriptSegment> recent = new ArrayDeque<>();
+    private final BitSet escalatedKeywords = new BitSet();
+    private final BitSet pendingKeywords = new BitSet();
+    private final List<String> pendingWindows = new ArrayList<>();
+    /** 이 세션에서 낸 알림의 최고 심각도 순위 (-1: 없음). 실행기 스레드와 공유. */
+    private final AtomicInteger alertedRank = new AtomicInteger(-1);
+
+    private int state = RiskKeywordAutomaton.INITIAL_STATE;
+    private int lastEscalatedSequence = Integer.MIN_VALUE / 2;
+    private boolean completed;
+
+    RiskStreamSession(RiskKeywordAutomaton automaton, StreamingRiskProperties properties,
+            RiskDetectionService riskDetectionService, Executor executor, MeterRegistry meterRegistry,
+            String tenantId, Long audioFileId, Long consultationRecordId) {
+        this.automaton = automaton;
+        this.properties = properties;
+        this.riskDetectionService = riskDetectionService;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.tenantId = tenantId;
+        this.audioFileId = audioFileId;
+        this.consultationRecordId = consultationRecordId;
+    }
+
+    @Override
+    public synchronized void onSegment(TranscriptSegment segment) {
+        if (completed || segment.text() == null || segment.text().isEmpty()) {
+            return;
+        }
+        BitSet hits = new BitSet();
+        if (!recent.isEmpty()) {
+            state = automaton.scan(" ", state, (keywordIndex, end) -> hits.set(keywordIndex));
+        }
+        state = automaton.scan(segment.text(), state, (keywordIndex, end) -> hits.set(keywordIndex));
+        recent.addLast(segment);
+        while (recent.size() > properties.getContextSegments() + 1) {
+            recent.removeFirst();
+        }
+        count(StreamingRiskMonitor.METRIC_SCANNED_CHARS, segment.text().length());
+        if (hits.isEmpty()) {
+            return;
+        }
+
+        BitSet newKeywords = (BitSet) hits.clone();
+        newKeywords.andNot(escalatedKeywords);
+        newKeywords.andNot(pendingKeywords);
+        if (highestLevel(hits) != RiskKeywordAutomaton.Level.MEDIUM) {
+            boolean stale = segment.sequence() - lastEscalatedSequence > properties.getReescalateAfterSegments();
+            BitSet newUrgent = (BitSet) hits.clone();
+            newUrgent.andNot(escalatedKeywords);
+            if (!newUrgent.isEmpty() || stale) {
+                escalatedKeywords.or(hits);
+                lastEscalatedSequence = segment.sequence();
+                log.warn("⚠️ 전사 중 위험 키워드 감지 — 즉시 분석: audioFileId={}, segment={}, keywords={}",
+                        audioFileId, segment.sequence(), labels(hits));
+                escalate(window(), labels(hits));
+                return;
+            }
+        }
+        if (!newKeywords.isEmpty()) {
+            pendingKeywords.or(newKeywords);
+            pendingWindows.add(window());
+        }
+    }
+
+    @Override
+    public synchronized void onComplete() {
+        if (completed) {
+            return;
+        }
+        completed = true;
+        if (!pendingWindows.isEmpty()) {
+            log.info("전사 종료 — 보류된 위험 창 일괄 분석: audioFileId={}, windows={}", audioFileId,
+                    pendingWindows.size());
+            escalate(String.join(WINDOW_SEPARATOR, pendingWindows), labels(pendingKeywords));
+            pendingWindows.clear();
+        }
+    }
+
+    private void escalate(String window, List<String> keywords) {
+        count(StreamingRiskMonitor.METRIC_ESCALATED_CHARS, window.length());
+        Runnable task = () -> {
+            String previousTenantId = TenantContextHolder.peekTenantId();
+            TenantContextHolder.setTenantIdOrClear(tenantId);
+            try {
+                analyzeAndAlert(window, keywords);
+            } catch (Exception e) {
+                log.error("❌ 전사 중 위험 분석 실패: audioFileId={}, error={}", audioFileId, e.getMessage(), e);
+            } finally {
+                TenantContextHolder.setTenantIdOrClear(previousTenantId);
+            }
+        };
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            // 위험 알림은 버리지 않는다 — 실행기가 포화되면 STT 응답 스레드에서 처리
+            log.warn("위험 분석 실행기 포화 — 호출 스레드에서 처리: audioFileId={}", audioFileId);
+            task.run();
+        }
+    }
+
+    private void analyzeAndAlert(String window, List<String> keywords) {
+        RiskAnalysisResult analysis = riskDetectionService.analyzeRiskWithAI(window, keywords);
+        if (!analysis.hasRisk() || analysis.getRiskScore() < properties.getAlertThreshold()) {
+            log.info("전사 중 위험 분석 — 알림 기준 미달: audioFileId={}, riskScore={}", audioFileId,
+                    analysis.getRiskScore());
+            return;
+        }
+        int rank = severityRank(analysis.getSeverity());
+        int previous = alertedRank.getAndAccumulate(rank, Math::max);
+        if (rank <= previous) {
+            log.info("전사 중 위험 분석 — 같은 세션에 동급 이상 알림 존재: audioFileId={}, severity={}",
+                    audioFileId, analysis.getSeverity());
+            return;
+        }
+        ConsultationRecordAlert alert = riskDetectionService.createRiskAlert(consultationRecordId, analysis);
+        if (analysis.isHighRisk()) {
+            riskDetectionService.sendHighRiskAlert(alert);
+        }
+    }
+
+    /** 최근 세그먼트 창 — 최대 길이를 넘으면 앞쪽 문맥부터 자른다. */
+    private String window() {
+        StringBuilder builder = new StringBuilder();
+        for (TranscriptSegment segment : recent) {
+            if (builder.length() > 0) {
+                builder.append(' ');
+            }
+            builder.append(segment.text());
+        }
+        int max = properties.getMaxWindowChars();
+        return builder.length() > max ? builder.substring(builder.length() - max) : builder.toString();
+    }
+
+    private RiskKeywordAutomaton.Level highestLevel(BitSet hits) {
+        RiskKeywordAutomaton.Level highest = RiskKeywordAutomaton.Level.MEDIUM;
+        for (int i = hits.nextSetBit(0); i >= 0; i = hits.nextSetBit(i + 1)) {
+            RiskKeywordAutomaton.Level level = automaton.keywords().get(i).level();
+            if (level.ordinal() < highest.ordinal()) {
+                highest = level;
+            }
+        }
+        return highest;
+    }
+
+    private List<String> labels(BitSet hits) {
+        List<String> labels = new ArrayList<>();
+        for (int i = hits.nextSetBit(0); i >= 0; i = hits.nextSetBit(i + 1)) {
+            labels.add(automaton.keywords().get(i).label());
+        }
+        return labels;
+    }
+
+    private void count(String metric, int amount) {
+        if (meterRegistry != null) {
+            meterRegistry.counter(metric).increment(amount);
+        }
+    }
+
+    static int severityRank(String severity) {
+        if (severity == null) {
+            return 0;
+        }
+        switch (severity.toUpperCase(Locale.ROOT)) {
+            case "CRITICAL":
+                return 3;
+            case "HIGH":
+                return 2;
+            case "MEDIUM":
+                return 1;
+            default:
+                return 0;
+        }
+    }
+}
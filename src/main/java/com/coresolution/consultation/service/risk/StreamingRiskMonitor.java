@@ -0,0 +1,58 @@
+package com.coresolution.consultation.service.risk;
+
+import java.util.concurrent.Executor;
+import com.coresolution.consultation.config.StreamingRiskProperties;
+import com.coresolution.consultation.entity.ConsultationAudioFile;
+import com.coresolution.consultation.service.RiskDetectionService;
+import com.coresolution.consultation.service.stt.TranscriptSegmentListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 전사 중 실시간 위험 감지 진입점 — 음성 파일마다 {@link RiskStreamSession} 을 연다.
+ *
+ * <p>{@code SpeechToTextServiceImpl} 이 세그먼트를 확정하는 즉시 세션에 넘기므로 고위험 발화는 전사 완료를
+ * 기다리지 않고 수 초 안에 알림으로 이어진다. AI 에는 일치 주변 창만 보내며, 점검한 문자 수와 AI 로 보낸
+ * 문자 수를 {@value #METRIC_SCANNED_CHARS}·{@value #METRIC_ESCALATED_CHARS} 로 기록한다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StreamingRiskMonitor {
+
+    static final String METRIC_SCANNED_CHARS = "clinical.risk.scanned_chars";
+    static final String METRIC_ESCALATED_CHARS = "clinical.risk.escalated_chars";
+
+    private final StreamingRiskProperties properties;
+    private final RiskDetectionService riskDetectionService;
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    @Qualifier("riskEscalationExecutor")
+    private final Executor riskEscalationExecutor;
+
+    /**
+     * 음성 파일 1건의 위험 감지 세션을 연다.
+     *
+     * @param audioFile 전사 대상 음성 파일
+     * @return 세그먼트 수신자. 비활성이거나 알림을 걸 상담일지가 없으면 {@link TranscriptSegmentListener#NONE}
+     */
+    public TranscriptSegmentListener open(ConsultationAudioFile audioFile) {
+        if (!properties.isEnabled()) {
+            return TranscriptSegmentListener.NONE;
+        }
+        if (audioFile.getConsultationRecordId() == null) {
+            log.info("상담일지가 연결되지 않은 음성 파일 — 전사 중 위험 감지 생략: audioFileId={}", audioFile.getId());
+            return TranscriptSegmentListener.NONE;
+        }
+        return new RiskStreamSession(RiskKeywordAutomaton.defaults(), properties, riskDetectionService,
+                riskEscalationExecutor, meterRegistryProvider.getIfAvailable(), audioFile.getTenantId(),
+                audioFile.getId(), audioFile.getConsultationRecordId());
+    }
+}
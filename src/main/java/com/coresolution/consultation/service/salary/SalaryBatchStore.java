@@ -0,0 +1,420 @@
+package com.coresolution.consultation.service.salary;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import com.coresolution.consultation.config.SalaryBatchProperties;
+import com.coresolution.consultation.constant.SpecialSupportSalaryConstants;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 월 급여 배치 입력 일괄 조회·결과 일괄 저장.
+ *
+ * <p>입력은 테넌트·기간마다 테이블당 쿼리 1건으로 읽는다 (상담사 수와 무관). 조건은 표준 프로시저
+ * {@code ProcessIntegratedSalaryCalculation} 의 단건 조회와 같고, 일정 통계는 같은 집계식을
+ * {@code GROUP BY consultant_id} 로 돌린다. 저장은 JDBC 배치 INSERT 이며 호출 측 트랜잭션 안에서 실행된다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SalaryBatchStore {
+
+    static final String FREELANCE_BASE_RATE_GROUP = "FREELANCE_BASE_RATE";
+
+    /** {@code salary_profiles.profile_name} — {@code consultant_salary_profiles.id} 연결 행 접두사. */
+    static final String PROFILE_LINK_PREFIX = "CSP_LINK_";
+
+    private static final String SELECT_ELIGIBLE_CONSULTANTS = "SELECT id, grade FROM users "
+            + "WHERE tenant_id = ? AND role IN ('CONSULTANT', 'PLAY_THERAPIST', 'SPEECH_THERAPIST') "
+            + "AND is_active = TRUE AND is_deleted = FALSE";
+
+    private static final String SELECT_CALCULATED_CONSULTANTS = "SELECT DISTINCT consultant_id "
+            + "FROM salary_calculations WHERE tenant_id = ? AND calculation_period = ? AND is_deleted = FALSE";
+
+    private static final String SELECT_ACTIVE_PROFILES = "SELECT csp.id, csp.consultant_id, csp.salary_type, "
+            + "csp.base_salary, csp.hourly_rate, csp.is_business_registered "
+            + "FROM consultant_salary_profiles csp JOIN users u ON csp.consultant_id = u.id "
+            + "WHERE csp.tenant_id = ? AND u.tenant_id = ? AND csp.is_active = TRUE AND u.is_deleted = FALSE "
+            + "ORDER BY csp.id";
+
+    private static final String SELECT_SCHEDULE_STATS = "SELECT s.consultant_id, COUNT(*) AS total_consultations, "
+            + "SUM(CASE WHEN s.status = 'COMPLETED' THEN 1 ELSE 0 END) AS completed_consultations, "
+            + "COALESCE(SUM(TIMESTAMPDIFF(MINUTE, s.start_time, s.end_time) / 60.0), 0) AS total_hours "
+            + "FROM schedules s WHERE s.tenant_id = ? AND s.date BETWEEN ? AND ? AND s.is_deleted = FALSE "
+            + "GROUP BY s.consultant_id";
+
+    private static final String MAPPING_COLUMNS = "SELECT m.id, m.client_id, m.consultant_id, m.total_sessions, "
+            + "m.payment_status, (SELECT COUNT(*) FROM special_support_monthly_payouts sp "
+            + "WHERE sp.tenant_id = m.tenant_id AND sp.consultant_id = m.consultant_id AND sp.mapping_id = m.id) "
+            + "AS payout_count FROM consultant_client_mappings m ";
+
+    private static final String SELECT_MAPPINGS = MAPPING_COLUMNS
+            + "WHERE m.tenant_id = ? AND m.is_deleted = FALSE ORDER BY m.id";
+
+    private static final String SELECT_CONSULTANT_MAPPINGS = MAPPING_COLUMNS
+            + "WHERE m.tenant_id = ? AND m.consultant_id = ? AND m.is_deleted = FALSE ORDER BY m.id";
+
+    private static final String SELECT_SALARY_CODES = "SELECT tenant_id, code_group, code_value, extra_data "
+            + "FROM common_codes WHERE (tenant_id = ? OR tenant_id IS NULL) AND code_group IN (?, ?) "
+            + "AND is_active = TRUE AND (is_deleted = FALSE OR is_deleted IS NULL) ORDER BY id";
+
+    private static final String SELECT_PROFILE_LINKS = "SELECT id, profile_name FROM salary_profiles "
+            + "WHERE tenant_id = ? AND profile_name LIKE 'CSP\\_LINK\\_%' "
+            + "AND (is_deleted = FALSE OR is_deleted IS NULL) ORDER BY id";
+
+    private static final String INSERT_PROFILE_LINK = "INSERT INTO salary_profiles (profile_name, description, "
+            + "base_salary, hourly_rate, commission_rate, bonus_rate, is_active, tenant_id, created_at, updated_at, "
+            + "is_deleted, version) VALUES (?, 'consultant_salary_profiles 동기화(급여 확정)', ?, ?, NULL, NULL, TRUE, ?, "
+            + "NOW(), NOW(), FALSE, 0)";
+
+    private static final String INSERT_CALCULATION = "INSERT INTO salary_calculations (consultant_id, "
+            + "salary_profile_id, calculation_period, calculation_period_start, calculation_period_end, base_salary, "
+            + "total_hours_worked, hourly_earnings, total_consultations, completed_consultations, "
+            + "commission_earnings, bonus_earnings, deductions, gross_salary, net_salary, total_salary, status, "
+            + "calculated_at, calculated_by, tenant_id, created_at, updated_at, version, is_deleted) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 'CALCULATED', NOW(), ?, ?, NOW(), NOW(), 0, FALSE)";
+
+    private static final String SELECT_CALCULATION_IDS = "SELECT id, consultant_id FROM salary_calculations "
+            + "WHERE tenant_id = ? AND calculation_period = ? AND is_deleted = FALSE AND status = 'CALCULATED' "
+            + "ORDER BY id";
+
+    private static final String INSERT_TAX_LINE = "INSERT INTO salary_tax_calculations (tenant_id, calculation_id, "
+            + "tax_type, tax_name, tax_rate, base_amount, taxable_amount, tax_amount, description, is_active, "
+            + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, TRUE, NOW(), NOW())";
+
+    private static final String INSERT_PAYOUT = "INSERT INTO special_support_monthly_payouts (tenant_id, "
+            + "consultant_id, client_id, mapping_id, salary_year_month, amount, salary_calculation_id, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, NOW())";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final SalaryBatchProperties properties;
+
+    /**
+     * 활성 급여 프로필 ({@code consultant_salary_profiles}).
+     */
+    public record Profile(Long id, Long consultantId, String salaryType, BigDecimal baseSalary,
+            BigDecimal hourlyRate, boolean businessRegistered) {
+    }
+
+    /**
+     * 기간 내 상담사 일정 통계.
+     *
+     * @param completed 완료 건수 (일정이 없으면 {@code null})
+     * @param hours     상담 시간 ({@code DECIMAL(8,2)} 반올림)
+     */
+    public record ScheduleStats(int total, Integer completed, BigDecimal hours) {
+
+        static final ScheduleStats NONE = new ScheduleStats(0, null, new BigDecimal("0.00"));
+    }
+
+    /**
+     * 테넌트·기간 배치 입력.
+     *
+     * @param consultantGrades    계산 대상으로 인정되는 상담사 ID → 등급 (등급은 null 가능)
+     * @param alreadyCalculated   같은 월에 이미 확정이 있는 상담사
+     * @param profiles            상담사 ID → 활성 급여 프로필 (가장 먼저 만든 행)
+     * @param scheduleStats       상담사 ID → 일정 통계 (일정 없는 상담사는 없음)
+     * @param mappings            상담사 ID → 삭제되지 않은 매칭 (특별지원금 설정이 없으면 비어 있음)
+     * @param gradeRates          대문자 {@code FREELANCE_BASE_RATE} 코드 → 요율 (테넌트 행 우선)
+     * @param specialSupport      특별지원금 설정
+     */
+    public record TenantInputs(Map<Long, String> consultantGrades, Set<Long> alreadyCalculated,
+            Map<Long, Profile> profiles, Map<Long, ScheduleStats> scheduleStats,
+            Map<Long, List<SalaryFormula.Mapping>> mappings, Map<String, BigDecimal> gradeRates,
+            SalaryFormula.SpecialSupportPolicy specialSupport) {
+    }
+
+    /**
+     * 테넌트 급여 규칙 공통코드.
+     *
+     * @param gradeRates     대문자 {@code FREELANCE_BASE_RATE} 코드 → 요율 (테넌트 행 우선)
+     * @param specialSupport 특별지원금 설정
+     */
+    public record SalaryCodes(Map<String, BigDecimal> gradeRates, SalaryFormula.SpecialSupportPolicy specialSupport) {
+    }
+
+    /**
+     * 저장할 계산 1건.
+     */
+    public record CalculationRow(Profile profile, ScheduleStats stats, SalaryFormula.Result result) {
+    }
+
+    /**
+     * 테넌트·기간 배치 입력을 읽는다.
+     *
+     * @param tenantId          테넌트 ID
+     * @param calculationPeriod 확정 월 ({@code yyyy-MM})
+     * @param periodStart       기간 시작
+     * @param periodEnd         기간 종료
+     * @return 배치 입력
+     */
+    public TenantInputs load(String tenantId, String calculationPeriod, LocalDate periodStart, LocalDate periodEnd) {
+        Map<Long, String> grades = new HashMap<>();
+        jdbcTemplate.query(SELECT_ELIGIBLE_CONSULTANTS,
+                (RowCallbackHandler) rs -> grades.put(rs.getLong("id"), rs.getString("grade")), tenantId);
+
+        Set<Long> calculated = new HashSet<>(jdbcTemplate.queryForList(SELECT_CALCULATED_CONSULTANTS, Long.class,
+                tenantId, calculationPeriod));
+
+        Map<Long, Profile> profiles = new HashMap<>();
+        jdbcTemplate.query(SELECT_ACTIVE_PROFILES, (RowCallbackHandler) rs -> profiles.putIfAbsent(
+                rs.getLong("consultant_id"), new Profile(rs.getLong("id"), rs.getLong("consultant_id"),
+                        rs.getString("salary_type"), rs.getBigDecimal("base_salary"),
+                        rs.getBigDecimal("hourly_rate"), rs.getBoolean("is_business_registered"))),
+                tenantId, tenantId);
+
+        Map<Long, ScheduleStats> stats = new HashMap<>();
+        jdbcTemplate.query(SELECT_SCHEDULE_STATS, (RowCallbackHandler) rs -> {
+            long completed = rs.getLong("completed_consultations");
+            Integer completedOrNull = rs.wasNull() ? null : (int) completed;
+            BigDecimal hours = rs.getBigDecimal("total_hours");
+            stats.put(rs.getLong("consultant_id"), new ScheduleStats(rs.getInt("total_consultations"),
+                    completedOrNull, (hours != null ? hours : BigDecimal.ZERO).setScale(2, RoundingMode.HALF_UP)));
+        }, tenantId, Date.valueOf(periodStart), Date.valueOf(periodEnd));
+
+        SalaryCodes codes = loadSalaryCodes(tenantId);
+        SalaryFormula.SpecialSupportPolicy policy = codes.specialSupport();
+
+        Map<Long, List<SalaryFormula.Mapping>> mappings = new HashMap<>();
+        if (policy.active()) {
+            jdbcTemplate.query(SELECT_MAPPINGS, (RowCallbackHandler) rs -> mappings
+                    .computeIfAbsent(rs.getLong("consultant_id"), id -> new ArrayList<>()).add(mapping(rs)), tenantId);
+        }
+        return new TenantInputs(grades, calculated, profiles, stats, mappings, codes.gradeRates(), policy);
+    }
+
+    /**
+     * 테넌트 급여 규칙 공통코드 ({@code FREELANCE_BASE_RATE}, {@code SPECIAL_SUPPORT_SALARY/DEFAULT}) 를 읽는다.
+     * 프로시저처럼 테넌트 행이 전역 행보다 우선한다.
+     *
+     * @param tenantId 테넌트 ID
+     * @return 등급 요율과 특별지원금 설정
+     */
+    public SalaryCodes loadSalaryCodes(String tenantId) {
+        Map<String, BigDecimal> gradeRates = new HashMap<>();
+        Map<String, BigDecimal> globalGradeRates = new HashMap<>();
+        String[] specialSupportJson = new String[2];
+        jdbcTemplate.query(SELECT_SALARY_CODES, (RowCallbackHandler) rs -> {
+            boolean tenantRow = rs.getString("tenant_id") != null;
+            String group = rs.getString("code_group");
+            String value = rs.getString("code_value");
+            String extra = rs.getString("extra_data");
+            if (FREELANCE_BASE_RATE_GROUP.equalsIgnoreCase(group) && value != null) {
+                (tenantRow ? gradeRates : globalGradeRates).putIfAbsent(value.toUpperCase(Locale.ROOT),
+                        decimal(extra, "rate", 2));
+            } else if (SpecialSupportSalaryConstants.CODE_VALUE_DEFAULT.equalsIgnoreCase(value)) {
+                int slot = tenantRow ? 0 : 1;
+                if (specialSupportJson[slot] == null) {
+                    specialSupportJson[slot] = extra;
+                }
+            }
+        }, tenantId, FREELANCE_BASE_RATE_GROUP, SpecialSupportSalaryConstants.CODE_GROUP);
+        globalGradeRates.forEach(gradeRates::putIfAbsent);
+        return new SalaryCodes(gradeRates,
+                specialSupportPolicy(specialSupportJson[0] != null ? specialSupportJson[0] : specialSupportJson[1]));
+    }
+
+    /**
+     * 상담사 1명의 삭제되지 않은 매칭 (특별지원금 판정용).
+     *
+     * @param tenantId     테넌트 ID
+     * @param consultantId 상담사 ID
+     * @return 매칭 ID 순
+     */
+    public List<SalaryFormula.Mapping> loadMappings(String tenantId, Long consultantId) {
+        return jdbcTemplate.query(SELECT_CONSULTANT_MAPPINGS, (rs, rowNum) -> mapping(rs), tenantId, consultantId);
+    }
+
+    /**
+     * 계산 결과를 저장한다 — 급여 계산, 세목별 세금, 특별지원금 지급 기록을 각각 JDBC 배치로 넣는다.
+     * 없는 {@code salary_profiles} 연결 행(FK)은 먼저 만든다.
+     *
+     * @param tenantId          테넌트 ID
+     * @param calculationPeriod 확정 월 ({@code yyyy-MM})
+     * @param periodStart       기간 시작
+     * @param periodEnd         기간 종료
+     * @param triggeredBy       {@code calculated_by}
+     * @param specialSupport    특별지원금 설정 (지급 기록 금액은 매칭 1건당 지급액)
+     * @param rows              저장할 계산
+     * @return 상담사 ID → 급여 계산 ID
+     */
+    public Map<Long, Long> save(String tenantId, String calculationPeriod, LocalDate periodStart,
+            LocalDate periodEnd, String triggeredBy, SalaryFormula.SpecialSupportPolicy specialSupport,
+            List<CalculationRow> rows) {
+        if (rows.isEmpty()) {
+            return Map.of();
+        }
+        int batchSize = Math.max(1, properties.getInsertBatchSize());
+        Map<Long, Long> links = ensureProfileLinks(tenantId, rows, batchSize);
+
+        jdbcTemplate.batchUpdate(INSERT_CALCULATION, rows, batchSize, (ps, row) -> {
+            SalaryFormula.Result result = row.result();
+            ps.setLong(1, row.profile().consultantId());
+            ps.setLong(2, links.get(row.profile().id()));
+            ps.setString(3, calculationPeriod);
+            ps.setDate(4, Date.valueOf(periodStart));
+            ps.setDate(5, Date.valueOf(periodEnd));
+            ps.setBigDecimal(6, row.profile().baseSalary());
+            ps.setBigDecimal(7, row.stats().hours());
+            ps.setBigDecimal(8, result.hourlyEarnings());
+            ps.setInt(9, row.stats().total());
+            if (row.stats().completed() != null) {
+                ps.setInt(10, row.stats().completed());
+            } else {
+                ps.setNull(10, Types.INTEGER);
+            }
+            ps.setBigDecimal(11, result.consultationEarnings());
+            ps.setBigDecimal(12, result.specialSupportAmount());
+            ps.setBigDecimal(13, result.taxAmount());
+            ps.setBigDecimal(14, result.grossSalary());
+            ps.setBigDecimal(15, result.netSalary());
+            ps.setBigDecimal(16, result.grossSalary());
+            ps.setString(17, triggeredBy);
+            ps.setString(18, tenantId);
+        });
+
+        Map<Long, Long> calculationIds = new HashMap<>();
+        jdbcTemplate.query(SELECT_CALCULATION_IDS, (RowCallbackHandler) rs -> calculationIds.put(
+                rs.getLong("consultant_id"), rs.getLong("id")), tenantId, calculationPeriod);
+
+        List<Object[]> taxLines = new ArrayList<>();
+        List<Object[]> payouts = new ArrayList<>();
+        Map<Long, Long> saved = new LinkedHashMap<>();
+        for (CalculationRow row : rows) {
+            Long consultantId = row.profile().consultantId();
+            Long calculationId = calculationIds.get(consultantId);
+            saved.put(consultantId, calculationId);
+            for (SalaryFormula.TaxLine line : row.result().taxLines()) {
+                taxLines.add(new Object[] {tenantId, calculationId, line.taxType(), line.taxName(), line.taxRate(),
+                        line.baseAmount(), line.baseAmount(), line.taxAmount(), line.description()});
+            }
+        }
+        if (!taxLines.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_TAX_LINE, taxLines, batchSize, SalaryBatchStore::setAll);
+        }
+        for (CalculationRow row : rows) {
+            if (!specialSupport.active() || row.result().specialSupportAmount().signum() <= 0) {
+                continue;
+            }
+            for (SalaryFormula.Mapping mapping : row.result().payoutMappings()) {
+                payouts.add(new Object[] {tenantId, row.profile().consultantId(), mapping.clientId(),
+                        mapping.mappingId(), calculationPeriod, specialSupport.unitAmount(),
+                        saved.get(row.profile().consultantId())});
+            }
+        }
+        if (!payouts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_PAYOUT, payouts, batchSize, SalaryBatchStore::setAll);
+        }
+        return saved;
+    }
+
+    private static SalaryFormula.Mapping mapping(ResultSet rs) throws SQLException {
+        int sessions = rs.getInt("total_sessions");
+        Integer sessionsOrNull = rs.wasNull() ? null : sessions;
+        return new SalaryFormula.Mapping(rs.getLong("id"), rs.getLong("client_id"), sessionsOrNull,
+                rs.getString("payment_status"), rs.getLong("payout_count") > 0);
+    }
+
+    private Map<Long, Long> ensureProfileLinks(String tenantId, List<CalculationRow> rows, int batchSize) {
+        Map<Long, Long> links = loadProfileLinks(tenantId);
+        List<Profile> missing = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (CalculationRow row : rows) {
+            if (!links.containsKey(row.profile().id()) && seen.add(row.profile().id())) {
+                missing.add(row.profile());
+            }
+        }
+        if (missing.isEmpty()) {
+            return links;
+        }
+        jdbcTemplate.batchUpdate(INSERT_PROFILE_LINK, missing, batchSize, (ps, profile) -> {
+            ps.setString(1, PROFILE_LINK_PREFIX + profile.id());
+            ps.setBigDecimal(2, profile.baseSalary());
+            ps.setBigDecimal(3, profile.hourlyRate());
+            ps.setString(4, tenantId);
+        });
+        return loadProfileLinks(tenantId);
+    }
+
+    private Map<Long, Long> loadProfileLinks(String tenantId) {
+        Map<Long, Long> links = new HashMap<>();
+        jdbcTemplate.query(SELECT_PROFILE_LINKS, (RowCallbackHandler) rs -> {
+            String suffix = rs.getString("profile_name").substring(PROFILE_LINK_PREFIX.length());
+            try {
+                links.putIfAbsent(Long.parseLong(suffix), rs.getLong("id"));
+            } catch (NumberFormatException e) {
+                log.debug("[SalaryBatch] 연결 프로필 이름 무시: {}", rs.getString("profile_name"));
+            }
+        }, tenantId);
+        return links;
+    }
+
+    /**
+     * {@code SPECIAL_SUPPORT_SALARY/DEFAULT} 의 {@code extra_data} 를 프로시저와 같게 해석한다.
+     */
+    SalaryFormula.SpecialSupportPolicy specialSupportPolicy(String extraJson) {
+        if (extraJson == null || extraJson.isEmpty()) {
+            return SalaryFormula.SpecialSupportPolicy.NONE;
+        }
+        BigDecimal amount = decimal(extraJson, SpecialSupportSalaryConstants.EXTRA_KEY_AMOUNT, 2);
+        BigDecimal minSessions = decimal(extraJson, SpecialSupportSalaryConstants.EXTRA_KEY_MIN_SESSIONS, 0);
+        String requirePaid = text(extraJson, SpecialSupportSalaryConstants.EXTRA_KEY_REQUIRE_PAID_CONFIRMATION);
+        String flag = requirePaid != null ? requirePaid.toLowerCase(Locale.ROOT) : "true";
+        return new SalaryFormula.SpecialSupportPolicy(amount,
+                minSessions == null || minSessions.signum() <= 0 ? 10 : minSessions.intValue(),
+                !("0".equals(flag) || "false".equals(flag) || "no".equals(flag)));
+    }
+
+    private BigDecimal decimal(String json, String key, int scale) {
+        String value = text(json, key);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value.trim()).setScale(scale, RoundingMode.HALF_UP);
+        } catch (NumberFormatException e) {
+            return BigDecimal.ZERO;
+        }
+    }
+
+    private String text(String json, String key) {
+        if (json == null || json.isEmpty()) {
+            return null;
+        }
+        try {
+            JsonNode node = objectMapper.readTree(json).get(key);
+            return node == null || node.isNull() ? null : node.asText();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static void setAll(PreparedStatement ps, Object[] values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            ps.setObject(i + 1, values[i]);
+        }
+    }
+}
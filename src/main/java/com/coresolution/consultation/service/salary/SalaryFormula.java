@@ -0,0 +1,395 @@
+package com.coresolution.consultation.service.salary;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import com.coresolution.consultation.util.FreelanceWithholdingTaxUtil;
+
+/**
+ * 급여 확정 계산식 — 표준 프로시저 {@code ProcessIntegratedSalaryCalculation} 6~9단계의 JVM 이식.
+ *
+ * <p>SSOT 는 {@code database/schema/procedures_standardized/ProcessIntegratedSalaryCalculation_standardized.sql}
+ * 이며, 프로시저 본문이 바뀌면 이 클래스와 {@code SalaryFormulaParityTest} 를 같이 고친다. 금액은 프로시저
+ * 변수 타입대로 반올림한다 — {@code DECIMAL(15,2)} 변수에 대입할 때마다 소수 둘째 자리 HALF_UP, 지방소득세는
+ * {@code ROUND(x, 0)}. 4대보험 요율은 {@code DECIMAL(5,4)} 로 선언돼 있어 실제로는 0.0355(건강)·0.0055(장기요양)
+ * 로 반올림된 값이 쓰인다. 문자열 비교는 DB 콜레이션처럼 대소문자를 가리지 않는다.</p>
+ *
+ * <p>{@link #preview} 는 미리보기 프로시저 {@code CalculateSalaryPreview} 와 그 뒤의 Java 보정
+ * ({@code PlSqlSalaryManagementServiceImpl} 프리랜서 특별지원금 과세표준 재계산)을 함께 옮긴 것이다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public final class SalaryFormula {
+
+    static final String SALARY_TYPE_FREELANCE = "FREELANCE";
+    static final String SALARY_TYPE_REGULAR = "REGULAR";
+
+    /** 등급 요율 공통코드가 없거나 0 이하일 때 프리랜서 회당 요율. */
+    static final BigDecimal DEFAULT_GRADE_RATE = new BigDecimal("30000.00");
+
+    static final BigDecimal WITHHOLDING_RATE = new BigDecimal("0.0330");
+    static final BigDecimal VAT_RATE = new BigDecimal("0.1000");
+    static final BigDecimal LOCAL_INCOME_TAX_RATE = new BigDecimal("0.10");
+    static final BigDecimal PENSION_RATE = new BigDecimal("0.0450");
+    static final BigDecimal HEALTH_RATE = new BigDecimal("0.0355");
+    static final BigDecimal LONG_TERM_CARE_RATE = new BigDecimal("0.0055");
+    static final BigDecimal EMPLOYMENT_RATE = new BigDecimal("0.0090");
+    static final BigDecimal FOUR_INSURANCE_MIN_ANNUAL = new BigDecimal("12000000");
+
+    /** 특별지원금 유료 확정으로 보는 매칭 결제 상태. */
+    static final Set<String> PAID_PAYMENT_STATUSES = Set.of("CONFIRMED", "PAY", "DEP", "APPROVED");
+
+    private SalaryFormula() {
+    }
+
+    /**
+     * 상담사 1명 계산 입력.
+     *
+     * @param consultantId           상담사 ID
+     * @param salaryType             급여 유형 (FREELANCE, REGULAR, 그 외)
+     * @param baseSalary             기본급 ({@code consultant_salary_profiles.base_salary}, null 가능)
+     * @param hourlyRate             시간당 급여 (null 이면 0)
+     * @param businessRegistered     사업자 등록 여부
+     * @param gradeRate              프리랜서 회당 요율 (공통코드 해석 결과, 없으면 {@code null})
+     * @param totalConsultations     기간 내 일정 수
+     * @param completedConsultations 기간 내 완료 일정 수 (일정이 없으면 SQL {@code SUM} 처럼 {@code null})
+     * @param totalHours             기간 내 상담 시간 ({@code DECIMAL(8,2)})
+     * @param mappings               상담사의 삭제되지 않은 매칭
+     */
+    public record Input(Long consultantId, String salaryType, BigDecimal baseSalary, BigDecimal hourlyRate,
+            boolean businessRegistered, BigDecimal gradeRate, int totalConsultations, Integer completedConsultations,
+            BigDecimal totalHours, List<Mapping> mappings) {
+    }
+
+    /**
+     * 특별지원금 판정용 매칭 1건.
+     *
+     * @param mappingId     매칭 ID
+     * @param clientId      내담자 ID
+     * @param totalSessions 누적 회기 (null 가능)
+     * @param paymentStatus 결제 상태 (null 가능)
+     * @param alreadyPaid   어느 월에라도 특별지원금을 받은 매칭인지 (mapping 당 평생 1회)
+     */
+    public record Mapping(Long mappingId, Long clientId, Integer totalSessions, String paymentStatus,
+            boolean alreadyPaid) {
+    }
+
+    /**
+     * 테넌트 특별지원금 설정 ({@code SPECIAL_SUPPORT_SALARY/DEFAULT}).
+     *
+     * @param unitAmount  매칭 1건당 지급액 (설정 없음·해석 불가면 {@code null})
+     * @param minSessions 최소 누적 회기
+     * @param requirePaid 유료 확정 매칭만 지급하는지
+     */
+    public record SpecialSupportPolicy(BigDecimal unitAmount, int minSessions, boolean requirePaid) {
+
+        /** 설정 행이 없는 테넌트. */
+        public static final SpecialSupportPolicy NONE = new SpecialSupportPolicy(BigDecimal.ZERO, 10, true);
+
+        boolean active() {
+            return unitAmount != null && unitAmount.signum() > 0;
+        }
+    }
+
+    /**
+     * 세목별 세금 1행 ({@code salary_tax_calculations}).
+     */
+    public record TaxLine(String taxType, String taxName, BigDecimal taxRate, BigDecimal baseAmount,
+            BigDecimal taxAmount, String description) {
+    }
+
+    /**
+     * 상담사 1명 계산 결과 — {@code salary_calculations} 1행과 부속 행.
+     *
+     * @param grossSalary          총액 (특별지원금 포함)
+     * @param netSalary            실수령액
+     * @param taxAmount            세금·공제 합계 ({@code deductions})
+     * @param specialSupportAmount 특별지원금 ({@code bonus_earnings})
+     * @param consultationEarnings 프리랜서 상담료 ({@code commission_earnings})
+     * @param hourlyEarnings       정규직 시간급 합
+     * @param taxLines             세목별 세금
+     * @param payoutMappings       특별지원금 지급 기록을 남길 매칭
+     */
+    public record Result(BigDecimal grossSalary, BigDecimal netSalary, BigDecimal taxAmount,
+            BigDecimal specialSupportAmount, BigDecimal consultationEarnings, BigDecimal hourlyEarnings,
+            List<TaxLine> taxLines, List<Mapping> payoutMappings) {
+    }
+
+    /**
+     * 급여 미리보기 결과 — {@code calculateSalaryPreview} 응답 맵과 같은 값.
+     *
+     * @param grossSalary          상담료·기본급 합 (특별지원금 제외, 프로시저 {@code p_gross_salary})
+     * @param netSalary            실수령액
+     * @param taxAmount            세금·공제 합계
+     * @param consultationCount    완료 상담 수 (일정이 없으면 0)
+     * @param specialSupportAmount 특별지원금
+     * @param taxableGrossSalary   프리랜서 특별지원금 보정을 적용했으면 과세표준, 아니면 {@code null}
+     */
+    public record Preview(BigDecimal grossSalary, BigDecimal netSalary, BigDecimal taxAmount, int consultationCount,
+            BigDecimal specialSupportAmount, BigDecimal taxableGrossSalary) {
+    }
+
+    /**
+     * 프리랜서 등급 → {@code FREELANCE_BASE_RATE} 공통코드 값.
+     *
+     * @param grade {@code users.grade}
+     * @return 코드 값 (등급이 비었으면 {@code null})
+     */
+    public static String freelanceRateCode(String grade) {
+        if (grade == null || grade.trim().isEmpty()) {
+            return null;
+        }
+        return switch (grade.trim().toUpperCase(Locale.ROOT)) {
+            case "CONSULTANT_JUNIOR" -> "JUNIOR_RATE";
+            case "CONSULTANT_SENIOR" -> "SENIOR_RATE";
+            case "CONSULTANT_EXPERT" -> "EXPERT_RATE";
+            case "CONSULTANT_MASTER" -> "MASTER_RATE";
+            default -> grade.trim().toUpperCase(Locale.ROOT) + "_RATE";
+        };
+    }
+
+    /**
+     * 프리랜서 회당 요율을 정한다. 프로시저처럼 코드가 없거나 0 이하면 {@link #DEFAULT_GRADE_RATE}.
+     *
+     * @param grade      {@code users.grade}
+     * @param gradeRates 대문자 코드 값 → 요율 (테넌트 행 우선으로 이미 합친 값)
+     * @return 회당 요율
+     */
+    public static BigDecimal gradeRate(String grade, Map<String, BigDecimal> gradeRates) {
+        String code = freelanceRateCode(grade);
+        BigDecimal rate = code != null ? gradeRates.get(code) : null;
+        return rate == null || rate.signum() <= 0 ? DEFAULT_GRADE_RATE : rate;
+    }
+
+    /**
+     * 상담사 1명의 급여를 계산한다.
+     *
+     * @param input  계산 입력
+     * @param policy 테넌트 특별지원금 설정
+     * @return 계산 결과. 프로시저가 NULL 산술로 빠지는 입력(정규직·기타 유형의 빈 기본급, 기간 내 일정이 없는
+     *         프리랜서)이면 empty — 호출 측이 그 상담사는 프로시저로 계산한다
+     */
+    public static Optional<Result> calculate(Input input, SpecialSupportPolicy policy) {
+        boolean freelance = SALARY_TYPE_FREELANCE.equalsIgnoreCase(input.salaryType());
+        boolean regular = SALARY_TYPE_REGULAR.equalsIgnoreCase(input.salaryType());
+        if (freelance ? input.completedConsultations() == null : input.baseSalary() == null) {
+            return Optional.empty();
+        }
+
+        BigDecimal consultationEarnings = BigDecimal.ZERO;
+        BigDecimal hourlyEarnings = BigDecimal.ZERO;
+        BigDecimal gross;
+        if (freelance) {
+            BigDecimal rate = input.gradeRate() != null ? input.gradeRate() : DEFAULT_GRADE_RATE;
+            consultationEarnings = money(rate.multiply(BigDecimal.valueOf(input.completedConsultations())));
+            gross = consultationEarnings;
+        } else if (regular) {
+            BigDecimal hourlyRate = input.hourlyRate() != null ? input.hourlyRate() : BigDecimal.ZERO;
+            hourlyEarnings = money(input.totalHours().multiply(hourlyRate));
+            gross = money(input.baseSalary().add(hourlyEarnings));
+        } else {
+            gross = money(input.baseSalary());
+        }
+
+        BigDecimal specialSupport = BigDecimal.ZERO;
+        List<Mapping> payouts = new ArrayList<>();
+        if (policy.active()) {
+            for (Mapping mapping : input.mappings()) {
+                if (countsTowardSpecialSupport(mapping, policy)) {
+                    specialSupport = specialSupport.add(policy.unitAmount());
+                }
+                if (receivesPayoutRow(mapping, policy)) {
+                    payouts.add(mapping);
+                }
+            }
+            specialSupport = money(specialSupport);
+        }
+
+        List<TaxLine> taxLines = new ArrayList<>();
+        BigDecimal tax = BigDecimal.ZERO;
+        BigDecimal taxBase = gross;
+        if (freelance) {
+            BigDecimal taxable = money(gross.add(specialSupport));
+            taxBase = taxable;
+            BigDecimal withholding = money(taxable.multiply(WITHHOLDING_RATE));
+            tax = tax.add(withholding);
+            if (withholding.signum() > 0) {
+                taxLines.add(new TaxLine("WITHHOLDING_TAX", "원천징수", WITHHOLDING_RATE, taxable, withholding,
+                        "프리랜서 원천징수(국세 3%, 지방세 0.3%, 합계 3.3%)"));
+            }
+            if (input.businessRegistered()) {
+                BigDecimal vat = money(taxable.multiply(VAT_RATE));
+                tax = tax.add(vat);
+                if (vat.signum() > 0) {
+                    taxLines.add(new TaxLine("VAT", "부가세", VAT_RATE, taxable, vat, "사업자 부가세 10%"));
+                }
+            }
+        } else if (regular) {
+            BigDecimal incomeTaxRate = incomeTaxRate(gross);
+            BigDecimal incomeTax = money(gross.multiply(incomeTaxRate));
+            BigDecimal localIncomeTax = money(incomeTax.multiply(LOCAL_INCOME_TAX_RATE)
+                    .setScale(0, RoundingMode.HALF_UP));
+            tax = tax.add(incomeTax).add(localIncomeTax);
+            BigDecimal fourInsurance = BigDecimal.ZERO;
+            if (gross.multiply(BigDecimal.valueOf(12)).compareTo(FOUR_INSURANCE_MIN_ANNUAL) >= 0) {
+                fourInsurance = money(gross.multiply(PENSION_RATE).add(gross.multiply(HEALTH_RATE))
+                        .add(gross.multiply(LONG_TERM_CARE_RATE)).add(gross.multiply(EMPLOYMENT_RATE)));
+                tax = tax.add(fourInsurance);
+            }
+            // 프로시저 INSERT 순서: 원천징수 → 지방소득세 → 부가세 → 소득세 → 4대보험
+            if (localIncomeTax.signum() > 0) {
+                taxLines.add(new TaxLine("LOCAL_INCOME_TAX", "지방소득세", LOCAL_INCOME_TAX_RATE, incomeTax,
+                        localIncomeTax, "정규직 지방소득세(소득세의 10%)"));
+            }
+            if (incomeTax.signum() > 0) {
+                taxLines.add(new TaxLine("INCOME_TAX", "소득세", incomeTaxRate, gross, incomeTax, "정규직 소득세"));
+            }
+            if (fourInsurance.signum() > 0) {
+                taxLines.add(new TaxLine("FOUR_INSURANCE", "4대보험",
+                        PENSION_RATE.add(HEALTH_RATE).add(LONG_TERM_CARE_RATE).add(EMPLOYMENT_RATE), taxBase,
+                        fourInsurance, "국민연금·건강·장기요양·고용보험"));
+            }
+        }
+        tax = money(tax);
+
+        BigDecimal net = money(gross.add(specialSupport).subtract(tax));
+        BigDecimal totalGross = money(gross.add(specialSupport));
+        return Optional.of(new Result(totalGross, net, tax, specialSupport, consultationEarnings, hourlyEarnings,
+                List.copyOf(taxLines), List.copyOf(payouts)));
+    }
+
+    /**
+     * 상담사 1명의 급여 미리보기를 계산한다. 확정 계산과 달리 지방소득세가 없고, 총액은 특별지원금을 빼고 돌려준다.
+     * 급여 유형이 정확히 {@code FREELANCE} 이고 특별지원금이 있으면 서비스의 Java 보정처럼 원천징수·부가세를
+     * 원 단위 내림으로 다시 계산한다.
+     *
+     * @param input  계산 입력
+     * @param policy 테넌트 특별지원금 설정
+     * @return 미리보기. {@link #calculate} 와 같은 NULL 산술 입력이면 empty
+     */
+    public static Optional<Preview> preview(Input input, SpecialSupportPolicy policy) {
+        boolean freelance = SALARY_TYPE_FREELANCE.equalsIgnoreCase(input.salaryType());
+        boolean regular = SALARY_TYPE_REGULAR.equalsIgnoreCase(input.salaryType());
+        if (freelance ? input.completedConsultations() == null : input.baseSalary() == null) {
+            return Optional.empty();
+        }
+
+        BigDecimal gross;
+        if (freelance) {
+            BigDecimal rate = input.gradeRate() != null ? input.gradeRate() : DEFAULT_GRADE_RATE;
+            gross = money(rate.multiply(BigDecimal.valueOf(input.completedConsultations())));
+        } else if (regular) {
+            BigDecimal hourlyRate = input.hourlyRate() != null ? input.hourlyRate() : BigDecimal.ZERO;
+            gross = money(input.baseSalary().add(money(input.totalHours().multiply(hourlyRate))));
+        } else {
+            gross = money(input.baseSalary());
+        }
+
+        BigDecimal specialSupport = BigDecimal.ZERO;
+        if (policy.active()) {
+            for (Mapping mapping : input.mappings()) {
+                if (countsTowardSpecialSupport(mapping, policy)) {
+                    specialSupport = specialSupport.add(policy.unitAmount());
+                }
+            }
+            specialSupport = money(specialSupport);
+        }
+
+        BigDecimal tax = BigDecimal.ZERO;
+        if (freelance) {
+            BigDecimal taxable = money(gross.add(specialSupport));
+            tax = tax.add(money(taxable.multiply(WITHHOLDING_RATE)));
+            if (input.businessRegistered()) {
+                tax = tax.add(money(taxable.multiply(VAT_RATE)));
+            }
+        } else if (regular) {
+            tax = tax.add(money(gross.multiply(incomeTaxRate(gross))));
+            if (gross.multiply(BigDecimal.valueOf(12)).compareTo(FOUR_INSURANCE_MIN_ANNUAL) >= 0) {
+                tax = tax.add(money(gross.multiply(PENSION_RATE).add(gross.multiply(HEALTH_RATE))
+                        .add(gross.multiply(LONG_TERM_CARE_RATE)).add(gross.multiply(EMPLOYMENT_RATE))));
+            }
+        }
+        tax = money(tax);
+        BigDecimal net = money(gross.add(specialSupport).subtract(tax));
+        int consultationCount = input.completedConsultations() != null ? input.completedConsultations() : 0;
+
+        // 서비스 보정은 프로필 급여 유형을 대소문자 그대로 비교한다.
+        if (FreelanceWithholdingTaxUtil.CONSULTANT_SALARY_TYPE_FREELANCE.equals(input.salaryType())
+                && specialSupport.signum() > 0) {
+            BigDecimal taxable = gross.add(specialSupport);
+            BigDecimal withholding = FreelanceWithholdingTaxUtil.calculateWithholdingTaxAmount(taxable);
+            BigDecimal vat = input.businessRegistered()
+                    ? taxable.multiply(new BigDecimal("0.10")).setScale(0, RoundingMode.FLOOR)
+                    : BigDecimal.ZERO;
+            BigDecimal totalTax = withholding.add(vat);
+            return Optional.of(new Preview(gross, taxable.subtract(totalTax), totalTax, consultationCount,
+                    specialSupport, taxable));
+        }
+        return Optional.of(new Preview(gross, net, tax, consultationCount, specialSupport, null));
+    }
+
+    /**
+     * 정규직 소득세율 구간 (월 총액 기준).
+     */
+    static BigDecimal incomeTaxRate(BigDecimal gross) {
+        if (gross.compareTo(new BigDecimal("1200000")) <= 0) {
+            return new BigDecimal("0.0600");
+        }
+        if (gross.compareTo(new BigDecimal("4600000")) <= 0) {
+            return new BigDecimal("0.1500");
+        }
+        if (gross.compareTo(new BigDecimal("8800000")) <= 0) {
+            return new BigDecimal("0.2400");
+        }
+        if (gross.compareTo(new BigDecimal("15000000")) <= 0) {
+            return new BigDecimal("0.3500");
+        }
+        if (gross.compareTo(new BigDecimal("30000000")) <= 0) {
+            return new BigDecimal("0.3800");
+        }
+        if (gross.compareTo(new BigDecimal("50000000")) <= 0) {
+            return new BigDecimal("0.4000");
+        }
+        return new BigDecimal("0.4200");
+    }
+
+    /**
+     * 금액 합산 CASE 와 같은 판정. SQL 3값 논리 그대로 — 회기·결제 상태가 NULL 이면 제외 조건이 참이 되지 않아
+     * 지급액에 들어간다.
+     */
+    private static boolean countsTowardSpecialSupport(Mapping mapping, SpecialSupportPolicy policy) {
+        if (mapping.alreadyPaid()) {
+            return false;
+        }
+        if (mapping.totalSessions() != null && mapping.totalSessions() < policy.minSessions()) {
+            return false;
+        }
+        return !(policy.requirePaid() && mapping.paymentStatus() != null && !isPaid(mapping.paymentStatus()));
+    }
+
+    /**
+     * 지급 기록 INSERT ... SELECT 의 WHERE 와 같은 판정 — NULL 회기·결제 상태는 기록하지 않는다.
+     */
+    private static boolean receivesPayoutRow(Mapping mapping, SpecialSupportPolicy policy) {
+        return !mapping.alreadyPaid()
+                && mapping.totalSessions() != null && mapping.totalSessions() >= policy.minSessions()
+                && (!policy.requirePaid() || isPaid(mapping.paymentStatus()));
+    }
+
+    private static boolean isPaid(String paymentStatus) {
+        return paymentStatus != null && PAID_PAYMENT_STATUSES.contains(paymentStatus.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * {@code DECIMAL(15,2)} 변수 대입과 같은 반올림.
+     */
+    static BigDecimal money(BigDecimal value) {
+        return value.setScale(2, RoundingMode.HALF_UP);
+    }
+}
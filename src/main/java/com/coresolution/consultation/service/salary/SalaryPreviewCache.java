@@ -0,0 +1,387 @@
+package com.coresolution.consultation.service.salary;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import com.coresolution.consultation.config.SalaryPreviewProperties;
+import com.coresolution.consultation.entity.ScheduleSalaryContribution;
+import com.coresolution.consultation.service.PlSqlSalaryManagementService;
+import com.coresolution.core.context.TenantContextHolder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 급여 미리보기 캐시.
+ *
+ * <p>(테넌트, 상담사, 기간, 규칙 버전) 마다 {@link SalaryFormula#preview} 결과와 그 입력을 메모리에 둔다.</p>
+ * <ul>
+ *   <li><b>일정</b>: {@link SalaryPreviewScheduleListener} 가 넘긴 일정 1건의 이전·새 몫 차이만 해당 상담사·기간
+ *       항목의 일정 통계에 더하고 다시 계산한다 (DB 조회 없음)</li>
+ *   <li><b>회기 차감·결제 상태(매칭)·급여 프로필</b>: 그 상담사 항목만 지운다</li>
+ *   <li><b>급여 규칙 공통코드</b>: 테넌트(전역 코드면 전체) 규칙 버전을 올려 이전 버전 항목을 쓰지 않는다</li>
+ * </ul>
+ *
+ * <p>변경은 커밋 뒤에 반영하고, 롤백되면 버린다. 조회하는 동안 같은 테넌트에 커밋 전 변경이 있거나 변경이
+ * 끝나면 결과를 응답에만 쓰고 보관하지 않는다 — 읽은 값에 이미 들어간 변경을 한 번 더 더하지 않기 위해서다.</p>
+ *
+ * <p>다른 인스턴스의 변경은 {@link SalaryPreviewGenerationStore} 세대로 맞춘다. 변경을 반영할 때 테넌트(전역
+ * 규칙이면 전역) 세대를 올리고, 적중 전에 세대를 읽어 항목을 만들 때와 다르면 다시 계산한다. 이 인스턴스가 올린
+ * 세대 바로 앞의 항목은 이미 변경을 반영했으므로 새 세대로 넘긴다. 위 경로를 거치지 않는 DB 직접 변경(프로시저·
+ * 일괄 SQL·상담사 등급 변경)은 세대를 올리지 않으므로 {@link SalaryPreviewProperties#getTtl()} 안에서만 반영된다 —
+ * 미리보기 응답은 그만큼 늦을 수 있다.</p>
+ *
+ * <p>비활성이거나, 입력이 프로시저 실패 메시지 대상이거나, NULL 산술 입력이면 기존처럼
+ * {@link PlSqlSalaryManagementService#calculateSalaryPreview} 를 호출한다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Slf4j
+@Component
+public class SalaryPreviewCache {
+
+    static final String METRIC_PREVIEW = "salary.preview.cache";
+
+    static final String RESULT_HIT = "hit";
+    static final String RESULT_MISS = "miss";
+    static final String RESULT_FALLBACK = "fallback";
+    static final String RESULT_INCREMENTAL = "incremental";
+
+    static final String MESSAGE_SUCCESS = "급여 미리보기 계산이 완료되었습니다.";
+
+    private final SalaryPreviewStore salaryPreviewStore;
+    private final SalaryPreviewGenerationStore generationStore;
+    private final PlSqlSalaryManagementService plSqlSalaryManagementService;
+    private final SalaryPreviewProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    /** 항목과 아래 시계는 모두 이 맵으로 동기화한다. */
+    private final Map<PreviewKey, Entry> entries;
+    private final Map<String, Clock> tenantClocks = new HashMap<>();
+    private final Clock globalClock = new Clock();
+
+    @Autowired
+    public SalaryPreviewCache(SalaryPreviewStore salaryPreviewStore, SalaryPreviewGenerationStore generationStore,
+            PlSqlSalaryManagementService plSqlSalaryManagementService, SalaryPreviewProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.salaryPreviewStore = salaryPreviewStore;
+        this.generationStore = generationStore;
+        this.plSqlSalaryManagementService = plSqlSalaryManagementService;
+        this.properties = properties;
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PreviewKey, Entry> eldest) {
+                return size() > Math.max(1, properties.getMaxEntries());
+            }
+        };
+    }
+
+    /**
+     * @return 캐시 사용 여부
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 현재 테넌트 상담사의 급여 미리보기.
+     *
+     * @param consultantId 상담사 ID
+     * @param periodStart  기간 시작
+     * @param periodEnd    기간 종료
+     * @return {@link PlSqlSalaryManagementService#calculateSalaryPreview} 와 같은 응답 맵
+     */
+    public Map<String, Object> preview(Long consultantId, LocalDate periodStart, LocalDate periodEnd) {
+        String tenantId = TenantContextHolder.getTenantId();
+        if (!isEnabled() || tenantId == null || tenantId.isBlank() || consultantId == null || consultantId <= 0
+                || periodStart == null || periodEnd == null || periodStart.isAfter(periodEnd)) {
+            return fallback(consultantId, periodStart, periodEnd);
+        }
+
+        SalaryPreviewGenerationStore.Generation shared = generationStore.current(tenantId);
+        PreviewKey key;
+        long stamp;
+        boolean quiet;
+        synchronized (entries) {
+            key = new PreviewKey(tenantId, consultantId, periodStart, periodEnd, ruleVersion(tenantId));
+            Entry entry = entries.get(key);
+            if (entry != null && entry.shared().equals(shared)
+                    && !entry.cachedAt().plus(ttl()).isBefore(Instant.now())) {
+                count(RESULT_HIT);
+                return response(entry.preview());
+            }
+            stamp = stamp(tenantId);
+            quiet = quiet(tenantId);
+        }
+
+        Optional<SalaryPreviewStore.Inputs> inputs;
+        SalaryPreviewStore.ScheduleTally tally;
+        try {
+            inputs = salaryPreviewStore.loadInputs(tenantId, consultantId);
+            tally = inputs.isPresent()
+                    ? salaryPreviewStore.loadTally(tenantId, consultantId, periodStart, periodEnd)
+                    : SalaryPreviewStore.ScheduleTally.EMPTY;
+        } catch (DataAccessException e) {
+            log.warn("급여 미리보기 입력 조회 실패 — 프로시저로 계산: tenantId={}, consultantId={}, error={}",
+                    tenantId, consultantId, e.getMessage());
+            return fallback(consultantId, periodStart, periodEnd);
+        }
+        Optional<SalaryFormula.Preview> preview = inputs.flatMap(
+                in -> SalaryFormula.preview(in.formulaInput(tally), in.specialSupport()));
+        if (preview.isEmpty()) {
+            return fallback(consultantId, periodStart, periodEnd);
+        }
+
+        synchronized (entries) {
+            if (shared != null && quiet && stamp(tenantId) == stamp) {
+                entries.put(key, new Entry(inputs.get(), tally, preview.get(), shared, Instant.now()));
+            }
+        }
+        count(RESULT_MISS);
+        return response(preview.get());
+    }
+
+    /**
+     * 일정 1건 변경을 커밋 뒤 해당 상담사·기간 항목에 증감으로 반영한다.
+     *
+     * @param before 변경 전 몫 (신규면 {@code null})
+     * @param after  변경 후 몫 (삭제면 {@code null})
+     */
+    public void scheduleChanged(ScheduleSalaryContribution before, ScheduleSalaryContribution after) {
+        if (!isEnabled() || (before == null && after == null) || (before != null && before.sameAs(after))) {
+            return;
+        }
+        String tenantId = after != null ? after.tenantId() : before.tenantId();
+        onChange(tenantId, () -> applySchedule(before, after));
+    }
+
+    /**
+     * 상담사 항목을 커밋 뒤 지운다 (매칭 회기·결제 상태, 급여 프로필, 급여 확정·특별지원금 지급).
+     *
+     * @param tenantId     테넌트 ID
+     * @param consultantId 상담사 ID
+     */
+    public void invalidateConsultant(String tenantId, Long consultantId) {
+        if (!isEnabled() || tenantId == null || consultantId == null) {
+            return;
+        }
+        onChange(tenantId, () -> removeIf(key -> key.tenantId().equals(tenantId)
+                && key.consultantId().equals(consultantId)));
+    }
+
+    /**
+     * 테넌트 항목을 커밋 뒤 모두 지운다 (월 급여 배치 등 JDBC 일괄 변경).
+     *
+     * @param tenantId 테넌트 ID
+     */
+    public void invalidateTenant(String tenantId) {
+        if (!isEnabled() || tenantId == null) {
+            return;
+        }
+        onChange(tenantId, () -> removeIf(key -> key.tenantId().equals(tenantId)));
+    }
+
+    /**
+     * 급여 규칙 공통코드 변경 — 커밋 뒤 규칙 버전을 올린다.
+     *
+     * @param tenantId 코드 테넌트 ID ({@code null} 이면 전역 코드라 모든 테넌트)
+     */
+    public void salaryRulesChanged(String tenantId) {
+        if (!isEnabled()) {
+            return;
+        }
+        onChange(tenantId, () -> {
+            clock(tenantId).ruleVersion++;
+            removeIf(key -> tenantId == null || key.tenantId().equals(tenantId));
+        });
+    }
+
+    /**
+     * 변경을 커밋 뒤(트랜잭션 밖이면 즉시) 반영하고 공유 세대를 올린다. 반영 전까지 테넌트를 "변경 중"으로 두어 그
+     * 사이 조회한 결과가 보관되지 않게 한다.
+     */
+    private void onChange(String tenantId, Runnable applyOnCommit) {
+        synchronized (entries) {
+            Clock clock = clock(tenantId);
+            clock.generation++;
+            clock.inFlight++;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    complete(tenantId, status == STATUS_COMMITTED ? applyOnCommit : null);
+                }
+            });
+            return;
+        }
+        complete(tenantId, applyOnCommit);
+    }
+
+    private void complete(String tenantId, Runnable apply) {
+        long bumped = apply != null ? generationStore.bump(tenantId) : -1L;
+        synchronized (entries) {
+            Clock clock = clock(tenantId);
+            try {
+                if (apply != null) {
+                    apply.run();
+                    if (bumped > 0) {
+                        advanceShared(tenantId, bumped);
+                    }
+                }
+            } finally {
+                clock.generation++;
+                clock.inFlight--;
+            }
+        }
+    }
+
+    /** {@code entries} 잠금 안에서 호출된다. */
+    private void applySchedule(ScheduleSalaryContribution before, ScheduleSalaryContribution after) {
+        Iterator<Map.Entry<PreviewKey, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<PreviewKey, Entry> cached = iterator.next();
+            PreviewKey key = cached.getKey();
+            boolean removesBefore = key.covers(before);
+            boolean addsAfter = key.covers(after);
+            if (!removesBefore && !addsAfter) {
+                continue;
+            }
+            Entry entry = cached.getValue();
+            SalaryPreviewStore.ScheduleTally tally = entry.tally();
+            if (removesBefore) {
+                tally = tally.plus(before, -1);
+            }
+            if (addsAfter) {
+                tally = tally.plus(after, 1);
+            }
+            Optional<SalaryFormula.Preview> preview = SalaryFormula.preview(entry.inputs().formulaInput(tally),
+                    entry.inputs().specialSupport());
+            if (preview.isEmpty()) {
+                iterator.remove();
+                continue;
+            }
+            cached.setValue(new Entry(entry.inputs(), tally, preview.get(), entry.shared(), entry.cachedAt()));
+            count(RESULT_INCREMENTAL);
+        }
+    }
+
+    /**
+     * 이 인스턴스가 올린 세대 바로 앞의 항목은 방금 변경까지 반영했으므로 새 세대로 넘긴다. 그 사이 다른
+     * 인스턴스가 올렸으면 그대로 두어 다음 조회에서 다시 계산한다. {@code entries} 잠금 안에서 호출된다.
+     */
+    private void advanceShared(String tenantId, long bumped) {
+        for (Map.Entry<PreviewKey, Entry> cached : entries.entrySet()) {
+            if (tenantId != null && !cached.getKey().tenantId().equals(tenantId)) {
+                continue;
+            }
+            Entry entry = cached.getValue();
+            SalaryPreviewGenerationStore.Generation next = entry.shared().advancedTo(tenantId == null, bumped);
+            if (next != null) {
+                cached.setValue(new Entry(entry.inputs(), entry.tally(), entry.preview(), next, entry.cachedAt()));
+            }
+        }
+    }
+
+    private void removeIf(Predicate<PreviewKey> predicate) {
+        entries.keySet().removeIf(predicate);
+    }
+
+    private Clock clock(String tenantId) {
+        return tenantId == null ? globalClock : tenantClocks.computeIfAbsent(tenantId, id -> new Clock());
+    }
+
+    private long ruleVersion(String tenantId) {
+        // 두 버전 모두 늘기만 하므로 합도 어느 한쪽이 바뀌면 바뀐다.
+        return clock(tenantId).ruleVersion + globalClock.ruleVersion;
+    }
+
+    private long stamp(String tenantId) {
+        return clock(tenantId).generation + globalClock.generation;
+    }
+
+    private boolean quiet(String tenantId) {
+        return clock(tenantId).inFlight == 0 && globalClock.inFlight == 0;
+    }
+
+    private Map<String, Object> fallback(Long consultantId, LocalDate periodStart, LocalDate periodEnd) {
+        if (isEnabled()) {
+            count(RESULT_FALLBACK);
+        }
+        return plSqlSalaryManagementService.calculateSalaryPreview(consultantId, periodStart, periodEnd);
+    }
+
+    private static Map<String, Object> response(SalaryFormula.Preview preview) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("success", true);
+        result.put("message", MESSAGE_SUCCESS);
+        result.put("grossSalary", preview.grossSalary());
+        result.put("netSalary", preview.netSalary());
+        result.put("taxAmount", preview.taxAmount());
+        result.put("consultationCount", preview.consultationCount());
+        result.put("specialSupportAmount", preview.specialSupportAmount());
+        BigDecimal taxableGross = preview.taxableGrossSalary();
+        if (taxableGross != null) {
+            result.put("consultationGrossSalary", preview.grossSalary());
+            result.put("taxableGrossSalary", taxableGross);
+        }
+        return result;
+    }
+
+    private Duration ttl() {
+        Duration ttl = properties.getTtl();
+        return ttl != null ? ttl : Duration.ZERO;
+    }
+
+    private void count(String result) {
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        if (registry != null) {
+            registry.counter(METRIC_PREVIEW, "result", result).increment();
+        }
+    }
+
+    /**
+     * 테넌트(또는 전역) 변경 시계.
+     */
+    private static final class Clock {
+
+        /** 급여 규칙 버전 — 항목 키에 들어간다. */
+        private long ruleVersion;
+
+        /** 변경 시작·반영 때마다 는다. 조회 전후 값이 다르면 결과를 보관하지 않는다. */
+        private long generation;
+
+        /** 커밋 전 변경 수. */
+        private int inFlight;
+    }
+
+    private record PreviewKey(String tenantId, Long consultantId, LocalDate periodStart, LocalDate periodEnd,
+            long ruleVersion) {
+
+        boolean covers(ScheduleSalaryContribution contribution) {
+            return contribution != null
+                    && tenantId.equals(contribution.tenantId())
+                    && consultantId.equals(contribution.consultantId())
+                    && !contribution.date().isBefore(periodStart)
+                    && !contribution.date().isAfter(periodEnd);
+        }
+    }
+
+    private record Entry(SalaryPreviewStore.Inputs inputs, SalaryPreviewStore.ScheduleTally tally,
+            SalaryFormula.Preview preview, SalaryPreviewGenerationStore.Generation shared, Instant cachedAt) {
+    }
+}
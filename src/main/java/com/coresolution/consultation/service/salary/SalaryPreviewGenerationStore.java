@@ -0,0 +1,107 @@
+package com.coresolution.consultation.service.salary;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 급여 미리보기 캐시 인스턴스 간 무효화 세대 ({@code salary_preview_generations}).
+ *
+ * <p>한 인스턴스가 미리보기 입력 변경을 커밋하면 테넌트(전역 급여 규칙이면 {@value #GLOBAL}) 행의 세대를 올린다.
+ * 각 인스턴스는 적중 전에 세대를 읽어 항목을 만들 때의 세대와 다르면 다시 계산한다 — 다른 인스턴스의 JPA 변경도
+ * 다음 조회부터 반영된다. 세대 올리기는 커밋 뒤 별도 트랜잭션이라 쓰기 트랜잭션이 이 행을 잠그지 않는다.
+ * 조회·기록 실패는 경고만 남긴다 (조회 실패면 그 요청은 보관하지 않고, 기록 실패면 다른 인스턴스는 ttl 뒤 반영).</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Slf4j
+@Component
+public class SalaryPreviewGenerationStore {
+
+    /** 전역 급여 규칙 공통코드 변경 행 */
+    static final String GLOBAL = "*";
+
+    private static final String SELECT_GENERATIONS = "SELECT tenant_id, generation FROM salary_preview_generations "
+            + "WHERE tenant_id IN (?, ?)";
+
+    private static final String BUMP = "INSERT INTO salary_preview_generations (tenant_id, generation, updated_at) "
+            + "VALUES (?, LAST_INSERT_ID(1), NOW(3)) "
+            + "ON DUPLICATE KEY UPDATE generation = LAST_INSERT_ID(generation + 1), updated_at = NOW(3)";
+
+    private static final String SELECT_BUMPED = "SELECT LAST_INSERT_ID()";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate bumpTransaction;
+
+    public SalaryPreviewGenerationStore(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.bumpTransaction = new TransactionTemplate(transactionManager);
+        this.bumpTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 테넌트·전역 세대.
+     *
+     * @param tenant 테넌트 행 세대 (행이 없으면 0)
+     * @param global 전역 행 세대 (행이 없으면 0)
+     */
+    public record Generation(long tenant, long global) {
+
+        /**
+         * 이 세대 바로 다음에 한 번 올린 세대. 그 사이 다른 인스턴스가 올렸으면 {@code null}.
+         *
+         * @param global true 면 전역 행, false 면 테넌트 행을 올렸다
+         * @param bumped 올린 뒤 행의 세대
+         * @return 올린 뒤 세대, 이어지지 않으면 {@code null}
+         */
+        public Generation advancedTo(boolean global, long bumped) {
+            if (global) {
+                return this.global + 1 == bumped ? new Generation(tenant, bumped) : null;
+            }
+            return this.tenant + 1 == bumped ? new Generation(bumped, this.global) : null;
+        }
+    }
+
+    /**
+     * @param tenantId 테넌트 ID
+     * @return 현재 세대, 읽지 못하면 {@code null}
+     */
+    public Generation current(String tenantId) {
+        try {
+            long[] generation = new long[2];
+            jdbcTemplate.query(SELECT_GENERATIONS, rs -> {
+                generation[GLOBAL.equals(rs.getString("tenant_id")) ? 1 : 0] = rs.getLong("generation");
+            }, tenantId, GLOBAL);
+            return new Generation(generation[0], generation[1]);
+        } catch (DataAccessException e) {
+            log.warn("급여 미리보기 세대 조회 실패 — 보관 없이 계산: tenantId={}, error={}", tenantId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 세대를 올린다. 호출 트랜잭션과 무관하게 바로 커밋한다.
+     *
+     * @param tenantId 테넌트 ID ({@code null} 이면 전역)
+     * @return 올린 뒤 행의 세대, 실패하면 -1
+     */
+    public long bump(String tenantId) {
+        String rowId = tenantId != null ? tenantId : GLOBAL;
+        try {
+            Long bumped = bumpTransaction.execute(status -> {
+                jdbcTemplate.update(BUMP, rowId);
+                return jdbcTemplate.queryForObject(SELECT_BUMPED, Long.class);
+            });
+            return bumped != null ? bumped : -1L;
+        } catch (DataAccessException e) {
+            log.warn("급여 미리보기 세대 기록 실패 — 다른 인스턴스는 ttl 뒤 반영: tenantId={}, error={}", rowId,
+                    e.getMessage());
+            return -1L;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.coresolution.consultation.service.salary;
+
+import com.coresolution.consultation.constant.SpecialSupportSalaryConstants;
+import com.coresolution.consultation.entity.CommonCode;
+import com.coresolution.consultation.entity.ConsultantClientMapping;
+import com.coresolution.consultation.entity.ConsultantSalaryProfile;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 급여 미리보기 입력(일정 제외) 변경 → 캐시 무효화 엔티티 리스너.
+ *
+ * <ul>
+ *   <li>매칭: 회기 차감·결제 상태가 특별지원금 판정을 바꾼다 — 그 상담사 항목만 지운다</li>
+ *   <li>급여 프로필: 그 상담사 항목만 지운다</li>
+ *   <li>{@code FREELANCE_BASE_RATE}·{@code SPECIAL_SUPPORT_SALARY} 공통코드: 규칙 버전을 올린다</li>
+ * </ul>
+ *
+ * <p>JPA 는 리스너 클래스당 이벤트별 콜백을 하나만 허용해 엔티티 유형으로 나눈다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Component
+@RequiredArgsConstructor
+public class SalaryPreviewRuleListener {
+
+    private final ObjectProvider<SalaryPreviewCache> cacheProvider;
+
+    /**
+     * 생성·수정·삭제된 입력 엔티티의 미리보기를 무효화한다.
+     *
+     * @param entity 매칭, 급여 프로필 또는 공통코드
+     */
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void postWrite(Object entity) {
+        SalaryPreviewCache cache = cacheProvider.getIfAvailable();
+        if (cache == null) {
+            return;
+        }
+        if (entity instanceof ConsultantClientMapping mapping) {
+            if (mapping.getConsultant() != null) {
+                cache.invalidateConsultant(mapping.getTenantId(), mapping.getConsultant().getId());
+            }
+        } else if (entity instanceof ConsultantSalaryProfile profile) {
+            cache.invalidateConsultant(profile.getTenantId(), profile.getConsultantId());
+        } else if (entity instanceof CommonCode code && isSalaryRule(code.getCodeGroup())) {
+            cache.salaryRulesChanged(code.getTenantId());
+        }
+    }
+
+    private static boolean isSalaryRule(String codeGroup) {
+        return SalaryBatchStore.FREELANCE_BASE_RATE_GROUP.equalsIgnoreCase(codeGroup)
+                || SpecialSupportSalaryConstants.CODE_GROUP.equalsIgnoreCase(codeGroup);
+    }
+}
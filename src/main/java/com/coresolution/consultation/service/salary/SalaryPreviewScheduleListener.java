@@ -0,0 +1,67 @@
+package com.coresolution.consultation.service.salary;
+
+import com.coresolution.consultation.entity.Schedule;
+import com.coresolution.consultation.entity.ScheduleSalaryContribution;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 일정 → 급여 미리보기 캐시 증감 반영 엔티티 리스너.
+ *
+ * <p>일정 상태·시간을 바꾸는 경로(예약·완료 처리·자동 완료·취소 등)가 여럿이라 엔티티 수준에서 한 번에 잡는다.
+ * 로드·저장 시점의 몫을 일정에 기억해 두고, flush 때 새 몫과의 차이만 {@link SalaryPreviewCache} 에 넘긴다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Component
+@RequiredArgsConstructor
+public class SalaryPreviewScheduleListener {
+
+    private final ObjectProvider<SalaryPreviewCache> cacheProvider;
+
+    /**
+     * 로드 시점의 몫을 기억한다.
+     *
+     * @param schedule 로드된 일정
+     */
+    @PostLoad
+    public void postLoad(Schedule schedule) {
+        schedule.setSalarySnapshot(ScheduleSalaryContribution.of(schedule));
+    }
+
+    /**
+     * 생성·수정된 일정의 몫 변화를 반영한다.
+     *
+     * @param schedule 저장된 일정
+     */
+    @PostPersist
+    @PostUpdate
+    public void postWrite(Schedule schedule) {
+        ScheduleSalaryContribution after = ScheduleSalaryContribution.of(schedule);
+        SalaryPreviewCache cache = cacheProvider.getIfAvailable();
+        if (cache != null) {
+            cache.scheduleChanged(schedule.getSalarySnapshot(), after);
+        }
+        schedule.setSalarySnapshot(after);
+    }
+
+    /**
+     * 물리 삭제된 일정의 몫을 뺀다.
+     *
+     * @param schedule 삭제된 일정
+     */
+    @PostRemove
+    public void postRemove(Schedule schedule) {
+        SalaryPreviewCache cache = cacheProvider.getIfAvailable();
+        if (cache != null) {
+            cache.scheduleChanged(schedule.getSalarySnapshot(), null);
+        }
+        schedule.setSalarySnapshot(null);
+    }
+}
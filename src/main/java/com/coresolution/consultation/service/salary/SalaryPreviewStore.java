@@ -0,0 +1,155 @@
+package com.coresolution.consultation.service.salary;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import com.coresolution.consultation.entity.ScheduleSalaryContribution;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 급여 미리보기 입력 조회 (상담사 1명·기간 1개).
+ *
+ * <p>조건은 미리보기 프로시저 {@code CalculateSalaryPreview} 의 조회와 같다. 일정 통계는 SQL 집계 대신 일정
+ * 행을 읽어 {@link ScheduleSalaryContribution} 과 같은 식으로 더한다 — 캐시가 일정 변경을 증감으로 반영할 때와
+ * 처음 계산할 때의 값이 어긋나지 않게 하기 위해서다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Component
+@RequiredArgsConstructor
+public class SalaryPreviewStore {
+
+    private static final String SELECT_CONSULTANT_GRADE = "SELECT grade FROM users "
+            + "WHERE id = ? AND tenant_id = ? AND role IN ('CONSULTANT', 'PLAY_THERAPIST', 'SPEECH_THERAPIST') "
+            + "AND is_active = TRUE AND is_deleted = FALSE";
+
+    private static final String SELECT_ACTIVE_PROFILES = "SELECT id, consultant_id, salary_type, base_salary, "
+            + "hourly_rate, is_business_registered FROM consultant_salary_profiles "
+            + "WHERE tenant_id = ? AND consultant_id = ? AND is_active = TRUE ORDER BY id";
+
+    private static final String SELECT_SCHEDULES = "SELECT status, start_time, end_time FROM schedules "
+            + "WHERE tenant_id = ? AND consultant_id = ? AND date BETWEEN ? AND ? AND is_deleted = FALSE";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SalaryBatchStore salaryBatchStore;
+
+    /**
+     * 기간 내 일정 통계. 프로시저 집계와 같이 일정이 없으면 완료 건수는 {@code null} 이다.
+     *
+     * @param total     일정 수
+     * @param completed 완료 일정 수
+     * @param rawHours  일정별 시간 합 ({@link ScheduleSalaryContribution#hours} 의 합, 반올림 전)
+     */
+    public record ScheduleTally(int total, int completed, BigDecimal rawHours) {
+
+        /** 일정이 없는 기간. */
+        public static final ScheduleTally EMPTY = new ScheduleTally(0, 0, BigDecimal.ZERO.setScale(4));
+
+        /**
+         * @param contribution 일정 1건의 몫
+         * @param sign         더하면 1, 빼면 -1
+         * @return 반영한 통계
+         */
+        public ScheduleTally plus(ScheduleSalaryContribution contribution, int sign) {
+            return new ScheduleTally(total + sign, completed + (contribution.completed() ? sign : 0),
+                    rawHours.add(contribution.hours().multiply(BigDecimal.valueOf(sign))));
+        }
+
+        /**
+         * @return {@code SUM(CASE status = 'COMPLETED' ...)} — 일정이 없으면 {@code null}
+         */
+        public Integer completedOrNull() {
+            return total > 0 ? completed : null;
+        }
+
+        /**
+         * @return {@code DECIMAL(8,2)} 변수에 담긴 상담 시간
+         */
+        public BigDecimal hours() {
+            return rawHours.setScale(2, RoundingMode.HALF_UP);
+        }
+    }
+
+    /**
+     * 일정 통계를 뺀 미리보기 입력. 일정이 바뀌면 통계만 바꿔 {@link #formulaInput} 으로 다시 계산한다.
+     *
+     * @param profile        활성 급여 프로필
+     * @param gradeRate      프리랜서 회당 요율
+     * @param mappings       상담사의 삭제되지 않은 매칭 (특별지원금 설정이 없으면 빈 목록)
+     * @param specialSupport 테넌트 특별지원금 설정
+     */
+    public record Inputs(SalaryBatchStore.Profile profile, BigDecimal gradeRate, List<SalaryFormula.Mapping> mappings,
+            SalaryFormula.SpecialSupportPolicy specialSupport) {
+
+        /**
+         * @param tally 일정 통계
+         * @return 계산식 입력
+         */
+        public SalaryFormula.Input formulaInput(ScheduleTally tally) {
+            return new SalaryFormula.Input(profile.consultantId(), profile.salaryType(), profile.baseSalary(),
+                    profile.hourlyRate(), profile.businessRegistered(), gradeRate, tally.total(),
+                    tally.completedOrNull(), tally.hours(), mappings);
+        }
+    }
+
+    /**
+     * 일정 통계를 제외한 입력을 읽는다.
+     *
+     * @param tenantId     테넌트 ID
+     * @param consultantId 상담사 ID
+     * @return 입력. 프로시저가 실패 메시지를 내는 경우(대상 상담사·활성 프로필 없음)와 활성 프로필이 여러 개라
+     *         프로시저 {@code LIMIT 1} 이 고르는 행을 알 수 없는 경우 empty — 호출 측이 프로시저로 계산한다
+     */
+    public Optional<Inputs> loadInputs(String tenantId, Long consultantId) {
+        List<String> grades = jdbcTemplate.query(SELECT_CONSULTANT_GRADE, (rs, rowNum) -> rs.getString("grade"),
+                consultantId, tenantId);
+        if (grades.isEmpty()) {
+            return Optional.empty();
+        }
+        List<SalaryBatchStore.Profile> profiles = jdbcTemplate.query(SELECT_ACTIVE_PROFILES,
+                (rs, rowNum) -> new SalaryBatchStore.Profile(rs.getLong("id"), rs.getLong("consultant_id"),
+                        rs.getString("salary_type"), rs.getBigDecimal("base_salary"),
+                        rs.getBigDecimal("hourly_rate"), rs.getBoolean("is_business_registered")),
+                tenantId, consultantId);
+        if (profiles.size() != 1) {
+            return Optional.empty();
+        }
+        SalaryBatchStore.SalaryCodes codes = salaryBatchStore.loadSalaryCodes(tenantId);
+        List<SalaryFormula.Mapping> mappings = codes.specialSupport().active()
+                ? salaryBatchStore.loadMappings(tenantId, consultantId)
+                : List.of();
+        return Optional.of(new Inputs(profiles.get(0), SalaryFormula.gradeRate(grades.get(0), codes.gradeRates()),
+                mappings, codes.specialSupport()));
+    }
+
+    /**
+     * 기간 내 삭제되지 않은 일정 통계를 읽는다.
+     *
+     * @param tenantId     테넌트 ID
+     * @param consultantId 상담사 ID
+     * @param periodStart  기간 시작
+     * @param periodEnd    기간 종료
+     * @return 일정 통계
+     */
+    public ScheduleTally loadTally(String tenantId, Long consultantId, LocalDate periodStart, LocalDate periodEnd) {
+        int[] counts = new int[2];
+        BigDecimal[] hours = {ScheduleTally.EMPTY.rawHours()};
+        jdbcTemplate.query(SELECT_SCHEDULES, (RowCallbackHandler) rs -> {
+            counts[0]++;
+            if ("COMPLETED".equalsIgnoreCase(rs.getString("status"))) {
+                counts[1]++;
+            }
+            hours[0] = hours[0].add(ScheduleSalaryContribution.hours(rs.getObject("start_time", LocalTime.class),
+                    rs.getObject("end_time", LocalTime.class)));
+        }, tenantId, consultantId, Date.valueOf(periodStart), Date.valueOf(periodEnd));
+        return new ScheduleTally(counts[0], counts[1], hours[0]);
+    }
+}
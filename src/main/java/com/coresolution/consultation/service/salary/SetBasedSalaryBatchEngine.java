@@ -0,0 +1,188 @@
+package com.coresolution.consultation.service.salary;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 월 급여 배치 set-based 계산기.
+ *
+ * <ol>
+ *   <li>테넌트·기간 입력을 {@link SalaryBatchStore#load} 로 한 번에 읽는다 — 상담사마다 프로시저를 부르면 상담사당
+ *       조회 7~8건과 커밋 1회가 드는데, 이를 테이블당 조회 1건으로 줄인다</li>
+ *   <li>상담사마다 프로시저와 같은 순서로 검증(대상 상담사 → 중복 확정 → 활성 프로필)하고 {@link SalaryFormula} 로
+ *       계산한다. 실패 메시지는 프로시저 {@code p_message} 와 같다</li>
+ *   <li>결과는 별도 트랜잭션 1개에서 JDBC 배치로 저장한다. 저장이 실패하면 전부 롤백하고 계산한 상담사를
+ *       폴백 목록으로 돌려준다</li>
+ *   <li>프로시저가 NULL 산술로 빠지는 입력은 계산하지 않고 폴백 목록에 넣는다 — 호출 측이 그 상담사만 프로시저로
+ *       계산해 결과 차이를 만들지 않는다</li>
+ *   <li>입력 조회부터 저장까지의 시간을 {@value #METRIC_TENANT_BATCH} 에 기록한다. 저장이 실패해 프로시저로 넘긴
+ *       실행은 outcome=fallback 으로 따로 센다</li>
+ * </ol>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SetBasedSalaryBatchEngine {
+
+    static final String METRIC_TENANT_BATCH = "salary.batch.tenant";
+
+    static final String OUTCOME_SAVED = "saved";
+    static final String OUTCOME_FALLBACK = "fallback";
+
+    static final String MESSAGE_SUCCESS = "급여 계산이 완료되었습니다.";
+    static final String MESSAGE_INVALID_PERIOD = "유효한 기간을 입력해주세요.";
+    static final String MESSAGE_CONSULTANT_NOT_FOUND = "상담사를 찾을 수 없습니다.";
+    static final String MESSAGE_PROFILE_NOT_FOUND = "활성화된 급여 프로필을 찾을 수 없습니다.";
+
+    private static final DateTimeFormatter CALCULATION_PERIOD = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    private final SalaryBatchStore salaryBatchStore;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    /**
+     * 상담사 1명 처리 결과.
+     *
+     * @param consultantId  상담사 ID
+     * @param success       성공 여부
+     * @param message       프로시저와 같은 결과 메시지
+     * @param calculationId 저장된 급여 계산 ID (실패 시 {@code null})
+     */
+    public record Outcome(Long consultantId, boolean success, String message, Long calculationId) {
+    }
+
+    /**
+     * 테넌트 1건 배치 결과.
+     *
+     * @param outcomes              set-based 로 처리한 상담사 결과
+     * @param fallbackConsultantIds 프로시저로 계산해야 하는 상담사
+     */
+    public record BatchRun(List<Outcome> outcomes, List<Long> fallbackConsultantIds) {
+    }
+
+    /**
+     * 테넌트 상담사들의 급여를 계산해 저장한다.
+     *
+     * @param tenantId      테넌트 ID
+     * @param consultantIds 대상 상담사
+     * @param periodStart   기간 시작
+     * @param periodEnd     기간 종료
+     * @param triggeredBy   {@code calculated_by}
+     * @return 배치 결과
+     */
+    public BatchRun run(String tenantId, List<Long> consultantIds, LocalDate periodStart, LocalDate periodEnd,
+            String triggeredBy) {
+        List<Long> targets = new ArrayList<>(new LinkedHashSet<>(consultantIds));
+        List<Outcome> outcomes = new ArrayList<>();
+        if (periodStart == null || periodEnd == null || periodStart.isAfter(periodEnd)) {
+            for (Long consultantId : targets) {
+                outcomes.add(new Outcome(consultantId, false, MESSAGE_INVALID_PERIOD, null));
+            }
+            return new BatchRun(outcomes, List.of());
+        }
+        long started = System.nanoTime();
+        String calculationPeriod = periodStart.format(CALCULATION_PERIOD);
+        SalaryBatchStore.TenantInputs inputs = salaryBatchStore.load(tenantId, calculationPeriod, periodStart,
+                periodEnd);
+
+        List<Long> fallback = new ArrayList<>();
+        List<SalaryBatchStore.CalculationRow> rows = new ArrayList<>();
+        for (Long consultantId : targets) {
+            if (!inputs.consultantGrades().containsKey(consultantId)) {
+                outcomes.add(new Outcome(consultantId, false, MESSAGE_CONSULTANT_NOT_FOUND, null));
+                continue;
+            }
+            if (inputs.alreadyCalculated().contains(consultantId)) {
+                outcomes.add(new Outcome(consultantId, false, duplicateMessage(calculationPeriod), null));
+                continue;
+            }
+            SalaryBatchStore.Profile profile = inputs.profiles().get(consultantId);
+            if (profile == null) {
+                outcomes.add(new Outcome(consultantId, false, MESSAGE_PROFILE_NOT_FOUND, null));
+                continue;
+            }
+            SalaryBatchStore.ScheduleStats stats = inputs.scheduleStats()
+                    .getOrDefault(consultantId, SalaryBatchStore.ScheduleStats.NONE);
+            Optional<SalaryFormula.Result> result = SalaryFormula.calculate(input(inputs, profile, stats),
+                    inputs.specialSupport());
+            if (result.isEmpty()) {
+                fallback.add(consultantId);
+                continue;
+            }
+            rows.add(new SalaryBatchStore.CalculationRow(profile, stats, result.get()));
+        }
+
+        String outcome = OUTCOME_SAVED;
+        try {
+            Map<Long, Long> saved = save(tenantId, calculationPeriod, periodStart, periodEnd, triggeredBy,
+                    inputs.specialSupport(), rows);
+            for (SalaryBatchStore.CalculationRow row : rows) {
+                Long consultantId = row.profile().consultantId();
+                outcomes.add(new Outcome(consultantId, true, MESSAGE_SUCCESS, saved.get(consultantId)));
+            }
+        } catch (RuntimeException e) {
+            outcome = OUTCOME_FALLBACK;
+            log.error("[SalaryBatch] set-based 저장 실패 — 프로시저로 폴백: tenantId={}, period={}, rows={}", tenantId,
+                    calculationPeriod, rows.size(), e);
+            rows.forEach(row -> fallback.add(row.profile().consultantId()));
+        } finally {
+            record(outcome, System.nanoTime() - started);
+        }
+        log.info("[SalaryBatch] set-based 계산 완료: tenantId={}, period={}, 저장={}, 검증 실패={}, 프로시저 폴백={}",
+                tenantId, calculationPeriod, outcome.equals(OUTCOME_SAVED) ? rows.size() : 0,
+                outcomes.stream().filter(o -> !o.success()).count(), fallback.size());
+        return new BatchRun(outcomes, fallback);
+    }
+
+    private Map<Long, Long> save(String tenantId, String calculationPeriod, LocalDate periodStart,
+            LocalDate periodEnd, String triggeredBy, SalaryFormula.SpecialSupportPolicy specialSupport,
+            List<SalaryBatchStore.CalculationRow> rows) {
+        if (rows.isEmpty()) {
+            return Map.of();
+        }
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template.execute(status -> salaryBatchStore.save(tenantId, calculationPeriod, periodStart,
+                periodEnd, triggeredBy, specialSupport, rows));
+    }
+
+    static SalaryFormula.Input input(SalaryBatchStore.TenantInputs inputs, SalaryBatchStore.Profile profile,
+            SalaryBatchStore.ScheduleStats stats) {
+        Long consultantId = profile.consultantId();
+        return new SalaryFormula.Input(consultantId, profile.salaryType(), profile.baseSalary(),
+                profile.hourlyRate(), profile.businessRegistered(),
+                SalaryFormula.gradeRate(inputs.consultantGrades().get(consultantId), inputs.gradeRates()),
+                stats.total(), stats.completed(), stats.hours(),
+                inputs.mappings().getOrDefault(consultantId, List.of()));
+    }
+
+    static String duplicateMessage(String calculationPeriod) {
+        return "동일 상담사·동일 월(" + calculationPeriod + ")에 급여 확정이 이미 있습니다. 중복 확정은 불가합니다.";
+    }
+
+    private void record(String outcome, long elapsedNanos) {
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        if (registry != null) {
+            Timer.builder(METRIC_TENANT_BATCH).tag("outcome", outcome).register(registry)
+                    .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.coresolution.consultation.service.schedule;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import com.coresolution.consultation.config.ScheduleDueIndexProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 일정 자동 완료 인스턴스 간 선점 ({@code schedule_completion_claims}).
+ *
+ * <p>완료 시각 색인은 인스턴스마다 따로 두므로 같은 일정을 여러 실행이 꺼낼 수 있다. 실행마다 새 토큰으로 아직
+ * 선점이 없는 미완료 일정에 행을 넣고({@code INSERT IGNORE}), 선점한 지 {@code claim-lease} 가 지난 행은 토큰을
+ * 바꿔 이어받은 뒤, 자기 토큰이 적힌 일정만 돌려준다 — 같은 초에 두 실행이 돌아도 토큰이 달라 겹치지 않는다.
+ * 선점은 별도 테이블에만 남기므로 {@code schedules} 의 {@code updated_at}·version 은 그대로다. 리마인더
+ * 프로시저가 호출 트랜잭션을 커밋해도 선점 행은 남아 lease 동안 유지된다. 시각은 인스턴스 시계 차이가 없도록
+ * DB {@code NOW(3)} 를 쓴다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduleCompletionClaimStore {
+
+    private static final String OPEN_SCHEDULE = "s.is_deleted = FALSE "
+            + "AND s.status IN ('BOOKED', 'CONFIRMED', 'IN_PROGRESS')";
+
+    private static final String INSERT_CLAIMS = "INSERT IGNORE INTO schedule_completion_claims "
+            + "(schedule_id, tenant_id, claim_token, claimed_at) "
+            + "SELECT s.id, s.tenant_id, ?, NOW(3) FROM schedules s WHERE s.tenant_id = ? AND s.id IN (%s) AND "
+            + OPEN_SCHEDULE;
+
+    private static final String TAKE_OVER_EXPIRED = "UPDATE schedule_completion_claims c "
+            + "JOIN schedules s ON s.id = c.schedule_id "
+            + "SET c.claim_token = ?, c.claimed_at = NOW(3) "
+            + "WHERE c.tenant_id = ? AND c.schedule_id IN (%s) AND c.claimed_at < NOW(3) - INTERVAL ? SECOND AND "
+            + OPEN_SCHEDULE;
+
+    private static final String SELECT_CLAIMED = "SELECT schedule_id FROM schedule_completion_claims "
+            + "WHERE claim_token = ?";
+
+    private static final String RELEASE = "DELETE FROM schedule_completion_claims "
+            + "WHERE claim_token = ? AND schedule_id IN (%s)";
+
+    private static final String PURGE_CLOSED = "DELETE c FROM schedule_completion_claims c "
+            + "LEFT JOIN schedules s ON s.id = c.schedule_id "
+            + "WHERE c.tenant_id = ? AND c.claimed_at < NOW(3) - INTERVAL ? SECOND "
+            + "AND (s.id IS NULL OR NOT (" + OPEN_SCHEDULE + "))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ScheduleDueIndexProperties properties;
+
+    /**
+     * 선점 결과.
+     *
+     * @param token       이번 실행의 선점 토큰
+     * @param scheduleIds 이번 실행이 선점한 일정 ID
+     */
+    public record Claim(String token, Set<Long> scheduleIds) {
+    }
+
+    /**
+     * 미완료 일정을 선점한다. 다른 실행이 lease 안에서 선점 중이거나 이미 닫힌 일정은 결과에 없다.
+     *
+     * @param tenantId    테넌트 ID
+     * @param scheduleIds 완료 시각이 지난 일정 ID
+     * @return 이번 실행이 선점한 일정
+     */
+    public Claim claim(String tenantId, Collection<Long> scheduleIds) {
+        String token = UUID.randomUUID().toString();
+        if (scheduleIds.isEmpty()) {
+            return new Claim(token, Set.of());
+        }
+        String in = placeholders(scheduleIds.size());
+        jdbcTemplate.update(String.format(INSERT_CLAIMS, in),
+                args(List.of(token, tenantId), scheduleIds).toArray());
+        List<Object> takeOverArgs = args(List.of(token, tenantId), scheduleIds);
+        takeOverArgs.add(properties.getClaimLease().toSeconds());
+        jdbcTemplate.update(String.format(TAKE_OVER_EXPIRED, in), takeOverArgs.toArray());
+        Set<Long> claimed = new HashSet<>(jdbcTemplate.queryForList(SELECT_CLAIMED, Long.class, token));
+        return new Claim(token, claimed);
+    }
+
+    /**
+     * 완료한 일정의 선점 행을 지운다. 호출 트랜잭션과 함께 커밋된다.
+     *
+     * @param claim       선점 결과
+     * @param scheduleIds 완료한 일정 ID
+     */
+    public void release(Claim claim, Collection<Long> scheduleIds) {
+        if (scheduleIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(String.format(RELEASE, placeholders(scheduleIds.size())),
+                args(List.of(claim.token()), scheduleIds).toArray());
+    }
+
+    /**
+     * lease 가 지났고 일정이 이미 닫힌(완료·취소·삭제) 선점 행을 지운다 — 색인 밖에서 닫힌 일정의 남은 행.
+     *
+     * @param tenantId 테넌트 ID
+     * @return 지운 행 수
+     */
+    public int purgeClosed(String tenantId) {
+        return jdbcTemplate.update(PURGE_CLOSED, tenantId, properties.getClaimLease().toSeconds());
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static List<Object> args(List<?> leading, Collection<Long> scheduleIds) {
+        List<Object> args = new ArrayList<>(leading);
+        args.addAll(scheduleIds);
+        return args;
+    }
+}
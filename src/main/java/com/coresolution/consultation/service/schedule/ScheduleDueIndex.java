@@ -0,0 +1,346 @@
+package com.coresolution.consultation.service.schedule;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import com.coresolution.consultation.config.ScheduleDueIndexProperties;
+import com.coresolution.consultation.constant.ScheduleStatus;
+import com.coresolution.consultation.entity.Schedule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 미완료 일정의 자동 완료 시각 색인 (테넌트별 우선순위 큐).
+ *
+ * <p>{@code ScheduleServiceImpl#autoCompleteExpiredSchedules} 가 호출마다 지난 일정을 모두 다시 읽는 대신,
+ * 기동 시 {@code schedules} 에서 미완료 일정의 완료 시각을 올려 두고 도달한 일정 ID 만 꺼내 준다. 색인은
+ * {@link ScheduleDueIndexListener} 가 생성·수정·취소 커밋 후 갱신하며, 원본은 항상 {@code schedules} 테이블이다.
+ * 프로시저·네이티브 SQL·다른 인스턴스가 바꾼 일정은 색인이 모를 수 있으므로 꺼낸 일정은 호출 측이 다시 읽어
+ * 상태를 확인하고, 테넌트별 {@link ScheduleDueIndexProperties#getReconcileInterval()} 주기로 기존 스캔을 돌린다.</p>
+ *
+ * <p>완료 시각은 기존 스캔 조건과 같다 — CONFIRMED 는 일정 일자의 종료 시간, BOOKED·IN_PROGRESS 는 다음 날 0시.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "mindgarden.schedule.due-index", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class ScheduleDueIndex {
+
+    private static final String SELECT_OPEN_SCHEDULES = "SELECT id, tenant_id, date, end_time, status "
+            + "FROM schedules WHERE is_deleted = FALSE AND status IN ('BOOKED', 'CONFIRMED', 'IN_PROGRESS')";
+
+    private static final Comparator<Entry> DUE_ORDER =
+            Comparator.comparing(Entry::dueAt).thenComparingLong(Entry::id);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ScheduleDueIndexProperties properties;
+
+    private final ConcurrentMap<String, TenantQueue> tenants = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    /**
+     * 일정 1건의 자동 완료 시각.
+     *
+     * @param date    일정 일자
+     * @param endTime 종료 시간
+     * @param status  상태
+     * @return 완료 시각. 자동 완료 대상 상태가 아니면 {@code null}
+     */
+    public static LocalDateTime dueAt(LocalDate date, LocalTime endTime, ScheduleStatus status) {
+        if (date == null || status == null) {
+            return null;
+        }
+        switch (status) {
+            case CONFIRMED:
+                return endTime != null ? date.atTime(endTime) : date.plusDays(1).atStartOfDay();
+            case BOOKED:
+            case IN_PROGRESS:
+                return date.plusDays(1).atStartOfDay();
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @param schedule 일정
+     * @return 현재 상태의 자동 완료 시각. 삭제됐거나 대상 상태가 아니면 {@code null}
+     */
+    public static LocalDateTime dueAt(Schedule schedule) {
+        if (Boolean.TRUE.equals(schedule.getIsDeleted())) {
+            return null;
+        }
+        return dueAt(schedule.getDate(), schedule.getEndTime(), schedule.getStatus());
+    }
+
+    /**
+     * 기동 후 미완료 일정을 읽어 색인을 채운다. 끝나기 전까지 {@link #isLoaded()} 가 false 라 기존 스캔이 쓰인다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        ConcurrentMap<String, TenantQueue> fresh = new ConcurrentHashMap<>();
+        int[] count = {0};
+        try {
+            jdbcTemplate.query(SELECT_OPEN_SCHEDULES, (RowCallbackHandler) rs -> {
+                String tenantId = rs.getString("tenant_id");
+                LocalDateTime dueAt = dueAt(rs.getObject("date", LocalDate.class),
+                        rs.getObject("end_time", LocalTime.class), ScheduleStatus.valueOf(rs.getString("status")));
+                if (tenantId != null && dueAt != null) {
+                    fresh.computeIfAbsent(tenantId, t -> new TenantQueue()).put(rs.getLong("id"), dueAt);
+                    count[0]++;
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 일정 완료 시각 색인 적재 실패 — 자동 완료는 기존 스캔으로 처리합니다: {}", e.getMessage());
+            return;
+        }
+        fresh.forEach((tenantId, queue) -> tenants.merge(tenantId, queue, TenantQueue::absorb));
+        loaded = true;
+        log.info("✅ 일정 완료 시각 색인 적재: 테넌트 {}개, 일정 {}개", fresh.size(), count[0]);
+    }
+
+    /**
+     * @return 색인 적재가 끝났는지
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * 생성·수정된 일정을 커밋 후 색인에 반영한다. 완료·취소·삭제된 일정은 색인에서 뺀다.
+     *
+     * @param schedule 저장된 일정
+     */
+    public void scheduleChanged(Schedule schedule) {
+        if (schedule.getTenantId() == null || schedule.getId() == null) {
+            return;
+        }
+        String tenantId = schedule.getTenantId();
+        long id = schedule.getId();
+        LocalDateTime dueAt = dueAt(schedule);
+        afterCommit(() -> {
+            if (dueAt != null) {
+                queue(tenantId).put(id, dueAt);
+            } else {
+                queue(tenantId).remove(id);
+            }
+        });
+    }
+
+    /**
+     * 물리 삭제된 일정을 커밋 후 색인에서 뺀다.
+     *
+     * @param schedule 삭제된 일정
+     */
+    public void scheduleRemoved(Schedule schedule) {
+        if (schedule.getTenantId() == null || schedule.getId() == null) {
+            return;
+        }
+        String tenantId = schedule.getTenantId();
+        long id = schedule.getId();
+        afterCommit(() -> queue(tenantId).remove(id));
+    }
+
+    /**
+     * 완료 시각이 지난 일정 ID 를 최대 {@code batchSize} 개 꺼낸다. 호출 트랜잭션이 롤백되면 꺼낸 일정은
+     * {@code recordRecheckInterval} 뒤에 다시 꺼내지도록 돌려 놓는다 — 같은 실패를 조회마다 반복하지 않기 위해서다.
+     *
+     * @param tenantId 테넌트 ID
+     * @param now      현재 시각
+     * @return 완료 시각 순 일정 ID
+     */
+    public List<Long> pollDue(String tenantId, LocalDateTime now) {
+        TenantQueue queue = tenants.get(tenantId);
+        if (queue == null) {
+            return List.of();
+        }
+        List<Long> due = queue.pollDue(now, Math.max(1, properties.getBatchSize()));
+        if (!due.isEmpty() && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        recheckLater(tenantId, due, now);
+                    }
+                }
+            });
+        }
+        return due;
+    }
+
+    /**
+     * 아직 완료하지 못한 일정(상담일지 없음 등)을 {@code recordRecheckInterval} 뒤에 다시 꺼내도록 넣는다.
+     *
+     * @param tenantId    테넌트 ID
+     * @param scheduleIds 일정 ID
+     * @param now         현재 시각
+     */
+    public void recheckLater(String tenantId, Collection<Long> scheduleIds, LocalDateTime now) {
+        if (scheduleIds.isEmpty()) {
+            return;
+        }
+        LocalDateTime recheckAt = now.plus(properties.getRecordRecheckInterval());
+        TenantQueue queue = queue(tenantId);
+        scheduleIds.forEach(id -> queue.put(id, recheckAt));
+    }
+
+    /**
+     * 다시 읽어 보니 완료 시각이 미뤄진 일정을 새 시각으로 넣는다.
+     *
+     * @param tenantId   테넌트 ID
+     * @param scheduleId 일정 ID
+     * @param dueAt      새 완료 시각
+     */
+    public void track(String tenantId, Long scheduleId, LocalDateTime dueAt) {
+        queue(tenantId).put(scheduleId, dueAt);
+    }
+
+    /**
+     * @param tenantId 테넌트 ID
+     * @param now      현재 시각
+     * @return 기존 스캔(대사)을 돌릴 때인지 — 테넌트의 첫 호출이거나 마지막 대사 후 주기가 지났으면 true
+     */
+    public boolean reconciliationDue(String tenantId, LocalDateTime now) {
+        LocalDateTime last = queue(tenantId).lastReconciledAt();
+        return last == null || !now.isBefore(last.plus(properties.getReconcileInterval()));
+    }
+
+    /**
+     * 기존 스캔을 마친 테넌트를 기록한다. 스캔이 이미 다룬 완료 시각 도달 일정은 상담일지 재확인 간격 뒤로 미룬다.
+     *
+     * @param tenantId 테넌트 ID
+     * @param now      스캔 시각
+     */
+    public void reconciled(String tenantId, LocalDateTime now) {
+        TenantQueue queue = queue(tenantId);
+        queue.reconciledAt(now);
+        List<Long> handled = queue.pollDue(now, Integer.MAX_VALUE);
+        recheckLater(tenantId, handled, now);
+    }
+
+    /**
+     * @param now 현재 시각
+     * @return 완료 시각이 지난 일정이 있거나 대사 주기가 된 테넌트
+     */
+    public Set<String> tenantsNeedingWork(LocalDateTime now) {
+        Set<String> result = new LinkedHashSet<>();
+        tenants.forEach((tenantId, queue) -> {
+            if (queue.hasDue(now) || reconciliationDue(tenantId, now)) {
+                result.add(tenantId);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * @param tenantId 테넌트 ID
+     * @return 색인된 일정 수
+     */
+    public int size(String tenantId) {
+        TenantQueue queue = tenants.get(tenantId);
+        return queue == null ? 0 : queue.size();
+    }
+
+    private TenantQueue queue(String tenantId) {
+        return tenants.computeIfAbsent(tenantId, t -> new TenantQueue());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record Entry(long id, LocalDateTime dueAt) {
+    }
+
+    /** 테넌트 1개의 완료 시각 순 큐와 ID 색인. */
+    private static final class TenantQueue {
+
+        private final NavigableSet<Entry> byDue = new TreeSet<>(DUE_ORDER);
+        private final Map<Long, Entry> byId = new HashMap<>();
+        private LocalDateTime lastReconciledAt;
+
+        synchronized void put(long id, LocalDateTime dueAt) {
+            Entry entry = new Entry(id, dueAt);
+            Entry previous = byId.put(id, entry);
+            if (previous != null) {
+                byDue.remove(previous);
+            }
+            byDue.add(entry);
+        }
+
+        synchronized void remove(long id) {
+            Entry previous = byId.remove(id);
+            if (previous != null) {
+                byDue.remove(previous);
+            }
+        }
+
+        synchronized List<Long> pollDue(LocalDateTime now, int limit) {
+            List<Long> due = new ArrayList<>();
+            while (due.size() < limit && !byDue.isEmpty() && !byDue.first().dueAt().isAfter(now)) {
+                Entry entry = byDue.pollFirst();
+                byId.remove(entry.id());
+                due.add(entry.id());
+            }
+            return due;
+        }
+
+        synchronized boolean hasDue(LocalDateTime now) {
+            return !byDue.isEmpty() && !byDue.first().dueAt().isAfter(now);
+        }
+
+        synchronized LocalDateTime lastReconciledAt() {
+            return lastReconciledAt;
+        }
+
+        synchronized void reconciledAt(LocalDateTime at) {
+            lastReconciledAt = at;
+        }
+
+        synchronized int size() {
+            return byId.size();
+        }
+
+        /** 적재 중 리스너가 먼저 넣은 항목은 적재값보다 새롭다고 보고 남긴다. */
+        synchronized TenantQueue absorb(TenantQueue loadedQueue) {
+            loadedQueue.byId.values().forEach(entry -> {
+                if (!byId.containsKey(entry.id())) {
+                    put(entry.id(), entry.dueAt());
+                }
+            });
+            return this;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.coresolution.consultation.service.schedule;
+
+import com.coresolution.consultation.entity.Schedule;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 일정 → 자동 완료 시각 색인 갱신 엔티티 리스너.
+ *
+ * <p>일정을 만들고 옮기고 취소·완료하는 경로가 여럿이라 엔티티 수준에서 한 번에 잡는다. 색인이 꺼져 있으면
+ * ({@code mindgarden.schedule.due-index.enabled=false}) 아무것도 하지 않는다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduleDueIndexListener {
+
+    private final ObjectProvider<ScheduleDueIndex> indexProvider;
+
+    /**
+     * 생성·수정된 일정의 완료 시각을 반영한다.
+     *
+     * @param schedule 저장된 일정
+     */
+    @PostPersist
+    @PostUpdate
+    public void postWrite(Schedule schedule) {
+        ScheduleDueIndex index = indexProvider.getIfAvailable();
+        if (index != null) {
+            index.scheduleChanged(schedule);
+        }
+    }
+
+    /**
+     * 물리 삭제된 일정을 색인에서 뺀다.
+     *
+     * @param schedule 삭제된 일정
+     */
+    @PostRemove
+    public void postRemove(Schedule schedule) {
+        ScheduleDueIndex index = indexProvider.getIfAvailable();
+        if (index != null) {
+            index.scheduleRemoved(schedule);
+        }
+    }
+}
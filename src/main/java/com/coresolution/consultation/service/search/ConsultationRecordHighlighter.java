@@ -0,0 +1,100 @@
+package com.coresolution.consultation.service.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * 상담일지 검색 결과 하이라이트 조각 생성기.
+ *
+ * <p>필드 본문에서 검색어 위치(대소문자 무시)를 찾아 겹치는 구간을 합치고, 첫 일치 앞쪽 여유를 둔
+ * {@code snippetLength} 길이의 창을 잘라 일치 구간만 {@code <mark>} 로 감싼다. 본문은 HTML 이스케이프
+ * 하므로 결과는 그대로 렌더링해도 안전하다. 잘린 쪽에는 {@code …} 를 붙인다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public final class ConsultationRecordHighlighter {
+
+    static final String MARK_OPEN = "<mark>";
+    static final String MARK_CLOSE = "</mark>";
+    private static final String ELLIPSIS = "…";
+
+    private ConsultationRecordHighlighter() {
+    }
+
+    /**
+     * @param text          필드 본문 (null 허용)
+     * @param terms         검색어 (소문자)
+     * @param snippetLength 조각 최대 길이 (원문 문자 수)
+     * @return 하이라이트 조각. 일치가 없으면 null
+     */
+    public static String highlight(String text, List<String> terms, int snippetLength) {
+        if (text == null || text.isEmpty() || terms.isEmpty()) {
+            return null;
+        }
+        List<int[]> ranges = findRanges(text, terms);
+        if (ranges.isEmpty()) {
+            return null;
+        }
+        int firstMatch = ranges.get(0)[0];
+        int start = Math.max(0, firstMatch - snippetLength / 4);
+        int end = Math.min(text.length(), start + snippetLength);
+        start = Math.max(0, Math.min(start, end - snippetLength));
+        if (start > 0 && Character.isLowSurrogate(text.charAt(start))) {
+            start--;
+        }
+        if (end < text.length() && Character.isLowSurrogate(text.charAt(end))) {
+            end++;
+        }
+
+        StringBuilder out = new StringBuilder(end - start + 32);
+        if (start > 0) {
+            out.append(ELLIPSIS);
+        }
+        int cursor = start;
+        for (int[] range : ranges) {
+            int from = Math.max(range[0], start);
+            int to = Math.min(range[1], end);
+            if (from >= to) {
+                continue;
+            }
+            out.append(HtmlUtils.htmlEscape(text.substring(cursor, from)))
+                .append(MARK_OPEN)
+                .append(HtmlUtils.htmlEscape(text.substring(from, to)))
+                .append(MARK_CLOSE);
+            cursor = to;
+        }
+        out.append(HtmlUtils.htmlEscape(text.substring(cursor, end)));
+        if (end < text.length()) {
+            out.append(ELLIPSIS);
+        }
+        return out.toString();
+    }
+
+    /**
+     * 검색어 일치 구간 [start, end) — 시작 위치 순, 겹치거나 맞닿은 구간은 합친다.
+     */
+    private static List<int[]> findRanges(String text, List<String> terms) {
+        List<int[]> found = new ArrayList<>();
+        for (String term : terms) {
+            int length = term.length();
+            for (int i = 0; i + length <= text.length(); i++) {
+                if (text.regionMatches(true, i, term, 0, length)) {
+                    found.add(new int[] {i, i + length});
+                }
+            }
+        }
+        found.sort((a, b) -> a[0] != b[0] ? Integer.compare(a[0], b[0]) : Integer.compare(b[1], a[1]));
+        List<int[]> merged = new ArrayList<>();
+        for (int[] range : found) {
+            int[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && range[0] <= last[1]) {
+                last[1] = Math.max(last[1], range[1]);
+            } else {
+                merged.add(new int[] {range[0], range[1]});
+            }
+        }
+        return merged;
+    }
+}
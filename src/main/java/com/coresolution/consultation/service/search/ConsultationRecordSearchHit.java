@@ -0,0 +1,27 @@
+package com.coresolution.consultation.service.search;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 상담일지 검색 결과 1건.
+ *
+ * @param recordId       상담일지 ID
+ * @param consultationId 상담 ID
+ * @param consultantId   상담사 ID
+ * @param clientId       내담자 ID
+ * @param sessionDate    세션 일자
+ * @param score          FULLTEXT 관련도 (LIKE 대체 검색이면 0)
+ * @param highlights     필드명({@code mainIssues} 등) → HTML 이스케이프된 하이라이트 조각. 일치한 필드만, 필드 순서대로
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public record ConsultationRecordSearchHit(Long recordId, Long consultationId, Long consultantId, Long clientId,
+        LocalDate sessionDate, double score, Map<String, String> highlights) {
+
+    public ConsultationRecordSearchHit {
+        highlights = Collections.unmodifiableMap(new LinkedHashMap<>(highlights));
+    }
+}
@@ -0,0 +1,275 @@
+package com.coresolution.consultation.service.search;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import com.coresolution.consultation.config.ConsultationRecordSearchProperties;
+import com.coresolution.consultation.entity.ConsultationRecord;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상담일지 전문 검색 색인 ({@code consultation_record_search_docs}, ngram FULLTEXT).
+ *
+ * <p><b>갱신</b>: {@code ConsultationRecordServiceImpl} 의 생성·수정이 {@link #index(ConsultationRecord)},
+ * 삭제가 {@link #remove(String, Long)} 를 호출한다. 호출 측 트랜잭션에 참여하므로 상담일지 롤백 시 색인도
+ * 함께 롤백된다. 색인 쓰기 실패는 경고만 남기고 상담일지 저장을 막지 않으며, {@link #rebuild(String)} 가
+ * 누락·불일치를 복구한다.</p>
+ *
+ * <p><b>조회</b>: {@code MATCH ... AGAINST (... IN BOOLEAN MODE)} 로 후보를 찾고 관련도 → 세션 일자 순으로
+ * 정렬한다. 비용은 검색어가 나타나는 문서 수에 비례하며 테넌트 전체 상담일지 수와는 무관하다. 색인을 쓸 수
+ * 없으면(비활성·짧은 검색어·조회 실패) {@link Optional#empty()} 를 돌려 호출 측이 LIKE 검색으로 대체한다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConsultationRecordSearchIndex {
+
+    static final String FIELD_MAIN_ISSUES = "mainIssues";
+    static final String FIELD_INTERVENTION_METHODS = "interventionMethods";
+    static final String FIELD_CLIENT_RESPONSE = "clientResponse";
+    static final String FIELD_NEXT_SESSION_PLAN = "nextSessionPlan";
+
+    private static final String MATCH_CLAUSE = "MATCH (main_issues, intervention_methods, client_response, "
+            + "next_session_plan) AGAINST (? IN BOOLEAN MODE)";
+
+    private static final String UPSERT_DOC = "INSERT INTO consultation_record_search_docs "
+            + "(tenant_id, record_id, consultation_id, consultant_id, client_id, session_date, main_issues, "
+            + "intervention_methods, client_response, next_session_plan, indexed_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NOW(3)) "
+            + "ON DUPLICATE KEY UPDATE consultation_id = VALUES(consultation_id), "
+            + "consultant_id = VALUES(consultant_id), client_id = VALUES(client_id), "
+            + "session_date = VALUES(session_date), main_issues = VALUES(main_issues), "
+            + "intervention_methods = VALUES(intervention_methods), client_response = VALUES(client_response), "
+            + "next_session_plan = VALUES(next_session_plan), indexed_at = VALUES(indexed_at)";
+
+    private static final String DELETE_DOC =
+            "DELETE FROM consultation_record_search_docs WHERE tenant_id = ? AND record_id = ?";
+
+    private static final String REBUILD_UPSERT = "INSERT INTO consultation_record_search_docs "
+            + "(tenant_id, record_id, consultation_id, consultant_id, client_id, session_date, main_issues, "
+            + "intervention_methods, client_response, next_session_plan, indexed_at) "
+            + "SELECT cr.tenant_id, cr.id, cr.consultation_id, cr.consultant_id, cr.client_id, cr.session_date, "
+            + "cr.main_issues, cr.intervention_methods, cr.client_response, cr.next_session_plan, NOW(3) "
+            + "FROM consultation_records cr "
+            + "WHERE cr.tenant_id = ? AND cr.id BETWEEN ? AND ? AND cr.is_deleted = FALSE "
+            + "ON DUPLICATE KEY UPDATE consultation_id = VALUES(consultation_id), "
+            + "consultant_id = VALUES(consultant_id), client_id = VALUES(client_id), "
+            + "session_date = VALUES(session_date), main_issues = VALUES(main_issues), "
+            + "intervention_methods = VALUES(intervention_methods), client_response = VALUES(client_response), "
+            + "next_session_plan = VALUES(next_session_plan), indexed_at = VALUES(indexed_at)";
+
+    private static final String REBUILD_PRUNE = "DELETE d FROM consultation_record_search_docs d "
+            + "LEFT JOIN consultation_records cr ON cr.id = d.record_id AND cr.tenant_id = d.tenant_id "
+            + "WHERE d.tenant_id = ? AND d.record_id BETWEEN ? AND ? "
+            + "AND (cr.id IS NULL OR cr.is_deleted = TRUE)";
+
+    private static final String SELECT_ID_RANGE = "SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM ("
+            + "SELECT id FROM consultation_records WHERE tenant_id = ? "
+            + "UNION ALL SELECT record_id FROM consultation_record_search_docs WHERE tenant_id = ?) ids";
+
+    private static final String SELECT_TENANTS =
+            "SELECT DISTINCT tenant_id FROM consultation_records WHERE tenant_id IS NOT NULL";
+
+    private final ConsultationRecordSearchProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 검색 범위 — 상담사 본인 기록 또는 내담자 본인 기록.
+     */
+    public enum Owner {
+        CONSULTANT("consultant_id"),
+        CLIENT("client_id");
+
+        private final String column;
+
+        Owner(String column) {
+            this.column = column;
+        }
+    }
+
+    /**
+     * 재색인 결과.
+     *
+     * @param tenantId 테넌트
+     * @param upserted 적재·갱신 영향 행 수 (MySQL 기준: 신규 1, 변경 2, 동일 0)
+     * @param removed  삭제·소실 상담일지로 제거한 문서 수
+     */
+    public record RebuildResult(String tenantId, int upserted, int removed) {
+    }
+
+    /**
+     * 상담일지 1건을 색인한다. 삭제 상태면 문서를 제거한다.
+     *
+     * @param record 저장된 상담일지 (id 확정)
+     */
+    public void index(ConsultationRecord record) {
+        if (!properties.isEnabled() || record.getId() == null || record.getTenantId() == null) {
+            return;
+        }
+        if (Boolean.TRUE.equals(record.getIsDeleted())) {
+            remove(record.getTenantId(), record.getId());
+            return;
+        }
+        try {
+            jdbcTemplate.update(UPSERT_DOC, record.getTenantId(), record.getId(), record.getConsultationId(),
+                    record.getConsultantId(), record.getClientId(), Date.valueOf(record.getSessionDate()),
+                    record.getMainIssues(), record.getInterventionMethods(), record.getClientResponse(),
+                    record.getNextSessionPlan());
+        } catch (DataAccessException e) {
+            log.warn("상담일지 검색 색인 갱신 실패 (재색인으로 복구): recordId={}, error={}",
+                    record.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 상담일지 문서를 색인에서 제거한다.
+     *
+     * @param tenantId 테넌트
+     * @param recordId 상담일지 ID
+     */
+    public void remove(String tenantId, Long recordId) {
+        if (!properties.isEnabled() || tenantId == null || recordId == null) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(DELETE_DOC, tenantId, recordId);
+        } catch (DataAccessException e) {
+            log.warn("상담일지 검색 색인 제거 실패 (재색인으로 복구): recordId={}, error={}", recordId, e.getMessage());
+        }
+    }
+
+    /**
+     * 색인 검색. 관련도 내림차순, 동점은 최근 세션 우선.
+     *
+     * @param tenantId 테넌트
+     * @param owner    검색 범위
+     * @param ownerId  상담사 또는 내담자 ID
+     * @param query    해석된 검색어
+     * @param pageable 페이지 (정렬 조건은 무시)
+     * @return 검색 결과. 색인을 쓸 수 없으면 empty
+     */
+    public Optional<Page<ConsultationRecordSearchHit>> search(String tenantId, Owner owner, Long ownerId,
+            ConsultationRecordSearchQuery query, Pageable pageable) {
+        if (!properties.isEnabled() || !query.isIndexable()) {
+            return Optional.empty();
+        }
+        String against = query.toBooleanModeQuery();
+        String where = " FROM consultation_record_search_docs WHERE tenant_id = ? AND " + owner.column
+                + " = ? AND " + MATCH_CLAUSE;
+        String select = "SELECT record_id, consultation_id, consultant_id, client_id, session_date, main_issues, "
+                + "intervention_methods, client_response, next_session_plan, " + MATCH_CLAUSE + " AS score"
+                + where + " ORDER BY score DESC, session_date DESC, record_id DESC LIMIT ? OFFSET ?";
+        List<String> terms = query.highlightTerms();
+        try {
+            List<ConsultationRecordSearchHit> content = jdbcTemplate.query(select,
+                    (rs, rowNum) -> mapHit(rs, terms),
+                    against, tenantId, ownerId, against, pageable.getPageSize(), pageable.getOffset());
+            return Optional.of(PageableExecutionUtils.getPage(content, pageable, () -> {
+                Long total = jdbcTemplate.queryForObject("SELECT COUNT(*)" + where, Long.class,
+                        tenantId, ownerId, against);
+                return total == null ? 0L : total;
+            }));
+        } catch (DataAccessException e) {
+            log.warn("상담일지 색인 검색 실패 — LIKE 검색으로 대체: error={}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * LIKE 대체 검색 결과를 같은 형태로 변환한다 (관련도 0).
+     *
+     * @param record 상담일지
+     * @param query  해석된 검색어
+     * @return 검색 결과 1건
+     */
+    public ConsultationRecordSearchHit toHit(ConsultationRecord record, ConsultationRecordSearchQuery query) {
+        return new ConsultationRecordSearchHit(record.getId(), record.getConsultationId(), record.getConsultantId(),
+                record.getClientId(), record.getSessionDate(), 0d,
+                highlights(record.getMainIssues(), record.getInterventionMethods(), record.getClientResponse(),
+                        record.getNextSessionPlan(), query.highlightTerms()));
+    }
+
+    /**
+     * 테넌트 1곳을 id 구간 단위로 재색인한다 — 살아 있는 상담일지는 적재·갱신하고, 삭제되었거나 사라진
+     * 상담일지 문서는 제거한다. 구간마다 set-based SQL 2회라 대량 데이터도 애플리케이션 메모리를 쓰지 않는다.
+     *
+     * @param tenantId 테넌트
+     * @return 재색인 결과
+     */
+    public RebuildResult rebuild(String tenantId) {
+        Map<String, Object> range = jdbcTemplate.queryForMap(SELECT_ID_RANGE, tenantId, tenantId);
+        Number minId = (Number) range.get("min_id");
+        Number maxId = (Number) range.get("max_id");
+        if (minId == null || maxId == null) {
+            return new RebuildResult(tenantId, 0, 0);
+        }
+        int batchSize = Math.max(1, properties.getRebuildBatchSize());
+        int upserted = 0;
+        int removed = 0;
+        for (long from = minId.longValue(); from <= maxId.longValue(); from += batchSize) {
+            long to = from + batchSize - 1;
+            upserted += jdbcTemplate.update(REBUILD_UPSERT, tenantId, from, to);
+            removed += jdbcTemplate.update(REBUILD_PRUNE, tenantId, from, to);
+        }
+        log.info("상담일지 검색 재색인 완료: tenantId={}, upserted={}, removed={}", tenantId, upserted, removed);
+        return new RebuildResult(tenantId, upserted, removed);
+    }
+
+    /**
+     * 상담일지가 있는 모든 테넌트를 재색인한다.
+     *
+     * @return 테넌트별 재색인 결과
+     */
+    public List<RebuildResult> rebuildAll() {
+        List<RebuildResult> results = new ArrayList<>();
+        for (String tenantId : jdbcTemplate.queryForList(SELECT_TENANTS, String.class)) {
+            results.add(rebuild(tenantId));
+        }
+        return results;
+    }
+
+    private ConsultationRecordSearchHit mapHit(ResultSet rs, List<String> terms) throws SQLException {
+        Date sessionDate = rs.getDate("session_date");
+        return new ConsultationRecordSearchHit(rs.getLong("record_id"), rs.getLong("consultation_id"),
+                rs.getLong("consultant_id"), rs.getLong("client_id"),
+                sessionDate == null ? null : sessionDate.toLocalDate(), rs.getDouble("score"),
+                highlights(rs.getString("main_issues"), rs.getString("intervention_methods"),
+                        rs.getString("client_response"), rs.getString("next_session_plan"), terms));
+    }
+
+    private Map<String, String> highlights(String mainIssues, String interventionMethods, String clientResponse,
+            String nextSessionPlan, List<String> terms) {
+        int snippetLength = properties.getSnippetLength();
+        Map<String, String> highlights = new LinkedHashMap<>();
+        putIfMatched(highlights, FIELD_MAIN_ISSUES,
+                ConsultationRecordHighlighter.highlight(mainIssues, terms, snippetLength));
+        putIfMatched(highlights, FIELD_INTERVENTION_METHODS,
+                ConsultationRecordHighlighter.highlight(interventionMethods, terms, snippetLength));
+        putIfMatched(highlights, FIELD_CLIENT_RESPONSE,
+                ConsultationRecordHighlighter.highlight(clientResponse, terms, snippetLength));
+        putIfMatched(highlights, FIELD_NEXT_SESSION_PLAN,
+                ConsultationRecordHighlighter.highlight(nextSessionPlan, terms, snippetLength));
+        return highlights;
+    }
+
+    private static void putIfMatched(Map<String, String> highlights, String field, String snippet) {
+        if (snippet != null) {
+            highlights.put(field, snippet);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.coresolution.consultation.service.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 상담일지 검색어 해석 결과 (불변).
+ *
+ * <p>입력을 공백으로 나누고 FULLTEXT BOOLEAN MODE 연산자 문자({@code + - < > ( ) ~ * " @})는 공백으로
+ * 치환해 사용자가 질의 문법을 주입하지 못하게 한다. 최소 길이 이상인 검색어만 색인 질의에 쓰며
+ * (ngram 토큰보다 짧은 검색어는 색인으로 찾을 수 없음), 모든 검색어가 이보다 짧으면
+ * {@link #isIndexable()} 가 false 가 되어 호출 측이 LIKE 검색으로 대체한다.</p>
+ *
+ * @param keyword 원본 검색어 (trim)
+ * @param terms   색인 질의용 검색어 (중복 제거, 입력 순서)
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public record ConsultationRecordSearchQuery(String keyword, List<String> terms) {
+
+    private static final String BOOLEAN_OPERATORS = "+-<>()~*\"@";
+
+    public ConsultationRecordSearchQuery {
+        terms = List.copyOf(terms);
+    }
+
+    /**
+     * 검색어를 해석한다.
+     *
+     * @param keyword       사용자 입력 (null 허용)
+     * @param minTermLength 색인 대상 최소 검색어 길이
+     * @param maxTerms      최대 검색어 수
+     * @return 해석 결과
+     */
+    public static ConsultationRecordSearchQuery parse(String keyword, int minTermLength, int maxTerms) {
+        String trimmed = keyword == null ? "" : keyword.trim();
+        StringBuilder cleaned = new StringBuilder(trimmed.length());
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            cleaned.append(BOOLEAN_OPERATORS.indexOf(c) >= 0 ? ' ' : c);
+        }
+        Set<String> unique = new LinkedHashSet<>();
+        for (String token : cleaned.toString().split("\\s+")) {
+            if (token.codePointCount(0, token.length()) >= minTermLength) {
+                unique.add(token.toLowerCase(Locale.ROOT));
+            }
+            if (unique.size() >= maxTerms) {
+                break;
+            }
+        }
+        return new ConsultationRecordSearchQuery(trimmed, new ArrayList<>(unique));
+    }
+
+    /**
+     * @return 색인 질의 가능 여부
+     */
+    public boolean isIndexable() {
+        return !terms.isEmpty();
+    }
+
+    /**
+     * 하이라이트에 쓸 검색어 — 색인 검색어가 없으면(LIKE 대체) 원본 검색어 전체.
+     *
+     * @return 소문자 검색어 목록
+     */
+    public List<String> highlightTerms() {
+        if (!terms.isEmpty() || keyword.isEmpty()) {
+            return terms;
+        }
+        return List.of(keyword.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * 모든 검색어를 포함해야 하는 BOOLEAN MODE 질의 — 검색어마다 {@code +"..."} 구문으로 묶어
+     * ngram 조각이 연속으로 나타나는 문서만 찾는다.
+     *
+     * @return {@code AGAINST (? IN BOOLEAN MODE)} 인자
+     */
+    public String toBooleanModeQuery() {
+        StringBuilder builder = new StringBuilder();
+        for (String term : terms) {
+            if (builder.length() > 0) {
+                builder.append(' ');
+            }
+            builder.append("+\"").append(term).append('"');
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,63 @@
+package com.coresolution.consultation.service.stt;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 녹음 1건의 청크 분할 계획 ({@link SilenceChunker} 결과).
+ *
+ * <p>청크 PCM 은 계획에 들고 있지 않고 전사 직전에 파일에서 위치 지정 읽기로 가져온다 — 동시에 메모리에 있는
+ * 오디오는 실행 중인 청크 수만큼이다. {@code fingerprint} 는 파일 크기·형식·청크 경계로 만든 값이라 같은 파일을
+ * 같은 설정으로 다시 나누면 같고, 체크포인트가 다른 계획의 청크를 섞어 쓰지 않게 한다.</p>
+ *
+ * @param file        WAV 파일
+ * @param sampleRate  샘플링 레이트 (Hz)
+ * @param channels    채널 수
+ * @param durationMs  전체 길이 (ms)
+ * @param chunks      청크 (시작 순)
+ * @param fingerprint 계획 지문 (SHA-256 hex)
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public record AudioChunkPlan(Path file, int sampleRate, int channels, long durationMs, List<AudioChunk> chunks,
+        String fingerprint) {
+
+    /**
+     * 청크 1개. 시각은 녹음 시작 기준이며 앞뒤 겹침을 포함한다.
+     *
+     * @param index      순번 (0부터)
+     * @param startMs    시작 (ms)
+     * @param endMs      끝 (ms)
+     * @param byteOffset 파일 내 PCM 시작 위치
+     * @param byteLength PCM 바이트 수
+     */
+    public record AudioChunk(int index, long startMs, long endMs, long byteOffset, int byteLength) {
+    }
+
+    /**
+     * 청크 PCM 을 파일에서 읽는다.
+     *
+     * @param chunk 청크
+     * @return 청크 오디오
+     * @throws IOException 읽기 실패·파일이 계획보다 짧음
+     */
+    public PcmAudio read(AudioChunk chunk) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(chunk.byteLength());
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long position = chunk.byteOffset();
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position);
+                if (read < 0) {
+                    throw new EOFException("청크 범위가 파일 끝을 넘습니다: chunk=" + chunk.index());
+                }
+                position += read;
+            }
+        }
+        return new PcmAudio(buffer.array(), sampleRate, channels);
+    }
+}
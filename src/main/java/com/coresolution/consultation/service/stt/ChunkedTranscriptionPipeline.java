@@ -0,0 +1,244 @@
+package com.coresolution.consultation.service.stt;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import com.coresolution.consultation.config.SttPipelineProperties;
+import com.coresolution.consultation.entity.ConsultationAudioFile;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 긴 상담 녹음 청크 병렬 전사.
+ *
+ * <ol>
+ *   <li>{@link SilenceChunker} 로 무음 구간에서 겹치는 청크 계획을 만든다 (PCM 은 읽지 않음)</li>
+ *   <li>계획 지문이 같은 체크포인트가 있는 청크는 인식하지 않는다 — 실패 후 재시도는 남은 청크만 인식</li>
+ *   <li>남은 청크를 {@code stt-chunk} bulkhead 에서 동시에 인식한다. 청크 PCM 은 실행 직전에 파일에서 읽으므로
+ *       메모리에는 실행 중인 청크만 있고, 포화 시 제출 스레드가 직접 인식(CALLER_RUNS)해 제출 속도가 늦춰진다</li>
+ *   <li>청크마다 {@code chunk-attempts} 번까지 시도하고, 끝나면 바로 체크포인트로 저장한다</li>
+ *   <li>끝난 청크는 순서가 이어지는 만큼 {@link TranscriptStitcher} 로 겹침 중복을 지우며 붙이고, 확정 세그먼트를
+ *       순서대로 수신자에 전달한다 (위험 감지는 전체 전사를 기다리지 않음)</li>
+ * </ol>
+ *
+ * <p>한 청크가 끝내 실패하면 아직 시작하지 않은 청크는 건너뛰고, 실행 중인 청크가 끝나 체크포인트를 남길 때까지
+ * 기다린 뒤 실패를 던진다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChunkedTranscriptionPipeline {
+
+    static final String METRIC_CHUNKS = "clinical.stt.chunks";
+
+    /** 겹침 구간 발화 속도 상한 (단어/초) — 중복으로 비교할 단어 수 산정용 */
+    private static final int MAX_WORDS_PER_SECOND = 4;
+
+    private static final long RETRY_BACKOFF_MILLIS = 500;
+
+    private final SttPipelineProperties properties;
+    private final SilenceChunker chunker;
+    private final SpeechRecognizer recognizer;
+    private final TranscriptionCheckpointStore checkpointStore;
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    @Qualifier("sttChunkExecutor")
+    private final Executor sttChunkExecutor;
+
+    /**
+     * 청크 전사 결과.
+     *
+     * @param text              이어 붙인 전사문
+     * @param averageConfidence 세그먼트 평균 신뢰도 (0.0~1.0)
+     * @param segmentCount      세그먼트 수
+     * @param chunkCount        청크 수
+     * @param resumedChunks     체크포인트에서 가져온 청크 수
+     * @param provider          인식 제공자
+     * @param model             인식 모델
+     */
+    public record Result(String text, double averageConfidence, int segmentCount, int chunkCount,
+            int resumedChunks, String provider, String model) {
+    }
+
+    /**
+     * 녹음을 청크로 나눠 전사한다.
+     *
+     * @param audioFile 음성 파일
+     * @param listener  확정 세그먼트 수신자 (녹음 순서대로 호출)
+     * @return 전사 결과. 비활성이거나 나눌 수 없는 녹음(16-bit PCM WAV 아님·짧음)이면 empty
+     * @throws IOException 파일 읽기 실패 또는 청크 인식 최종 실패 (끝난 청크는 체크포인트에 남음)
+     */
+    public Optional<Result> transcribe(ConsultationAudioFile audioFile, TranscriptSegmentListener listener)
+            throws IOException {
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+        Optional<AudioChunkPlan> planned = chunker.plan(Paths.get(audioFile.getFilePath()));
+        if (planned.isEmpty()) {
+            return Optional.empty();
+        }
+        AudioChunkPlan plan = planned.get();
+        String tenantId = audioFile.getTenantId();
+        Long audioFileId = audioFile.getId();
+        Map<Integer, List<TranscriptSegment>> restored =
+                checkpointStore.load(tenantId, audioFileId, plan.fingerprint());
+        log.info("🎤 청크 전사 시작: audioFileId={}, durationMs={}, chunks={}, resumed={}", audioFileId,
+                plan.durationMs(), plan.chunks().size(), restored.size());
+
+        OrderedStitch stitch = new OrderedStitch(plan.chunks(), listener, audioFileId, maxOverlapWords());
+        AtomicBoolean failed = new AtomicBoolean();
+        List<CompletableFuture<Void>> running = new ArrayList<>();
+        int resumed = 0;
+        for (AudioChunkPlan.AudioChunk chunk : plan.chunks()) {
+            List<TranscriptSegment> done = restored.get(chunk.index());
+            if (done != null) {
+                resumed++;
+                count("resumed");
+                stitch.complete(chunk, done);
+                continue;
+            }
+            running.add(CompletableFuture.runAsync(() -> {
+                if (failed.get()) {
+                    throw new CancellationException("앞선 청크 실패로 건너뜀");
+                }
+                List<TranscriptSegment> segments = recognizeWithRetry(plan, chunk, audioFileId);
+                checkpointStore.save(tenantId, audioFileId, plan.fingerprint(), chunk, segments);
+                stitch.complete(chunk, segments);
+            }, sttChunkExecutor).whenComplete((ignored, error) -> {
+                if (error != null) {
+                    failed.set(true);
+                }
+            }));
+        }
+        awaitAll(running);
+        return Optional.of(new Result(stitch.stitcher.text(), stitch.stitcher.averageConfidence(),
+                stitch.stitcher.segmentCount(), plan.chunks().size(), resumed, recognizer.provider(),
+                recognizer.model()));
+    }
+
+    /**
+     * 전사 결과 저장이 끝난 음성 파일의 체크포인트를 지운다.
+     *
+     * @param audioFile 음성 파일
+     */
+    public void clearCheckpoints(ConsultationAudioFile audioFile) {
+        checkpointStore.clear(audioFile.getTenantId(), audioFile.getId());
+    }
+
+    private List<TranscriptSegment> recognizeWithRetry(AudioChunkPlan plan, AudioChunkPlan.AudioChunk chunk,
+            Long audioFileId) {
+        int attempts = Math.max(1, properties.getChunkAttempts());
+        Exception last = null;
+        try {
+            PcmAudio audio = plan.read(chunk);
+            for (int attempt = 1; attempt <= attempts; attempt++) {
+                try {
+                    List<TranscriptSegment> segments = recognizer.recognize(audio);
+                    count("recognized");
+                    return segments;
+                } catch (IOException | RuntimeException e) {
+                    last = e;
+                    log.warn("청크 인식 실패: audioFileId={}, chunk={}, attempt={}/{}, error={}", audioFileId,
+                            chunk.index(), attempt, attempts, e.getMessage());
+                    if (attempt < attempts) {
+                        Thread.sleep(RETRY_BACKOFF_MILLIS * attempt);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            last = e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            last = e;
+        }
+        count("failed");
+        throw new CompletionException(new IOException("청크 " + chunk.index() + " 인식 실패: "
+                + (last != null ? last.getMessage() : "unknown"), last));
+    }
+
+    private static void awaitAll(List<CompletableFuture<Void>> running) throws IOException {
+        Throwable failure = null;
+        for (CompletableFuture<Void> future : running) {
+            try {
+                future.join();
+            } catch (CompletionException | CancellationException e) {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                if (failure == null || failure instanceof CancellationException) {
+                    failure = cause;
+                }
+            }
+        }
+        if (failure instanceof IOException io) {
+            throw io;
+        }
+        if (failure != null) {
+            throw new IOException("청크 전사 실패: " + failure.getMessage(), failure);
+        }
+    }
+
+    private int maxOverlapWords() {
+        long overlapSeconds = Math.max(1, (properties.getOverlap().toMillis() * 2 + 999) / 1000);
+        return (int) (overlapSeconds * MAX_WORDS_PER_SECOND);
+    }
+
+    private void count(String result) {
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        if (registry != null) {
+            registry.counter(METRIC_CHUNKS, "result", result).increment();
+        }
+    }
+
+    /**
+     * 끝난 청크를 순서가 이어지는 만큼만 붙이고 세그먼트를 전달한다. 청크 실행 스레드들이 동시에 부르므로 잠근다.
+     */
+    private static final class OrderedStitch {
+
+        private final List<AudioChunkPlan.AudioChunk> chunks;
+        private final List<List<TranscriptSegment>> finished;
+        private final TranscriptSegmentListener listener;
+        private final Long audioFileId;
+        private final TranscriptStitcher stitcher;
+        private int next;
+
+        private OrderedStitch(List<AudioChunkPlan.AudioChunk> chunks, TranscriptSegmentListener listener,
+                Long audioFileId, int maxOverlapWords) {
+            this.chunks = chunks;
+            this.finished = new ArrayList<>(Collections.nCopies(chunks.size(), null));
+            this.listener = listener;
+            this.audioFileId = audioFileId;
+            this.stitcher = new TranscriptStitcher(maxOverlapWords);
+        }
+
+        private synchronized void complete(AudioChunkPlan.AudioChunk chunk, List<TranscriptSegment> segments) {
+            finished.set(chunk.index(), segments);
+            while (next < chunks.size() && finished.get(next) != null) {
+                for (TranscriptSegment segment : stitcher.append(chunks.get(next), finished.get(next))) {
+                    try {
+                        listener.onSegment(segment);
+                    } catch (RuntimeException e) {
+                        log.warn("전사 세그먼트 처리 실패 (전사는 계속): audioFileId={}, segment={}, error={}",
+                                audioFileId, segment.sequence(), e.getMessage());
+                    }
+                }
+                finished.set(next, null);
+                next++;
+            }
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.coresolution.consultation.service.stt;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import com.google.api.gax.rpc.ClientStream;
+import com.google.api.gax.rpc.ResponseObserver;
+import com.google.api.gax.rpc.StreamController;
+import com.google.cloud.speech.v1.RecognitionConfig;
+import com.google.cloud.speech.v1.SpeechClient;
+import com.google.cloud.speech.v1.SpeechRecognitionAlternative;
+import com.google.cloud.speech.v1.StreamingRecognitionConfig;
+import com.google.cloud.speech.v1.StreamingRecognitionResult;
+import com.google.cloud.speech.v1.StreamingRecognizeRequest;
+import com.google.cloud.speech.v1.StreamingRecognizeResponse;
+import com.google.protobuf.ByteString;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Google Cloud Speech-to-Text 청크 인식기.
+ *
+ * <p>청크 PCM 을 16KB 조각으로 스트리밍 인식에 보내고 확정 결과만 세그먼트로 돌려준다. {@link SpeechClient} 는
+ * 스레드 안전하므로 처음 쓸 때 하나 만들어 모든 청크가 공유하고 종료 시 닫는다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Slf4j
+@Component
+public class GoogleSpeechRecognizer implements SpeechRecognizer {
+
+    static final String PROVIDER = "GOOGLE_SPEECH";
+    static final String MODEL = "latest_long";
+    private static final String LANGUAGE_CODE = "ko-KR";
+
+    /** 스트리밍 요청 1건의 오디오 크기 (API 권장 상한 25KB 이하). */
+    private static final int STREAM_CHUNK_BYTES = 16 * 1024;
+
+    /** 청크 1개 응답 대기 상한. */
+    private static final long CHUNK_TIMEOUT_SECONDS = 180;
+
+    private volatile SpeechClient speechClient;
+
+    @Override
+    public List<TranscriptSegment> recognize(PcmAudio audio) throws IOException {
+        RecognitionConfig config = RecognitionConfig.newBuilder()
+                .setEncoding(RecognitionConfig.AudioEncoding.LINEAR16)
+                .setSampleRateHertz(audio.sampleRate())
+                .setAudioChannelCount(audio.channels())
+                .setLanguageCode(LANGUAGE_CODE)
+                .setEnableAutomaticPunctuation(true)
+                .setModel(MODEL)
+                .build();
+        ChunkResults results = new ChunkResults();
+        ClientStream<StreamingRecognizeRequest> requestStream =
+                client().streamingRecognizeCallable().splitCall(results);
+        requestStream.send(StreamingRecognizeRequest.newBuilder()
+                .setStreamingConfig(StreamingRecognitionConfig.newBuilder().setConfig(config).build())
+                .build());
+        byte[] data = audio.data();
+        for (int offset = 0; offset < data.length; offset += STREAM_CHUNK_BYTES) {
+            requestStream.send(StreamingRecognizeRequest.newBuilder()
+                    .setAudioContent(ByteString.copyFrom(data, offset, Math.min(STREAM_CHUNK_BYTES,
+                            data.length - offset)))
+                    .build());
+        }
+        requestStream.closeSend();
+        return results.await();
+    }
+
+    @Override
+    public String provider() {
+        return PROVIDER;
+    }
+
+    @Override
+    public String model() {
+        return MODEL;
+    }
+
+    private SpeechClient client() throws IOException {
+        SpeechClient client = speechClient;
+        if (client == null) {
+            synchronized (this) {
+                client = speechClient;
+                if (client == null) {
+                    client = SpeechClient.create();
+                    speechClient = client;
+                }
+            }
+        }
+        return client;
+    }
+
+    @PreDestroy
+    public void close() {
+        SpeechClient client = speechClient;
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    /**
+     * 청크 1개 스트리밍 응답 수집기. 응답 콜백은 gRPC 스레드에서 순차 호출되며 결과는 {@link #await()} 이후에만 읽는다.
+     */
+    private static final class ChunkResults implements ResponseObserver<StreamingRecognizeResponse> {
+
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private final List<TranscriptSegment> segments = new ArrayList<>();
+        private long lastEndMs;
+
+        @Override
+        public void onStart(StreamController controller) {
+        }
+
+        @Override
+        public void onResponse(StreamingRecognizeResponse response) {
+            for (StreamingRecognitionResult result : response.getResultsList()) {
+                if (!result.getIsFinal() || result.getAlternativesCount() == 0) {
+                    continue;
+                }
+                SpeechRecognitionAlternative alternative = result.getAlternatives(0);
+                long endMs = result.getResultEndTime().getSeconds() * 1000
+                        + result.getResultEndTime().getNanos() / 1_000_000;
+                segments.add(new TranscriptSegment(segments.size(), alternative.getTranscript(), lastEndMs, endMs,
+                        alternative.getConfidence()));
+                lastEndMs = endMs;
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            done.completeExceptionally(t);
+        }
+
+        @Override
+        public void onComplete() {
+            done.complete(null);
+        }
+
+        private List<TranscriptSegment> await() throws IOException {
+            try {
+                done.get(CHUNK_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                return segments;
+            } catch (ExecutionException e) {
+                throw new IOException("청크 음성 인식 실패: " + e.getCause().getMessage(), e.getCause());
+            } catch (TimeoutException e) {
+                throw new IOException("청크 음성 인식 응답 시간 초과", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("청크 음성 인식 대기 중 인터럽트", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.coresolution.consultation.service.stt;
+
+/**
+ * 인식기에 넘기는 PCM 오디오 조각 (signed 16-bit little-endian, 채널 interleave).
+ *
+ * @param data       PCM 바이트
+ * @param sampleRate 샘플링 레이트 (Hz)
+ * @param channels   채널 수
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public record PcmAudio(byte[] data, int sampleRate, int channels) {
+
+    /** 샘플 1개 바이트 수 (16-bit). */
+    public static final int BYTES_PER_SAMPLE = 2;
+
+    /**
+     * @return 프레임(모든 채널 샘플 1개씩) 바이트 수
+     */
+    public int frameBytes() {
+        return BYTES_PER_SAMPLE * channels;
+    }
+
+    /**
+     * @param bytes 바이트 수
+     * @return 해당 바이트 수의 재생 길이 (ms)
+     */
+    public long millisOf(long bytes) {
+        return bytes / frameBytes() * 1000L / sampleRate;
+    }
+}
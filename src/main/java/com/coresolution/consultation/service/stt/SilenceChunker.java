@@ -0,0 +1,255 @@
+package com.coresolution.consultation.service.stt;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import com.coresolution.consultation.config.SttPipelineProperties;
+import org.springframework.stereotype.Component;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PCM WAV 녹음을 무음 구간에서 겹치는 청크로 나눈다.
+ *
+ * <p>파일을 한 번 순차로 읽어 20ms 프레임 에너지(dBFS)만 남기고, 청크마다 [최소, 최대] 길이 구간에서 주변 200ms 가
+ * 무음 기준 이하인 지점 중 목표 길이에 가장 가까운 곳을 자른다. 무음이 없으면 구간에서 가장 조용한 지점을 자른다.
+ * 각 청크는 앞뒤로 겹침만큼 이웃 청크 오디오를 더 가진다.</p>
+ *
+ * <p>16-bit PCM WAV 가 아니거나(압축 형식 등) 최소 길이보다 짧으면 계획을 만들지 않는다 — 호출 측은 파일 전체를
+ * 한 번에 전사한다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Component
+@RequiredArgsConstructor
+public class SilenceChunker {
+
+    static final int FRAME_MILLIS = 20;
+
+    /** 자를 지점 앞뒤로 조용해야 하는 프레임 수 (±100ms) */
+    private static final int QUIET_RADIUS_FRAMES = 5;
+
+    private static final int WAVE_FORMAT_PCM = 1;
+    private static final double FULL_SCALE_SQUARED = 32768.0 * 32768.0;
+    private static final float DIGITAL_SILENCE_DB = -120f;
+
+    private final SttPipelineProperties properties;
+
+    /**
+     * 청크 계획을 만든다.
+     *
+     * @param wavFile 녹음 파일
+     * @return 계획. 16-bit PCM WAV 가 아니거나 최소 길이보다 짧으면 empty
+     * @throws IOException 파일 읽기 실패
+     */
+    public Optional<AudioChunkPlan> plan(Path wavFile) throws IOException {
+        Optional<WavLayout> parsed = readLayout(wavFile);
+        if (parsed.isEmpty()) {
+            return Optional.empty();
+        }
+        WavLayout layout = parsed.get();
+        long durationMs = layout.dataLength() / layout.blockAlign() * 1000L / layout.sampleRate();
+        if (durationMs < properties.getMinDuration().toMillis()) {
+            return Optional.empty();
+        }
+        int frameBytes = layout.sampleRate() * FRAME_MILLIS / 1000 * layout.blockAlign();
+        float[] energy = frameEnergies(wavFile, layout, frameBytes);
+        List<Integer> cuts = chooseCuts(energy);
+
+        int overlapFrames = (int) (properties.getOverlap().toMillis() / FRAME_MILLIS);
+        long dataEnd = layout.dataOffset() + layout.dataLength();
+        List<AudioChunkPlan.AudioChunk> chunks = new ArrayList<>();
+        int coreStart = 0;
+        for (int i = 0; i <= cuts.size(); i++) {
+            int coreEnd = i < cuts.size() ? cuts.get(i) : energy.length;
+            int spanStart = Math.max(0, coreStart - overlapFrames);
+            int spanEnd = Math.min(energy.length, coreEnd + overlapFrames);
+            long byteStart = layout.dataOffset() + (long) spanStart * frameBytes;
+            long byteEnd = Math.min(dataEnd, layout.dataOffset() + (long) spanEnd * frameBytes);
+            chunks.add(new AudioChunkPlan.AudioChunk(i, millisAt(layout, byteStart), millisAt(layout, byteEnd),
+                    byteStart, (int) (byteEnd - byteStart)));
+            coreStart = coreEnd;
+        }
+        return Optional.of(new AudioChunkPlan(wavFile, layout.sampleRate(), layout.channels(), durationMs,
+                List.copyOf(chunks), fingerprint(wavFile, layout, chunks)));
+    }
+
+    /**
+     * 프레임 에너지 배열에서 자를 프레임 위치를 고른다.
+     */
+    List<Integer> chooseCuts(float[] energy) {
+        int minFrames = framesOf(properties.getMinChunk().toMillis());
+        int targetFrames = framesOf(properties.getTargetChunk().toMillis());
+        int maxFrames = Math.max(minFrames + 1, framesOf(properties.getMaxChunk().toMillis()));
+        List<Integer> cuts = new ArrayList<>();
+        int position = 0;
+        while (energy.length - position > maxFrames) {
+            int cut = chooseCut(energy, position + minFrames, position + maxFrames, position + targetFrames);
+            cuts.add(cut);
+            position = cut;
+        }
+        return cuts;
+    }
+
+    private int chooseCut(float[] energy, int from, int to, int target) {
+        int best = -1;
+        float bestLoudness = Float.MAX_VALUE;
+        int bestSilent = -1;
+        for (int i = from; i <= to; i++) {
+            float loudness = loudestAround(energy, i);
+            if (loudness <= properties.getSilenceThresholdDbfs()
+                    && (bestSilent < 0 || Math.abs(i - target) < Math.abs(bestSilent - target))) {
+                bestSilent = i;
+            }
+            if (loudness < bestLoudness
+                    || (loudness == bestLoudness && Math.abs(i - target) < Math.abs(best - target))) {
+                bestLoudness = loudness;
+                best = i;
+            }
+        }
+        return bestSilent >= 0 ? bestSilent : best;
+    }
+
+    private static float loudestAround(float[] energy, int center) {
+        float loudest = DIGITAL_SILENCE_DB;
+        int from = Math.max(0, center - QUIET_RADIUS_FRAMES);
+        int to = Math.min(energy.length, center + QUIET_RADIUS_FRAMES);
+        for (int i = from; i < to; i++) {
+            loudest = Math.max(loudest, energy[i]);
+        }
+        return loudest;
+    }
+
+    private static int framesOf(long millis) {
+        return (int) (millis / FRAME_MILLIS);
+    }
+
+    private static long millisAt(WavLayout layout, long byteOffset) {
+        return (byteOffset - layout.dataOffset()) / layout.blockAlign() * 1000L / layout.sampleRate();
+    }
+
+    private static float[] frameEnergies(Path wavFile, WavLayout layout, int frameBytes) throws IOException {
+        int frames = (int) ((layout.dataLength() + frameBytes - 1) / frameBytes);
+        float[] energy = new float[frames];
+        byte[] frame = new byte[frameBytes];
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(wavFile), 64 * 1024)) {
+            in.skipNBytes(layout.dataOffset());
+            long remaining = layout.dataLength();
+            for (int f = 0; f < frames; f++) {
+                int length = (int) Math.min(frameBytes, remaining);
+                int read = in.readNBytes(frame, 0, length);
+                remaining -= read;
+                energy[f] = decibels(frame, read);
+                if (read < length) {
+                    break;
+                }
+            }
+        }
+        return energy;
+    }
+
+    private static float decibels(byte[] pcm, int length) {
+        int samples = length / PcmAudio.BYTES_PER_SAMPLE;
+        if (samples == 0) {
+            return DIGITAL_SILENCE_DB;
+        }
+        double sum = 0;
+        for (int i = 0; i + 1 < length; i += PcmAudio.BYTES_PER_SAMPLE) {
+            int sample = (short) ((pcm[i] & 0xFF) | (pcm[i + 1] << 8));
+            sum += (double) sample * sample;
+        }
+        double meanSquare = sum / samples;
+        if (meanSquare <= 0) {
+            return DIGITAL_SILENCE_DB;
+        }
+        return (float) Math.max(DIGITAL_SILENCE_DB, 10 * Math.log10(meanSquare / FULL_SCALE_SQUARED));
+    }
+
+    private static String fingerprint(Path wavFile, WavLayout layout, List<AudioChunkPlan.AudioChunk> chunks)
+            throws IOException {
+        StringBuilder source = new StringBuilder()
+                .append(Files.size(wavFile)).append('|').append(layout.sampleRate()).append('|')
+                .append(layout.channels());
+        for (AudioChunkPlan.AudioChunk chunk : chunks) {
+            source.append('|').append(chunk.byteOffset()).append(':').append(chunk.byteLength());
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(source.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * RIFF/WAVE 헤더에서 16-bit PCM {@code fmt } 와 {@code data} 위치를 찾는다.
+     */
+    private static Optional<WavLayout> readLayout(Path wavFile) throws IOException {
+        long fileSize = Files.size(wavFile);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(wavFile))) {
+            byte[] riff = in.readNBytes(12);
+            if (riff.length < 12 || !"RIFF".equals(ascii(riff, 0)) || !"WAVE".equals(ascii(riff, 8))) {
+                return Optional.empty();
+            }
+            long position = 12;
+            int channels = 0;
+            int sampleRate = 0;
+            int blockAlign = 0;
+            boolean pcm16 = false;
+            byte[] header = new byte[8];
+            while (in.readNBytes(header, 0, 8) == 8) {
+                position += 8;
+                String id = ascii(header, 0);
+                long size = littleEndianInt(header, 4) & 0xFFFFFFFFL;
+                if ("fmt ".equals(id)) {
+                    byte[] fmt = in.readNBytes((int) Math.min(size, 64));
+                    if (fmt.length < 16) {
+                        return Optional.empty();
+                    }
+                    int format = littleEndianShort(fmt, 0);
+                    channels = littleEndianShort(fmt, 2);
+                    sampleRate = littleEndianInt(fmt, 4);
+                    blockAlign = littleEndianShort(fmt, 12);
+                    pcm16 = format == WAVE_FORMAT_PCM && littleEndianShort(fmt, 14) == 16 && channels > 0
+                            && sampleRate > 0 && blockAlign == channels * PcmAudio.BYTES_PER_SAMPLE;
+                    in.skipNBytes(size + (size & 1) - fmt.length);
+                } else if ("data".equals(id)) {
+                    if (!pcm16) {
+                        return Optional.empty();
+                    }
+                    long length = Math.min(size, fileSize - position);
+                    length -= length % blockAlign;
+                    return Optional.of(new WavLayout(sampleRate, channels, blockAlign, position, length));
+                } else {
+                    in.skipNBytes(size + (size & 1));
+                }
+                position += size + (size & 1);
+            }
+            return Optional.empty();
+        }
+    }
+
+    private static String ascii(byte[] bytes, int offset) {
+        return new String(bytes, offset, 4, StandardCharsets.US_ASCII);
+    }
+
+    private static int littleEndianShort(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFF) | (bytes[offset + 1] & 0xFF) << 8;
+    }
+
+    private static int littleEndianInt(byte[] bytes, int offset) {
+        return littleEndianShort(bytes, offset) | littleEndianShort(bytes, offset + 2) << 16;
+    }
+
+    private record WavLayout(int sampleRate, int channels, int blockAlign, long dataOffset, long dataLength) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.coresolution.consultation.service.stt;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 청크 1개 음성 인식기 — 청크 병렬 전사({@link ChunkedTranscriptionPipeline})가 호출한다.
+ *
+ * <p>여러 스레드에서 동시에 호출되므로 구현은 스레드 안전해야 한다. 반환하는 세그먼트의 시각은 조각 시작 기준(ms)이고
+ * 순번은 조각 안에서 0부터다. 운영 구현은 {@link GoogleSpeechRecognizer}, 테스트는 로컬 가짜 인식기를 쓴다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public interface SpeechRecognizer {
+
+    /**
+     * @param audio 청크 PCM
+     * @return 확정 세그먼트 (조각 기준 시각)
+     * @throws IOException 인식 API 호출 실패
+     */
+    List<TranscriptSegment> recognize(PcmAudio audio) throws IOException;
+
+    /**
+     * @return 전사 결과에 기록할 제공자 (예: GOOGLE_SPEECH)
+     */
+    String provider();
+
+    /**
+     * @return 전사 결과에 기록할 모델
+     */
+    String model();
+}
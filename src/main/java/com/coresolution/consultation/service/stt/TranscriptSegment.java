@@ -0,0 +1,15 @@
+package com.coresolution.consultation.service.stt;
+
+/**
+ * 확정된 전사 세그먼트 1개 (STT 최종 결과 단위).
+ *
+ * @param sequence   전사 내 순번 (0부터)
+ * @param text       세그먼트 텍스트
+ * @param startMs    오디오 기준 시작 위치 (ms)
+ * @param endMs      오디오 기준 끝 위치 (ms)
+ * @param confidence 인식 신뢰도 (0.0~1.0)
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public record TranscriptSegment(int sequence, String text, long startMs, long endMs, float confidence) {
+}
@@ -0,0 +1,27 @@
+package com.coresolution.consultation.service.stt;
+
+/**
+ * 전사 세그먼트 수신자 — STT 가 세그먼트를 확정하는 즉시 순서대로 호출한다.
+ *
+ * <p>호출 스레드는 STT 응답 스레드이므로 구현은 오래 막히지 않아야 한다 (AI 호출 등은 별도 실행기로).
+ * 구현에서 던진 예외는 전사를 중단시키지 않고 로그만 남긴다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public interface TranscriptSegmentListener {
+
+    /** 아무것도 하지 않는 수신자. */
+    TranscriptSegmentListener NONE = segment -> { };
+
+    /**
+     * @param segment 확정 세그먼트
+     */
+    void onSegment(TranscriptSegment segment);
+
+    /**
+     * 전사 종료 (성공·실패 무관, 1회).
+     */
+    default void onComplete() {
+    }
+}
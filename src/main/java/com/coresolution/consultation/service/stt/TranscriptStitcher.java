@@ -0,0 +1,122 @@
+package com.coresolution.consultation.service.stt;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 청크별 전사 결과를 녹음 순서대로 이어 붙인다.
+ *
+ * <p>이웃 청크는 겹침 구간을 양쪽에서 인식하므로 앞 청크 끝 단어열과 다음 청크 첫 단어열이 같게 나온다. 다음 청크를
+ * 붙일 때 지금까지 붙인 마지막 단어들의 접미사와 다음 청크 앞 단어들의 접두사가 일치하는 가장 긴 길이만큼 다음
+ * 청크 앞 단어를 버린다. 단어 비교는 문장부호를 떼고 소문자로 한다. 겹침보다 긴 중복은 없으므로 비교할 단어 수는
+ * {@code maxOverlapWords} 로 제한한다.</p>
+ *
+ * <p>청크는 순서대로 한 번씩 {@link #append(AudioChunkPlan.AudioChunk, List)} 해야 하며, 세그먼트 시각은 녹음 기준으로
+ * 옮기고 순번은 전체에서 다시 매긴다. 스레드 안전하지 않다 — 호출 측이 순서를 맞춰 한 스레드씩 부른다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public class TranscriptStitcher {
+
+    private final int maxOverlapWords;
+    private final Deque<String> tailWords = new ArrayDeque<>();
+    private final StringBuilder text = new StringBuilder();
+    private int sequence;
+    private double totalConfidence;
+
+    /**
+     * @param maxOverlapWords 겹침 중복으로 볼 최대 단어 수
+     */
+    public TranscriptStitcher(int maxOverlapWords) {
+        this.maxOverlapWords = Math.max(1, maxOverlapWords);
+    }
+
+    /**
+     * 다음 청크를 붙인다.
+     *
+     * @param chunk    청크 (녹음 기준 시작 시각)
+     * @param segments 청크 기준 세그먼트
+     * @return 이번에 확정된 세그먼트 (녹음 기준 시각, 전체 순번)
+     */
+    public List<TranscriptSegment> append(AudioChunkPlan.AudioChunk chunk, List<TranscriptSegment> segments) {
+        List<String[]> words = new ArrayList<>(segments.size());
+        List<String> head = new ArrayList<>();
+        for (TranscriptSegment segment : segments) {
+            String[] split = splitWords(segment.text());
+            words.add(split);
+            for (int i = 0; i < split.length && head.size() < maxOverlapWords; i++) {
+                head.add(normalize(split[i]));
+            }
+        }
+        int drop = overlapLength(head);
+
+        List<TranscriptSegment> emitted = new ArrayList<>();
+        for (int s = 0; s < segments.size(); s++) {
+            String[] split = words.get(s);
+            int skip = Math.min(drop, split.length);
+            drop -= skip;
+            if (skip == split.length) {
+                continue;
+            }
+            TranscriptSegment segment = segments.get(s);
+            String kept = String.join(" ", Arrays.copyOfRange(split, skip, split.length));
+            TranscriptSegment stitched = new TranscriptSegment(sequence++, kept,
+                    chunk.startMs() + segment.startMs(), chunk.startMs() + segment.endMs(), segment.confidence());
+            emitted.add(stitched);
+            totalConfidence += segment.confidence();
+            text.append(kept).append(' ');
+            for (int i = skip; i < split.length; i++) {
+                tailWords.addLast(normalize(split[i]));
+                if (tailWords.size() > maxOverlapWords) {
+                    tailWords.removeFirst();
+                }
+            }
+        }
+        return emitted;
+    }
+
+    /**
+     * @return 이어 붙인 전사문
+     */
+    public String text() {
+        return text.toString().trim();
+    }
+
+    /**
+     * @return 붙인 세그먼트 수
+     */
+    public int segmentCount() {
+        return sequence;
+    }
+
+    /**
+     * @return 세그먼트 평균 신뢰도 (0.0~1.0, 세그먼트가 없으면 0)
+     */
+    public double averageConfidence() {
+        return sequence > 0 ? totalConfidence / sequence : 0.0;
+    }
+
+    private int overlapLength(List<String> head) {
+        List<String> tail = new ArrayList<>(tailWords);
+        for (int length = Math.min(tail.size(), head.size()); length > 0; length--) {
+            if (tail.subList(tail.size() - length, tail.size()).equals(head.subList(0, length))) {
+                return length;
+            }
+        }
+        return 0;
+    }
+
+    private static String[] splitWords(String text) {
+        String trimmed = text == null ? "" : text.trim();
+        return trimmed.isEmpty() ? new String[0] : trimmed.split("\\s+");
+    }
+
+    private static String normalize(String word) {
+        return word.replaceAll("[\\p{P}\\p{S}]", "").toLowerCase(Locale.ROOT);
+    }
+}
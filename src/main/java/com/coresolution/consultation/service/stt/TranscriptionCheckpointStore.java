@@ -0,0 +1,124 @@
+package com.coresolution.consultation.service.stt;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 청크 병렬 전사 체크포인트 저장소 ({@code audio_transcription_chunks}).
+ *
+ * <p>끝난 청크를 청크 실행 스레드에서 바로 별도 트랜잭션으로 저장하므로, 전사 전체가 실패해도 끝난 청크는 남고
+ * 재시도는 남은 청크만 인식한다. 계획 지문이 다른 행은 쓰지 않는다. 저장·조회 실패는 경고만 남긴다 — 체크포인트가
+ * 없으면 해당 청크를 다시 인식할 뿐 결과는 같다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Slf4j
+@Component
+public class TranscriptionCheckpointStore {
+
+    private static final String SELECT_CHUNKS = "SELECT chunk_index, plan_fingerprint, segments "
+            + "FROM audio_transcription_chunks WHERE tenant_id = ? AND audio_file_id = ?";
+
+    private static final String DELETE_STALE = "DELETE FROM audio_transcription_chunks "
+            + "WHERE tenant_id = ? AND audio_file_id = ? AND plan_fingerprint <> ?";
+
+    private static final String UPSERT_CHUNK = "INSERT INTO audio_transcription_chunks "
+            + "(tenant_id, audio_file_id, chunk_index, plan_fingerprint, start_ms, end_ms, segments, completed_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, NOW(3)) "
+            + "ON DUPLICATE KEY UPDATE plan_fingerprint = VALUES(plan_fingerprint), start_ms = VALUES(start_ms), "
+            + "end_ms = VALUES(end_ms), segments = VALUES(segments), completed_at = VALUES(completed_at)";
+
+    private static final String DELETE_ALL =
+            "DELETE FROM audio_transcription_chunks WHERE tenant_id = ? AND audio_file_id = ?";
+
+    private static final TypeReference<List<TranscriptSegment>> SEGMENTS_TYPE = new TypeReference<>() {
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate writeTransaction;
+    private final ObjectMapper objectMapper;
+
+    public TranscriptionCheckpointStore(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 계획에 맞는 끝난 청크를 읽고, 다른 계획으로 남은 행은 지운다.
+     *
+     * @param tenantId    테넌트 ID
+     * @param audioFileId 음성 파일 ID
+     * @param fingerprint 현재 계획 지문
+     * @return 청크 순번 → 청크 기준 세그먼트
+     */
+    public Map<Integer, List<TranscriptSegment>> load(String tenantId, Long audioFileId, String fingerprint) {
+        Map<Integer, List<TranscriptSegment>> done = new HashMap<>();
+        try {
+            writeTransaction.executeWithoutResult(status -> jdbcTemplate.update(DELETE_STALE, tenantId, audioFileId,
+                    fingerprint));
+            for (Map<String, Object> row : jdbcTemplate.queryForList(SELECT_CHUNKS, tenantId, audioFileId)) {
+                if (!fingerprint.equals(row.get("plan_fingerprint"))) {
+                    continue;
+                }
+                done.put(((Number) row.get("chunk_index")).intValue(),
+                        objectMapper.readValue((String) row.get("segments"), SEGMENTS_TYPE));
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("전사 체크포인트 조회 실패 — 처음부터 전사: tenantId={}, audioFileId={}, error={}", tenantId,
+                    audioFileId, e.getMessage());
+            return Map.of();
+        }
+        return done;
+    }
+
+    /**
+     * 끝난 청크 1개를 별도 트랜잭션으로 저장한다.
+     *
+     * @param tenantId    테넌트 ID
+     * @param audioFileId 음성 파일 ID
+     * @param fingerprint 계획 지문
+     * @param chunk       청크
+     * @param segments    청크 기준 세그먼트
+     */
+    public void save(String tenantId, Long audioFileId, String fingerprint, AudioChunkPlan.AudioChunk chunk,
+            List<TranscriptSegment> segments) {
+        try {
+            String payload = objectMapper.writeValueAsString(segments);
+            writeTransaction.executeWithoutResult(status -> jdbcTemplate.update(UPSERT_CHUNK, tenantId, audioFileId,
+                    chunk.index(), fingerprint, chunk.startMs(), chunk.endMs(), payload));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("전사 체크포인트 저장 실패: tenantId={}, audioFileId={}, chunk={}, error={}", tenantId,
+                    audioFileId, chunk.index(), e.getMessage());
+        }
+    }
+
+    /**
+     * 전사 결과 저장 후 음성 파일의 체크포인트를 모두 지운다.
+     *
+     * @param tenantId    테넌트 ID
+     * @param audioFileId 음성 파일 ID
+     */
+    public void clear(String tenantId, Long audioFileId) {
+        try {
+            writeTransaction.executeWithoutResult(status -> jdbcTemplate.update(DELETE_ALL, tenantId, audioFileId));
+        } catch (DataAccessException e) {
+            log.warn("전사 체크포인트 삭제 실패: tenantId={}, audioFileId={}, error={}", tenantId, audioFileId,
+                    e.getMessage());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.coresolution.consultation.util;
 
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.util.Base64;
 import java.util.Collection;
 import javax.crypto.Cipher;
@@ -25,6 +26,17 @@ public class PersonalDataEncryptionUtil {
     private static final String VERSION_DELIMITER = "::";
     /** legacy 마이그레이션 시 DB에 저장된 접두어. 복호화 불가 시 제거 후 평문만 반환용 */
     private static final String LEGACY_PREFIX = "legacy::";
+    /**
+     * 스레드별 재사용 Cipher. {@code Cipher.getInstance} 의 provider 조회를 값마다 반복하지 않도록 스레드당 한 번만
+     * 만들고, 매 사용 전 {@code init} 으로 모드·키·IV 를 다시 지정한다 (init 이 이전 상태를 모두 초기화한다).
+     */
+    private static final ThreadLocal<Cipher> CIPHERS = ThreadLocal.withInitial(() -> {
+        try {
+            return Cipher.getInstance(ALGORITHM);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cipher 생성 실패: " + ALGORITHM, e);
+        }
+    });
 
     private final PersonalDataEncryptionKeyProvider keyProvider;
 
@@ -45,7 +57,7 @@ public class PersonalDataEncryptionUtil {
                 throw new IllegalStateException("활성 암호화 키를 찾을 수 없습니다.");
             }
 
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
+            Cipher cipher = CIPHERS.get();
             cipher.init(Cipher.ENCRYPT_MODE, keyMaterial.getSecretKey(), keyMaterial.getIv());
 
             byte[] encryptedBytes = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
@@ -280,7 +292,7 @@ public class PersonalDataEncryptionUtil {
 
     private String decryptWithMaterial(String cipherPayload, PersonalDataEncryptionKeyProvider.KeyMaterial material)
         throws Exception {
-        Cipher cipher = Cipher.getInstance(ALGORITHM);
+        Cipher cipher = CIPHERS.get();
         cipher.init(Cipher.DECRYPT_MODE, material.getSecretKey(), material.getIv());
         byte[] encryptedBytes = Base64.getDecoder().decode(cipherPayload);
         byte[] decryptedBytes = cipher.doFinal(encryptedBytes);
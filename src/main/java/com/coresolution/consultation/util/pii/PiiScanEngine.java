@@ -0,0 +1,165 @@
+package com.coresolution.consultation.util.pii;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 단일 순회 PII 스캔 엔진 — {@link RegexBasedPiiScrubber} 내부 구현.
+ *
+ * <p>입력을 한 번 훑으며 정규식 공백({@code \s}) 기준 토큰(창)으로 나누고, 창마다 숫자 개수·{@code @}·
+ * {@code http(s)://} 여부만 센다. 이 앵커로 어떤 패턴도 맞을 수 없는 창은 정규식 없이 그대로 복사하고,
+ * 후보 창에만 기존 패턴을 기존 순서대로 적용해 결과를 하나의 {@link StringBuilder} 에 쓴다.</p>
+ *
+ * <p><b>결과 동일성</b>: 모든 패턴은 {@code \s} 를 가로질러 매칭되지 않는다. 유일한 예외인 CARD 의
+ * "숫자 + 공백 1개 + 숫자" 는 창을 잇는다. 창 양끝은 원문에서 공백과 맞닿으므로 {@code \b}·숫자
+ * lookbehind/lookahead 판정도 전체 문자열에 적용할 때와 같다. 치환 라벨에는 숫자·{@code @}·
+ * {@code http} 가 없어 앞선 패턴의 치환이 뒤 패턴의 후보를 새로 만들지 않으므로, 원문 창에서 센 앵커는
+ * 안전한 필요조건이다.</p>
+ *
+ * <p><b>스레드 안전성</b>: 상태 없음 — {@link Pattern} 만 공유한다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+final class PiiScanEngine {
+
+    /** PHONE(2+3+4)·BANK(3+2+4) 최소 숫자 수. */
+    private static final int MIN_SHORT_NUMBER_DIGITS = 9;
+
+    /** RRN·ARN(13)·CARD(13~19) 최소 숫자 수. */
+    private static final int MIN_LONG_NUMBER_DIGITS = 13;
+
+    /** 적용 순서가 보존된 패턴 맵. */
+    private final Map<PiiPatternType, Pattern> orderedPatterns;
+
+    PiiScanEngine(Map<PiiPatternType, Pattern> orderedPatterns) {
+        this.orderedPatterns = orderedPatterns;
+    }
+
+    /**
+     * @param input  원문 (null/empty 아님)
+     * @param active 활성 패턴 (비어 있지 않음)
+     * @return 치환 결과. 치환이 없으면 {@code input} 그대로
+     */
+    String scrub(String input, Set<PiiPatternType> active) {
+        int length = input.length();
+        StringBuilder out = null;
+        int copied = 0;
+        int i = 0;
+        while (i < length) {
+            while (i < length && isRegexSpace(input.charAt(i))) {
+                i++;
+            }
+            if (i >= length) {
+                break;
+            }
+            int start = i;
+            int digits = 0;
+            boolean hasAt = false;
+            boolean hasScheme = false;
+            while (i < length) {
+                char c = input.charAt(i);
+                if (isRegexSpace(c)) {
+                    // CARD 는 숫자 사이 공백 1개를 허용하므로 창을 잇는다.
+                    if (c == ' ' && isDigit(input.charAt(i - 1)) && i + 1 < length && isDigit(input.charAt(i + 1))) {
+                        i++;
+                        continue;
+                    }
+                    break;
+                }
+                if (isDigit(c)) {
+                    digits++;
+                } else if (c == '@') {
+                    hasAt = true;
+                } else if (c == ':' && !hasScheme) {
+                    hasScheme = isSchemeSeparator(input, start, i);
+                }
+                i++;
+            }
+
+            String window = null;
+            String scrubbed = null;
+            for (Map.Entry<PiiPatternType, Pattern> entry : orderedPatterns.entrySet()) {
+                PiiPatternType type = entry.getKey();
+                if (!active.contains(type) || !mayMatch(type, digits, hasAt, hasScheme)) {
+                    continue;
+                }
+                if (window == null) {
+                    window = input.substring(start, i);
+                    scrubbed = window;
+                }
+                scrubbed = replaceAll(scrubbed, entry.getValue(), type.getRedactionLabel());
+            }
+            if (scrubbed != window) {
+                if (out == null) {
+                    out = new StringBuilder(length);
+                }
+                out.append(input, copied, start).append(scrubbed);
+                copied = i;
+            }
+        }
+        if (out == null) {
+            return input;
+        }
+        return out.append(input, copied, length).toString();
+    }
+
+    /**
+     * 창의 앵커로 본 패턴 적용 필요 여부 (필요조건).
+     */
+    private static boolean mayMatch(PiiPatternType type, int digits, boolean hasAt, boolean hasScheme) {
+        switch (type) {
+            case EMAIL:
+                return hasAt;
+            case URL:
+                return hasScheme;
+            case RRN:
+            case ARN:
+            case CARD:
+                return digits >= MIN_LONG_NUMBER_DIGITS;
+            case PHONE:
+            case BANK:
+                return digits >= MIN_SHORT_NUMBER_DIGITS;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * 기존 단일 패턴 치환과 동일 — 라벨은 {@link Matcher#quoteReplacement(String)} 로 감싼다.
+     */
+    private static String replaceAll(String text, Pattern pattern, String label) {
+        Matcher matcher = pattern.matcher(text);
+        if (!matcher.find()) {
+            return text;
+        }
+        StringBuilder builder = new StringBuilder(text.length());
+        String quotedLabel = Matcher.quoteReplacement(label);
+        do {
+            matcher.appendReplacement(builder, quotedLabel);
+        } while (matcher.find());
+        matcher.appendTail(builder);
+        return builder.toString();
+    }
+
+    /** {@code input[colon]} 이 창 안의 {@code http://} 또는 {@code https://} 구분자인지. */
+    private static boolean isSchemeSeparator(String input, int windowStart, int colon) {
+        if (colon + 2 >= input.length() || input.charAt(colon + 1) != '/' || input.charAt(colon + 2) != '/') {
+            return false;
+        }
+        return (colon - 4 >= windowStart && input.startsWith("http", colon - 4))
+            || (colon - 5 >= windowStart && input.startsWith("https", colon - 5));
+    }
+
+    /** {@link Pattern} 의 {@code \s} 와 동일: {@code [ \t\n\x0B\f\r]}. */
+    private static boolean isRegexSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+
+    /** {@link Pattern} 의 {@code \d} 와 동일: {@code [0-9]}. */
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -5,7 +5,6 @@ import java.util.EnumMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import com.coresolution.consultation.config.PiiScrubberProperties;
 import org.springframework.stereotype.Component;
@@ -18,8 +17,11 @@ import lombok.extern.slf4j.Slf4j;
  * — 1단계 (즉시 도입) 정규식. 후속 단계 (BERT/GPT) 도입 시 본 클래스 변경 없이
  * 다른 {@link PiiScrubberStrategy} 구현체를 추가하면 된다.
  *
- * <p><b>적용 순서</b>: 더 엄격한 패턴(RRN, ARN) 을 먼저 적용해 일반적인 숫자열 패턴(BANK, CARD) 의
- * 오탐을 줄인다.
+ * <p><b>적용 순서</b>: {@link PiiPatternType} 선언 순서 (EMAIL → PHONE → RRN → ARN → CARD → BANK → URL).
+ * RRN/ARN 을 CARD/BANK 보다 먼저 적용해 일반적인 숫자열 패턴의 오탐을 줄인다.
+ *
+ * <p><b>단일 순회</b>: 패턴마다 전체 텍스트를 훑지 않고 {@link PiiScanEngine} 이 공백 단위 창의
+ * 숫자·{@code @}·{@code http(s)://} 앵커로 후보 창만 골라 패턴을 적용한다. 결과는 패턴별 전체 치환과 같다.
  *
  * <p><b>스레드 안전성</b>: {@link Pattern} 은 immutable 하므로 본 컴포넌트는 thread-safe.
  *
@@ -36,12 +38,16 @@ public class RegexBasedPiiScrubber implements PiiScrubberStrategy {
     /** 정책 설정에서 활성/비활성 토글을 읽는다. */
     private final PiiScrubberProperties properties;
 
-    /** 패턴 적용 순서 (RRN/ARN → EMAIL/URL → PHONE → CARD → BANK). */
+    /** 패턴 적용 순서 ({@link PiiPatternType} 선언 순서). */
     private final Map<PiiPatternType, Pattern> compiledPatterns;
 
+    /** 후보 창만 골라 패턴을 적용하는 단일 순회 엔진. */
+    private final PiiScanEngine scanEngine;
+
     public RegexBasedPiiScrubber(PiiScrubberProperties properties) {
         this.properties = properties;
         this.compiledPatterns = buildCompiledPatterns();
+        this.scanEngine = new PiiScanEngine(compiledPatterns);
     }
 
     /**
@@ -85,33 +91,14 @@ public class RegexBasedPiiScrubber implements PiiScrubberStrategy {
             return input;
         }
 
-        String result = input;
-        for (Map.Entry<PiiPatternType, Pattern> entry : compiledPatterns.entrySet()) {
-            if (!active.contains(entry.getKey())) {
-                continue;
-            }
-            result = applyPattern(result, entry.getValue(), entry.getKey().getRedactionLabel());
-        }
-        return result;
+        return scanEngine.scrub(input, active);
     }
 
     /**
-     * 단일 패턴 적용. {@link Matcher#appendReplacement(StringBuilder, String)} 의 백슬래시 이스케이프
-     * 이슈를 회피하기 위해 라벨을 {@link Matcher#quoteReplacement(String)} 로 감싼다.
+     * 적용 순서가 보존된 컴파일 패턴 (차분 테스트의 패턴별 전체 치환 기준 구현용).
      */
-    private String applyPattern(String input, Pattern pattern, String label) {
-        Matcher matcher = pattern.matcher(input);
-        if (!matcher.find()) {
-            return input;
-        }
-
-        StringBuilder builder = new StringBuilder(input.length());
-        String quotedLabel = Matcher.quoteReplacement(label);
-        do {
-            matcher.appendReplacement(builder, quotedLabel);
-        } while (matcher.find());
-        matcher.appendTail(builder);
-        return builder.toString();
+    Map<PiiPatternType, Pattern> compiledPatterns() {
+        return compiledPatterns;
     }
 
     @Override
@@ -0,0 +1,389 @@
+package com.coresolution.core.aspect;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import com.coresolution.consultation.config.ControllerTraceProperties;
+import com.coresolution.core.context.TenantContextHolder;
+import com.coresolution.core.util.LogSanitizer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 컨트롤러 자동 추적의 샘플링·비동기 기록기 ({@link LoggingAspect} SAMPLED 모드).
+ *
+ * <p>요청 스레드에서는 경과 시간 측정과 샘플링 판정만 하고, 기록 대상이면 인자·결과 참조를 담은
+ * 이벤트를 제한 대기열에 넣는다. 인자 sanitize·포매팅과 로그 출력은 단일 기록 스레드가 맡는다.</p>
+ * <ul>
+ *   <li>라우트별 샘플링 비율 — {@code Class#method} → {@code Class} → 기본 비율 순으로 결정, 메서드별 캐시</li>
+ *   <li>느린 호출·예외는 샘플링과 무관하게 항상 기록</li>
+ *   <li>최근 추적은 고정 크기 링 버퍼에 보관해 운영 API 로 덤프</li>
+ *   <li>대기열이 가득 차면 요청을 막지 않고 버린 건수만 센다</li>
+ * </ul>
+ *
+ * <p>인자는 기록 스레드에서 포매팅되므로, 응답 후 변경되는 가변 객체는 변경 후 상태가 보일 수 있다.
+ * 비-String 객체는 클래스명 + identity hash 만 출력하므로 내용 노출은 없다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Component
+public class ControllerTraceRecorder {
+
+    /** 기존 [SAFE-LOG] 라인과 같은 logger 로 출력해 로그 설정을 공유한다. */
+    private static final Logger log = LoggerFactory.getLogger(LoggingAspect.class);
+
+    private static final String LOG_PREFIX = "[SAFE-LOG]";
+
+    /**
+     * 추적 모드.
+     */
+    public enum Mode {
+        /** 자동 추적 안 함 */
+        OFF,
+        /** 기존 동기 진입/종료 로그 */
+        SYNC,
+        /** 샘플링 + 비동기 기록 */
+        SAMPLED
+    }
+
+    /**
+     * 기록 사유 (우선순위: ERROR &gt; SLOW &gt; SAMPLED).
+     */
+    public enum Reason {
+        SAMPLED, SLOW, ERROR
+    }
+
+    /**
+     * 런타임 설정 (불변). 교체는 {@link #updateSettings} 로만 한다.
+     *
+     * @param mode             추적 모드
+     * @param sampleRate       기본 샘플링 비율 (0~1)
+     * @param routeSampleRates 라우트별 샘플링 비율
+     * @param slowThreshold    항상 기록할 느린 호출 임계값
+     */
+    public record Settings(Mode mode, double sampleRate, Map<String, Double> routeSampleRates,
+            Duration slowThreshold) {
+    }
+
+    /**
+     * 기록된 추적 한 건 (포매팅 완료).
+     *
+     * @param timestamp 호출 종료 시각
+     * @param route     {@code SimpleClassName#method}
+     * @param reason    기록 사유
+     * @param elapsedMs 경과 시간 (ms)
+     * @param tenantId  테넌트 (없으면 null)
+     * @param thread    요청 스레드명
+     * @param args      sanitize 된 인자
+     * @param result    반환값 표시 (예외 시 null)
+     * @param exception 예외 클래스명 + sanitize 된 메시지 (정상 시 null)
+     */
+    public record TraceRecord(Instant timestamp, String route, Reason reason, long elapsedMs, String tenantId,
+            String thread, List<String> args, String result, String exception) {
+    }
+
+    /** 요청 스레드에서 넘기는 원시 이벤트 — 포매팅 전. */
+    private record TraceEvent(String route, Reason reason, long elapsedNanos, long epochMillis, String tenantId,
+            String thread, Object[] args, Object result, Throwable error) {
+    }
+
+    /** 메서드별 라벨 + 설정 인스턴스별 샘플링 비율 캐시. */
+    private static final class Route {
+        private final String label;
+        private final String className;
+        private volatile ResolvedRate resolved;
+
+        private Route(String label, String className) {
+            this.label = label;
+            this.className = className;
+        }
+
+        private double rate(Settings settings) {
+            ResolvedRate current = resolved;
+            if (current == null || current.settings() != settings) {
+                Double configured = settings.routeSampleRates().get(label);
+                if (configured == null) {
+                    configured = settings.routeSampleRates().get(className);
+                }
+                current = new ResolvedRate(settings, configured != null ? configured : settings.sampleRate());
+                resolved = current;
+            }
+            return current.rate();
+        }
+    }
+
+    private record ResolvedRate(Settings settings, double rate) {
+    }
+
+    private final BlockingQueue<TraceEvent> queue;
+    private final TraceRecord[] ring;
+    private final ConcurrentHashMap<Method, Route> routes = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder recorded = new LongAdder();
+
+    private volatile Settings settings;
+    private volatile boolean running;
+    private Thread appender;
+    private int ringNext;
+    private long ringTotal;
+
+    public ControllerTraceRecorder(ControllerTraceProperties properties,
+            @Value("${security.safelog.controllers.auto:false}") boolean controllersAutoEnabled) {
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity()));
+        this.ring = new TraceRecord[Math.max(1, properties.getRingBufferSize())];
+        Mode mode = controllersAutoEnabled ? parseMode(properties.getMode()) : Mode.OFF;
+        this.settings = new Settings(mode, checkRate(properties.getSampleRate()),
+                checkRates(properties.getRouteSampleRates()), properties.getSlowThreshold());
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        appender = new Thread(this::drainLoop, "controller-trace-appender");
+        appender.setDaemon(true);
+        appender.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (appender != null) {
+            appender.interrupt();
+            try {
+                appender.join(TimeUnit.SECONDS.toMillis(2));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        drainPending();
+    }
+
+    /**
+     * @return 현재 런타임 설정
+     */
+    public Settings settings() {
+        return settings;
+    }
+
+    /**
+     * 런타임 설정 변경. null 인자는 기존 값 유지.
+     *
+     * @param mode             추적 모드
+     * @param sampleRate       기본 샘플링 비율 (0~1)
+     * @param routeSampleRates 라우트별 비율 (전체 교체)
+     * @param slowThreshold    느린 호출 임계값
+     * @return 적용된 설정
+     * @throws IllegalArgumentException 비율이 0~1 범위를 벗어나거나 임계값이 음수일 때
+     */
+    public synchronized Settings updateSettings(Mode mode, Double sampleRate, Map<String, Double> routeSampleRates,
+            Duration slowThreshold) {
+        Settings current = settings;
+        if (slowThreshold != null && slowThreshold.isNegative()) {
+            throw new IllegalArgumentException("slowThreshold 는 0 이상이어야 합니다.");
+        }
+        Settings next = new Settings(
+                mode != null ? mode : current.mode(),
+                sampleRate != null ? checkRate(sampleRate) : current.sampleRate(),
+                routeSampleRates != null ? checkRates(routeSampleRates) : current.routeSampleRates(),
+                slowThreshold != null ? slowThreshold : current.slowThreshold());
+        settings = next;
+        log.info("{} controller trace settings updated: mode={}, sampleRate={}, routes={}, slowThreshold={}ms",
+                LOG_PREFIX, next.mode(), next.sampleRate(), next.routeSampleRates().size(),
+                next.slowThreshold().toMillis());
+        return next;
+    }
+
+    /**
+     * 컨트롤러 호출을 실행하고 샘플링·느린 호출·예외 조건에 해당하면 비동기 기록한다.
+     *
+     * @param joinPoint AspectJ 진입점
+     * @return 메서드 반환값
+     * @throws Throwable 메서드가 던진 예외 그대로 재던지기
+     */
+    public Object trace(ProceedingJoinPoint joinPoint) throws Throwable {
+        Settings current = settings;
+        Route route = route(joinPoint);
+        double rate = route.rate(current);
+        boolean sampled = rate >= 1.0 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+        long startNanos = System.nanoTime();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable t) {
+            submit(route, Reason.ERROR, System.nanoTime() - startNanos, joinPoint.getArgs(), null, t);
+            throw t;
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        if (elapsedNanos >= current.slowThreshold().toNanos()) {
+            submit(route, Reason.SLOW, elapsedNanos, joinPoint.getArgs(), result, null);
+        } else if (sampled) {
+            submit(route, Reason.SAMPLED, elapsedNanos, joinPoint.getArgs(), result, null);
+        }
+        return result;
+    }
+
+    /**
+     * 최근 추적 (최신순).
+     *
+     * @param limit 최대 개수 (0 이하면 전체)
+     * @return 추적 목록
+     */
+    public List<TraceRecord> recentTraces(int limit) {
+        synchronized (ring) {
+            int size = (int) Math.min(ringTotal, ring.length);
+            int count = limit > 0 ? Math.min(limit, size) : size;
+            List<TraceRecord> traces = new ArrayList<>(count);
+            for (int i = 1; i <= count; i++) {
+                traces.add(ring[Math.floorMod(ringNext - i, ring.length)]);
+            }
+            return traces;
+        }
+    }
+
+    /**
+     * 링 버퍼 비우기.
+     */
+    public void clearTraces() {
+        synchronized (ring) {
+            Arrays.fill(ring, null);
+            ringNext = 0;
+            ringTotal = 0;
+        }
+    }
+
+    /**
+     * @return 기록 통계 (recorded, dropped, pending, bufferSize)
+     */
+    public Map<String, Long> stats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("recorded", recorded.sum());
+        stats.put("dropped", dropped.sum());
+        stats.put("pending", (long) queue.size());
+        stats.put("bufferSize", (long) ring.length);
+        return stats;
+    }
+
+    /**
+     * 대기 중인 이벤트를 현재 스레드에서 모두 기록 (테스트·종료 시).
+     */
+    void drainPending() {
+        TraceEvent event;
+        while ((event = queue.poll()) != null) {
+            append(event);
+        }
+    }
+
+    private void submit(Route route, Reason reason, long elapsedNanos, Object[] args, Object result,
+            Throwable error) {
+        TraceEvent event = new TraceEvent(route.label, reason, elapsedNanos, System.currentTimeMillis(),
+                TenantContextHolder.getTenantId(), Thread.currentThread().getName(), args, result, error);
+        if (!queue.offer(event)) {
+            dropped.increment();
+        }
+    }
+
+    private void drainLoop() {
+        while (running) {
+            try {
+                TraceEvent event = queue.poll(1, TimeUnit.SECONDS);
+                if (event != null) {
+                    append(event);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("{} controller trace append failed: {}", LOG_PREFIX, e.getClass().getSimpleName());
+            }
+        }
+    }
+
+    private void append(TraceEvent event) {
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(event.elapsedNanos());
+        List<String> args = LoggingAspect.formatArgs(event.args());
+        TraceRecord record;
+        if (event.error() != null) {
+            String exception = event.error().getClass().getSimpleName() + ": "
+                    + LogSanitizer.forLog(event.error().getMessage());
+            record = new TraceRecord(Instant.ofEpochMilli(event.epochMillis()), event.route(), event.reason(),
+                    elapsedMs, event.tenantId(), event.thread(), args, null, exception);
+            log.warn("{} {} args={} threw exception={} elapsed={}ms reason={}",
+                    LOG_PREFIX, event.route(), args, exception, elapsedMs, event.reason());
+        } else {
+            String result = LoggingAspect.formatResult(event.result());
+            record = new TraceRecord(Instant.ofEpochMilli(event.epochMillis()), event.route(), event.reason(),
+                    elapsedMs, event.tenantId(), event.thread(), args, result, null);
+            log.info("{} {} args={} returned result={} elapsed={}ms reason={}",
+                    LOG_PREFIX, event.route(), args, result, elapsedMs, event.reason());
+        }
+        synchronized (ring) {
+            ring[ringNext] = record;
+            ringNext = (ringNext + 1) % ring.length;
+            ringTotal++;
+        }
+        recorded.increment();
+    }
+
+    private Route route(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Route route = routes.get(method);
+        if (route == null) {
+            String className = LoggingAspect.simpleClassName(joinPoint);
+            route = routes.computeIfAbsent(method,
+                    m -> new Route(className + "#" + m.getName(), className));
+        }
+        return route;
+    }
+
+    /**
+     * @param value 모드 문자열 (대소문자 무시)
+     * @return 모드
+     * @throws IllegalArgumentException 알 수 없는 모드
+     */
+    public static Mode parseMode(String value) {
+        if (value == null || value.isBlank()) {
+            return Mode.SAMPLED;
+        }
+        return Mode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+
+    private static double checkRate(double rate) {
+        if (Double.isNaN(rate) || rate < 0 || rate > 1) {
+            throw new IllegalArgumentException("샘플링 비율은 0~1 범위여야 합니다: " + rate);
+        }
+        return rate;
+    }
+
+    private static Map<String, Double> checkRates(Map<String, Double> rates) {
+        if (rates == null || rates.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Double> copy = new LinkedHashMap<>();
+        rates.forEach((route, rate) -> {
+            if (route != null && rate != null) {
+                copy.put(route, checkRate(rate));
+            }
+        });
+        return Collections.unmodifiableMap(copy);
+    }
+}
@@ -11,6 +11,7 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -32,6 +33,10 @@ import org.springframework.stereotype.Component;
  *   <li>예외 발생 시 예외 클래스명 + sanitize 된 message 출력 후 재던지기</li>
  * </ol>
  *
+ * <p>{@code @RestController} 자동 적용분은 {@link ControllerTraceRecorder} 의 런타임 모드를 따른다.
+ * 기본 SAMPLED 모드는 라우트별 비율로 샘플링하고 느린 호출·예외는 항상 남기며, 포매팅·출력은 별도
+ * 스레드에서 한다. SYNC 모드는 아래 동기 로그를 그대로 쓴다. {@link SafeLog} 명시 적용분은 항상 동기.</p>
+ *
  * <p>본 Aspect 는 기존 메서드 본문의 {@code log.info(...)} 호출을 수정하거나 대체하지 않는다.
  * 추가로 한 줄의 안전한 로그를 출력하여, 메서드 본문의 raw 로그와 함께 CodeQL Log Injection
  * 위반 추적이 가능하도록 한다.</p>
@@ -72,6 +77,19 @@ public class LoggingAspect {
     @Value("${security.safelog.controllers.auto:false}")
     private boolean controllersAutoEnabled;
 
+    /** 컨트롤러 자동 추적 기록기. 없으면(단독 생성 테스트 등) 위 토글 + 동기 로그로 동작. */
+    private ControllerTraceRecorder traceRecorder;
+
+    /**
+     * 컨트롤러 자동 추적 기록기 주입.
+     *
+     * @param traceRecorder 기록기
+     */
+    @Autowired(required = false)
+    public void setTraceRecorder(ControllerTraceRecorder traceRecorder) {
+        this.traceRecorder = traceRecorder;
+    }
+
     /**
      * {@link SafeLog} 메서드 어노테이션 진입점 가로채기.
      *
@@ -108,13 +126,19 @@ public class LoggingAspect {
     @Around("@within(org.springframework.web.bind.annotation.RestController) "
             + "&& execution(public * *(..))")
     public Object aroundRestController(ProceedingJoinPoint joinPoint) throws Throwable {
-        if (!controllersAutoEnabled) {
+        ControllerTraceRecorder.Mode mode = traceRecorder != null
+                ? traceRecorder.settings().mode()
+                : (controllersAutoEnabled ? ControllerTraceRecorder.Mode.SYNC : ControllerTraceRecorder.Mode.OFF);
+        if (mode == ControllerTraceRecorder.Mode.OFF) {
             return joinPoint.proceed();
         }
         // 어노테이션이 명시된 메서드는 위 두 advice 가 이미 처리하므로 중복 로깅 방지.
         if (hasSafeLogAnnotation(joinPoint)) {
             return joinPoint.proceed();
         }
+        if (mode == ControllerTraceRecorder.Mode.SAMPLED) {
+            return traceRecorder.trace(joinPoint);
+        }
         SafeLog defaultSafeLog = DefaultSafeLog.INSTANCE;
         return aroundWithSafeLog(joinPoint, defaultSafeLog);
     }
@@ -168,6 +192,13 @@ public class LoggingAspect {
         if (safeLog.label() != null && !safeLog.label().isBlank()) {
             return safeLog.label();
         }
+        return simpleClassName(joinPoint) + "#" + joinPoint.getSignature().getName();
+    }
+
+    /**
+     * 대상 클래스 단순명 (CGLIB 프록시 접미사 제거).
+     */
+    static String simpleClassName(ProceedingJoinPoint joinPoint) {
         Class<?> targetClass = joinPoint.getTarget() != null
                 ? joinPoint.getTarget().getClass()
                 : joinPoint.getSignature().getDeclaringType();
@@ -177,14 +208,13 @@ public class LoggingAspect {
         if (proxyIdx > 0) {
             className = className.substring(0, proxyIdx);
         }
-        String methodName = joinPoint.getSignature().getName();
-        return className + "#" + methodName;
+        return className;
     }
 
     /**
      * 인자 배열을 sanitize 된 표시용 List 로 변환. 너무 많으면 truncate.
      */
-    private List<String> formatArgs(Object[] args) {
+    static List<String> formatArgs(Object[] args) {
         if (args == null || args.length == 0) {
             return List.of();
         }
@@ -202,7 +232,7 @@ public class LoggingAspect {
     /**
      * 단일 인자 표시 — String 은 sanitize, 나머지는 클래스명 + hashCode (PII 방지).
      */
-    private String formatSingleArg(Object arg) {
+    private static String formatSingleArg(Object arg) {
         if (arg == null) {
             return "null";
         }
@@ -222,7 +252,7 @@ public class LoggingAspect {
     /**
      * 반환값 표시 — String 만 sanitize, 그 외는 클래스명.
      */
-    private String formatResult(Object result) {
+    static String formatResult(Object result) {
         if (result == null) {
             return "null";
         }
@@ -0,0 +1,38 @@
+package com.coresolution.core.aspect;
+
+import com.coresolution.core.monitoring.SqlStatementAccounting.Scope;
+import com.coresolution.core.monitoring.SqlStatementAccounting.ScopeKind;
+import com.coresolution.core.monitoring.SqlStatementRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code @Scheduled} 작업 1회 실행을 SQL 문 회계 범위로 감싼다 (범위 이름: {@code 클래스#메서드}).
+ *
+ * <p>요청 범위는 {@link com.coresolution.core.interceptor.RequestTelemetryInterceptor} 가 연다.
+ * 작업 안에서 행마다 조회하는 N+1 패턴도 요청과 같은 기준으로 {@link SqlStatementRegistry} 에 집계된다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ScheduledJobSqlAccountingAspect {
+
+    private final SqlStatementRegistry sqlStatementRegistry;
+
+    @Around("@annotation(org.springframework.scheduling.annotation.Scheduled)")
+    public Object accountScheduledJob(ProceedingJoinPoint joinPoint) throws Throwable {
+        Scope scope = sqlStatementRegistry.openScope(ScopeKind.JOB,
+                joinPoint.getSignature().getDeclaringType().getSimpleName() + "#" + joinPoint.getSignature().getName());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            sqlStatementRegistry.complete(scope);
+        }
+    }
+}
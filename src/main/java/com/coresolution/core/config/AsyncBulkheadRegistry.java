@@ -0,0 +1,105 @@
+package com.coresolution.core.config;
+
+import com.coresolution.consultation.config.AsyncBulkheadProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * bulkhead 실행기 생성·등록과 적응형 core 조정.
+ *
+ * <p>{@link AsyncConfig} 가 실행기마다 {@link #create(BulkheadTaskExecutor.Spec)} 를 호출하면 설정 덮어쓰기를
+ * 적용해 초기화하고 Micrometer 미터를 붙인다. 첫 실행기가 만들어질 때 전용 데몬 스레드 하나가
+ * {@code adaptive-interval} 마다 모든 bulkhead 의 {@link BulkheadTaskExecutor#adapt()} 를 호출한다 —
+ * 인스턴스 로컬 조정이므로 공용 스케줄러·ShedLock 을 거치지 않는다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AsyncBulkheadRegistry {
+
+    private final AsyncBulkheadProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private final Map<String, BulkheadTaskExecutor> bulkheads = new ConcurrentHashMap<>();
+    private volatile ScheduledExecutorService tuner;
+
+    /**
+     * 설정 덮어쓰기를 적용한 bulkhead 실행기를 초기화·등록한다.
+     *
+     * @param defaults 코드 기본 정의
+     * @return 초기화된 실행기
+     */
+    public BulkheadTaskExecutor create(BulkheadTaskExecutor.Spec defaults) {
+        BulkheadTaskExecutor.Spec spec = defaults.withOverrides(properties.getBulkheads().get(defaults.name()));
+        BulkheadTaskExecutor executor = new BulkheadTaskExecutor(spec);
+        executor.initialize();
+        meterRegistryProvider.ifAvailable(executor::bindMetrics);
+        bulkheads.put(spec.name(), executor);
+        startTunerIfNeeded();
+        log.info("✅ bulkhead {} 초기화: core={}, max={}, queue={}, rejection={}, targetWait={}", spec.name(),
+                spec.corePoolSize(), spec.maxPoolSize(), spec.queueCapacity(), spec.rejection(),
+                spec.targetQueueWait());
+        return executor;
+    }
+
+    /** @return 등록된 bulkhead (이름 → 실행기) */
+    public Map<String, BulkheadTaskExecutor> getBulkheads() {
+        return Collections.unmodifiableMap(bulkheads);
+    }
+
+    /**
+     * 모든 bulkhead 를 한 번 조정한다 (조정 스레드·테스트).
+     */
+    public void adaptAll() {
+        Collection<BulkheadTaskExecutor> executors = bulkheads.values();
+        for (BulkheadTaskExecutor executor : executors) {
+            try {
+                executor.adapt();
+            } catch (RuntimeException e) {
+                log.warn("bulkhead {} core 조정 실패: {}", executor.getSpec().name(), e.getMessage());
+            }
+        }
+    }
+
+    private void startTunerIfNeeded() {
+        if (!properties.isAdaptiveEnabled() || tuner != null) {
+            return;
+        }
+        synchronized (this) {
+            if (tuner != null) {
+                return;
+            }
+            long intervalMillis = Math.max(1000L, properties.getAdaptiveInterval().toMillis());
+            ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "bulkhead-tuner");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::adaptAll, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+            tuner = scheduler;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ScheduledExecutorService scheduler = tuner;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package com.coresolution.core.config;
 
+import com.coresolution.consultation.config.AsyncBulkheadProperties.RejectionPolicy;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.time.Duration;
 import java.util.concurrent.Executor;
 
 import org.springframework.context.annotation.Bean;
@@ -16,16 +18,22 @@ import org.springframework.context.annotation.Bean;
  * 
  * <p>주요 기능:</p>
  * <ul>
- *   <li>@Async 메서드 실행을 위한 ThreadPool 설정</li>
+ *   <li>작업 부류별로 격리된 실행기(bulkhead) — OCR·음성 분석 폭주가 기본 풀·알림 작업을 지연시키지 않음</li>
  *   <li>TenantContext를 비동기 스레드로 전파 (TaskDecorator)</li>
+ *   <li>큐 대기·실행 시간, 큐 깊이, 거부 메트릭과 대기 시간 목표 기반 core 크기 조정 ({@link BulkheadTaskExecutor})</li>
  *   <li>비동기 작업 예외 처리</li>
  * </ul>
  * 
- * <h3>ThreadPool 설정:</h3>
+ * <h3>Bulkhead 기본값 (mindgarden.async.bulkheads.&lt;이름&gt;.* 로 덮어쓰기):</h3>
  * <ul>
- *   <li>Core Pool Size: 10 (기본 스레드 수)</li>
- *   <li>Max Pool Size: 20 (최대 스레드 수)</li>
- *   <li>Queue Capacity: 500 (대기 큐 크기)</li>
+ *   <li>default — 10/20, 큐 500, SHED (@Async 기본)</li>
+ *   <li>document-extraction — 2/4, 큐 200, CALLER_RUNS (심리검사 문서 OCR·추출)</li>
+ *   <li>media-analysis — 2/6, 큐 100, CALLER_RUNS (감정 분석)</li>
+ *   <li>stt-transcription — 2/4, 큐 50, SHED (음성 전사 — 포화 시 업로드·재시도 API 가 503 으로 응답)</li>
+ *   <li>stt-chunk — 4/8, 큐 32, CALLER_RUNS (긴 녹음 청크 병렬 인식)</li>
+ *   <li>financial-close — 4/4, 큐 16, CALLER_RUNS (정기 재무 마감 테넌트 병렬 실행)</li>
+ *   <li>salary-batch — 4/4, 큐 32, CALLER_RUNS (월 급여 배치 테넌트 병렬 실행)</li>
+ *   <li>onboarding-post-approval · ai-streaming · anomaly-confirmation · security-alert · risk-escalation — 아래 각 빈 참고</li>
  * </ul>
  * 
  * <h3>주의사항:</h3>
@@ -35,46 +43,117 @@ import org.springframework.context.annotation.Bean;
  * @version 1.0.0
  * @since 2025-11-30
  * @see TenantContextTaskDecorator
+ * @see AsyncBulkheadRegistry
  */
 @Slf4j
 @Configuration
 @EnableAsync
+@RequiredArgsConstructor
 public class AsyncConfig implements AsyncConfigurer {
+
+    private final AsyncBulkheadRegistry bulkheadRegistry;
     
     /**
-     * 비동기 작업용 Executor 설정
+     * 비동기 작업용 기본 Executor 설정 (bulkhead: default)
      * 
      * <p>TenantContextTaskDecorator를 적용하여 모든 비동기 작업에서 
-     * TenantContext가 정상적으로 동작하도록 보장합니다.</p>
+     * TenantContext가 정상적으로 동작하도록 보장합니다. 포화 시 거부(SHED)한다.</p>
      * 
-     * @return 설정된 ThreadPoolTaskExecutor
+     * @return 설정된 bulkhead 실행기
      */
     @Override
     public Executor getAsyncExecutor() {
         log.info("🔧 비동기 Executor 초기화 시작 (TenantContext 전파 활성화)");
-        
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        
-        // 1. ThreadPool 크기 설정
-        executor.setCorePoolSize(10);           // 기본 스레드 수
-        executor.setMaxPoolSize(20);            // 최대 스레드 수
-        executor.setQueueCapacity(500);         // 대기 큐 크기
-        executor.setThreadNamePrefix("async-"); // 스레드 이름 접두사
-        
-        // 2. 스레드 풀 정책 설정
-        executor.setWaitForTasksToCompleteOnShutdown(true); // 종료 시 작업 완료 대기
-        executor.setAwaitTerminationSeconds(60);            // 최대 60초 대기
-        
-        // 3. ⭐ TenantContext 전파 설정 (핵심!)
-        executor.setTaskDecorator(new TenantContextTaskDecorator());
-        
-        // 4. 초기화
-        executor.initialize();
-        
-        log.info("✅ 비동기 Executor 초기화 완료: corePoolSize={}, maxPoolSize={}, queueCapacity={}", 
-                executor.getCorePoolSize(), executor.getMaxPoolSize(), executor.getQueueCapacity());
-        
-        return executor;
+        return bulkheadRegistry.create(new BulkheadTaskExecutor.Spec("default", "async-", 10, 20, 500,
+                RejectionPolicy.SHED, Duration.ofSeconds(60), Duration.ofMillis(500), true));
+    }
+
+    /**
+     * 심리검사 문서 OCR·추출 전용 실행기. OCR 은 문서당 수 초~수십 초가 걸려 기본 풀을 점유하지 않도록 분리한다.
+     * 포화 시 업로드 스레드가 직접 처리(CALLER_RUNS)해 작업을 잃지 않고 업로드 속도를 늦춘다.
+     *
+     * @return 문서 추출용 Executor
+     */
+    @Bean(name = "documentExtractionExecutor")
+    public Executor documentExtractionExecutor() {
+        return bulkheadRegistry.create(new BulkheadTaskExecutor.Spec("document-extraction", "psych-extraction-",
+                2, 4, 200, RejectionPolicy.CALLER_RUNS, Duration.ofSeconds(120), Duration.ofSeconds(5), true));
+    }
+
+    /**
+     * 감정 분석 전용 실행기. 외부 API 응답을 기다리는 장시간 작업을 기본 풀과 분리한다.
+     * 포화 시 제출 스레드가 직접 처리(CALLER_RUNS)한다.
+     *
+     * @return 감정 분석용 Executor
+     */
+    @Bean(name = "mediaAnalysisExecutor")
+    public Executor mediaAnalysisExecutor() {
+        return bulkheadRegistry.create(new BulkheadTaskExecutor.Spec("media-analysis", "media-analysis-",
+                2, 6, 100, RejectionPolicy.CALLER_RUNS, Duration.ofSeconds(120), Duration.ofSeconds(2), true));
+    }
+
+    /**
+     * 음성 전사(STT) 전용 실행기 ({@code SpeechToTextService#transcribeAudioAsync}). 전사 1건이 수 분 걸리므로
+     * 포화 시 요청 스레드가 떠안지 않도록 거부(SHED)하고, 업로드·재시도 API 가 전사를 FAILED 로 남긴 뒤 503 으로
+     * 응답해 나중에 재시도하게 한다.
+     *
+     * @return 음성 전사용 Executor
+     */
+    @Bean(name = "transcriptionExecutor")
+    public Executor transcriptionExecutor() {
+        return bulkheadRegistry.create(new BulkheadTaskExecutor.Spec("stt-transcription", "stt-transcription-",
+                2, 4, 50, RejectionPolicy.SHED, Duration.ofSeconds(120), Duration.ofSeconds(2), true));
+    }
+
+    /**
+     * 긴 녹음 청크 병렬 인식 전용 실행기 ({@code ChunkedTranscriptionPipeline}). 전사 작업 1건이 여러 청크를
+     * 제출하므로 stt-transcription 풀과 분리해 서로 막지 않게 한다. 포화 시 제출 스레드(전사 작업)가 직접 인식해
+     * 청크 제출 속도가 인식 속도에 맞춰지고, 대기 중인 청크 PCM 이 메모리에 쌓이지 않는다.
+     *
+     * @return 청크 인식용 Executor
+     */
+    @Bean(name = "sttChunkExecutor")
+    public Executor sttChunkExecutor() {
+        return bulkheadRegistry.create(new BulkheadTaskExecutor.Spec("stt-chunk", "stt-chunk-", 4, 8, 32,
+                RejectionPolicy.CALLER_RUNS, Duration.ofSeconds(60), Duration.ofSeconds(2), true));
+    }
+
+    /**
+     * 정기 재무 마감 테넌트 병렬 실행기 ({@code IncrementalFinancialCloseEngine}). 테넌트 1건이 마감 트랜잭션 동안
+     * DB 커넥션 1개를 쥐므로 풀 크기를 고정하고, 동시 테넌트 수는 엔진이 {@code max-concurrent-tenants} 로 한 번 더
+     * 묶는다. 요청 처리용 풀과 분리해 마감이 길어져도 다른 비동기 작업을 막지 않는다.
+     *
+     * @return 재무 마감용 Executor
+     */
+    @Bean(name = "financialCloseExecutor")
+    public Executor financialCloseExecutor() {
+        return bulkheadRegistry.create(new BulkheadTaskExecutor.Spec("financial-close", "financial-close-", 4, 4,
+                16, RejectionPolicy.CALLER_RUNS, Duration.ofSeconds(120), Duration.ofSeconds(5), true));
+    }
+
+    /**
+     * 월 급여 배치 테넌트 병렬 실행기 ({@code SalaryBatchScheduler}). 테넌트 1건은 입력 일괄 조회와 배치 INSERT
+     * 트랜잭션 동안 커넥션 1개를 쥐므로 풀을 고정 크기로 둔다. 포화 시 스케줄러 스레드가 직접 처리해 테넌트를 잃지 않는다.
+     *
+     * @return 급여 배치용 Executor
+     */
+    @Bean(name = "salaryBatchExecutor")
+    public Executor salaryBatchExecutor() {
+        return bulkheadRegistry.create(new BulkheadTaskExecutor.Spec("salary-batch", "salary-batch-", 4, 4, 32,
+                RejectionPolicy.CALLER_RUNS, Duration.ofSeconds(120), Duration.ofSeconds(5), true));
+    }
+
+    /**
+     * PII 키 회전 재암호화 실행기 ({@code PersonalDataKeyRotationService}). 작업은 복호화·암호화만 하는 CPU 작업이고
+     * DB 커넥션을 쥐지 않는다. 포화 시 회전 스레드가 직접 계산해 조각을 잃지 않고, 대기열이 작아 읽어 둔 chunk 가
+     * 메모리에 쌓이지 않는다.
+     *
+     * @return PII 회전용 Executor
+     */
+    @Bean(name = "piiRotationExecutor")
+    public Executor piiRotationExecutor() {
+        return bulkheadRegistry.create(new BulkheadTaskExecutor.Spec("pii-rotation", "pii-rotation-", 4, 4, 16,
+                RejectionPolicy.CALLER_RUNS, Duration.ofSeconds(60), Duration.ofSeconds(5), true));
     }
 
     /**
@@ -85,19 +164,59 @@ public class AsyncConfig implements AsyncConfigurer {
      */
     @Bean(name = "onboardingPostApprovalExecutor")
     public Executor onboardingPostApprovalExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(4);
-        executor.setMaxPoolSize(12);
-        executor.setQueueCapacity(200);
-        executor.setThreadNamePrefix("onboarding-post-approval-");
-        executor.setTaskDecorator(new TenantContextTaskDecorator());
-        executor.setWaitForTasksToCompleteOnShutdown(true);
-        executor.setAwaitTerminationSeconds(120);
-        executor.initialize();
-        log.info("✅ onboardingPostApprovalExecutor 초기화 완료");
-        return executor;
+        return bulkheadRegistry.create(new BulkheadTaskExecutor.Spec("onboarding-post-approval",
+                "onboarding-post-approval-", 4, 12, 200, RejectionPolicy.SHED, Duration.ofSeconds(120),
+                Duration.ofSeconds(5), true));
     }
-    
+
+    /**
+     * LLM 스트리밍(SSE) 응답 생성 전용 실행기. 요청 스레드는 {@code SseEmitter} 반환 즉시 풀로 돌아가고,
+     * 생성은 이 풀에서 진행된다. 큐가 가득 차면 거부되어 호출측이 즉시 오류 이벤트로 응답한다.
+     *
+     * @return AI 스트리밍용 Executor
+     */
+    @Bean(name = "aiStreamingExecutor")
+    public Executor aiStreamingExecutor() {
+        return bulkheadRegistry.create(new BulkheadTaskExecutor.Spec("ai-streaming", "ai-stream-", 4, 16, 50,
+                RejectionPolicy.SHED, Duration.ofSeconds(60), Duration.ofMillis(500), true));
+    }
+
+    /**
+     * 스트리밍 이상 탐지에서 확정된 이상의 저장·AI 분석 전용 실행기. 메트릭 수집 스레드가 LLM 호출을 기다리지 않도록
+     * 분리한다. 확정 이벤트는 드물어 작은 고정 풀로 충분하며, 큐가 가득 차면 거부되어 호출측이 건너뛴다.
+     *
+     * @return 이상 확정 처리용 Executor
+     */
+    @Bean(name = "anomalyConfirmationExecutor")
+    public Executor anomalyConfirmationExecutor() {
+        return bulkheadRegistry.create(new BulkheadTaskExecutor.Spec("anomaly-confirmation", "anomaly-confirm-",
+                1, 2, 100, RejectionPolicy.SHED, Duration.ofSeconds(30), Duration.ZERO, true));
+    }
+
+    /**
+     * HTTP 감사 파이프라인의 보안 알림(메일·시스템 알림) 발송 전용 실행기. 감사 적재 스레드가 SMTP 응답을
+     * 기다리지 않도록 분리한다. 큐가 가득 차면 거부되어 호출측이 건너뛰고 로그만 남긴다.
+     *
+     * @return 보안 알림 발송용 Executor
+     */
+    @Bean(name = "securityAlertExecutor")
+    public Executor securityAlertExecutor() {
+        return bulkheadRegistry.create(new BulkheadTaskExecutor.Spec("security-alert", "security-alert-",
+                1, 2, 500, RejectionPolicy.SHED, Duration.ofSeconds(30), Duration.ZERO, false));
+    }
+
+    /**
+     * 전사 중 위험 감지의 AI 분석·알림 생성 전용 실행기. STT 응답 스레드가 LLM 응답을 기다리지 않도록 분리한다.
+     * 큐가 가득 차면 거부되어 호출측(STT 응답 스레드)이 직접 처리한다 — 위험 알림은 버리지 않는다.
+     *
+     * @return 위험 분석용 Executor
+     */
+    @Bean(name = "riskEscalationExecutor")
+    public Executor riskEscalationExecutor() {
+        return bulkheadRegistry.create(new BulkheadTaskExecutor.Spec("risk-escalation", "risk-escalation-",
+                2, 4, 100, RejectionPolicy.SHED, Duration.ofSeconds(60), Duration.ofSeconds(1), false));
+    }
+
     /**
      * 비동기 작업 예외 처리
      * 
@@ -0,0 +1,231 @@
+package com.coresolution.core.config;
+
+import com.coresolution.consultation.config.AsyncBulkheadProperties;
+import com.coresolution.consultation.config.AsyncBulkheadProperties.RejectionPolicy;
+import com.coresolution.core.context.TenantContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 작업 부류(workload class)별로 격리된 비동기 실행기 (bulkhead).
+ *
+ * <p>{@link ThreadPoolTaskExecutor} 에 다음을 더한다.</p>
+ * <ul>
+ *   <li>제출 시각을 기록해 큐 대기·실행 시간을 {@value #METRIC_WAIT}, {@value #METRIC_RUN} 타이머로 남긴다</li>
+ *   <li>큐 깊이·활성 스레드·core 크기 게이지와 정책별 거부 카운터 ({@value #METRIC_REJECTED})</li>
+ *   <li>포화 정책을 명시한다 — {@link RejectionPolicy#CALLER_RUNS} 는 제출 스레드에서 실행하되 제출 스레드의
+ *       TenantContext 를 보존하고, {@link RejectionPolicy#SHED} 는 거부 예외를 던진다</li>
+ *   <li>{@link #adapt()} — 직전 주기 평균 대기가 목표를 넘으면 core 를 늘리고, 한가하면 기본값까지 줄인다</li>
+ * </ul>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ * @see AsyncBulkheadRegistry
+ */
+@Slf4j
+public class BulkheadTaskExecutor extends ThreadPoolTaskExecutor {
+
+    private static final long serialVersionUID = 1L;
+
+    static final String METRIC_WAIT = "executor.bulkhead.wait";
+    static final String METRIC_RUN = "executor.bulkhead.run";
+    static final String METRIC_REJECTED = "executor.bulkhead.rejected";
+    static final String METRIC_QUEUE_DEPTH = "executor.bulkhead.queue.depth";
+    static final String METRIC_ACTIVE = "executor.bulkhead.active";
+    static final String METRIC_CORE_SIZE = "executor.bulkhead.core.size";
+    private static final String TAG_BULKHEAD = "bulkhead";
+
+    /**
+     * bulkhead 정의.
+     *
+     * @param name             bulkhead 이름 (메트릭 태그·설정 키)
+     * @param threadNamePrefix 스레드 이름 접두사
+     * @param corePoolSize     기본(최소) core 스레드 수
+     * @param maxPoolSize      최대 스레드 수
+     * @param queueCapacity    대기 큐 크기
+     * @param rejection        포화 시 정책
+     * @param awaitTermination 종료 대기 상한
+     * @param targetQueueWait  목표 큐 대기 (0 이면 적응형 조정 안 함)
+     * @param propagateTenant  TenantContext 전파 여부
+     */
+    public record Spec(String name, String threadNamePrefix, int corePoolSize, int maxPoolSize, int queueCapacity,
+            RejectionPolicy rejection, Duration awaitTermination, Duration targetQueueWait,
+            boolean propagateTenant) {
+
+        /**
+         * 설정 덮어쓰기를 적용한 정의. 덮어쓰기가 없으면 그대로 돌려준다.
+         */
+        public Spec withOverrides(AsyncBulkheadProperties.Bulkhead override) {
+            if (override == null) {
+                return this;
+            }
+            int core = override.getCorePoolSize() != null ? override.getCorePoolSize() : corePoolSize;
+            int max = override.getMaxPoolSize() != null ? override.getMaxPoolSize() : maxPoolSize;
+            return new Spec(name, threadNamePrefix, core, Math.max(core, max),
+                    override.getQueueCapacity() != null ? override.getQueueCapacity() : queueCapacity,
+                    override.getRejection() != null ? override.getRejection() : rejection,
+                    override.getAwaitTermination() != null ? override.getAwaitTermination() : awaitTermination,
+                    override.getTargetQueueWait() != null ? override.getTargetQueueWait() : targetQueueWait,
+                    propagateTenant);
+        }
+    }
+
+    private final Spec spec;
+    private final LongAdder waitNanosSinceAdapt = new LongAdder();
+    private final LongAdder startedSinceAdapt = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private volatile Timer waitTimer;
+    private volatile Timer runTimer;
+    private volatile Counter rejectedCounter;
+
+    public BulkheadTaskExecutor(Spec spec) {
+        this.spec = spec;
+        setCorePoolSize(spec.corePoolSize());
+        setMaxPoolSize(spec.maxPoolSize());
+        setQueueCapacity(spec.queueCapacity());
+        setThreadNamePrefix(spec.threadNamePrefix());
+        setWaitForTasksToCompleteOnShutdown(true);
+        setAwaitTerminationSeconds((int) spec.awaitTermination().toSeconds());
+        setTaskDecorator(timingDecorator(spec.propagateTenant() ? new TenantContextTaskDecorator() : null));
+        setRejectedExecutionHandler(rejectionHandler(spec.rejection()));
+    }
+
+    public Spec getSpec() {
+        return spec;
+    }
+
+    /** @return 누적 거부(또는 호출 스레드 실행) 건수 */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * Micrometer 미터 등록. {@link #initialize()} 이후 호출한다.
+     */
+    public void bindMetrics(MeterRegistry registry) {
+        String name = spec.name();
+        waitTimer = Timer.builder(METRIC_WAIT).tag(TAG_BULKHEAD, name).register(registry);
+        runTimer = Timer.builder(METRIC_RUN).tag(TAG_BULKHEAD, name).register(registry);
+        rejectedCounter = Counter.builder(METRIC_REJECTED).tag(TAG_BULKHEAD, name)
+                .tag("policy", spec.rejection().name().toLowerCase()).register(registry);
+        Gauge.builder(METRIC_QUEUE_DEPTH, this, BulkheadTaskExecutor::getQueueSize)
+                .tag(TAG_BULKHEAD, name).register(registry);
+        Gauge.builder(METRIC_ACTIVE, this, BulkheadTaskExecutor::getActiveCount)
+                .tag(TAG_BULKHEAD, name).register(registry);
+        Gauge.builder(METRIC_CORE_SIZE, this, BulkheadTaskExecutor::getCorePoolSize)
+                .tag(TAG_BULKHEAD, name).register(registry);
+    }
+
+    /**
+     * 직전 호출 이후 시작된 작업의 평균 큐 대기를 목표와 비교해 core 크기를 조정한다.
+     *
+     * <ul>
+     *   <li>평균 대기 &gt; 목표, 또는 큐에 작업이 있는데 시작된 작업이 없음(전부 점유) → core 를 절반만큼(최소 1) 늘림</li>
+     *   <li>평균 대기 &lt; 목표/4 이고 큐가 비어 있음 → core 를 1 줄임 (기본값 아래로는 내리지 않음)</li>
+     * </ul>
+     *
+     * @return 조정 후 core 크기
+     */
+    public int adapt() {
+        long started = startedSinceAdapt.sumThenReset();
+        long waitNanos = waitNanosSinceAdapt.sumThenReset();
+        int core = getCorePoolSize();
+        long targetNanos = spec.targetQueueWait() != null ? spec.targetQueueWait().toNanos() : 0;
+        if (targetNanos <= 0) {
+            return core;
+        }
+        int queued = getQueueSize();
+        long averageWait = started > 0 ? waitNanos / started : 0;
+        int next = core;
+        if ((averageWait > targetNanos || (queued > 0 && started == 0)) && core < spec.maxPoolSize()) {
+            next = Math.min(spec.maxPoolSize(), core + Math.max(1, core / 2));
+        } else if (averageWait < targetNanos / 4 && queued == 0 && core > spec.corePoolSize()) {
+            next = core - 1;
+        }
+        if (next != core) {
+            setCorePoolSize(next);
+            log.info("⚖️ bulkhead {} core 조정: {} → {} (평균 대기 {}ms, 큐 {})", spec.name(), core, next,
+                    TimeUnit.NANOSECONDS.toMillis(averageWait), queued);
+        }
+        return next;
+    }
+
+    private TaskDecorator timingDecorator(TaskDecorator inner) {
+        return runnable -> {
+            Runnable task = inner != null ? inner.decorate(runnable) : runnable;
+            long submittedAt = System.nanoTime();
+            return () -> {
+                long startedAt = System.nanoTime();
+                long waited = startedAt - submittedAt;
+                waitNanosSinceAdapt.add(waited);
+                startedSinceAdapt.increment();
+                Timer wait = waitTimer;
+                if (wait != null) {
+                    wait.record(waited, TimeUnit.NANOSECONDS);
+                }
+                try {
+                    task.run();
+                } finally {
+                    Timer run = runTimer;
+                    if (run != null) {
+                        run.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    }
+                }
+            };
+        };
+    }
+
+    private RejectedExecutionHandler rejectionHandler(RejectionPolicy policy) {
+        return (task, executor) -> {
+            rejectedCount.increment();
+            Counter counter = rejectedCounter;
+            if (counter != null) {
+                counter.increment();
+            }
+            if (policy == RejectionPolicy.CALLER_RUNS && !executor.isShutdown()) {
+                runInCaller(task);
+                return;
+            }
+            throw new RejectedExecutionException("bulkhead " + spec.name() + " 포화 (큐 "
+                    + executor.getQueue().size() + ", 활성 " + executor.getActiveCount() + ")");
+        };
+    }
+
+    /**
+     * 제출 스레드에서 실행. 전파 데코레이터가 끝에서 TenantContext 를 비우므로 제출 스레드의 값을 되돌린다.
+     */
+    private static void runInCaller(Runnable task) {
+        String tenantId = TenantContext.getTenantId();
+        String branchId = TenantContext.getBranchId();
+        String businessType = TenantContext.getBusinessType();
+        boolean bypass = TenantContext.shouldBypassTenantFilter();
+        try {
+            task.run();
+        } finally {
+            TenantContext.clear();
+            if (tenantId != null) {
+                TenantContext.setTenantId(tenantId);
+            }
+            if (branchId != null) {
+                TenantContext.setBranchId(branchId);
+            }
+            if (businessType != null) {
+                TenantContext.setBusinessType(businessType);
+            }
+            if (bypass) {
+                TenantContext.setBypassTenantFilter(true);
+            }
+        }
+    }
+}
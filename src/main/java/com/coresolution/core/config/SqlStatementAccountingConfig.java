@@ -0,0 +1,34 @@
+package com.coresolution.core.config;
+
+import com.coresolution.core.monitoring.SqlStatementInspector;
+import com.coresolution.core.monitoring.SqlTimingSessionListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * SQL 문 회계용 Hibernate 훅 등록.
+ *
+ * <p>모든 세션 팩토리에 {@link SqlStatementInspector} (문 수·형태)와 {@link SqlTimingSessionListener} (JDBC 실행
+ * 시간)를 건다. 범위가 열려 있지 않은 스레드에서는 ThreadLocal 조회 한 번으로 끝난다.
+ * {@code mindgarden.telemetry.sql.enabled=false} 면 등록하지 않는다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "mindgarden.telemetry.sql", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class SqlStatementAccountingConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementAccountingHibernatePropertiesCustomizer() {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementInspector());
+            hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                    SqlTimingSessionListener.class.getName());
+        };
+    }
+}
@@ -1,6 +1,6 @@
 package com.coresolution.core.config;
 
-import com.coresolution.core.interceptor.ApiPerformanceInterceptor;
+import com.coresolution.core.interceptor.RequestTelemetryInterceptor;
 import com.coresolution.core.interceptor.TenantContextPsychInterceptor;
 import com.coresolution.core.security.SecurityFilter;
 import lombok.RequiredArgsConstructor;
@@ -24,7 +24,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
 
-    private final ApiPerformanceInterceptor apiPerformanceInterceptor;
+    private final RequestTelemetryInterceptor requestTelemetryInterceptor;
     private final TenantContextPsychInterceptor tenantContextPsychInterceptor;
 
     @Override
@@ -34,14 +34,15 @@ public class WebMvcConfig implements WebMvcConfigurer {
                 .addPathPatterns("/api/v1/assessments/psych/**")
                 .order(0);
 
-        // API 성능 모니터링 인터셉터 등록
-        registry.addInterceptor(apiPerformanceInterceptor)
+        // API 요청 텔레메트리 인터셉터 등록 (Micrometer api.* 미터 + 관리자 성능 통계 공통)
+        registry.addInterceptor(requestTelemetryInterceptor)
                 .addPathPatterns("/api/**") // 모든 API 경로에 적용
                 .excludePathPatterns(
-                    "/api/admin/performance/**", // 성능 모니터링 API는 제외 (무한 루프 방지)
-                    "/api/admin/security/**",    // 보안 모니터링 API 제외
-                    "/api/health/**",            // 헬스체크 API 제외
-                    "/api/actuator/**"           // Actuator 엔드포인트 제외
+                    "/api/admin/performance/**",    // 성능 모니터링 API는 제외 (무한 루프 방지)
+                    "/api/v1/admin/performance/**",
+                    "/api/admin/security/**",       // 보안 모니터링 API 제외
+                    "/api/health/**",               // 헬스체크 API 제외
+                    "/api/actuator/**"              // Actuator 엔드포인트 제외
                 );
     }
 
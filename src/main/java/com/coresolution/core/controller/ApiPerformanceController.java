@@ -1,21 +1,30 @@
 package com.coresolution.core.controller;
 
 import com.coresolution.core.dto.ApiResponse;
-import com.coresolution.core.interceptor.ApiPerformanceInterceptor;
+import com.coresolution.core.monitoring.RequestTelemetryRegistry;
+import com.coresolution.core.monitoring.RequestTelemetryRegistry.EndpointSnapshot;
+import com.coresolution.core.monitoring.RequestTelemetryRegistry.TelemetrySnapshot;
+import com.coresolution.core.monitoring.RequestTelemetryRegistry.TenantSnapshot;
+import com.coresolution.core.monitoring.SqlStatementRegistry;
+import com.coresolution.core.monitoring.SqlStatementRegistry.ScopeSnapshot;
+import com.coresolution.core.monitoring.SqlStatementRegistry.SqlSnapshot;
+import com.coresolution.core.util.LatencyHistogram;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * API 성능 모니터링 컨트롤러
- * API 응답 시간 및 성능 통계 제공
- * 
+ * API 응답 시간 및 성능 통계 제공 (평균·최대 + p50/p95/p99, 상위 테넌트, 요청·작업별 SQL 문 수·N+1 의심)
+ *
  * @author CoreSolution
  * @version 1.0.0
  * @since 2025-11-26
@@ -26,7 +35,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ApiPerformanceController {
 
-    private final ApiPerformanceInterceptor performanceInterceptor;
+    private final RequestTelemetryRegistry telemetryRegistry;
+    private final SqlStatementRegistry sqlStatementRegistry;
 
     /**
      * 모든 API 성능 통계 조회
@@ -34,67 +44,47 @@ public class ApiPerformanceController {
     @GetMapping("/stats")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getAllPerformanceStats() {
         log.info("📊 API 성능 통계 조회 요청");
-        
-        ConcurrentHashMap<String, ApiPerformanceInterceptor.ApiStats> allStats = 
-            performanceInterceptor.getAllApiStats();
-        
+
+        TelemetrySnapshot snapshot = telemetryRegistry.snapshot();
+
         Map<String, Object> response = new HashMap<>();
-        Map<String, Object> apiStats = new HashMap<>();
-        
-        // 전체 통계 계산
-        long totalRequests = 0;
-        long totalDuration = 0;
-        long totalErrors = 0;
-        long slowestRequest = 0;
+        Map<String, Object> apiStats = new LinkedHashMap<>();
+
+        double slowestRequest = 0;
         String slowestEndpoint = "";
-        
-        for (Map.Entry<String, ApiPerformanceInterceptor.ApiStats> entry : allStats.entrySet()) {
-            String endpoint = entry.getKey();
-            ApiPerformanceInterceptor.ApiStats stats = entry.getValue();
-            
+
+        for (EndpointSnapshot stats : snapshot.endpoints()) {
             // 개별 API 통계
-            Map<String, Object> endpointStats = new HashMap<>();
-            endpointStats.put("totalRequests", stats.getTotalRequests());
-            endpointStats.put("averageDuration", Math.round(stats.getAverageDuration()));
-            endpointStats.put("minDuration", stats.getMinDuration());
-            endpointStats.put("maxDuration", stats.getMaxDuration());
-            endpointStats.put("errorRate", Math.round(stats.getErrorRate() * 100) / 100.0);
-            endpointStats.put("statusCodes", stats.getStatusCodeCounts().entrySet().stream()
-                .collect(Collectors.toMap(
-                    e -> e.getKey().toString(),
-                    e -> e.getValue().get()
-                )));
-            
-            apiStats.put(endpoint, endpointStats);
-            
-            // 전체 통계 누적
-            totalRequests += stats.getTotalRequests();
-            totalDuration += stats.getTotalDuration();
-            totalErrors += stats.getErrorCount();
-            
+            apiStats.put(stats.endpoint(), toEndpointStats(stats));
+
             // 가장 느린 요청 추적
-            if (stats.getMaxDuration() > slowestRequest) {
-                slowestRequest = stats.getMaxDuration();
-                slowestEndpoint = endpoint;
+            if (stats.latency().maxMs() > slowestRequest) {
+                slowestRequest = stats.latency().maxMs();
+                slowestEndpoint = stats.endpoint();
             }
         }
-        
-        // 전체 요약 통계
+
+        // 전체 요약 통계 (엔드포인트 히스토그램 병합 기준 백분위)
+        LatencyHistogram.Summary latency = snapshot.latency();
         Map<String, Object> summary = new HashMap<>();
-        summary.put("totalApiEndpoints", allStats.size());
-        summary.put("totalRequests", totalRequests);
-        summary.put("averageResponseTime", totalRequests > 0 ? Math.round((double) totalDuration / totalRequests) : 0);
-        summary.put("totalErrors", totalErrors);
-        summary.put("overallErrorRate", totalRequests > 0 ? Math.round((double) totalErrors / totalRequests * 10000) / 100.0 : 0);
-        summary.put("slowestRequest", slowestRequest);
+        summary.put("totalApiEndpoints", snapshot.endpoints().size());
+        summary.put("totalRequests", snapshot.totalRequests());
+        summary.put("averageResponseTime", Math.round(latency.meanMs()));
+        summary.put("p50ResponseTime", round2(latency.p50Ms()));
+        summary.put("p95ResponseTime", round2(latency.p95Ms()));
+        summary.put("p99ResponseTime", round2(latency.p99Ms()));
+        summary.put("totalErrors", snapshot.totalErrors());
+        summary.put("overallErrorRate", snapshot.totalRequests() > 0
+            ? round2((double) snapshot.totalErrors() / snapshot.totalRequests() * 100) : 0);
+        summary.put("slowestRequest", Math.round(slowestRequest));
         summary.put("slowestEndpoint", slowestEndpoint);
-        
+
         response.put("summary", summary);
         response.put("endpoints", apiStats);
-        
-        log.info("✅ API 성능 통계 조회 완료: {} 개 엔드포인트, {} 개 요청", 
-            allStats.size(), totalRequests);
-        
+
+        log.info("✅ API 성능 통계 조회 완료: {} 개 엔드포인트, {} 개 요청",
+            snapshot.endpoints().size(), snapshot.totalRequests());
+
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -104,30 +94,50 @@ public class ApiPerformanceController {
     @GetMapping("/stats/{endpoint}")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getEndpointStats(@PathVariable String endpoint) {
         log.info("📊 특정 API 성능 통계 조회: {}", endpoint);
-        
+
         // URL 디코딩 (공백을 + 또는 %20으로 인코딩된 경우 처리)
         endpoint = endpoint.replace("+", " ").replace("%20", " ");
-        
-        ApiPerformanceInterceptor.ApiStats stats = performanceInterceptor.getApiStats(endpoint);
-        
-        if (stats == null) {
+
+        Optional<EndpointSnapshot> found = telemetryRegistry.endpoint(endpoint);
+
+        if (found.isEmpty()) {
             return ResponseEntity.ok(ApiResponse.error("해당 엔드포인트의 통계를 찾을 수 없습니다: " + endpoint));
         }
-        
+
+        EndpointSnapshot stats = found.get();
+        Map<String, Object> response = toEndpointStats(stats);
+        response.put("endpoint", stats.endpoint());
+        response.put("errorCount", stats.errorCount());
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 요청 수 상위 테넌트별 성능 통계 조회
+     */
+    @GetMapping("/stats/tenants")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getTenantStats(
+            @RequestParam(defaultValue = "0") int limit) {
+
+        log.info("📊 테넌트별 API 성능 통계 조회 (limit: {})", limit);
+
+        List<TenantSnapshot> tenants = telemetryRegistry.topTenants(limit);
+        List<Map<String, Object>> items = tenants.stream()
+            .map(tenant -> {
+                Map<String, Object> item = new LinkedHashMap<>();
+                item.put("tenantId", tenant.tenantId());
+                item.put("totalRequests", tenant.totalRequests());
+                item.put("errorCount", tenant.errorCount());
+                item.put("errorRate", round2(tenant.errorRate()));
+                putLatency(item, tenant.latency());
+                return item;
+            })
+            .collect(Collectors.toList());
+
         Map<String, Object> response = new HashMap<>();
-        response.put("endpoint", stats.getEndpoint());
-        response.put("totalRequests", stats.getTotalRequests());
-        response.put("averageDuration", Math.round(stats.getAverageDuration()));
-        response.put("minDuration", stats.getMinDuration());
-        response.put("maxDuration", stats.getMaxDuration());
-        response.put("errorCount", stats.getErrorCount());
-        response.put("errorRate", Math.round(stats.getErrorRate() * 100) / 100.0);
-        response.put("statusCodes", stats.getStatusCodeCounts().entrySet().stream()
-            .collect(Collectors.toMap(
-                e -> e.getKey().toString(),
-                e -> e.getValue().get()
-            )));
-        
+        response.put("tenantCount", items.size());
+        response.put("tenants", items);
+
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -137,9 +147,9 @@ public class ApiPerformanceController {
     @DeleteMapping("/stats")
     public ResponseEntity<ApiResponse<String>> clearPerformanceStats() {
         log.info("🧹 API 성능 통계 초기화 요청");
-        
-        performanceInterceptor.clearStats();
-        
+
+        telemetryRegistry.reset();
+
         return ResponseEntity.ok(ApiResponse.success("API 성능 통계가 초기화되었습니다."));
     }
 
@@ -149,37 +159,35 @@ public class ApiPerformanceController {
     @GetMapping("/slow-apis")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getSlowApis(
             @RequestParam(defaultValue = "500") long thresholdMs) {
-        
+
         log.info("🐌 느린 API 목록 조회 (임계값: {}ms)", thresholdMs);
-        
-        ConcurrentHashMap<String, ApiPerformanceInterceptor.ApiStats> allStats = 
-            performanceInterceptor.getAllApiStats();
-        
-        Map<String, Object> slowApis = allStats.entrySet().stream()
-            .filter(entry -> entry.getValue().getAverageDuration() > thresholdMs)
-            .sorted((e1, e2) -> Double.compare(e2.getValue().getAverageDuration(), e1.getValue().getAverageDuration()))
+
+        Map<String, Object> slowApis = telemetryRegistry.snapshot().endpoints().stream()
+            .filter(stats -> stats.latency().meanMs() > thresholdMs)
+            .sorted((e1, e2) -> Double.compare(e2.latency().meanMs(), e1.latency().meanMs()))
             .collect(Collectors.toMap(
-                Map.Entry::getKey,
-                entry -> {
-                    ApiPerformanceInterceptor.ApiStats stats = entry.getValue();
+                EndpointSnapshot::endpoint,
+                stats -> {
                     Map<String, Object> apiInfo = new HashMap<>();
-                    apiInfo.put("averageDuration", Math.round(stats.getAverageDuration()));
-                    apiInfo.put("maxDuration", stats.getMaxDuration());
-                    apiInfo.put("totalRequests", stats.getTotalRequests());
-                    apiInfo.put("errorRate", Math.round(stats.getErrorRate() * 100) / 100.0);
+                    apiInfo.put("averageDuration", Math.round(stats.latency().meanMs()));
+                    apiInfo.put("p95Duration", round2(stats.latency().p95Ms()));
+                    apiInfo.put("p99Duration", round2(stats.latency().p99Ms()));
+                    apiInfo.put("maxDuration", Math.round(stats.latency().maxMs()));
+                    apiInfo.put("totalRequests", stats.totalRequests());
+                    apiInfo.put("errorRate", round2(stats.errorRate()));
                     return apiInfo;
                 },
                 (e1, e2) -> e1,
-                java.util.LinkedHashMap::new
+                LinkedHashMap::new
             ));
-        
+
         Map<String, Object> response = new HashMap<>();
         response.put("threshold", thresholdMs);
         response.put("slowApiCount", slowApis.size());
         response.put("slowApis", slowApis);
-        
+
         log.info("✅ 느린 API {} 개 발견", slowApis.size());
-        
+
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -189,38 +197,103 @@ public class ApiPerformanceController {
     @GetMapping("/error-prone-apis")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getErrorProneApis(
             @RequestParam(defaultValue = "5.0") double errorRateThreshold) {
-        
+
         log.info("🚨 에러율 높은 API 목록 조회 (임계값: {}%)", errorRateThreshold);
-        
-        ConcurrentHashMap<String, ApiPerformanceInterceptor.ApiStats> allStats = 
-            performanceInterceptor.getAllApiStats();
-        
-        Map<String, Object> errorProneApis = allStats.entrySet().stream()
-            .filter(entry -> entry.getValue().getErrorRate() > errorRateThreshold && 
-                           entry.getValue().getTotalRequests() >= 10) // 최소 10회 이상 호출된 API만
-            .sorted((e1, e2) -> Double.compare(e2.getValue().getErrorRate(), e1.getValue().getErrorRate()))
+
+        Map<String, Object> errorProneApis = telemetryRegistry.snapshot().endpoints().stream()
+            .filter(stats -> stats.errorRate() > errorRateThreshold &&
+                           stats.totalRequests() >= 10) // 최소 10회 이상 호출된 API만
+            .sorted((e1, e2) -> Double.compare(e2.errorRate(), e1.errorRate()))
             .collect(Collectors.toMap(
-                Map.Entry::getKey,
-                entry -> {
-                    ApiPerformanceInterceptor.ApiStats stats = entry.getValue();
+                EndpointSnapshot::endpoint,
+                stats -> {
                     Map<String, Object> apiInfo = new HashMap<>();
-                    apiInfo.put("errorRate", Math.round(stats.getErrorRate() * 100) / 100.0);
-                    apiInfo.put("errorCount", stats.getErrorCount());
-                    apiInfo.put("totalRequests", stats.getTotalRequests());
-                    apiInfo.put("averageDuration", Math.round(stats.getAverageDuration()));
+                    apiInfo.put("errorRate", round2(stats.errorRate()));
+                    apiInfo.put("errorCount", stats.errorCount());
+                    apiInfo.put("totalRequests", stats.totalRequests());
+                    apiInfo.put("averageDuration", Math.round(stats.latency().meanMs()));
                     return apiInfo;
                 },
                 (e1, e2) -> e1,
-                java.util.LinkedHashMap::new
+                LinkedHashMap::new
             ));
-        
+
         Map<String, Object> response = new HashMap<>();
         response.put("errorRateThreshold", errorRateThreshold);
         response.put("errorProneApiCount", errorProneApis.size());
         response.put("errorProneApis", errorProneApis);
-        
+
         log.info("✅ 에러율 높은 API {} 개 발견", errorProneApis.size());
-        
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 요청·스케줄 작업별 SQL 문 수·DB 시간 및 최근 N+1 의심 목록 조회
+     */
+    @GetMapping("/sql-stats")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getSqlStats(
+            @RequestParam(defaultValue = "false") boolean nPlusOneOnly) {
+
+        log.info("🗄️ SQL 문 회계 통계 조회 (N+1 의심만: {})", nPlusOneOnly);
+
+        SqlSnapshot snapshot = sqlStatementRegistry.snapshot();
+        List<Map<String, Object>> scopes = snapshot.scopes().stream()
+            .filter(scope -> !nPlusOneOnly || scope.nPlusOneCount() > 0)
+            .map(ApiPerformanceController::toSqlScopeStats)
+            .collect(Collectors.toList());
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("scopeCount", scopes.size());
+        response.put("scopes", scopes);
+        response.put("nPlusOneFindings", snapshot.findings());
+
         return ResponseEntity.ok(ApiResponse.success(response));
     }
+
+    /**
+     * SQL 문 회계 통계 초기화
+     */
+    @DeleteMapping("/sql-stats")
+    public ResponseEntity<ApiResponse<String>> clearSqlStats() {
+        log.info("🧹 SQL 문 회계 통계 초기화 요청");
+
+        sqlStatementRegistry.reset();
+
+        return ResponseEntity.ok(ApiResponse.success("SQL 문 회계 통계가 초기화되었습니다."));
+    }
+
+    private static Map<String, Object> toSqlScopeStats(ScopeSnapshot scope) {
+        Map<String, Object> item = new LinkedHashMap<>();
+        item.put("scope", scope.key());
+        item.put("executions", scope.executions());
+        item.put("totalStatements", scope.totalStatements());
+        item.put("averageStatements", round2(scope.avgStatements()));
+        item.put("maxStatements", scope.maxStatements());
+        item.put("totalDbTime", round2(scope.totalDbMs()));
+        item.put("averageDbTime", round2(scope.avgDbMs()));
+        item.put("nPlusOneCount", scope.nPlusOneCount());
+        return item;
+    }
+
+    private static Map<String, Object> toEndpointStats(EndpointSnapshot stats) {
+        Map<String, Object> endpointStats = new HashMap<>();
+        endpointStats.put("totalRequests", stats.totalRequests());
+        putLatency(endpointStats, stats.latency());
+        endpointStats.put("errorRate", round2(stats.errorRate()));
+        endpointStats.put("statusCodes", stats.statusClasses());
+        return endpointStats;
+    }
+
+    private static void putLatency(Map<String, Object> target, LatencyHistogram.Summary latency) {
+        target.put("averageDuration", Math.round(latency.meanMs()));
+        target.put("p50Duration", round2(latency.p50Ms()));
+        target.put("p95Duration", round2(latency.p95Ms()));
+        target.put("p99Duration", round2(latency.p99Ms()));
+        target.put("maxDuration", Math.round(latency.maxMs()));
+    }
+
+    private static double round2(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
 }
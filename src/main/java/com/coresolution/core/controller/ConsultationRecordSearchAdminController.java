@@ -0,0 +1,84 @@
+package com.coresolution.core.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.coresolution.consultation.service.search.ConsultationRecordSearchIndex;
+import com.coresolution.consultation.service.search.ConsultationRecordSearchIndex.RebuildResult;
+import com.coresolution.core.constant.OpsTenantConstants;
+import com.coresolution.core.context.TenantContextHolder;
+import com.coresolution.core.dto.ApiResponse;
+import com.coresolution.core.util.LogSanitizer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상담일지 전문 검색 색인 재구축 어드민 엔드포인트.
+ *
+ * <p>색인은 상담일지 생성·수정·삭제 시 갱신되므로, 재구축은 마이그레이션 이전 데이터 보정이나 색인 쓰기 실패
+ * 복구용이다. 응답에는 건수만 포함하며 상담일지 본문은 노출하지 않는다.</p>
+ *
+ * <p>권한 가드: 클래스 레벨 {@code @PreAuthorize("hasRole('OPS')")} + 메서드 진입부 HQ 테넌트 검증
+ * ({@link PiiKeyRotationAdminController} 와 동일한 옵션 3+1 하이브리드).</p>
+ *
+ * <ul>
+ *   <li>{@code POST /api/v1/admin/search/consultation-records/rebuild} — 전체 테넌트 재구축</li>
+ *   <li>{@code POST /api/v1/admin/search/consultation-records/rebuild?tenant_id=} — 단일 테넌트 재구축</li>
+ * </ul>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin/search/consultation-records")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('OPS')")
+public class ConsultationRecordSearchAdminController extends BaseApiController {
+
+    private static final String HQ_GUARD_DENY_MESSAGE =
+        "상담일지 검색 색인 재구축은 본사(Ops) 테넌트만 호출 가능 — 외부 테넌트 차단";
+
+    private final ConsultationRecordSearchIndex searchIndex;
+    private final OpsTenantConstants opsTenantConstants;
+
+    /**
+     * 검색 색인 재구축.
+     *
+     * @param tenantId 대상 테넌트 (생략 시 상담일지가 있는 전체 테넌트)
+     * @return 테넌트별 재구축 결과
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<ApiResponse<List<RebuildResult>>> rebuild(
+            @RequestParam(value = "tenant_id", required = false) String tenantId) {
+        assertHqTenant();
+        log.info("상담일지 검색 색인 재구축 요청 — tenantId={}",
+            tenantId == null ? "ALL" : LogSanitizer.forLog(tenantId));
+        List<RebuildResult> results = tenantId == null || tenantId.isBlank()
+            ? searchIndex.rebuildAll()
+            : List.of(searchIndex.rebuild(tenantId.trim()));
+        return success("상담일지 검색 색인을 재구축했습니다.", results);
+    }
+
+    /**
+     * 현재 요청 테넌트가 본사(HQ) 인지 검증한다.
+     *
+     * @throws AccessDeniedException 본사 테넌트가 아닌 경우
+     */
+    private void assertHqTenant() {
+        String currentTenant = TenantContextHolder.getRequiredTenantId();
+        if (!opsTenantConstants.isHqTenant(currentTenant)) {
+            log.warn("[OPS] 상담일지 검색 색인 재구축 외부 테넌트 차단 — currentTenant={} (HQ 가드)",
+                LogSanitizer.forLog(currentTenant));
+            throw new AccessDeniedException(HQ_GUARD_DENY_MESSAGE);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.coresolution.core.controller;
+
+import com.coresolution.core.aspect.ControllerTraceRecorder;
+import com.coresolution.core.aspect.ControllerTraceRecorder.Settings;
+import com.coresolution.core.aspect.ControllerTraceRecorder.TraceRecord;
+import com.coresolution.core.constant.OpsTenantConstants;
+import com.coresolution.core.context.TenantContextHolder;
+import com.coresolution.core.dto.ApiResponse;
+import com.coresolution.core.util.LogSanitizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 컨트롤러 자동 추적 운영 API — Ops Portal 전용 (본사 운영팀).
+ * 추적 모드·샘플링 비율을 재시작 없이 조정하고 최근 추적을 덤프한다.
+ *
+ * <p>권한 가드는 {@link MonitoringController} 와 동일 — 클래스 레벨 {@code hasRole('OPS')} +
+ * 메서드별 HQ 테넌트 검증.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/monitoring/controller-trace")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('OPS')")
+public class ControllerTraceController {
+
+    private static final String HQ_GUARD_DENY_MESSAGE =
+        "컨트롤러 추적 설정은 본사(Ops) 테넌트만 호출 가능 — 외부 테넌트 차단";
+
+    private final ControllerTraceRecorder traceRecorder;
+    private final OpsTenantConstants opsTenantConstants;
+
+    /**
+     * 설정 변경 요청. null 필드는 기존 값 유지.
+     *
+     * @param mode             OFF / SYNC / SAMPLED
+     * @param sampleRate       기본 샘플링 비율 (0~1)
+     * @param routeSampleRates 라우트별 비율 (전달 시 전체 교체)
+     * @param slowThresholdMs  느린 호출 임계값 (ms)
+     */
+    public record SettingsUpdateRequest(String mode, Double sampleRate, Map<String, Double> routeSampleRates,
+            Long slowThresholdMs) {
+    }
+
+    /**
+     * 현재 추적 설정 + 기록 통계 조회
+     */
+    @GetMapping("/settings")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getSettings() {
+        assertHqTenant();
+        return ResponseEntity.ok(ApiResponse.success(toResponse(traceRecorder.settings())));
+    }
+
+    /**
+     * 추적 설정 변경 (재시작 불필요)
+     */
+    @PutMapping("/settings")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> updateSettings(
+            @RequestBody SettingsUpdateRequest request) {
+        assertHqTenant();
+        try {
+            Settings updated = traceRecorder.updateSettings(
+                request.mode() != null ? ControllerTraceRecorder.parseMode(request.mode()) : null,
+                request.sampleRate(),
+                request.routeSampleRates(),
+                request.slowThresholdMs() != null ? Duration.ofMillis(request.slowThresholdMs()) : null);
+            return ResponseEntity.ok(ApiResponse.success("컨트롤러 추적 설정이 변경되었습니다.", toResponse(updated)));
+        } catch (IllegalArgumentException e) {
+            log.warn("컨트롤러 추적 설정 변경 거부: {}", LogSanitizer.forLog(e.getMessage()));
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    /**
+     * 최근 추적 덤프 (최신순)
+     */
+    @GetMapping("/traces")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getRecentTraces(
+            @RequestParam(defaultValue = "50") int limit) {
+        assertHqTenant();
+        List<TraceRecord> traces = traceRecorder.recentTraces(limit);
+        Map<String, Object> response = new HashMap<>();
+        response.put("count", traces.size());
+        response.put("traces", traces);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 최근 추적 비우기
+     */
+    @DeleteMapping("/traces")
+    public ResponseEntity<ApiResponse<String>> clearTraces() {
+        assertHqTenant();
+        traceRecorder.clearTraces();
+        return ResponseEntity.ok(ApiResponse.success("최근 컨트롤러 추적이 초기화되었습니다."));
+    }
+
+    private Map<String, Object> toResponse(Settings settings) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("mode", settings.mode().name());
+        response.put("sampleRate", settings.sampleRate());
+        response.put("routeSampleRates", settings.routeSampleRates());
+        response.put("slowThresholdMs", settings.slowThreshold().toMillis());
+        response.put("stats", traceRecorder.stats());
+        return response;
+    }
+
+    private void assertHqTenant() {
+        String currentTenant = TenantContextHolder.getRequiredTenantId();
+        if (!opsTenantConstants.isHqTenant(currentTenant)) {
+            log.warn("[OPS] 컨트롤러 추적 외부 테넌트 차단 — currentTenant={} (HQ 가드)",
+                LogSanitizer.forLog(currentTenant));
+            throw new AccessDeniedException(HQ_GUARD_DENY_MESSAGE);
+        }
+    }
+}
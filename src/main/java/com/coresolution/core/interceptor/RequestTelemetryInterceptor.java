@@ -0,0 +1,86 @@
+package com.coresolution.core.interceptor;
+
+import com.coresolution.core.context.TenantContextHolder;
+import com.coresolution.core.monitoring.RequestTelemetryRegistry;
+import com.coresolution.core.monitoring.SqlStatementAccounting.Scope;
+import com.coresolution.core.monitoring.SqlStatementAccounting.ScopeKind;
+import com.coresolution.core.monitoring.SqlStatementRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * API 요청 텔레메트리 인터셉터
+ * 요청 처리 시간을 측정해 {@link RequestTelemetryRegistry} 에 기록 (Micrometer 미터·관리자 성능 API 공통)
+ *
+ * <p>경로 키는 {@link HandlerMapping#BEST_MATCHING_PATTERN_ATTRIBUTE} (핸들러 패턴)을 그대로 사용한다.
+ * 비동기 요청은 최초 dispatch 의 시작 시각을 유지하므로 완료까지의 전체 시간이 기록된다.</p>
+ *
+ * <p>같은 경로 키로 SQL 문 회계 범위를 열어 요청이 실행한 문 수·DB 시간·반복 형태(N+1 의심)를
+ * {@link SqlStatementRegistry} 에 기록한다. 비동기 요청은 dispatch 스레드마다 범위를 따로 닫는다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestTelemetryInterceptor implements AsyncHandlerInterceptor {
+
+    static final String START_NANOS_ATTRIBUTE = RequestTelemetryInterceptor.class.getName() + ".startNanos";
+    static final String SQL_SCOPE_ATTRIBUTE = RequestTelemetryInterceptor.class.getName() + ".sqlScope";
+
+    private final RequestTelemetryRegistry telemetryRegistry;
+    private final SqlStatementRegistry sqlStatementRegistry;
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull Object handler) {
+        if (request.getAttribute(START_NANOS_ATTRIBUTE) == null) {
+            request.setAttribute(START_NANOS_ATTRIBUTE, System.nanoTime());
+        }
+        if (request.getAttribute(SQL_SCOPE_ATTRIBUTE) == null) {
+            Scope scope = sqlStatementRegistry.openScope(ScopeKind.REQUEST, endpointKey(request));
+            if (scope != null) {
+                request.setAttribute(SQL_SCOPE_ATTRIBUTE, scope);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(@NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response, @NonNull Object handler) {
+        completeSqlScope(request);
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull Object handler, Exception ex) {
+        completeSqlScope(request);
+        if (!(request.getAttribute(START_NANOS_ATTRIBUTE) instanceof Long startNanos)) {
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        telemetryRegistry.record(pattern instanceof String route ? route : null, request.getMethod(),
+                response.getStatus(), TenantContextHolder.getTenantId(), elapsedNanos, ex != null);
+    }
+
+    private void completeSqlScope(HttpServletRequest request) {
+        if (request.getAttribute(SQL_SCOPE_ATTRIBUTE) instanceof Scope scope) {
+            request.removeAttribute(SQL_SCOPE_ATTRIBUTE);
+            sqlStatementRegistry.complete(scope);
+        }
+    }
+
+    private static String endpointKey(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " "
+                + (pattern instanceof String route ? route : RequestTelemetryRegistry.UNMATCHED_ROUTE);
+    }
+}
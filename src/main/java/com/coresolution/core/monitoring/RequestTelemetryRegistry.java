@@ -0,0 +1,380 @@
+package com.coresolution.core.monitoring;
+
+import com.coresolution.consultation.config.RequestTelemetryProperties;
+import com.coresolution.core.util.LatencyHistogram;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * API 요청 텔레메트리 집계기.
+ *
+ * <p>키는 Spring MVC 가 고른 핸들러 패턴(예: {@code /api/v1/users/{id}}) 이므로 정규식 정규화가 필요 없다.
+ * (패턴, 메서드) 별 {@link LatencyHistogram} 과 상태 클래스(2xx/4xx/5xx…)별 카운트를 유지하고,
+ * Micrometer 미터({@value #METRIC_DURATION}, {@value #METRIC_REQUESTS}, {@value #METRIC_ERRORS})는
+ * (패턴, 메서드, 상태 클래스) 단위로 한 번만 등록해 캐시한다. 첫 요청 이후 기록 경로는 맵 조회와
+ * 원자 증가뿐이다.</p>
+ *
+ * <p>테넌트별 요청 수·오류 수·지연 히스토그램은 {@code max-tracked-tenants} 까지 개별 유지한다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RequestTelemetryRegistry {
+
+    static final String METRIC_REQUESTS = "api.requests";
+    static final String METRIC_DURATION = "api.duration";
+    static final String METRIC_ERRORS = "api.errors";
+
+    /** 핸들러가 매칭되지 않은 요청(404·정적 리소스 등)의 경로 키 */
+    public static final String UNMATCHED_ROUTE = "UNMATCHED";
+    /** 테넌트 컨텍스트 없는 요청 */
+    public static final String NO_TENANT = "__none__";
+    /** 개별 집계 한도를 넘은 테넌트 합산 */
+    public static final String OTHER_TENANTS = "__other__";
+
+    private static final String[] METHODS = {"GET", "POST", "PUT", "PATCH", "DELETE", "OTHER"};
+    private static final String[] STATUS_CLASSES = {"1xx", "2xx", "3xx", "4xx", "5xx"};
+    private static final int SERVER_ERROR_CLASS = 4;
+
+    private final RequestTelemetryProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private final ConcurrentHashMap<String, RouteStats> routes = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, TenantStats> tenants = new ConcurrentHashMap<>();
+    private volatile TenantStats otherTenants = new TenantStats(OTHER_TENANTS);
+
+    /**
+     * 엔드포인트 스냅샷.
+     *
+     * @param endpoint      "METHOD 패턴"
+     * @param totalRequests 요청 수
+     * @param errorCount    오류 수 (4xx·5xx·예외)
+     * @param errorRate     오류율 (%)
+     * @param latency       지연 요약
+     * @param statusClasses 상태 클래스별 요청 수
+     */
+    public record EndpointSnapshot(String endpoint, long totalRequests, long errorCount, double errorRate,
+            LatencyHistogram.Summary latency, Map<String, Long> statusClasses) {
+    }
+
+    /**
+     * 테넌트 스냅샷.
+     *
+     * @param tenantId      테넌트 ID ({@value #NO_TENANT}, {@value #OTHER_TENANTS} 포함)
+     * @param totalRequests 요청 수
+     * @param errorCount    오류 수
+     * @param errorRate     오류율 (%)
+     * @param latency       지연 요약
+     */
+    public record TenantSnapshot(String tenantId, long totalRequests, long errorCount, double errorRate,
+            LatencyHistogram.Summary latency) {
+    }
+
+    /**
+     * 전체 스냅샷.
+     *
+     * @param totalRequests 요청 수
+     * @param totalErrors   오류 수
+     * @param latency       전 엔드포인트 병합 지연 요약
+     * @param endpoints     엔드포인트별 스냅샷 (요청 수 내림차순)
+     */
+    public record TelemetrySnapshot(long totalRequests, long totalErrors, LatencyHistogram.Summary latency,
+            List<EndpointSnapshot> endpoints) {
+    }
+
+    /** 패턴 1개 — 메서드별 엔드포인트 슬롯 */
+    private static final class RouteStats {
+        private final String route;
+        private final AtomicReferenceArray<EndpointStats> endpoints = new AtomicReferenceArray<>(METHODS.length);
+
+        private RouteStats(String route) {
+            this.route = route;
+        }
+    }
+
+    /** (패턴, 메서드) 1개 */
+    private static final class EndpointStats {
+        private final String key;
+        private final String method;
+        private final String route;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final LongAdder[] statusCounts = new LongAdder[STATUS_CLASSES.length];
+        private final LongAdder errors = new LongAdder();
+        private final AtomicReferenceArray<Meters> meters = new AtomicReferenceArray<>(STATUS_CLASSES.length);
+
+        private EndpointStats(String method, String route) {
+            this.method = method;
+            this.route = route;
+            this.key = method + " " + route;
+            for (int i = 0; i < statusCounts.length; i++) {
+                statusCounts[i] = new LongAdder();
+            }
+        }
+    }
+
+    /** (패턴, 메서드, 상태 클래스) 미터 캐시 */
+    private record Meters(Timer duration, Counter requests, Counter errors) {
+    }
+
+    private static final class TenantStats {
+        private final String tenantId;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+
+        private TenantStats(String tenantId) {
+            this.tenantId = tenantId;
+        }
+    }
+
+    /**
+     * 요청 1건 기록.
+     *
+     * @param route        핸들러 패턴 (없으면 null)
+     * @param method       HTTP 메서드
+     * @param status       응답 상태 코드
+     * @param tenantId     테넌트 ID (없으면 null)
+     * @param elapsedNanos 처리 시간 (ns)
+     * @param failed       핸들러 예외 발생 여부
+     */
+    public void record(String route, String method, int status, String tenantId, long elapsedNanos, boolean failed) {
+        int statusClass = statusClassIndex(status, failed);
+        boolean error = failed || status >= 400;
+
+        EndpointStats endpoint = endpoint(route == null ? UNMATCHED_ROUTE : route, methodIndex(method));
+        endpoint.histogram.recordNanos(elapsedNanos);
+        endpoint.statusCounts[statusClass].increment();
+        if (error) {
+            endpoint.errors.increment();
+        }
+        Meters meters = meters(endpoint, statusClass);
+        if (meters != null) {
+            meters.duration().record(elapsedNanos, TimeUnit.NANOSECONDS);
+            meters.requests().increment();
+            if (error) {
+                meters.errors().increment();
+            }
+        }
+
+        TenantStats tenant = tenant(tenantId == null || tenantId.isEmpty() ? NO_TENANT : tenantId);
+        tenant.histogram.recordNanos(elapsedNanos);
+        if (error) {
+            tenant.errors.increment();
+        }
+
+        logIfSlow(endpoint, status, elapsedNanos);
+    }
+
+    /**
+     * @return 전체 스냅샷
+     */
+    public TelemetrySnapshot snapshot() {
+        List<EndpointSnapshot> endpoints = new ArrayList<>();
+        LatencyHistogram.Snapshot merged = new LatencyHistogram.Snapshot();
+        long totalErrors = 0;
+        for (RouteStats route : routes.values()) {
+            for (int m = 0; m < METHODS.length; m++) {
+                EndpointStats endpoint = route.endpoints.get(m);
+                if (endpoint == null) {
+                    continue;
+                }
+                LatencyHistogram.Snapshot histogram = endpoint.histogram.snapshot();
+                merged.merge(histogram);
+                EndpointSnapshot snapshot = toSnapshot(endpoint, histogram);
+                totalErrors += snapshot.errorCount();
+                endpoints.add(snapshot);
+            }
+        }
+        endpoints.sort(Comparator.comparingLong(EndpointSnapshot::totalRequests).reversed());
+        return new TelemetrySnapshot(merged.count(), totalErrors, merged.summary(), endpoints);
+    }
+
+    /**
+     * @param endpointKey "METHOD 패턴" (예: {@code GET /api/v1/users/{id}})
+     * @return 엔드포인트 스냅샷
+     */
+    public Optional<EndpointSnapshot> endpoint(String endpointKey) {
+        if (endpointKey == null) {
+            return Optional.empty();
+        }
+        int space = endpointKey.indexOf(' ');
+        if (space <= 0) {
+            return Optional.empty();
+        }
+        RouteStats route = routes.get(endpointKey.substring(space + 1).trim());
+        if (route == null) {
+            return Optional.empty();
+        }
+        EndpointStats endpoint = route.endpoints.get(methodIndex(endpointKey.substring(0, space)));
+        return endpoint == null ? Optional.empty()
+                : Optional.of(toSnapshot(endpoint, endpoint.histogram.snapshot()));
+    }
+
+    /**
+     * 요청 수 기준 상위 테넌트.
+     *
+     * @param limit 최대 건수 (0 이하이면 설정값)
+     * @return 요청 수 내림차순
+     */
+    public List<TenantSnapshot> topTenants(int limit) {
+        int max = limit > 0 ? limit : properties.getTopTenants();
+        List<TenantStats> all = new ArrayList<>(tenants.values());
+        TenantStats other = otherTenants;
+        if (other.histogram.count() > 0) {
+            all.add(other);
+        }
+        all.sort(Comparator.comparingLong((TenantStats t) -> t.histogram.count()).reversed());
+        List<TenantSnapshot> result = new ArrayList<>(Math.min(max, all.size()));
+        for (TenantStats tenant : all) {
+            if (result.size() >= max) {
+                break;
+            }
+            LatencyHistogram.Snapshot histogram = tenant.histogram.snapshot();
+            long errors = tenant.errors.sum();
+            result.add(new TenantSnapshot(tenant.tenantId, histogram.count(), errors,
+                    errorRate(errors, histogram.count()), histogram.summary()));
+        }
+        return result;
+    }
+
+    /**
+     * 관리자 API 용 집계 초기화. Micrometer 미터는 누적 카운터이므로 유지한다.
+     */
+    public void reset() {
+        routes.clear();
+        tenants.clear();
+        otherTenants = new TenantStats(OTHER_TENANTS);
+        log.info("✅ API 요청 텔레메트리 통계가 초기화되었습니다.");
+    }
+
+    private EndpointStats endpoint(String route, int methodIndex) {
+        RouteStats stats = routes.get(route);
+        if (stats == null) {
+            stats = routes.computeIfAbsent(route, RouteStats::new);
+        }
+        EndpointStats endpoint = stats.endpoints.get(methodIndex);
+        if (endpoint == null) {
+            stats.endpoints.compareAndSet(methodIndex, null, new EndpointStats(METHODS[methodIndex], route));
+            endpoint = stats.endpoints.get(methodIndex);
+        }
+        return endpoint;
+    }
+
+    private Meters meters(EndpointStats endpoint, int statusClass) {
+        Meters meters = endpoint.meters.get(statusClass);
+        if (meters != null) {
+            return meters;
+        }
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        if (registry == null) {
+            return null;
+        }
+        String status = STATUS_CLASSES[statusClass];
+        Timer duration = Timer.builder(METRIC_DURATION)
+                .tag("method", endpoint.method)
+                .tag("uri", endpoint.route)
+                .tag("status", status)
+                .publishPercentileHistogram(properties.isPublishPercentileHistogram())
+                .register(registry);
+        Counter requests = Counter.builder(METRIC_REQUESTS)
+                .tag("method", endpoint.method)
+                .tag("uri", endpoint.route)
+                .tag("status", status)
+                .register(registry);
+        Counter errors = Counter.builder(METRIC_ERRORS)
+                .tag("method", endpoint.method)
+                .tag("uri", endpoint.route)
+                .tag("status", status)
+                .register(registry);
+        endpoint.meters.compareAndSet(statusClass, null, new Meters(duration, requests, errors));
+        return endpoint.meters.get(statusClass);
+    }
+
+    private TenantStats tenant(String tenantId) {
+        TenantStats stats = tenants.get(tenantId);
+        if (stats != null) {
+            return stats;
+        }
+        if (tenants.size() >= properties.getMaxTrackedTenants()) {
+            return otherTenants;
+        }
+        return tenants.computeIfAbsent(tenantId, TenantStats::new);
+    }
+
+    private void logIfSlow(EndpointStats endpoint, int status, long elapsedNanos) {
+        long thresholdNanos = properties.getSlowRequestThreshold().toNanos();
+        if (elapsedNanos < thresholdNanos) {
+            return;
+        }
+        long millis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (elapsedNanos >= properties.getVerySlowRequestThreshold().toNanos()) {
+            log.error("🚨 매우 느린 API: {} - {}ms (상태: {})", endpoint.key, millis, status);
+        } else {
+            log.warn("🐌 느린 API 감지: {} - {}ms (상태: {})", endpoint.key, millis, status);
+        }
+    }
+
+    private static EndpointSnapshot toSnapshot(EndpointStats endpoint, LatencyHistogram.Snapshot histogram) {
+        Map<String, Long> statusClasses = new LinkedHashMap<>();
+        for (int i = 0; i < STATUS_CLASSES.length; i++) {
+            long count = endpoint.statusCounts[i].sum();
+            if (count > 0) {
+                statusClasses.put(STATUS_CLASSES[i], count);
+            }
+        }
+        long errors = endpoint.errors.sum();
+        return new EndpointSnapshot(endpoint.key, histogram.count(), errors,
+                errorRate(errors, histogram.count()), histogram.summary(), statusClasses);
+    }
+
+    private static double errorRate(long errors, long total) {
+        return total > 0 ? (double) errors / total * 100 : 0.0;
+    }
+
+    private static int statusClassIndex(int status, boolean failed) {
+        if (failed && status < 400) {
+            // 예외가 응답 상태로 반영되기 전에 afterCompletion 이 호출된 경우
+            return SERVER_ERROR_CLASS;
+        }
+        int index = status / 100 - 1;
+        return index < 0 || index >= STATUS_CLASSES.length ? SERVER_ERROR_CLASS : index;
+    }
+
+    private static int methodIndex(String method) {
+        if (method == null) {
+            return METHODS.length - 1;
+        }
+        switch (method) {
+            case "GET":
+                return 0;
+            case "POST":
+                return 1;
+            case "PUT":
+                return 2;
+            case "PATCH":
+                return 3;
+            case "DELETE":
+                return 4;
+            default:
+                return METHODS.length - 1;
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.coresolution.core.monitoring;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스레드 단위 SQL 문 회계.
+ *
+ * <p>요청·스케줄 작업·테스트가 {@link #open(ScopeKind, String, int)} 로 범위를 열면, 그 스레드에서 Hibernate 가
+ * 준비하는 문은 {@link SqlStatementInspector} 를 거쳐 {@link #onStatement(String)} 로, 실행 시간은
+ * {@link SqlTimingSessionListener} 를 거쳐 {@link #onExecution(long)} 으로 현재 범위(와 바깥 범위)에 누적된다.
+ * 범위가 없으면 아무것도 하지 않는다.</p>
+ *
+ * <p>문 형태는 주석·리터럴·IN 목록 길이를 지운 정규화 SQL 이다. 같은 형태가 한 범위에서 여러 번 나오면
+ * 행마다 조회하는 N+1 패턴일 가능성이 높다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public final class SqlStatementAccounting {
+
+    /** 형태 키 최대 길이 — 긴 IN/UNION 문이 메모리를 잡아먹지 않게 자른다 */
+    static final int MAX_SHAPE_LENGTH = 1000;
+    /** 기본 범위당 형태 상한 */
+    public static final int DEFAULT_MAX_SHAPES = 256;
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    /**
+     * 범위 종류.
+     */
+    public enum ScopeKind {
+        /** HTTP 요청 (키: "METHOD 핸들러 패턴") */
+        REQUEST,
+        /** 스케줄 작업 (키: "클래스#메서드") */
+        JOB,
+        /** 테스트·수동 측정 */
+        MANUAL
+    }
+
+    /**
+     * 반복된 문 형태.
+     *
+     * @param shape 정규화 SQL
+     * @param count 범위 안 실행(준비) 횟수
+     */
+    public record RepeatedShape(String shape, int count) {
+    }
+
+    /**
+     * 한 범위의 문 회계. 같은 스레드에서만 갱신되므로 동기화하지 않는다.
+     */
+    public static final class Scope implements AutoCloseable {
+        private final ScopeKind kind;
+        private final String name;
+        private final Scope parent;
+        private final int maxShapes;
+        private final long startNanos = System.nanoTime();
+        private final Map<String, int[]> shapes = new HashMap<>();
+        private int statementCount;
+        private long dbNanos;
+        private long elapsedNanos = -1;
+
+        private Scope(ScopeKind kind, String name, Scope parent, int maxShapes) {
+            this.kind = kind;
+            this.name = name;
+            this.parent = parent;
+            this.maxShapes = maxShapes;
+        }
+
+        public ScopeKind kind() {
+            return kind;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        /** @return 범위 안에서 준비된 문 수 */
+        public int statementCount() {
+            return statementCount;
+        }
+
+        /** @return 범위 안 JDBC 실행 누적 시간 (ns) */
+        public long dbNanos() {
+            return dbNanos;
+        }
+
+        /** @return 범위 경과 시간 (ns). 닫히기 전이면 지금까지 */
+        public long elapsedNanos() {
+            return elapsedNanos >= 0 ? elapsedNanos : System.nanoTime() - startNanos;
+        }
+
+        /** @return 서로 다른 문 형태 수 (상한까지) */
+        public int distinctShapes() {
+            return shapes.size();
+        }
+
+        /**
+         * @param threshold 최소 반복 횟수
+         * @return threshold 번 이상 반복된 형태 (횟수 내림차순)
+         */
+        public List<RepeatedShape> repeatedShapes(int threshold) {
+            List<RepeatedShape> repeated = new ArrayList<>();
+            for (Map.Entry<String, int[]> entry : shapes.entrySet()) {
+                if (entry.getValue()[0] >= threshold) {
+                    repeated.add(new RepeatedShape(entry.getKey(), entry.getValue()[0]));
+                }
+            }
+            repeated.sort(Comparator.comparingInt(RepeatedShape::count).reversed());
+            return repeated;
+        }
+
+        private void addStatement(String shape) {
+            statementCount++;
+            int[] counter = shapes.get(shape);
+            if (counter != null) {
+                counter[0]++;
+            } else if (shapes.size() < maxShapes) {
+                shapes.put(shape, new int[] {1});
+            }
+        }
+
+        /**
+         * 범위를 닫고 바깥 범위를 현재 범위로 되돌린다. 두 번 닫아도 무해하다.
+         */
+        @Override
+        public void close() {
+            if (elapsedNanos >= 0) {
+                return;
+            }
+            elapsedNanos = System.nanoTime() - startNanos;
+            if (CURRENT.get() == this) {
+                if (parent != null) {
+                    CURRENT.set(parent);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        }
+    }
+
+    private SqlStatementAccounting() {
+    }
+
+    /**
+     * 현재 스레드에 범위를 연다. 이미 열린 범위가 있으면 그 안쪽 범위가 되고, 문은 양쪽에 모두 누적된다.
+     *
+     * @param kind      범위 종류
+     * @param name      범위 이름
+     * @param maxShapes 개별로 셀 최대 형태 수
+     * @return 열린 범위 (try-with-resources 로 닫는다)
+     */
+    public static Scope open(ScopeKind kind, String name, int maxShapes) {
+        Scope scope = new Scope(kind, name, CURRENT.get(), Math.max(1, maxShapes));
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * {@link #DEFAULT_MAX_SHAPES} 로 범위를 연다.
+     */
+    public static Scope open(ScopeKind kind, String name) {
+        return open(kind, name, DEFAULT_MAX_SHAPES);
+    }
+
+    /** @return 현재 스레드의 가장 안쪽 범위 (없으면 null) */
+    public static Scope current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 문 준비 1건 기록 ({@link SqlStatementInspector}).
+     */
+    static void onStatement(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope == null || sql == null) {
+            return;
+        }
+        String shape = shapeOf(sql);
+        for (Scope s = scope; s != null; s = s.parent) {
+            s.addStatement(shape);
+        }
+    }
+
+    /**
+     * JDBC 실행 시간 기록 ({@link SqlTimingSessionListener}).
+     */
+    static void onExecution(long nanos) {
+        for (Scope s = CURRENT.get(); s != null; s = s.parent) {
+            s.dbNanos += nanos;
+        }
+    }
+
+    /**
+     * SQL 을 형태 키로 정규화한다 — 한 번의 문자 순회로 주석 제거, 공백 축약, 문자열·숫자 리터럴을 {@code ?} 로,
+     * {@code ?, ?, ?} 목록을 {@code ?} 하나로 접는다.
+     */
+    static String shapeOf(String sql) {
+        int length = sql.length();
+        StringBuilder out = new StringBuilder(Math.min(length, MAX_SHAPE_LENGTH));
+        boolean pendingSpace = false;
+        int i = 0;
+        while (i < length && out.length() < MAX_SHAPE_LENGTH) {
+            char c = sql.charAt(i);
+            if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+                pendingSpace = true;
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+                i++;
+                continue;
+            }
+            if (c == '\'') {
+                i++;
+                while (i < length) {
+                    if (sql.charAt(i) == '\'') {
+                        if (i + 1 < length && sql.charAt(i + 1) == '\'') {
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                i++;
+                c = '?';
+            } else if (Character.isDigit(c) && (pendingSpace || !isIdentifierTail(out))) {
+                while (i < length && (Character.isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                c = '?';
+            } else {
+                i++;
+            }
+            if (c == '?' && endsWithPlaceholderList(out)) {
+                // "?, ?" → "?" : 같은 쿼리가 IN 목록 길이만 달라도 한 형태로 센다
+                out.setLength(out.length() - 1);
+                pendingSpace = false;
+                continue;
+            }
+            if (pendingSpace && out.length() > 0) {
+                out.append(' ');
+            }
+            pendingSpace = false;
+            out.append(Character.toLowerCase(c));
+        }
+        return out.toString();
+    }
+
+    private static boolean isIdentifierTail(StringBuilder out) {
+        if (out.length() == 0) {
+            return false;
+        }
+        char last = out.charAt(out.length() - 1);
+        return Character.isLetterOrDigit(last) || last == '_';
+    }
+
+    private static boolean endsWithPlaceholderList(StringBuilder out) {
+        int n = out.length();
+        return n >= 2 && out.charAt(n - 1) == ',' && out.charAt(n - 2) == '?';
+    }
+}
@@ -0,0 +1,20 @@
+package com.coresolution.core.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 준비하는 모든 문을 {@link SqlStatementAccounting} 현재 범위에 기록한다. SQL 은 바꾸지 않는다.
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public class SqlStatementInspector implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementAccounting.onStatement(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,226 @@
+package com.coresolution.core.monitoring;
+
+import com.coresolution.consultation.config.SqlStatementAccountingProperties;
+import com.coresolution.core.monitoring.SqlStatementAccounting.RepeatedShape;
+import com.coresolution.core.monitoring.SqlStatementAccounting.Scope;
+import com.coresolution.core.monitoring.SqlStatementAccounting.ScopeKind;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청·스케줄 작업별 SQL 문 회계 집계기.
+ *
+ * <p>{@link com.coresolution.core.interceptor.RequestTelemetryInterceptor 요청 인터셉터}와 스케줄 작업 애스펙트가
+ * {@link #openScope} 로 범위를 열고 {@link #complete} 로 닫으면, 범위 키별 실행 횟수·문 수(합계·최대)·DB 시간과 N+1 의심 건수를 누적한다.
+ * 같은 형태의 문이 {@code repeated-shape-threshold} 번 이상 반복된 범위는 최근 의심 목록에 남기고 WARN 로그를
+ * 남긴다. Micrometer 미터({@value #METRIC_STATEMENTS}, {@value #METRIC_DB_TIME}, {@value #METRIC_N_PLUS_ONE})는
+ * 범위 키마다 한 번 등록해 캐시한다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SqlStatementRegistry {
+
+    static final String METRIC_STATEMENTS = "db.statements";
+    static final String METRIC_DB_TIME = "db.time";
+    static final String METRIC_N_PLUS_ONE = "db.n_plus_one";
+
+    private final SqlStatementAccountingProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private final ConcurrentHashMap<String, ScopeStats> scopes = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedDeque<Finding> findings = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger findingCount = new AtomicInteger();
+
+    /**
+     * 범위 키 스냅샷.
+     *
+     * @param key             "REQUEST GET /api/..." 또는 "JOB 클래스#메서드"
+     * @param executions      완료된 범위 수
+     * @param totalStatements 문 수 합계
+     * @param avgStatements   범위당 평균 문 수
+     * @param maxStatements   범위당 최대 문 수
+     * @param totalDbMs       DB 시간 합계 (ms)
+     * @param avgDbMs         범위당 평균 DB 시간 (ms)
+     * @param nPlusOneCount   N+1 의심 범위 수
+     */
+    public record ScopeSnapshot(String key, long executions, long totalStatements, double avgStatements,
+            long maxStatements, double totalDbMs, double avgDbMs, long nPlusOneCount) {
+    }
+
+    /**
+     * N+1 의심 1건.
+     *
+     * @param key            범위 키
+     * @param shape          반복된 정규화 SQL
+     * @param repeats        반복 횟수
+     * @param statementCount 범위 전체 문 수
+     * @param detectedAt     감지 시각
+     */
+    public record Finding(String key, String shape, int repeats, int statementCount, Instant detectedAt) {
+    }
+
+    /**
+     * 전체 스냅샷.
+     *
+     * @param scopes   범위 키별 스냅샷 (문 수 합계 내림차순)
+     * @param findings 최근 N+1 의심 (최신순)
+     */
+    public record SqlSnapshot(List<ScopeSnapshot> scopes, List<Finding> findings) {
+    }
+
+    private static final class ScopeStats {
+        private final String key;
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAccumulator maxStatements = new LongAccumulator(Math::max, 0);
+        private final LongAdder dbNanos = new LongAdder();
+        private final LongAdder nPlusOne = new LongAdder();
+        private volatile Meters meters;
+
+        private ScopeStats(String key) {
+            this.key = key;
+        }
+    }
+
+    private record Meters(DistributionSummary statements, Timer dbTime, Counter nPlusOne) {
+    }
+
+    /** @return 문 회계 사용 여부 */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 현재 스레드에 범위를 연다.
+     *
+     * @return 열린 범위 (비활성이면 null)
+     */
+    public Scope openScope(ScopeKind kind, String name) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        return SqlStatementAccounting.open(kind, name, properties.getMaxShapesPerScope());
+    }
+
+    /**
+     * 범위를 닫고 집계에 반영한다. null 이면 무시한다.
+     */
+    public void complete(Scope scope) {
+        if (scope == null) {
+            return;
+        }
+        scope.close();
+        String key = scope.kind() + " " + scope.name();
+        ScopeStats stats = scopes.computeIfAbsent(key, ScopeStats::new);
+        int statementCount = scope.statementCount();
+        long dbNanos = scope.dbNanos();
+        stats.executions.increment();
+        stats.statements.add(statementCount);
+        stats.maxStatements.accumulate(statementCount);
+        stats.dbNanos.add(dbNanos);
+
+        List<RepeatedShape> repeated = scope.repeatedShapes(properties.getRepeatedShapeThreshold());
+        if (!repeated.isEmpty()) {
+            stats.nPlusOne.increment();
+            RepeatedShape worst = repeated.get(0);
+            addFinding(new Finding(key, worst.shape(), worst.count(), statementCount, Instant.now()));
+            log.warn("🔁 N+1 의심: {} - 같은 형태 {}회 (전체 {}문, DB {}ms): {}", key, worst.count(), statementCount,
+                    TimeUnit.NANOSECONDS.toMillis(dbNanos), worst.shape());
+        } else if (statementCount >= properties.getStatementWarnThreshold()
+                || dbNanos >= properties.getDbTimeWarnThreshold().toNanos()) {
+            log.warn("🗄️ SQL 과다: {} - {}문, DB {}ms", key, statementCount, TimeUnit.NANOSECONDS.toMillis(dbNanos));
+        }
+
+        Meters meters = meters(stats, scope.kind(), scope.name());
+        if (meters != null) {
+            meters.statements().record(statementCount);
+            meters.dbTime().record(dbNanos, TimeUnit.NANOSECONDS);
+            if (!repeated.isEmpty()) {
+                meters.nPlusOne().increment();
+            }
+        }
+    }
+
+    /**
+     * @return 전체 스냅샷
+     */
+    public SqlSnapshot snapshot() {
+        List<ScopeSnapshot> result = new ArrayList<>(scopes.size());
+        for (ScopeStats stats : scopes.values()) {
+            long executions = stats.executions.sum();
+            long statements = stats.statements.sum();
+            double dbMs = stats.dbNanos.sum() / 1_000_000.0;
+            result.add(new ScopeSnapshot(stats.key, executions, statements,
+                    executions > 0 ? (double) statements / executions : 0.0, stats.maxStatements.get(), dbMs,
+                    executions > 0 ? dbMs / executions : 0.0, stats.nPlusOne.sum()));
+        }
+        result.sort(Comparator.comparingLong(ScopeSnapshot::totalStatements).reversed());
+        return new SqlSnapshot(result, new ArrayList<>(findings));
+    }
+
+    /**
+     * 관리자 API·actuator 용 집계 초기화. Micrometer 미터는 누적이므로 유지한다.
+     */
+    public void reset() {
+        scopes.clear();
+        findings.clear();
+        findingCount.set(0);
+        log.info("✅ SQL 문 회계 통계가 초기화되었습니다.");
+    }
+
+    private void addFinding(Finding finding) {
+        findings.addFirst(finding);
+        int limit = Math.max(1, properties.getRecentFindings());
+        if (findingCount.incrementAndGet() > limit && findings.pollLast() != null) {
+            findingCount.decrementAndGet();
+        }
+    }
+
+    private Meters meters(ScopeStats stats, ScopeKind kind, String name) {
+        Meters meters = stats.meters;
+        if (meters != null) {
+            return meters;
+        }
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        if (registry == null) {
+            return null;
+        }
+        String kindTag = kind.name().toLowerCase();
+        meters = new Meters(
+                DistributionSummary.builder(METRIC_STATEMENTS)
+                        .tag("kind", kindTag)
+                        .tag("scope", name)
+                        .register(registry),
+                Timer.builder(METRIC_DB_TIME)
+                        .tag("kind", kindTag)
+                        .tag("scope", name)
+                        .register(registry),
+                Counter.builder(METRIC_N_PLUS_ONE)
+                        .tag("kind", kindTag)
+                        .tag("scope", name)
+                        .register(registry));
+        stats.meters = meters;
+        return meters;
+    }
+}
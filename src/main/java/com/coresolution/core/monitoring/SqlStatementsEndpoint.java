@@ -0,0 +1,35 @@
+package com.coresolution.core.monitoring;
+
+import com.coresolution.core.monitoring.SqlStatementRegistry.SqlSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * SQL 문 회계 actuator 엔드포인트 ({@code /actuator/sqlstatements}).
+ *
+ * <p>GET 은 범위 키별 문 수·DB 시간·N+1 의심 건수와 최근 의심 목록을, DELETE 는 집계 초기화를 수행한다.
+ * 인증은 다른 비공개 actuator 엔드포인트와 같이 보안 설정을 따른다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Component
+@Endpoint(id = "sqlstatements")
+@RequiredArgsConstructor
+public class SqlStatementsEndpoint {
+
+    private final SqlStatementRegistry sqlStatementRegistry;
+
+    @ReadOperation
+    public SqlSnapshot sqlStatements() {
+        return sqlStatementRegistry.snapshot();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        sqlStatementRegistry.reset();
+    }
+}
@@ -0,0 +1,46 @@
+package com.coresolution.core.monitoring;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * 세션의 JDBC 실행(단건·배치) 시간을 {@link SqlStatementAccounting} 현재 범위에 더한다.
+ *
+ * <p>{@code hibernate.session.events.auto} 로 세션마다 새로 만들어지며 세션은 한 스레드에서만 쓰이므로
+ * 시작 시각을 인스턴스 필드로 둔다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public class SqlTimingSessionListener extends BaseSessionEventListener {
+
+    private static final long serialVersionUID = 1L;
+
+    private long statementStartNanos = -1;
+    private long batchStartNanos = -1;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        if (statementStartNanos >= 0) {
+            SqlStatementAccounting.onExecution(System.nanoTime() - statementStartNanos);
+            statementStartNanos = -1;
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        if (batchStartNanos >= 0) {
+            SqlStatementAccounting.onExecution(System.nanoTime() - batchStartNanos);
+            batchStartNanos = -1;
+        }
+    }
+}
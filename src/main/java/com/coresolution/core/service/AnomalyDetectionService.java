@@ -1,5 +1,6 @@
 package com.coresolution.core.service;
 
+import com.coresolution.consultation.config.StreamingAnomalyProperties;
 import com.coresolution.core.config.AIMonitoringConfig;
 import com.coresolution.core.context.TenantContextHolder;
 import com.coresolution.core.domain.AiAnomalyDetection;
@@ -7,6 +8,7 @@ import com.coresolution.core.domain.SystemMetric;
 import com.coresolution.core.repository.AiAnomalyDetectionRepository;
 import com.coresolution.core.repository.SystemMetricRepository;
 import com.coresolution.core.service.OpenAIMonitoringService.AnomalyAnalysisResult;
+import com.coresolution.core.service.StreamingAnomalyDetector.ConfirmedAnomaly;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,10 +20,11 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -33,6 +36,10 @@ import java.util.concurrent.atomic.AtomicInteger;
  * 2. 2차 분석: 의심스러운 경우에만 AI 분석 (정확하지만 비용 발생)
  * 3. 비용 관리: 일일 호출 제한, 쿨다운 적용
  * 
+ * 스트리밍 탐지({@link StreamingAnomalyDetector})가 활성화되어 있으면 1차 필터링은 메트릭 수신 시점에
+ * 온라인 통계로 수행되고, 이 서비스는 확정된 이상의 저장·AI 분석만 담당한다 ({@link #handleStreamingAnomaly}).
+ * 5분 주기 DB 재조회 탐지는 스트리밍 비활성 시에만 동작한다.
+ * 
  * @author CoreSolution
  * @version 2.0.0 (Hybrid)
  * @since 2025-12-02
@@ -47,19 +54,20 @@ public class AnomalyDetectionService {
     private final AIMonitoringConfig aiConfig;
     private final ConfigurableApplicationContext applicationContext;
     private final DataSource dataSource;
+    private final StreamingAnomalyProperties streamingProperties;
     
     @Autowired(required = false)
     private OpenAIMonitoringService openAIMonitoringService;
     
     // 연속 위반 카운터 (메트릭 타입별)
-    private final Map<String, Integer> consecutiveViolations = new HashMap<>();
+    private final Map<String, Integer> consecutiveViolations = new ConcurrentHashMap<>();
     
-    // 마지막 AI 호출 시간 (메트릭 타입별)
-    private final Map<String, LocalDateTime> lastAICall = new HashMap<>();
+    // 마지막 AI 호출 시간 (메트릭 타입별, 스트리밍 확정은 테넌트:메트릭 타입별)
+    private final Map<String, LocalDateTime> lastAICall = new ConcurrentHashMap<>();
     
     // 일일 AI 호출 카운터
     private final AtomicInteger dailyAICallCount = new AtomicInteger(0);
-    private LocalDateTime lastResetDate = LocalDateTime.now();
+    private volatile LocalDateTime lastResetDate = LocalDateTime.now();
     
     // 임계값 설정
     private static final double CPU_THRESHOLD = 80.0; // 80%
@@ -71,7 +79,7 @@ public class AnomalyDetectionService {
      */
     @Scheduled(fixedRate = 300000) // 5분
     public void detectAnomalies() {
-        if (!applicationContext.isActive()) {
+        if (!applicationContext.isActive() || streamingProperties.isEnabled()) {
             return;
         }
         AtomicBoolean closedResourceWarned = new AtomicBoolean(false);
@@ -215,9 +223,62 @@ public class AnomalyDetectionService {
     }
     
     /**
-     * AI 분석 트리거 여부 판단
+     * 스트리밍 탐지기가 확정한 이상 처리.
+     * 탐지기에서 이미 연속 위반으로 확정되었으므로 비용 제한(일일 한도·쿨다운)만 확인해 AI 분석을 수행하고,
+     * AI 미사용·실패 시 통계 결과로 저장한다. AI 가 정상으로 판단하면 저장하지 않는다.
      */
-    private boolean shouldTriggerAIAnalysis(String metricType, double avgValue, double criticalThreshold) {
+    public void handleStreamingAnomaly(ConfirmedAnomaly anomaly) {
+        String metricType = anomaly.metricType();
+        String aiKey = anomaly.tenantId() == null ? metricType : anomaly.tenantId() + ":" + metricType;
+        String details = streamingDetails(anomaly);
+        try {
+            if (openAIMonitoringService != null && isAIAnalysisAvailable(aiKey)) {
+                try {
+                    AnomalyAnalysisResult aiResult = openAIMonitoringService.analyzeAnomalies(
+                        anomaly.recentSamples(), metricType);
+                    if (aiResult != null) {
+                        updateLastAICall(aiKey);
+                        incrementDailyAICallCount();
+                        if (!aiResult.hasAnomaly()) {
+                            log.info("✅ AI 분석 결과: {} 정상 (value={}, z={})", metricType,
+                                String.format("%.2f", anomaly.value()), String.format("%.2f", anomaly.zScore()));
+                            return;
+                        }
+                        saveAnomalyDetection(anomaly.tenantId(), metricType, anomaly.value(), anomaly.expected(),
+                            aiResult.getAnomalyScore(), aiResult.getSeverity(),
+                            "OPENAI_GPT", aiResult.getAnalysis(), aiResult.getRecommendation(), details);
+                        log.warn("🤖 AI {} 이상 탐지(스트리밍): value={}, score={}, severity={}",
+                            metricType, String.format("%.2f", anomaly.value()),
+                            aiResult.getAnomalyScore(), aiResult.getSeverity());
+                        return;
+                    }
+                } catch (Exception e) {
+                    log.warn("AI 분석 실패, 통계 기반으로 대체: {}", e.getMessage());
+                }
+            }
+            String severity = getSeverity(anomaly.anomalyScore());
+            saveAnomalyDetection(anomaly.tenantId(), metricType, anomaly.value(), anomaly.expected(),
+                anomaly.anomalyScore(), severity, "STATISTICAL", null, null, details);
+            log.warn("📊 통계 기반 {} 이상 탐지(스트리밍): value={}, expected={}, severity={}",
+                metricType, String.format("%.2f", anomaly.value()),
+                String.format("%.2f", anomaly.expected()), severity);
+        } catch (Exception e) {
+            log.error("스트리밍 이상 처리 실패: type={}", metricType, e);
+        }
+    }
+    
+    private static String streamingDetails(ConfirmedAnomaly anomaly) {
+        String quantile = Double.isFinite(anomaly.upperQuantile())
+            ? String.format(Locale.ROOT, "%.4f", anomaly.upperQuantile()) : "null";
+        return String.format(Locale.ROOT,
+            "{\"source\":\"STREAMING\",\"zScore\":%.4f,\"stdDev\":%.4f,\"upperQuantile\":%s}",
+            anomaly.zScore(), anomaly.stdDev(), quantile);
+    }
+    
+    /**
+     * AI 분석 가능 여부 (설정·일일 한도·쿨다운)
+     */
+    private boolean isAIAnalysisAvailable(String key) {
         // AI 모니터링이 비활성화된 경우
         if (!aiConfig.isEnabled() || !aiConfig.getHybrid().isEnabled()) {
             return false;
@@ -231,8 +292,18 @@ public class AnomalyDetectionService {
         }
         
         // 쿨다운 확인
-        if (isInCooldown(metricType)) {
-            log.debug("⏰ {} AI 분석 쿨다운 중", metricType);
+        if (isInCooldown(key)) {
+            log.debug("⏰ {} AI 분석 쿨다운 중", key);
+            return false;
+        }
+        return true;
+    }
+    
+    /**
+     * AI 분석 트리거 여부 판단
+     */
+    private boolean shouldTriggerAIAnalysis(String metricType, double avgValue, double criticalThreshold) {
+        if (!isAIAnalysisAvailable(metricType)) {
             return false;
         }
         
@@ -254,8 +325,15 @@ public class AnomalyDetectionService {
     private void saveAnomalyDetection(String metricType, double avgValue, double expectedValue,
                                      double anomalyScore, String severity, String modelUsed,
                                      String aiAnalysis, String aiRecommendation) {
+        saveAnomalyDetection(null, metricType, avgValue, expectedValue, anomalyScore, severity, modelUsed,
+            aiAnalysis, aiRecommendation, null);
+    }
+    
+    private void saveAnomalyDetection(String tenantId, String metricType, double avgValue, double expectedValue,
+                                     double anomalyScore, String severity, String modelUsed,
+                                     String aiAnalysis, String aiRecommendation, String details) {
         AiAnomalyDetection anomaly = AiAnomalyDetection.builder()
-            .tenantId(null)
+            .tenantId(tenantId)
             .detectionType("PERFORMANCE")
             .anomalyScore(anomalyScore)
             .severity(severity)
@@ -266,6 +344,7 @@ public class AnomalyDetectionService {
             .modelUsed(modelUsed)
             .aiAnalysis(aiAnalysis)
             .aiRecommendation(aiRecommendation)
+            .details(details)
             .detectedAt(LocalDateTime.now())
             .build();
         
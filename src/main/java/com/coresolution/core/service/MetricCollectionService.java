@@ -1,25 +1,24 @@
 package com.coresolution.core.service;
 
 import com.coresolution.core.domain.SystemMetric;
-import com.coresolution.core.repository.SystemMetricRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import javax.sql.DataSource;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
 import java.lang.management.OperatingSystemMXBean;
-import java.sql.Connection;
-import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * 메트릭 수집 서비스
  * 
+ * <p>수집한 메트릭은 {@link TelemetryWriteBehindWriter} 버퍼로 넘기고, 적재는 batch insert 로 모아서 처리한다.
+ * 동시에 {@link StreamingAnomalyDetector} 에 넘겨 수신 즉시 이상 여부를 판정한다.</p>
+ * 
  * @author CoreSolution
  * @version 1.0.0
  * @since 2025-12-02
@@ -29,9 +28,9 @@ import java.util.concurrent.atomic.AtomicBoolean;
 @RequiredArgsConstructor
 public class MetricCollectionService {
     
-    private final SystemMetricRepository systemMetricRepository;
+    private final TelemetryWriteBehindWriter telemetryWriter;
+    private final StreamingAnomalyDetector streamingAnomalyDetector;
     private final ConfigurableApplicationContext applicationContext;
-    private final DataSource dataSource;
     
     /**
      * 시스템 메트릭 수집 (1분마다)
@@ -41,10 +40,8 @@ public class MetricCollectionService {
         if (!applicationContext.isActive()) {
             return;
         }
+        // DB 적재는 write-behind 버퍼가 담당하므로 수집 경로에서는 커넥션을 확인하지 않는다
         AtomicBoolean closedResourceWarned = new AtomicBoolean(false);
-        if (!validateDataSourceAvailable(closedResourceWarned)) {
-            return;
-        }
         try {
             collectCpuMetric(closedResourceWarned);
             collectMemoryMetric(closedResourceWarned);
@@ -54,15 +51,6 @@ public class MetricCollectionService {
         }
     }
 
-    private boolean validateDataSourceAvailable(AtomicBoolean closedResourceWarned) {
-        try (Connection ignored = dataSource.getConnection()) {
-            return true;
-        } catch (SQLException e) {
-            handleScheduledDataAccess("메트릭 수집(DB 연결 확인)", e, closedResourceWarned);
-            return false;
-        }
-    }
-
     private void handleScheduledDataAccess(String operation, Throwable e, AtomicBoolean closedResourceWarned) {
         if (isDataSourceClosedMessage(e)) {
             if (closedResourceWarned.compareAndSet(false, true)) {
@@ -101,7 +89,7 @@ public class MetricCollectionService {
                     .collectedAt(LocalDateTime.now())
                     .build();
                 
-                systemMetricRepository.save(metric);
+                publish(metric);
                 log.debug("CPU 메트릭 수집: {}", cpuLoad);
             }
         } catch (Exception e) {
@@ -129,7 +117,7 @@ public class MetricCollectionService {
                 .collectedAt(LocalDateTime.now())
                 .build();
             
-            systemMetricRepository.save(metric);
+            publish(metric);
             log.debug("메모리 메트릭 수집: {}%", String.format("%.2f", memoryUsagePercent));
         } catch (Exception e) {
             handleScheduledDataAccess("메모리 메트릭 수집", e, closedResourceWarned);
@@ -157,13 +145,21 @@ public class MetricCollectionService {
                 .collectedAt(LocalDateTime.now())
                 .build();
             
-            systemMetricRepository.save(metric);
+            publish(metric);
             log.debug("JVM 메트릭 수집: {}%", String.format("%.2f", jvmUsagePercent));
         } catch (Exception e) {
             handleScheduledDataAccess("JVM 메트릭 수집", e, closedResourceWarned);
         }
     }
     
+    /**
+     * 적재 버퍼와 스트리밍 이상 탐지기로 전달
+     */
+    private void publish(SystemMetric metric) {
+        telemetryWriter.enqueue(metric);
+        streamingAnomalyDetector.observe(metric);
+    }
+    
     /**
      * 호스트명 조회
      */
@@ -189,7 +185,7 @@ public class MetricCollectionService {
                 .collectedAt(LocalDateTime.now())
                 .build();
             
-            systemMetricRepository.save(metric);
+            publish(metric);
             log.debug("메트릭 저장: type={}, value={}, unit={}", metricType, value, unit);
         } catch (Exception e) {
             log.error("메트릭 저장 실패: type={}", metricType, e);
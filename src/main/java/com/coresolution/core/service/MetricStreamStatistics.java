@@ -0,0 +1,254 @@
+package com.coresolution.core.service;
+
+import java.util.Arrays;
+
+/**
+ * 단일 메트릭 시계열의 온라인 통계 (스트리밍 이상 탐지용).
+ *
+ * <p>표본 1건당 O(1) 로 갱신되며 과거 표본을 보관하지 않는다.</p>
+ * <ul>
+ *   <li>전체 EWMA 평균</li>
+ *   <li>시간대(0~23시)별 EWMA 계절 기준선</li>
+ *   <li>기대값 대비 잔차의 EWMA 분산</li>
+ *   <li>상위 분위수 P² 스케치 (Jain &amp; Chlamtac) — 마커 5개</li>
+ * </ul>
+ *
+ * <p>평균·분산 갱신 시 잔차를 ±{@code clipSigma}·표준편차로 자른다(winsorize). 급등 표본 몇 개가
+ * 분산을 부풀려 연속 위반 확정 전에 스스로를 정상으로 만드는 것을 막고, 지속되는 수준 변화는
+ * 점진적으로 새 기준선으로 흡수한다.</p>
+ *
+ * <p>스레드 안전하지 않다 — 호출측이 시계열 단위로 동기화한다.
+ * {@link #snapshot()} / {@link #restore(Snapshot, Tuning)} 으로 체크포인트한다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public final class MetricStreamStatistics {
+
+    static final int SEASONS = 24;
+    private static final int MARKERS = 5;
+
+    private final Tuning tuning;
+
+    private long count;
+    private long sketchCount;
+    private double mean;
+    private double residualVariance;
+    private final double[] seasonalMean = new double[SEASONS];
+    private final long[] seasonalCount = new long[SEASONS];
+
+    /** P² 마커 높이·실제 위치·목표 위치. sketchCount &lt; 5 동안 heights 는 초기 표본 버퍼로 쓴다. */
+    private final double[] heights = new double[MARKERS];
+    private final double[] positions = new double[MARKERS];
+    private final double[] desired = new double[MARKERS];
+    private final double[] increments;
+
+    /**
+     * 평활·판정 파라미터.
+     *
+     * @param quantile           상위 분위수 (0~1)
+     * @param alpha              전체 평균·잔차 분산 평활 계수
+     * @param seasonalAlpha      시간대 기준선 평활 계수
+     * @param seasonalMinSamples 시간대 기준선을 기대값으로 쓰기 위한 최소 표본 수
+     * @param minStdDev          표준편차 하한
+     * @param clipSigma          평균·분산 갱신 시 잔차 절단 배수
+     */
+    public record Tuning(double quantile, double alpha, double seasonalAlpha, int seasonalMinSamples,
+            double minStdDev, double clipSigma) {
+    }
+
+    /**
+     * 판정 결과 — 갱신 전 통계 기준.
+     *
+     * @param expected      기대값 (시간대 기준선 또는 전체 평균)
+     * @param stdDev        잔차 표준편차 (하한 적용)
+     * @param zScore        (value - expected) / stdDev
+     * @param upperQuantile 상위 분위수 추정치
+     */
+    public record Score(double expected, double stdDev, double zScore, double upperQuantile) {
+    }
+
+    /**
+     * 체크포인트 직렬화 형태.
+     */
+    public record Snapshot(long count, double mean, double residualVariance,
+            double[] seasonalMean, long[] seasonalCount,
+            double quantile, long sketchCount, double[] heights, double[] positions, double[] desired) {
+    }
+
+    public MetricStreamStatistics(Tuning tuning) {
+        this.tuning = tuning;
+        double quantile = tuning.quantile();
+        this.increments = new double[] {0, quantile / 2, quantile, (1 + quantile) / 2, 1};
+        for (int i = 0; i < MARKERS; i++) {
+            positions[i] = i + 1;
+        }
+        desired[0] = 1;
+        desired[1] = 1 + 2 * quantile;
+        desired[2] = 1 + 4 * quantile;
+        desired[3] = 3 + 2 * quantile;
+        desired[4] = 5;
+    }
+
+    /**
+     * 체크포인트에서 복원한다.
+     *
+     * @param snapshot 저장된 상태
+     * @param tuning   현재 설정 — 분위수가 저장 시와 다르면 분위수 스케치만 초기화한다
+     * @return 복원된 통계
+     */
+    public static MetricStreamStatistics restore(Snapshot snapshot, Tuning tuning) {
+        MetricStreamStatistics stats = new MetricStreamStatistics(tuning);
+        stats.count = snapshot.count();
+        stats.mean = snapshot.mean();
+        stats.residualVariance = snapshot.residualVariance();
+        copy(snapshot.seasonalMean(), stats.seasonalMean);
+        if (snapshot.seasonalCount() != null && snapshot.seasonalCount().length == SEASONS) {
+            System.arraycopy(snapshot.seasonalCount(), 0, stats.seasonalCount, 0, SEASONS);
+        }
+        if (Double.compare(snapshot.quantile(), tuning.quantile()) == 0) {
+            stats.sketchCount = snapshot.sketchCount();
+            copy(snapshot.heights(), stats.heights);
+            copy(snapshot.positions(), stats.positions);
+            copy(snapshot.desired(), stats.desired);
+        }
+        return stats;
+    }
+
+    private static void copy(double[] from, double[] to) {
+        if (from != null && from.length == to.length) {
+            System.arraycopy(from, 0, to, 0, to.length);
+        }
+    }
+
+    /**
+     * @return 누적 표본 수
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * 갱신 전 통계로 표본을 판정한다 (상태 변경 없음).
+     *
+     * @param value     표본 값
+     * @param hourOfDay 수집 시각의 시(0~23)
+     * @return 판정 결과
+     */
+    public Score score(double value, int hourOfDay) {
+        double expected = expected(hourOfDay);
+        double stdDev = stdDev();
+        return new Score(expected, stdDev, (value - expected) / stdDev, upperQuantile());
+    }
+
+    /**
+     * 표본을 반영한다.
+     *
+     * @param value     표본 값
+     * @param hourOfDay 수집 시각의 시(0~23)
+     */
+    public void update(double value, int hourOfDay) {
+        double alpha = tuning.alpha();
+        double smoothed = value;
+        if (count == 0) {
+            mean = value;
+        } else {
+            double expected = expected(hourOfDay);
+            double limit = tuning.clipSigma() * stdDev();
+            double residual = Math.max(-limit, Math.min(limit, value - expected));
+            smoothed = expected + residual;
+            residualVariance = (1 - alpha) * residualVariance + alpha * residual * residual;
+            mean += alpha * (smoothed - mean);
+        }
+        int h = Math.floorMod(hourOfDay, SEASONS);
+        seasonalMean[h] = seasonalCount[h] == 0
+                ? smoothed : seasonalMean[h] + tuning.seasonalAlpha() * (smoothed - seasonalMean[h]);
+        seasonalCount[h]++;
+        count++;
+        updateSketch(value);
+    }
+
+    /**
+     * @return 상위 분위수 추정치 (표본 없으면 NaN)
+     */
+    public double upperQuantile() {
+        if (sketchCount == 0) {
+            return Double.NaN;
+        }
+        if (sketchCount < MARKERS) {
+            double[] sorted = Arrays.copyOf(heights, (int) sketchCount);
+            Arrays.sort(sorted);
+            int idx = (int) Math.min(sorted.length - 1, Math.round(tuning.quantile() * (sorted.length - 1)));
+            return sorted[idx];
+        }
+        return heights[2];
+    }
+
+    /**
+     * @return 체크포인트용 상태 복사본
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(count, mean, residualVariance,
+                seasonalMean.clone(), seasonalCount.clone(),
+                tuning.quantile(), sketchCount, heights.clone(), positions.clone(), desired.clone());
+    }
+
+    private double expected(int hourOfDay) {
+        int h = Math.floorMod(hourOfDay, SEASONS);
+        return seasonalCount[h] >= tuning.seasonalMinSamples() ? seasonalMean[h] : mean;
+    }
+
+    private double stdDev() {
+        return Math.max(Math.sqrt(residualVariance), tuning.minStdDev());
+    }
+
+    private void updateSketch(double value) {
+        if (sketchCount < MARKERS) {
+            heights[(int) sketchCount] = value;
+            sketchCount++;
+            if (sketchCount == MARKERS) {
+                Arrays.sort(heights);
+            }
+            return;
+        }
+        sketchCount++;
+        int k;
+        if (value < heights[0]) {
+            heights[0] = value;
+            k = 0;
+        } else if (value >= heights[MARKERS - 1]) {
+            heights[MARKERS - 1] = value;
+            k = MARKERS - 2;
+        } else {
+            k = 0;
+            while (k < MARKERS - 2 && value >= heights[k + 1]) {
+                k++;
+            }
+        }
+        for (int i = k + 1; i < MARKERS; i++) {
+            positions[i]++;
+        }
+        for (int i = 0; i < MARKERS; i++) {
+            desired[i] += increments[i];
+        }
+        for (int i = 1; i < MARKERS - 1; i++) {
+            double d = desired[i] - positions[i];
+            if ((d >= 1 && positions[i + 1] - positions[i] > 1) || (d <= -1 && positions[i - 1] - positions[i] < -1)) {
+                int s = d >= 0 ? 1 : -1;
+                double candidate = parabolic(i, s);
+                heights[i] = (heights[i - 1] < candidate && candidate < heights[i + 1]) ? candidate : linear(i, s);
+                positions[i] += s;
+            }
+        }
+    }
+
+    private double parabolic(int i, int s) {
+        return heights[i] + s / (positions[i + 1] - positions[i - 1])
+                * ((positions[i] - positions[i - 1] + s) * (heights[i + 1] - heights[i]) / (positions[i + 1] - positions[i])
+                + (positions[i + 1] - positions[i] - s) * (heights[i] - heights[i - 1]) / (positions[i] - positions[i - 1]));
+    }
+
+    private double linear(int i, int s) {
+        return heights[i] + s * (heights[i + s] - heights[i]) / (positions[i + s] - positions[i]);
+    }
+}
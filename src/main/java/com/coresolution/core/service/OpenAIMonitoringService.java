@@ -1,7 +1,6 @@
 package com.coresolution.core.service;
 
 import com.coresolution.consultation.entity.AiUsageLog;
-import com.coresolution.consultation.repository.AiUsageLogRepository;
 import com.coresolution.consultation.service.SystemConfigService;
 import com.coresolution.core.domain.SystemMetric;
 import lombok.RequiredArgsConstructor;
@@ -48,7 +47,7 @@ public class OpenAIMonitoringService {
     private static final String SYSTEM_PROMPT_SECURITY =
             "당신은 사이버 보안 전문가입니다. 보안 이벤트를 분석하여 위협을 정확하게 평가합니다.";
 
-    private final AiUsageLogRepository usageLogRepository;
+    private final TelemetryWriteBehindWriter telemetryWriter;
     private final SystemConfigService systemConfigService;
     private final RestTemplate restTemplate = new RestTemplate();
 
@@ -386,11 +385,12 @@ public class OpenAIMonitoringService {
                 .build();
 
             logRow.calculateCost();
-            AiUsageLog savedLog = usageLogRepository.save(logRow);
+            // 사용 로그는 write-behind 버퍼로 적재 — 모니터링 분석 경로에서 DB 쓰기를 제외
+            telemetryWriter.enqueue(logRow);
 
             if (isSuccess) {
                 OpenAIMonitoringService.log.info("💰 AI 모니터링 API 사용: provider={}, {} 토큰, 예상 비용 ${}",
-                    PROVIDER_LABEL, totalTokens, String.format("%.6f", savedLog.getEstimatedCost()));
+                    PROVIDER_LABEL, totalTokens, String.format("%.6f", logRow.getEstimatedCost()));
             }
         } catch (Exception e) {
             log.error("❌ API 사용 로그 저장 실패", e);
@@ -0,0 +1,300 @@
+package com.coresolution.core.service;
+
+import com.coresolution.consultation.config.StreamingAnomalyProperties;
+import com.coresolution.core.domain.SystemMetric;
+import com.coresolution.core.service.MetricStreamStatistics.Score;
+import com.coresolution.core.service.MetricStreamStatistics.Snapshot;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시스템 메트릭 스트리밍 이상 탐지기.
+ *
+ * <p>메트릭이 수집되는 즉시 {@link #observe(SystemMetric)} 로 (테넌트, 메트릭 유형)별
+ * {@link MetricStreamStatistics} 를 갱신하고 판정한다. DB 에서 윈도우를 재조회하지 않으므로
+ * 비용은 보존 기간과 무관하게 표본 1건당 O(1) 이다.</p>
+ *
+ * <p>위반 조건: 워밍업 이후 z-score 가 임계값 이상이고 값이 상위 분위수 추정치를 넘는 경우.
+ * {@code confirm-samples} 회 연속 위반하면 이상을 확정하고, 정상 표본이 들어올 때까지 같은 구간에서는
+ * 다시 확정하지 않는다. 확정된 이상만 {@link AnomalyDetectionService#handleStreamingAnomaly(ConfirmedAnomaly)}
+ * 로 넘겨 저장·AI 분석을 수행한다 (전용 실행기, 수집 스레드 비차단).</p>
+ *
+ * <p>통계는 {@code checkpoint-interval} 마다 metric_stream_checkpoints 에 저장하고 기동 시 복원한다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StreamingAnomalyDetector {
+
+    static final String METRIC_CONFIRMED = "monitoring.streaming_anomaly.confirmed";
+    private static final String TAG_METRIC_TYPE = "metric_type";
+
+    /** 시스템 전체(tenant_id NULL) 시계열의 체크포인트 키 */
+    private static final String SYSTEM_TENANT_KEY = "";
+
+    private static final String SELECT_CHECKPOINTS =
+            "SELECT tenant_key, metric_type, state_json FROM metric_stream_checkpoints";
+
+    private static final String UPSERT_CHECKPOINT = "INSERT INTO metric_stream_checkpoints "
+            + "(tenant_key, metric_type, sample_count, state_json, updated_at) VALUES (?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE sample_count = VALUES(sample_count), state_json = VALUES(state_json), "
+            + "updated_at = VALUES(updated_at)";
+
+    private final StreamingAnomalyProperties properties;
+    private final AnomalyDetectionService anomalyDetectionService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    @Qualifier("anomalyConfirmationExecutor")
+    private final Executor anomalyConfirmationExecutor;
+
+    private final ConcurrentMap<StreamKey, MetricStream> streams = new ConcurrentHashMap<>();
+    private volatile ScheduledExecutorService checkpointExecutor;
+
+    /**
+     * 확정된 이상.
+     *
+     * @param tenantId      테넌트 ID (시스템 전체면 null)
+     * @param metricType    메트릭 유형
+     * @param value         확정 시점 값
+     * @param expected      기대값 (시간대 기준선 또는 EWMA 평균)
+     * @param stdDev        잔차 표준편차
+     * @param zScore        z-score
+     * @param upperQuantile 상위 분위수 추정치 (추정 불가면 NaN)
+     * @param anomalyScore  0~1 이상 점수
+     * @param detectedAt    확정 시각
+     * @param recentSamples AI 분석용 최근 표본 (오래된 순)
+     */
+    public record ConfirmedAnomaly(String tenantId, String metricType, double value, double expected,
+            double stdDev, double zScore, double upperQuantile, double anomalyScore,
+            LocalDateTime detectedAt, List<SystemMetric> recentSamples) {
+    }
+
+    record StreamKey(String tenantKey, String metricType) {
+    }
+
+    /** 시계열 1개의 상태 — 인스턴스 단위로 동기화한다. */
+    private static final class MetricStream {
+        private final MetricStreamStatistics stats;
+        private final ArrayDeque<SystemMetric> recent = new ArrayDeque<>();
+        private int consecutiveBreaches;
+        private boolean firing;
+        private boolean dirty;
+
+        private MetricStream(MetricStreamStatistics stats) {
+            this.stats = stats;
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.isEnabled()) {
+            log.info("스트리밍 이상 탐지 비활성 — 주기 재조회 탐지 사용");
+            return;
+        }
+        restoreCheckpoints();
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "anomaly-stream-checkpoint");
+            t.setDaemon(true);
+            return t;
+        });
+        long intervalMs = Math.max(1000L, properties.getCheckpointInterval().toMillis());
+        executor.scheduleWithFixedDelay(this::checkpointQuietly, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        checkpointExecutor = executor;
+        log.info("✅ 스트리밍 이상 탐지 시작: streams={}, scoreThreshold={}, confirmSamples={}, checkpointInterval={}ms",
+                streams.size(), properties.getScoreThreshold(), properties.getConfirmSamples(), intervalMs);
+    }
+
+    /**
+     * 수집된 메트릭 1건을 반영하고 판정한다. 호출 스레드에서 O(1) 로 끝나며 DB 를 조회하지 않는다.
+     *
+     * @param metric 수집된 메트릭
+     * @return 이번 표본으로 이상이 확정되면 그 내용, 아니면 null
+     */
+    public ConfirmedAnomaly observe(SystemMetric metric) {
+        if (!properties.isEnabled() || metric == null || metric.getMetricType() == null
+                || metric.getMetricValue() == null || !Double.isFinite(metric.getMetricValue())) {
+            return null;
+        }
+        double value = metric.getMetricValue();
+        LocalDateTime at = metric.getCollectedAt() != null ? metric.getCollectedAt() : LocalDateTime.now();
+        int hour = at.getHour();
+        MetricStream stream = streams.computeIfAbsent(
+                new StreamKey(tenantKey(metric.getTenantId()), metric.getMetricType()),
+                k -> new MetricStream(new MetricStreamStatistics(tuning())));
+
+        ConfirmedAnomaly confirmed = null;
+        synchronized (stream) {
+            Score score = stream.stats.score(value, hour);
+            boolean breach = stream.stats.count() >= properties.getWarmupSamples()
+                    && score.zScore() >= properties.getScoreThreshold()
+                    && !(value <= score.upperQuantile());
+            stream.stats.update(value, hour);
+            stream.recent.addLast(metric);
+            while (stream.recent.size() > Math.max(1, properties.getRecentSamples())) {
+                stream.recent.removeFirst();
+            }
+            stream.dirty = true;
+
+            if (!breach) {
+                stream.consecutiveBreaches = 0;
+                stream.firing = false;
+            } else if (++stream.consecutiveBreaches >= properties.getConfirmSamples() && !stream.firing) {
+                stream.firing = true;
+                confirmed = new ConfirmedAnomaly(metric.getTenantId(), metric.getMetricType(), value,
+                        score.expected(), score.stdDev(), score.zScore(), score.upperQuantile(),
+                        anomalyScore(score.zScore()), at, List.copyOf(stream.recent));
+            }
+        }
+        if (confirmed != null) {
+            dispatch(confirmed);
+        }
+        return confirmed;
+    }
+
+    private MetricStreamStatistics.Tuning tuning() {
+        return new MetricStreamStatistics.Tuning(properties.getQuantile(), properties.getEwmaAlpha(),
+                properties.getSeasonalAlpha(), properties.getSeasonalMinSamples(), properties.getMinStdDev(),
+                properties.getScoreThreshold());
+    }
+
+    /**
+     * z-score 를 0~1 점수로 변환한다. 임계값에서 약 0.63, 2배에서 약 0.86, 3배에서 약 0.95.
+     */
+    private double anomalyScore(double zScore) {
+        return 1.0 - Math.exp(-zScore / properties.getScoreThreshold());
+    }
+
+    private void dispatch(ConfirmedAnomaly anomaly) {
+        log.warn("📡 스트리밍 이상 확정: tenant={}, type={}, value={}, expected={}, z={}",
+                anomaly.tenantId(), anomaly.metricType(), String.format("%.2f", anomaly.value()),
+                String.format("%.2f", anomaly.expected()), String.format("%.2f", anomaly.zScore()));
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        if (registry != null) {
+            Counter.builder(METRIC_CONFIRMED)
+                    .tag(TAG_METRIC_TYPE, anomaly.metricType())
+                    .register(registry)
+                    .increment();
+        }
+        try {
+            anomalyConfirmationExecutor.execute(() -> anomalyDetectionService.handleStreamingAnomaly(anomaly));
+        } catch (RejectedExecutionException e) {
+            log.warn("이상 확정 처리 대기열 포화 — 건너뜀: type={}", anomaly.metricType());
+        }
+    }
+
+    /**
+     * 변경된 시계열 통계를 저장한다.
+     *
+     * @return 저장한 시계열 수
+     */
+    public int checkpoint() {
+        List<Object[]> rows = new ArrayList<>();
+        List<MetricStream> written = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (Map.Entry<StreamKey, MetricStream> entry : streams.entrySet()) {
+            MetricStream stream = entry.getValue();
+            Snapshot snapshot;
+            synchronized (stream) {
+                if (!stream.dirty) {
+                    continue;
+                }
+                snapshot = stream.stats.snapshot();
+                stream.dirty = false;
+            }
+            try {
+                rows.add(new Object[] {entry.getKey().tenantKey(), entry.getKey().metricType(),
+                        snapshot.count(), objectMapper.writeValueAsString(snapshot), now});
+                written.add(stream);
+            } catch (JsonProcessingException e) {
+                log.warn("이상 탐지 체크포인트 직렬화 실패: type={}", entry.getKey().metricType(), e);
+            }
+        }
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_CHECKPOINT, rows);
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 저장되도록 변경 표시 복구
+            for (MetricStream stream : written) {
+                synchronized (stream) {
+                    stream.dirty = true;
+                }
+            }
+            throw e;
+        }
+        return rows.size();
+    }
+
+    private void checkpointQuietly() {
+        try {
+            int saved = checkpoint();
+            if (saved > 0) {
+                log.debug("이상 탐지 체크포인트 저장: {}건", saved);
+            }
+        } catch (Exception e) {
+            log.warn("이상 탐지 체크포인트 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private void restoreCheckpoints() {
+        try {
+            jdbcTemplate.query(SELECT_CHECKPOINTS, rs -> {
+                String metricType = rs.getString("metric_type");
+                try {
+                    Snapshot snapshot = objectMapper.readValue(rs.getString("state_json"), Snapshot.class);
+                    streams.put(new StreamKey(rs.getString("tenant_key"), metricType),
+                            new MetricStream(MetricStreamStatistics.restore(snapshot, tuning())));
+                } catch (JsonProcessingException e) {
+                    log.warn("이상 탐지 체크포인트 복원 건너뜀: type={}", metricType, e);
+                }
+            });
+            log.info("이상 탐지 체크포인트 복원: {}건", streams.size());
+        } catch (Exception e) {
+            log.warn("이상 탐지 체크포인트 복원 실패 — 빈 통계로 시작: {}", e.getMessage());
+        }
+    }
+
+    private static String tenantKey(String tenantId) {
+        return tenantId == null ? SYSTEM_TENANT_KEY : tenantId;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        ScheduledExecutorService executor = checkpointExecutor;
+        if (executor == null) {
+            return;
+        }
+        executor.shutdownNow();
+        checkpointQuietly();
+    }
+}
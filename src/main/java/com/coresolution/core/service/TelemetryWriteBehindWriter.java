@@ -0,0 +1,334 @@
+package com.coresolution.core.service;
+
+import com.coresolution.consultation.config.TelemetryWriteBehindProperties;
+import com.coresolution.consultation.entity.AiUsageLog;
+import com.coresolution.core.domain.SystemMetric;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 텔레메트리 write-behind 적재기 (AI 사용 로그 · 시스템 메트릭).
+ *
+ * <p>호출 스레드는 lock-free 큐({@link ConcurrentLinkedQueue} + 원자 카운터)에 넣고 즉시 반환한다.
+ * 전용 스레드가 주기({@code flush-interval}) 또는 대기 항목이 {@code batch-size} 에 도달했을 때
+ * JDBC batch insert 로 한 번에 적재한다. 큐가 {@code capacity} 에 도달하면 새 항목은 드롭하고
+ * {@value #METRIC_DROPPED} 카운터를 올린다. 종료 시 남은 항목을 모두 적재한 뒤 내려간다.</p>
+ *
+ * <p>JPA 엔티티 콜백({@code @PrePersist})을 거치지 않으므로 created_at 등 기본값은 여기서 채운다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TelemetryWriteBehindWriter {
+
+    static final String METRIC_DROPPED = "telemetry.write_behind.dropped";
+    static final String METRIC_FLUSHED = "telemetry.write_behind.flushed";
+    private static final String TAG_KIND = "kind";
+    private static final String TAG_REASON = "reason";
+    static final String KIND_AI_USAGE = "ai_usage_log";
+    static final String KIND_SYSTEM_METRIC = "system_metric";
+    static final String REASON_OVERFLOW = "overflow";
+    static final String REASON_FLUSH_ERROR = "flush_error";
+
+    private static final String INSERT_AI_USAGE = "INSERT INTO ai_usage_logs "
+            + "(tenant_id, ai_provider, request_type, model, prompt_tokens, completion_tokens, total_tokens, "
+            + "estimated_cost, is_success, error_message, response_time_ms, requested_by, prompt, response, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_SYSTEM_METRIC = "INSERT INTO system_metrics "
+            + "(tenant_id, metric_type, metric_value, unit, host, additional_data, collected_at, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final TelemetryWriteBehindProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private final Lane<AiUsageLog> aiUsageLane = new Lane<>(KIND_AI_USAGE);
+    private final Lane<SystemMetric> systemMetricLane = new Lane<>(KIND_SYSTEM_METRIC);
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private volatile ScheduledExecutorService flushExecutor;
+    private volatile boolean shuttingDown;
+
+    /** 유형별 큐 — 크기는 원자 카운터로 관리해 bounded 를 보장한다. */
+    private static final class Lane<T> {
+        private final String kind;
+        private final Queue<T> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final LongAdder dropped = new LongAdder();
+
+        private Lane(String kind) {
+            this.kind = kind;
+        }
+
+        private boolean offer(T item, int capacity) {
+            if (size.incrementAndGet() > capacity) {
+                size.decrementAndGet();
+                return false;
+            }
+            queue.offer(item);
+            return true;
+        }
+
+        private List<T> drain(int max) {
+            List<T> batch = new ArrayList<>(Math.min(max, Math.max(size.get(), 1)));
+            T item;
+            while (batch.size() < max && (item = queue.poll()) != null) {
+                batch.add(item);
+            }
+            size.addAndGet(-batch.size());
+            return batch;
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.isEnabled()) {
+            log.info("텔레메트리 write-behind 비활성 — 호출 스레드에서 즉시 저장");
+            return;
+        }
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "telemetry-write-behind");
+            t.setDaemon(true);
+            return t;
+        });
+        long intervalMs = Math.max(100L, properties.getFlushInterval().toMillis());
+        executor.scheduleWithFixedDelay(this::flushQuietly, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        flushExecutor = executor;
+        log.info("✅ 텔레메트리 write-behind 시작: capacity={}, batchSize={}, flushInterval={}ms",
+                properties.getCapacity(), properties.getBatchSize(), intervalMs);
+    }
+
+    /**
+     * AI 사용 로그 적재 요청. 비용 계산({@link AiUsageLog#calculateCost()})은 호출측 책임.
+     *
+     * @param usageLog 사용 로그
+     * @return 버퍼(또는 즉시 저장)에 수락되면 true, 버퍼 포화로 드롭되면 false
+     */
+    public boolean enqueue(AiUsageLog usageLog) {
+        return enqueue(aiUsageLane, usageLog);
+    }
+
+    /**
+     * 시스템 메트릭 적재 요청.
+     *
+     * @param metric 메트릭
+     * @return 버퍼(또는 즉시 저장)에 수락되면 true, 버퍼 포화로 드롭되면 false
+     */
+    public boolean enqueue(SystemMetric metric) {
+        return enqueue(systemMetricLane, metric);
+    }
+
+    /**
+     * @return AI 사용 로그 누적 드롭 건수 (포화 + flush 실패)
+     */
+    public long droppedAiUsageLogs() {
+        return aiUsageLane.dropped.sum();
+    }
+
+    /**
+     * @return 시스템 메트릭 누적 드롭 건수 (포화 + flush 실패)
+     */
+    public long droppedSystemMetrics() {
+        return systemMetricLane.dropped.sum();
+    }
+
+    /**
+     * 대기 중인 항목을 모두 적재한다 (flush 스레드·종료 훅 공용).
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushRequested.set(false);
+            flushLane(aiUsageLane, INSERT_AI_USAGE, this::bindAiUsage);
+            flushLane(systemMetricLane, INSERT_SYSTEM_METRIC, this::bindSystemMetric);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 종료 시 진행 중 flush 를 기다린 뒤 남은 항목을 모두 적재한다.
+     * DataSource 보다 먼저 소멸되도록 JdbcTemplate 에 의존한다.
+     */
+    @PreDestroy
+    void shutdown() {
+        shuttingDown = true;
+        ScheduledExecutorService executor = flushExecutor;
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(properties.getShutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+        int pending = aiUsageLane.size.get() + systemMetricLane.size.get();
+        flush();
+        log.info("텔레메트리 write-behind 종료: drained={}, dropped(ai={}, metric={})",
+                pending, droppedAiUsageLogs(), droppedSystemMetrics());
+    }
+
+    private <T> boolean enqueue(Lane<T> lane, T item) {
+        if (item == null) {
+            return false;
+        }
+        if (flushExecutor == null || shuttingDown) {
+            // 비활성 또는 종료 이후 늦게 도착한 항목: 호출 스레드에서 즉시 저장
+            flushSingle(lane, item);
+            return true;
+        }
+        if (!lane.offer(item, Math.max(1, properties.getCapacity()))) {
+            recordDropped(lane, REASON_OVERFLOW, 1);
+            return false;
+        }
+        if (lane.size.get() >= properties.getBatchSize() && flushRequested.compareAndSet(false, true)) {
+            try {
+                flushExecutor.execute(this::flushQuietly);
+            } catch (RejectedExecutionException e) {
+                flushRequested.set(false);
+            }
+        }
+        return true;
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("텔레메트리 flush 실패: {}", e.getMessage());
+        }
+    }
+
+    private <T> void flushSingle(Lane<T> lane, T item) {
+        if (lane == aiUsageLane) {
+            writeBatch(aiUsageLane, INSERT_AI_USAGE, List.of((AiUsageLog) item), this::bindAiUsage);
+        } else {
+            writeBatch(systemMetricLane, INSERT_SYSTEM_METRIC, List.of((SystemMetric) item), this::bindSystemMetric);
+        }
+    }
+
+    private <T> void flushLane(Lane<T> lane, String sql, RowBinder<T> binder) {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        List<T> batch;
+        while (!(batch = lane.drain(batchSize)).isEmpty()) {
+            writeBatch(lane, sql, batch, binder);
+        }
+    }
+
+    private <T> void writeBatch(Lane<T> lane, String sql, List<T> batch, RowBinder<T> binder) {
+        try {
+            jdbcTemplate.batchUpdate(sql, batch, batch.size(), binder::bind);
+            recordFlushed(lane, batch.size());
+        } catch (Exception e) {
+            recordDropped(lane, REASON_FLUSH_ERROR, batch.size());
+            log.warn("텔레메트리 batch insert 실패 — {}건 드롭: kind={}, error={}",
+                    batch.size(), lane.kind, e.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowBinder<T> {
+        void bind(PreparedStatement ps, T row) throws SQLException;
+    }
+
+    private void bindAiUsage(PreparedStatement ps, AiUsageLog row) throws SQLException {
+        LocalDateTime createdAt = row.getCreatedAt() != null ? row.getCreatedAt() : LocalDateTime.now();
+        ps.setString(1, row.getTenantId());
+        ps.setString(2, row.getAiProvider());
+        ps.setString(3, row.getRequestType());
+        ps.setString(4, row.getModel());
+        setInteger(ps, 5, row.getPromptTokens());
+        setInteger(ps, 6, row.getCompletionTokens());
+        setInteger(ps, 7, row.getTotalTokens());
+        if (row.getEstimatedCost() != null) {
+            ps.setDouble(8, row.getEstimatedCost());
+        } else {
+            ps.setNull(8, Types.DOUBLE);
+        }
+        ps.setBoolean(9, row.getIsSuccess() == null || row.getIsSuccess());
+        ps.setString(10, row.getErrorMessage());
+        if (row.getResponseTimeMs() != null) {
+            ps.setLong(11, row.getResponseTimeMs());
+        } else {
+            ps.setNull(11, Types.BIGINT);
+        }
+        ps.setString(12, row.getRequestedBy());
+        ps.setString(13, row.getPrompt());
+        ps.setString(14, row.getResponse());
+        ps.setTimestamp(15, Timestamp.valueOf(createdAt));
+    }
+
+    private void bindSystemMetric(PreparedStatement ps, SystemMetric row) throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        ps.setString(1, row.getTenantId());
+        ps.setString(2, row.getMetricType());
+        ps.setDouble(3, row.getMetricValue() != null ? row.getMetricValue() : 0.0);
+        ps.setString(4, row.getUnit());
+        ps.setString(5, row.getHost());
+        ps.setString(6, row.getAdditionalData());
+        ps.setTimestamp(7, Timestamp.valueOf(row.getCollectedAt() != null ? row.getCollectedAt() : now));
+        ps.setTimestamp(8, Timestamp.valueOf(row.getCreatedAt() != null ? row.getCreatedAt() : now));
+    }
+
+    private static void setInteger(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value != null) {
+            ps.setInt(index, value);
+        } else {
+            ps.setNull(index, Types.INTEGER);
+        }
+    }
+
+    private void recordDropped(Lane<?> lane, String reason, int count) {
+        lane.dropped.add(count);
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        if (registry != null) {
+            Counter.builder(METRIC_DROPPED)
+                    .tag(TAG_KIND, lane.kind)
+                    .tag(TAG_REASON, reason)
+                    .register(registry)
+                    .increment(count);
+        }
+    }
+
+    private void recordFlushed(Lane<?> lane, int count) {
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        if (registry != null) {
+            Counter.builder(METRIC_FLUSHED)
+                    .tag(TAG_KIND, lane.kind)
+                    .register(registry)
+                    .increment(count);
+        }
+    }
+}
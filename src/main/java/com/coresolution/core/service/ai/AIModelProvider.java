@@ -1,6 +1,6 @@
 package com.coresolution.core.service.ai;
 
-import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * AI 모델 제공자 인터페이스
@@ -33,6 +33,28 @@ public interface AIModelProvider {
      */
     AIResponse analyze(String systemPrompt, String userPrompt, int maxTokens, double temperature);
     
+    /**
+     * AI 분석 스트리밍 실행 — 생성되는 텍스트 조각을 {@code onDelta} 로 즉시 전달하고,
+     * 완료 시 전체 본문과 토큰 사용량을 담은 응답을 반환한다.
+     * 
+     * <p>기본 구현은 스트리밍 미지원 제공자용으로 {@link #analyze} 결과를 한 번에 전달한다.</p>
+     * 
+     * @param systemPrompt 시스템 프롬프트 (역할 정의)
+     * @param userPrompt 사용자 프롬프트 (분석 요청)
+     * @param maxTokens 최대 토큰 수
+     * @param temperature 온도 (0.0-1.0)
+     * @param onDelta 텍스트 조각 수신 콜백 (호출 스레드에서 순차 호출)
+     * @return 누적 본문을 담은 AI 응답
+     */
+    default AIResponse analyzeStream(String systemPrompt, String userPrompt, int maxTokens, double temperature,
+                                     Consumer<String> onDelta) {
+        AIResponse response = analyze(systemPrompt, userPrompt, maxTokens, temperature);
+        if (response.isSuccess() && response.getContent() != null && !response.getContent().isEmpty()) {
+            onDelta.accept(response.getContent());
+        }
+        return response;
+    }
+    
     /**
      * 사용 가능 여부 확인
      */
@@ -0,0 +1,69 @@
+package com.coresolution.core.service.ai;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Predicate;
+
+/**
+ * LLM 스트리밍 응답(Server-Sent Events) 본문 리더.
+ *
+ * <p>OpenAI Chat Completions({@code stream=true}) 와 Gemini {@code streamGenerateContent?alt=sse}
+ * 모두 {@code data:} 라인 단위 이벤트를 보내므로, 이벤트 경계(빈 줄)마다 누적한 data 페이로드를
+ * 콜백으로 넘긴다. 응답 전체를 메모리에 올리지 않고 도착하는 즉시 처리한다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public final class AiSseStreamReader {
+
+    /** OpenAI 스트림 종료 표식 */
+    public static final String OPENAI_DONE = "[DONE]";
+
+    private static final String DATA_PREFIX = "data:";
+
+    private AiSseStreamReader() {
+    }
+
+    /**
+     * SSE 스트림을 끝까지(또는 콜백이 중단을 요청할 때까지) 읽는다.
+     *
+     * @param body    HTTP 응답 본문
+     * @param onEvent 이벤트 data 페이로드 콜백. {@code false} 를 반환하면 읽기를 중단한다
+     * @throws IOException 본문 읽기 실패
+     */
+    public static void read(InputStream body, Predicate<String> onEvent) throws IOException {
+        if (body == null) {
+            return;
+        }
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        StringBuilder data = new StringBuilder();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty()) {
+                if (data.length() > 0 && !dispatch(data, onEvent)) {
+                    return;
+                }
+                continue;
+            }
+            if (line.startsWith(DATA_PREFIX)) {
+                if (data.length() > 0) {
+                    data.append('\n');
+                }
+                data.append(line.substring(DATA_PREFIX.length()).stripLeading());
+            }
+            // event:, id:, retry:, 주석(:) 라인은 LLM 스트림에서 사용하지 않으므로 무시
+        }
+        if (data.length() > 0) {
+            dispatch(data, onEvent);
+        }
+    }
+
+    private static boolean dispatch(StringBuilder data, Predicate<String> onEvent) {
+        String payload = data.toString();
+        data.setLength(0);
+        return onEvent.test(payload);
+    }
+}
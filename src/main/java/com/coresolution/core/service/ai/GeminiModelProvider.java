@@ -1,10 +1,24 @@
 package com.coresolution.core.service.ai;
 
 import com.coresolution.consultation.service.SystemConfigService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Google Gemini Pro 모델 제공자
@@ -21,6 +35,8 @@ import org.springframework.stereotype.Component;
 public class GeminiModelProvider implements AIModelProvider {
 
     private final SystemConfigService systemConfigService;
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
 
     @Override
     public String getModelName() {
@@ -54,54 +70,51 @@ public class GeminiModelProvider implements AIModelProvider {
                 location, projectId, location, model
             );
 
-            org.springframework.http.HttpHeaders headers = new org.springframework.http.HttpHeaders();
-            headers.setContentType(org.springframework.http.MediaType.APPLICATION_JSON);
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
             headers.setBearerAuth(systemConfigService.getConfigValue("GEMINI_API_KEY", ""));
 
             // 프롬프트 구성
             String fullPrompt = systemPrompt + "\n\n" + userPrompt;
 
             // 요청 본문 구성
-            java.util.Map<String, Object> instance = new java.util.HashMap<>();
+            Map<String, Object> instance = new HashMap<>();
             instance.put("content", fullPrompt);
 
-            java.util.Map<String, Object> parameters = new java.util.HashMap<>();
+            Map<String, Object> parameters = new HashMap<>();
             parameters.put("temperature", temperature);
             parameters.put("maxOutputTokens", maxTokens);
             parameters.put("topK", 40);
             parameters.put("topP", 0.95);
 
-            java.util.Map<String, Object> requestBody = new java.util.HashMap<>();
-            requestBody.put("instances", java.util.List.of(instance));
+            Map<String, Object> requestBody = new HashMap<>();
+            requestBody.put("instances", List.of(instance));
             requestBody.put("parameters", parameters);
 
-            org.springframework.http.HttpEntity<java.util.Map<String, Object>> request =
-                new org.springframework.http.HttpEntity<>(requestBody, headers);
-
-            org.springframework.web.client.RestTemplate restTemplate = new org.springframework.web.client.RestTemplate();
+            HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
 
             try {
                 @SuppressWarnings("rawtypes")
-                org.springframework.http.ResponseEntity<java.util.Map> response = restTemplate.exchange(
+                ResponseEntity<Map> response = restTemplate.exchange(
                     apiUrl,
-                    org.springframework.http.HttpMethod.POST,
+                    HttpMethod.POST,
                     request,
-                    java.util.Map.class
+                    Map.class
                 );
 
                 @SuppressWarnings("unchecked")
-                java.util.Map<String, Object> responseBody = response.getBody();
+                Map<String, Object> responseBody = response.getBody();
 
                 long responseTime = System.currentTimeMillis() - startTime;
 
                 // 응답 파싱
                 if (responseBody != null && responseBody.containsKey("predictions")) {
                     @SuppressWarnings("unchecked")
-                    java.util.List<java.util.Map<String, Object>> predictions =
-                        (java.util.List<java.util.Map<String, Object>>) responseBody.get("predictions");
+                    List<Map<String, Object>> predictions =
+                        (List<Map<String, Object>>) responseBody.get("predictions");
 
                     if (!predictions.isEmpty()) {
-                        java.util.Map<String, Object> firstPrediction = predictions.get(0);
+                        Map<String, Object> firstPrediction = predictions.get(0);
                         String responseText = extractContentFromPrediction(firstPrediction);
 
                         // 토큰 수 추정
@@ -133,6 +146,102 @@ public class GeminiModelProvider implements AIModelProvider {
         }
     }
 
+    /**
+     * Vertex AI {@code streamGenerateContent?alt=sse} 로 호출해 candidate 텍스트 조각을 도착 즉시 전달한다.
+     * 토큰 사용량은 마지막 청크의 usageMetadata 를 쓰고, 없으면 {@link #estimateTokens} 로 추정한다.
+     */
+    @Override
+    public AIResponse analyzeStream(String systemPrompt, String userPrompt, int maxTokens, double temperature,
+                                    Consumer<String> onDelta) {
+        long startTime = System.currentTimeMillis();
+        StringBuilder content = new StringBuilder();
+        int[] usage = new int[3];
+
+        try {
+            String projectId = systemConfigService.getConfigValue("GOOGLE_CLOUD_PROJECT_ID", "");
+            String location = systemConfigService.getConfigValue("GEMINI_LOCATION", "us-central1");
+            String model = getModelName();
+
+            if (projectId.isEmpty()) {
+                log.error("Google Cloud Project ID가 설정되지 않았습니다.");
+                return new AIResponse("Google Cloud Project ID 미설정", System.currentTimeMillis() - startTime);
+            }
+
+            String apiUrl = String.format(
+                "https://%s-aiplatform.googleapis.com/v1/projects/%s/locations/%s/publishers/google/models/%s:streamGenerateContent?alt=sse",
+                location, projectId, location, model
+            );
+            String apiKey = systemConfigService.getConfigValue("GEMINI_API_KEY", "");
+            String fullPrompt = systemPrompt + "\n\n" + userPrompt;
+
+            Map<String, Object> userContent = new HashMap<>();
+            userContent.put("role", "user");
+            userContent.put("parts", List.of(Map.of("text", fullPrompt)));
+
+            Map<String, Object> generationConfig = new HashMap<>();
+            generationConfig.put("temperature", temperature);
+            generationConfig.put("maxOutputTokens", maxTokens);
+            generationConfig.put("topK", 40);
+            generationConfig.put("topP", 0.95);
+
+            Map<String, Object> requestBody = new HashMap<>();
+            requestBody.put("contents", List.of(userContent));
+            requestBody.put("generationConfig", generationConfig);
+
+            restTemplate.execute(
+                apiUrl,
+                HttpMethod.POST,
+                request -> {
+                    request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                    request.getHeaders().setBearerAuth(apiKey);
+                    objectMapper.writeValue(request.getBody(), requestBody);
+                },
+                response -> {
+                    AiSseStreamReader.read(response.getBody(), payload -> {
+                        try {
+                            JsonNode chunk = objectMapper.readTree(payload);
+                            for (JsonNode part : chunk.path("candidates").path(0).path("content").path("parts")) {
+                                String delta = part.path("text").asText(null);
+                                if (delta != null && !delta.isEmpty()) {
+                                    content.append(delta);
+                                    onDelta.accept(delta);
+                                }
+                            }
+                            JsonNode usageNode = chunk.path("usageMetadata");
+                            if (usageNode.isObject()) {
+                                usage[0] = usageNode.path("promptTokenCount").asInt(usage[0]);
+                                usage[1] = usageNode.path("candidatesTokenCount").asInt(usage[1]);
+                                usage[2] = usageNode.path("totalTokenCount").asInt(usage[2]);
+                            }
+                        } catch (JsonProcessingException e) {
+                            log.debug("Gemini 스트림 청크 파싱 실패(무시): {}", e.getMessage());
+                        }
+                        return true;
+                    });
+                    return null;
+                });
+
+            long responseTime = System.currentTimeMillis() - startTime;
+            if (content.length() == 0) {
+                log.error("❌ Gemini 스트림 응답이 비어있습니다.");
+                return new AIResponse("Gemini 스트림 응답 파싱 실패", responseTime);
+            }
+            String responseText = content.toString();
+            if (usage[2] == 0) {
+                usage[0] = estimateTokens(fullPrompt);
+                usage[1] = estimateTokens(responseText);
+                usage[2] = usage[0] + usage[1];
+            }
+            log.info("✅ Gemini 스트리밍 호출 성공: 모델={}, 응답시간={}ms, 토큰={}", model, responseTime, usage[2]);
+            return new AIResponse(responseText, usage[0], usage[1], usage[2], responseTime);
+
+        } catch (Exception e) {
+            long responseTime = System.currentTimeMillis() - startTime;
+            log.error("❌ Gemini 스트리밍 호출 실패: receivedLen={}, error={}", content.length(), e.getMessage(), e);
+            return new AIResponse("Gemini API 오류: " + e.getMessage(), responseTime);
+        }
+    }
+
     @Override
     public boolean isAvailable() {
         try {
@@ -148,7 +257,7 @@ public class GeminiModelProvider implements AIModelProvider {
      * Gemini 응답에서 텍스트 추출
      */
     @SuppressWarnings("unchecked")
-    private String extractContentFromPrediction(java.util.Map<String, Object> prediction) {
+    private String extractContentFromPrediction(Map<String, Object> prediction) {
         try {
             // 방법 1: content 필드 직접 확인
             if (prediction.containsKey("content")) {
@@ -160,11 +269,11 @@ public class GeminiModelProvider implements AIModelProvider {
 
             // 방법 2: candidates 배열 확인
             if (prediction.containsKey("candidates")) {
-                java.util.List<java.util.Map<String, Object>> candidates =
-                    (java.util.List<java.util.Map<String, Object>>) prediction.get("candidates");
+                List<Map<String, Object>> candidates =
+                    (List<Map<String, Object>>) prediction.get("candidates");
 
                 if (!candidates.isEmpty()) {
-                    java.util.Map<String, Object> firstCandidate = candidates.get(0);
+                    Map<String, Object> firstCandidate = candidates.get(0);
                     if (firstCandidate.containsKey("content")) {
                         return (String) firstCandidate.get("content");
                     }
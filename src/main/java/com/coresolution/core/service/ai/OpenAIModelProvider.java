@@ -1,6 +1,9 @@
 package com.coresolution.core.service.ai;
 
 import com.coresolution.consultation.service.SystemConfigService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -15,6 +18,7 @@ import org.springframework.web.client.RestTemplate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * OpenAI GPT 모델 제공자
@@ -30,7 +34,8 @@ import java.util.Map;
 public class OpenAIModelProvider implements AIModelProvider {
     
     private final SystemConfigService systemConfigService;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
     
     @Override
     public String getModelName() {
@@ -121,6 +126,82 @@ public class OpenAIModelProvider implements AIModelProvider {
         }
     }
     
+    /**
+     * Chat Completions {@code stream=true} 로 호출해 delta 조각을 도착 즉시 전달한다.
+     * 토큰 사용량은 {@code stream_options.include_usage} 로 마지막 청크에서 받는다.
+     */
+    @Override
+    public AIResponse analyzeStream(String systemPrompt, String userPrompt, int maxTokens, double temperature,
+                                    Consumer<String> onDelta) {
+        long startTime = System.currentTimeMillis();
+        StringBuilder content = new StringBuilder();
+        int[] usage = new int[3];
+        
+        try {
+            String apiKey = systemConfigService.getOpenAIApiKey();
+            String apiUrl = systemConfigService.getOpenAIApiUrl();
+            String model = systemConfigService.getOpenAIModel();
+            
+            Map<String, Object> message1 = new HashMap<>();
+            message1.put("role", "system");
+            message1.put("content", systemPrompt);
+            
+            Map<String, Object> message2 = new HashMap<>();
+            message2.put("role", "user");
+            message2.put("content", userPrompt);
+            
+            Map<String, Object> requestBody = new HashMap<>();
+            requestBody.put("model", model);
+            requestBody.put("messages", List.of(message1, message2));
+            requestBody.put("max_tokens", maxTokens);
+            requestBody.put("temperature", temperature);
+            requestBody.put("stream", true);
+            requestBody.put("stream_options", Map.of("include_usage", true));
+            
+            restTemplate.execute(apiUrl, HttpMethod.POST, request -> {
+                request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                request.getHeaders().setAccept(List.of(MediaType.TEXT_EVENT_STREAM));
+                request.getHeaders().setBearerAuth(apiKey);
+                objectMapper.writeValue(request.getBody(), requestBody);
+            }, response -> {
+                AiSseStreamReader.read(response.getBody(), payload -> {
+                    if (AiSseStreamReader.OPENAI_DONE.equals(payload)) {
+                        return false;
+                    }
+                    try {
+                        JsonNode chunk = objectMapper.readTree(payload);
+                        String delta = chunk.path("choices").path(0).path("delta").path("content").asText(null);
+                        if (delta != null && !delta.isEmpty()) {
+                            content.append(delta);
+                            onDelta.accept(delta);
+                        }
+                        JsonNode usageNode = chunk.path("usage");
+                        if (usageNode.isObject()) {
+                            usage[0] = usageNode.path("prompt_tokens").asInt(0);
+                            usage[1] = usageNode.path("completion_tokens").asInt(0);
+                            usage[2] = usageNode.path("total_tokens").asInt(0);
+                        }
+                    } catch (JsonProcessingException e) {
+                        log.debug("OpenAI 스트림 청크 파싱 실패(무시): {}", e.getMessage());
+                    }
+                    return true;
+                });
+                return null;
+            });
+            
+            long responseTime = System.currentTimeMillis() - startTime;
+            if (content.length() == 0) {
+                return new AIResponse("OpenAI 스트림 응답이 비어있습니다", responseTime);
+            }
+            return new AIResponse(content.toString(), usage[0], usage[1], usage[2], responseTime);
+            
+        } catch (Exception e) {
+            long responseTime = System.currentTimeMillis() - startTime;
+            log.error("OpenAI 스트리밍 호출 실패: receivedLen={}, error={}", content.length(), e.getMessage(), e);
+            return new AIResponse(e.getMessage(), responseTime);
+        }
+    }
+    
     @Override
     public boolean isAvailable() {
         try {
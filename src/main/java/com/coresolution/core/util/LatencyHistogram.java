@@ -0,0 +1,170 @@
+package com.coresolution.core.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지연 시간 로그-선형 히스토그램 (동시 기록, 병합 가능).
+ *
+ * <p>마이크로초 값을 2의 거듭제곱 구간마다 8개 하위 구간으로 나눠 센다 (상대 오차 약 6% 이내).
+ * 버킷 경계가 고정이므로 여러 히스토그램의 버킷 수를 더하면 그대로 병합되며, 병합 결과에서 구한 분위수는
+ * 개별 평균의 평균과 달리 정확하다. 기록은 배열 원소 원자 증가뿐이라 할당이 없다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /** 2^40µs (약 12.7일) 이상은 마지막 버킷에 넣는다. */
+    private static final int MAX_MAGNITUDE = 40;
+    static final int BUCKETS = (MAX_MAGNITUDE - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * 지연 시간 요약.
+     *
+     * @param count  표본 수
+     * @param meanMs 평균 (ms)
+     * @param p50Ms  50 분위 (ms)
+     * @param p95Ms  95 분위 (ms)
+     * @param p99Ms  99 분위 (ms)
+     * @param maxMs  최대 (ms)
+     */
+    public record Summary(long count, double meanMs, double p50Ms, double p95Ms, double p99Ms, double maxMs) {
+
+        /** 표본 없음 */
+        public static final Summary EMPTY = new Summary(0, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * 시점 복사본. {@link #merge(Snapshot)} 로 합산한다.
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private long count;
+        private long sumMicros;
+        private long maxMicros;
+
+        /** 빈 스냅샷 (병합 누적용) */
+        public Snapshot() {
+            this.counts = new long[BUCKETS];
+        }
+
+        /**
+         * 다른 스냅샷을 더한다.
+         *
+         * @param other 더할 스냅샷
+         * @return this
+         */
+        public Snapshot merge(Snapshot other) {
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] += other.counts[i];
+            }
+            count += other.count;
+            sumMicros += other.sumMicros;
+            maxMicros = Math.max(maxMicros, other.maxMicros);
+            return this;
+        }
+
+        public long count() {
+            return count;
+        }
+
+        /**
+         * @param quantile 0~1
+         * @return 분위수 (µs, 버킷 중앙값)
+         */
+        public long percentileMicros(double quantile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(quantile * count));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(midpoint(i), maxMicros);
+                }
+            }
+            return maxMicros;
+        }
+
+        /**
+         * @return ms 단위 요약
+         */
+        public Summary summary() {
+            if (count == 0) {
+                return Summary.EMPTY;
+            }
+            return new Summary(count, sumMicros / 1000.0 / count,
+                    percentileMicros(0.50) / 1000.0, percentileMicros(0.95) / 1000.0,
+                    percentileMicros(0.99) / 1000.0, maxMicros / 1000.0);
+        }
+    }
+
+    /**
+     * @param nanos 지연 시간 (ns)
+     */
+    public void recordNanos(long nanos) {
+        long micros = Math.max(0, nanos / 1000);
+        counts.incrementAndGet(bucketIndex(micros));
+        totalCount.increment();
+        totalMicros.add(micros);
+        maxMicros.accumulateAndGet(micros, Math::max);
+    }
+
+    /**
+     * 현재 값 복사. 기록과 동시에 호출되면 버킷 합과 count 가 일시적으로 한두 건 어긋날 수 있다.
+     *
+     * @return 스냅샷
+     */
+    public Snapshot snapshot() {
+        Snapshot snapshot = new Snapshot();
+        long sum = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            long c = counts.get(i);
+            snapshot.counts[i] = c;
+            sum += c;
+        }
+        snapshot.count = sum;
+        snapshot.sumMicros = totalMicros.sum();
+        snapshot.maxMicros = maxMicros.get();
+        return snapshot;
+    }
+
+    /**
+     * @return 누적 표본 수
+     */
+    public long count() {
+        return totalCount.sum();
+    }
+
+    static int bucketIndex(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(micros);
+        if (magnitude > MAX_MAGNITUDE) {
+            return BUCKETS - 1;
+        }
+        int sub = (int) (micros >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    static long midpoint(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int magnitude = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int sub = index % SUB_BUCKETS;
+        long width = 1L << (magnitude - SUB_BUCKET_BITS);
+        return ((SUB_BUCKETS + sub) * width) + width / 2;
+    }
+}
@@ -0,0 +1,34 @@
+-- =============================================================================
+-- V20261019_001__create_psych_assessment_extraction_cache.sql
+-- 심리검사 추출 결과 캐시 (콘텐츠 해시 + 파서 버전, 테넌트 범위)
+--
+-- 동일 파일 재업로드·재추출 시 PDF 텍스트 추출/OCR/파싱 반복을 피하기 위한 캐시.
+-- 평문은 암호화 저장, extracted_json 은 parser_version 이 현재 파서와 같을 때만 재사용한다.
+-- 운영 영향: 신규 테이블 1건. CREATE TABLE IF NOT EXISTS.
+-- =============================================================================
+
+CREATE TABLE IF NOT EXISTS psych_assessment_extraction_cache (
+    id                    BIGINT       NOT NULL AUTO_INCREMENT,
+    tenant_id             VARCHAR(100) NOT NULL,
+    content_sha256        CHAR(64)     NOT NULL COMMENT 'psych_assessment_documents.sha256 (이미지는 합성 해시)',
+    assessment_type       VARCHAR(50)  NOT NULL COMMENT 'TCI, MMPI',
+    source_type           VARCHAR(50)  NOT NULL COMMENT 'SCANNED_PDF, SCANNED_IMAGE',
+    plain_text_encrypted  LONGTEXT     NOT NULL COMMENT '암호화된 추출 평문',
+    extracted_json        LONGTEXT     NULL     COMMENT 'parser_version 기준 파싱 결과 (무효화 시 NULL)',
+    parser_version        VARCHAR(30)  NOT NULL,
+    ocr_engine            VARCHAR(50)  NOT NULL,
+    extraction_millis     BIGINT       NOT NULL COMMENT '최초 평문 추출 소요(ms) — 절감 시간 집계 기준',
+    hit_count             BIGINT       NOT NULL DEFAULT 0,
+    last_hit_at           DATETIME(6)  NULL,
+    created_at            DATETIME(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    updated_at            DATETIME(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+    deleted_at            DATETIME(6)  NULL,
+    is_deleted            BOOLEAN      NOT NULL DEFAULT FALSE,
+    version               BIGINT       NOT NULL DEFAULT 0,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_psych_ext_cache_content (tenant_id, content_sha256, assessment_type, source_type),
+    KEY idx_psych_ext_cache_parser (assessment_type, parser_version)
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4
+  COLLATE=utf8mb4_unicode_ci
+  COMMENT='심리검사 추출 결과 캐시 (콘텐츠 해시·파서 버전)';
@@ -0,0 +1,20 @@
+-- =============================================================================
+-- V20261019_002__create_metric_stream_checkpoints.sql
+-- 스트리밍 이상 탐지 온라인 통계 체크포인트 ((테넌트, 메트릭 유형)별 1행)
+--
+-- StreamingAnomalyDetector 가 EWMA 평균·분산, 시간대 기준선, 분위수 스케치를 주기 저장하고
+-- 기동 시 복원한다. 시스템 전체 메트릭(tenant_id NULL)은 tenant_key '' 로 저장한다.
+-- 운영 영향: 신규 테이블 1건. CREATE TABLE IF NOT EXISTS.
+-- =============================================================================
+
+CREATE TABLE IF NOT EXISTS metric_stream_checkpoints (
+    tenant_key    VARCHAR(36)  NOT NULL DEFAULT '' COMMENT 'tenant_id (시스템 전체는 빈 문자열)',
+    metric_type   VARCHAR(50)  NOT NULL,
+    sample_count  BIGINT       NOT NULL DEFAULT 0,
+    state_json    LONGTEXT     NOT NULL COMMENT 'MetricStreamStatistics.Snapshot JSON',
+    updated_at    DATETIME(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (tenant_key, metric_type)
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4
+  COLLATE=utf8mb4_unicode_ci
+  COMMENT='스트리밍 이상 탐지 통계 체크포인트';
@@ -0,0 +1,32 @@
+-- =============================================================================
+-- V20261019_003__create_http_audit_events.sql
+-- HTTP 감사 이벤트 append-only 저장소 (AuditLoggingFilter → HttpAuditPipeline)
+--
+-- 감사 대상 경로 요청 1건당 1행. 필터는 요청 스레드에서 불변 이벤트만 만들고, 파이프라인이
+-- JDBC batch insert 로 적재한다. 갱신·삭제 없음 (보존 정책은 별도 배치).
+-- audit_logs(도메인 액션 SSOT)와 달리 사용자 FK 없이 요청 메타데이터만 저장한다.
+-- 운영 영향: 신규 테이블 1건. CREATE TABLE IF NOT EXISTS.
+-- =============================================================================
+
+CREATE TABLE IF NOT EXISTS http_audit_events (
+    id               BIGINT        NOT NULL AUTO_INCREMENT,
+    occurred_at      DATETIME(3)   NOT NULL COMMENT '요청 완료 시각',
+    tenant_id        VARCHAR(50)   NULL,
+    user_id          VARCHAR(50)   NULL COMMENT '세션 userId (비로그인 NULL)',
+    event_type       VARCHAR(10)   NOT NULL COMMENT 'SUCCESS / ERROR',
+    security_level   VARCHAR(10)   NOT NULL COMMENT 'HIGH / MEDIUM / LOW',
+    http_method      VARCHAR(10)   NOT NULL,
+    path             VARCHAR(500)  NOT NULL,
+    query_string     VARCHAR(1000) NULL,
+    response_status  SMALLINT      NOT NULL,
+    duration_ms      INT           NOT NULL,
+    client_ip        VARCHAR(45)   NULL,
+    user_agent       VARCHAR(500)  NULL,
+    error_message    VARCHAR(1000) NULL,
+    PRIMARY KEY (id),
+    KEY idx_http_audit_events_tenant_occurred (tenant_id, occurred_at),
+    KEY idx_http_audit_events_level_occurred (security_level, occurred_at)
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4
+  COLLATE=utf8mb4_unicode_ci
+  COMMENT='HTTP 감사 이벤트 (append-only)';
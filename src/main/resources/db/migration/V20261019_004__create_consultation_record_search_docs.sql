@@ -0,0 +1,42 @@
+-- =============================================================================
+-- V20261019_004__create_consultation_record_search_docs.sql
+-- 상담일지 전문 검색 색인 (ConsultationRecordSearchIndex)
+--
+-- consultation_records 의 검색 대상 4개 필드(주요 이슈·개입 방법·내담자 반응·다음 세션 계획)를
+-- ngram FULLTEXT 로 색인한 문서 테이블. 기존 LIKE '%키워드%' 전체 스캔을 MATCH ... AGAINST 로 대체한다.
+-- 클러스터 키가 (tenant_id, record_id) 라 테넌트별로 물리 정렬되며, 삭제된 상담일지는 행을 지운다.
+-- 서비스의 생성·수정·삭제가 같은 트랜잭션에서 행을 갱신하고, 누락분은 재색인 작업이 복구한다.
+-- ngram 토큰 길이는 서버 기본값(ngram_token_size=2) 기준.
+-- 운영 영향: 신규 테이블 1건 + 기존 상담일지 1회 적재. CREATE TABLE IF NOT EXISTS / INSERT IGNORE.
+-- =============================================================================
+
+CREATE TABLE IF NOT EXISTS consultation_record_search_docs (
+    tenant_id             VARCHAR(36)  NOT NULL,
+    record_id             BIGINT       NOT NULL COMMENT 'consultation_records.id',
+    consultation_id       BIGINT       NOT NULL,
+    consultant_id         BIGINT       NOT NULL,
+    client_id             BIGINT       NOT NULL,
+    session_date          DATE         NOT NULL,
+    main_issues           TEXT         NULL,
+    intervention_methods  TEXT         NULL,
+    client_response       TEXT         NULL,
+    next_session_plan     TEXT         NULL,
+    indexed_at            DATETIME(3)  NOT NULL,
+    PRIMARY KEY (tenant_id, record_id),
+    KEY idx_crsd_tenant_consultant (tenant_id, consultant_id),
+    KEY idx_crsd_tenant_client (tenant_id, client_id),
+    FULLTEXT KEY ft_crsd_content (main_issues, intervention_methods, client_response, next_session_plan)
+        WITH PARSER ngram
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4
+  COLLATE=utf8mb4_unicode_ci
+  COMMENT='상담일지 전문 검색 색인 (ngram FULLTEXT)';
+
+INSERT IGNORE INTO consultation_record_search_docs
+    (tenant_id, record_id, consultation_id, consultant_id, client_id, session_date,
+     main_issues, intervention_methods, client_response, next_session_plan, indexed_at)
+SELECT cr.tenant_id, cr.id, cr.consultation_id, cr.consultant_id, cr.client_id, cr.session_date,
+       cr.main_issues, cr.intervention_methods, cr.client_response, cr.next_session_plan, NOW(3)
+FROM consultation_records cr
+WHERE cr.is_deleted = FALSE
+  AND cr.tenant_id IS NOT NULL;
@@ -0,0 +1,42 @@
+-- =============================================================================
+-- V20261019_005__create_financial_daily_aggregates.sql
+-- 회계 거래 일별 집계 (FinancialDailyAggregateStore)
+--
+-- financial_transactions 를 (tenant_id, 일자, 거래 유형, 상태, 카테고리) 단위로 미리 합산한 테이블.
+-- ERP 재무 대시보드(수입·지출 합계, 카테고리별, 월별, 세금 합계)가 거래 원장 대신 이 테이블을 굴려
+-- 계산하므로 조회 비용이 거래 건수가 아닌 조회 기간 일수에 비례한다.
+-- 삭제(is_deleted = TRUE) 거래와 tenant_id 가 없는 레거시 거래는 집계하지 않는다.
+-- category 가 NULL 인 거래는 빈 문자열('') 키로 합산한다.
+-- 엔티티 리스너가 거래 저장·수정마다 같은 트랜잭션에서 증감을 반영하고, 저장 프로시저 등 JPA 를
+-- 거치지 않는 변경은 일일 대사 작업(FinancialAggregateReconciliationScheduler)이 바로잡는다.
+-- 운영 영향: 신규 테이블 1건 + 기존 거래 1회 적재. CREATE TABLE IF NOT EXISTS / INSERT IGNORE.
+-- =============================================================================
+
+CREATE TABLE IF NOT EXISTS financial_daily_aggregates (
+    tenant_id               VARCHAR(36)    NOT NULL,
+    aggregate_date          DATE           NOT NULL COMMENT 'financial_transactions.transaction_date',
+    transaction_type        VARCHAR(20)    NOT NULL,
+    status                  VARCHAR(20)    NOT NULL,
+    category                VARCHAR(50)    NOT NULL DEFAULT '' COMMENT 'NULL 카테고리는 빈 문자열',
+    total_amount            DECIMAL(19, 2) NOT NULL DEFAULT 0,
+    tax_amount              DECIMAL(19, 2) NOT NULL DEFAULT 0,
+    withholding_tax_amount  DECIMAL(19, 2) NOT NULL DEFAULT 0,
+    txn_count               BIGINT         NOT NULL DEFAULT 0,
+    updated_at              DATETIME(3)    NOT NULL,
+    PRIMARY KEY (tenant_id, aggregate_date, transaction_type, status, category),
+    KEY idx_fda_tenant_category_date (tenant_id, category, aggregate_date)
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4
+  COLLATE=utf8mb4_unicode_ci
+  COMMENT='회계 거래 일별 집계 (대시보드 롤업용)';
+
+INSERT IGNORE INTO financial_daily_aggregates
+    (tenant_id, aggregate_date, transaction_type, status, category,
+     total_amount, tax_amount, withholding_tax_amount, txn_count, updated_at)
+SELECT ft.tenant_id, ft.transaction_date, ft.transaction_type, ft.status, COALESCE(ft.category, ''),
+       COALESCE(SUM(ft.amount), 0), COALESCE(SUM(ft.tax_amount), 0),
+       COALESCE(SUM(ft.withholding_tax_amount), 0), COUNT(*), NOW(3)
+FROM financial_transactions ft
+WHERE ft.is_deleted = FALSE
+  AND ft.tenant_id IS NOT NULL
+GROUP BY ft.tenant_id, ft.transaction_date, ft.transaction_type, ft.status, COALESCE(ft.category, '');
@@ -0,0 +1,26 @@
+-- =============================================================================
+-- V20261019_006__create_financial_statement_snapshots.sql
+-- 마감 월 재무제표 블록 스냅샷 (FinancialStatementBlockStore)
+--
+-- CLOSED 상태 월(MONTH) financial_periods 1건마다 해당 월 원장에서 계산한 계정별 재무제표 블록
+-- (계정 분류·차변·대변·기말잔액)을 JSON 으로 1회 저장한다. 마감된 월은 더 바뀌지 않으므로 손익계산서·
+-- 재무상태표·현금흐름표·전년 대비 비교가 해당 월 원장을 다시 읽지 않고 블록을 재사용한다.
+-- 재오픈(FinancialPeriodServiceImpl#reopenPeriod) 시 행을 지우고, period_version 이 현재
+-- financial_periods.version 과 다르면(재마감 등) 조회 측이 무시한 뒤 새로 계산해 덮어쓴다.
+-- 운영 영향: 신규 테이블 1건. 적재는 조회 시점에 지연 생성. CREATE TABLE IF NOT EXISTS.
+-- =============================================================================
+
+CREATE TABLE IF NOT EXISTS financial_statement_snapshots (
+    tenant_id       VARCHAR(36)  NOT NULL,
+    period_id       BIGINT       NOT NULL COMMENT 'financial_periods.id (MONTH, CLOSED)',
+    period_version  BIGINT       NULL     COMMENT '스냅샷 계산 시점 financial_periods.version',
+    period_start    DATE         NOT NULL,
+    period_end      DATE         NOT NULL,
+    payload         LONGTEXT     NOT NULL COMMENT '계정별 블록 라인 JSON 배열',
+    computed_at     DATETIME(3)  NOT NULL,
+    PRIMARY KEY (tenant_id, period_id),
+    KEY idx_fss_tenant_period_start (tenant_id, period_start)
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4
+  COLLATE=utf8mb4_unicode_ci
+  COMMENT='마감 월 재무제표 블록 스냅샷';
@@ -0,0 +1,41 @@
+-- =============================================================================
+-- V20261019_007__add_refund_history_keyset_indexes.sql
+-- 환불 이력 keyset 조회 인덱스 (RefundHistoryQueryServiceImpl)
+--
+-- 환불 거래: (tenant_id, transaction_type, subcategory, transaction_date, id) 범위 스캔 + 역순 정렬.
+-- 매칭 단위 중복 제거 NOT EXISTS 서브쿼리: (tenant_id, related_entity_id).
+-- 강제 종료 매칭: (tenant_id, status, terminated_at, id) 범위 스캔 + 역순 정렬.
+-- 운영 영향: 인덱스 3건 추가. 이미 있으면 건너뛴다 (재실행 안전).
+-- =============================================================================
+
+SET @dbname = DATABASE();
+
+SET @preparedStatement = (SELECT IF(
+    (SELECT COUNT(*) FROM INFORMATION_SCHEMA.STATISTICS
+     WHERE TABLE_SCHEMA = @dbname AND TABLE_NAME = 'financial_transactions' AND INDEX_NAME = 'idx_ft_refund_keyset') > 0,
+    'SELECT 1',
+    'CREATE INDEX idx_ft_refund_keyset ON financial_transactions (tenant_id, transaction_type, subcategory, transaction_date, id)'
+));
+PREPARE stmt FROM @preparedStatement;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @preparedStatement = (SELECT IF(
+    (SELECT COUNT(*) FROM INFORMATION_SCHEMA.STATISTICS
+     WHERE TABLE_SCHEMA = @dbname AND TABLE_NAME = 'financial_transactions' AND INDEX_NAME = 'idx_ft_tenant_related_entity') > 0,
+    'SELECT 1',
+    'CREATE INDEX idx_ft_tenant_related_entity ON financial_transactions (tenant_id, related_entity_id)'
+));
+PREPARE stmt FROM @preparedStatement;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @preparedStatement = (SELECT IF(
+    (SELECT COUNT(*) FROM INFORMATION_SCHEMA.STATISTICS
+     WHERE TABLE_SCHEMA = @dbname AND TABLE_NAME = 'consultant_client_mappings' AND INDEX_NAME = 'idx_mapping_tenant_status_terminated') > 0,
+    'SELECT 1',
+    'CREATE INDEX idx_mapping_tenant_status_terminated ON consultant_client_mappings (tenant_id, status, terminated_at, id)'
+));
+PREPARE stmt FROM @preparedStatement;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
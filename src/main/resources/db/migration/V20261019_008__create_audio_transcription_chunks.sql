@@ -0,0 +1,25 @@
+-- =============================================================================
+-- V20261019_008__create_audio_transcription_chunks.sql
+-- 긴 녹음 청크 병렬 전사 체크포인트 (TranscriptionCheckpointStore)
+--
+-- ChunkedTranscriptionPipeline 이 녹음을 무음 구간에서 겹치는 청크로 나눠 동시에 전사할 때, 끝난 청크의
+-- 세그먼트(청크 기준 시각)를 청크마다 1행 저장한다. 전사가 중간에 실패해 다시 시작하면 plan_fingerprint 가
+-- 같은 청크는 다시 인식하지 않고 이 행을 쓴다. 지문이 다른 행(파일·설정 변경)은 시작 시 지우고, 전사 결과
+-- (audio_transcriptions) 저장이 끝나면 해당 음성 파일의 행을 모두 지운다.
+-- 운영 영향: 신규 테이블 1건. 행은 전사 진행 중에만 남는다. CREATE TABLE IF NOT EXISTS.
+-- =============================================================================
+
+CREATE TABLE IF NOT EXISTS audio_transcription_chunks (
+    tenant_id         VARCHAR(36)  NOT NULL,
+    audio_file_id     BIGINT       NOT NULL COMMENT 'consultation_audio_files.id',
+    chunk_index       INT          NOT NULL COMMENT '청크 순번 (0부터)',
+    plan_fingerprint  CHAR(64)     NOT NULL COMMENT '청크 분할 계획 지문 (SHA-256 hex)',
+    start_ms          BIGINT       NOT NULL COMMENT '녹음 기준 청크 시작 (겹침 포함)',
+    end_ms            BIGINT       NOT NULL COMMENT '녹음 기준 청크 끝 (겹침 포함)',
+    segments          LONGTEXT     NOT NULL COMMENT '청크 기준 확정 세그먼트 JSON 배열',
+    completed_at      DATETIME(3)  NOT NULL,
+    PRIMARY KEY (tenant_id, audio_file_id, chunk_index)
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4
+  COLLATE=utf8mb4_unicode_ci
+  COMMENT='청크 병렬 전사 체크포인트';
@@ -0,0 +1,28 @@
+-- =============================================================================
+-- V20261019_009__create_financial_close_checkpoints.sql
+-- 정기 재무 마감 테넌트별 진행 체크포인트 (FinancialCloseCheckpointStore)
+--
+-- IncrementalFinancialCloseEngine 이 일/월 마감을 테넌트마다 병렬로 돌릴 때 (테넌트, 마감 유형) 1행에
+-- 마지막으로 마감을 마친 기간과 진행 상태를 남긴다. 다음 실행은 last_closed_start 이후 기간만 마감하고,
+-- 이미 대상 기간까지 마친 테넌트는 건너뛴다 — 중간에 죽은 실행을 다시 돌려도 남은 테넌트만 처리한다.
+-- status=RUNNING 은 한 실행이 테넌트를 잡았다는 표시이며, 잡은 지 running-lease 가 지나면 다른 실행이
+-- 이어받는다. last_duration_ms 는 테넌트 1건 마감 지연(모니터링용)이다.
+-- 운영 영향: 신규 테이블 1건 (테넌트 × 2행). CREATE TABLE IF NOT EXISTS.
+-- =============================================================================
+
+CREATE TABLE IF NOT EXISTS financial_close_checkpoints (
+    tenant_id          VARCHAR(36)   NOT NULL,
+    period_type        VARCHAR(10)   NOT NULL COMMENT 'DAY / MONTH',
+    last_closed_start  DATE          NULL COMMENT '마지막으로 마감을 마친 기간 시작일',
+    status             VARCHAR(20)   NOT NULL COMMENT 'IDLE / RUNNING / CLOSED / BLOCKED / FAILED',
+    current_start      DATE          NULL COMMENT '진행 중이거나 마지막으로 차단·실패한 기간 시작일',
+    started_at         DATETIME(3)   NULL,
+    finished_at        DATETIME(3)   NULL,
+    last_duration_ms   BIGINT        NULL COMMENT '마지막 실행의 테넌트 마감 소요 (ms)',
+    last_error         VARCHAR(500)  NULL,
+    updated_at         DATETIME(3)   NOT NULL,
+    PRIMARY KEY (tenant_id, period_type)
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4
+  COLLATE=utf8mb4_unicode_ci
+  COMMENT='정기 재무 마감 테넌트별 체크포인트';
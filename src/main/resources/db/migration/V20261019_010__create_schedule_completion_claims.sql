@@ -0,0 +1,24 @@
+-- =============================================================================
+-- V20261019_010__create_schedule_completion_claims.sql
+-- 일정 자동 완료 선점 (ScheduleCompletionClaimStore)
+--
+-- 인스턴스마다 따로 둔 완료 시각 색인(ScheduleDueIndex)이 같은 일정을 꺼내도 한 실행만 완료·리마인더를 하도록
+-- 일정 1건당 1행으로 선점을 남긴다. 실행마다 새 claim_token(UUID)을 쓰고, 자기 토큰이 적힌 행만 처리한다.
+-- claimed_at 이 claim-lease 보다 오래된 행은 다른 실행이 토큰을 바꿔 이어받는다.
+-- schedules 행은 건드리지 않는다 — updated_at·version·엔티티 리스너·캘린더 ETag 에 영향이 없다.
+-- 완료된 일정의 행은 완료와 같은 트랜잭션에서 지우고, 닫힌 일정의 남은 행은 대사 주기에 지운다.
+-- 운영 영향: 신규 테이블 1건 (상담일지 대기 중인 지난 일정 수만큼). CREATE TABLE IF NOT EXISTS.
+-- =============================================================================
+
+CREATE TABLE IF NOT EXISTS schedule_completion_claims (
+    schedule_id  BIGINT        NOT NULL,
+    tenant_id    VARCHAR(100)  NOT NULL,
+    claim_token  CHAR(36)      NOT NULL COMMENT '선점한 실행의 토큰 (실행마다 새 UUID)',
+    claimed_at   DATETIME(3)   NOT NULL COMMENT '선점 시각 — claim-lease 가 지나면 다른 실행이 이어받는다',
+    PRIMARY KEY (schedule_id),
+    KEY idx_schedule_completion_claims_token (claim_token),
+    KEY idx_schedule_completion_claims_tenant (tenant_id, claimed_at)
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4
+  COLLATE=utf8mb4_unicode_ci
+  COMMENT='일정 자동 완료 인스턴스 간 선점';
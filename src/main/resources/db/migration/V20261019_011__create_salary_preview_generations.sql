@@ -0,0 +1,20 @@
+-- =============================================================================
+-- V20261019_011__create_salary_preview_generations.sql
+-- 급여 미리보기 캐시 인스턴스 간 무효화 세대 (SalaryPreviewGenerationStore)
+--
+-- SalaryPreviewCache 는 인스턴스마다 메모리에 미리보기를 두므로, 한 인스턴스가 일정·매칭·급여 프로필·
+-- 급여 규칙 변경을 커밋하면 테넌트 행(전역 급여 규칙이면 tenant_id='*')의 generation 을 1 올린다.
+-- 각 인스턴스는 적중 전에 (테넌트, '*') 두 행을 PK 로 읽고, 항목을 만들 때의 세대와 다르면 다시 계산한다.
+-- 세대는 쓰기 트랜잭션 커밋 뒤 별도 트랜잭션으로 올리므로 쓰기 경로가 이 행을 잠근 채 기다리지 않는다.
+-- 운영 영향: 신규 테이블 1건 (테넌트 수 + 1행). CREATE TABLE IF NOT EXISTS.
+-- =============================================================================
+
+CREATE TABLE IF NOT EXISTS salary_preview_generations (
+    tenant_id   VARCHAR(100)  NOT NULL COMMENT '테넌트 ID, 전역 급여 규칙은 *',
+    generation  BIGINT        NOT NULL COMMENT '미리보기 입력 변경 커밋마다 1 증가',
+    updated_at  DATETIME(3)   NOT NULL,
+    PRIMARY KEY (tenant_id)
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4
+  COLLATE=utf8mb4_unicode_ci
+  COMMENT='급여 미리보기 캐시 인스턴스 간 무효화 세대';
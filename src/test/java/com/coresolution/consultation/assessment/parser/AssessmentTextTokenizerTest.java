@@ -0,0 +1,79 @@
+package com.coresolution.consultation.assessment.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 심리검사 평문 토크나이저 단위 테스트 — 기존 정규식·split 경계와 같은 결과인지 확인한다.
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+class AssessmentTextTokenizerTest {
+
+    @Test
+    void normalize_crlfNbspAndFullWidth() {
+        assertEquals("T 12\nRaw 3\nx", AssessmentTextTokenizer.normalize("Ｔ １２\r\nRaw　3\rx"));
+    }
+
+    @Test
+    void lines_followSplitAndTrimBoundaries() {
+        AssessmentTextTokenizer.Document doc = AssessmentTextTokenizer.tokenize("\n  탐색성 18 \n\n \t\n연대감\n\n");
+
+        // "[\r\n]+" split: 앞쪽 개행이면 빈 첫 줄, 공백만 있는 줄은 유지, 끝 빈 줄은 버림
+        assertEquals(4, doc.lineCount());
+        assertEquals("", doc.line(0));
+        assertEquals("탐색성 18", doc.line(1));
+        assertEquals("  탐색성 18 ", doc.rawLine(1));
+        assertEquals("", doc.line(2));
+        assertEquals("연대감", doc.line(3));
+    }
+
+    @Test
+    void tokens_classifyLatinNumberTextAndSymbol() {
+        AssessmentTextTokenizer.Document doc = AssessmentTextTokenizer.tokenize("NS탐색성:53F");
+        List<AssessmentTextTokenizer.Token> tokens = doc.tokens();
+
+        assertEquals(5, tokens.size());
+        assertEquals(AssessmentTextTokenizer.Kind.LATIN, tokens.get(0).kind());
+        assertEquals(AssessmentTextTokenizer.Kind.TEXT, tokens.get(1).kind());
+        assertEquals(AssessmentTextTokenizer.Kind.SYMBOL, tokens.get(2).kind());
+        assertEquals(AssessmentTextTokenizer.Kind.NUMBER, tokens.get(3).kind());
+        assertEquals("53", doc.text(tokens.get(3)));
+        assertEquals(AssessmentTextTokenizer.Kind.LATIN, tokens.get(4).kind());
+    }
+
+    @Test
+    void numbers_skipOverflowAndRespectRange() {
+        AssessmentTextTokenizer.Document doc = AssessmentTextTokenizer.tokenize("원점수 12 99999999999 7 전체규준 60");
+
+        assertEquals(List.of(12, 7, 60), doc.numbersInLine(0));
+        int tIdx = doc.text().indexOf("전체규준");
+        assertEquals(List.of(12, 7), doc.numbersBetween(0, tIdx));
+        assertEquals(List.of(60), doc.numbersBetween(tIdx, doc.text().length()));
+    }
+
+    @Test
+    void indexOfWord_requiresNonLatinNeighbours() {
+        AssessmentTextTokenizer.Document doc = AssessmentTextTokenizer.tokenize("NSx 탐색성NS 12\nPR 40");
+
+        assertEquals(doc.text().indexOf("NS 12"), doc.indexOfWord("NS"));
+        assertEquals(-1, doc.indexOfWord("ST"));
+        assertTrue(doc.lineHasWord(1, "pr"));
+        assertFalse(doc.lineHasWord(0, "PR"));
+    }
+
+    @Test
+    void compactSearch_mapsBackToOriginalPosition() {
+        AssessmentTextTokenizer.TextView view = AssessmentTextTokenizer.tokenize("점수 사회적 민 감 성 12").view();
+
+        assertEquals(-1, view.indexOfIgnoreCase("사회적민감성"));
+        assertEquals(3, view.indexOfCompactIgnoreCase("사회적민감성"));
+        assertTrue(view.compactContains("민감성12"));
+    }
+}
@@ -0,0 +1,69 @@
+package com.coresolution.consultation.assessment.parser;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * MMPI-2 텍스트 추출 파서 단위 테스트. 픽스처는 합성 예시이며 실제 보고서가 아니다.
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+class Mmpi2ExtractionParserTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    void parseTableFixture_rawScoresOnNextLineAndSuffixedTScore() throws Exception {
+        var res = new ClassPathResource("psych-assessment/mmpi2-sample-table-fake.txt");
+        String json = Mmpi2ExtractionParser.parse(res.getContentAsString(StandardCharsets.UTF_8));
+        assertNotNull(json);
+        JsonNode metrics = MAPPER.readTree(json).path("metrics");
+        assertEquals(19, metrics.size());
+        assertEquals("VRIN", metrics.get(0).path("scaleCode").asText());
+        assertEquals(13.0, metrics.get(0).path("rawScore").asDouble());
+        assertEquals(60.0, metrics.get(0).path("tScore").asDouble());
+        assertEquals("TRIN", metrics.get(1).path("scaleCode").asText());
+        assertEquals(53.0, metrics.get(1).path("tScore").asDouble());
+        assertEquals("Si", metrics.get(18).path("scaleCode").asText());
+        assertEquals(30.0, metrics.get(18).path("rawScore").asDouble());
+        assertEquals(49.0, metrics.get(18).path("tScore").asDouble());
+    }
+
+    @Test
+    void parseSingleLine_splitsRawAndTScoreSections() throws Exception {
+        String json = Mmpi2ExtractionParser.parse("전체규준 T 60 53 48 Raw Score 3 4 5\n");
+        assertNotNull(json);
+        JsonNode metrics = MAPPER.readTree(json).path("metrics");
+        assertEquals(3, metrics.size());
+        assertEquals(3.0, metrics.get(0).path("rawScore").asDouble());
+        assertEquals(60.0, metrics.get(0).path("tScore").asDouble());
+        assertEquals(5.0, metrics.get(2).path("rawScore").asDouble());
+        assertEquals(48.0, metrics.get(2).path("tScore").asDouble());
+    }
+
+    /** PARSER_VERSION 2 의 출력 변경 — 1 은 전각 숫자 행을 점수로 읽지 못했다. */
+    @Test
+    void parseFullWidthDigits_normalizedBeforeScan() throws Exception {
+        String json = Mmpi2ExtractionParser.parse("원점수 １３ ８\r\nＴ점수 ６０ ５３\r\n");
+        assertNotNull(json);
+        JsonNode metrics = MAPPER.readTree(json).path("metrics");
+        assertEquals(2, metrics.size());
+        assertEquals(13.0, metrics.get(0).path("rawScore").asDouble());
+        assertEquals(53.0, metrics.get(1).path("tScore").asDouble());
+    }
+
+    @Test
+    void parseWithoutTScoreLine_returnsNull() {
+        assertNull(Mmpi2ExtractionParser.parse("원점수 13 8 5\n기타 설명\n"));
+    }
+}
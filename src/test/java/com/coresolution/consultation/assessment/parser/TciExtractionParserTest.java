@@ -24,6 +24,30 @@ class TciExtractionParserTest {
 
     private static final ObjectMapper MAPPER = new ObjectMapper();
 
+    /** 토크나이저 도입 전 파서 출력으로 고정한 골든 코퍼스 ({@code psych-assessment/golden/*.json}) */
+    private static final String[] GOLDEN_FIXTURES = {
+            "tci-sample-fake",
+            "tci-sample-pdfbox-table-fake",
+            "tci-sample-mixed-en-ko-table-fake",
+            "tci-sample-spaced-percentile-block-fake",
+            "tci-sample-split-korean-score-labels-fake",
+            "tci-sample-std-score-column-fake",
+            "tci-maumsarang-adult-interpretive-synthetic"
+    };
+
+    @Test
+    void parseGoldenCorpus_matchesPinnedOutput() throws Exception {
+        for (String name : GOLDEN_FIXTURES) {
+            String text = new ClassPathResource("psych-assessment/" + name + ".txt")
+                    .getContentAsString(StandardCharsets.UTF_8);
+            String expected = new ClassPathResource("psych-assessment/golden/" + name + ".json")
+                    .getContentAsString(StandardCharsets.UTF_8);
+            String json = TciExtractionParser.parse(text);
+            assertNotNull(json, name);
+            assertEquals(MAPPER.readTree(expected), MAPPER.readTree(json), name);
+        }
+    }
+
     @Test
     void parseClasspathFixture_extractsMetricsAndTypeCode() throws Exception {
         var res = new ClassPathResource("psych-assessment/tci-sample-fake.txt");
@@ -112,6 +112,31 @@ class PsychAiServiceImplTest {
         assertTrue(result.reportMarkdown().contains("## 요약"));
     }
 
+    @Test
+    @DisplayName("generateKoreanReportStreaming 은 streamChat 으로 조각을 전달하고 동일 검증을 거친다")
+    @SuppressWarnings("unchecked")
+    void generateKoreanReportStreaming_usesStreamChatAndValidates() throws Exception {
+        AiChatCompletionResult streamed = successWithParsedJson(VALID_TCI_REPORT_JSON);
+        when(aiChatCompletionService.streamChat(any(AiCompletionRequest.class), any())).thenAnswer(inv -> {
+            java.util.function.Consumer<String> onDelta = inv.getArgument(1);
+            onDelta.accept(VALID_TCI_REPORT_JSON.substring(0, 40));
+            onDelta.accept(VALID_TCI_REPORT_JSON.substring(40));
+            return streamed;
+        });
+        List<String> deltas = new java.util.ArrayList<>();
+        List<MetricInput> metrics = List.of(
+                new MetricInput("NS", "Novelty Seeking", 12.0, null, 45.0, "보통"));
+
+        AiResult result = service.generateKoreanReportStreaming(
+                PsychAssessmentType.TCI, metrics, "기본 마크다운", deltas::add);
+
+        org.mockito.Mockito.verify(aiChatCompletionService, org.mockito.Mockito.never())
+                .completeChat(any(AiCompletionRequest.class));
+        assertEquals(2, deltas.size());
+        assertEquals(VALID_TCI_REPORT_JSON, String.join("", deltas));
+        assertTrue(result.reportMarkdown().contains("## 요약"));
+    }
+
     @Test
     @DisplayName("metrics 가 비어있으면 SSOT 호출 없이 rule-only 결과를 반환한다")
     void generateKoreanReport_emptyMetrics_skipsAi() {
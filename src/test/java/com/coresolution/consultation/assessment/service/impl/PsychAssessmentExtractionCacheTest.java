@@ -0,0 +1,125 @@
+package com.coresolution.consultation.assessment.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.coresolution.consultation.assessment.entity.PsychAssessmentDocument;
+import com.coresolution.consultation.assessment.entity.PsychAssessmentExtractionCacheEntry;
+import com.coresolution.consultation.assessment.model.PsychAssessmentType;
+import com.coresolution.consultation.assessment.parser.TciExtractionParser;
+import com.coresolution.consultation.assessment.repository.PsychAssessmentExtractionCacheRepository;
+import com.coresolution.consultation.util.PersonalDataEncryptionUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * PsychAssessmentExtractionCache 단위 테스트 — 파서 버전별 재사용 범위·절감 시간 카운터 검증
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PsychAssessmentExtractionCache 테스트")
+class PsychAssessmentExtractionCacheTest {
+
+    private static final String TENANT_ID = "tenant-cache-test";
+    private static final String SHA256 = "a".repeat(64);
+    private static final String SOURCE_TYPE = "SCANNED_IMAGE";
+
+    @Mock
+    private PsychAssessmentExtractionCacheRepository cacheRepository;
+
+    @Mock
+    private PersonalDataEncryptionUtil encryptionUtil;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PsychAssessmentExtractionCache cache;
+    private PsychAssessmentDocument doc;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new PsychAssessmentExtractionCache(cacheRepository, encryptionUtil, meterRegistryProvider);
+        doc = PsychAssessmentDocument.builder()
+                .tenantId(TENANT_ID)
+                .assessmentType(PsychAssessmentType.TCI)
+                .sourceType(SOURCE_TYPE)
+                .sha256(SHA256)
+                .build();
+    }
+
+    private PsychAssessmentExtractionCacheEntry entry(String parserVersion, String json) {
+        return PsychAssessmentExtractionCacheEntry.builder()
+                .contentSha256(SHA256)
+                .assessmentType(PsychAssessmentType.TCI)
+                .sourceType(SOURCE_TYPE)
+                .plainTextEncrypted("enc")
+                .extractedJson(json)
+                .parserVersion(parserVersion)
+                .ocrEngine("TESS4J_TCI")
+                .extractionMillis(1500L)
+                .build();
+    }
+
+    @Test
+    @DisplayName("현재 파서 버전 항목은 평문·파싱 JSON 모두 재사용하고 절감 시간을 집계")
+    void lookup_sameParserVersion_reusesParsedJson() {
+        when(meterRegistryProvider.getIfAvailable()).thenReturn(meterRegistry);
+        when(cacheRepository.findByTenantIdAndContentSha256AndAssessmentTypeAndSourceTypeAndIsDeletedFalse(
+                TENANT_ID, SHA256, PsychAssessmentType.TCI, SOURCE_TYPE))
+                .thenReturn(Optional.of(entry(TciExtractionParser.PARSER_VERSION, "{\"metrics\":[]}")));
+        when(encryptionUtil.safeDecrypt("enc")).thenReturn("TCI 평문");
+
+        var result = cache.lookup(doc);
+
+        assertThat(result).isPresent();
+        assertThat(result.get().plainText()).isEqualTo("TCI 평문");
+        assertThat(result.get().extractedJson()).isEqualTo("{\"metrics\":[]}");
+        assertThat(meterRegistry.counter(PsychAssessmentExtractionCache.METRIC_CACHE_SAVED_MILLIS,
+                "source_type", SOURCE_TYPE).count()).isEqualTo(1500.0);
+        assertThat(meterRegistry.counter(PsychAssessmentExtractionCache.METRIC_CACHE_REQUESTS,
+                "result", PsychAssessmentExtractionCache.RESULT_HIT, "source_type", SOURCE_TYPE).count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("파서 버전이 다르면 평문만 재사용 (파싱 결과 무효화)")
+    void lookup_staleParserVersion_returnsPlainTextOnly() {
+        when(meterRegistryProvider.getIfAvailable()).thenReturn(meterRegistry);
+        when(cacheRepository.findByTenantIdAndContentSha256AndAssessmentTypeAndSourceTypeAndIsDeletedFalse(
+                TENANT_ID, SHA256, PsychAssessmentType.TCI, SOURCE_TYPE))
+                .thenReturn(Optional.of(entry("0-legacy", "{\"metrics\":[]}")));
+        when(encryptionUtil.safeDecrypt("enc")).thenReturn("TCI 평문");
+
+        var result = cache.lookup(doc);
+
+        assertThat(result).isPresent();
+        assertThat(result.get().plainText()).isEqualTo("TCI 평문");
+        assertThat(result.get().extractedJson()).isNull();
+        assertThat(meterRegistry.counter(PsychAssessmentExtractionCache.METRIC_CACHE_REQUESTS,
+                "result", PsychAssessmentExtractionCache.RESULT_TEXT_HIT, "source_type", SOURCE_TYPE).count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("평문이 비어 있으면(OCR 실패) 캐시에 저장하지 않음")
+    void store_blankPlainText_skipsPersist() {
+        cache.store(doc, "  ", null, "TESS4J_TCI", 10L);
+
+        verify(cacheRepository, never()).save(any());
+    }
+}
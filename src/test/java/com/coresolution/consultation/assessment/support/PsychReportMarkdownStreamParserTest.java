@@ -0,0 +1,80 @@
+package com.coresolution.consultation.assessment.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * PsychReportMarkdownStreamParser 단위 테스트 — 조각 경계와 무관하게 동일한 본문·섹션을 산출하는지 검증
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@DisplayName("PsychReportMarkdownStreamParser 테스트")
+class PsychReportMarkdownStreamParserTest {
+
+    private static final String RAW = "```json\n{\"reportMarkdown\": \"## 요약\\n\\n간단한 \\\"요약\\\"입니다.\\n\\n"
+            + "## 권고\\n\\n전문가 상담 \\u6e2c 권고.\", \"evidence\": {\"highlights\": []}}\n```";
+    private static final String EXPECTED_MARKDOWN = "## 요약\n\n간단한 \"요약\"입니다.\n\n## 권고\n\n전문가 상담 測 권고.";
+
+    private static final class Recorder implements PsychReportMarkdownStreamParser.Listener {
+        private final StringBuilder markdown = new StringBuilder();
+        private final List<String> sections = new ArrayList<>();
+
+        @Override
+        public void onMarkdown(String delta) {
+            markdown.append(delta);
+        }
+
+        @Override
+        public void onSection(String header, String body) {
+            sections.add(header + "=" + body);
+        }
+    }
+
+    @Test
+    @DisplayName("한 글자씩 공급해도 이스케이프를 풀어 전체 본문과 섹션을 순서대로 산출")
+    void feed_charByChar_decodesEscapesAndSections() {
+        Recorder recorder = new Recorder();
+        PsychReportMarkdownStreamParser parser = new PsychReportMarkdownStreamParser(recorder);
+
+        for (int i = 0; i < RAW.length(); i++) {
+            parser.feed(String.valueOf(RAW.charAt(i)));
+        }
+        parser.finish();
+
+        assertThat(parser.markdown()).isEqualTo(EXPECTED_MARKDOWN);
+        assertThat(recorder.markdown.toString()).isEqualTo(EXPECTED_MARKDOWN);
+        assertThat(recorder.sections).containsExactly(
+                "## 요약=간단한 \"요약\"입니다.",
+                "## 권고=전문가 상담 測 권고.");
+    }
+
+    @Test
+    @DisplayName("첫 섹션은 다음 헤더가 도착하는 즉시 완성 이벤트로 전달")
+    void feed_emitsSectionWhenNextHeaderArrives() {
+        Recorder recorder = new Recorder();
+        PsychReportMarkdownStreamParser parser = new PsychReportMarkdownStreamParser(recorder);
+
+        parser.feed("{\"reportMarkdown\": \"## 요약\\n본문\\n");
+        assertThat(recorder.sections).isEmpty();
+
+        parser.feed("## 권고\\n");
+        assertThat(recorder.sections).containsExactly("## 요약=본문");
+    }
+
+    @Test
+    @DisplayName("응답이 잘려 문자열이 닫히지 않아도 finish 시 마지막 섹션을 닫음")
+    void finish_truncatedStream_closesLastSection() {
+        Recorder recorder = new Recorder();
+        PsychReportMarkdownStreamParser parser = new PsychReportMarkdownStreamParser(recorder);
+
+        parser.feed("{\"reportMarkdown\": \"## 요약\\n잘린 본");
+        parser.finish();
+
+        assertThat(recorder.sections).containsExactly("## 요약=잘린 본");
+    }
+}
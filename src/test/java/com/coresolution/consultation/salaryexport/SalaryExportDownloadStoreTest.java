@@ -0,0 +1,174 @@
+package com.coresolution.consultation.salaryexport;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.coresolution.consultation.config.SalaryExportProperties;
+
+/**
+ * {@link SalaryExportDownloadStore} 단위 테스트 — 토큰 발급·테넌트 격리·만료 정리.
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+class SalaryExportDownloadStoreTest {
+
+    private static final byte[] BODY = "항목,값\n".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path tempDir;
+
+    private MutableClock clock;
+    private SalaryExportDownloadStore store;
+
+    @BeforeEach
+    void setUp() {
+        SalaryExportProperties properties = new SalaryExportProperties();
+        properties.setTempDirectory(tempDir.resolve("exports").toString());
+        properties.setDownloadTokenTtl(Duration.ofMinutes(10));
+        clock = new MutableClock(Instant.parse("2026-10-19T00:00:00Z"));
+        store = new SalaryExportDownloadStore(properties, clock);
+    }
+
+    private SalaryExportContent csv() {
+        return new SalaryExportContent("salary.csv", "text/csv;charset=UTF-8", out -> out.write(BODY));
+    }
+
+    @Test
+    @DisplayName("발급한 토큰은 같은 테넌트에서만 찾을 수 있고 내용이 그대로 남음")
+    void issue_thenFindBySameTenantOnly() throws IOException {
+        SalaryExportDownloadStore.StoredDownload issued = store.issue("tenant-a", csv());
+
+        Optional<SalaryExportDownloadStore.StoredDownload> found = store.find(issued.token(), "tenant-a");
+
+        assertTrue(found.isPresent());
+        assertEquals("salary.csv", found.get().filename());
+        assertEquals(BODY.length, found.get().size());
+        assertArrayEquals(BODY, Files.readAllBytes(found.get().path()));
+        assertFalse(store.find(issued.token(), "tenant-b").isPresent());
+    }
+
+    @Test
+    @DisplayName("형식이 틀린 토큰(경로 조작 포함)은 파일을 찾지 않음")
+    void find_rejectsMalformedToken() {
+        store.issue("tenant-a", csv());
+
+        assertFalse(store.find("../exports/x", "tenant-a").isPresent());
+        assertFalse(store.find(null, "tenant-a").isPresent());
+    }
+
+    @Test
+    @DisplayName("만료 후에는 찾을 수 없고 정리 작업이 파일을 지움")
+    void expiredToken_isGoneAndPurged() {
+        SalaryExportDownloadStore.StoredDownload first = store.issue("tenant-a", csv());
+        clock.advance(Duration.ofMinutes(11));
+        SalaryExportDownloadStore.StoredDownload second = store.issue("tenant-a", csv());
+
+        assertFalse(store.find(first.token(), "tenant-a").isPresent());
+        assertFalse(Files.exists(first.path()));
+        assertEquals(0, store.purgeExpired());
+        clock.advance(Duration.ofMinutes(11));
+        assertEquals(1, store.purgeExpired());
+        assertFalse(Files.exists(second.path()));
+    }
+
+    @Test
+    @DisplayName("쓰기 도중 실패하면 부분 파일을 남기지 않음")
+    void writerFailure_leavesNoFiles() throws IOException {
+        SalaryExportContent failing = new SalaryExportContent("salary.csv", "text/csv", out -> {
+            out.write(BODY);
+            throw new IOException("boom");
+        });
+
+        assertThrows(IllegalStateException.class, () -> store.issue("tenant-a", failing));
+        try (var files = Files.list(tempDir.resolve("exports"))) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("메타 파일은 다 쓴 뒤 이름을 바꿔 넣고, 쓰는 중인 메타 부분 파일은 정리 작업이 토큰으로 보지 않음")
+    void metaWrittenAtomically_partialMetaNotPurgedAsToken() throws IOException {
+        SalaryExportDownloadStore.StoredDownload issued = store.issue("tenant-a", csv());
+        Path exports = tempDir.resolve("exports");
+        try (var files = Files.list(exports)) {
+            assertEquals(Set.of(issued.token() + ".dat", issued.token() + ".properties"),
+                    files.map(file -> file.getFileName().toString()).collect(Collectors.toSet()));
+        }
+
+        String writing = "0123456789abcdef0123456789abcdef";
+        Files.write(exports.resolve(writing + ".dat"), BODY);
+        Files.setLastModifiedTime(exports.resolve(writing + ".dat"), FileTime.from(clock.instant()));
+        Files.writeString(exports.resolve(writing + ".properties.part"), "tenantId=tenant-a\n");
+
+        assertEquals(0, store.purgeExpired());
+        assertTrue(Files.exists(exports.resolve(writing + ".dat")));
+        assertTrue(store.find(issued.token(), "tenant-a").isPresent());
+    }
+
+    @Test
+    @DisplayName("메타 파일 없이 토큰 유효 시간보다 오래 남은 데이터 파일은 정리 작업이 지움")
+    void orphanPayload_olderThanTtl_isPurged() throws IOException {
+        Path exports = tempDir.resolve("exports");
+        Files.createDirectories(exports);
+        Path orphan = exports.resolve("0123456789abcdef0123456789abcdef.dat");
+        Path fresh = exports.resolve("fedcba9876543210fedcba9876543210.dat");
+        Files.write(orphan, BODY);
+        Files.write(fresh, BODY);
+        Files.setLastModifiedTime(orphan, FileTime.from(clock.instant().minus(Duration.ofMinutes(11))));
+        Files.setLastModifiedTime(fresh, FileTime.from(clock.instant().minus(Duration.ofMinutes(9))));
+
+        assertEquals(1, store.purgeExpired());
+        assertFalse(Files.exists(orphan));
+        assertTrue(Files.exists(fresh));
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -7,10 +7,12 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import com.coresolution.consultation.entity.erp.financial.PeriodType;
 import com.coresolution.consultation.service.PlSqlMappingSyncService;
 import com.coresolution.consultation.service.PlSqlFinancialService;
 import com.coresolution.consultation.service.erp.ErpFinancialCloseService;
 import com.coresolution.consultation.service.erp.ErpService;
+import com.coresolution.consultation.service.erp.IncrementalFinancialCloseEngine;
 import com.coresolution.consultation.service.erp.accounting.AccountingService;
 import com.coresolution.consultation.service.erp.accounting.FinancialStatementService;
 import com.coresolution.consultation.service.erp.settlement.SettlementService;
@@ -78,9 +80,15 @@ class ErpAutomationSchedulerTest {
     @Mock
     private AccountingService accountingService;
 
+    @Mock
+    private IncrementalFinancialCloseEngine financialCloseEngine;
+
     @Mock
     private ObjectProvider<SchedulerFailureNotifier> failureNotifierProvider;
 
+    @Mock
+    private SchedulerFailureNotifier failureNotifier;
+
     @InjectMocks
     private ErpAutomationScheduler scheduler;
 
@@ -139,6 +147,46 @@ class ErpAutomationSchedulerTest {
         verify(erpFinancialCloseService, never()).performDailyClose(any(), any(LocalDate.class));
     }
 
+    @Test
+    @DisplayName("scheduleDailyFinancialClose - 증분 마감 사용 시 엔진에 위임하고 실패 테넌트만 알람")
+    void scheduleDailyFinancialClose_incremental_delegatesToEngine() {
+        RuntimeException error = new RuntimeException("테스트 예외");
+        LocalDate expectedDate = LocalDate.now().minusDays(1);
+        when(financialCloseEngine.isEnabled()).thenReturn(true);
+        when(financialCloseEngine.run(PeriodType.DAY, expectedDate)).thenReturn(
+            new IncrementalFinancialCloseEngine.CloseSummary(3, 1, 0, 1, 0, 0,
+                List.of(new IncrementalFinancialCloseEngine.TenantFailure("tenant-fail", expectedDate, error)),
+                "tenant-ok", 12L));
+        when(failureNotifierProvider.getIfAvailable()).thenReturn(failureNotifier);
+
+        scheduler.scheduleDailyFinancialClose();
+
+        verify(financialCloseEngine).run(PeriodType.DAY, expectedDate);
+        verify(failureNotifier).notifyFailure("ErpAutomation", "DailyFinancialClose", "tenant-fail", error);
+        verify(tenantService, never()).getAllActiveTenantIds();
+        verify(erpFinancialCloseService, never()).performDailyClose(any(), any(LocalDate.class));
+    }
+
+    @Test
+    @DisplayName("resumeFinancialClose - 증분 마감 미사용 시 아무것도 하지 않는다")
+    void resumeFinancialClose_disabled_noop() {
+        scheduler.resumeFinancialClose();
+
+        verify(financialCloseEngine, never()).run(any(), any());
+        verify(tenantService, never()).getAllActiveTenantIds();
+    }
+
+    @Test
+    @DisplayName("resumeFinancialClose - dry-run 중에는 이어서 마감할 것이 없어 엔진을 돌리지 않는다")
+    void resumeFinancialClose_dryRun_noop() {
+        when(financialCloseEngine.isEnabled()).thenReturn(true);
+        when(financialCloseEngine.isDryRun()).thenReturn(true);
+
+        scheduler.resumeFinancialClose();
+
+        verify(financialCloseEngine, never()).run(any(), any());
+    }
+
     @Nested
     @DisplayName("@SchedulerLock 어노테이션 메타데이터 (reflection)")
     class SchedulerLockMetadata {
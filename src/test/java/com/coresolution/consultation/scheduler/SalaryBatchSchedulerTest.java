@@ -3,9 +3,12 @@ package com.coresolution.consultation.scheduler;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -13,6 +16,9 @@ import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 import com.coresolution.consultation.service.SalaryBatchService;
 import com.coresolution.consultation.service.SalaryScheduleService;
@@ -61,6 +67,8 @@ class SalaryBatchSchedulerTest {
     private SchedulerAlertService alertService;
     @Mock
     private ObjectProvider<SchedulerFailureNotifier> failureNotifierProvider;
+    @Mock
+    private Executor salaryBatchExecutor;
 
     @InjectMocks
     private SalaryBatchScheduler scheduler;
@@ -71,6 +79,14 @@ class SalaryBatchSchedulerTest {
         TenantContextHolder.clear();
     }
 
+    @BeforeEach
+    void runTenantTasksInline() {
+        lenient().doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(salaryBatchExecutor).execute(any(Runnable.class));
+    }
+
     @Nested
     @DisplayName("checkAndExecuteSalaryBatch")
     class CheckAndExecuteSalaryBatch {
@@ -132,5 +148,39 @@ class SalaryBatchSchedulerTest {
             verify(logService, never()).saveExecutionLog(
                 anyString(), eq(TENANT_DONE), anyString(), anyString(), anyString());
         }
+
+        @Test
+        @DisplayName("테넌트는 salary-batch 실행기에서 각자 컨텍스트로 실행되고, 한 테넌트 예외가 다른 테넌트를 막지 않는다")
+        void tenantsRunOnExecutor_failureIsolated() {
+            LocalDate previousMonth = LocalDate.now().minusMonths(1);
+            int year = previousMonth.getYear();
+            int month = previousMonth.getMonthValue();
+            Map<String, String> contextSeen = new ConcurrentHashMap<>();
+
+            when(salaryBatchService.canExecuteBatch(previousMonth)).thenReturn(true);
+            when(tenantService.getAllActiveTenantIds()).thenReturn(List.of(TENANT_DONE, TENANT_PENDING));
+            when(salaryBatchService.getBatchStatus(year, month))
+                .thenReturn(new SalaryBatchService.BatchStatus("PENDING"));
+            when(salaryBatchService.executeMonthlySalaryBatch(eq(year), eq(month), isNull()))
+                .thenAnswer(invocation -> {
+                    String tenantId = TenantContextHolder.getTenantId();
+                    contextSeen.put(tenantId, tenantId);
+                    if (TENANT_DONE.equals(tenantId)) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return new SalaryBatchService.BatchResult(true, "ok");
+                });
+
+            scheduler.checkAndExecuteSalaryBatch();
+
+            verify(salaryBatchExecutor, times(2)).execute(any(Runnable.class));
+            assertThat(contextSeen).containsOnlyKeys(TENANT_DONE, TENANT_PENDING);
+            verify(logService).saveExecutionLog(
+                anyString(), eq(TENANT_PENDING), eq("SalaryBatchScheduler"), eq("SUCCESS"), anyString());
+            verify(logService).saveSummaryLog(anyString(), eq("SalaryBatchScheduler"), eq(1), eq(1),
+                anyLong());
+            verify(alertService).sendFailureAlert(eq("SalaryBatchScheduler"), anyString(), eq(1), anyString());
+            assertThat(TenantContextHolder.getTenantId()).isNull();
+        }
     }
 }
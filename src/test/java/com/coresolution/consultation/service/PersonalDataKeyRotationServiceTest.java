@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -12,11 +13,17 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.sql.Statement;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -31,6 +38,7 @@ import org.mockito.quality.Strictness;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import com.coresolution.consultation.config.PiiRotationProperties;
 import com.coresolution.consultation.dto.security.PiiRotationResult;
 import com.coresolution.consultation.entity.PiiReencryptionProgress;
 import com.coresolution.consultation.entity.PiiReencryptionProgress.Status;
@@ -79,6 +87,16 @@ class PersonalDataKeyRotationServiceTest {
             .thenAnswer(inv -> inv.getArgument(0));
     }
 
+    /** 배치 UPDATE 의 모든 row 가 가드를 통과해 1건씩 적용된다. */
+    private void stubBatchUpdateApplied() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+            .thenAnswer(inv -> {
+                int[] counts = new int[((List<?>) inv.getArgument(1)).size()];
+                Arrays.fill(counts, 1);
+                return counts;
+            });
+    }
+
     private void stubTableExists(String tableName, boolean exists) {
         when(jdbcTemplate.queryForObject(
             anyString(), eq(Integer.class), eq(tableName)))
@@ -130,6 +148,7 @@ class PersonalDataKeyRotationServiceTest {
                     String s = inv.getArgument(0);
                     return s.startsWith("v1::") ? s.replaceFirst("^v1::", "v2::") : s;
                 });
+            stubBatchUpdateApplied();
 
             PiiRotationResult result = service.rotateUserPersonalData(2, ACTIVE_KEY);
 
@@ -138,7 +157,9 @@ class PersonalDataKeyRotationServiceTest {
             assertThat(result.getChunksFailed()).isZero();
             assertThat(result.getRowsScanned()).isEqualTo(4);
             assertThat(result.getRowsRotated()).isEqualTo(4);
-            verify(jdbcTemplate, times(4)).update(anyString(), any(Object[].class));
+            // chunk 마다 바뀐 컬럼 조합(email, name, phone) 1개 → 배치 UPDATE 1회, row 별 UPDATE 없음
+            verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+            verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
         }
 
         @Test
@@ -174,7 +195,7 @@ class PersonalDataKeyRotationServiceTest {
 
             assertThat(result.getRowsScanned()).isEqualTo(1);
             assertThat(result.getRowsRotated()).isZero();
-            verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+            verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
         }
 
         @Test
@@ -196,10 +217,10 @@ class PersonalDataKeyRotationServiceTest {
                     String s = inv.getArgument(0);
                     return s.startsWith("v1::") ? s.replaceFirst("^v1::", "v2::") : s;
                 });
-            // chunk1 의 update 는 RuntimeException, chunk2 는 정상 (호출 순서 기반 stubbing)
-            when(jdbcTemplate.update(anyString(), any(Object[].class)))
+            // chunk1 의 배치 UPDATE 는 RuntimeException, chunk2 는 정상 (호출 순서 기반 stubbing)
+            when(jdbcTemplate.batchUpdate(anyString(), anyList()))
                 .thenThrow(new RuntimeException("simulated failure"))
-                .thenReturn(1);
+                .thenReturn(new int[] {1});
 
             PiiRotationResult result = service.rotateUserPersonalData(1, ACTIVE_KEY);
 
@@ -276,16 +297,21 @@ class PersonalDataKeyRotationServiceTest {
             when(encryptionUtil.ensureActiveKeyEncryption(anyString()))
                 .thenAnswer(inv -> ((String) inv.getArgument(0)).replaceFirst("^v1::", "v2::"));
 
-            ArgumentCaptor<Object[]> argsCaptor = ArgumentCaptor.forClass(Object[].class);
-            when(jdbcTemplate.update(anyString(), argsCaptor.capture()))
-                .thenReturn(1);
+            ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<Object[]>> argsCaptor = ArgumentCaptor.forClass(List.class);
+            when(jdbcTemplate.batchUpdate(sqlCaptor.capture(), argsCaptor.capture()))
+                .thenReturn(new int[] {1});
 
             PiiRotationResult result = service.rotateClientPersonalData(50, ACTIVE_KEY);
 
             assertThat(result.getTableName()).isEqualTo("clients");
             assertThat(result.getRowsRotated()).isEqualTo(1);
-            // 4 non-null columns updated (name, email, emergency_contact, emergency_phone) + id
-            assertThat(argsCaptor.getValue()).hasSize(5);
+            // 4 non-null columns updated (name, email, emergency_contact, emergency_phone) + id + 4 guard values
+            assertThat(sqlCaptor.getValue()).contains("`emergency_contact` = ?", "`emergency_phone` = ?");
+            assertThat(argsCaptor.getValue()).singleElement()
+                .satisfies(args -> assertThat(args).containsExactly(
+                    "v2::n", "v2::e", "v2::ec", "v2::ep", 1L, "v1::n", "v1::e", "v1::ec", "v1::ep"));
         }
     }
 
@@ -327,7 +353,7 @@ class PersonalDataKeyRotationServiceTest {
 
             when(encryptionUtil.ensureActiveKeyEncryption(anyString()))
                 .thenAnswer(inv -> ACTIVE_KEY + "::cipher");
-            when(jdbcTemplate.update(anyString(), any(Object[].class))).thenReturn(1);
+            stubBatchUpdateApplied();
 
             PiiRotationResult result = service.rotateAccountPersonalData(100, ACTIVE_KEY);
 
@@ -378,7 +404,146 @@ class PersonalDataKeyRotationServiceTest {
 
             assertThat(result.getRowsScanned()).isEqualTo(1);
             assertThat(result.getRowsRotated()).isZero();
-            verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+            verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("병렬 재암호화 · 낙관적 가드 배치 UPDATE · 스로틀")
+    class ParallelBatchedRotation {
+
+        private final List<Long> sleeps = new ArrayList<>();
+
+        private void stubUsersRotation(List<Map<String, Object>> chunk, int chunkSize) {
+            stubTableExists("users", true);
+            when(progressRepository.findLastDoneEndId("users", ACTIVE_KEY)).thenReturn(0L);
+            when(progressRepository.findNextChunkNo("users", ACTIVE_KEY)).thenReturn(0);
+            stubProgressSaveEcho();
+            long lastId = (Long) chunk.get(chunk.size() - 1).get("id");
+            when(jdbcTemplate.queryForList(anyString(), eq(0L), eq(chunkSize))).thenReturn(chunk);
+            when(jdbcTemplate.queryForList(anyString(), eq(lastId), eq(chunkSize))).thenReturn(List.of());
+            when(encryptionUtil.ensureActiveKeyEncryption(anyString()))
+                .thenAnswer(inv -> ((String) inv.getArgument(0)).replaceFirst("^v1::", "v2::"));
+        }
+
+        private PersonalDataKeyRotationService serviceWith(Executor executor, PiiRotationProperties properties) {
+            return new PersonalDataKeyRotationService(jdbcTemplate, transactionTemplate, encryptionUtil,
+                progressRepository, false, executor, properties, sleeps::add);
+        }
+
+        @Test
+        @DisplayName("가드 불일치(영향 0건) row 는 충돌로 건너뛰고, SUCCESS_NO_INFO 는 적용으로 센다")
+        void guardMismatch_countsAsConflict() {
+            stubUsersRotation(rowsForUsers(1, 3), 10);
+            ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+            when(jdbcTemplate.batchUpdate(sqlCaptor.capture(), anyList()))
+                .thenReturn(new int[] {1, 0, Statement.SUCCESS_NO_INFO});
+
+            PiiRotationResult result = service.rotateUserPersonalData(10, ACTIVE_KEY);
+
+            assertThat(result.getChunksDone()).isEqualTo(1);
+            assertThat(result.getRowsRotated()).isEqualTo(2);
+            assertThat(sqlCaptor.getValue()).isEqualTo("UPDATE `users` SET `email` = ?, `name` = ?, `phone` = ? "
+                + "WHERE id = ? AND `email` = ? AND `name` = ? AND `phone` = ?");
+        }
+
+        @Test
+        @DisplayName("재암호화를 실행기 조각으로 나눠 계산해도 배치 인자는 id 순서를 유지한다")
+        void parallelSlices_keepIdOrder() {
+            stubUsersRotation(rowsForUsers(1, 5), 10);
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<Object[]>> argsCaptor = ArgumentCaptor.forClass(List.class);
+            when(jdbcTemplate.batchUpdate(anyString(), argsCaptor.capture())).thenReturn(new int[] {1, 1, 1, 1, 1});
+            PiiRotationProperties properties = new PiiRotationProperties();
+            properties.setParallelism(3);
+            ExecutorService executor = Executors.newFixedThreadPool(3);
+            try {
+                PiiRotationResult result = serviceWith(executor, properties).rotateUserPersonalData(10, ACTIVE_KEY);
+
+                assertThat(result.getRowsRotated()).isEqualTo(5);
+            } finally {
+                executor.shutdownNow();
+            }
+            assertThat(argsCaptor.getValue()).extracting(args -> args[3])
+                .containsExactly(1L, 2L, 3L, 4L, 5L);
+        }
+
+        @Test
+        @DisplayName("초당 행 상한이나 쓰기 지연 예산을 넘으면 다음 chunk 전에 쉬고, 마지막 chunk 뒤에는 쉬지 않는다")
+        void throttle_pausesBetweenChunks() {
+            stubUsersRotation(rowsForUsers(1, 2), 2);
+            when(jdbcTemplate.queryForList(anyString(), eq(2L), eq(2))).thenReturn(rowsForUsers(3, 2));
+            when(jdbcTemplate.queryForList(anyString(), eq(4L), eq(2))).thenReturn(List.of());
+            stubBatchUpdateApplied();
+            PiiRotationProperties rowBudget = new PiiRotationProperties();
+            rowBudget.setMaxRowsPerSecond(1);
+            rowBudget.setWriteLatencyBudget(Duration.ZERO);
+
+            serviceWith(Runnable::run, rowBudget).rotateUserPersonalData(2, ACTIVE_KEY);
+
+            // chunk 1 뒤 2 row / 초당 1 row → 약 2초 대기, chunk 2 (마지막) 뒤에는 대기 없음
+            assertThat(sleeps).singleElement().satisfies(millis -> assertThat(millis).isBetween(1_000L, 2_000L));
+
+            sleeps.clear();
+            PiiRotationProperties latencyBudget = new PiiRotationProperties();
+            latencyBudget.setWriteLatencyBudget(Duration.ofNanos(1));
+
+            serviceWith(Runnable::run, latencyBudget).rotateUserPersonalData(2, ACTIVE_KEY);
+
+            assertThat(sleeps).singleElement().satisfies(millis -> assertThat(millis).isPositive());
+        }
+
+        @Test
+        @DisplayName("chunk 가 하나뿐이면 예산을 넘어도 쉬지 않는다")
+        void throttle_singleChunk_noPause() {
+            stubUsersRotation(rowsForUsers(1, 2), 2);
+            stubBatchUpdateApplied();
+            PiiRotationProperties rowBudget = new PiiRotationProperties();
+            rowBudget.setMaxRowsPerSecond(1);
+            rowBudget.setWriteLatencyBudget(Duration.ofNanos(1));
+
+            PiiRotationResult result = serviceWith(Runnable::run, rowBudget).rotateUserPersonalData(2, ACTIVE_KEY);
+
+            assertThat(result.getChunksDone()).isEqualTo(1);
+            assertThat(sleeps).isEmpty();
+        }
+
+        @Test
+        @DisplayName("FAILED chunk 재시도에도 chunk 사이에 같은 스로틀을 건다")
+        void throttle_appliesToResume() {
+            stubProgressSaveEcho();
+            PiiReencryptionProgress first = failedChunk(10L, 1, 1L, 2L);
+            PiiReencryptionProgress second = failedChunk(11L, 2, 3L, 4L);
+            when(progressRepository.findByTableNameAndTargetKeyIdAndStatusOrderByChunkNoAsc(
+                eq("users"), eq(ACTIVE_KEY), eq(Status.FAILED.name())))
+                .thenReturn(List.of(first, second));
+            when(jdbcTemplate.queryForList(anyString(), eq(1L), eq(2L))).thenReturn(rowsForUsers(1, 2));
+            when(jdbcTemplate.queryForList(anyString(), eq(3L), eq(4L))).thenReturn(rowsForUsers(3, 2));
+            when(encryptionUtil.ensureActiveKeyEncryption(anyString()))
+                .thenAnswer(inv -> ((String) inv.getArgument(0)).replaceFirst("^v1::", "v2::"));
+            stubBatchUpdateApplied();
+            PiiRotationProperties rowBudget = new PiiRotationProperties();
+            rowBudget.setMaxRowsPerSecond(1);
+            rowBudget.setWriteLatencyBudget(Duration.ZERO);
+
+            PiiRotationResult result = serviceWith(Runnable::run, rowBudget).resumeFailedChunks(
+                "users", PersonalDataKeyRotationService.USERS_PII_COLUMNS, ACTIVE_KEY);
+
+            assertThat(result.getChunksDone()).isEqualTo(2);
+            assertThat(sleeps).singleElement().satisfies(millis -> assertThat(millis).isBetween(1_000L, 2_000L));
+        }
+
+        private PiiReencryptionProgress failedChunk(long id, int chunkNo, long startId, long endId) {
+            return PiiReencryptionProgress.builder()
+                .id(id)
+                .tableName("users")
+                .chunkNo(chunkNo)
+                .chunkStartId(startId)
+                .chunkEndId(endId)
+                .status(Status.FAILED.name())
+                .activeKeyId(ACTIVE_KEY)
+                .targetKeyId(ACTIVE_KEY)
+                .build();
         }
     }
 
@@ -408,7 +573,7 @@ class PersonalDataKeyRotationServiceTest {
                 .thenReturn(rowsForUsers(1, 2));
             when(encryptionUtil.ensureActiveKeyEncryption(anyString()))
                 .thenAnswer(inv -> ((String) inv.getArgument(0)).replaceFirst("^v1::", "v2::"));
-            when(jdbcTemplate.update(anyString(), any(Object[].class))).thenReturn(1);
+            stubBatchUpdateApplied();
 
             PiiRotationResult result = service.resumeFailedChunks(
                 "users", PersonalDataKeyRotationService.USERS_PII_COLUMNS, ACTIVE_KEY);
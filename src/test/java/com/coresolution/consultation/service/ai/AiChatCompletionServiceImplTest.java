@@ -11,12 +11,16 @@ import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
+import com.coresolution.consultation.config.AiResponseCacheProperties;
+import com.coresolution.consultation.config.PiiScrubberProperties;
 import com.coresolution.consultation.service.SystemConfigService;
 import com.coresolution.consultation.service.ai.dto.AiCompletionRequest;
 import com.coresolution.consultation.service.ai.dto.AiResponseFormat;
 import com.coresolution.consultation.service.ai.parser.AiJsonResponseParser;
+import com.coresolution.consultation.util.pii.RegexBasedPiiScrubber;
 import com.coresolution.core.context.TenantContextHolder;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +32,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestTemplate;
@@ -53,6 +58,9 @@ class AiChatCompletionServiceImplTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
     private AiJsonResponseParser jsonResponseParser;
     private AiChatCompletionServiceImpl service;
@@ -60,8 +68,13 @@ class AiChatCompletionServiceImplTest {
     @BeforeEach
     void setUp() {
         jsonResponseParser = new AiJsonResponseParser(objectMapper);
+        AiResponseCacheProperties cacheProperties = new AiResponseCacheProperties();
+        cacheProperties.setEnabled(false);
+        AiResponseCache responseCache = new AiResponseCache(cacheProperties,
+                new RegexBasedPiiScrubber(new PiiScrubberProperties()), meterRegistryProvider);
         service = new AiChatCompletionServiceImpl(
-                systemConfigService, providerResolver, jsonResponseParser, restTemplate, objectMapper);
+                systemConfigService, providerResolver, jsonResponseParser, restTemplate, objectMapper,
+                responseCache);
         TenantContextHolder.clear();
     }
 
@@ -0,0 +1,140 @@
+package com.coresolution.consultation.service.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.coresolution.consultation.config.AiResponseCacheProperties;
+import com.coresolution.consultation.config.PiiScrubberProperties;
+import com.coresolution.consultation.service.ai.dto.AiCompletionRequest;
+import com.coresolution.consultation.util.pii.RegexBasedPiiScrubber;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * {@link AiResponseCache} — caller TTL 정책·PII 제외·적중·동시 요청 병합 검증.
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@DisplayName("AiResponseCache")
+class AiResponseCacheTest {
+
+    private static final String TENANT_ID = "tenant-ai-cache";
+
+    private AiResponseCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ObjectProvider<MeterRegistry> meterRegistryProvider = mock(ObjectProvider.class);
+        cache = new AiResponseCache(new AiResponseCacheProperties(),
+                new RegexBasedPiiScrubber(new PiiScrubberProperties()), meterRegistryProvider);
+    }
+
+    private static AiCompletionRequest request(String callerId, String userPrompt) {
+        return AiCompletionRequest.builder()
+                .systemPrompt("sys")
+                .userPrompt(userPrompt)
+                .tenantId(TENANT_ID)
+                .callerId(callerId)
+                .build();
+    }
+
+    private static AiChatCompletionResult success() {
+        return new AiChatCompletionResult(true, "본문", "openai", "openai", "gpt-4o-mini", 10, 20, 30, null);
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 caller(psych)·PII 포함 프롬프트는 캐시 제외")
+    void resolveTtl_excludesUnregisteredCallerAndPii() {
+        assertTrue(cache.resolveTtl(request("psych", "검사 결과")).isEmpty());
+        assertTrue(cache.resolveTtl(request("healing", "연락처 010-1234-5678 로 안내")).isEmpty());
+        assertEquals(Duration.ofHours(6), cache.resolveTtl(request("healing", "오늘의 힐링 문구")).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("공백만 다른 프롬프트는 같은 키, 파라미터가 다르면 다른 키")
+    void buildKey_normalizesWhitespace() {
+        String a = cache.buildKey(request("healing", "오늘의  힐링\n문구 "), "openai", "gpt-4o-mini");
+        String b = cache.buildKey(request("healing", "오늘의 힐링 문구"), "openai", "gpt-4o-mini");
+        String c = cache.buildKey(request("healing", "오늘의 힐링 문구"), "openai", "gpt-4o");
+        assertEquals(a, b);
+        assertNotEquals(b, c);
+    }
+
+    @Test
+    @DisplayName("두 번째 동일 요청은 upstream 없이 반환되고 토큰 0 + 절감 토큰 집계")
+    void getOrCompute_secondCallHitsCache() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        Duration ttl = Duration.ofMinutes(5);
+
+        AiChatCompletionResult first = cache.getOrCompute(TENANT_ID, "healing", "k1", ttl, () -> {
+            upstreamCalls.incrementAndGet();
+            return success();
+        });
+        AiChatCompletionResult second = cache.getOrCompute(TENANT_ID, "healing", "k1", ttl, () -> {
+            upstreamCalls.incrementAndGet();
+            return success();
+        });
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(30, first.totalTokens());
+        assertEquals("본문", second.text());
+        assertEquals(0, second.totalTokens());
+        AiResponseCache.CacheStats stats = cache.statsFor(TENANT_ID);
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(30, stats.savedTokens());
+        assertEquals(50.0, stats.hitRate());
+    }
+
+    @Test
+    @DisplayName("진행 중인 동일 요청은 하나의 upstream 호출로 병합")
+    void getOrCompute_concurrentIdenticalRequestsCoalesce() throws Exception {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        CountDownLatch upstreamEntered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<AiChatCompletionResult> leader = pool.submit(() ->
+                    cache.getOrCompute(TENANT_ID, "wellness", "k2", Duration.ofMinutes(5), () -> {
+                        upstreamCalls.incrementAndGet();
+                        upstreamEntered.countDown();
+                        try {
+                            release.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return success();
+                    }));
+            assertTrue(upstreamEntered.await(5, TimeUnit.SECONDS));
+            Future<AiChatCompletionResult> follower = pool.submit(() ->
+                    cache.getOrCompute(TENANT_ID, "wellness", "k2", Duration.ofMinutes(5), () -> {
+                        upstreamCalls.incrementAndGet();
+                        return success();
+                    }));
+            // follower 가 in-flight future 에 합류할 시간을 준 뒤 leader 해제
+            Thread.sleep(100);
+            release.countDown();
+
+            assertEquals("본문", leader.get(5, TimeUnit.SECONDS).text());
+            assertEquals("본문", follower.get(5, TimeUnit.SECONDS).text());
+            assertEquals(1, upstreamCalls.get());
+            assertEquals(30, cache.statsFor(TENANT_ID).savedTokens());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
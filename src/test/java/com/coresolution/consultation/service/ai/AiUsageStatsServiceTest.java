@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
 import com.coresolution.consultation.entity.AiUsageLog;
@@ -17,6 +18,7 @@ import com.coresolution.consultation.service.ai.dto.AiUsageStatsResponse;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -43,9 +45,17 @@ class AiUsageStatsServiceTest {
     @Mock
     private AiUsageLogRepository usageLogRepository;
 
+    @Mock
+    private AiResponseCache responseCache;
+
     @InjectMocks
     private AiUsageStatsService service;
 
+    @BeforeEach
+    void setUp() {
+        lenient().when(responseCache.statsFor(any())).thenReturn(new AiResponseCache.CacheStats(0, 0, 0, 0));
+    }
+
     // ---- tenantId 가드 ----
 
     @Test
@@ -100,6 +110,26 @@ class AiUsageStatsServiceTest {
         assertEquals(0L, stats.getCallsByProvider().get("REPLICATE"));
     }
 
+    @Test
+    @DisplayName("getUsageStats — AI 응답 캐시 적중률·절감 토큰을 함께 반환")
+    void getUsageStats_exportsResponseCacheStats() {
+        when(usageLogRepository.countByTenantAndPeriod(eq(TENANT_ID), any(), any())).thenReturn(0L);
+        when(usageLogRepository.countSuccessByTenantAndPeriod(eq(TENANT_ID), any(), any())).thenReturn(0L);
+        when(usageLogRepository.sumTokensByTenantAndPeriod(eq(TENANT_ID), any(), any())).thenReturn(0L);
+        when(usageLogRepository.averageDurationByTenantAndPeriod(eq(TENANT_ID), any(), any())).thenReturn(null);
+        when(usageLogRepository.countByCallerInPeriod(eq(TENANT_ID), any(), any())).thenReturn(List.of());
+        when(usageLogRepository.countByProviderInPeriod(eq(TENANT_ID), any(), any())).thenReturn(List.of());
+        when(usageLogRepository.countDailyByTenantAndPeriod(eq(TENANT_ID), any(), any())).thenReturn(List.of());
+        when(responseCache.statsFor(TENANT_ID)).thenReturn(new AiResponseCache.CacheStats(3, 1, 4, 1200));
+
+        AiUsageStatsResponse stats = service.getUsageStats(TENANT_ID, "month");
+
+        assertEquals(50.0, stats.getResponseCacheHitRate());
+        assertEquals(3L, stats.getResponseCacheHits());
+        assertEquals(1L, stats.getResponseCacheCoalesced());
+        assertEquals(1200L, stats.getResponseCacheSavedTokens());
+    }
+
     @Test
     @DisplayName("getUsageStats — period=today 이면 successRate/tokens/duration 이 오늘 구간")
     void getUsageStats_periodToday_usesTodayMetricsWindow() {
@@ -0,0 +1,253 @@
+package com.coresolution.consultation.service.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.coresolution.consultation.config.HttpAuditProperties;
+import com.coresolution.consultation.service.SecurityAlertService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+/**
+ * HttpAuditPipeline 단위 테스트 — 배치 적재·포화 넘김/실패 내려쓰기·재적재·종료 flush·보안 알림 검증
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("HttpAuditPipeline 테스트")
+class HttpAuditPipelineTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private SecurityAlertService securityAlertService;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    @TempDir
+    Path spillDir;
+
+    private SimpleMeterRegistry meterRegistry;
+    private HttpAuditProperties properties;
+    private HttpAuditPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(meterRegistryProvider.getIfAvailable()).thenReturn(meterRegistry);
+        properties = new HttpAuditProperties();
+        properties.setCapacity(3);
+        properties.setBatchSize(100);
+        // 주기 flush 가 테스트 중 끼어들지 않도록 충분히 길게
+        properties.setFlushInterval(Duration.ofMinutes(10));
+        properties.setSpillDirectory(spillDir.toString());
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        pipeline = new HttpAuditPipeline(properties, jdbcTemplate, objectMapper, securityAlertService,
+                Runnable::run, meterRegistryProvider);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipeline.shutdown();
+    }
+
+    private static HttpAuditEvent event(String path, int status, String level) {
+        return new HttpAuditEvent(LocalDateTime.of(2026, 10, 19, 10, 0), "tenant-a", "42", "SUCCESS", level,
+                "GET", path, null, status, 12L, "10.0.0.1", "JUnit", null);
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.counter(HttpAuditPipeline.METRIC_EVENTS, "outcome", outcome).count();
+    }
+
+    @Test
+    @DisplayName("제출은 큐에만 쌓이고 flush 시 batch insert 1회로 적재")
+    @SuppressWarnings("unchecked")
+    void submit_isQueued_andFlushedAsSingleBatch() {
+        pipeline.start();
+        pipeline.submit(event("/api/erp/a", 200, HttpAuditEvent.LEVEL_LOW));
+        pipeline.submit(event("/api/erp/b", 200, HttpAuditEvent.LEVEL_LOW));
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(Collection.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertThat(pipeline.pending()).isEqualTo(2);
+
+        pipeline.flush();
+
+        ArgumentCaptor<Collection<HttpAuditEvent>> rows = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO http_audit_events"), rows.capture(), eq(2),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertThat(rows.getValue()).extracting(HttpAuditEvent::path).containsExactly("/api/erp/a", "/api/erp/b");
+        assertThat(count(HttpAuditPipeline.OUTCOME_PERSISTED)).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("큐 포화분은 버리지 않고 디스크로 내려쓴 뒤 다음 flush 에서 재적재")
+    @SuppressWarnings("unchecked")
+    void overflow_isSpilledToDisk_andReplayed() throws Exception {
+        pipeline.start();
+        for (int i = 0; i < 5; i++) {
+            pipeline.submit(event("/api/admin/" + i, 200, HttpAuditEvent.LEVEL_MEDIUM));
+        }
+
+        // 요청 스레드는 넘친 이벤트를 넘기기만 하고 디스크에 쓰지 않는다
+        assertThat(pipeline.pending()).isEqualTo(3);
+        assertThat(spillDir.resolve(HttpAuditPipeline.SPILL_FILE)).doesNotExist();
+
+        pipeline.flush();
+
+        ArgumentCaptor<Collection<HttpAuditEvent>> rows = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), rows.capture(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        List<Collection<HttpAuditEvent>> batches = rows.getAllValues();
+        assertThat(batches.get(1)).extracting(HttpAuditEvent::path).containsExactly("/api/admin/3", "/api/admin/4");
+        assertThat(batches.get(1).iterator().next().occurredAt()).isEqualTo(LocalDateTime.of(2026, 10, 19, 10, 0));
+        assertThat(spillDir.resolve(HttpAuditPipeline.SPILL_FILE)).doesNotExist();
+        assertThat(spillDir.resolve(HttpAuditPipeline.REPLAY_FILE)).doesNotExist();
+        assertThat(count(HttpAuditPipeline.OUTCOME_SPILLED)).isEqualTo(2.0);
+        assertThat(count(HttpAuditPipeline.OUTCOME_REPLAYED)).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("넘침 대기열까지 차면 그 이벤트만 로그를 남기고 드롭한다")
+    @SuppressWarnings("unchecked")
+    void overflowHandOff_isBounded() throws Exception {
+        pipeline.start();
+        for (int i = 0; i < 7; i++) {
+            pipeline.submit(event("/api/admin/" + i, 200, HttpAuditEvent.LEVEL_MEDIUM));
+        }
+
+        assertThat(count(HttpAuditPipeline.OUTCOME_DROPPED)).isEqualTo(1.0);
+        assertThat(spillDir.resolve(HttpAuditPipeline.SPILL_FILE)).doesNotExist();
+
+        doThrow(new DataAccessResourceFailureException("down")).when(jdbcTemplate)
+                .batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        pipeline.flush();
+
+        // 넘친 3건 + 적재 실패 3건이 재적재 파일에 남는다
+        assertThat(Files.readAllLines(spillDir.resolve(HttpAuditPipeline.REPLAY_FILE))).hasSize(6);
+        assertThat(count(HttpAuditPipeline.OUTCOME_SPILLED)).isEqualTo(6.0);
+    }
+
+    @Test
+    @DisplayName("재적재한 이벤트도 SECURITY_AUDIT 로그를 남긴다")
+    void replayedEvents_areLogged() {
+        Logger pipelineLogger = (Logger) LoggerFactory.getLogger(HttpAuditPipeline.class);
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        pipelineLogger.addAppender(appender);
+        try {
+            pipeline.start();
+            for (int i = 0; i < 4; i++) {
+                pipeline.submit(event("/api/admin/" + i, 200, HttpAuditEvent.LEVEL_MEDIUM));
+            }
+            pipeline.flush();
+
+            assertThat(appender.list).filteredOn(e -> e.getFormattedMessage().contains("SECURITY_AUDIT_MEDIUM"))
+                    .extracting(ILoggingEvent::getFormattedMessage)
+                    .hasSize(4)
+                    .anySatisfy(message -> assertThat(message).contains("/api/admin/3"));
+        } finally {
+            pipelineLogger.detachAppender(appender);
+        }
+    }
+
+    @Test
+    @DisplayName("DB 적재 실패분은 재적재 파일에 남고, DB 복구 후 flush 에서 적재")
+    @SuppressWarnings("unchecked")
+    void insertFailure_keepsEventsOnDisk_untilDatabaseRecovers() {
+        pipeline.start();
+        doThrow(new DataAccessResourceFailureException("down")).when(jdbcTemplate)
+                .batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        pipeline.submit(event("/api/payments/1", 200, HttpAuditEvent.LEVEL_HIGH));
+        pipeline.flush();
+
+        assertThat(spillDir.resolve(HttpAuditPipeline.REPLAY_FILE)).exists();
+        assertThat(count(HttpAuditPipeline.OUTCOME_PERSISTED)).isZero();
+
+        reset(jdbcTemplate);
+        pipeline.flush();
+
+        verify(jdbcTemplate).batchUpdate(anyString(), any(Collection.class), eq(1),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertThat(spillDir.resolve(HttpAuditPipeline.REPLAY_FILE)).doesNotExist();
+        assertThat(count(HttpAuditPipeline.OUTCOME_REPLAYED)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("종료 시 대기 이벤트를 모두 적재")
+    @SuppressWarnings("unchecked")
+    void shutdown_flushesPendingEvents() {
+        pipeline.start();
+        pipeline.submit(event("/api/erp/a", 200, HttpAuditEvent.LEVEL_LOW));
+
+        pipeline.shutdown();
+
+        verify(jdbcTemplate).batchUpdate(anyString(), any(Collection.class), eq(1),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertThat(pipeline.pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("HIGH 이벤트는 보안 알림, 403 은 무권한 접근 알림으로 전달")
+    void securityEvents_areFannedOutToAlertService() {
+        pipeline.submit(event("/api/payments/1", 200, HttpAuditEvent.LEVEL_HIGH));
+        pipeline.submit(event("/api/erp/1", 403, HttpAuditEvent.LEVEL_MEDIUM));
+        pipeline.submit(event("/api/erp/2", 200, HttpAuditEvent.LEVEL_LOW));
+
+        verify(securityAlertService).sendSecurityAlert(eq("SECURITY_AUDIT_HIGH"), eq("HIGH"), any());
+        verify(securityAlertService).sendUnauthorizedAccessAlert(42L, "/api/erp/1", "10.0.0.1");
+    }
+
+    @Test
+    @DisplayName("이벤트 문자열은 컬럼 크기에 맞춰 잘린다")
+    void event_truncatesToColumnSizes() {
+        HttpAuditEvent event = new HttpAuditEvent(LocalDateTime.now(), null, null, "SUCCESS", "LOW", "GET",
+                "/api/" + "x".repeat(600), null, 200, 1L, null, "u".repeat(700), null);
+
+        assertThat(event.path()).hasSize(500);
+        assertThat(event.userAgent()).hasSize(500);
+    }
+}
@@ -0,0 +1,243 @@
+package com.coresolution.consultation.service.erp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import com.coresolution.consultation.config.FinancialCloseProperties;
+import com.coresolution.consultation.entity.erp.financial.PeriodType;
+import com.coresolution.core.context.TenantContextHolder;
+import com.coresolution.core.service.TenantService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * IncrementalFinancialCloseEngine 단위 테스트 — 체크포인트 이후 기간만 마감, 따라잡기 상한, 차단·실패 테넌트 격리,
+ * 다른 실행이 잡은 테넌트 건너뛰기, dry-run 체크포인트 유지 검증
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@DisplayName("IncrementalFinancialCloseEngine 테스트")
+class IncrementalFinancialCloseEngineTest {
+
+    private static final LocalDate TARGET = LocalDate.of(2026, 10, 18);
+
+    private FinancialCloseProperties properties;
+    private TenantService tenantService;
+    private ErpFinancialCloseService closeService;
+    private FinancialCloseCheckpointStore checkpointStore;
+    private MeterRegistry meterRegistry;
+    private Map<String, LocalDate> lastClosed;
+    private IncrementalFinancialCloseEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        properties = new FinancialCloseProperties();
+        properties.setMaxCatchUpDays(5);
+        properties.setDryRun(false);
+        tenantService = mock(TenantService.class);
+        closeService = mock(ErpFinancialCloseService.class);
+        checkpointStore = mock(FinancialCloseCheckpointStore.class);
+        meterRegistry = new SimpleMeterRegistry();
+        lastClosed = new HashMap<>();
+        when(checkpointStore.lastClosedStarts(any())).thenReturn(lastClosed);
+        when(checkpointStore.claim(anyString(), any(), any(), any())).thenReturn(true);
+        when(closeService.performDailyClose(anyString(), any())).thenReturn(true);
+        when(closeService.performMonthlyClose(anyString(), any())).thenReturn(true);
+        // 테넌트 작업은 호출 스레드에서 바로 돌리고, 타이머는 실제 빈 팩토리에 등록한 레지스트리로 받는다
+        StaticListableBeanFactory beans = new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry));
+        engine = new IncrementalFinancialCloseEngine(properties, tenantService, closeService, checkpointStore,
+                beans.getBeanProvider(MeterRegistry.class), Runnable::run);
+    }
+
+    private double timerCount(String type, String outcome) {
+        return meterRegistry.timer(IncrementalFinancialCloseEngine.METRIC_TENANT_CLOSE, "type", type,
+                "outcome", outcome).count();
+    }
+
+    @Test
+    @DisplayName("체크포인트 다음 날부터 대상일까지만 마감하고, 이미 마친 테넌트는 건너뛴다")
+    void run_closesOnlyPeriodsAfterCheckpoint() {
+        when(tenantService.getAllActiveTenantIds()).thenReturn(List.of("behind", "current", "new"));
+        lastClosed.put("behind", TARGET.minusDays(3));
+        lastClosed.put("current", TARGET);
+
+        IncrementalFinancialCloseEngine.CloseSummary summary = engine.run(PeriodType.DAY, TARGET);
+
+        verify(closeService).performDailyClose("behind", TARGET.minusDays(2));
+        verify(closeService).performDailyClose("behind", TARGET.minusDays(1));
+        verify(closeService).performDailyClose("behind", TARGET);
+        verify(closeService).performDailyClose("new", TARGET);
+        verify(closeService, never()).performDailyClose(eq("current"), any());
+        verify(checkpointStore).markClosed(eq("behind"), eq(PeriodType.DAY), eq(TARGET.minusDays(2)),
+                eq(TARGET.minusDays(1)), anyLong());
+        verify(checkpointStore).markClosed(eq("behind"), eq(PeriodType.DAY), eq(TARGET), isNull(), anyLong());
+        assertThat(summary.tenants()).isEqualTo(3);
+        assertThat(summary.upToDate()).isEqualTo(1);
+        assertThat(summary.closedPeriods()).isEqualTo(4);
+        assertThat(summary.failures()).isEmpty();
+        assertThat(timerCount("DAY", "closed")).isEqualTo(2);
+        assertThat(TenantContextHolder.getTenantId()).isNull();
+    }
+
+    @Test
+    @DisplayName("밀린 기간이 따라잡기 상한을 넘으면 상한 안의 최근 기간만 마감한다")
+    void run_capsCatchUp() {
+        when(tenantService.getAllActiveTenantIds()).thenReturn(List.of("stale"));
+        lastClosed.put("stale", TARGET.minusDays(40));
+
+        IncrementalFinancialCloseEngine.CloseSummary summary = engine.run(PeriodType.DAY, TARGET);
+
+        assertThat(summary.closedPeriods()).isEqualTo(5);
+        verify(closeService).performDailyClose("stale", TARGET.minusDays(4));
+        verify(closeService, never()).performDailyClose("stale", TARGET.minusDays(5));
+        verify(checkpointStore).claim(eq("stale"), eq(PeriodType.DAY), eq(TARGET.minusDays(4)), any());
+    }
+
+    @Test
+    @DisplayName("월 마감은 체크포인트 다음 달부터 대상 월까지 YearMonth 로 마감한다")
+    void run_monthly_closesMonthsAfterCheckpoint() {
+        when(tenantService.getAllActiveTenantIds()).thenReturn(List.of("tenant-a"));
+        lastClosed.put("tenant-a", LocalDate.of(2026, 7, 1));
+
+        IncrementalFinancialCloseEngine.CloseSummary summary = engine.run(PeriodType.MONTH,
+                LocalDate.of(2026, 9, 1));
+
+        verify(closeService).performMonthlyClose("tenant-a", YearMonth.of(2026, 8));
+        verify(closeService).performMonthlyClose("tenant-a", YearMonth.of(2026, 9));
+        assertThat(summary.closedPeriods()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("한 테넌트가 실패하면 그 테넌트만 FAILED 로 멈추고 다른 테넌트는 계속 마감한다")
+    void run_failingTenant_doesNotStopOthers() {
+        when(tenantService.getAllActiveTenantIds()).thenReturn(List.of("failing", "ok"));
+        lastClosed.put("failing", TARGET.minusDays(2));
+        RuntimeException error = new RuntimeException("db down");
+        when(closeService.performDailyClose("failing", TARGET.minusDays(1))).thenThrow(error);
+
+        IncrementalFinancialCloseEngine.CloseSummary summary = engine.run(PeriodType.DAY, TARGET);
+
+        verify(closeService, never()).performDailyClose("failing", TARGET);
+        verify(closeService).performDailyClose("ok", TARGET);
+        verify(checkpointStore).markStopped(eq("failing"), eq(PeriodType.DAY),
+                eq(FinancialCloseCheckpointStore.STATUS_FAILED), anyLong(), eq("db down"));
+        assertThat(summary.failures()).singleElement().satisfies(failure -> {
+            assertThat(failure.tenantId()).isEqualTo("failing");
+            assertThat(failure.periodStart()).isEqualTo(TARGET.minusDays(1));
+            assertThat(failure.error()).isSameAs(error);
+        });
+        assertThat(timerCount("DAY", "failed")).isEqualTo(1);
+        assertThat(timerCount("DAY", "closed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("부가세 가드에 막히면 BLOCKED 로 멈추고 체크포인트를 넘기지 않는다")
+    void run_blockedTenant_stopsWithoutAdvancing() {
+        when(tenantService.getAllActiveTenantIds()).thenReturn(List.of("blocked"));
+        lastClosed.put("blocked", TARGET.minusDays(2));
+        when(closeService.performDailyClose("blocked", TARGET.minusDays(1))).thenReturn(false);
+
+        IncrementalFinancialCloseEngine.CloseSummary summary = engine.run(PeriodType.DAY, TARGET);
+
+        assertThat(summary.blocked()).isEqualTo(1);
+        assertThat(summary.closedPeriods()).isZero();
+        verify(checkpointStore, never()).markClosed(anyString(), any(), any(), any(), anyLong());
+        verify(checkpointStore).markStopped(eq("blocked"), eq(PeriodType.DAY),
+                eq(FinancialCloseCheckpointStore.STATUS_BLOCKED), anyLong(), anyString());
+        verify(closeService, never()).performDailyClose("blocked", TARGET);
+    }
+
+    @Test
+    @DisplayName("dry-run 은 밀린 기간을 합산만 하고 체크포인트를 넘기지 않아, 끈 뒤 같은 기간을 다시 마감한다")
+    void run_dryRun_leavesCheckpointUnchanged() {
+        properties.setDryRun(true);
+        when(tenantService.getAllActiveTenantIds()).thenReturn(List.of("tenant-a"));
+        lastClosed.put("tenant-a", TARGET.minusDays(2));
+
+        IncrementalFinancialCloseEngine.CloseSummary summary = engine.run(PeriodType.DAY, TARGET);
+
+        verify(closeService).performDailyClose("tenant-a", TARGET.minusDays(1));
+        verify(closeService).performDailyClose("tenant-a", TARGET);
+        verify(checkpointStore, never()).markClosed(anyString(), any(), any(), any(), anyLong());
+        verify(checkpointStore).markStopped(eq("tenant-a"), eq(PeriodType.DAY),
+                eq(FinancialCloseCheckpointStore.STATUS_DRY_RUN), anyLong(), isNull());
+        assertThat(summary.closedPeriods()).isZero();
+        assertThat(summary.dryRunPeriods()).isEqualTo(2);
+        assertThat(timerCount("DAY", "dry_run")).isEqualTo(1);
+
+        properties.setDryRun(false);
+        engine.run(PeriodType.DAY, TARGET);
+
+        verify(checkpointStore).markClosed(eq("tenant-a"), eq(PeriodType.DAY), eq(TARGET.minusDays(1)),
+                eq(TARGET), anyLong());
+        verify(checkpointStore).markClosed(eq("tenant-a"), eq(PeriodType.DAY), eq(TARGET), isNull(), anyLong());
+    }
+
+    @Test
+    @DisplayName("다른 실행이 잡고 있는 테넌트는 마감하지 않는다")
+    void run_claimedElsewhere_skips() {
+        when(tenantService.getAllActiveTenantIds()).thenReturn(List.of("busy"));
+        when(checkpointStore.claim(eq("busy"), any(), any(), any())).thenReturn(false);
+
+        IncrementalFinancialCloseEngine.CloseSummary summary = engine.run(PeriodType.DAY, TARGET);
+
+        assertThat(summary.claimedElsewhere()).isEqualTo(1);
+        verify(closeService, never()).performDailyClose(anyString(), any());
+        assertThat(timerCount("DAY", "closed")).isZero();
+    }
+
+    @Test
+    @DisplayName("체크포인트 잡기가 예외를 던지면 그 테넌트만 실패로 남기고 나머지 테넌트는 마감한다")
+    void run_claimThrows_recordsFailureAndClosesOthers() {
+        when(tenantService.getAllActiveTenantIds()).thenReturn(List.of("broken", "ok"));
+        IllegalStateException error = new IllegalStateException("pool exhausted");
+        when(checkpointStore.claim(eq("broken"), any(), any(), any())).thenThrow(error);
+
+        IncrementalFinancialCloseEngine.CloseSummary summary = engine.run(PeriodType.DAY, TARGET);
+
+        verify(closeService, never()).performDailyClose(eq("broken"), any());
+        verify(closeService).performDailyClose("ok", TARGET);
+        assertThat(summary.failures()).singleElement().satisfies(failure -> {
+            assertThat(failure.tenantId()).isEqualTo("broken");
+            assertThat(failure.periodStart()).isEqualTo(TARGET);
+            assertThat(failure.error()).isSameAs(error);
+        });
+        assertThat(summary.closedPeriods()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("테넌트 작업에서 예외가 빠져나가도 실행 요약에 실패로 남고 나머지 테넌트를 기다린다")
+    void run_escapedTenantError_isRecordedAsFailure() {
+        when(tenantService.getAllActiveTenantIds()).thenReturn(List.of("broken", "ok"));
+        IllegalStateException error = new IllegalStateException("checkpoint closed");
+        doThrow(error).when(checkpointStore).markClosed(eq("broken"), any(), any(), any(), anyLong());
+
+        IncrementalFinancialCloseEngine.CloseSummary summary = engine.run(PeriodType.DAY, TARGET);
+
+        verify(closeService).performDailyClose("ok", TARGET);
+        assertThat(summary.failures()).singleElement().satisfies(failure -> {
+            assertThat(failure.tenantId()).isEqualTo("broken");
+            assertThat(failure.error()).isSameAs(error);
+        });
+        assertThat(summary.closedPeriods()).isEqualTo(1);
+    }
+}
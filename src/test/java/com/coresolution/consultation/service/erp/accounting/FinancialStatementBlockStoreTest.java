@@ -0,0 +1,156 @@
+package com.coresolution.consultation.service.erp.accounting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import com.coresolution.consultation.config.FinancialStatementCacheProperties;
+import com.coresolution.consultation.entity.erp.financial.FinancialPeriod;
+import com.coresolution.consultation.entity.erp.financial.PeriodStatus;
+import com.coresolution.consultation.entity.erp.financial.PeriodType;
+import com.coresolution.consultation.service.erp.accounting.FinancialStatementBlock.AccountClass;
+import com.coresolution.consultation.service.erp.accounting.FinancialStatementBlockStore.LedgerFingerprint;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * FinancialStatementBlockStore 단위 테스트 — 마감 스냅샷 버전 검증, 미마감 월 지문·보관 시간 검증.
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("FinancialStatementBlockStore 테스트")
+class FinancialStatementBlockStoreTest {
+
+    private static final String TENANT_ID = "tenant-a";
+    private static final YearMonth MAY = YearMonth.of(2026, 5);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private FinancialStatementCacheProperties properties;
+    private FinancialStatementBlockStore store;
+
+    @BeforeEach
+    void setUp() {
+        properties = new FinancialStatementCacheProperties();
+        store = new FinancialStatementBlockStore(jdbcTemplate, mock(TransactionTemplate.class), objectMapper,
+                properties, meterRegistryProvider);
+    }
+
+    private static FinancialPeriod closedMay(long version) {
+        return FinancialPeriod.builder()
+                .id(5L)
+                .tenantId(TENANT_ID)
+                .periodType(PeriodType.MONTH)
+                .periodStart(MAY.atDay(1))
+                .periodEnd(MAY.atEndOfMonth())
+                .status(PeriodStatus.CLOSED)
+                .version(version)
+                .build();
+    }
+
+    private static FinancialStatementBlock block() {
+        return new FinancialStatementBlock(MAY, List.of(new FinancialStatementBlock.Line(1L, 10L, "계정10",
+                EnumSet.of(AccountClass.REVENUE), BigDecimal.ZERO, new BigDecimal("1000.00"),
+                new BigDecimal("1000.00"))));
+    }
+
+    @Test
+    @DisplayName("마감 스냅샷 — 같은 기간 버전이면 JSON 라인을 그대로 복원한다")
+    void findClosed_sameVersion_restoresLines() throws Exception {
+        String payload = objectMapper.writeValueAsString(block().lines());
+        when(jdbcTemplate.queryForList(anyString(), eq(TENANT_ID), eq(5L)))
+                .thenReturn(List.of(Map.of("period_version", 3L, "payload", payload)));
+
+        assertThat(store.findClosed(closedMay(3L))).contains(block());
+    }
+
+    @Test
+    @DisplayName("마감 스냅샷 — 기간 버전이 바뀌었으면(재마감) 무시한다")
+    void findClosed_versionChanged_ignored() throws Exception {
+        String payload = objectMapper.writeValueAsString(block().lines());
+        when(jdbcTemplate.queryForList(anyString(), eq(TENANT_ID), eq(5L)))
+                .thenReturn(List.of(Map.of("period_version", 2L, "payload", payload)));
+
+        assertThat(store.findClosed(closedMay(3L))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재오픈 상태 기간은 스냅샷을 읽지도 쓰지도 않는다")
+    void reopenedPeriod_notSnapshotTarget() {
+        FinancialPeriod reopened = closedMay(3L);
+        reopened.setStatus(PeriodStatus.REOPENED);
+
+        assertThat(store.findClosed(reopened)).isEmpty();
+        store.saveClosed(reopened, block());
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("미마감 월 — 지문이 같으면(스케일 차이 무시) 재사용, 바뀌면 무효")
+    void findOpen_matchesFingerprint() {
+        LedgerFingerprint fingerprint = new LedgerFingerprint(1, new BigDecimal("0"), new BigDecimal("1000"),
+                new BigDecimal("1000"), LocalDate.of(2026, 5, 31).atStartOfDay());
+        store.putOpen(TENANT_ID, fingerprint, block());
+
+        LedgerFingerprint sameWithScale = new LedgerFingerprint(1, new BigDecimal("0.00"),
+                new BigDecimal("1000.00"), new BigDecimal("1000.00"), LocalDate.of(2026, 5, 31).atStartOfDay());
+        LedgerFingerprint changed = new LedgerFingerprint(2, new BigDecimal("0"), new BigDecimal("1200"),
+                new BigDecimal("1200"), LocalDate.of(2026, 5, 31).atStartOfDay());
+
+        assertThat(store.findOpen(TENANT_ID, MAY, sameWithScale)).contains(block());
+        assertThat(store.findOpen(TENANT_ID, MAY, changed)).isEmpty();
+        assertThat(store.findOpen("tenant-b", MAY, fingerprint)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("미마감 월 — 보관 시간이 지나면 지문이 같아도 다시 계산한다")
+    void findOpen_expired_empty() {
+        properties.setOpenBlockTtl(Duration.ZERO.minusSeconds(1));
+        store.putOpen(TENANT_ID, LedgerFingerprint.EMPTY, block());
+
+        assertThat(store.findOpen(TENANT_ID, MAY, LedgerFingerprint.EMPTY)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비활성이면 지문 조회·스냅샷 삭제를 하지 않는다")
+    void disabled_skipsDatabase() {
+        properties.setEnabled(false);
+
+        assertThat(store.fingerprints(TENANT_ID, MAY, MAY)).isEmpty();
+        store.evictClosed(TENANT_ID, 5L);
+
+        verify(jdbcTemplate, never()).update(anyString(), eq(TENANT_ID), eq(5L));
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
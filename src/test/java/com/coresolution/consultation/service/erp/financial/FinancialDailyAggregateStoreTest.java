@@ -0,0 +1,185 @@
+package com.coresolution.consultation.service.erp.financial;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import com.coresolution.consultation.config.FinancialAggregateProperties;
+import com.coresolution.consultation.entity.erp.financial.FinancialAggregateContribution;
+import com.coresolution.consultation.entity.erp.financial.FinancialTransaction;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * FinancialDailyAggregateStore·FinancialDailyAggregateListener 단위 테스트 — 거래 변경이 일별 집계에
+ * 차이만 반영되는지, 집계를 쓸 수 없을 때 원장 대체 신호를 주는지 검증
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("FinancialDailyAggregateStore 테스트")
+class FinancialDailyAggregateStoreTest {
+
+    private static final String TENANT_ID = "tenant-a";
+    private static final LocalDate DATE = LocalDate.of(2026, 10, 19);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+    @Mock
+    private ObjectProvider<FinancialDailyAggregateStore> storeProvider;
+
+    private FinancialAggregateProperties properties;
+    private FinancialDailyAggregateStore store;
+    private FinancialDailyAggregateListener listener;
+
+    @BeforeEach
+    void setUp() {
+        properties = new FinancialAggregateProperties();
+        store = new FinancialDailyAggregateStore(jdbcTemplate, mock(TransactionTemplate.class), properties,
+                meterRegistryProvider);
+        when(storeProvider.getIfAvailable()).thenReturn(store);
+        listener = new FinancialDailyAggregateListener(storeProvider);
+    }
+
+    private static FinancialTransaction transaction(String amount, FinancialTransaction.TransactionStatus status) {
+        FinancialTransaction transaction = FinancialTransaction.builder()
+                .transactionType(FinancialTransaction.TransactionType.INCOME)
+                .category("상담료")
+                .amount(new BigDecimal(amount))
+                .taxAmount(new BigDecimal("10.00"))
+                .transactionDate(DATE)
+                .status(status)
+                .build();
+        transaction.setTenantId(TENANT_ID);
+        transaction.setIsDeleted(false);
+        return transaction;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> capturedDeltas() {
+        ArgumentCaptor<List<Object[]>> deltas = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), deltas.capture());
+        return deltas.getValue();
+    }
+
+    @Test
+    @DisplayName("새 거래 저장 — 해당 일·유형·상태·카테고리 행에 금액과 건수 1 을 더한다")
+    void persist_addsWholeContribution() {
+        FinancialTransaction transaction = transaction("100.00", FinancialTransaction.TransactionStatus.COMPLETED);
+
+        listener.postWrite(transaction);
+
+        List<Object[]> deltas = capturedDeltas();
+        assertThat(deltas).hasSize(1);
+        assertThat(deltas.get(0)).containsExactly(TENANT_ID, Date.valueOf(DATE), "INCOME", "COMPLETED", "상담료",
+                new BigDecimal("100.00"), new BigDecimal("10.00"), BigDecimal.ZERO, 1L);
+        assertThat(transaction.getAggregateSnapshot()).isEqualTo(FinancialAggregateContribution.of(transaction));
+    }
+
+    @Test
+    @DisplayName("같은 행 안의 금액 수정 — 차액만 더하고 건수는 그대로")
+    void amountChange_addsDifferenceOnly() {
+        FinancialTransaction transaction = transaction("100.00", FinancialTransaction.TransactionStatus.PENDING);
+        listener.postLoad(transaction);
+
+        transaction.setAmount(new BigDecimal("130.00"));
+        listener.postWrite(transaction);
+
+        List<Object[]> deltas = capturedDeltas();
+        assertThat(deltas).hasSize(1);
+        assertThat(deltas.get(0)).containsExactly(TENANT_ID, Date.valueOf(DATE), "INCOME", "PENDING", "상담료",
+                new BigDecimal("30.00"), new BigDecimal("0.00"), BigDecimal.ZERO, 0L);
+    }
+
+    @Test
+    @DisplayName("상태 변경(승인) — 이전 상태 행에서 빼고 새 상태 행에 더한다")
+    void statusChange_movesContributionBetweenRows() {
+        FinancialTransaction transaction = transaction("100.00", FinancialTransaction.TransactionStatus.PENDING);
+        listener.postLoad(transaction);
+
+        transaction.approve(null, "ok");
+        listener.postWrite(transaction);
+
+        List<Object[]> deltas = capturedDeltas();
+        assertThat(deltas).hasSize(2);
+        assertThat(deltas.get(0)[3]).isEqualTo("PENDING");
+        assertThat(deltas.get(0)[5]).isEqualTo(new BigDecimal("-100.00"));
+        assertThat(deltas.get(0)[8]).isEqualTo(-1L);
+        assertThat(deltas.get(1)[3]).isEqualTo("APPROVED");
+        assertThat(deltas.get(1)[5]).isEqualTo(new BigDecimal("100.00"));
+        assertThat(deltas.get(1)[8]).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("소프트 삭제 — 몫을 빼고 이후 스냅샷은 비운다")
+    void softDelete_subtractsContribution() {
+        FinancialTransaction transaction = transaction("100.00", FinancialTransaction.TransactionStatus.COMPLETED);
+        listener.postLoad(transaction);
+
+        transaction.setIsDeleted(true);
+        listener.postWrite(transaction);
+
+        List<Object[]> deltas = capturedDeltas();
+        assertThat(deltas).hasSize(1);
+        assertThat(deltas.get(0)[5]).isEqualTo(new BigDecimal("-100.00"));
+        assertThat(deltas.get(0)[8]).isEqualTo(-1L);
+        assertThat(transaction.getAggregateSnapshot()).isNull();
+    }
+
+    @Test
+    @DisplayName("집계 무관 필드만 바뀐 저장 — 쓰기 없음")
+    void unrelatedChange_writesNothing() {
+        FinancialTransaction transaction = transaction("100.00", FinancialTransaction.TransactionStatus.COMPLETED);
+        listener.postLoad(transaction);
+
+        transaction.setDescription("설명 변경");
+        transaction.setAmount(new BigDecimal("100.0"));
+        listener.postWrite(transaction);
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("비활성이면 쓰지 않고, 조회는 원장 대체 신호(empty)를 준다")
+    void disabled_skipsWritesAndSignalsFallback() {
+        properties.setEnabled(false);
+
+        listener.postWrite(transaction("100.00", FinancialTransaction.TransactionStatus.COMPLETED));
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        assertThat(store.sumAmount(TENANT_ID, DATE, DATE, "INCOME", "COMPLETED")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("활성이면 기간 합계를 집계 테이블에서 읽는다")
+    void enabled_readsSumFromAggregates() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(BigDecimal.class), eq(TENANT_ID), eq(Date.valueOf(DATE)),
+                eq(Date.valueOf(DATE)), eq("INCOME"), eq("COMPLETED"))).thenReturn(new BigDecimal("250.00"));
+
+        assertThat(store.sumAmount(TENANT_ID, DATE, DATE, "INCOME", "COMPLETED")).contains(new BigDecimal("250.00"));
+    }
+}
@@ -0,0 +1,139 @@
+package com.coresolution.consultation.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import com.coresolution.consultation.constant.ScheduleStatus;
+import com.coresolution.consultation.dto.admin.AdminScheduleCalendarItem;
+import com.coresolution.consultation.dto.admin.AdminScheduleCalendarQuery;
+import com.coresolution.consultation.dto.admin.AdminScheduleCalendarResponse;
+import com.coresolution.consultation.dto.admin.ScheduleCalendarRow;
+import com.coresolution.consultation.dto.admin.ScheduleWindowFingerprint;
+import com.coresolution.consultation.entity.User;
+import com.coresolution.consultation.repository.ScheduleRepository;
+import com.coresolution.consultation.repository.UserRepository;
+import com.coresolution.consultation.service.ScheduleListUserFieldsResolver;
+import com.coresolution.core.context.TenantContextHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * {@link AdminScheduleCalendarServiceImpl} 테스트 — 구간 조회·표시명 일괄 해석·ETag.
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("AdminScheduleCalendarServiceImpl 테스트")
+class AdminScheduleCalendarServiceImplTest {
+
+    private static final String TENANT_ID = "tenant-calendar";
+    private static final LocalDate START = LocalDate.of(2026, 10, 1);
+    private static final LocalDate END = LocalDate.of(2026, 10, 31);
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private ScheduleListUserFieldsResolver scheduleListUserFieldsResolver;
+
+    @InjectMocks
+    private AdminScheduleCalendarServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        TenantContextHolder.setTenantId(TENANT_ID);
+    }
+
+    @AfterEach
+    void clearTenant() {
+        TenantContextHolder.clear();
+    }
+
+    private static ScheduleCalendarRow row(long id, Long consultantId, Long clientId) {
+        return new ScheduleCalendarRow(id, "상담", START.plusDays(id), LocalTime.of(10, 0), LocalTime.of(11, 0),
+                ScheduleStatus.BOOKED, "CONSULTATION", "INDIVIDUAL", consultantId, clientId);
+    }
+
+    private static User user(long id, boolean active) {
+        User user = User.builder().name("user-" + id).build();
+        user.setId(id);
+        user.setIsActive(active);
+        return user;
+    }
+
+    @Test
+    @DisplayName("참여자 표시명은 사용자 일괄 조회 1회, 사용자당 해석 1회로 채운다")
+    void getCalendar_resolvesNamesWithOneBatchLookup() {
+        AdminScheduleCalendarQuery query = AdminScheduleCalendarQuery.of("2026-10-01", "2026-10-31", "ALL", null);
+        when(scheduleRepository.findCalendarRows(TENANT_ID, START, END, null, null)).thenReturn(List.of(
+                row(1L, 10L, 20L), row(2L, 10L, 21L), row(3L, 11L, null)));
+        when(userRepository.findByTenantIdAndIdInAndIsDeletedFalse(eq(TENANT_ID), anyCollection()))
+                .thenReturn(List.of(user(10L, true), user(11L, false), user(20L, true), user(21L, true)));
+        when(scheduleListUserFieldsResolver.resolveDisplayNameForScheduleList(any(User.class)))
+                .thenAnswer(invocation -> "이름" + invocation.getArgument(0, User.class).getId());
+
+        AdminScheduleCalendarResponse response = service.getCalendar(query);
+
+        assertThat(response.count()).isEqualTo(3);
+        assertThat(response.schedules()).extracting(AdminScheduleCalendarItem::consultantName)
+                .containsExactly("이름10", "이름10", "이름11 (삭제됨)");
+        assertThat(response.schedules()).extracting(AdminScheduleCalendarItem::clientName)
+                .containsExactly("이름20", "이름21", "미지정");
+        verify(userRepository, times(1)).findByTenantIdAndIdInAndIsDeletedFalse(eq(TENANT_ID), anyCollection());
+        verify(scheduleListUserFieldsResolver, times(4)).resolveDisplayNameForScheduleList(any(User.class));
+    }
+
+    @Test
+    @DisplayName("ETag — 같은 지문이면 같고, 구간 스케줄이 수정되면 바뀐다")
+    void currentETag_changesWithFingerprint() {
+        AdminScheduleCalendarQuery query = AdminScheduleCalendarQuery.of("2026-10-01", "2026-10-31", null, 10L);
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 10, 5, 9, 0);
+        when(scheduleRepository.fingerprintCalendarWindow(TENANT_ID, START, END, null, 10L))
+                .thenReturn(new ScheduleWindowFingerprint(3L, 4L, 6L, updatedAt));
+        String first = service.currentETag(query);
+        String same = service.currentETag(query);
+
+        when(scheduleRepository.fingerprintCalendarWindow(TENANT_ID, START, END, null, 10L))
+                .thenReturn(new ScheduleWindowFingerprint(3L, 5L, 6L, updatedAt.plusMinutes(1)));
+        String changed = service.currentETag(query);
+
+        assertThat(first).startsWith("\"").endsWith("\"").isEqualTo(same);
+        assertThat(changed).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("조회 구간은 필수이며 최대 일수를 넘거나 상태가 잘못되면 IllegalArgumentException")
+    void query_validatesWindowAndStatus() {
+        assertThatThrownBy(() -> AdminScheduleCalendarQuery.of(null, "2026-10-31", null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AdminScheduleCalendarQuery.of("2026-10-31", "2026-10-01", null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AdminScheduleCalendarQuery.of("2026-01-01", "2026-12-31", null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AdminScheduleCalendarQuery.of("2026-10-01", "2026-10-31", "UNKNOWN", null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(AdminScheduleCalendarQuery.of("2026-10-01", "2026-10-31", "BOOKED", 7L).status())
+                .isEqualTo(ScheduleStatus.BOOKED);
+    }
+}
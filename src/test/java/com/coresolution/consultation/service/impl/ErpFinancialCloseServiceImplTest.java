@@ -1,5 +1,6 @@
 package com.coresolution.consultation.service.impl;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -55,7 +56,7 @@ class ErpFinancialCloseServiceImplTest {
         when(financialPeriodService.closePeriod(eq(TENANT_A), eq(yesterday), eq(PeriodType.DAY)))
                 .thenReturn(closedPeriod(TENANT_A, PeriodType.DAY, yesterday));
 
-        service.performDailyClose(TENANT_A, yesterday);
+        assertThat(service.performDailyClose(TENANT_A, yesterday)).isTrue();
 
         verify(financialPeriodService, times(1))
                 .closePeriod(eq(TENANT_A), eq(yesterday), eq(PeriodType.DAY));
@@ -69,7 +70,7 @@ class ErpFinancialCloseServiceImplTest {
         when(financialPeriodService.closePeriod(eq(TENANT_A), eq(april1), eq(PeriodType.MONTH)))
                 .thenReturn(closedPeriod(TENANT_A, PeriodType.MONTH, april1));
 
-        service.performMonthlyClose(TENANT_A, ym);
+        assertThat(service.performMonthlyClose(TENANT_A, ym)).isTrue();
 
         verify(financialPeriodService, times(1))
                 .closePeriod(eq(TENANT_A), eq(april1), eq(PeriodType.MONTH));
@@ -90,7 +91,7 @@ class ErpFinancialCloseServiceImplTest {
                 .thenThrow(new TaxIntegrityException(TENANT_A,
                         new BigDecimal("100000.00"), new BigDecimal("80000.00")));
 
-        service.performDailyClose(TENANT_A, yesterday);
+        assertThat(service.performDailyClose(TENANT_A, yesterday)).isFalse();
 
         verify(financialPeriodService, times(1))
                 .closePeriod(eq(TENANT_A), eq(yesterday), eq(PeriodType.DAY));
@@ -26,6 +26,7 @@ import com.coresolution.consultation.exception.TaxIntegrityException;
 import com.coresolution.consultation.repository.erp.financial.FinancialPeriodRepository;
 import com.coresolution.consultation.repository.erp.financial.FinancialTransactionRepository;
 import com.coresolution.consultation.service.AuditLogService;
+import com.coresolution.consultation.service.erp.accounting.FinancialStatementBlockStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -66,6 +67,9 @@ class FinancialPeriodServiceImplTest {
     @Mock
     private AuditLogService auditLogService;
 
+    @Mock
+    private FinancialStatementBlockStore statementBlockStore;
+
     @InjectMocks
     private FinancialPeriodServiceImpl service;
 
@@ -273,6 +277,7 @@ class FinancialPeriodServiceImplTest {
                 eq(TENANT_A), eq(42L), anyString(), any(),
                 eq(AuditAction.FINANCIAL_PERIOD_REOPEN),
                 eq("FINANCIAL_PERIOD"), eq(1L));
+        verify(statementBlockStore, times(1)).evictClosed(TENANT_A, 1L);
     }
 
     @Test
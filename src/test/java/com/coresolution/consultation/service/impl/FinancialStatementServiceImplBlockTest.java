@@ -0,0 +1,222 @@
+package com.coresolution.consultation.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import com.coresolution.consultation.entity.Account;
+import com.coresolution.consultation.entity.erp.accounting.Ledger;
+import com.coresolution.consultation.entity.erp.financial.FinancialPeriod;
+import com.coresolution.consultation.entity.erp.financial.PeriodStatus;
+import com.coresolution.consultation.entity.erp.financial.PeriodType;
+import com.coresolution.consultation.repository.erp.financial.FinancialPeriodRepository;
+import com.coresolution.consultation.service.CommonCodeService;
+import com.coresolution.consultation.service.erp.accounting.FinancialStatementBlock;
+import com.coresolution.consultation.service.erp.accounting.FinancialStatementBlock.AccountClass;
+import com.coresolution.consultation.service.erp.accounting.FinancialStatementBlockStore;
+import com.coresolution.consultation.service.erp.accounting.FinancialStatementBlockStore.LedgerFingerprint;
+import com.coresolution.consultation.service.erp.accounting.LedgerService;
+import com.coresolution.core.context.TenantContextHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * {@link FinancialStatementServiceImpl} 월 블록 조립 테스트 — 마감 월 스냅샷·미마감 월 지문 캐시를 쓰면
+ * 원장을 다시 읽지 않는지, 계산 결과는 원장 직접 합산과 같은지 검증.
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("FinancialStatementServiceImpl 월 블록 테스트")
+class FinancialStatementServiceImplBlockTest {
+
+    private static final String TENANT_ID = "tenant-statement-block";
+    private static final YearMonth MAY = YearMonth.of(2026, 5);
+    private static final LedgerFingerprint MAY_FINGERPRINT = new LedgerFingerprint(2, new BigDecimal("300"),
+            new BigDecimal("1000"), new BigDecimal("700"), null);
+
+    @Mock
+    private LedgerService ledgerService;
+    @Mock
+    private CommonCodeService commonCodeService;
+    @Mock
+    private FinancialPeriodRepository financialPeriodRepository;
+    @Mock
+    private FinancialStatementBlockStore statementBlockStore;
+
+    @InjectMocks
+    private FinancialStatementServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        TenantContextHolder.setTenantId(TENANT_ID);
+        when(financialPeriodRepository.findClosedByTenantIdAndDateRange(eq(TENANT_ID), any(), any(),
+                eq(PeriodType.MONTH))).thenReturn(List.of());
+        when(commonCodeService.getTenantCodeByGroupAndValue(anyString(), anyString(), anyString()))
+                .thenReturn(Optional.empty());
+    }
+
+    @AfterEach
+    void clearTenant() {
+        TenantContextHolder.clear();
+    }
+
+    private static Ledger ledger(long id, long accountId, String description, String debit, String credit,
+            String closing) {
+        Account account = Account.builder()
+                .id(accountId)
+                .tenantId(TENANT_ID)
+                .accountHolder("계정" + accountId)
+                .description(description)
+                .build();
+        return Ledger.builder()
+                .id(id)
+                .tenantId(TENANT_ID)
+                .account(account)
+                .periodStart(MAY.atDay(1))
+                .periodEnd(MAY.atEndOfMonth())
+                .totalDebit(new BigDecimal(debit))
+                .totalCredit(new BigDecimal(credit))
+                .closingBalance(new BigDecimal(closing))
+                .build();
+    }
+
+    private static FinancialPeriod closedMay() {
+        return FinancialPeriod.builder()
+                .id(5L)
+                .tenantId(TENANT_ID)
+                .periodType(PeriodType.MONTH)
+                .periodStart(MAY.atDay(1))
+                .periodEnd(MAY.atEndOfMonth())
+                .status(PeriodStatus.CLOSED)
+                .build();
+    }
+
+    private void givenMayLedgers() {
+        when(ledgerService.getLedgersByPeriod(TENANT_ID, MAY.atDay(1), MAY.atEndOfMonth())).thenReturn(List.of(
+                ledger(1L, 10L, "상담 수익", "0", "1000", "1000"),
+                ledger(2L, 20L, "운영 비용", "300", "0", "-300")));
+    }
+
+    @Test
+    @DisplayName("마감 월 스냅샷이 있으면 원장을 읽지 않고 스냅샷 라인으로 재무상태표를 만든다")
+    void balanceSheet_closedMonthSnapshot_skipsLedgers() {
+        FinancialPeriod closed = closedMay();
+        when(financialPeriodRepository.findClosedByTenantIdAndDateRange(eq(TENANT_ID), any(), any(),
+                eq(PeriodType.MONTH))).thenReturn(List.of(closed));
+        when(statementBlockStore.findClosed(closed)).thenReturn(Optional.of(new FinancialStatementBlock(MAY, List.of(
+                new FinancialStatementBlock.Line(1L, 30L, "현금", EnumSet.of(AccountClass.ASSET),
+                        BigDecimal.ZERO, BigDecimal.ZERO, new BigDecimal("500")),
+                new FinancialStatementBlock.Line(2L, 40L, "자본금", EnumSet.of(AccountClass.EQUITY),
+                        BigDecimal.ZERO, BigDecimal.ZERO, new BigDecimal("500"))))));
+
+        Map<String, Object> result = service.generateBalanceSheet(TENANT_ID, LocalDate.of(2026, 5, 31));
+
+        assertThat((Boolean) result.get("isBalanced")).isTrue();
+        assertThat((BigDecimal) ((Map<?, ?>) result.get("assets")).get("total"))
+                .isEqualByComparingTo(new BigDecimal("500"));
+        verify(ledgerService, never()).getLedgersByPeriod(any(), any(), any());
+        verify(statementBlockStore, never()).saveClosed(any(), any());
+    }
+
+    @Test
+    @DisplayName("마감 월 스냅샷이 없으면 원장에서 한 번 계산해 저장한다")
+    void closedMonthWithoutSnapshot_computesAndSaves() {
+        FinancialPeriod closed = closedMay();
+        when(financialPeriodRepository.findClosedByTenantIdAndDateRange(eq(TENANT_ID), any(), any(),
+                eq(PeriodType.MONTH))).thenReturn(List.of(closed));
+        givenMayLedgers();
+
+        Map<String, Object> result = service.generateCashFlowStatement(TENANT_ID, MAY.atDay(1), MAY.atEndOfMonth());
+
+        assertThat((BigDecimal) ((Map<?, ?>) result.get("operatingActivities")).get("cashFlow"))
+                .isEqualByComparingTo(new BigDecimal("700"));
+        verify(statementBlockStore, times(1)).saveClosed(eq(closed), any(FinancialStatementBlock.class));
+    }
+
+    @Test
+    @DisplayName("미마감 월 — 지문이 같은 캐시 블록이 있으면 원장을 다시 읽지 않는다")
+    void openMonth_sameFingerprint_reusesCachedBlock() {
+        givenMayLedgers();
+        when(statementBlockStore.fingerprints(TENANT_ID, MAY, MAY)).thenReturn(Optional.of(Map.of(MAY,
+                MAY_FINGERPRINT)));
+        Map<String, Object> first = service.generateIncomeStatement(TENANT_ID, MAY.atDay(1), MAY.atEndOfMonth());
+
+        verify(statementBlockStore).putOpen(eq(TENANT_ID), eq(MAY_FINGERPRINT), any(FinancialStatementBlock.class));
+        FinancialStatementBlock cached = new FinancialStatementBlock(MAY, List.of(
+                new FinancialStatementBlock.Line(1L, 10L, "계정10", EnumSet.of(AccountClass.REVENUE),
+                        BigDecimal.ZERO, new BigDecimal("1000"), new BigDecimal("1000")),
+                new FinancialStatementBlock.Line(2L, 20L, "계정20", EnumSet.of(AccountClass.EXPENSE),
+                        new BigDecimal("300"), BigDecimal.ZERO, new BigDecimal("-300"))));
+        when(statementBlockStore.findOpen(TENANT_ID, MAY, MAY_FINGERPRINT)).thenReturn(Optional.of(cached));
+
+        Map<String, Object> second = service.generateIncomeStatement(TENANT_ID, MAY.atDay(1), MAY.atEndOfMonth());
+
+        assertThat((BigDecimal) second.get("netIncome")).isEqualByComparingTo(new BigDecimal("700"));
+        assertThat((BigDecimal) second.get("netIncome")).isEqualByComparingTo((BigDecimal) first.get("netIncome"));
+        verify(ledgerService, times(1)).getLedgersByPeriod(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("미마감 월 — 지문에 없는 달은 원장이 없는 달로 보고 조회하지 않는다")
+    void openMonth_withoutLedgers_skipsQuery() {
+        when(statementBlockStore.fingerprints(TENANT_ID, MAY, MAY)).thenReturn(Optional.of(Map.of()));
+
+        Map<String, Object> result = service.generateIncomeStatement(TENANT_ID, MAY.atDay(1), MAY.atEndOfMonth());
+
+        assertThat((BigDecimal) result.get("netIncome")).isEqualByComparingTo(BigDecimal.ZERO);
+        verify(ledgerService, never()).getLedgersByPeriod(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("블록 계산 중 ERP_ACCOUNT_TYPE 공통코드는 유형당 한 번만 조회한다")
+    void classification_looksUpAccountTypeOncePerType() {
+        givenMayLedgers();
+
+        service.generateCashFlowStatement(TENANT_ID, MAY.atDay(1), MAY.atEndOfMonth());
+
+        verify(commonCodeService, times(1)).getTenantCodeByGroupAndValue(TENANT_ID, "ERP_ACCOUNT_TYPE", "REVENUE");
+        verify(commonCodeService, times(1)).getTenantCodeByGroupAndValue(TENANT_ID, "ERP_ACCOUNT_TYPE", "EXPENSE");
+    }
+
+    @Test
+    @DisplayName("비교 손익계산서 — 연도별 요약과 전년 대비 증감을 붙인다")
+    void comparativeIncomeStatement_addsYearOverYearChanges() {
+        givenMayLedgers();
+        YearMonth lastMay = MAY.minusYears(1);
+        when(ledgerService.getLedgersByPeriod(TENANT_ID, lastMay.atDay(1), lastMay.atEndOfMonth()))
+                .thenReturn(List.of(ledger(3L, 10L, "상담 수익", "0", "500", "500")));
+
+        Map<String, Object> result = service.generateComparativeIncomeStatement(TENANT_ID, MAY.atDay(1),
+                MAY.atEndOfMonth(), 2);
+
+        List<?> periods = (List<?>) result.get("periods");
+        assertThat(periods).hasSize(2);
+        Map<?, ?> change = (Map<?, ?>) ((List<?>) result.get("changes")).get(0);
+        assertThat((BigDecimal) change.get("revenueChange")).isEqualByComparingTo(new BigDecimal("500"));
+        assertThat((BigDecimal) change.get("revenueChangeRate")).isEqualByComparingTo(new BigDecimal("100.00"));
+        assertThat((BigDecimal) change.get("netIncomeChange")).isEqualByComparingTo(new BigDecimal("200"));
+    }
+}
@@ -20,6 +20,7 @@ import com.coresolution.consultation.entity.erp.financial.PeriodStatus;
 import com.coresolution.consultation.entity.erp.financial.PeriodType;
 import com.coresolution.consultation.repository.erp.financial.FinancialPeriodRepository;
 import com.coresolution.consultation.service.CommonCodeService;
+import com.coresolution.consultation.service.erp.accounting.FinancialStatementBlockStore;
 import com.coresolution.consultation.service.erp.accounting.LedgerService;
 import com.coresolution.core.context.TenantContextHolder;
 import org.junit.jupiter.api.AfterEach;
@@ -50,6 +51,8 @@ class FinancialStatementServiceImplSnapshotTest {
     private CommonCodeService commonCodeService;
     @Mock
     private FinancialPeriodRepository financialPeriodRepository;
+    @Mock
+    private FinancialStatementBlockStore statementBlockStore;
 
     @InjectMocks
     private FinancialStatementServiceImpl service;
@@ -0,0 +1,191 @@
+package com.coresolution.consultation.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import com.coresolution.consultation.dto.admin.RefundTransactionRow;
+import com.coresolution.consultation.dto.admin.TerminatedRefundRow;
+import com.coresolution.consultation.entity.CommonCode;
+import com.coresolution.consultation.entity.ConsultantClientMapping;
+import com.coresolution.consultation.repository.CommonCodeRepository;
+import com.coresolution.consultation.repository.ConsultantClientMappingRepository;
+import com.coresolution.consultation.repository.erp.financial.FinancialTransactionRepository;
+import com.coresolution.consultation.service.impl.RefundHistoryQueryServiceImpl.RefundCursor;
+import com.coresolution.core.context.TenantContextHolder;
+import com.coresolution.core.util.StatusCodeHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * {@link RefundHistoryQueryServiceImpl} 테스트 — keyset 병합·커서 경계, 조회 행 기반 환불 통계.
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("RefundHistoryQueryServiceImpl 테스트")
+class RefundHistoryQueryServiceImplTest {
+
+    private static final String TENANT_ID = "tenant-refund-keyset";
+
+    @Mock
+    private FinancialTransactionRepository financialTransactionRepository;
+    @Mock
+    private ConsultantClientMappingRepository mappingRepository;
+    @Mock
+    private CommonCodeRepository commonCodeRepository;
+    @Mock
+    private StatusCodeHelper statusCodeHelper;
+
+    @InjectMocks
+    private RefundHistoryQueryServiceImpl service;
+
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        TenantContextHolder.setTenantId(TENANT_ID);
+        today = LocalDate.now();
+        CommonCode consultantChange = new CommonCode();
+        consultantChange.setCodeValue("CONSULTANT_CHANGE");
+        consultantChange.setCodeLabel("상담사 변경");
+        consultantChange.setExtraData("{\"keywords\":\"상담사,변경,교체\"}");
+        when(commonCodeRepository.findByTenantIdAndCodeGroupAndIsActiveTrueOrderBySortOrderAsc(TENANT_ID,
+                "REFUND_REASON")).thenReturn(List.of(consultantChange));
+    }
+
+    @AfterEach
+    void clearTenant() {
+        TenantContextHolder.clear();
+    }
+
+    private TerminatedRefundRow terminated(long mappingId, LocalDateTime at) {
+        return new TerminatedRefundRow(mappingId, at, "[관리자 강제 종료] 상담사 교체 요청 (환불: 2회기)",
+                "10회기 패키지", 1_000_000L, 10, 8, "김상담", "이내담");
+    }
+
+    private RefundTransactionRow transaction(long id, LocalDate date, Long mappingId) {
+        return new RefundTransactionRow(id, date, date.atTime(9, 0), new BigDecimal("200000"),
+                "환불 (2회기 부분 환불) 사유: 일정 변경 [관리자]", mappingId, mappingId,
+                mappingId != null ? "10회기 패키지" : null, mappingId != null ? 1_000_000L : null,
+                mappingId != null ? 10 : null, mappingId != null ? 3 : null,
+                mappingId != null ? "박상담" : null, mappingId != null ? "최내담" : null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> history(Map<String, Object> result) {
+        return (List<Map<String, Object>>) result.get("refundHistory");
+    }
+
+    @Test
+    @DisplayName("첫 페이지 — 매칭·거래를 시각 역순으로 병합하고 size 를 넘으면 다음 커서를 준다")
+    void firstPage_mergesNewestFirstAndReturnsCursor() {
+        LocalDate yesterday = today.minusDays(1);
+        when(mappingRepository.findTerminatedRefundRows(eq(TENANT_ID),
+                eq(ConsultantClientMapping.MappingStatus.TERMINATED), any(), any(), eq("%강제 종료%"), any(),
+                eq(Long.MIN_VALUE), any())).thenReturn(List.of(terminated(7L, yesterday.atTime(15, 30))));
+        when(financialTransactionRepository.findRefundHistoryRows(eq(TENANT_ID), any(), anyCollection(),
+                eq("CONSULTATION_REFUND"), any(), eq(today), eq(today.plusDays(1)), eq(Long.MIN_VALUE), any()))
+                .thenReturn(List.of(transaction(30L, today, 11L), transaction(20L, yesterday, null)));
+
+        Map<String, Object> result = service.getRefundHistoryPage("", 2, null, null);
+
+        List<Map<String, Object>> items = history(result);
+        assertThat(items).extracting(item -> item.get("mappingId")).containsExactly(11L, 7L);
+        assertThat(items.get(0)).containsEntry("consultantName", "박상담")
+                .containsEntry("refundedSessions", 2)
+                .containsEntry("refundAmount", 200000L)
+                .containsEntry("refundReason", "일정 변경");
+        assertThat(items.get(1)).containsEntry("refundAmount", 200000L)
+                .containsEntry("refundReason", "상담사 교체 요청")
+                .containsEntry("standardizedReason", "상담사 변경");
+        assertThat(result).containsEntry("hasNext", true);
+        RefundCursor next = RefundCursor.decode((String) result.get("nextCursor"));
+        assertThat(next).isEqualTo(new RefundCursor(yesterday.atTime(15, 30), true, 7L));
+    }
+
+    @Test
+    @DisplayName("다음 페이지 — 커서가 매칭이면 같은 날 거래는 모두 다음 페이지 후보로 남긴다")
+    void nextPage_terminatedCursor_boundsTransactionsToCursorDay() {
+        LocalDateTime cursorAt = today.minusDays(1).atTime(15, 30);
+        String cursor = new RefundCursor(cursorAt, true, 7L).encode();
+
+        Map<String, Object> result = service.getRefundHistoryPage(cursor, 20, "month", "all");
+
+        verify(mappingRepository).findTerminatedRefundRows(eq(TENANT_ID), any(), any(), any(), anyString(),
+                eq(cursorAt), eq(7L), any());
+        verify(financialTransactionRepository).findRefundHistoryRows(eq(TENANT_ID), any(), anyCollection(),
+                anyString(), any(), any(), eq(today), eq(Long.MIN_VALUE), any());
+        assertThat(result).containsEntry("hasNext", false);
+        assertThat(result.get("nextCursor")).isNull();
+    }
+
+    @Test
+    @DisplayName("다음 페이지 — 커서가 거래면 같은 거래일의 더 작은 id 부터, 매칭은 그 시각 이전만 조회한다")
+    void nextPage_transactionCursor_boundsById() {
+        LocalDate cursorDay = today.minusDays(2);
+        String cursor = new RefundCursor(cursorDay.atStartOfDay(), false, 20L).encode();
+
+        service.getRefundHistoryPage(cursor, 20, "month", null);
+
+        verify(mappingRepository).findTerminatedRefundRows(eq(TENANT_ID), any(), any(), any(), anyString(),
+                eq(cursorDay.atStartOfDay()), eq(Long.MIN_VALUE), any());
+        verify(financialTransactionRepository).findRefundHistoryRows(eq(TENANT_ID), any(), anyCollection(),
+                anyString(), any(), any(), eq(cursorDay), eq(20L), any());
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 IllegalArgumentException")
+    void invalidCursor_rejected() {
+        assertThatThrownBy(() -> service.getRefundHistoryPage("not-a-cursor", 20, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("환불 통계 — 조회 행 한 번으로 합계·상담사별·사유별을 집계하고 사유 코드는 한 번만 읽는다")
+    void statistics_aggregatesFromRowsOnce() {
+        when(mappingRepository.findTerminatedRefundRows(eq(TENANT_ID), any(), any(), any(), anyString(), any(),
+                anyLong(), any())).thenReturn(List.of(terminated(7L, today.atTime(10, 0)),
+                        terminated(8L, today.atTime(11, 0))));
+        when(financialTransactionRepository.findRefundHistoryRows(eq(TENANT_ID), any(), anyCollection(),
+                anyString(), any(), any(), any(), anyLong(), any()))
+                .thenReturn(List.of(transaction(30L, today, 11L), transaction(31L, today, null)));
+
+        Map<String, Object> result = service.getRefundStatistics("month");
+
+        Map<?, ?> summary = (Map<?, ?>) result.get("summary");
+        assertThat(summary.get("totalRefundCount")).isEqualTo(4);
+        assertThat(summary.get("totalRefundedSessions")).isEqualTo(8);
+        assertThat(summary.get("totalRefundAmount")).isEqualTo(800000L);
+        Map<?, ?> consultantStats = (Map<?, ?>) result.get("consultantStats");
+        assertThat(((Map<?, ?>) consultantStats.get("김상담")).get("refundCount")).isEqualTo(2);
+        assertThat(((Map<?, ?>) consultantStats.get("알 수 없음")).get("refundCount")).isEqualTo(1);
+        assertThat(((Map<?, ?>) result.get("refundReasonStats")).get("상담사 변경")).isEqualTo(2);
+        assertThat((List<?>) result.get("monthlyTrend")).hasSize(6);
+        assertThat((List<?>) result.get("recentRefunds")).hasSize(4);
+        verify(commonCodeRepository, times(1)).findByTenantIdAndCodeGroupAndIsActiveTrueOrderBySortOrderAsc(TENANT_ID,
+                "REFUND_REASON");
+    }
+}
@@ -3,6 +3,7 @@ package com.coresolution.consultation.service.impl;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
@@ -12,11 +13,20 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,13 +37,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.coresolution.consultation.config.SalaryExportProperties;
 import com.coresolution.consultation.constant.salary.SalaryExportConstants;
 import com.coresolution.consultation.dto.EmailResponse;
+import com.coresolution.consultation.dto.SalaryExportBatchRequest;
 import com.coresolution.consultation.dto.SalaryExportRequest;
 import com.coresolution.consultation.entity.SalaryCalculation;
 import com.coresolution.consultation.entity.SalaryProfile;
 import com.coresolution.consultation.entity.User;
+import com.coresolution.consultation.exception.EntityNotFoundException;
 import com.coresolution.consultation.repository.SalaryCalculationRepository;
+import com.coresolution.consultation.salaryexport.SalaryExportContent;
+import com.coresolution.consultation.salaryexport.SalaryExportDownloadStore;
 import com.coresolution.consultation.service.EmailService;
 import com.coresolution.consultation.service.SalaryManagementService;
 import com.coresolution.consultation.service.UserPersonalDataCacheService;
@@ -66,6 +81,12 @@ class SalaryExportServiceImplTest {
     @Mock
     private PersonalDataEncryptionUtil personalDataEncryptionUtil;
 
+    @Mock
+    private SalaryExportDownloadStore downloadStore;
+
+    @Mock
+    private SalaryExportProperties exportProperties;
+
     @InjectMocks
     private SalaryExportServiceImpl salaryExportService;
 
@@ -471,4 +492,117 @@ class SalaryExportServiceImplTest {
         assertNull(SalaryExportServiceImpl.maskEmailForResponse(null));
         assertNull(SalaryExportServiceImpl.maskEmailForResponse("not-email"));
     }
+
+    @Test
+    @DisplayName("exportCsv: delivery=DOWNLOAD_TOKEN이면 data URI 대신 토큰 다운로드 경로")
+    void exportCsv_downloadTokenDelivery_returnsTokenPath() {
+        SalaryCalculation calc = csvCalculation(53L);
+        when(salaryCalculationRepository.findByIdWithConsultant(53L)).thenReturn(Optional.of(calc));
+        when(userPersonalDataCacheService.getDecryptedUserData(any(User.class)))
+                .thenReturn(Map.of("name", "토큰상담사"));
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+        when(downloadStore.issue(eq(TENANT), any(SalaryExportContent.class))).thenAnswer(invocation -> {
+            SalaryExportContent content = invocation.getArgument(1);
+            content.writer().writeTo(written);
+            return new SalaryExportDownloadStore.StoredDownload("0123456789abcdef0123456789abcdef",
+                    content.filename(), content.contentType(), Path.of("unused"), written.size());
+        });
+
+        SalaryExportRequest request = new SalaryExportRequest();
+        request.setCalculationId(53L);
+        request.setIncludeTaxDetails(false);
+        request.setDelivery(SalaryExportConstants.DELIVERY_DOWNLOAD_TOKEN);
+
+        Map<String, Object> result = salaryExportService.exportCsv(request);
+
+        assertEquals(SalaryExportConstants.DOWNLOAD_TOKEN_PATH_PREFIX + "0123456789abcdef0123456789abcdef",
+                result.get(SalaryExportConstants.RESPONSE_KEY_DOWNLOAD_URL));
+        assertTrue(result.get(SalaryExportConstants.RESPONSE_KEY_FILENAME).toString().endsWith("_토큰상담사.csv"));
+        String csv = new String(written.toByteArray(), StandardCharsets.UTF_8);
+        assertTrue(csv.startsWith("\uFEFF항목,값\n"));
+        assertTrue(csv.contains("계산 ID,53\n"));
+        verify(emailService, never()).sendSalaryCalculationEmailWithResponse(
+                anyString(), anyString(), anyString(), anyMap(), any(), any());
+    }
+
+    @Test
+    @DisplayName("openPayslipArchive: 요청 순서대로 ZIP 엔트리를 쓰고 같은 파일명은 번호를 붙임")
+    void openPayslipArchive_streamsEntriesInOrder() throws IOException {
+        when(exportProperties.getMaxBatchSize()).thenReturn(10);
+        when(salaryCalculationRepository.findIdsByTenantIdAndIdIn(eq(TENANT), any()))
+                .thenReturn(List.of(60L, 61L));
+        SalaryCalculation first = csvCalculation(60L);
+        SalaryCalculation second = csvCalculation(61L);
+        // 파일명이 겹치도록 같은 계산 ID·기간·상담사로 만든다
+        second.setId(60L);
+        when(salaryCalculationRepository.findByIdWithConsultant(60L)).thenReturn(Optional.of(first));
+        when(salaryCalculationRepository.findByIdWithConsultant(61L)).thenReturn(Optional.of(second));
+        when(userPersonalDataCacheService.getDecryptedUserData(any(User.class)))
+                .thenReturn(Map.of("name", "묶음상담사"));
+
+        SalaryExportBatchRequest request = new SalaryExportBatchRequest();
+        request.setCalculationIds(List.of(60L, 61L, 60L));
+        request.setFormat("csv");
+        request.setIncludeTaxDetails(false);
+
+        SalaryExportContent content = salaryExportService.openPayslipArchive(request);
+        // 스트리밍 응답은 요청 스레드 밖에서 쓰이므로 테넌트 없는 상태에서 쓴다
+        TenantContextHolder.clear();
+        ByteArrayOutputStream zipBytes = new ByteArrayOutputStream();
+        content.writer().writeTo(zipBytes);
+
+        assertEquals(SalaryExportConstants.MIME_TYPE_ZIP, content.contentType());
+        List<String> names = new ArrayList<>();
+        List<String> bodies = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(zipBytes.toByteArray()),
+                StandardCharsets.UTF_8)) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                names.add(entry.getName());
+                bodies.add(new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        assertEquals(2, names.size());
+        assertTrue(names.get(0).endsWith("_묶음상담사.csv"));
+        assertEquals(names.get(0).replace(".csv", "_2.csv"), names.get(1));
+        assertTrue(bodies.get(0).startsWith("\uFEFF항목,값\n"));
+        assertNull(TenantContextHolder.getTenantId());
+    }
+
+    @Test
+    @DisplayName("openPayslipArchive: 다른 테넌트 급여 계산이 섞이면 쓰기 전에 거부")
+    void openPayslipArchive_foreignCalculation_rejectedBeforeStreaming() {
+        when(exportProperties.getMaxBatchSize()).thenReturn(10);
+        when(salaryCalculationRepository.findIdsByTenantIdAndIdIn(eq(TENANT), any())).thenReturn(List.of(70L));
+
+        SalaryExportBatchRequest request = new SalaryExportBatchRequest();
+        request.setCalculationIds(List.of(70L, 71L));
+
+        assertThrows(EntityNotFoundException.class, () -> salaryExportService.openPayslipArchive(request));
+        verify(salaryCalculationRepository, never()).findByIdWithConsultant(any());
+    }
+
+    private static SalaryCalculation csvCalculation(Long id) {
+        User consultant = new User();
+        consultant.setName("enc-name");
+        SalaryCalculation calc = SalaryCalculation.builder()
+                .consultant(consultant)
+                .salaryProfile(new SalaryProfile())
+                .calculationPeriodStart(LocalDate.of(2025, 9, 1))
+                .calculationPeriodEnd(LocalDate.of(2025, 9, 30))
+                .totalConsultations(0)
+                .completedConsultations(2)
+                .baseSalary(new BigDecimal("100000"))
+                .grossSalary(new BigDecimal("100000"))
+                .deductions(BigDecimal.ZERO)
+                .netSalary(new BigDecimal("100000"))
+                .totalSalary(new BigDecimal("100000"))
+                .hourlyEarnings(BigDecimal.ZERO)
+                .commissionEarnings(BigDecimal.ZERO)
+                .status(SalaryCalculation.SalaryStatus.CALCULATED)
+                .calculatedAt(LocalDateTime.now())
+                .build();
+        calc.setId(id);
+        calc.setTenantId(TENANT);
+        return calc;
+    }
 }
@@ -0,0 +1,218 @@
+package com.coresolution.consultation.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.coresolution.consultation.constant.ScheduleStatus;
+import com.coresolution.consultation.entity.Schedule;
+import com.coresolution.consultation.repository.ConsultationRecordRepository;
+import com.coresolution.consultation.repository.ScheduleRepository;
+import com.coresolution.consultation.service.PlSqlScheduleValidationService;
+import com.coresolution.consultation.service.schedule.ScheduleCompletionClaimStore;
+import com.coresolution.consultation.service.schedule.ScheduleDueIndex;
+import com.coresolution.core.context.TenantContextHolder;
+
+/**
+ * ScheduleServiceImpl 자동 완료 — 완료 시각 색인 경로 테스트.
+ *
+ * <p>색인이 꺼낸 일정만 일괄 조회·선점·일괄 저장하고, 지난 일정 전체 스캔은 색인 미적재·대사 주기에만 도는지
+ * 검증한다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScheduleServiceImpl 자동 완료 — 완료 시각 색인 경로")
+class ScheduleServiceImplAutoCompleteDueIndexTest {
+
+    private static final String TENANT_ID = "tenant-due";
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    @Mock
+    private ConsultationRecordRepository consultationRecordRepository;
+
+    @Mock
+    private PlSqlScheduleValidationService plSqlScheduleValidationService;
+
+    @Mock
+    private ScheduleDueIndex scheduleDueIndex;
+
+    @Mock
+    private ScheduleCompletionClaimStore scheduleCompletionClaimStore;
+
+    @InjectMocks
+    private ScheduleServiceImpl scheduleService;
+
+    @BeforeEach
+    void setUp() {
+        TenantContextHolder.setTenantId(TENANT_ID);
+        lenient().when(scheduleRepository.findExpiredConfirmedSchedules(anyString(), any(), any()))
+                .thenReturn(Collections.emptyList());
+        lenient().when(scheduleRepository.findByDateBeforeAndStatus(anyString(), any(), any()))
+                .thenReturn(Collections.emptyList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContextHolder.clear();
+    }
+
+    private static Schedule schedule(long id, ScheduleStatus status, LocalDate date, LocalTime endTime) {
+        Schedule schedule = new Schedule();
+        schedule.setId(id);
+        schedule.setTenantId(TENANT_ID);
+        schedule.setConsultantId(10L);
+        schedule.setClientId(20L);
+        schedule.setDate(date);
+        schedule.setStartTime(endTime.minusMinutes(50));
+        schedule.setEndTime(endTime);
+        schedule.setStatus(status);
+        schedule.setSessionSequence(1);
+        return schedule;
+    }
+
+    @Test
+    @DisplayName("꺼낸 일정 중 상담일지가 있는 일정만 일괄 저장하고, 없는 일정은 리마인더 후 재확인으로 미룬다")
+    @SuppressWarnings("unchecked")
+    void dueSchedules_completedInOneBatch() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        Schedule withRecord = schedule(1L, ScheduleStatus.CONFIRMED, yesterday, LocalTime.of(10, 0));
+        Schedule withoutRecord = schedule(2L, ScheduleStatus.BOOKED, yesterday, LocalTime.of(11, 0));
+        Schedule alreadyCompleted = schedule(3L, ScheduleStatus.COMPLETED, yesterday, LocalTime.of(12, 0));
+        List<Long> dueIds = List.of(1L, 2L, 3L);
+        when(scheduleDueIndex.isLoaded()).thenReturn(true);
+        when(scheduleDueIndex.reconciliationDue(eq(TENANT_ID), any(LocalDateTime.class))).thenReturn(false);
+        when(scheduleDueIndex.pollDue(eq(TENANT_ID), any(LocalDateTime.class))).thenReturn(dueIds);
+        when(scheduleRepository.findByTenantIdAndIdIn(TENANT_ID, dueIds))
+                .thenReturn(List.of(withRecord, withoutRecord, alreadyCompleted));
+        ScheduleCompletionClaimStore.Claim claim = new ScheduleCompletionClaimStore.Claim("run-1", Set.of(1L, 2L));
+        when(scheduleCompletionClaimStore.claim(TENANT_ID, List.of(1L, 2L))).thenReturn(claim);
+        when(consultationRecordRepository.findConsultationIdsWithRecord(eq(TENANT_ID), anyCollection()))
+                .thenReturn(List.of(1L));
+
+        scheduleService.autoCompleteExpiredSchedules();
+
+        ArgumentCaptor<List<Schedule>> saved = ArgumentCaptor.forClass(List.class);
+        verify(scheduleRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).containsExactly(withRecord);
+        assertThat(withRecord.getStatus()).isEqualTo(ScheduleStatus.COMPLETED);
+        assertThat(withoutRecord.getStatus()).isEqualTo(ScheduleStatus.BOOKED);
+        verify(plSqlScheduleValidationService).createConsultationRecordReminder(
+                eq(2L), eq(10L), eq(20L), eq(yesterday), anyString());
+        verify(scheduleCompletionClaimStore).release(claim, List.of(1L));
+        verify(scheduleDueIndex).recheckLater(eq(TENANT_ID), eq(List.of(2L)), any(LocalDateTime.class));
+        verify(scheduleRepository, never()).findExpiredConfirmedSchedules(anyString(), any(), any());
+        verify(consultationRecordRepository, never())
+                .existsByTenantIdAndConsultationIdAndIsDeletedFalse(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 선점한 일정은 완료·리마인더 없이 재확인으로 미룬다")
+    void claimedElsewhere_deferredWithoutReminder() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        Schedule mine = schedule(1L, ScheduleStatus.CONFIRMED, yesterday, LocalTime.of(10, 0));
+        Schedule theirs = schedule(2L, ScheduleStatus.BOOKED, yesterday, LocalTime.of(11, 0));
+        List<Long> dueIds = List.of(1L, 2L);
+        when(scheduleDueIndex.isLoaded()).thenReturn(true);
+        when(scheduleDueIndex.reconciliationDue(eq(TENANT_ID), any(LocalDateTime.class))).thenReturn(false);
+        when(scheduleDueIndex.pollDue(eq(TENANT_ID), any(LocalDateTime.class))).thenReturn(dueIds);
+        when(scheduleRepository.findByTenantIdAndIdIn(TENANT_ID, dueIds)).thenReturn(List.of(mine, theirs));
+        when(scheduleCompletionClaimStore.claim(TENANT_ID, dueIds))
+                .thenReturn(new ScheduleCompletionClaimStore.Claim("run-2", Set.of(1L)));
+        when(consultationRecordRepository.findConsultationIdsWithRecord(eq(TENANT_ID), anyCollection()))
+                .thenReturn(List.of(1L));
+
+        scheduleService.autoCompleteExpiredSchedules();
+
+        assertThat(mine.getStatus()).isEqualTo(ScheduleStatus.COMPLETED);
+        assertThat(theirs.getStatus()).isEqualTo(ScheduleStatus.BOOKED);
+        verify(scheduleRepository).saveAll(List.of(mine));
+        verify(plSqlScheduleValidationService, never()).createConsultationRecordReminder(
+                any(), any(), any(), any(), anyString());
+        verify(scheduleDueIndex).recheckLater(eq(TENANT_ID), eq(List.of(2L)), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("선점한 일정이 없으면 상담일지를 조회하지 않고 모두 재확인으로 미룬다")
+    void nothingClaimed_noRecordQuery() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        Schedule theirs = schedule(2L, ScheduleStatus.BOOKED, yesterday, LocalTime.of(11, 0));
+        when(scheduleDueIndex.isLoaded()).thenReturn(true);
+        when(scheduleDueIndex.reconciliationDue(eq(TENANT_ID), any(LocalDateTime.class))).thenReturn(false);
+        when(scheduleDueIndex.pollDue(eq(TENANT_ID), any(LocalDateTime.class))).thenReturn(List.of(2L));
+        when(scheduleRepository.findByTenantIdAndIdIn(TENANT_ID, List.of(2L))).thenReturn(List.of(theirs));
+        when(scheduleCompletionClaimStore.claim(TENANT_ID, List.of(2L)))
+                .thenReturn(new ScheduleCompletionClaimStore.Claim("run-3", Set.of()));
+
+        scheduleService.autoCompleteExpiredSchedules();
+
+        verify(consultationRecordRepository, never()).findConsultationIdsWithRecord(anyString(), anyCollection());
+        verify(scheduleRepository, never()).saveAll(anyList());
+        verify(scheduleDueIndex).recheckLater(eq(TENANT_ID), eq(List.of(2L)), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("꺼낼 일정이 없으면 DB 를 읽지 않는다")
+    void nothingDue_noQueries() {
+        when(scheduleDueIndex.isLoaded()).thenReturn(true);
+        when(scheduleDueIndex.reconciliationDue(eq(TENANT_ID), any(LocalDateTime.class))).thenReturn(false);
+        when(scheduleDueIndex.pollDue(eq(TENANT_ID), any(LocalDateTime.class))).thenReturn(List.of());
+
+        scheduleService.autoCompleteExpiredSchedules();
+
+        verify(scheduleRepository, never()).findByTenantIdAndIdIn(anyString(), anyList());
+        verify(scheduleRepository, never()).findExpiredConfirmedSchedules(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("대사 주기가 되면 기존 전체 스캔을 돌리고 대사 시각을 기록한다")
+    void reconciliationDue_runsLegacyScan() {
+        when(scheduleDueIndex.isLoaded()).thenReturn(true);
+        when(scheduleDueIndex.reconciliationDue(eq(TENANT_ID), any(LocalDateTime.class))).thenReturn(true);
+
+        scheduleService.autoCompleteExpiredSchedules();
+
+        verify(scheduleRepository).findExpiredConfirmedSchedules(eq(TENANT_ID), any(), any());
+        verify(scheduleDueIndex).reconciled(eq(TENANT_ID), any(LocalDateTime.class));
+        verify(scheduleCompletionClaimStore).purgeClosed(TENANT_ID);
+        verify(scheduleDueIndex, never()).pollDue(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("색인 적재 전에는 호출마다 기존 전체 스캔을 돌린다")
+    void indexNotLoaded_runsLegacyScan() {
+        when(scheduleDueIndex.isLoaded()).thenReturn(false);
+
+        scheduleService.autoCompleteExpiredSchedules();
+
+        verify(scheduleRepository).findExpiredConfirmedSchedules(eq(TENANT_ID), any(), any());
+        verify(scheduleDueIndex, never()).pollDue(anyString(), any());
+    }
+}
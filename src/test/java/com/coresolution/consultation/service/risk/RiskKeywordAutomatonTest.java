@@ -0,0 +1,96 @@
+package com.coresolution.consultation.service.risk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * RiskKeywordAutomaton 단위 테스트 — 키워드별 {@code contains} 검사와 결과 동일성, 세그먼트 이어 훑기 검증
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@DisplayName("RiskKeywordAutomaton 테스트")
+class RiskKeywordAutomatonTest {
+
+    private static final String[] FRAGMENTS = {
+        "자", "살", "자살", "죽고", " ", "싶다", "죽음", "목숨", "끝내고", "사라지고", "우울", "불", "안", "공황",
+        "폭력", "때리다", "해치", "다", "상처", "절망", "힘들", "괴롭다", "외롭다", "무기", "력", "의욕", "없다",
+        "슬프다", "자해", "오늘", "기분", ".", ",", "a", "B"
+    };
+
+    private final RiskKeywordAutomaton automaton = RiskKeywordAutomaton.defaults();
+
+    private TreeSet<Integer> scan(String text) {
+        TreeSet<Integer> matched = new TreeSet<>();
+        automaton.scan(text, RiskKeywordAutomaton.INITIAL_STATE, (keywordIndex, end) -> matched.add(keywordIndex));
+        return matched;
+    }
+
+    private TreeSet<Integer> containsBaseline(String text) {
+        TreeSet<Integer> matched = new TreeSet<>();
+        String lower = text.toLowerCase();
+        List<RiskKeywordAutomaton.Keyword> keywords = automaton.keywords();
+        for (int i = 0; i < keywords.size(); i++) {
+            if (lower.contains(keywords.get(i).text().toLowerCase())) {
+                matched.add(i);
+            }
+        }
+        return matched;
+    }
+
+    @Test
+    @DisplayName("무작위 말뭉치 — 키워드별 contains 검사와 같은 키워드를 찾는다")
+    void randomCorpus_matchesContainsBaseline() {
+        Random random = new Random(20261019L);
+        for (int n = 0; n < 20_000; n++) {
+            StringBuilder builder = new StringBuilder();
+            int pieces = 1 + random.nextInt(12);
+            for (int p = 0; p < pieces; p++) {
+                builder.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+            }
+            String text = builder.toString();
+            assertThat(scan(text)).as("text=[%s]", text).isEqualTo(containsBaseline(text));
+        }
+    }
+
+    @Test
+    @DisplayName("일치 끝 위치와 접미 공유 키워드(실패 링크 출력)를 함께 보고한다")
+    void reportsEndPositions_includingSuffixKeywords() {
+        RiskKeywordAutomaton custom = new RiskKeywordAutomaton(List.of(
+            new RiskKeywordAutomaton.Keyword("abcd", RiskKeywordAutomaton.Level.HIGH),
+            new RiskKeywordAutomaton.Keyword("bc", RiskKeywordAutomaton.Level.MEDIUM),
+            new RiskKeywordAutomaton.Keyword("CD", RiskKeywordAutomaton.Level.CRITICAL)));
+        List<String> matches = new ArrayList<>();
+
+        custom.scan("xABCDx", RiskKeywordAutomaton.INITIAL_STATE, (keywordIndex, end) -> matches.add(keywordIndex + "@" + end));
+
+        assertThat(matches).containsExactly("1@4", "0@5", "2@5");
+    }
+
+    @Test
+    @DisplayName("상태를 이어 넘기면 세그먼트 경계를 가로지르는 키워드도 찾는다")
+    void scanAcrossSegments_carriesState() {
+        TreeSet<Integer> matched = new TreeSet<>();
+        int state = automaton.scan("요즘 정말 죽고", RiskKeywordAutomaton.INITIAL_STATE,
+            (keywordIndex, end) -> matched.add(keywordIndex));
+        state = automaton.scan(" ", state, (keywordIndex, end) -> matched.add(keywordIndex));
+        automaton.scan("싶다는 생각", state, (keywordIndex, end) -> matched.add(keywordIndex));
+
+        assertThat(matched).extracting(i -> automaton.keywords().get(i).label()).containsExactly("죽고 싶다 (CRITICAL)");
+    }
+
+    @Test
+    @DisplayName("빈 키워드는 거부")
+    void emptyKeyword_isRejected() {
+        assertThatThrownBy(() -> new RiskKeywordAutomaton(List.of(
+            new RiskKeywordAutomaton.Keyword("", RiskKeywordAutomaton.Level.HIGH))))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,149 @@
+package com.coresolution.consultation.service.risk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import com.coresolution.consultation.config.StreamingRiskProperties;
+import com.coresolution.consultation.entity.ConsultationRecordAlert;
+import com.coresolution.consultation.service.RiskDetectionService;
+import com.coresolution.consultation.service.RiskDetectionService.RiskAnalysisResult;
+import com.coresolution.consultation.service.stt.TranscriptSegment;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * RiskStreamSession 단위 테스트 — 세그먼트 단위 즉시 분석·창 범위·보류 일괄 분석·알림 중복 억제 검증
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("RiskStreamSession 테스트")
+class RiskStreamSessionTest {
+
+    private static final Long RECORD_ID = 11L;
+
+    @Mock
+    private RiskDetectionService riskDetectionService;
+
+    private StreamingRiskProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private RiskStreamSession session;
+
+    @BeforeEach
+    void setUp() {
+        properties = new StreamingRiskProperties();
+        properties.setContextSegments(1);
+        meterRegistry = new SimpleMeterRegistry();
+        session = new RiskStreamSession(RiskKeywordAutomaton.defaults(), properties, riskDetectionService,
+                Runnable::run, meterRegistry, "tenant-a", 5L, RECORD_ID);
+        when(riskDetectionService.createRiskAlert(eq(RECORD_ID), any())).thenReturn(new ConsultationRecordAlert());
+    }
+
+    private static RiskAnalysisResult result(String severity, double score) {
+        return new RiskAnalysisResult(true, severity, score, List.of(), "", "");
+    }
+
+    private static TranscriptSegment segment(int sequence, String text) {
+        return new TranscriptSegment(sequence, text, sequence * 1000L, sequence * 1000L + 1000L, 0.9f);
+    }
+
+    @Test
+    @DisplayName("CRITICAL 발화는 전사 종료 전에 직전 문맥 창만 분석해 즉시 알림")
+    @SuppressWarnings("unchecked")
+    void criticalSegment_isEscalatedImmediately_withContextWindowOnly() {
+        when(riskDetectionService.analyzeRiskWithAI(anyString(), anyList())).thenReturn(result("CRITICAL", 0.95));
+
+        session.onSegment(segment(0, "처음 인사를 나눴다"));
+        session.onSegment(segment(1, "최근 잠을 못 잤다"));
+        session.onSegment(segment(2, "가끔 자살을 생각한다"));
+
+        ArgumentCaptor<String> window = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<List<String>> keywords = ArgumentCaptor.forClass(List.class);
+        verify(riskDetectionService).analyzeRiskWithAI(window.capture(), keywords.capture());
+        assertThat(window.getValue()).isEqualTo("최근 잠을 못 잤다 가끔 자살을 생각한다");
+        assertThat(keywords.getValue()).containsExactly("자살 (CRITICAL)");
+        verify(riskDetectionService).createRiskAlert(eq(RECORD_ID), any());
+        verify(riskDetectionService).sendHighRiskAlert(any());
+    }
+
+    @Test
+    @DisplayName("세그먼트 경계를 가로지르는 키워드도 감지")
+    void keywordAcrossSegments_isDetected() {
+        when(riskDetectionService.analyzeRiskWithAI(anyString(), anyList())).thenReturn(result("HIGH", 0.8));
+
+        session.onSegment(segment(0, "그냥 죽고"));
+        session.onSegment(segment(1, "싶다는 생각이 들어요"));
+
+        verify(riskDetectionService).analyzeRiskWithAI("그냥 죽고 싶다는 생각이 들어요", List.of("죽고 싶다 (CRITICAL)"));
+    }
+
+    @Test
+    @DisplayName("이미 분석한 키워드 반복은 재분석하지 않고, 같은 세션 동급 알림은 한 번만")
+    void repeatedKeyword_isNotReescalated_andAlertIsDeduplicated() {
+        when(riskDetectionService.analyzeRiskWithAI(anyString(), anyList())).thenReturn(result("HIGH", 0.8));
+
+        session.onSegment(segment(0, "우울한 기분"));
+        session.onSegment(segment(1, "계속 우울하다"));
+        session.onSegment(segment(2, "공황이 왔다"));
+
+        verify(riskDetectionService, times(2)).analyzeRiskWithAI(anyString(), anyList());
+        verify(riskDetectionService, times(1)).createRiskAlert(eq(RECORD_ID), any());
+    }
+
+    @Test
+    @DisplayName("MEDIUM 창은 보류했다가 전사 종료 시 한 번에 분석")
+    void mediumWindows_areBatchedUntilComplete() {
+        when(riskDetectionService.analyzeRiskWithAI(anyString(), anyList())).thenReturn(result("MEDIUM", 0.4));
+
+        session.onSegment(segment(0, "요즘 힘들다"));
+        session.onSegment(segment(1, "날씨 이야기"));
+        session.onSegment(segment(2, "혼자라 외롭다"));
+        verify(riskDetectionService, never()).analyzeRiskWithAI(anyString(), anyList());
+
+        session.onComplete();
+
+        verify(riskDetectionService).analyzeRiskWithAI("요즘 힘들다\n…\n날씨 이야기 혼자라 외롭다",
+                List.of("힘들다 (MEDIUM)", "외롭다 (MEDIUM)"));
+        verify(riskDetectionService).createRiskAlert(eq(RECORD_ID), any());
+        verify(riskDetectionService, never()).sendHighRiskAlert(any());
+    }
+
+    @Test
+    @DisplayName("위험 키워드가 없으면 AI 를 호출하지 않고, 점검·전송 문자 수를 기록")
+    void noKeywords_skipsAi_andRecordsScannedChars() {
+        session.onSegment(segment(0, "오늘은 산책을 했다"));
+        session.onComplete();
+
+        verify(riskDetectionService, never()).analyzeRiskWithAI(anyString(), anyList());
+        assertThat(meterRegistry.counter(StreamingRiskMonitor.METRIC_SCANNED_CHARS).count()).isEqualTo(10.0);
+        assertThat(meterRegistry.counter(StreamingRiskMonitor.METRIC_ESCALATED_CHARS).count()).isZero();
+    }
+
+    @Test
+    @DisplayName("위험 점수가 기준 미만이면 알림을 만들지 않는다")
+    void lowScore_createsNoAlert() {
+        when(riskDetectionService.analyzeRiskWithAI(anyString(), anyList())).thenReturn(result("LOW", 0.1));
+
+        session.onSegment(segment(0, "폭력 영화를 봤다"));
+
+        verify(riskDetectionService, never()).createRiskAlert(any(), any());
+    }
+}
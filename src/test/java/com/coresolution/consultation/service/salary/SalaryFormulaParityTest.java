@@ -0,0 +1,196 @@
+package com.coresolution.consultation.service.salary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * SalaryFormula 패리티 테스트 — 기대값은 표준 프로시저 {@code ProcessIntegratedSalaryCalculation} 본문(SSOT)을
+ * DECIMAL 변수 타입대로 손으로 따라 계산한 값이다. 미리보기는 {@code CalculateSalaryPreview} 와 그 뒤의 서비스
+ * 프리랜서 보정 기준이다. 프로시저가 바뀌면 이 값도 같이 고친다. 실제 프로시저 출력과의 상담사별 비교는
+ * {@link SalaryFormulaProcedureParityIntegrationTest} (로컬 MySQL) 가 맡는다.
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@DisplayName("SalaryFormula 프로시저 패리티")
+class SalaryFormulaParityTest {
+
+    private static final SalaryFormula.SpecialSupportPolicy SS_10000 =
+            new SalaryFormula.SpecialSupportPolicy(new BigDecimal("10000.00"), 10, true);
+
+    private static SalaryFormula.Input freelance(BigDecimal rate, Integer completed, boolean business,
+            List<SalaryFormula.Mapping> mappings) {
+        return new SalaryFormula.Input(22L, "FREELANCE", null, null, business, rate, completed == null ? 0 : completed,
+                completed, new BigDecimal("0.00"), mappings);
+    }
+
+    private static SalaryFormula.Input salaried(String type, String base, String hourlyRate, String hours) {
+        return new SalaryFormula.Input(7L, type, base == null ? null : new BigDecimal(base),
+                hourlyRate == null ? null : new BigDecimal(hourlyRate), false, null, 0, null, new BigDecimal(hours),
+                List.of());
+    }
+
+    private static SalaryFormula.Result calculate(SalaryFormula.Input input, SalaryFormula.SpecialSupportPolicy policy) {
+        return SalaryFormula.calculate(input, policy).orElseThrow();
+    }
+
+    @Test
+    @DisplayName("프리랜서: 등급 요율 × 완료 건수 + 특별지원금, 원천징수 3.3% 과세표준에 특별지원금 포함")
+    void freelance_withSpecialSupport() {
+        List<SalaryFormula.Mapping> mappings = List.of(
+                new SalaryFormula.Mapping(101L, 1L, 12, "PAY", false),
+                new SalaryFormula.Mapping(102L, 2L, 15, "CONFIRMED", true),
+                new SalaryFormula.Mapping(103L, 3L, 5, "PAY", false));
+
+        SalaryFormula.Result result = calculate(freelance(new BigDecimal("35000.00"), 10, false, mappings), SS_10000);
+
+        assertThat(result.consultationEarnings()).isEqualByComparingTo("350000.00");
+        assertThat(result.specialSupportAmount()).isEqualByComparingTo("10000.00");
+        assertThat(result.grossSalary()).isEqualByComparingTo("360000.00");
+        assertThat(result.taxAmount()).isEqualByComparingTo("11880.00");
+        assertThat(result.netSalary()).isEqualByComparingTo("348120.00");
+        assertThat(result.taxLines()).singleElement().satisfies(line -> {
+            assertThat(line.taxType()).isEqualTo("WITHHOLDING_TAX");
+            assertThat(line.baseAmount()).isEqualByComparingTo("360000.00");
+        });
+        assertThat(result.payoutMappings()).extracting(SalaryFormula.Mapping::mappingId).containsExactly(101L);
+    }
+
+    @Test
+    @DisplayName("프리랜서 사업자: 원천징수와 부가세 10% 를 모두 공제")
+    void freelance_businessRegistered_addsVat() {
+        SalaryFormula.Result result = calculate(
+                freelance(SalaryFormula.gradeRate("CONSULTANT_JUNIOR", Map.of()), 3, true, List.of()),
+                SalaryFormula.SpecialSupportPolicy.NONE);
+
+        assertThat(result.grossSalary()).isEqualByComparingTo("90000.00");
+        assertThat(result.taxAmount()).isEqualByComparingTo("11970.00");
+        assertThat(result.netSalary()).isEqualByComparingTo("78030.00");
+        assertThat(result.taxLines()).extracting(SalaryFormula.TaxLine::taxType)
+                .containsExactly("WITHHOLDING_TAX", "VAT");
+    }
+
+    @Test
+    @DisplayName("정규직: 기본급 + 시간급, 소득세 구간·지방소득세·4대보험 (세목 순서는 프로시저 INSERT 순)")
+    void regular_bracketsAndFourInsurance() {
+        SalaryFormula.Result result = calculate(salaried("REGULAR", "3000000.00", "10000.00", "12.50"),
+                SalaryFormula.SpecialSupportPolicy.NONE);
+
+        assertThat(result.hourlyEarnings()).isEqualByComparingTo("125000.00");
+        assertThat(result.grossSalary()).isEqualByComparingTo("3125000.00");
+        assertThat(result.taxAmount()).isEqualByComparingTo("812500.00");
+        assertThat(result.netSalary()).isEqualByComparingTo("2312500.00");
+        assertThat(result.taxLines()).extracting(SalaryFormula.TaxLine::taxType)
+                .containsExactly("LOCAL_INCOME_TAX", "INCOME_TAX", "FOUR_INSURANCE");
+        assertThat(result.taxLines().get(1).taxRate()).isEqualByComparingTo("0.15");
+    }
+
+    @Test
+    @DisplayName("정규직: 지방소득세 ROUND(x,0) 반올림, 4대보험 요율은 DECIMAL(5,4) 로 반올림된 값(건강 0.0355·장기요양 0.0055)")
+    void regular_localTaxRoundingAndDeclaredRatePrecision() {
+        SalaryFormula.Result result = calculate(salaried("REGULAR", "1000250.00", null, "0.00"),
+                SalaryFormula.SpecialSupportPolicy.NONE);
+
+        assertThat(result.taxLines()).extracting(SalaryFormula.TaxLine::taxAmount)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("6002.00"), new BigDecimal("60015.00"), new BigDecimal("95023.75"));
+        assertThat(result.taxAmount()).isEqualByComparingTo("161040.75");
+        assertThat(result.netSalary()).isEqualByComparingTo("839209.25");
+    }
+
+    @Test
+    @DisplayName("정규직·프리랜서 외 유형은 기본급만, 세금 없음")
+    void otherSalaryType_baseOnlyWithoutTax() {
+        SalaryFormula.Result result = calculate(salaried("CONTRACT", "900000.00", "10000.00", "3.00"),
+                SalaryFormula.SpecialSupportPolicy.NONE);
+
+        assertThat(result.grossSalary()).isEqualByComparingTo("900000.00");
+        assertThat(result.taxAmount()).isEqualByComparingTo("0.00");
+        assertThat(result.taxLines()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("프로시저가 NULL 산술로 빠지는 입력(일정 없는 프리랜서, 기본급 없는 정규직)은 계산하지 않는다")
+    void nullArithmeticInputs_fallBackToProcedure() {
+        assertThat(SalaryFormula.calculate(freelance(new BigDecimal("30000.00"), null, false, List.of()),
+                SalaryFormula.SpecialSupportPolicy.NONE)).isEmpty();
+        assertThat(SalaryFormula.calculate(salaried("REGULAR", null, "10000.00", "1.00"),
+                SalaryFormula.SpecialSupportPolicy.NONE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("특별지원금: NULL 회기·결제 상태는 금액에 들어가지만 지급 기록은 남기지 않는다, 결제 상태는 대소문자 무시")
+    void specialSupport_threeValuedLogic() {
+        List<SalaryFormula.Mapping> mappings = List.of(
+                new SalaryFormula.Mapping(201L, 1L, null, "PAY", false),
+                new SalaryFormula.Mapping(202L, 2L, 10, null, false),
+                new SalaryFormula.Mapping(203L, 3L, 10, "pay", false),
+                new SalaryFormula.Mapping(204L, 4L, 10, "PENDING", false));
+
+        SalaryFormula.Result result = calculate(freelance(new BigDecimal("30000.00"), 0, false, mappings), SS_10000);
+
+        assertThat(result.specialSupportAmount()).isEqualByComparingTo("30000.00");
+        assertThat(result.payoutMappings()).extracting(SalaryFormula.Mapping::mappingId).containsExactly(203L);
+    }
+
+    @Test
+    @DisplayName("등급 요율: CONSULTANT_* 는 *_RATE 코드로, 없거나 0 이하면 30000")
+    void gradeRate_mapsGradeAndDefaults() {
+        Map<String, BigDecimal> rates = Map.of("SENIOR_RATE", new BigDecimal("40000.00"),
+                "EXPERT_RATE", BigDecimal.ZERO);
+
+        assertThat(SalaryFormula.gradeRate("consultant_senior", rates)).isEqualByComparingTo("40000.00");
+        assertThat(SalaryFormula.gradeRate("CONSULTANT_EXPERT", rates)).isEqualByComparingTo("30000.00");
+        assertThat(SalaryFormula.gradeRate(null, rates)).isEqualByComparingTo("30000.00");
+        assertThat(SalaryFormula.freelanceRateCode("trainee")).isEqualTo("TRAINEE_RATE");
+    }
+
+    @Test
+    @DisplayName("미리보기: 총액은 특별지원금 제외, 정규직은 지방소득세 없이 소득세·4대보험만")
+    void preview_procedureSemantics() {
+        SalaryFormula.Preview freelancePreview = SalaryFormula.preview(
+                freelance(new BigDecimal("35000.00"), 10, false, List.of()),
+                SalaryFormula.SpecialSupportPolicy.NONE).orElseThrow();
+        SalaryFormula.Preview regularPreview = SalaryFormula.preview(
+                salaried("REGULAR", "3000000.00", "10000.00", "12.50"),
+                SalaryFormula.SpecialSupportPolicy.NONE).orElseThrow();
+
+        assertThat(freelancePreview.grossSalary()).isEqualByComparingTo("350000.00");
+        assertThat(freelancePreview.taxAmount()).isEqualByComparingTo("11550.00");
+        assertThat(freelancePreview.netSalary()).isEqualByComparingTo("338450.00");
+        assertThat(freelancePreview.consultationCount()).isEqualTo(10);
+        assertThat(freelancePreview.taxableGrossSalary()).isNull();
+        assertThat(regularPreview.grossSalary()).isEqualByComparingTo("3125000.00");
+        assertThat(regularPreview.taxAmount()).isEqualByComparingTo("765625.00");
+        assertThat(regularPreview.netSalary()).isEqualByComparingTo("2359375.00");
+        assertThat(regularPreview.consultationCount()).isZero();
+        assertThat(SalaryFormula.preview(freelance(new BigDecimal("30000.00"), null, false, List.of()), SS_10000))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("미리보기: 급여 유형이 정확히 FREELANCE 이고 특별지원금이 있으면 원천징수·부가세를 원 단위 내림으로 다시 계산")
+    void preview_freelanceSpecialSupportAdjustment() {
+        List<SalaryFormula.Mapping> mappings = List.of(new SalaryFormula.Mapping(101L, 1L, 12, "PAY", false));
+        SalaryFormula.Input exact = freelance(new BigDecimal("33333.00"), 1, true, mappings);
+        SalaryFormula.Input lowerCase = new SalaryFormula.Input(22L, "freelance", null, null, true,
+                new BigDecimal("33333.00"), 1, 1, new BigDecimal("0.00"), mappings);
+
+        SalaryFormula.Preview adjusted = SalaryFormula.preview(exact, SS_10000).orElseThrow();
+        SalaryFormula.Preview procedureOnly = SalaryFormula.preview(lowerCase, SS_10000).orElseThrow();
+
+        assertThat(adjusted.grossSalary()).isEqualByComparingTo("33333.00");
+        assertThat(adjusted.specialSupportAmount()).isEqualByComparingTo("10000.00");
+        assertThat(adjusted.taxableGrossSalary()).isEqualByComparingTo("43333.00");
+        assertThat(adjusted.taxAmount()).isEqualByComparingTo("5762");
+        assertThat(adjusted.netSalary()).isEqualByComparingTo("37571.00");
+        assertThat(procedureOnly.taxableGrossSalary()).isNull();
+        assertThat(procedureOnly.taxAmount()).isEqualByComparingTo("5763.29");
+        assertThat(procedureOnly.netSalary()).isEqualByComparingTo("37569.71");
+    }
+}
@@ -0,0 +1,154 @@
+package com.coresolution.consultation.service.salary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import com.coresolution.consultation.ConsultationManagementApplication;
+import com.coresolution.consultation.service.PlSqlSalaryManagementService;
+import com.coresolution.core.context.TenantContextHolder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SalaryFormula ↔ {@code ProcessIntegratedSalaryCalculation} 실측 패리티 (로컬 MySQL 전용).
+ *
+ * <p>{@link SalaryFormulaParityTest} 의 기대값은 프로시저 본문을 손으로 따라 계산한 값이라, 본문을 같은 식으로 잘못
+ * 읽으면 둘 다 틀린다. 이 테스트는 테넌트의 계산 대상 상담사마다 배치 입력으로 {@link SalaryFormula} 를 계산하고,
+ * 같은 상담사를 실제 프로시저로 계산해 총액·세금·실수령액·특별지원금·세목·지급 기록을 비교한다. 프로시저는 내부에서
+ * COMMIT 하므로 비교가 끝나면 프로시저가 넣은 계산·세목·지급 기록 행을 지운다.</p>
+ *
+ * <p>대상은 {@code -Dsalary.parity.tenant-id}, {@code -Dsalary.parity.period=yyyy-MM} (기본: 전월) 로 바꾼다.
+ * 그 월에 아직 확정이 없는 상담사만 비교한다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Slf4j
+@SpringBootTest(classes = ConsultationManagementApplication.class)
+@ActiveProfiles("local")
+@Tag("local-mysql")
+@DisplayName("SalaryFormula 프로시저 실측 패리티 (로컬 MySQL)")
+class SalaryFormulaProcedureParityIntegrationTest {
+
+    private static final String DEFAULT_TENANT_ID = "tenant-incheon-consultation-006";
+    private static final String TRIGGERED_BY = "PARITY_TEST";
+
+    @Autowired
+    private SalaryBatchStore salaryBatchStore;
+
+    @Autowired
+    private PlSqlSalaryManagementService plSqlSalaryManagementService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String tenantId;
+    private YearMonth period;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = System.getProperty("salary.parity.tenant-id", DEFAULT_TENANT_ID);
+        String configuredPeriod = System.getProperty("salary.parity.period");
+        period = configuredPeriod != null ? YearMonth.parse(configuredPeriod) : YearMonth.now().minusMonths(1);
+        TenantContextHolder.setTenantId(tenantId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContextHolder.clear();
+    }
+
+    @Test
+    @DisplayName("상담사마다 SalaryFormula 결과가 프로시저가 저장한 급여 계산·세목·지급 기록과 같다")
+    void formulaMatchesProcedurePerConsultant() {
+        LocalDate periodStart = period.atDay(1);
+        LocalDate periodEnd = period.atEndOfMonth();
+        SalaryBatchStore.TenantInputs inputs = salaryBatchStore.load(tenantId, period.toString(), periodStart,
+                periodEnd);
+
+        SoftAssertions softly = new SoftAssertions();
+        int compared = 0;
+        for (Long consultantId : inputs.consultantGrades().keySet()) {
+            SalaryBatchStore.Profile profile = inputs.profiles().get(consultantId);
+            if (profile == null || inputs.alreadyCalculated().contains(consultantId)) {
+                continue;
+            }
+            Optional<SalaryFormula.Result> expected = SalaryFormula.calculate(
+                    SetBasedSalaryBatchEngine.input(inputs, profile, inputs.scheduleStats()
+                            .getOrDefault(consultantId, SalaryBatchStore.ScheduleStats.NONE)),
+                    inputs.specialSupport());
+            if (expected.isEmpty()) {
+                continue;
+            }
+            Map<String, Object> procedure = plSqlSalaryManagementService.processIntegratedSalaryCalculation(
+                    consultantId, periodStart, periodEnd, TRIGGERED_BY);
+            Long calculationId = (Long) procedure.get("calculationId");
+            try {
+                assertThat(procedure.get("success")).as("procedure success: consultant %d, message %s",
+                        consultantId, procedure.get("message")).isEqualTo(true);
+                compare(softly, consultantId, expected.get(), procedure, calculationId);
+                compared++;
+            } finally {
+                deleteProcedureRows(calculationId);
+            }
+        }
+        log.info("[SalaryParity] tenantId={}, period={}, 비교한 상담사={}", tenantId, period, compared);
+        Assumptions.assumeTrue(compared > 0,
+                "tenant=" + tenantId + ", period=" + period + " 에 확정 전 계산 대상 상담사 필요 (로컬 DB 없으면 스킵)");
+        softly.assertAll();
+    }
+
+    private void compare(SoftAssertions softly, Long consultantId, SalaryFormula.Result expected,
+            Map<String, Object> procedure, Long calculationId) {
+        String who = "consultant " + consultantId;
+        softly.assertThat((BigDecimal) procedure.get("grossSalary")).as(who + " gross")
+                .isEqualByComparingTo(expected.grossSalary());
+        softly.assertThat((BigDecimal) procedure.get("taxAmount")).as(who + " tax")
+                .isEqualByComparingTo(expected.taxAmount());
+        softly.assertThat((BigDecimal) procedure.get("netSalary")).as(who + " net")
+                .isEqualByComparingTo(expected.netSalary());
+        BigDecimal specialSupport = (BigDecimal) procedure.get("specialSupportAmount");
+        softly.assertThat(specialSupport != null ? specialSupport : BigDecimal.ZERO).as(who + " special support")
+                .isEqualByComparingTo(expected.specialSupportAmount());
+
+        List<String> expectedLines = new ArrayList<>();
+        for (SalaryFormula.TaxLine line : expected.taxLines()) {
+            expectedLines.add(line.taxType() + "=" + line.taxAmount().stripTrailingZeros().toPlainString());
+        }
+        List<String> actualLines = jdbcTemplate.query("SELECT tax_type, tax_amount FROM salary_tax_calculations "
+                + "WHERE calculation_id = ? ORDER BY id", (rs, rowNum) -> rs.getString("tax_type") + "="
+                        + rs.getBigDecimal("tax_amount").stripTrailingZeros().toPlainString(), calculationId);
+        softly.assertThat(actualLines).as(who + " tax lines").containsExactlyElementsOf(expectedLines);
+
+        List<Long> payoutMappings = jdbcTemplate.queryForList("SELECT mapping_id FROM special_support_monthly_payouts "
+                + "WHERE salary_calculation_id = ? ORDER BY mapping_id", Long.class, calculationId);
+        softly.assertThat(payoutMappings).as(who + " payout mappings").containsExactlyElementsOf(
+                expected.payoutMappings().stream().map(SalaryFormula.Mapping::mappingId).sorted().toList());
+    }
+
+    private void deleteProcedureRows(Long calculationId) {
+        if (calculationId == null) {
+            return;
+        }
+        jdbcTemplate.update("DELETE FROM special_support_monthly_payouts WHERE salary_calculation_id = ?",
+                calculationId);
+        jdbcTemplate.update("DELETE FROM salary_tax_calculations WHERE calculation_id = ?", calculationId);
+        jdbcTemplate.update("DELETE FROM salary_calculations WHERE id = ?", calculationId);
+    }
+}
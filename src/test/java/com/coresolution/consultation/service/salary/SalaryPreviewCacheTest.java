@@ -0,0 +1,234 @@
+package com.coresolution.consultation.service.salary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import com.coresolution.consultation.config.SalaryPreviewProperties;
+import com.coresolution.consultation.entity.ScheduleSalaryContribution;
+import com.coresolution.consultation.service.PlSqlSalaryManagementService;
+import com.coresolution.core.context.TenantContextHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * SalaryPreviewCache 단위 테스트 — 적중, 일정 증감 반영, 규칙 버전·공유 세대 무효화, 커밋 전 변경 처리, 프로시저 폴백 검증
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SalaryPreviewCache 테스트")
+class SalaryPreviewCacheTest {
+
+    private static final String TENANT_ID = "tenant-a";
+    private static final Long CONSULTANT_ID = 4L;
+    private static final LocalDate START = LocalDate.of(2026, 9, 1);
+    private static final LocalDate END = LocalDate.of(2026, 9, 30);
+
+    @Mock
+    private SalaryPreviewStore store;
+
+    @Mock
+    private SalaryPreviewGenerationStore generationStore;
+
+    @Mock
+    private PlSqlSalaryManagementService plSqlSalaryManagementService;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private final SalaryPreviewProperties properties = new SalaryPreviewProperties();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SalaryPreviewCache cache;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(meterRegistryProvider.getIfAvailable()).thenReturn(meterRegistry);
+        lenient().when(generationStore.current(TENANT_ID)).thenReturn(generation(0));
+        cache = new SalaryPreviewCache(store, generationStore, plSqlSalaryManagementService, properties,
+                meterRegistryProvider);
+        TenantContextHolder.setTenantId(TENANT_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContextHolder.clear();
+    }
+
+    /** 프리랜서, 회당 30000, 9월 일정 2건 중 완료 1건. */
+    private void stubFreelance() {
+        SalaryBatchStore.Profile profile = new SalaryBatchStore.Profile(40L, CONSULTANT_ID, "FREELANCE", null, null,
+                false);
+        when(store.loadInputs(TENANT_ID, CONSULTANT_ID)).thenReturn(Optional.of(new SalaryPreviewStore.Inputs(
+                profile, new BigDecimal("30000.00"), List.of(), SalaryFormula.SpecialSupportPolicy.NONE)));
+        when(store.loadTally(TENANT_ID, CONSULTANT_ID, START, END))
+                .thenReturn(new SalaryPreviewStore.ScheduleTally(2, 1, new BigDecimal("2.0000")));
+    }
+
+    private static SalaryPreviewGenerationStore.Generation generation(long tenant) {
+        return new SalaryPreviewGenerationStore.Generation(tenant, 0);
+    }
+
+    private static ScheduleSalaryContribution completed(LocalDate date) {
+        return new ScheduleSalaryContribution(TENANT_ID, CONSULTANT_ID, date, true, new BigDecimal("1.0000"));
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter(SalaryPreviewCache.METRIC_PREVIEW, "result", result).count();
+    }
+
+    @Test
+    @DisplayName("같은 상담사·기간을 다시 요청하면 입력을 읽지 않고 보관한 결과를 돌려준다")
+    void preview_secondRequest_hitsCache() {
+        stubFreelance();
+
+        Map<String, Object> first = cache.preview(CONSULTANT_ID, START, END);
+        Map<String, Object> second = cache.preview(CONSULTANT_ID, START, END);
+
+        assertThat(first).containsEntry("success", true)
+                .containsEntry("message", SalaryPreviewCache.MESSAGE_SUCCESS)
+                .containsEntry("consultationCount", 1);
+        assertThat((BigDecimal) first.get("grossSalary")).isEqualByComparingTo("30000.00");
+        assertThat((BigDecimal) first.get("netSalary")).isEqualByComparingTo("29010.00");
+        assertThat(second).isEqualTo(first);
+        verify(store, times(1)).loadInputs(TENANT_ID, CONSULTANT_ID);
+        verifyNoInteractions(plSqlSalaryManagementService);
+        assertThat(count(SalaryPreviewCache.RESULT_MISS)).isEqualTo(1);
+        assertThat(count(SalaryPreviewCache.RESULT_HIT)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기간 안 일정 변경은 다시 읽지 않고 통계 증감으로 반영하고, 기간 밖 일정은 무시한다")
+    void scheduleChanged_appliesDeltaWithoutReload() {
+        stubFreelance();
+        cache.preview(CONSULTANT_ID, START, END);
+
+        cache.scheduleChanged(null, completed(LocalDate.of(2026, 9, 10)));
+        cache.scheduleChanged(null, completed(LocalDate.of(2026, 10, 1)));
+        Map<String, Object> updated = cache.preview(CONSULTANT_ID, START, END);
+
+        assertThat(updated).containsEntry("consultationCount", 2);
+        assertThat((BigDecimal) updated.get("grossSalary")).isEqualByComparingTo("60000.00");
+        verify(store, times(1)).loadTally(TENANT_ID, CONSULTANT_ID, START, END);
+        assertThat(count(SalaryPreviewCache.RESULT_INCREMENTAL)).isEqualTo(1);
+        assertThat(count(SalaryPreviewCache.RESULT_HIT)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 세대를 올리면 보관한 결과를 쓰지 않고 다시 계산한다")
+    void remoteGenerationBump_recomputes() {
+        stubFreelance();
+        cache.preview(CONSULTANT_ID, START, END);
+
+        when(generationStore.current(TENANT_ID)).thenReturn(generation(1));
+        cache.preview(CONSULTANT_ID, START, END);
+        cache.preview(CONSULTANT_ID, START, END);
+
+        verify(store, times(2)).loadInputs(TENANT_ID, CONSULTANT_ID);
+        assertThat(count(SalaryPreviewCache.RESULT_MISS)).isEqualTo(2);
+        assertThat(count(SalaryPreviewCache.RESULT_HIT)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이 인스턴스의 변경은 세대를 올리고, 바로 앞 세대 항목은 증감 반영 후 새 세대로 계속 쓴다")
+    void localChange_bumpsGenerationAndKeepsUpdatedEntry() {
+        stubFreelance();
+        cache.preview(CONSULTANT_ID, START, END);
+        when(generationStore.bump(TENANT_ID)).thenReturn(1L);
+
+        cache.scheduleChanged(null, completed(LocalDate.of(2026, 9, 10)));
+        when(generationStore.current(TENANT_ID)).thenReturn(generation(1));
+        Map<String, Object> updated = cache.preview(CONSULTANT_ID, START, END);
+
+        verify(generationStore).bump(TENANT_ID);
+        verify(store, times(1)).loadInputs(TENANT_ID, CONSULTANT_ID);
+        assertThat(updated).containsEntry("consultationCount", 2);
+        assertThat(count(SalaryPreviewCache.RESULT_HIT)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("세대를 읽지 못하면 계산 결과를 보관하지 않는다")
+    void generationUnavailable_notCached() {
+        stubFreelance();
+        when(generationStore.current(TENANT_ID)).thenReturn(null);
+
+        cache.preview(CONSULTANT_ID, START, END);
+        cache.preview(CONSULTANT_ID, START, END);
+
+        verify(store, times(2)).loadInputs(TENANT_ID, CONSULTANT_ID);
+        assertThat(count(SalaryPreviewCache.RESULT_HIT)).isZero();
+    }
+
+    @Test
+    @DisplayName("급여 규칙 공통코드가 바뀌면 규칙 버전이 올라 다시 계산한다")
+    void salaryRulesChanged_recomputes() {
+        stubFreelance();
+        cache.preview(CONSULTANT_ID, START, END);
+
+        cache.salaryRulesChanged(null);
+        cache.preview(CONSULTANT_ID, START, END);
+
+        verify(store, times(2)).loadInputs(TENANT_ID, CONSULTANT_ID);
+        assertThat(count(SalaryPreviewCache.RESULT_MISS)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("커밋 전 변경 중에 계산한 결과는 보관하지 않고, 롤백된 일정 변경은 반영하지 않는다")
+    void pendingChange_notCachedAndRollbackDiscarded() {
+        stubFreelance();
+        TransactionSynchronizationManager.initSynchronization();
+        List<TransactionSynchronization> synchronizations;
+        try {
+            cache.scheduleChanged(null, completed(LocalDate.of(2026, 9, 10)));
+            cache.preview(CONSULTANT_ID, START, END);
+            synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        Map<String, Object> afterRollback = cache.preview(CONSULTANT_ID, START, END);
+
+        verify(store, times(2)).loadInputs(TENANT_ID, CONSULTANT_ID);
+        assertThat(afterRollback).containsEntry("consultationCount", 1);
+        assertThat(count(SalaryPreviewCache.RESULT_INCREMENTAL)).isZero();
+    }
+
+    @Test
+    @DisplayName("프로시저 실패 메시지 대상이거나 캐시가 꺼져 있으면 기존 프로시저 미리보기를 호출한다")
+    void preview_fallsBackToProcedure() {
+        Map<String, Object> procedureResult = Map.of("success", false, "message", "상담사를 찾을 수 없습니다.");
+        when(plSqlSalaryManagementService.calculateSalaryPreview(anyLong(), any(), any())).thenReturn(procedureResult);
+        when(store.loadInputs(anyString(), anyLong())).thenReturn(Optional.empty());
+
+        assertThat(cache.preview(CONSULTANT_ID, START, END)).isEqualTo(procedureResult);
+        properties.setEnabled(false);
+        assertThat(cache.preview(CONSULTANT_ID, START, END)).isEqualTo(procedureResult);
+
+        verify(store, times(1)).loadInputs(TENANT_ID, CONSULTANT_ID);
+        verify(plSqlSalaryManagementService, times(2)).calculateSalaryPreview(CONSULTANT_ID, START, END);
+        assertThat(count(SalaryPreviewCache.RESULT_FALLBACK)).isEqualTo(1);
+    }
+}
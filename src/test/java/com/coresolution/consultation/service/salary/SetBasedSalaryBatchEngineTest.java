@@ -0,0 +1,151 @@
+package com.coresolution.consultation.service.salary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * SetBasedSalaryBatchEngine 단위 테스트 — 프로시저와 같은 검증 메시지, NULL 산술 입력 폴백, 저장 실패 시 전체 폴백 검증
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("SetBasedSalaryBatchEngine 테스트")
+class SetBasedSalaryBatchEngineTest {
+
+    private static final String TENANT_ID = "tenant-a";
+    private static final LocalDate START = LocalDate.of(2026, 9, 1);
+    private static final LocalDate END = LocalDate.of(2026, 9, 30);
+
+    @Mock
+    private SalaryBatchStore store;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SetBasedSalaryBatchEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(meterRegistryProvider.getIfAvailable()).thenReturn(meterRegistry);
+        engine = new SetBasedSalaryBatchEngine(store, transactionManager, meterRegistryProvider);
+    }
+
+    /**
+     * 1: 대상 아님, 2: 이미 확정, 3: 프로필 없음, 4: 프리랜서 정상, 5: 일정 없는 프리랜서(폴백).
+     */
+    private void stubInputs() {
+        Map<Long, String> grades = new HashMap<>();
+        grades.put(2L, "CONSULTANT_JUNIOR");
+        grades.put(3L, null);
+        grades.put(4L, "CONSULTANT_SENIOR");
+        grades.put(5L, "CONSULTANT_JUNIOR");
+        Map<Long, SalaryBatchStore.Profile> profiles = Map.of(
+                2L, profile(2L), 4L, profile(4L), 5L, profile(5L));
+        Map<Long, SalaryBatchStore.ScheduleStats> stats = Map.of(
+                4L, new SalaryBatchStore.ScheduleStats(12, 10, new BigDecimal("10.00")));
+        when(store.load(TENANT_ID, "2026-09", START, END)).thenReturn(new SalaryBatchStore.TenantInputs(grades,
+                Set.of(2L), profiles, stats, Map.of(), Map.of("SENIOR_RATE", new BigDecimal("40000.00")),
+                SalaryFormula.SpecialSupportPolicy.NONE));
+    }
+
+    private static SalaryBatchStore.Profile profile(Long consultantId) {
+        return new SalaryBatchStore.Profile(consultantId * 10, consultantId, "FREELANCE", null, null, false);
+    }
+
+    @Test
+    @DisplayName("상담사마다 프로시저 순서로 검증하고, 계산된 상담사만 한 번에 저장한다")
+    @SuppressWarnings("unchecked")
+    void run_validatesThenSavesInOneBatch() {
+        stubInputs();
+        when(store.save(eq(TENANT_ID), eq("2026-09"), eq(START), eq(END), eq("BATCH_SYSTEM"), any(), anyList()))
+                .thenReturn(Map.of(4L, 900L));
+
+        SetBasedSalaryBatchEngine.BatchRun run = engine.run(TENANT_ID, List.of(1L, 2L, 3L, 4L, 5L, 4L), START,
+                END, "BATCH_SYSTEM");
+
+        assertThat(run.outcomes()).extracting(SetBasedSalaryBatchEngine.Outcome::consultantId,
+                SetBasedSalaryBatchEngine.Outcome::message).containsExactly(
+                        tuple(1L, SetBasedSalaryBatchEngine.MESSAGE_CONSULTANT_NOT_FOUND),
+                        tuple(2L, SetBasedSalaryBatchEngine.duplicateMessage("2026-09")),
+                        tuple(3L, SetBasedSalaryBatchEngine.MESSAGE_PROFILE_NOT_FOUND),
+                        tuple(4L, SetBasedSalaryBatchEngine.MESSAGE_SUCCESS));
+        assertThat(run.outcomes().get(3).calculationId()).isEqualTo(900L);
+        assertThat(run.fallbackConsultantIds()).containsExactly(5L);
+
+        ArgumentCaptor<List<SalaryBatchStore.CalculationRow>> rows = ArgumentCaptor.forClass(List.class);
+        verify(store).save(anyString(), anyString(), any(), any(), anyString(), any(), rows.capture());
+        assertThat(rows.getValue()).singleElement().satisfies(row -> {
+            assertThat(row.profile().consultantId()).isEqualTo(4L);
+            assertThat(row.result().grossSalary()).isEqualByComparingTo("400000.00");
+        });
+        verify(transactionManager).commit(any());
+        assertThat(meterRegistry.timer(SetBasedSalaryBatchEngine.METRIC_TENANT_BATCH, "outcome",
+                SetBasedSalaryBatchEngine.OUTCOME_SAVED).count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("배치 저장이 실패하면 롤백하고 계산한 상담사를 모두 프로시저 폴백으로 넘긴다")
+    void run_saveFailure_fallsBackForComputedConsultants() {
+        stubInputs();
+        when(store.save(anyString(), anyString(), any(), any(), anyString(), any(), anyList()))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        SetBasedSalaryBatchEngine.BatchRun run = engine.run(TENANT_ID, List.of(4L, 5L), START, END,
+                "BATCH_SYSTEM");
+
+        assertThat(run.outcomes()).isEmpty();
+        assertThat(run.fallbackConsultantIds()).containsExactlyInAnyOrder(4L, 5L);
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        assertThat(meterRegistry.timer(SetBasedSalaryBatchEngine.METRIC_TENANT_BATCH, "outcome",
+                SetBasedSalaryBatchEngine.OUTCOME_FALLBACK).count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기간이 뒤집히면 입력을 읽지 않고 전원 프로시저와 같은 메시지로 실패한다")
+    void run_invalidPeriod_failsWithoutLoading() {
+        SetBasedSalaryBatchEngine.BatchRun run = engine.run(TENANT_ID, List.of(4L), END, START, "BATCH_SYSTEM");
+
+        assertThat(run.outcomes()).singleElement().satisfies(outcome -> {
+            assertThat(outcome.success()).isFalse();
+            assertThat(outcome.message()).isEqualTo(SetBasedSalaryBatchEngine.MESSAGE_INVALID_PERIOD);
+        });
+        verifyNoInteractions(store);
+    }
+}
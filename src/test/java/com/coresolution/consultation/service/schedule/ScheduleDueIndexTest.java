@@ -0,0 +1,165 @@
+package com.coresolution.consultation.service.schedule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import com.coresolution.consultation.config.ScheduleDueIndexProperties;
+import com.coresolution.consultation.constant.ScheduleStatus;
+import com.coresolution.consultation.entity.Schedule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * ScheduleDueIndex 단위 테스트 — 완료 시각 규칙, 커밋 후 갱신, 도달 순 꺼내기, 롤백 재확인, 대사 주기, 기동 적재 검증
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@DisplayName("ScheduleDueIndex 테스트")
+class ScheduleDueIndexTest {
+
+    private static final String TENANT_ID = "tenant-a";
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 19);
+
+    private JdbcTemplate jdbcTemplate;
+    private ScheduleDueIndexProperties properties;
+    private ScheduleDueIndex index;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        properties = new ScheduleDueIndexProperties();
+        index = new ScheduleDueIndex(jdbcTemplate, properties);
+    }
+
+    private static Schedule schedule(long id, ScheduleStatus status, LocalTime endTime) {
+        Schedule schedule = new Schedule();
+        schedule.setId(id);
+        schedule.setTenantId(TENANT_ID);
+        schedule.setDate(DAY);
+        schedule.setEndTime(endTime);
+        schedule.setStatus(status);
+        return schedule;
+    }
+
+    @Test
+    @DisplayName("확정 일정은 종료 시간, 예약·진행중 일정은 다음 날 0시가 완료 시각이고 그 밖의 상태는 대상이 아니다")
+    void dueAt_matchesLegacyScanConditions() {
+        assertThat(ScheduleDueIndex.dueAt(DAY, LocalTime.of(11, 0), ScheduleStatus.CONFIRMED))
+                .isEqualTo(DAY.atTime(11, 0));
+        assertThat(ScheduleDueIndex.dueAt(DAY, LocalTime.of(11, 0), ScheduleStatus.BOOKED))
+                .isEqualTo(DAY.plusDays(1).atStartOfDay());
+        assertThat(ScheduleDueIndex.dueAt(DAY, LocalTime.of(11, 0), ScheduleStatus.IN_PROGRESS))
+                .isEqualTo(DAY.plusDays(1).atStartOfDay());
+        assertThat(ScheduleDueIndex.dueAt(DAY, LocalTime.of(11, 0), ScheduleStatus.COMPLETED)).isNull();
+        Schedule deleted = schedule(1L, ScheduleStatus.CONFIRMED, LocalTime.of(11, 0));
+        deleted.setIsDeleted(true);
+        assertThat(ScheduleDueIndex.dueAt(deleted)).isNull();
+    }
+
+    @Test
+    @DisplayName("도달한 일정만 완료 시각 순으로 batchSize 만큼 꺼내고, 취소된 일정은 색인에서 빠진다")
+    void pollDue_returnsReachedInOrderAndDropsCancelled() {
+        properties.setBatchSize(2);
+        index.scheduleChanged(schedule(3L, ScheduleStatus.CONFIRMED, LocalTime.of(12, 0)));
+        index.scheduleChanged(schedule(1L, ScheduleStatus.CONFIRMED, LocalTime.of(10, 0)));
+        index.scheduleChanged(schedule(2L, ScheduleStatus.CONFIRMED, LocalTime.of(11, 0)));
+        index.scheduleChanged(schedule(4L, ScheduleStatus.CONFIRMED, LocalTime.of(18, 0)));
+        index.scheduleChanged(schedule(2L, ScheduleStatus.CANCELLED, LocalTime.of(11, 0)));
+
+        LocalDateTime now = DAY.atTime(13, 0);
+        assertThat(index.pollDue(TENANT_ID, now)).containsExactly(1L, 3L);
+        assertThat(index.pollDue(TENANT_ID, now)).isEmpty();
+        assertThat(index.size(TENANT_ID)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안 변경은 커밋 후에만 색인에 반영한다")
+    void scheduleChanged_appliesAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        List<TransactionSynchronization> synchronizations;
+        try {
+            index.scheduleChanged(schedule(1L, ScheduleStatus.CONFIRMED, LocalTime.of(10, 0)));
+            assertThat(index.size(TENANT_ID)).isZero();
+            synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(index.pollDue(TENANT_ID, DAY.atTime(10, 30))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("꺼낸 트랜잭션이 롤백되면 바로 다시 꺼내지 않고 재확인 간격 뒤에 다시 꺼낸다")
+    void pollDue_rollbackRechecksLater() {
+        properties.setRecordRecheckInterval(Duration.ofMinutes(10));
+        index.scheduleChanged(schedule(1L, ScheduleStatus.CONFIRMED, LocalTime.of(10, 0)));
+        LocalDateTime now = DAY.atTime(10, 30);
+
+        TransactionSynchronizationManager.initSynchronization();
+        List<TransactionSynchronization> synchronizations;
+        try {
+            assertThat(index.pollDue(TENANT_ID, now)).containsExactly(1L);
+            synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(index.pollDue(TENANT_ID, now.plusMinutes(5))).isEmpty();
+        assertThat(index.pollDue(TENANT_ID, now.plusMinutes(10))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("대사는 테넌트 첫 호출과 주기 경과 시에만 필요하고, 대사가 다룬 도달 일정은 재확인 간격 뒤로 미룬다")
+    void reconciliation_runsPerIntervalAndPostponesHandled() {
+        properties.setReconcileInterval(Duration.ofHours(6));
+        index.scheduleChanged(schedule(1L, ScheduleStatus.CONFIRMED, LocalTime.of(10, 0)));
+        LocalDateTime now = DAY.atTime(10, 30);
+
+        assertThat(index.reconciliationDue(TENANT_ID, now)).isTrue();
+        index.reconciled(TENANT_ID, now);
+
+        assertThat(index.reconciliationDue(TENANT_ID, now.plusHours(1))).isFalse();
+        assertThat(index.reconciliationDue(TENANT_ID, now.plusHours(6))).isTrue();
+        assertThat(index.tenantsNeedingWork(now.plusMinutes(1))).isEmpty();
+        assertThat(index.tenantsNeedingWork(now.plusMinutes(10))).containsExactly(TENANT_ID);
+    }
+
+    @Test
+    @DisplayName("기동 적재는 미완료 일정을 테넌트별로 올리고 적재 완료를 표시한다")
+    void load_readsOpenSchedules() throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString("tenant_id")).thenReturn(TENANT_ID);
+        when(rs.getObject("date", LocalDate.class)).thenReturn(DAY);
+        when(rs.getObject("end_time", LocalTime.class)).thenReturn(LocalTime.of(10, 0));
+        when(rs.getString("status")).thenReturn("CONFIRMED");
+        when(rs.getLong("id")).thenReturn(7L);
+        doAnswer(inv -> {
+            ((RowCallbackHandler) inv.getArgument(1)).processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+
+        assertThat(index.isLoaded()).isFalse();
+        index.load();
+
+        assertThat(index.isLoaded()).isTrue();
+        assertThat(index.pollDue(TENANT_ID, DAY.atTime(10, 1))).containsExactly(7L);
+    }
+}
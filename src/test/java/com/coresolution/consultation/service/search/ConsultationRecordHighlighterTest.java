@@ -0,0 +1,77 @@
+package com.coresolution.consultation.service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 상담일지 검색어 해석·하이라이트 단위 테스트
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@DisplayName("ConsultationRecordSearchQuery / ConsultationRecordHighlighter 테스트")
+class ConsultationRecordHighlighterTest {
+
+    @Test
+    @DisplayName("BOOLEAN MODE 연산자는 제거되고 검색어마다 필수 구문으로 묶인다")
+    void parse_stripsOperators_andRequiresEveryTerm() {
+        ConsultationRecordSearchQuery query = ConsultationRecordSearchQuery.parse(" +우울감* (불면) \"CBT\" 우울감 ", 2, 8);
+
+        assertThat(query.terms()).containsExactly("우울감", "불면", "cbt");
+        assertThat(query.toBooleanModeQuery()).isEqualTo("+\"우울감\" +\"불면\" +\"cbt\"");
+    }
+
+    @Test
+    @DisplayName("최소 길이 미만 검색어만 있으면 색인 불가 — 하이라이트는 원본 검색어 사용")
+    void parse_shortTermsOnly_isNotIndexable() {
+        ConsultationRecordSearchQuery query = ConsultationRecordSearchQuery.parse("불", 2, 8);
+
+        assertThat(query.isIndexable()).isFalse();
+        assertThat(query.highlightTerms()).containsExactly("불");
+    }
+
+    @Test
+    @DisplayName("검색어 수는 상한에서 잘린다")
+    void parse_capsTermCount() {
+        ConsultationRecordSearchQuery query = ConsultationRecordSearchQuery.parse("가나 다라 마바 사아", 2, 2);
+
+        assertThat(query.terms()).containsExactly("가나", "다라");
+    }
+
+    @Test
+    @DisplayName("일치 구간은 mark 로 감싸고 본문은 HTML 이스케이프")
+    void highlight_marksMatches_andEscapesText() {
+        String snippet = ConsultationRecordHighlighter.highlight("<b>불면</b> 호소, 불면 지속", List.of("불면"), 120);
+
+        assertThat(snippet).isEqualTo("&lt;b&gt;<mark>불면</mark>&lt;/b&gt; 호소, <mark>불면</mark> 지속");
+    }
+
+    @Test
+    @DisplayName("겹치는 검색어 구간은 하나로 합치고 대소문자를 무시한다")
+    void highlight_mergesOverlappingRanges_caseInsensitive() {
+        String snippet = ConsultationRecordHighlighter.highlight("CBT기법 적용", List.of("cbt", "bt기법"), 120);
+
+        assertThat(snippet).isEqualTo("<mark>CBT기법</mark> 적용");
+    }
+
+    @Test
+    @DisplayName("긴 본문은 첫 일치 주변만 잘라 양끝에 말줄임표를 붙인다")
+    void highlight_longText_isWindowedAroundFirstMatch() {
+        String text = "가".repeat(100) + "공황" + "나".repeat(100);
+
+        String snippet = ConsultationRecordHighlighter.highlight(text, List.of("공황"), 20);
+
+        assertThat(snippet).startsWith("…").endsWith("…").contains("<mark>공황</mark>");
+        assertThat(snippet.replace("<mark>", "").replace("</mark>", "")).hasSize(22);
+    }
+
+    @Test
+    @DisplayName("일치가 없으면 null")
+    void highlight_noMatch_returnsNull() {
+        assertThat(ConsultationRecordHighlighter.highlight("수면 양호", List.of("불안"), 120)).isNull();
+        assertThat(ConsultationRecordHighlighter.highlight(null, List.of("불안"), 120)).isNull();
+    }
+}
@@ -0,0 +1,203 @@
+package com.coresolution.consultation.service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.sql.Date;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import com.coresolution.consultation.config.ConsultationRecordSearchProperties;
+import com.coresolution.consultation.entity.ConsultationRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * ConsultationRecordSearchIndex 단위 테스트 — 색인 갱신·검색 대체 조건·재색인 구간 처리 검증
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("ConsultationRecordSearchIndex 테스트")
+class ConsultationRecordSearchIndexTest {
+
+    private static final String TENANT_ID = "tenant-search";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ConsultationRecordSearchProperties properties;
+    private ConsultationRecordSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ConsultationRecordSearchProperties();
+        index = new ConsultationRecordSearchIndex(properties, jdbcTemplate);
+    }
+
+    private static ConsultationRecord record(boolean deleted) {
+        ConsultationRecord record = new ConsultationRecord();
+        record.setId(7L);
+        record.setTenantId(TENANT_ID);
+        record.setConsultationId(70L);
+        record.setConsultantId(3L);
+        record.setClientId(4L);
+        record.setSessionDate(LocalDate.of(2026, 10, 19));
+        record.setMainIssues("수면 문제와 불안");
+        record.setIsDeleted(deleted);
+        return record;
+    }
+
+    private static ConsultationRecordSearchQuery query(String keyword) {
+        return ConsultationRecordSearchQuery.parse(keyword, 2, 8);
+    }
+
+    @Test
+    @DisplayName("저장된 상담일지는 upsert, 삭제 상태면 문서 제거")
+    void index_upsertsLiveRecord_andRemovesDeletedRecord() {
+        index.index(record(false));
+        index.index(record(true));
+
+        verify(jdbcTemplate).update(startsWith("INSERT INTO consultation_record_search_docs"), eq(TENANT_ID), eq(7L),
+                eq(70L), eq(3L), eq(4L), any(Date.class), eq("수면 문제와 불안"), any(), any(), any());
+        verify(jdbcTemplate).update(startsWith("DELETE FROM consultation_record_search_docs"), eq(TENANT_ID), eq(7L));
+    }
+
+    @Test
+    @DisplayName("색인 쓰기 실패는 상담일지 저장을 막지 않는다")
+    void index_failure_isSwallowed() {
+        when(jdbcTemplate.update(anyString(), any(Object[].class)))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+
+        assertThatCode(() -> index.index(record(false))).doesNotThrowAnyException();
+        assertThatCode(() -> index.remove(TENANT_ID, 7L)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("비활성이면 색인·검색 모두 건너뛴다")
+    void disabled_skipsIndexAndSearch() {
+        properties.setEnabled(false);
+
+        index.index(record(false));
+        Optional<Page<ConsultationRecordSearchHit>> result = index.search(TENANT_ID,
+                ConsultationRecordSearchIndex.Owner.CONSULTANT, 3L, query("불안"), PageRequest.of(0, 20));
+
+        assertThat(result).isEmpty();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("최소 길이 미만 검색어는 색인 조회 없이 대체 검색으로")
+    void shortKeyword_fallsBackWithoutQuerying() {
+        Optional<Page<ConsultationRecordSearchHit>> result = index.search(TENANT_ID,
+                ConsultationRecordSearchIndex.Owner.CONSULTANT, 3L, query("불"), PageRequest.of(0, 20));
+
+        assertThat(result).isEmpty();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("FULLTEXT 조회 실패(색인 미생성 등)는 대체 검색으로")
+    @SuppressWarnings("unchecked")
+    void searchFailure_fallsBack() {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class)))
+                .thenThrow(new BadSqlGrammarException("search", "MATCH", new SQLException("no fulltext")));
+
+        Optional<Page<ConsultationRecordSearchHit>> result = index.search(TENANT_ID,
+                ConsultationRecordSearchIndex.Owner.CLIENT, 4L, query("불안"), PageRequest.of(0, 20));
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("색인 검색은 테넌트·범위 조건과 관련도 정렬로 조회")
+    @SuppressWarnings("unchecked")
+    void search_queriesTenantScopedMatch_orderedByRelevance() {
+        ConsultationRecordSearchHit hit = new ConsultationRecordSearchHit(7L, 70L, 3L, 4L,
+                LocalDate.of(2026, 10, 19), 1.5, Map.of());
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).thenReturn(List.of(hit));
+
+        Optional<Page<ConsultationRecordSearchHit>> result = index.search(TENANT_ID,
+                ConsultationRecordSearchIndex.Owner.CONSULTANT, 3L, query("불안 수면"), PageRequest.of(0, 20));
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getContent()).containsExactly(hit);
+        assertThat(result.get().getTotalElements()).isEqualTo(1L);
+        verify(jdbcTemplate).query(
+                argThat((String sql) -> sql.contains("tenant_id = ? AND consultant_id = ?")
+                        && sql.contains("IN BOOLEAN MODE") && sql.contains("ORDER BY score DESC")),
+                any(RowMapper.class), eq("+\"불안\" +\"수면\""), eq(TENANT_ID), eq(3L), eq("+\"불안\" +\"수면\""),
+                eq(20), eq(0L));
+        // 첫 페이지가 덜 찼으면 COUNT 질의를 생략
+        verify(jdbcTemplate, never()).queryForObject(startsWith("SELECT COUNT(*)"), eq(Long.class), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("LIKE 대체 결과도 필드별 하이라이트를 채운다")
+    void toHit_buildsHighlightsFromEntity() {
+        ConsultationRecordSearchHit hit = index.toHit(record(false), query("불"));
+
+        assertThat(hit.score()).isZero();
+        assertThat(hit.highlights()).containsOnlyKeys(ConsultationRecordSearchIndex.FIELD_MAIN_ISSUES);
+        assertThat(hit.highlights().get(ConsultationRecordSearchIndex.FIELD_MAIN_ISSUES))
+                .isEqualTo("수면 문제와 <mark>불</mark>안");
+    }
+
+    @Test
+    @DisplayName("재색인은 id 구간마다 upsert·정리 SQL 을 실행")
+    void rebuild_walksIdRangesInBatches() {
+        properties.setRebuildBatchSize(100);
+        Map<String, Object> range = new HashMap<>();
+        range.put("min_id", 1L);
+        range.put("max_id", 250L);
+        when(jdbcTemplate.queryForMap(anyString(), eq(TENANT_ID), eq(TENANT_ID))).thenReturn(range);
+        when(jdbcTemplate.update(startsWith("INSERT INTO"), eq(TENANT_ID), any(), any())).thenReturn(10);
+        when(jdbcTemplate.update(startsWith("DELETE d"), eq(TENANT_ID), any(), any())).thenReturn(1);
+
+        ConsultationRecordSearchIndex.RebuildResult result = index.rebuild(TENANT_ID);
+
+        assertThat(result.upserted()).isEqualTo(30);
+        assertThat(result.removed()).isEqualTo(3);
+        verify(jdbcTemplate).update(startsWith("INSERT INTO"), eq(TENANT_ID), eq(201L), eq(300L));
+        verify(jdbcTemplate, times(3)).update(startsWith("DELETE d"), eq(TENANT_ID), any(), any());
+    }
+
+    @Test
+    @DisplayName("상담일지·문서가 없는 테넌트는 재색인할 구간이 없다")
+    void rebuild_emptyTenant_isNoop() {
+        Map<String, Object> range = new HashMap<>();
+        range.put("min_id", null);
+        range.put("max_id", null);
+        when(jdbcTemplate.queryForMap(anyString(), eq(TENANT_ID), eq(TENANT_ID))).thenReturn(range);
+
+        assertThat(index.rebuild(TENANT_ID)).isEqualTo(new ConsultationRecordSearchIndex.RebuildResult(TENANT_ID, 0, 0));
+        verify(jdbcTemplate, never()).update(anyString(), eq(TENANT_ID), any(), any());
+    }
+}
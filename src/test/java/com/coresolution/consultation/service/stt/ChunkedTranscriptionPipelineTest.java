@@ -0,0 +1,220 @@
+package com.coresolution.consultation.service.stt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.ObjectProvider;
+import com.coresolution.consultation.config.SttPipelineProperties;
+import com.coresolution.consultation.entity.ConsultationAudioFile;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * ChunkedTranscriptionPipeline 단위 테스트 — 합성 녹음과 가짜 인식기로 겹침 중복 제거, 순서 전달, 체크포인트 이어하기,
+ * 청크 실패 처리 검증
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("ChunkedTranscriptionPipeline 테스트")
+class ChunkedTranscriptionPipelineTest {
+
+    private static final String TENANT_ID = "tenant-a";
+    private static final long AUDIO_FILE_ID = 7L;
+    private static final int SENTENCES = 20;
+    private static final int WORDS_PER_SENTENCE = 5;
+    private static final int SENTENCE_GAP_MILLIS = 2000;
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private TranscriptionCheckpointStore checkpointStore;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private SttPipelineProperties properties;
+    private SilenceChunker chunker;
+    private SimpleMeterRegistry meterRegistry;
+    private FakeRecognizer recognizer;
+    private ChunkedTranscriptionPipeline pipeline;
+    private ConsultationAudioFile audioFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        properties = new SttPipelineProperties();
+        properties.setMinDuration(Duration.ofSeconds(10));
+        properties.setTargetChunk(Duration.ofSeconds(6));
+        properties.setMinChunk(Duration.ofSeconds(3));
+        properties.setMaxChunk(Duration.ofSeconds(9));
+        chunker = new SilenceChunker(properties);
+        when(checkpointStore.load(anyString(), anyLong(), anyString())).thenReturn(Map.of());
+        meterRegistry = new SimpleMeterRegistry();
+        when(meterRegistryProvider.getIfAvailable()).thenReturn(meterRegistry);
+        recognizer = new FakeRecognizer();
+        pipeline = new ChunkedTranscriptionPipeline(properties, chunker, recognizer, checkpointStore,
+                meterRegistryProvider, Runnable::run);
+
+        Path wav = SyntheticSpeech.writeWav(tempDir.resolve("session.wav"), SENTENCES, WORDS_PER_SENTENCE,
+                SENTENCE_GAP_MILLIS);
+        audioFile = new ConsultationAudioFile();
+        audioFile.setId(AUDIO_FILE_ID);
+        audioFile.setTenantId(TENANT_ID);
+        audioFile.setFilePath(wav.toString());
+    }
+
+    private static String expectedText() {
+        return IntStream.range(0, SENTENCES * WORDS_PER_SENTENCE).mapToObj(i -> "w" + i + ".")
+                .collect(Collectors.joining(" "));
+    }
+
+    private double chunkCount(String result) {
+        return meterRegistry.counter(ChunkedTranscriptionPipeline.METRIC_CHUNKS, "result", result).count();
+    }
+
+    @Test
+    @DisplayName("겹침 구간 중복 단어를 지우고 녹음 기준 시각·전체 순번으로 순서대로 전달한다")
+    void transcribe_stitchesChunksInOrder() throws Exception {
+        List<TranscriptSegment> delivered = new ArrayList<>();
+
+        ChunkedTranscriptionPipeline.Result result = pipeline.transcribe(audioFile, delivered::add).orElseThrow();
+
+        AudioChunkPlan plan = chunker.plan(Path.of(audioFile.getFilePath())).orElseThrow();
+        assertThat(result.text()).isEqualTo(expectedText());
+        assertThat(result.chunkCount()).isEqualTo(plan.chunks().size()).isGreaterThan(5);
+        assertThat(result.segmentCount()).isEqualTo(SENTENCES * WORDS_PER_SENTENCE);
+        assertThat(result.averageConfidence()).isCloseTo(0.9, within(1e-6));
+        assertThat(result.resumedChunks()).isZero();
+        assertThat(result.provider()).isEqualTo(FakeRecognizer.PROVIDER);
+        assertThat(delivered).hasSize(SENTENCES * WORDS_PER_SENTENCE);
+        for (int i = 0; i < delivered.size(); i++) {
+            TranscriptSegment segment = delivered.get(i);
+            assertThat(segment.sequence()).isEqualTo(i);
+            assertThat(segment.text()).isEqualTo("w" + i + ".");
+            assertThat(segment.startMs())
+                    .isEqualTo(SyntheticSpeech.wordStartMillis(i, WORDS_PER_SENTENCE, SENTENCE_GAP_MILLIS));
+        }
+        verify(checkpointStore, times(plan.chunks().size()))
+                .save(eq(TENANT_ID), eq(AUDIO_FILE_ID), eq(plan.fingerprint()), any(), anyList());
+        assertThat(chunkCount("recognized")).isEqualTo(plan.chunks().size());
+    }
+
+    @Test
+    @DisplayName("같은 계획의 체크포인트가 있는 청크는 인식하지 않고 이어서 전사한다")
+    void transcribe_resumesFromCheckpoints() throws Exception {
+        AudioChunkPlan plan = chunker.plan(Path.of(audioFile.getFilePath())).orElseThrow();
+        Map<Integer, List<TranscriptSegment>> restored = Map.of(
+                0, SyntheticSpeech.decode(plan.read(plan.chunks().get(0))),
+                1, SyntheticSpeech.decode(plan.read(plan.chunks().get(1))));
+        when(checkpointStore.load(TENANT_ID, AUDIO_FILE_ID, plan.fingerprint())).thenReturn(restored);
+
+        ChunkedTranscriptionPipeline.Result result =
+                pipeline.transcribe(audioFile, TranscriptSegmentListener.NONE).orElseThrow();
+
+        assertThat(result.text()).isEqualTo(expectedText());
+        assertThat(result.resumedChunks()).isEqualTo(2);
+        assertThat(recognizer.calls.get()).isEqualTo(plan.chunks().size() - 2);
+        verify(checkpointStore, never()).save(anyString(), anyLong(), anyString(),
+                argThat(chunk -> chunk.index() < 2), anyList());
+        assertThat(chunkCount("resumed")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("청크가 끝내 실패하면 끝난 청크 체크포인트만 남기고 남은 청크는 건너뛴 뒤 실패를 던진다")
+    void transcribe_failedChunk_keepsFinishedCheckpoints() throws Exception {
+        AudioChunkPlan plan = chunker.plan(Path.of(audioFile.getFilePath())).orElseThrow();
+        String poisonedWord = SyntheticSpeech.decode(plan.read(plan.chunks().get(2))).get(0).text();
+        recognizer.failWhen(audio -> {
+            List<TranscriptSegment> words = SyntheticSpeech.decode(audio);
+            return !words.isEmpty() && words.get(0).text().equals(poisonedWord);
+        });
+
+        assertThatThrownBy(() -> pipeline.transcribe(audioFile, TranscriptSegmentListener.NONE))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("청크 2");
+
+        verify(checkpointStore, times(2)).save(anyString(), anyLong(), anyString(), any(), anyList());
+        verify(checkpointStore, never()).save(anyString(), anyLong(), anyString(),
+                argThat(chunk -> chunk.index() >= 2), anyList());
+        assertThat(recognizer.calls.get()).isEqualTo(2 + properties.getChunkAttempts());
+        assertThat(chunkCount("failed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비활성이거나 나눌 수 없는 녹음이면 empty — 호출 측이 파일 전체를 전사한다")
+    void transcribe_disabledOrShort_returnsEmpty() throws Exception {
+        Path shortWav = SyntheticSpeech.writeWav(tempDir.resolve("short.wav"), 2, WORDS_PER_SENTENCE,
+                SENTENCE_GAP_MILLIS);
+        ConsultationAudioFile shortFile = new ConsultationAudioFile();
+        shortFile.setFilePath(shortWav.toString());
+
+        assertThat(pipeline.transcribe(shortFile, TranscriptSegmentListener.NONE)).isEmpty();
+        properties.setEnabled(false);
+        assertThat(pipeline.transcribe(audioFile, TranscriptSegmentListener.NONE)).isEmpty();
+        assertThat(recognizer.calls.get()).isZero();
+    }
+
+    private static final class FakeRecognizer implements SpeechRecognizer {
+
+        static final String PROVIDER = "FAKE";
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile Predicate<PcmAudio> failing = audio -> false;
+
+        private void failWhen(Predicate<PcmAudio> failing) {
+            this.failing = failing;
+        }
+
+        @Override
+        public List<TranscriptSegment> recognize(PcmAudio audio) throws IOException {
+            calls.incrementAndGet();
+            if (failing.test(audio)) {
+                throw new IOException("recognizer unavailable");
+            }
+            return SyntheticSpeech.decode(audio);
+        }
+
+        @Override
+        public String provider() {
+            return PROVIDER;
+        }
+
+        @Override
+        public String model() {
+            return "fake-model";
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.coresolution.consultation.service.stt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.coresolution.consultation.config.SttPipelineProperties;
+
+/**
+ * SilenceChunker 단위 테스트 — 무음 지점 절단, 청크 겹침, 나누지 않는 녹음 검증
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@DisplayName("SilenceChunker 테스트")
+class SilenceChunkerTest {
+
+    private static final int WORDS_PER_SENTENCE = 5;
+    private static final int SENTENCE_GAP_MILLIS = 2000;
+
+    @TempDir
+    Path tempDir;
+
+    private SttPipelineProperties properties;
+    private SilenceChunker chunker;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SttPipelineProperties();
+        properties.setMinDuration(Duration.ofSeconds(10));
+        properties.setTargetChunk(Duration.ofSeconds(6));
+        properties.setMinChunk(Duration.ofSeconds(3));
+        properties.setMaxChunk(Duration.ofSeconds(9));
+        chunker = new SilenceChunker(properties);
+    }
+
+    @Test
+    @DisplayName("문장 사이 무음에서 자르고 이웃 청크와 겹침만큼 겹친다")
+    void plan_cutsInSilence_withOverlap() throws Exception {
+        Path wav = SyntheticSpeech.writeWav(tempDir.resolve("long.wav"), 20, WORDS_PER_SENTENCE,
+                SENTENCE_GAP_MILLIS);
+
+        AudioChunkPlan plan = chunker.plan(wav).orElseThrow();
+
+        List<AudioChunkPlan.AudioChunk> chunks = plan.chunks();
+        assertThat(plan.durationMs()).isEqualTo(70_500);
+        assertThat(chunks).hasSizeGreaterThan(5);
+        assertThat(chunks.get(0).startMs()).isZero();
+        assertThat(chunks.get(chunks.size() - 1).endMs()).isEqualTo(plan.durationMs());
+        for (int i = 1; i < chunks.size(); i++) {
+            long cut = chunks.get(i).startMs() + properties.getOverlap().toMillis();
+            assertThat(chunks.get(i - 1).endMs() - properties.getOverlap().toMillis()).isEqualTo(cut);
+            assertThat(pcmAround(plan, cut)).as("cut=%dms 주변 200ms 는 무음", cut).containsOnly((byte) 0);
+        }
+        for (AudioChunkPlan.AudioChunk chunk : chunks) {
+            long core = chunk.endMs() - chunk.startMs() - 2 * properties.getOverlap().toMillis();
+            assertThat(core).isLessThanOrEqualTo(properties.getMaxChunk().toMillis());
+        }
+    }
+
+    @Test
+    @DisplayName("같은 파일은 같은 계획 지문을, 설정이 바뀌면 다른 지문을 만든다")
+    void plan_fingerprintTracksChunkLayout() throws Exception {
+        Path wav = SyntheticSpeech.writeWav(tempDir.resolve("long.wav"), 20, WORDS_PER_SENTENCE,
+                SENTENCE_GAP_MILLIS);
+
+        String first = chunker.plan(wav).orElseThrow().fingerprint();
+        String again = chunker.plan(wav).orElseThrow().fingerprint();
+        properties.setTargetChunk(Duration.ofSeconds(8));
+        String changed = chunker.plan(wav).orElseThrow().fingerprint();
+
+        assertThat(again).isEqualTo(first);
+        assertThat(changed).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("최소 길이보다 짧거나 PCM WAV 가 아니면 계획을 만들지 않는다")
+    void plan_skipsShortOrNonWav() throws Exception {
+        Path shortWav = SyntheticSpeech.writeWav(tempDir.resolve("short.wav"), 2, WORDS_PER_SENTENCE,
+                SENTENCE_GAP_MILLIS);
+        Path mp3 = Files.write(tempDir.resolve("audio.mp3"), new byte[] {'I', 'D', '3', 4, 0, 0, 0, 0, 0, 0, 0, 0});
+
+        assertThat(chunker.plan(shortWav)).isEmpty();
+        assertThat(chunker.plan(mp3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("무음이 없으면 최대 길이 안에서 가장 조용한 지점을 자른다")
+    void chooseCuts_withoutSilence_picksQuietestWithinMax() {
+        float[] energy = new float[2000];
+        Arrays.fill(energy, -20f);
+        Arrays.fill(energy, 390, 410, -30f);
+
+        List<Integer> cuts = chunker.chooseCuts(energy);
+
+        assertThat(cuts.get(0)).isBetween(395, 405);
+        int previous = 0;
+        for (int cut : cuts) {
+            assertThat(cut - previous).isBetween(150, 450);
+            previous = cut;
+        }
+    }
+
+    private static byte[] pcmAround(AudioChunkPlan plan, long millis) throws Exception {
+        long from = millis - 100;
+        int bytes = SyntheticSpeech.SAMPLE_RATE / 5 * PcmAudio.BYTES_PER_SAMPLE;
+        AudioChunkPlan.AudioChunk window = new AudioChunkPlan.AudioChunk(-1, from, from + 200,
+                44 + from * SyntheticSpeech.SAMPLE_RATE / 1000 * PcmAudio.BYTES_PER_SAMPLE, bytes);
+        return plan.read(window).data();
+    }
+}
@@ -0,0 +1,107 @@
+package com.coresolution.consultation.service.stt;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 청크 전사 테스트용 합성 녹음과 가짜 인식기.
+ *
+ * <p>단어 1개는 200ms 사각파 구간이며 진폭이 단어 번호를 나타낸다 ({@code 1000 + 번호 * 200}). 녹음 앞은 500ms,
+ * 단어 사이는 100ms, 문장 사이는 {@code sentenceGapMillis} 만큼 디지털 무음이다. 가짜 인식기는 오디오 안에 시작과
+ * 끝이 모두 있는 단어만 {@code w<번호>.} 세그먼트로 돌려준다 — 실제 인식기처럼 청크 경계에 잘린 단어는 인식하지
+ * 않는다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+final class SyntheticSpeech {
+
+    static final int SAMPLE_RATE = 8000;
+    static final int WORD_MILLIS = 200;
+    static final int WORD_GAP_MILLIS = 100;
+    static final int LEADING_SILENCE_MILLIS = 500;
+
+    private SyntheticSpeech() {
+    }
+
+    /**
+     * @return 문장 수 × 문장당 단어 수 만큼 단어를 가진 16-bit mono PCM WAV
+     */
+    static Path writeWav(Path file, int sentences, int wordsPerSentence, int sentenceGapMillis) throws IOException {
+        ByteArrayOutputStream pcm = new ByteArrayOutputStream();
+        silence(pcm, LEADING_SILENCE_MILLIS);
+        int word = 0;
+        for (int s = 0; s < sentences; s++) {
+            for (int w = 0; w < wordsPerSentence; w++) {
+                tone(pcm, WORD_MILLIS, (short) (1000 + word++ * 200));
+                silence(pcm, WORD_GAP_MILLIS);
+            }
+            silence(pcm, sentenceGapMillis);
+        }
+        byte[] data = pcm.toByteArray();
+        ByteBuffer header = ByteBuffer.allocate(44).order(ByteOrder.LITTLE_ENDIAN);
+        header.put("RIFF".getBytes()).putInt(36 + data.length).put("WAVE".getBytes());
+        header.put("fmt ".getBytes()).putInt(16).putShort((short) 1).putShort((short) 1).putInt(SAMPLE_RATE)
+                .putInt(SAMPLE_RATE * 2).putShort((short) 2).putShort((short) 16);
+        header.put("data".getBytes()).putInt(data.length);
+        byte[] wav = new byte[44 + data.length];
+        System.arraycopy(header.array(), 0, wav, 0, 44);
+        System.arraycopy(data, 0, wav, 44, data.length);
+        return Files.write(file, wav);
+    }
+
+    /**
+     * @return 녹음 시작 기준 단어 시작 시각 (ms)
+     */
+    static long wordStartMillis(int word, int wordsPerSentence, int sentenceGapMillis) {
+        int sentence = word / wordsPerSentence;
+        long sentenceMillis = (long) wordsPerSentence * (WORD_MILLIS + WORD_GAP_MILLIS) + sentenceGapMillis;
+        return LEADING_SILENCE_MILLIS + sentence * sentenceMillis
+                + (long) (word % wordsPerSentence) * (WORD_MILLIS + WORD_GAP_MILLIS);
+    }
+
+    /**
+     * 오디오 안에 온전히 들어 있는 단어를 세그먼트로 돌려준다.
+     */
+    static List<TranscriptSegment> decode(PcmAudio audio) {
+        ByteBuffer samples = ByteBuffer.wrap(audio.data()).order(ByteOrder.LITTLE_ENDIAN);
+        int count = audio.data().length / PcmAudio.BYTES_PER_SAMPLE;
+        List<TranscriptSegment> segments = new ArrayList<>();
+        int i = 0;
+        while (i < count) {
+            if (samples.getShort(i * 2) == 0) {
+                i++;
+                continue;
+            }
+            int start = i;
+            int amplitude = Math.abs(samples.getShort(i * 2));
+            while (i < count && samples.getShort(i * 2) != 0) {
+                i++;
+            }
+            if (start > 0 && i < count) {
+                segments.add(new TranscriptSegment(segments.size(), "w" + (amplitude - 1000) / 200 + ".",
+                        start * 1000L / SAMPLE_RATE, i * 1000L / SAMPLE_RATE, 0.9f));
+            }
+        }
+        return segments;
+    }
+
+    private static void tone(ByteArrayOutputStream out, int millis, short amplitude) {
+        int samples = SAMPLE_RATE * millis / 1000;
+        for (int i = 0; i < samples; i++) {
+            short value = (i & 1) == 0 ? amplitude : (short) -amplitude;
+            out.write(value & 0xFF);
+            out.write((value >> 8) & 0xFF);
+        }
+    }
+
+    private static void silence(ByteArrayOutputStream out, int millis) {
+        out.writeBytes(new byte[SAMPLE_RATE * millis / 1000 * PcmAudio.BYTES_PER_SAMPLE]);
+    }
+}
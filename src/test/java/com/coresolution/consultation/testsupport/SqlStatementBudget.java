@@ -0,0 +1,68 @@
+package com.coresolution.consultation.testsupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import com.coresolution.core.monitoring.SqlStatementAccounting;
+import com.coresolution.core.monitoring.SqlStatementAccounting.RepeatedShape;
+import com.coresolution.core.monitoring.SqlStatementAccounting.Scope;
+import com.coresolution.core.monitoring.SqlStatementAccounting.ScopeKind;
+
+/**
+ * 테스트용 SQL 문 예산 — 블록이 Hibernate 로 실행한 문 수와 반복 형태(N+1)를 단언한다.
+ *
+ * <pre>{@code
+ * try (SqlStatementBudget budget = SqlStatementBudget.open("GET /api/admin/schedules/calendar")) {
+ *     mockMvc.perform(get("/api/admin/schedules/calendar").param(...));
+ *     budget.assertAtMost(3);
+ *     budget.assertNoRepeatedShapes(5);
+ * }
+ * }</pre>
+ *
+ * <p>{@code @SpringBootTest} 는 {@code SqlStatementAccountingConfig} 가 자동 등록된다. {@code @DataJpaTest} 슬라이스는
+ * 설정 클래스를 스캔하지 않으므로 {@code @Import(SqlStatementAccountingConfig.class)} 를 붙인다.
+ * 범위는 현재 스레드 기준이므로 MockMvc 처럼 같은 스레드에서 실행되는 호출만 잡힌다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+public final class SqlStatementBudget implements AutoCloseable {
+
+    private final Scope scope;
+
+    private SqlStatementBudget(Scope scope) {
+        this.scope = scope;
+    }
+
+    public static SqlStatementBudget open(String name) {
+        return new SqlStatementBudget(SqlStatementAccounting.open(ScopeKind.MANUAL, name));
+    }
+
+    public int statementCount() {
+        return scope.statementCount();
+    }
+
+    /**
+     * 문 수가 max 이하인지 단언한다.
+     */
+    public SqlStatementBudget assertAtMost(int max) {
+        assertThat(scope.statementCount())
+                .as("SQL 문 예산 초과: %s (반복 형태: %s)", scope.name(), scope.repeatedShapes(2))
+                .isLessThanOrEqualTo(max);
+        return this;
+    }
+
+    /**
+     * threshold 번 이상 반복된 문 형태가 없는지 단언한다.
+     */
+    public SqlStatementBudget assertNoRepeatedShapes(int threshold) {
+        List<RepeatedShape> repeated = scope.repeatedShapes(threshold);
+        assertThat(repeated).as("N+1 의심: %s", scope.name()).isEmpty();
+        return this;
+    }
+
+    @Override
+    public void close() {
+        scope.close();
+    }
+}
@@ -0,0 +1,113 @@
+package com.coresolution.consultation.util.pii;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import com.coresolution.consultation.config.PiiScrubberProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * {@link PiiScanEngine} 차분 검증 — 패턴별 전체 치환(기존 구현)과 결과가 같은지 확인한다.
+ *
+ * <p>기준 구현은 {@link RegexBasedPiiScrubber#compiledPatterns()} 를 같은 순서로 전체 문자열에 하나씩
+ * 적용한다. 경계 사례 고정 말뭉치 + 시드 고정 무작위 말뭉치(숫자·하이픈·공백·@·스킴·한글·라벨 조각 조합)를
+ * 여러 활성 패턴 조합으로 비교한다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@DisplayName("PiiScanEngine — 단일 순회 스캔 차분 검증")
+class PiiScanEngineTest {
+
+    private static final List<Set<PiiPatternType>> ACTIVE_SETS = List.of(
+        EnumSet.allOf(PiiPatternType.class),
+        EnumSet.of(PiiPatternType.CARD, PiiPatternType.URL),
+        EnumSet.of(PiiPatternType.EMAIL, PiiPatternType.BANK, PiiPatternType.RRN),
+        EnumSet.of(PiiPatternType.PHONE, PiiPatternType.ARN));
+
+    private static final String[] FRAGMENTS = {
+        "0", "1", "5", "9", "01", "010", "02", "-", " ", "  ", "\t", "\n", "@", "a", "Z", "_", ".", "com",
+        "http://", "https://", "x.co", "홍", "길동", "[REDACTED_EMAIL]", "%", "+", ":", "/", "　", " ",
+        "'", "<", "9001011234567", "010-1234-5678", "user@mail.com", "1234 5678 9012 3456", "123-45-678901",
+        "http://a.com/u@b.com?p=01012345678"
+    };
+
+    private Map<PiiPatternType, Pattern> patterns;
+    private PiiScanEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        patterns = new RegexBasedPiiScrubber(new PiiScrubberProperties()).compiledPatterns();
+        engine = new PiiScanEngine(patterns);
+    }
+
+    @ParameterizedTest(name = "[{index}] {0}")
+    @ValueSource(strings = {
+        "연락: user@example.com 입니다",
+        "주민 900101-1234567, 외국인 900101-5234567",
+        "카드 1234 5678 9012 3456 와 1234-5678-9012-3456",
+        "계좌 123-45-678901 / 전화 02-123-4567 / 0311234567",
+        "링크 https://mindgarden.example/u?mail=a@b.com&tel=01012345678 참고",
+        "01012345678901234567890",
+        "숫자 사이 공백 1 2 3 4 5 6 7 8 9 0 1 2 3 끝",
+        "홍길동abc@x.com 과 홍길동 abc@x.com",
+        "a@b.http://x.co/path",
+        "1234567890123@mail.com",
+        "탭\t9001011234567\n줄바꿈 010\t1234\t5678",
+        " 010-1234-5678 "
+    })
+    @DisplayName("경계 사례 말뭉치 — 기존 패턴별 치환과 동일")
+    void fixedCorpus_matchesSequentialScrub(String input) {
+        for (Set<PiiPatternType> active : ACTIVE_SETS) {
+            assertThat(engine.scrub(input, active)).isEqualTo(sequential(input, active));
+        }
+    }
+
+    @Test
+    @DisplayName("무작위 말뭉치 — 기존 패턴별 치환과 동일")
+    void randomCorpus_matchesSequentialScrub() {
+        Random random = new Random(20261019L);
+        for (int n = 0; n < 20_000; n++) {
+            StringBuilder builder = new StringBuilder();
+            int pieces = 1 + random.nextInt(14);
+            for (int p = 0; p < pieces; p++) {
+                builder.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+            }
+            String input = builder.toString();
+            for (Set<PiiPatternType> active : ACTIVE_SETS) {
+                assertThat(engine.scrub(input, active))
+                    .as("input=[%s] active=%s", input, active)
+                    .isEqualTo(sequential(input, active));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("후보가 없으면 원본 인스턴스를 그대로 반환")
+    void noCandidates_returnsSameInstance() {
+        String input = "내담자는 최근 수면 문제를 호소하였다. 상담 12회차.";
+
+        assertThat(engine.scrub(input, EnumSet.allOf(PiiPatternType.class))).isSameAs(input);
+    }
+
+    private String sequential(String input, Set<PiiPatternType> active) {
+        String result = input;
+        for (Map.Entry<PiiPatternType, Pattern> entry : patterns.entrySet()) {
+            if (active.contains(entry.getKey())) {
+                result = entry.getValue().matcher(result)
+                    .replaceAll(Matcher.quoteReplacement(entry.getKey().getRedactionLabel()));
+            }
+        }
+        return result;
+    }
+}
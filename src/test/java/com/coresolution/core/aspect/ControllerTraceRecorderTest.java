@@ -0,0 +1,163 @@
+package com.coresolution.core.aspect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import com.coresolution.consultation.config.ControllerTraceProperties;
+import com.coresolution.core.aspect.ControllerTraceRecorder.Mode;
+import com.coresolution.core.aspect.ControllerTraceRecorder.Reason;
+import com.coresolution.core.aspect.ControllerTraceRecorder.TraceRecord;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link ControllerTraceRecorder} 샘플링·항상 기록 조건·링 버퍼·런타임 설정 검증.
+ *
+ * <p>기록 스레드는 띄우지 않고 {@code drainPending()} 으로 대기열을 직접 비운다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@DisplayName("ControllerTraceRecorder — 샘플링 비동기 컨트롤러 추적")
+class ControllerTraceRecorderTest {
+
+    private ControllerTraceProperties properties;
+    private ControllerTraceRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ControllerTraceProperties();
+        properties.setSampleRate(0.0);
+        properties.setSlowThreshold(Duration.ofSeconds(10));
+        properties.setRingBufferSize(3);
+        recorder = new ControllerTraceRecorder(properties, true);
+    }
+
+    @Test
+    @DisplayName("자동 적용 토글이 꺼져 있으면 초기 모드는 OFF")
+    void autoDisabled_startsOff() {
+        ControllerTraceRecorder disabled = new ControllerTraceRecorder(properties, false);
+
+        assertThat(disabled.settings().mode()).isEqualTo(Mode.OFF);
+        assertThat(recorder.settings().mode()).isEqualTo(Mode.SAMPLED);
+    }
+
+    @Test
+    @DisplayName("샘플링 비율 0 + 빠른 정상 호출은 기록하지 않는다")
+    void zeroRate_fastCall_notRecorded() throws Throwable {
+        Object result = recorder.trace(joinPoint("list", () -> "ok", "tenant-a"));
+        recorder.drainPending();
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(recorder.recentTraces(0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("예외는 샘플링과 무관하게 ERROR 로 기록하고 그대로 재던진다")
+    void error_alwaysRecorded() throws Throwable {
+        ProceedingJoinPoint jp = joinPoint("list", () -> {
+            throw new IllegalStateException("boom\r\ninjected");
+        }, "tenant-a");
+
+        assertThatThrownBy(() -> recorder.trace(jp)).isInstanceOf(IllegalStateException.class);
+        recorder.drainPending();
+
+        List<TraceRecord> traces = recorder.recentTraces(0);
+        assertThat(traces).hasSize(1);
+        assertThat(traces.get(0).reason()).isEqualTo(Reason.ERROR);
+        assertThat(traces.get(0).route()).isEqualTo("SampleController#list");
+        assertThat(traces.get(0).exception()).startsWith("IllegalStateException").doesNotContain("\n");
+    }
+
+    @Test
+    @DisplayName("느린 호출은 샘플링과 무관하게 SLOW 로 기록")
+    void slowCall_alwaysRecorded() throws Throwable {
+        recorder.updateSettings(null, null, null, Duration.ZERO);
+
+        recorder.trace(joinPoint("list", () -> "ok", "tenant-a"));
+        recorder.drainPending();
+
+        assertThat(recorder.recentTraces(0)).extracting(TraceRecord::reason).containsExactly(Reason.SLOW);
+    }
+
+    @Test
+    @DisplayName("라우트별 비율이 기본 비율보다 우선하고, 변경은 재시작 없이 즉시 반영")
+    void routeRate_overridesDefault_atRuntime() throws Throwable {
+        recorder.trace(joinPoint("list", () -> "ok", "a"));
+        recorder.updateSettings(null, null, Map.of("SampleController#list", 1.0), null);
+        recorder.trace(joinPoint("list", () -> "ok", "b"));
+        recorder.trace(joinPoint("detail", () -> "ok", "c"));
+        recorder.drainPending();
+
+        List<TraceRecord> traces = recorder.recentTraces(0);
+        assertThat(traces).hasSize(1);
+        assertThat(traces.get(0).reason()).isEqualTo(Reason.SAMPLED);
+        assertThat(traces.get(0).args()).containsExactly("b");
+        assertThat(traces.get(0).result()).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("링 버퍼는 최근 N 건만 최신순으로 보관")
+    void ringBuffer_keepsLatest() throws Throwable {
+        recorder.updateSettings(null, 1.0, null, null);
+        for (int i = 0; i < 5; i++) {
+            recorder.trace(joinPoint("list", () -> "ok", "arg-" + i));
+        }
+        recorder.drainPending();
+
+        assertThat(recorder.recentTraces(0)).extracting(t -> t.args().get(0))
+                .containsExactly("arg-4", "arg-3", "arg-2");
+        assertThat(recorder.recentTraces(1)).hasSize(1);
+        assertThat(recorder.stats()).containsEntry("recorded", 5L);
+
+        recorder.clearTraces();
+        assertThat(recorder.recentTraces(0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 샘플링 비율은 거부하고 기존 설정 유지")
+    void invalidRate_rejected() {
+        assertThatThrownBy(() -> recorder.updateSettings(Mode.SYNC, 1.5, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(recorder.settings().mode()).isEqualTo(Mode.SAMPLED);
+        assertThat(recorder.settings().sampleRate()).isZero();
+    }
+
+    @FunctionalInterface
+    private interface Body {
+        Object run() throws Throwable;
+    }
+
+    private static ProceedingJoinPoint joinPoint(String methodName, Body body, Object arg) throws Throwable {
+        Method method = SampleController.class.getDeclaredMethod(methodName, String.class);
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getMethod()).thenReturn(method);
+        when(signature.getName()).thenReturn(methodName);
+        ProceedingJoinPoint jp = mock(ProceedingJoinPoint.class);
+        when(jp.getSignature()).thenReturn(signature);
+        when(jp.getTarget()).thenReturn(new SampleController());
+        when(jp.getArgs()).thenReturn(new Object[] {arg});
+        when(jp.proceed()).thenAnswer(invocation -> body.run());
+        return jp;
+    }
+
+    static class SampleController {
+        String list(String arg) {
+            return arg;
+        }
+
+        String detail(String arg) {
+            return arg;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.coresolution.core.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.coresolution.consultation.config.AsyncBulkheadProperties;
+import com.coresolution.consultation.config.AsyncBulkheadProperties.RejectionPolicy;
+import com.coresolution.core.context.TenantContextHolder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * BulkheadTaskExecutor 단위 테스트 — 포화 정책·TenantContext 보존·메트릭·적응형 core 조정
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@DisplayName("BulkheadTaskExecutor 테스트")
+class BulkheadTaskExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BulkheadTaskExecutor executor;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (executor != null) {
+            executor.shutdown();
+        }
+        TenantContextHolder.clear();
+    }
+
+    private BulkheadTaskExecutor start(int core, int max, int queue, RejectionPolicy policy, Duration target) {
+        executor = new BulkheadTaskExecutor(new BulkheadTaskExecutor.Spec("test", "bulkhead-test-", core, max, queue,
+                policy, Duration.ofSeconds(1), target, true));
+        executor.initialize();
+        executor.bindMetrics(meterRegistry);
+        return executor;
+    }
+
+    private void occupy(int tasks) {
+        for (int i = 0; i < tasks; i++) {
+            executor.execute(() -> {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("CALLER_RUNS — 포화 시 제출 스레드가 실행하고 제출 스레드의 TenantContext 를 되돌림")
+    void callerRuns_runsInCallerAndRestoresTenant() {
+        start(1, 1, 1, RejectionPolicy.CALLER_RUNS, Duration.ZERO);
+        occupy(2);
+        TenantContextHolder.setTenantId("tenant-caller");
+        AtomicReference<String> ranOn = new AtomicReference<>();
+        AtomicReference<String> tenantInTask = new AtomicReference<>();
+
+        executor.execute(() -> {
+            ranOn.set(Thread.currentThread().getName());
+            tenantInTask.set(TenantContextHolder.getTenantId());
+            TenantContextHolder.clear();
+        });
+
+        assertThat(ranOn.get()).isEqualTo(Thread.currentThread().getName());
+        assertThat(tenantInTask.get()).isEqualTo("tenant-caller");
+        assertThat(TenantContextHolder.getTenantId()).isEqualTo("tenant-caller");
+        assertThat(executor.getRejectedCount()).isEqualTo(1);
+        assertThat(meterRegistry.get(BulkheadTaskExecutor.METRIC_REJECTED).tag("policy", "caller_runs")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("SHED — 포화 시 RejectedExecutionException, 거부 카운터 증가")
+    void shed_rejects() {
+        start(1, 1, 1, RejectionPolicy.SHED, Duration.ZERO);
+        occupy(2);
+
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(meterRegistry.get(BulkheadTaskExecutor.METRIC_REJECTED).tag("bulkhead", "test")
+                .counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get(BulkheadTaskExecutor.METRIC_QUEUE_DEPTH).gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("적응형 조정 — 큐가 막히면 max 까지 늘리고, 한가해지면 기본 core 로 되돌림")
+    void adapt_growsUnderQueueingAndShrinksWhenIdle() throws Exception {
+        start(2, 4, 10, RejectionPolicy.SHED, Duration.ofMillis(50));
+        occupy(2);
+        Thread.sleep(50);
+        assertThat(executor.adapt()).isEqualTo(2);
+
+        occupy(5);
+        Thread.sleep(100);
+        // 시작된 작업 없이 큐만 쌓임 → 증가, 새 스레드가 꺼낸 작업의 대기가 목표 초과 → max 까지 증가
+        assertThat(executor.adapt()).isEqualTo(3);
+        Thread.sleep(50);
+        assertThat(executor.adapt()).isEqualTo(4);
+        Thread.sleep(50);
+        assertThat(executor.adapt()).isEqualTo(4);
+
+        release.countDown();
+        Thread.sleep(100);
+        executor.adapt();
+        assertThat(executor.adapt()).isEqualTo(3);
+        assertThat(executor.adapt()).isEqualTo(2);
+        assertThat(executor.adapt()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("작업 대기·실행 시간이 타이머에 기록됨")
+    void timers_recordWaitAndRun() throws Exception {
+        start(1, 1, 10, RejectionPolicy.SHED, Duration.ZERO);
+        CountDownLatch done = new CountDownLatch(3);
+        for (int i = 0; i < 3; i++) {
+            executor.execute(done::countDown);
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(20);
+        assertThat(meterRegistry.get(BulkheadTaskExecutor.METRIC_WAIT).timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get(BulkheadTaskExecutor.METRIC_RUN).timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("설정 덮어쓰기는 적은 항목만 바꾸고 max 는 core 아래로 내려가지 않음")
+    void spec_withOverrides() {
+        BulkheadTaskExecutor.Spec defaults = new BulkheadTaskExecutor.Spec("ocr", "ocr-", 2, 4, 200,
+                RejectionPolicy.CALLER_RUNS, Duration.ofSeconds(60), Duration.ofSeconds(5), true);
+        AsyncBulkheadProperties.Bulkhead override = new AsyncBulkheadProperties.Bulkhead();
+        override.setCorePoolSize(6);
+
+        BulkheadTaskExecutor.Spec spec = defaults.withOverrides(override);
+
+        assertThat(spec.corePoolSize()).isEqualTo(6);
+        assertThat(spec.maxPoolSize()).isEqualTo(6);
+        assertThat(spec.queueCapacity()).isEqualTo(200);
+        assertThat(spec.rejection()).isEqualTo(RejectionPolicy.CALLER_RUNS);
+        assertThat(defaults.withOverrides(null)).isSameAs(defaults);
+    }
+}
@@ -0,0 +1,119 @@
+package com.coresolution.core.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.coresolution.consultation.config.RequestTelemetryProperties;
+import com.coresolution.core.monitoring.RequestTelemetryRegistry.EndpointSnapshot;
+import com.coresolution.core.monitoring.RequestTelemetryRegistry.TenantSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * RequestTelemetryRegistry 단위 테스트 — 패턴 키 집계·미터 캐시·테넌트 상한 검증
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("RequestTelemetryRegistry 테스트")
+class RequestTelemetryRegistryTest {
+
+    private static final String ROUTE = "/api/v1/users/{id}";
+    private static final long MS = 1_000_000L;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestTelemetryProperties properties;
+    private RequestTelemetryRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(meterRegistryProvider.getIfAvailable()).thenReturn(meterRegistry);
+        properties = new RequestTelemetryProperties();
+        registry = new RequestTelemetryRegistry(properties, meterRegistryProvider);
+    }
+
+    @Test
+    @DisplayName("같은 패턴·메서드는 하나의 엔드포인트로 집계되고 상태 클래스별로 미터가 등록됨")
+    void record_aggregatesByRouteMethodAndStatusClass() {
+        registry.record(ROUTE, "GET", 200, "t1", 10 * MS, false);
+        registry.record(ROUTE, "GET", 204, "t1", 20 * MS, false);
+        registry.record(ROUTE, "GET", 404, "t1", 5 * MS, false);
+        registry.record(ROUTE, "POST", 201, "t1", 30 * MS, false);
+
+        EndpointSnapshot get = registry.endpoint("GET " + ROUTE).orElseThrow();
+        assertThat(get.totalRequests()).isEqualTo(3);
+        assertThat(get.errorCount()).isEqualTo(1);
+        assertThat(get.statusClasses()).containsEntry("2xx", 2L).containsEntry("4xx", 1L);
+        assertThat(registry.snapshot().endpoints()).hasSize(2);
+
+        Timer ok = meterRegistry.find(RequestTelemetryRegistry.METRIC_DURATION)
+                .tags("method", "GET", "uri", ROUTE, "status", "2xx").timer();
+        assertThat(ok).isNotNull();
+        assertThat(ok.count()).isEqualTo(2);
+        assertThat(meterRegistry.find(RequestTelemetryRegistry.METRIC_DURATION).timers()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("핸들러 패턴이 없으면 UNMATCHED, 예외는 5xx 오류로 집계")
+    void record_unmatchedRouteAndException() {
+        registry.record(null, "GET", 404, null, MS, false);
+        registry.record(ROUTE, "DELETE", 200, null, MS, true);
+
+        assertThat(registry.endpoint("GET " + RequestTelemetryRegistry.UNMATCHED_ROUTE)).isPresent();
+        EndpointSnapshot delete = registry.endpoint("DELETE " + ROUTE).orElseThrow();
+        assertThat(delete.statusClasses()).containsEntry("5xx", 1L);
+        assertThat(delete.errorCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("개별 집계 한도를 넘는 테넌트는 __other__ 로 합산하고 요청 수 순으로 반환")
+    void topTenants_capsTrackedTenants() {
+        properties.setMaxTrackedTenants(2);
+        for (int i = 0; i < 5; i++) {
+            registry.record(ROUTE, "GET", 200, "busy", MS, false);
+        }
+        registry.record(ROUTE, "GET", 500, "quiet", MS, false);
+        registry.record(ROUTE, "GET", 200, "late-1", MS, false);
+        registry.record(ROUTE, "GET", 200, "late-2", MS, false);
+
+        List<TenantSnapshot> top = registry.topTenants(10);
+
+        assertThat(top).extracting(TenantSnapshot::tenantId)
+                .containsExactly("busy", RequestTelemetryRegistry.OTHER_TENANTS, "quiet");
+        assertThat(top.get(2).errorCount()).isEqualTo(1);
+        assertThat(registry.topTenants(1)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("전체 요약은 엔드포인트 히스토그램을 병합한 분위수")
+    void snapshot_mergesEndpointHistograms() {
+        for (int i = 0; i < 99; i++) {
+            registry.record("/api/v1/fast", "GET", 200, "t1", 10 * MS, false);
+        }
+        registry.record("/api/v1/slow", "GET", 200, "t1", 3000 * MS, false);
+
+        RequestTelemetryRegistry.TelemetrySnapshot snapshot = registry.snapshot();
+
+        assertThat(snapshot.totalRequests()).isEqualTo(100);
+        assertThat(snapshot.latency().p50Ms()).isLessThan(11);
+        assertThat(snapshot.latency().maxMs()).isEqualTo(3000.0);
+        assertThat(snapshot.endpoints().get(0).endpoint()).isEqualTo("GET /api/v1/fast");
+    }
+}
@@ -0,0 +1,132 @@
+package com.coresolution.core.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.coresolution.consultation.config.SqlStatementAccountingProperties;
+import com.coresolution.core.monitoring.SqlStatementAccounting.Scope;
+import com.coresolution.core.monitoring.SqlStatementAccounting.ScopeKind;
+import com.coresolution.core.monitoring.SqlStatementRegistry.Finding;
+import com.coresolution.core.monitoring.SqlStatementRegistry.ScopeSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * SqlStatementAccounting·SqlStatementRegistry 단위 테스트 — 형태 정규화·범위 중첩·N+1 감지
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("SqlStatementRegistry 테스트")
+class SqlStatementRegistryTest {
+
+    private static final String ROW_LOOKUP = "/* load User */ select u1_0.id,u1_0.name from users u1_0 where u1_0.id=?";
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SqlStatementAccountingProperties properties;
+    private SqlStatementRegistry registry;
+    private final SqlStatementInspector inspector = new SqlStatementInspector();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(meterRegistryProvider.getIfAvailable()).thenReturn(meterRegistry);
+        properties = new SqlStatementAccountingProperties();
+        properties.setRepeatedShapeThreshold(3);
+        registry = new SqlStatementRegistry(properties, meterRegistryProvider);
+    }
+
+    @AfterEach
+    void closeLeftovers() {
+        while (SqlStatementAccounting.current() != null) {
+            SqlStatementAccounting.current().close();
+        }
+    }
+
+    @Test
+    @DisplayName("형태 정규화 — 주석·공백·리터럴·IN 목록 길이 차이는 같은 형태")
+    void shapeOf_normalizesLiteralsCommentsAndInLists() {
+        String a = SqlStatementAccounting.shapeOf(
+                "/* q */ SELECT s1_0.id FROM schedules s1_0\n WHERE s1_0.tenant_id='t-1' AND s1_0.id IN (?, ?, ?) LIMIT 20");
+        String b = SqlStatementAccounting.shapeOf(
+                "select s1_0.id from schedules s1_0 where s1_0.tenant_id = 'other' and s1_0.id in (?,?) limit 50");
+
+        assertThat(a).isEqualTo("select s1_0.id from schedules s1_0 where s1_0.tenant_id=? and s1_0.id in (?) limit ?");
+        assertThat(b).isEqualTo("select s1_0.id from schedules s1_0 where s1_0.tenant_id = ? and s1_0.id in (?) limit ?");
+    }
+
+    @Test
+    @DisplayName("범위 밖의 문은 무시하고, 중첩 범위는 바깥 범위에도 누적")
+    void nestedScopes_accumulateOutward() {
+        inspector.inspect(ROW_LOOKUP);
+
+        Scope outer = registry.openScope(ScopeKind.REQUEST, "GET /api/admin/schedules");
+        inspector.inspect("select count(*) from schedules");
+        try (Scope inner = SqlStatementAccounting.open(ScopeKind.MANUAL, "inner")) {
+            inspector.inspect(ROW_LOOKUP);
+            SqlStatementAccounting.onExecution(2_000_000L);
+            assertThat(inner.statementCount()).isEqualTo(1);
+        }
+        assertThat(SqlStatementAccounting.current()).isSameAs(outer);
+        registry.complete(outer);
+
+        assertThat(outer.statementCount()).isEqualTo(2);
+        assertThat(outer.dbNanos()).isEqualTo(2_000_000L);
+        assertThat(SqlStatementAccounting.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 형태가 임계값 이상 반복되면 N+1 의심으로 기록되고 미터가 증가")
+    void repeatedShape_recordedAsNPlusOne() {
+        Scope scope = registry.openScope(ScopeKind.JOB, "ScheduleServiceImpl#autoCompleteExpiredSchedules");
+        inspector.inspect("select s1_0.id from schedules s1_0 where s1_0.date<?");
+        for (int i = 0; i < 5; i++) {
+            inspector.inspect(ROW_LOOKUP);
+        }
+        registry.complete(scope);
+
+        ScopeSnapshot snapshot = registry.snapshot().scopes().get(0);
+        assertThat(snapshot.key()).isEqualTo("JOB ScheduleServiceImpl#autoCompleteExpiredSchedules");
+        assertThat(snapshot.totalStatements()).isEqualTo(6);
+        assertThat(snapshot.maxStatements()).isEqualTo(6);
+        assertThat(snapshot.nPlusOneCount()).isEqualTo(1);
+        Finding finding = registry.snapshot().findings().get(0);
+        assertThat(finding.repeats()).isEqualTo(5);
+        assertThat(finding.shape()).isEqualTo("select u1_0.id,u1_0.name from users u1_0 where u1_0.id=?");
+        assertThat(meterRegistry.get(SqlStatementRegistry.METRIC_N_PLUS_ONE)
+                .tag("scope", "ScheduleServiceImpl#autoCompleteExpiredSchedules").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("최근 의심 목록은 설정 건수까지만 보관하고 비활성이면 범위를 열지 않음")
+    void findingsBoundedAndDisabledOpensNothing() {
+        properties.setRecentFindings(2);
+        for (int run = 0; run < 4; run++) {
+            Scope scope = registry.openScope(ScopeKind.REQUEST, "GET /api/clients/stats");
+            for (int i = 0; i < 3; i++) {
+                inspector.inspect(ROW_LOOKUP);
+            }
+            registry.complete(scope);
+        }
+        assertThat(registry.snapshot().findings()).hasSize(2);
+        assertThat(registry.snapshot().scopes().get(0).executions()).isEqualTo(4);
+
+        properties.setEnabled(false);
+        assertThat(registry.openScope(ScopeKind.REQUEST, "GET /api/clients/stats")).isNull();
+    }
+}
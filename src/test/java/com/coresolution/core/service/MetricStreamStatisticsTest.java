@@ -0,0 +1,87 @@
+package com.coresolution.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * MetricStreamStatistics 단위 테스트 — 분위수 스케치 정확도·체크포인트 복원 검증
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@DisplayName("MetricStreamStatistics 테스트")
+class MetricStreamStatisticsTest {
+
+    private static final int HOUR = 10;
+    private static final MetricStreamStatistics.Tuning TUNING =
+            new MetricStreamStatistics.Tuning(0.99, 0.05, 0.1, 10, 0.5, 4.0);
+
+    @Test
+    @DisplayName("P² 스케치가 균등분포 상위 99% 분위수를 근사")
+    void upperQuantile_uniform_approximatesP99() {
+        MetricStreamStatistics stats = new MetricStreamStatistics(TUNING);
+        Random random = new Random(1);
+        for (int i = 0; i < 20000; i++) {
+            stats.update(random.nextDouble(), HOUR);
+        }
+
+        assertThat(stats.upperQuantile()).isCloseTo(0.99, within(0.01));
+    }
+
+    @Test
+    @DisplayName("급등 값은 큰 z-score, 평소 값은 작은 z-score")
+    void score_spikeVersusNormal() {
+        MetricStreamStatistics stats = warmedUp();
+
+        assertThat(stats.score(80, HOUR).zScore()).isGreaterThan(8);
+        assertThat(stats.score(51, HOUR).zScore()).isLessThan(2);
+    }
+
+    @Test
+    @DisplayName("급등 표본은 잘라서 반영하므로 연속 급등도 계속 위반으로 판정")
+    void update_spike_isWinsorized() {
+        MetricStreamStatistics stats = warmedUp();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(stats.score(90, HOUR).zScore()).isGreaterThan(4.0);
+            stats.update(90, HOUR);
+        }
+    }
+
+    @Test
+    @DisplayName("스냅샷 복원 시 동일한 판정 결과")
+    void restore_snapshot_preservesScore() {
+        MetricStreamStatistics stats = warmedUp();
+
+        MetricStreamStatistics restored = MetricStreamStatistics.restore(stats.snapshot(), TUNING);
+
+        assertThat(restored.count()).isEqualTo(stats.count());
+        assertThat(restored.score(80, HOUR)).isEqualTo(stats.score(80, HOUR));
+    }
+
+    @Test
+    @DisplayName("분위수 설정이 바뀌면 스케치만 초기화하고 평균·분산은 유지")
+    void restore_differentQuantile_resetsSketchOnly() {
+        MetricStreamStatistics stats = warmedUp();
+
+        MetricStreamStatistics restored = MetricStreamStatistics.restore(stats.snapshot(),
+                new MetricStreamStatistics.Tuning(0.95, 0.05, 0.1, 10, 0.5, 4.0));
+
+        assertThat(restored.upperQuantile()).isNaN();
+        assertThat(restored.score(80, HOUR).zScore())
+                .isEqualTo(stats.score(80, HOUR).zScore());
+    }
+
+    private static MetricStreamStatistics warmedUp() {
+        MetricStreamStatistics stats = new MetricStreamStatistics(TUNING);
+        Random random = new Random(42);
+        for (int i = 0; i < 40; i++) {
+            stats.update(50 + random.nextGaussian() * 2, HOUR);
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,155 @@
+package com.coresolution.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.coresolution.consultation.config.StreamingAnomalyProperties;
+import com.coresolution.core.domain.SystemMetric;
+import com.coresolution.core.service.StreamingAnomalyDetector.ConfirmedAnomaly;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * StreamingAnomalyDetector 단위 테스트 — 연속 위반 확정·워밍업·체크포인트 검증
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("StreamingAnomalyDetector 테스트")
+class StreamingAnomalyDetectorTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2026, 10, 19, 10, 0);
+
+    @Mock
+    private AnomalyDetectionService anomalyDetectionService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private StreamingAnomalyProperties properties;
+    private StreamingAnomalyDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        when(meterRegistryProvider.getIfAvailable()).thenReturn(new SimpleMeterRegistry());
+        properties = new StreamingAnomalyProperties();
+        properties.setWarmupSamples(30);
+        properties.setConfirmSamples(3);
+        // 확정 처리는 호출 스레드에서 바로 실행
+        detector = new StreamingAnomalyDetector(properties, anomalyDetectionService, jdbcTemplate, objectMapper,
+                meterRegistryProvider, Runnable::run);
+    }
+
+    private static SystemMetric metric(double value) {
+        return SystemMetric.builder().metricType("CPU_LOAD").metricValue(value).unit("load")
+                .collectedAt(AT).build();
+    }
+
+    private void feedNormal(int samples) {
+        Random random = new Random(42);
+        for (int i = 0; i < samples; i++) {
+            assertThat(detector.observe(metric(50 + random.nextGaussian() * 2))).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("연속 위반 confirm-samples 회째에 한 번만 확정하고 AI 분석 처리로 넘김")
+    void observe_consecutiveBreaches_confirmsOnce() {
+        feedNormal(60);
+
+        assertThat(detector.observe(metric(90))).isNull();
+        assertThat(detector.observe(metric(90))).isNull();
+        ConfirmedAnomaly confirmed = detector.observe(metric(90));
+        ConfirmedAnomaly repeated = detector.observe(metric(90));
+
+        assertThat(confirmed).isNotNull();
+        assertThat(confirmed.metricType()).isEqualTo("CPU_LOAD");
+        assertThat(confirmed.zScore()).isGreaterThanOrEqualTo(properties.getScoreThreshold());
+        assertThat(confirmed.recentSamples()).hasSize(properties.getRecentSamples());
+        assertThat(repeated).isNull();
+        verify(anomalyDetectionService, times(1)).handleStreamingAnomaly(any(ConfirmedAnomaly.class));
+    }
+
+    @Test
+    @DisplayName("위반 사이에 정상 표본이 끼면 확정하지 않음")
+    void observe_interruptedBreaches_doesNotConfirm() {
+        feedNormal(60);
+
+        detector.observe(metric(90));
+        detector.observe(metric(90));
+        detector.observe(metric(50));
+        detector.observe(metric(90));
+
+        verify(anomalyDetectionService, never()).handleStreamingAnomaly(any());
+    }
+
+    @Test
+    @DisplayName("워밍업 전에는 급등 값도 판정하지 않음")
+    void observe_beforeWarmup_neverConfirms() {
+        feedNormal(10);
+
+        for (int i = 0; i < 5; i++) {
+            detector.observe(metric(90));
+        }
+
+        verify(anomalyDetectionService, never()).handleStreamingAnomaly(any());
+    }
+
+    @Test
+    @DisplayName("체크포인트는 변경된 시계열만 저장하고 저장된 JSON 으로 복원 가능")
+    @SuppressWarnings("unchecked")
+    void checkpoint_writesDirtyStreamsOnly() throws Exception {
+        feedNormal(40);
+
+        assertThat(detector.checkpoint()).isEqualTo(1);
+        assertThat(detector.checkpoint()).isZero();
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO metric_stream_checkpoints"), rows.capture());
+        Object[] row = rows.getValue().get(0);
+        assertThat(row[0]).isEqualTo("");
+        assertThat(row[1]).isEqualTo("CPU_LOAD");
+        MetricStreamStatistics.Snapshot snapshot =
+                objectMapper.readValue((String) row[3], MetricStreamStatistics.Snapshot.class);
+        assertThat(MetricStreamStatistics.restore(snapshot,
+                new MetricStreamStatistics.Tuning(properties.getQuantile(), properties.getEwmaAlpha(),
+                        properties.getSeasonalAlpha(), properties.getSeasonalMinSamples(),
+                        properties.getMinStdDev(), properties.getScoreThreshold())).count()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("비활성 설정이면 판정하지 않음")
+    void observe_disabled_ignores() {
+        properties.setEnabled(false);
+
+        assertThat(detector.observe(metric(90))).isNull();
+        verify(jdbcTemplate, never()).batchUpdate(any(String.class), anyList());
+    }
+}
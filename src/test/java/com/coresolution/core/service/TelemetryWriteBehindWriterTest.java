@@ -0,0 +1,137 @@
+package com.coresolution.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.coresolution.consultation.config.TelemetryWriteBehindProperties;
+import com.coresolution.consultation.entity.AiUsageLog;
+import com.coresolution.core.domain.SystemMetric;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+/**
+ * TelemetryWriteBehindWriter 단위 테스트 — 크기 트리거 batch flush·포화 드롭·종료 drain 검증
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("TelemetryWriteBehindWriter 테스트")
+class TelemetryWriteBehindWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TelemetryWriteBehindProperties properties;
+    private TelemetryWriteBehindWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(meterRegistryProvider.getIfAvailable()).thenReturn(meterRegistry);
+        properties = new TelemetryWriteBehindProperties();
+        properties.setCapacity(5);
+        properties.setBatchSize(3);
+        // 주기 flush 가 테스트 중 끼어들지 않도록 충분히 길게
+        properties.setFlushInterval(Duration.ofMinutes(10));
+        writer = new TelemetryWriteBehindWriter(properties, jdbcTemplate, meterRegistryProvider);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.shutdown();
+    }
+
+    private static SystemMetric metric(double value) {
+        return SystemMetric.builder().metricType("CPU_LOAD").metricValue(value).unit("load").build();
+    }
+
+    @Test
+    @DisplayName("대기 항목이 batch-size 에 도달하면 주기와 무관하게 batch insert 1회로 적재")
+    @SuppressWarnings("unchecked")
+    void enqueue_reachingBatchSize_triggersSingleBatchInsert() {
+        writer.start();
+
+        writer.enqueue(metric(1));
+        writer.enqueue(metric(2));
+        writer.enqueue(metric(3));
+
+        ArgumentCaptor<Collection<SystemMetric>> rows = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate, timeout(2000)).batchUpdate(startsWith("INSERT INTO system_metrics"),
+                rows.capture(), eq(3), any(ParameterizedPreparedStatementSetter.class));
+        assertThat(rows.getValue()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("버퍼 포화 시 새 항목은 드롭하고 카운터를 올림")
+    void enqueue_overCapacity_dropsAndCounts() {
+        properties.setBatchSize(100);
+        writer.start();
+
+        for (int i = 0; i < 7; i++) {
+            writer.enqueue(AiUsageLog.builder().aiProvider("OPENAI").requestType("anomaly_detection").build());
+        }
+
+        assertThat(writer.droppedAiUsageLogs()).isEqualTo(2);
+        assertThat(meterRegistry.counter(TelemetryWriteBehindWriter.METRIC_DROPPED,
+                "kind", TelemetryWriteBehindWriter.KIND_AI_USAGE,
+                "reason", TelemetryWriteBehindWriter.REASON_OVERFLOW).count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("종료 시 남은 항목을 모두 적재")
+    @SuppressWarnings("unchecked")
+    void shutdown_drainsPendingRows() {
+        properties.setBatchSize(100);
+        writer.start();
+        writer.enqueue(metric(1));
+        writer.enqueue(metric(2));
+        verify(jdbcTemplate, never()).batchUpdate(any(String.class), any(Collection.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+
+        writer.shutdown();
+
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO system_metrics"), any(Collection.class), eq(2),
+                any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("비활성 설정이면 호출 스레드에서 즉시 저장")
+    @SuppressWarnings("unchecked")
+    void enqueue_disabled_writesImmediately() {
+        properties.setEnabled(false);
+        writer.start();
+
+        writer.enqueue(metric(1));
+
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO system_metrics"), any(Collection.class), eq(1),
+                any(ParameterizedPreparedStatementSetter.class));
+    }
+}
@@ -0,0 +1,69 @@
+package com.coresolution.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LatencyHistogram 단위 테스트 — 버킷 경계·분위수 정확도·병합 검증
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@DisplayName("LatencyHistogram 테스트")
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("버킷 인덱스는 연속이고 중앙값은 해당 버킷 범위 안에 있음")
+    void bucketIndex_isContiguousAndMidpointWithinBucket() {
+        int previous = 0;
+        for (long micros = 0; micros < 1_000_000; micros++) {
+            int index = LatencyHistogram.bucketIndex(micros);
+            assertThat(index).isBetween(previous, previous + 1);
+            assertThat(LatencyHistogram.bucketIndex(LatencyHistogram.midpoint(index))).isEqualTo(index);
+            previous = index;
+        }
+        assertThat(LatencyHistogram.bucketIndex(Long.MAX_VALUE)).isEqualTo(LatencyHistogram.BUCKETS - 1);
+    }
+
+    @Test
+    @DisplayName("1~1000ms 균등 분포의 p50/p95/p99 를 6% 이내로 추정")
+    void summary_uniform_percentilesWithinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int ms = 1; ms <= 1000; ms++) {
+            histogram.recordNanos(ms * 1_000_000L);
+        }
+
+        LatencyHistogram.Summary summary = histogram.snapshot().summary();
+
+        assertThat(summary.count()).isEqualTo(1000);
+        assertThat(summary.meanMs()).isCloseTo(500.5, within(0.01));
+        assertThat(summary.p50Ms()).isCloseTo(500, within(30.0));
+        assertThat(summary.p95Ms()).isCloseTo(950, within(57.0));
+        assertThat(summary.p99Ms()).isCloseTo(990, within(59.4));
+        assertThat(summary.maxMs()).isEqualTo(1000.0);
+    }
+
+    @Test
+    @DisplayName("병합한 스냅샷의 분위수는 합친 분포 기준")
+    void merge_combinesDistributions() {
+        LatencyHistogram fast = new LatencyHistogram();
+        LatencyHistogram slow = new LatencyHistogram();
+        for (int i = 0; i < 90; i++) {
+            fast.recordNanos(10_000_000L);
+        }
+        for (int i = 0; i < 10; i++) {
+            slow.recordNanos(2_000_000_000L);
+        }
+
+        LatencyHistogram.Snapshot merged = new LatencyHistogram.Snapshot()
+                .merge(fast.snapshot())
+                .merge(slow.snapshot());
+
+        assertThat(merged.count()).isEqualTo(100);
+        assertThat(merged.summary().p50Ms()).isCloseTo(10, within(0.6));
+        assertThat(merged.summary().p95Ms()).isCloseTo(2000, within(120.0));
+    }
+}
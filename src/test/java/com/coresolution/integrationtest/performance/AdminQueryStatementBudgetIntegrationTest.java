@@ -0,0 +1,200 @@
+package com.coresolution.integrationtest.performance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import com.coresolution.consultation.constant.LifecycleState;
+import com.coresolution.consultation.constant.NotificationChannelPreferenceCode;
+import com.coresolution.consultation.constant.ScheduleStatus;
+import com.coresolution.consultation.constant.UserRole;
+import com.coresolution.consultation.dto.admin.AdminScheduleCalendarQuery;
+import com.coresolution.consultation.dto.admin.AdminScheduleCalendarResponse;
+import com.coresolution.consultation.entity.Schedule;
+import com.coresolution.consultation.entity.User;
+import com.coresolution.consultation.entity.erp.financial.FinancialTransaction;
+import com.coresolution.consultation.repository.ScheduleRepository;
+import com.coresolution.consultation.repository.UserRepository;
+import com.coresolution.consultation.repository.erp.financial.FinancialTransactionRepository;
+import com.coresolution.consultation.service.AdminScheduleCalendarService;
+import com.coresolution.consultation.service.RefundHistoryQueryService;
+import com.coresolution.consultation.testsupport.SqlStatementBudget;
+import com.coresolution.core.context.TenantContextHolder;
+import com.coresolution.integrationtest.support.AbstractIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 관리자 조회 SQL 문 예산 — 행 수가 늘어도 문 수가 그대로인지(N+1 없음) 검증한다.
+ *
+ * <p>행 1건 테넌트와 여러 건 테넌트에 같은 조회를 돌려 문 수가 같고, 같은 형태가 반복되지 않으며, 고정 예산을
+ * 넘지 않는지 본다. 공통코드처럼 프로세스 캐시에 올라가는 조회가 첫 호출에만 끼지 않도록 먼저 한 번 데운다.
+ * 행을 넣은 뒤에는 flush 해 INSERT 가 예산에 섞이지 않게 한다.</p>
+ *
+ * @author CoreSolution
+ * @since 2026-10-19
+ */
+@Transactional
+@DisplayName("관리자 조회 SQL 문 예산 (N+1 회귀)")
+class AdminQueryStatementBudgetIntegrationTest extends AbstractIntegrationTest {
+
+    /** ETag 지문 1 + 캘린더 행 1 + 상담사·내담자 IN 조회 1 */
+    private static final int CALENDAR_BUDGET = 3;
+    /** REFUND_PERIOD 1 + 강제 종료 매칭 1 + 환불 거래 1 + REFUND_REASON 1 (+ 매칭 상태 코드 여유 1) */
+    private static final int REFUND_HISTORY_BUDGET = 5;
+    private static final int REPEATED_SHAPE_THRESHOLD = 3;
+    private static final int MANY = 15;
+    private static final LocalDate CALENDAR_DAY = LocalDate.of(2026, 10, 5);
+
+    @Autowired
+    private AdminScheduleCalendarService adminScheduleCalendarService;
+    @Autowired
+    private RefundHistoryQueryService refundHistoryQueryService;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private FinancialTransactionRepository financialTransactionRepository;
+
+    @AfterEach
+    void tearDown() {
+        TenantContextHolder.clear();
+    }
+
+    @Test
+    @DisplayName("GET /api/admin/schedules/calendar — 일정·사용자가 늘어도 문 수가 같다")
+    void calendar_statementCountDoesNotGrowWithRows() {
+        String single = seedCalendar(1);
+        String many = seedCalendar(MANY);
+        AdminScheduleCalendarQuery query = AdminScheduleCalendarQuery.of(CALENDAR_DAY.toString(),
+                CALENDAR_DAY.toString(), null, null);
+        calendar(single, query);
+
+        int singleCount;
+        try (SqlStatementBudget budget = SqlStatementBudget.open("calendar:1")) {
+            assertThat(calendar(single, query).count()).isEqualTo(1);
+            singleCount = budget.statementCount();
+        }
+        try (SqlStatementBudget budget = SqlStatementBudget.open("calendar:" + MANY)) {
+            assertThat(calendar(many, query).count()).isEqualTo(MANY);
+            budget.assertAtMost(CALENDAR_BUDGET).assertNoRepeatedShapes(REPEATED_SHAPE_THRESHOLD);
+            assertThat(budget.statementCount()).isEqualTo(singleCount);
+        }
+    }
+
+    @Test
+    @DisplayName("환불 이력 keyset 조회 — 환불 거래가 늘어도 문 수가 같다")
+    void refundHistory_statementCountDoesNotGrowWithRows() {
+        String single = seedRefunds(1);
+        String many = seedRefunds(MANY);
+        refundHistory(single);
+
+        int singleCount;
+        try (SqlStatementBudget budget = SqlStatementBudget.open("refund-history:1")) {
+            assertThat(refundHistory(single)).hasSize(1);
+            singleCount = budget.statementCount();
+        }
+        try (SqlStatementBudget budget = SqlStatementBudget.open("refund-history:" + MANY)) {
+            assertThat(refundHistory(many)).hasSize(MANY);
+            budget.assertAtMost(REFUND_HISTORY_BUDGET).assertNoRepeatedShapes(REPEATED_SHAPE_THRESHOLD);
+            assertThat(budget.statementCount()).isEqualTo(singleCount);
+        }
+    }
+
+    private AdminScheduleCalendarResponse calendar(String tenantId, AdminScheduleCalendarQuery query) {
+        TenantContextHolder.setTenantId(tenantId);
+        adminScheduleCalendarService.currentETag(query);
+        return adminScheduleCalendarService.getCalendar(query);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> refundHistory(String tenantId) {
+        TenantContextHolder.setTenantId(tenantId);
+        Map<String, Object> page = refundHistoryQueryService.getRefundHistoryPage(null, MANY + 5, "month", null);
+        return (List<Map<String, Object>>) page.get("refundHistory");
+    }
+
+    /**
+     * 일정마다 다른 상담사·내담자를 둔 테넌트.
+     */
+    private String seedCalendar(int schedules) {
+        String tenantId = UUID.randomUUID().toString();
+        for (int i = 0; i < schedules; i++) {
+            User consultant = userRepository.save(newUser(tenantId, UserRole.CONSULTANT));
+            User client = userRepository.save(newUser(tenantId, UserRole.CLIENT));
+            Schedule schedule = new Schedule();
+            schedule.setTenantId(tenantId);
+            schedule.setConsultantId(consultant.getId());
+            schedule.setClientId(client.getId());
+            schedule.setDate(CALENDAR_DAY);
+            schedule.setStartTime(LocalTime.of(9, 0).plusMinutes(i * 30L));
+            schedule.setEndTime(LocalTime.of(9, 30).plusMinutes(i * 30L));
+            schedule.setStatus(ScheduleStatus.BOOKED);
+            schedule.setIsDeleted(false);
+            scheduleRepository.save(schedule);
+        }
+        scheduleRepository.flush();
+        return tenantId;
+    }
+
+    /**
+     * 거래마다 다른 매칭 ID 를 가리키는 부분 환불 거래를 둔 테넌트 (매칭 행은 없어 미확인 표기로 나간다).
+     */
+    private String seedRefunds(int refunds) {
+        String tenantId = UUID.randomUUID().toString();
+        for (int i = 0; i < refunds; i++) {
+            FinancialTransaction refund = FinancialTransaction.builder()
+                    .transactionType(FinancialTransaction.TransactionType.EXPENSE)
+                    .category("CONSULTATION")
+                    .subcategory("CONSULTATION_PARTIAL_REFUND")
+                    .amount(BigDecimal.valueOf(10_000L + i))
+                    .description("부분 환불 1회기")
+                    .transactionDate(LocalDate.now())
+                    .relatedEntityId(randomId())
+                    .relatedEntityType("CONSULTANT_CLIENT_MAPPING")
+                    .build();
+            refund.setTenantId(tenantId);
+            refund.setIsDeleted(false);
+            financialTransactionRepository.save(refund);
+        }
+        financialTransactionRepository.flush();
+        return tenantId;
+    }
+
+    private static User newUser(String tenantId, UserRole role) {
+        long suffix = randomId();
+        User user = User.builder()
+                .userId("budget-" + suffix)
+                .email("budget-" + suffix + "@example.com")
+                .name("예산" + suffix % 1000)
+                .password("encoded-pwd-placeholder")
+                .role(role)
+                .counselingEnabled(false)
+                .isEmailVerified(false)
+                .isActive(true)
+                .isSocialAccount(false)
+                .isPasswordChanged(true)
+                .lifecycleState(LifecycleState.ACTIVE)
+                .notificationChannelPreference(NotificationChannelPreferenceCode.TENANT_DEFAULT.name())
+                .build();
+        user.setTenantId(tenantId);
+        user.setCreatedAt(LocalDateTime.now());
+        user.setUpdatedAt(LocalDateTime.now());
+        user.setIsDeleted(false);
+        return user;
+    }
+
+    private static long randomId() {
+        return ThreadLocalRandom.current().nextLong(1_000_000L, Long.MAX_VALUE);
+    }
+}